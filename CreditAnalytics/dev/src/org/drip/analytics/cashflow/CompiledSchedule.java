@@ -0,0 +1,917 @@
+
+package org.drip.analytics.cashflow;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * CompiledSchedule holds the Static Content of a List of Composite Periods in a Struct-of-Arrays Form -
+ * 	the Period Start/End/Pay Dates, the Coupon DCF's, the Period Notionals, the Unit Period DCF's and Fixed
+ * 	Rates, and Slots into the Distinct Funding/Credit/FX/Forward Labels. The Schedule is compiled once per
+ * 	Stream; the Valuation Kernel runs over it with each Curve/Surface resolved once per Call, and only falls
+ * 	back to the Composite Period for the Periods that need the Convexity Adjustment Integrals.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CompiledSchedule {
+
+	/**
+	 * Period Metric Slot - Coupon DCF
+	 */
+
+	public static final int PERIOD_DCF = 0;
+
+	/**
+	 * Period Metric Slot - Coupon Rate
+	 */
+
+	public static final int PERIOD_RATE = 1;
+
+	/**
+	 * Period Metric Slot - Period Notional (including the Coupon Factor)
+	 */
+
+	public static final int PERIOD_NOTIONAL = 2;
+
+	/**
+	 * Period Metric Slot - Period FX
+	 */
+
+	public static final int PERIOD_FX = 3;
+
+	/**
+	 * Period Metric Slot - Survival to the Pay Date
+	 */
+
+	public static final int PERIOD_SURVIVAL = 4;
+
+	/**
+	 * Period Metric Slot - Discount Factor to the Pay Date
+	 */
+
+	public static final int PERIOD_DF = 5;
+
+	/**
+	 * Period Metric Slot - Compounding Convexity Correction
+	 */
+
+	public static final int PERIOD_COMPOUNDING = 6;
+
+	/**
+	 * Period Metric Slot - Credit/Forward Convexity Correction
+	 */
+
+	public static final int PERIOD_CREDIT_FORWARD = 7;
+
+	/**
+	 * Period Metric Slot - Credit/Funding Convexity Correction
+	 */
+
+	public static final int PERIOD_CREDIT_FUNDING = 8;
+
+	/**
+	 * Period Metric Slot - Credit/FX Convexity Correction
+	 */
+
+	public static final int PERIOD_CREDIT_FX = 9;
+
+	/**
+	 * Period Metric Slot - Cumulative Convexity Correction
+	 */
+
+	public static final int PERIOD_CUMULATIVE = 10;
+
+	/**
+	 * Period Metric Slot - Forward/Funding Convexity Correction
+	 */
+
+	public static final int PERIOD_FORWARD_FUNDING = 11;
+
+	/**
+	 * Period Metric Slot - Forward/FX Convexity Correction
+	 */
+
+	public static final int PERIOD_FORWARD_FX = 12;
+
+	/**
+	 * Period Metric Slot - Funding/FX Convexity Correction
+	 */
+
+	public static final int PERIOD_FUNDING_FX = 13;
+
+	/**
+	 * Number of Period Metric Slots
+	 */
+
+	public static final int NUM_PERIOD_METRIC = 14;
+
+	private boolean _bOrdered = true;
+	private int[] _aiFXSlot = null;
+	private int[] _aiCreditSlot = null;
+	private int[] _aiUnitOffset = null;
+	private int[] _aiForwardSlot = null;
+	private int[] _aiFundingSlot = null;
+	private boolean[] _abKernel = null;
+	private double[] _adblPayDate = null;
+	private double[] _adblEndDate = null;
+	private double[] _adblUnitDCF = null;
+	private double[] _adblNotional = null;
+	private double[] _adblStartDate = null;
+	private double[] _adblCouponDCF = null;
+	private boolean[] _abGeometric = null;
+	private double[] _adblFXFixingDate = null;
+	private double[] _adblUnitFixedRate = null;
+	private org.drip.analytics.cashflow.CompositePeriod[] _aCP = null;
+	private org.drip.analytics.cashflow.ComposableUnitPeriod[] _aCUP = null;
+
+	private java.util.List<org.drip.state.identifier.FXLabel> _lsFXLabel = new
+		java.util.ArrayList<org.drip.state.identifier.FXLabel>();
+
+	private java.util.List<org.drip.state.identifier.CreditLabel> _lsCreditLabel = new
+		java.util.ArrayList<org.drip.state.identifier.CreditLabel>();
+
+	private java.util.List<org.drip.state.identifier.ForwardLabel> _lsForwardLabel = new
+		java.util.ArrayList<org.drip.state.identifier.ForwardLabel>();
+
+	private java.util.List<org.drip.state.identifier.FundingLabel> _lsFundingLabel = new
+		java.util.ArrayList<org.drip.state.identifier.FundingLabel>();
+
+	private static final <L extends org.drip.state.identifier.LatentStateLabel> int Slot (
+		final L lsl,
+		final java.util.List<L> lsLabel)
+	{
+		if (null == lsl) return -1;
+
+		java.lang.String strFullyQualifiedName = lsl.fullyQualifiedName();
+
+		int iNumLabel = lsLabel.size();
+
+		for (int i = 0; i < iNumLabel; ++i) {
+			if (lsLabel.get (i).fullyQualifiedName().equals (strFullyQualifiedName)) return i;
+		}
+
+		lsLabel.add (lsl);
+
+		return iNumLabel;
+	}
+
+	private double[] livePayDates (
+		final int[] aiSlot,
+		final int iSlot,
+		final double dblValueDate,
+		final int[] aiPeriod)
+	{
+		int iNumLive = 0;
+
+		for (int i = 0; i < _adblPayDate.length; ++i) {
+			if (iSlot == aiSlot[i] && _adblPayDate[i] >= dblValueDate) aiPeriod[iNumLive++] = i;
+		}
+
+		double[] adblPayDate = new double[iNumLive];
+
+		for (int j = 0; j < iNumLive; ++j)
+			adblPayDate[j] = _adblPayDate[aiPeriod[j]];
+
+		return adblPayDate;
+	}
+
+	private double couponRate (
+		final int iPeriod,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+		throws java.lang.Exception
+	{
+		double dblDCF = 0.;
+		double dblAmount = 0.;
+		double dblUnitAccrual = 1.;
+
+		for (int j = _aiUnitOffset[iPeriod]; j < _aiUnitOffset[iPeriod + 1]; ++j) {
+			double dblUnitDCF = _adblUnitDCF[j];
+			double dblUnitRate = _adblUnitFixedRate[j];
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblUnitRate))
+				dblUnitRate = _aCUP[j].fullCouponRate (csqs);
+
+			dblDCF += dblUnitDCF;
+
+			if (_abGeometric[iPeriod])
+				dblUnitAccrual *= (1. + dblUnitRate * dblUnitDCF);
+			else
+				dblAmount += dblUnitDCF * dblUnitRate;
+		}
+
+		return _abGeometric[iPeriod] ? dblDCF * ((dblUnitAccrual - 1.) / dblDCF) / dblDCF : dblAmount /
+			dblDCF;
+	}
+
+	private int tapeUnitRate (
+		final int iUnit,
+		final org.drip.quant.calculus.AdjointTape tape,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.quant.calculus.AdjointNodeResponse anrFunding,
+		final int[] aiFundingNode)
+		throws java.lang.Exception
+	{
+		if (org.drip.quant.common.NumberUtil.IsValid (_adblUnitFixedRate[iUnit]))
+			return tape.constant (_adblUnitFixedRate[iUnit]);
+
+		org.drip.analytics.cashflow.ComposableUnitPeriod cup = _aCUP[iUnit];
+
+		if (null == anrFunding || !(cup instanceof org.drip.analytics.cashflow.ComposableUnitFloatingPeriod))
+			return tape.constant (cup.fullCouponRate (csqs));
+
+		org.drip.analytics.cashflow.ReferenceIndexPeriod rip =
+			((org.drip.analytics.cashflow.ComposableUnitFloatingPeriod) cup).referenceIndexPeriod();
+
+		org.drip.state.identifier.ForwardLabel forwardLabel = rip.forwardLabel();
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve
+			(org.drip.state.identifier.FundingLabel.Standard (forwardLabel.currency()));
+
+		/*
+		 * Only the Rates projected off the taped Funding Curve depend on its Nodes - Fixings, Overnight
+		 * 	Look-backs, and Forward Curve Projections are held at their Values.
+		 */
+
+		if (anrFunding != dcFunding || forwardLabel.floaterIndex() instanceof
+			org.drip.market.definition.OvernightIndex || csqs.available (rip.fixingDate(), forwardLabel) ||
+				null != csqs.forwardCurve (forwardLabel))
+			return tape.constant (cup.fullCouponRate (csqs));
+
+		double dblDCF = rip.dcf();
+
+		double dblEndDate = rip.endDate();
+
+		double dblStartDate = rip.startDate();
+
+		double dblEpochDate = dcFunding.epoch().julian();
+
+		if (dblEpochDate > dblStartDate)
+			dblEndDate = new org.drip.analytics.date.JulianDate (dblStartDate = dblEpochDate).addTenor
+				(forwardLabel.tenor()).julian();
+
+		return tape.affine (tape.divide (anrFunding.tapeResponse (tape, aiFundingNode, dblStartDate),
+			anrFunding.tapeResponse (tape, aiFundingNode, dblEndDate)), 1. / dblDCF, cup.basis() - 1. /
+				dblDCF);
+	}
+
+	private int tapeCouponRate (
+		final int iPeriod,
+		final org.drip.quant.calculus.AdjointTape tape,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.quant.calculus.AdjointNodeResponse anrFunding,
+		final int[] aiFundingNode)
+		throws java.lang.Exception
+	{
+		double dblDCF = 0.;
+		int iAccrual = -1;
+		int iUnitStart = _aiUnitOffset[iPeriod];
+		int iNumUnit = _aiUnitOffset[iPeriod + 1] - iUnitStart;
+		int[] aiUnitRate = new int[iNumUnit];
+
+		for (int j = 0; j < iNumUnit; ++j) {
+			double dblUnitDCF = _adblUnitDCF[iUnitStart + j];
+
+			aiUnitRate[j] = tapeUnitRate (iUnitStart + j, tape, csqs, anrFunding, aiFundingNode);
+
+			dblDCF += dblUnitDCF;
+
+			if (_abGeometric[iPeriod]) {
+				int iUnitAccrual = tape.affine (aiUnitRate[j], dblUnitDCF, 1.);
+
+				iAccrual = -1 == iAccrual ? iUnitAccrual : tape.multiply (iAccrual, iUnitAccrual);
+			}
+		}
+
+		if (_abGeometric[iPeriod]) return tape.affine (iAccrual, 1. / dblDCF, -1. / dblDCF);
+
+		double[] adblWeight = new double[iNumUnit];
+
+		for (int j = 0; j < iNumUnit; ++j)
+			adblWeight[j] = _adblUnitDCF[iUnitStart + j] / dblDCF;
+
+		return tape.linear (aiUnitRate, adblWeight, 0.);
+	}
+
+	/**
+	 * Compile the List of Composite Periods into a Schedule
+	 *
+	 * @param lsCP The List of Composite Periods
+	 *
+	 * @return The Compiled Schedule
+	 */
+
+	public static final CompiledSchedule Compile (
+		final java.util.List<org.drip.analytics.cashflow.CompositePeriod> lsCP)
+	{
+		try {
+			return new CompiledSchedule (lsCP);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * CompiledSchedule Constructor
+	 *
+	 * @param lsCP The List of Composite Periods
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CompiledSchedule (
+		final java.util.List<org.drip.analytics.cashflow.CompositePeriod> lsCP)
+		throws java.lang.Exception
+	{
+		if (null == lsCP || 0 == lsCP.size())
+			throw new java.lang.Exception ("CompiledSchedule ctr: Invalid Inputs");
+
+		int iNumUnit = 0;
+		int iNumPeriod = lsCP.size();
+
+		_aiFXSlot = new int[iNumPeriod];
+		_aiCreditSlot = new int[iNumPeriod];
+		_aiForwardSlot = new int[iNumPeriod];
+		_aiFundingSlot = new int[iNumPeriod];
+		_abKernel = new boolean[iNumPeriod];
+		_adblPayDate = new double[iNumPeriod];
+		_adblEndDate = new double[iNumPeriod];
+		_adblNotional = new double[iNumPeriod];
+		_adblStartDate = new double[iNumPeriod];
+		_adblCouponDCF = new double[iNumPeriod];
+		_abGeometric = new boolean[iNumPeriod];
+		_aiUnitOffset = new int[iNumPeriod + 1];
+		_adblFXFixingDate = new double[iNumPeriod];
+		_aCP = new org.drip.analytics.cashflow.CompositePeriod[iNumPeriod];
+
+		for (int i = 0; i < iNumPeriod; ++i) {
+			if (null == (_aCP[i] = lsCP.get (i)))
+				throw new java.lang.Exception ("CompiledSchedule ctr: Invalid Inputs");
+
+			_aiUnitOffset[i] = iNumUnit;
+			iNumUnit += _aCP[i].periods().size();
+		}
+
+		_aiUnitOffset[iNumPeriod] = iNumUnit;
+		_adblUnitDCF = new double[iNumUnit];
+		_adblUnitFixedRate = new double[iNumUnit];
+		_aCUP = new org.drip.analytics.cashflow.ComposableUnitPeriod[iNumUnit];
+
+		for (int i = 0; i < iNumPeriod; ++i) {
+			org.drip.analytics.cashflow.CompositePeriod cp = _aCP[i];
+
+			double dblEndDate = cp.endDate();
+
+			org.drip.state.identifier.FXLabel fxLabel = cp.fxLabel();
+
+			org.drip.state.identifier.ForwardLabel forwardLabel = cp.forwardLabel();
+
+			_adblEndDate[i] = dblEndDate;
+			_adblPayDate[i] = cp.payDate();
+			_adblStartDate[i] = cp.startDate();
+			_adblCouponDCF[i] = cp.couponDCF();
+			_aiFXSlot[i] = Slot (fxLabel, _lsFXLabel);
+			_aiForwardSlot[i] = Slot (forwardLabel, _lsForwardLabel);
+			_aiCreditSlot[i] = Slot (cp.creditLabel(), _lsCreditLabel);
+			_aiFundingSlot[i] = Slot (cp.fundingLabel(), _lsFundingLabel);
+			_adblNotional[i] = cp.notional (dblEndDate) * cp.couponFactor (dblEndDate);
+			_adblFXFixingDate[i] = null == fxLabel || cp.isFXMTM() ? java.lang.Double.NaN :
+				cp.fxFixingDate();
+
+			if (0 != i && dblEndDate < _adblEndDate[i - 1]) _bOrdered = false;
+
+			int iAccrualCompoundingRule = cp.accrualCompoundingRule();
+
+			_abGeometric[i] = org.drip.analytics.support.CompositePeriodBuilder.ACCRUAL_COMPOUNDING_RULE_GEOMETRIC
+				== iAccrualCompoundingRule;
+			_abKernel[i] = _abGeometric[i] ||
+				org.drip.analytics.support.CompositePeriodBuilder.ACCRUAL_COMPOUNDING_RULE_ARITHMETIC ==
+					iAccrualCompoundingRule;
+
+			int j = _aiUnitOffset[i];
+
+			for (org.drip.analytics.cashflow.ComposableUnitPeriod cup : cp.periods()) {
+				_aCUP[j] = cup;
+				_adblUnitDCF[j] = cup.fullCouponDCF();
+
+				if (cup instanceof org.drip.analytics.cashflow.ComposableUnitFixedPeriod) {
+					_adblUnitFixedRate[j] = cup.fullCouponRate (null);
+
+					if (null != forwardLabel) _abKernel[i] = false;
+				} else
+					_adblUnitFixedRate[j] = java.lang.Double.NaN;
+
+				++j;
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the Number of Periods
+	 *
+	 * @return The Number of Periods
+	 */
+
+	public int numPeriod()
+	{
+		return _aCP.length;
+	}
+
+	/**
+	 * Retrieve the Composite Period at the specified Index
+	 *
+	 * @param iPeriod The Period Index
+	 *
+	 * @return The Composite Period
+	 */
+
+	public org.drip.analytics.cashflow.CompositePeriod period (
+		final int iPeriod)
+	{
+		return _aCP[iPeriod];
+	}
+
+	/**
+	 * Retrieve the Period Start Date
+	 *
+	 * @param iPeriod The Period Index
+	 *
+	 * @return The Period Start Date
+	 */
+
+	public double startDate (
+		final int iPeriod)
+	{
+		return _adblStartDate[iPeriod];
+	}
+
+	/**
+	 * Retrieve the Period End Date
+	 *
+	 * @param iPeriod The Period Index
+	 *
+	 * @return The Period End Date
+	 */
+
+	public double endDate (
+		final int iPeriod)
+	{
+		return _adblEndDate[iPeriod];
+	}
+
+	/**
+	 * Retrieve the Period Pay Date
+	 *
+	 * @param iPeriod The Period Index
+	 *
+	 * @return The Period Pay Date
+	 */
+
+	public double payDate (
+		final int iPeriod)
+	{
+		return _adblPayDate[iPeriod];
+	}
+
+	/**
+	 * Retrieve the Period Full Coupon DCF
+	 *
+	 * @param iPeriod The Period Index
+	 *
+	 * @return The Period Full Coupon DCF
+	 */
+
+	public double couponDCF (
+		final int iPeriod)
+	{
+		return _adblCouponDCF[iPeriod];
+	}
+
+	/**
+	 * Retrieve the Period End Notional, including the Coupon Factor
+	 *
+	 * @param iPeriod The Period Index
+	 *
+	 * @return The Period End Notional
+	 */
+
+	public double notional (
+		final int iPeriod)
+	{
+		return _adblNotional[iPeriod];
+	}
+
+	/**
+	 * Indicate if the Period contains the specified Date
+	 *
+	 * @param iPeriod The Period Index
+	 * @param dblDate The Date
+	 *
+	 * @return TRUE => The Period contains the specified Date
+	 */
+
+	public boolean contains (
+		final int iPeriod,
+		final double dblDate)
+	{
+		return dblDate >= _adblStartDate[iPeriod] && dblDate <= _adblEndDate[iPeriod];
+	}
+
+	/**
+	 * Locate the Index of the first Period containing the specified Date. The Search is by Bisection on the
+	 *  Period End Dates when they are ordered.
+	 *
+	 * @param dblDate The Date
+	 *
+	 * @return Index of the Period containing the Date
+	 *
+	 * @throws java.lang.Exception Thrown if the Date is not inside any of the Periods
+	 */
+
+	public int periodIndex (
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
+			throw new java.lang.Exception ("CompiledSchedule::periodIndex => Invalid Inputs");
+
+		int iNumPeriod = _aCP.length;
+
+		if (!_bOrdered) {
+			for (int i = 0; i < iNumPeriod; ++i) {
+				if (contains (i, dblDate)) return i;
+			}
+
+			throw new java.lang.Exception ("CompiledSchedule::periodIndex => Date not in the Schedule");
+		}
+
+		int iLeft = 0;
+		int iRight = iNumPeriod;
+
+		while (iLeft < iRight) {
+			int iMid = (iLeft + iRight) >>> 1;
+
+			if (_adblEndDate[iMid] < dblDate)
+				iLeft = iMid + 1;
+			else
+				iRight = iMid;
+		}
+
+		for (int i = iLeft; i < iNumPeriod; ++i) {
+			if (contains (i, dblDate)) return i;
+		}
+
+		throw new java.lang.Exception ("CompiledSchedule::periodIndex => Date not in the Schedule");
+	}
+
+	/**
+	 * Compute the Full Coupon Rate of the specified Period, composing the Unit Period Rates using the
+	 *  Period's Accrual Compounding Rule
+	 *
+	 * @param iPeriod The Period Index
+	 * @param dblValueDate The Valuation Date
+	 * @param csqs The Market Curve Surface/Quote Set
+	 *
+	 * @return The Full Coupon Rate
+	 *
+	 * @throws java.lang.Exception Thrown if the Coupon Rate cannot be computed
+	 */
+
+	public double couponRate (
+		final int iPeriod,
+		final double dblValueDate,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+		throws java.lang.Exception
+	{
+		if (0 > iPeriod || iPeriod >= _aCP.length)
+			throw new java.lang.Exception ("CompiledSchedule::couponRate => Invalid Inputs");
+
+		if (_abKernel[iPeriod]) return couponRate (iPeriod, csqs);
+
+		org.drip.analytics.output.CompositePeriodCouponMetrics cpcm = _aCP[iPeriod].couponMetrics
+			(dblValueDate, csqs);
+
+		if (null == cpcm)
+			throw new java.lang.Exception ("CompiledSchedule::couponRate => Cannot compute Coupon Metrics");
+
+		return cpcm.rate();
+	}
+
+	/**
+	 * Allocate a Workspace for the Period Metrics
+	 *
+	 * @return The Period Metrics Workspace
+	 */
+
+	public double[][] metricWorkspace()
+	{
+		return new double[NUM_PERIOD_METRIC][_aCP.length];
+	}
+
+	/**
+	 * Run the Valuation Kernel over the Schedule - for each Period paying on or after the Valuation Date,
+	 * 	generate the Coupon DCF/Rate, the Notional, the FX, the Survival, the Discount Factor, and the
+	 * 	Convexity Corrections into the corresponding Metric Slot. The Corrections are computed by the
+	 * 	Composite Period only when at least two of the Period's Volatility Surfaces are available, since
+	 * 	they are all identically 1 otherwise.
+	 *
+	 * @param dblValueDate The Valuation Date
+	 * @param csqs The Market Curve Surface/Quote Set
+	 * @param aadblMetric The Period Metrics Workspace
+	 *
+	 * @return TRUE => The Period Metrics have been computed
+	 */
+
+	public boolean periodMetrics (
+		final double dblValueDate,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final double[][] aadblMetric)
+	{
+		int iNumPeriod = _aCP.length;
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblValueDate) || null == csqs || null == aadblMetric
+			|| NUM_PERIOD_METRIC > aadblMetric.length)
+			return false;
+
+		for (int k = 0; k < NUM_PERIOD_METRIC; ++k) {
+			if (null == aadblMetric[k] || iNumPeriod > aadblMetric[k].length) return false;
+		}
+
+		int iNumFXLabel = _lsFXLabel.size();
+
+		int iNumCreditLabel = _lsCreditLabel.size();
+
+		int iNumForwardLabel = _lsForwardLabel.size();
+
+		int iNumFundingLabel = _lsFundingLabel.size();
+
+		boolean[] abFXVol = new boolean[iNumFXLabel];
+		boolean[] abCreditVol = new boolean[iNumCreditLabel];
+		boolean[] abForwardVol = new boolean[iNumForwardLabel];
+		boolean[] abFundingVol = new boolean[iNumFundingLabel];
+		org.drip.function.definition.R1ToR1[] aauFX = new org.drip.function.definition.R1ToR1[iNumFXLabel];
+		org.drip.analytics.rates.DiscountCurve[] aDC = new
+			org.drip.analytics.rates.DiscountCurve[iNumFundingLabel];
+		org.drip.analytics.definition.CreditCurve[] aCC = new
+			org.drip.analytics.definition.CreditCurve[iNumCreditLabel];
+
+		for (int l = 0; l < iNumFXLabel; ++l) {
+			org.drip.state.identifier.FXLabel fxLabel = _lsFXLabel.get (l);
+
+			aauFX[l] = csqs.fxCurve (fxLabel);
+
+			abFXVol[l] = null != csqs.fxCurveVolSurface (fxLabel);
+		}
+
+		for (int l = 0; l < iNumCreditLabel; ++l) {
+			org.drip.state.identifier.CreditLabel creditLabel = _lsCreditLabel.get (l);
+
+			aCC[l] = csqs.creditCurve (creditLabel);
+
+			abCreditVol[l] = null != csqs.creditCurveVolSurface (creditLabel);
+		}
+
+		for (int l = 0; l < iNumForwardLabel; ++l)
+			abForwardVol[l] = null != csqs.forwardCurveVolSurface (_lsForwardLabel.get (l));
+
+		for (int l = 0; l < iNumFundingLabel; ++l) {
+			org.drip.state.identifier.FundingLabel fundingLabel = _lsFundingLabel.get (l);
+
+			aDC[l] = csqs.fundingCurve (fundingLabel);
+
+			abFundingVol[l] = null != csqs.fundingCurveVolSurface (fundingLabel);
+		}
+
+		try {
+			for (int i = 0; i < iNumPeriod; ++i) {
+				double dblPayDate = _adblPayDate[i];
+
+				if (dblPayDate < dblValueDate) {
+					for (int k = 0; k < NUM_PERIOD_METRIC; ++k)
+						aadblMetric[k][i] = java.lang.Double.NaN;
+
+					continue;
+				}
+
+				int iFXSlot = _aiFXSlot[i];
+				int iCreditSlot = _aiCreditSlot[i];
+				int iForwardSlot = _aiForwardSlot[i];
+				int iFundingSlot = _aiFundingSlot[i];
+
+				int iNumVol = (-1 != iFXSlot && abFXVol[iFXSlot] ? 1 : 0) + (-1 != iCreditSlot &&
+					abCreditVol[iCreditSlot] ? 1 : 0) + (-1 != iForwardSlot && abForwardVol[iForwardSlot] ?
+						1 : 0) + (-1 != iFundingSlot && abFundingVol[iFundingSlot] ? 1 : 0);
+
+				if (_abKernel[i] && 2 > iNumVol) {
+					aadblMetric[PERIOD_DCF][i] = _adblCouponDCF[i];
+					aadblMetric[PERIOD_RATE][i] = couponRate (i, csqs);
+					aadblMetric[PERIOD_COMPOUNDING][i] = 1.;
+					aadblMetric[PERIOD_CREDIT_FORWARD][i] = 1.;
+					aadblMetric[PERIOD_CREDIT_FUNDING][i] = 1.;
+					aadblMetric[PERIOD_CREDIT_FX][i] = 1.;
+					aadblMetric[PERIOD_CUMULATIVE][i] = 1.;
+					aadblMetric[PERIOD_FORWARD_FUNDING][i] = 1.;
+					aadblMetric[PERIOD_FORWARD_FX][i] = 1.;
+					aadblMetric[PERIOD_FUNDING_FX][i] = 1.;
+				} else {
+					org.drip.analytics.output.CompositePeriodCouponMetrics cpcm = _aCP[i].couponMetrics
+						(dblValueDate, csqs);
+
+					if (null == cpcm) return false;
+
+					aadblMetric[PERIOD_DCF][i] = cpcm.dcf();
+
+					aadblMetric[PERIOD_RATE][i] = cpcm.rate();
+
+					aadblMetric[PERIOD_COMPOUNDING][i] = cpcm.compounding();
+
+					aadblMetric[PERIOD_CREDIT_FORWARD][i] = cpcm.creditForward();
+
+					aadblMetric[PERIOD_CREDIT_FUNDING][i] = cpcm.creditFunding();
+
+					aadblMetric[PERIOD_CREDIT_FX][i] = cpcm.creditFX();
+
+					aadblMetric[PERIOD_CUMULATIVE][i] = cpcm.cumulative();
+
+					aadblMetric[PERIOD_FORWARD_FUNDING][i] = cpcm.forwardFunding();
+
+					aadblMetric[PERIOD_FORWARD_FX][i] = cpcm.forwardFX();
+
+					aadblMetric[PERIOD_FUNDING_FX][i] = cpcm.fundingFX();
+				}
+
+				aadblMetric[PERIOD_NOTIONAL][i] = _adblNotional[i];
+
+				if (-1 == iFXSlot)
+					aadblMetric[PERIOD_FX][i] = 1.;
+				else if (org.drip.quant.common.NumberUtil.IsValid (_adblFXFixingDate[i]))
+					aadblMetric[PERIOD_FX][i] = csqs.fixing (_adblFXFixingDate[i], _lsFXLabel.get (iFXSlot));
+				else {
+					if (null == aauFX[iFXSlot]) return false;
+
+					aadblMetric[PERIOD_FX][i] = aauFX[iFXSlot].evaluate (dblPayDate);
+				}
+
+				if (-1 == iCreditSlot)
+					aadblMetric[PERIOD_SURVIVAL][i] = 1.;
+				else if (null == aCC[iCreditSlot])
+					return false;
+
+				if (null == aDC[iFundingSlot]) return false;
+			}
+
+			/*
+			 * The Survival Probabilities and the Discount Factors are priced off each Curve over all its
+			 * 	Live Pay Dates in one Call.
+			 */
+
+			int[] aiPeriod = new int[iNumPeriod];
+
+			for (int l = 0; l < iNumCreditLabel; ++l) {
+				double[] adblPayDate = livePayDates (_aiCreditSlot, l, dblValueDate, aiPeriod);
+
+				double[] adblSurvival = new double[adblPayDate.length];
+
+				if (0 != adblPayDate.length && !aCC[l].survival (adblPayDate, adblSurvival)) return false;
+
+				for (int j = 0; j < adblPayDate.length; ++j)
+					aadblMetric[PERIOD_SURVIVAL][aiPeriod[j]] = adblSurvival[j];
+			}
+
+			for (int l = 0; l < iNumFundingLabel; ++l) {
+				double[] adblPayDate = livePayDates (_aiFundingSlot, l, dblValueDate, aiPeriod);
+
+				double[] adblDF = new double[adblPayDate.length];
+
+				if (0 != adblPayDate.length && !aDC[l].df (adblPayDate, adblDF)) return false;
+
+				for (int j = 0; j < adblPayDate.length; ++j)
+					aadblMetric[PERIOD_DF][aiPeriod[j]] = adblDF[j];
+			}
+
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Record the Dirty PV of the Periods paying on or after the Valuation Date - the Quantity reported as
+	 * 	the Stream "DirtyPV" - on the Adjoint Tape. The Discount Factors, the Survival Probabilities, and the
+	 * 	Floating Rates projected off the Funding Curve are recorded as Functions of the Nodes of the supplied
+	 * 	Adjoint Curves when these are the Curves the Periods reference in the Quote Set; every other Market
+	 * 	Input is held at its Value. The Periods outside the Kernel contribute through their (constant)
+	 * 	Convexity-adjusted Coupon Metrics.
+	 *
+	 * @param tape The Adjoint Tape
+	 * @param dblValueDate The Valuation Date
+	 * @param csqs The Market Curve Surface/Quote Set
+	 * @param anrFunding The Adjoint Funding Curve (may be null)
+	 * @param aiFundingNode The Funding Curve Node Parameter Tape Nodes
+	 * @param anrCredit The Adjoint Credit Curve (may be null)
+	 * @param aiCreditNode The Credit Curve Node Parameter Tape Nodes
+	 *
+	 * @return The Tape Node of the Dirty PV
+	 *
+	 * @throws java.lang.Exception Thrown if the Dirty PV cannot be recorded
+	 */
+
+	public int tapeDirtyPV (
+		final org.drip.quant.calculus.AdjointTape tape,
+		final double dblValueDate,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.quant.calculus.AdjointNodeResponse anrFunding,
+		final int[] aiFundingNode,
+		final org.drip.quant.calculus.AdjointNodeResponse anrCredit,
+		final int[] aiCreditNode)
+		throws java.lang.Exception
+	{
+		if (null == tape || !org.drip.quant.common.NumberUtil.IsValid (dblValueDate) || null == csqs || 1 !=
+			_lsFundingLabel.size())
+			throw new java.lang.Exception ("CompiledSchedule::tapeDirtyPV => Invalid Inputs");
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (_lsFundingLabel.get (0));
+
+		if (null == dcFunding)
+			throw new java.lang.Exception ("CompiledSchedule::tapeDirtyPV => Cannot locate Funding Curve");
+
+		boolean bTapeFunding = null != anrFunding && anrFunding == dcFunding;
+		int iNumPeriod = _aCP.length;
+		double[][] aadblMetric = metricWorkspace();
+
+		if (!periodMetrics (dblValueDate, csqs, aadblMetric))
+			throw new java.lang.Exception ("CompiledSchedule::tapeDirtyPV => Cannot compute Period Metrics");
+
+		int iNumLivePeriod = 0;
+		int[] aiPeriodPV = new int[iNumPeriod];
+		double[] adblPeriodWeight = new double[iNumPeriod];
+
+		for (int i = 0; i < iNumPeriod; ++i) {
+			double dblPayDate = _adblPayDate[i];
+
+			if (dblPayDate < dblValueDate) continue;
+
+			boolean bKernel = 1. == aadblMetric[PERIOD_CUMULATIVE][i] && _abKernel[i] &&
+				aadblMetric[PERIOD_DCF][i] == _adblCouponDCF[i];
+
+			double dblWeight = aadblMetric[PERIOD_DCF][i] * aadblMetric[PERIOD_NOTIONAL][i] *
+				aadblMetric[PERIOD_FX][i] * aadblMetric[PERIOD_CUMULATIVE][i];
+
+			int iPeriodPV = bKernel ? tapeCouponRate (i, tape, csqs, bTapeFunding ? anrFunding : null,
+				aiFundingNode) : tape.constant (aadblMetric[PERIOD_RATE][i]);
+
+			if (bTapeFunding)
+				iPeriodPV = tape.multiply (iPeriodPV, anrFunding.tapeResponse (tape, aiFundingNode,
+					dblPayDate));
+			else
+				dblWeight *= aadblMetric[PERIOD_DF][i];
+
+			int iCreditSlot = _aiCreditSlot[i];
+
+			if (-1 != iCreditSlot && null != anrCredit && anrCredit == csqs.creditCurve (_lsCreditLabel.get
+				(iCreditSlot)))
+				iPeriodPV = tape.multiply (iPeriodPV, anrCredit.tapeResponse (tape, aiCreditNode,
+					dblPayDate));
+			else
+				dblWeight *= aadblMetric[PERIOD_SURVIVAL][i];
+
+			aiPeriodPV[iNumLivePeriod] = iPeriodPV;
+			adblPeriodWeight[iNumLivePeriod++] = dblWeight;
+		}
+
+		int iDirtyPV = tape.linear (java.util.Arrays.copyOf (aiPeriodPV, iNumLivePeriod),
+			java.util.Arrays.copyOf (adblPeriodWeight, iNumLivePeriod), 0.);
+
+		return tape.divide (iDirtyPV, bTapeFunding ? anrFunding.tapeResponse (tape, aiFundingNode,
+			dblValueDate) : tape.constant (dcFunding.df (dblValueDate)));
+	}
+}
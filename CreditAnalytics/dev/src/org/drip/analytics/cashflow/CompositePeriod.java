@@ -1051,6 +1051,13 @@ public abstract class CompositePeriod {
 				(comp, valParams, this, dblPeriodEndDate, csqs)) || 0 == lsLQM.size()))
 			return null;
 
+		if (org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_PIECEWISE_CONSTANT ==
+			iDiscretizationScheme && (null == (lsLQM =
+				org.drip.analytics.support.LossQuadratureGenerator.GeneratePiecewiseConstantLossPeriods
+					(comp, valParams, this, dblPeriodEndDate, pricerParams.unitSize(), csqs)) || 0 ==
+						lsLQM.size()))
+			return null;
+
 		return lsLQM;
 	}
 
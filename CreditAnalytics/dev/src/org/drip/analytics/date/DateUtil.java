@@ -49,6 +49,24 @@ public class DateUtil {
 
   	public static int JGREG = 15 + 31 * (10 + 12 * 1582);
 
+	/*
+	 * Julian Day Number of 1 January 0001 (Gregorian), the Start of the Integer Civil Date Arithmetic
+	 */
+
+	private static final int JULIAN_DAY_0001_01_01 = 1721426;
+
+	/*
+	 * Julian Day Number of 1 March 0000, the Origin of the Shifted (March-first) 400 Year Eras
+	 */
+
+	private static final int JULIAN_DAY_ERA_ORIGIN = 1721120;
+
+	/*
+	 * Julian Day Number of 1 January 1970
+	 */
+
+	private static final int JULIAN_DAY_1970_01_01 = 2440588;
+
 	/**
 	 * LEFT_INCLUDE includes the start date in the Feb29 check
 	 */
@@ -196,6 +214,8 @@ public class DateUtil {
 		if (0 > iYear || 0 > iMonth || 0 > iDay)
 			throw new java.lang.Exception ("DateUtil::ToJulian => Invalid Inputs");
 
+		if (iDay + 31 * (iMonth + 12 * iYear) >= JGREG) return JulianDayFromYMD (iYear, iMonth, iDay);
+
 		int iJulianYear = iYear;
 		int iJulianMonth = iMonth;
 
@@ -219,6 +239,143 @@ public class DateUtil {
    		return java.lang.Math.floor (dblJulian);
 	}
 
+	/**
+	 * Compute the Julian Day Number for the Gregorian Year, Month, and Day using Integer Arithmetic
+	 * 
+	 * @param iYear Year
+	 * @param iMonth Month
+	 * @param iDay Day
+	 * 
+	 * @return The Julian Day Number
+	 */
+
+	public static final int JulianDayFromYMD (
+		final int iYear,
+		final int iMonth,
+		final int iDay)
+	{
+		int iShiftedYear = iMonth <= 2 ? iYear - 1 : iYear;
+		int iEra = (iShiftedYear >= 0 ? iShiftedYear : iShiftedYear - 399) / 400;
+		int iYearOfEra = iShiftedYear - iEra * 400;
+		int iDayOfYear = (153 * (iMonth > 2 ? iMonth - 3 : iMonth + 9) + 2) / 5 + iDay - 1;
+
+		return iEra * 146097 + iYearOfEra * 365 + iYearOfEra / 4 - iYearOfEra / 100 + iDayOfYear +
+			JULIAN_DAY_ERA_ORIGIN;
+	}
+
+	/**
+	 * Decompose the Julian Day Number into the Gregorian Date packed as YYYYMMDD using Integer Arithmetic
+	 * 
+	 * @param iJulianDay The Julian Day Number
+	 * 
+	 * @return The Packed YYYYMMDD Date
+	 */
+
+	public static final int YYYYMMDDFromJulianDay (
+		final int iJulianDay)
+	{
+		int iShiftedDay = iJulianDay - JULIAN_DAY_ERA_ORIGIN;
+		int iEra = (iShiftedDay >= 0 ? iShiftedDay : iShiftedDay - 146096) / 146097;
+		int iDayOfEra = iShiftedDay - iEra * 146097;
+		int iYearOfEra = (iDayOfEra - iDayOfEra / 1460 + iDayOfEra / 36524 - iDayOfEra / 146096) / 365;
+		int iDayOfYear = iDayOfEra - (365 * iYearOfEra + iYearOfEra / 4 - iYearOfEra / 100);
+		int iShiftedMonth = (5 * iDayOfYear + 2) / 153;
+		int iDay = iDayOfYear - (153 * iShiftedMonth + 2) / 5 + 1;
+		int iMonth = iShiftedMonth < 10 ? iShiftedMonth + 3 : iShiftedMonth - 9;
+		int iYear = iYearOfEra + iEra * 400 + (iMonth <= 2 ? 1 : 0);
+
+		return iYear * 10000 + iMonth * 100 + iDay;
+	}
+
+	/**
+	 * Decompose the Julian Date into the Gregorian Date packed as YYYYMMDD
+	 * 
+	 * @param dblJulianIn double representing the Julian date
+	 * 
+	 * @return The Packed YYYYMMDD Date
+	 * 
+	 * @throws java.lang.Exception Thrown if the input date is invalid, or precedes 1 January 0001
+	 */
+
+	public static final int YYYYMMDD (
+		final double dblJulianIn)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblJulianIn))
+			throw new java.lang.Exception ("DateUtil::YYYYMMDD => Invalid Input!");
+
+		int iJulianDay = (int) (dblJulianIn + HALFSECOND / 86400.0);
+
+		if (iJulianDay < JULIAN_DAY_0001_01_01)
+			throw new java.lang.Exception ("DateUtil::YYYYMMDD => Date precedes 0001-01-01!");
+
+		return YYYYMMDDFromJulianDay (iJulianDay);
+	}
+
+	/**
+	 * Extract the Year from the Packed YYYYMMDD Date
+	 * 
+	 * @param iYYYYMMDD The Packed YYYYMMDD Date
+	 * 
+	 * @return The Year
+	 */
+
+	public static final int YearFromYYYYMMDD (
+		final int iYYYYMMDD)
+	{
+		return iYYYYMMDD / 10000;
+	}
+
+	/**
+	 * Extract the Month from the Packed YYYYMMDD Date
+	 * 
+	 * @param iYYYYMMDD The Packed YYYYMMDD Date
+	 * 
+	 * @return The Month
+	 */
+
+	public static final int MonthFromYYYYMMDD (
+		final int iYYYYMMDD)
+	{
+		return (iYYYYMMDD / 100) % 100;
+	}
+
+	/**
+	 * Extract the Day from the Packed YYYYMMDD Date
+	 * 
+	 * @param iYYYYMMDD The Packed YYYYMMDD Date
+	 * 
+	 * @return The Day
+	 */
+
+	public static final int DayFromYYYYMMDD (
+		final int iYYYYMMDD)
+	{
+		return iYYYYMMDD % 100;
+	}
+
+	/**
+	 * Return the Week Day corresponding to the Julian double, expressed as one of MONDAY through SUNDAY
+	 * 
+	 * @param dblJulianIn double representing the Julian date
+	 * 
+	 * @return The Week Day
+	 * 
+	 * @throws java.lang.Exception Thrown if the input date is invalid
+	 */
+
+	public static final int WeekDay (
+		final double dblJulianIn)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblJulianIn))
+			throw new java.lang.Exception ("DateUtil::WeekDay => Invalid Input!");
+
+		int iDayOfTheWeek = ((int) (dblJulianIn + HALFSECOND / 86400.0)) % 7;
+
+		return 0 > iDayOfTheWeek ? iDayOfTheWeek + 7 : iDayOfTheWeek;
+	}
+
 	/**
 	 * Create a MM/DD/YYYY string from the input Julian double
 	 * 
@@ -276,6 +433,8 @@ public class DateUtil {
 
 		int iJA = (int) (dblJulianIn + HALFSECOND / 86400.0);
 
+		if (iJA >= JULIAN_DAY_0001_01_01) return YearFromYYYYMMDD (YYYYMMDDFromJulianDay (iJA));
+
 		if (iJA >= JGREG) {
 			int iJAlpha = (int) (((iJA - 1867216) - 0.25) / 36524.25);
 			iJA = iJA + 1 + iJAlpha - iJAlpha / 4;
@@ -316,6 +475,8 @@ public class DateUtil {
 
 		int iJA = (int) (dblJulianIn + HALFSECOND / 86400.0);
 
+		if (iJA >= JULIAN_DAY_0001_01_01) return MonthFromYYYYMMDD (YYYYMMDDFromJulianDay (iJA));
+
 		if (iJA >= JGREG) {
 			int iJAlpha = (int) (((iJA - 1867216) - 0.25) / 36524.25);
 			iJA = iJA + 1 + iJAlpha - iJAlpha / 4;
@@ -350,6 +511,8 @@ public class DateUtil {
 
 		int iJA = (int) (dblJulianIn + HALFSECOND / 86400.0);
 
+		if (iJA >= JULIAN_DAY_0001_01_01) return DayFromYYYYMMDD (YYYYMMDDFromJulianDay (iJA));
+
 		if (iJA >= JGREG) {
 			int iJAlpha = (int) (((iJA - 1867216) - 0.25) / 36524.25);
 			iJA = iJA + 1 + iJAlpha - iJAlpha / 4;
@@ -716,7 +879,10 @@ public class DateUtil {
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
 			throw new java.lang.Exception ("DateUtil::IsEOM => Invalid Date: " + dblDate);
 
-		return Day (dblDate) == DaysInMonth (Month (dblDate), Year (dblDate)) ? true : false;
+		int iYYYYMMDD = YYYYMMDD (dblDate);
+
+		return DayFromYYYYMMDD (iYYYYMMDD) == DaysInMonth (MonthFromYYYYMMDD (iYYYYMMDD), YearFromYYYYMMDD
+			(iYYYYMMDD));
 	}
 
 	/**
@@ -816,6 +982,20 @@ public class DateUtil {
 		return null;
 	}
 
+	private static final int JulianDayFromJavaDate (
+		final java.util.Date dt)
+	{
+		long lTime = dt.getTime();
+
+		long lLocalTime = lTime + java.util.TimeZone.getDefault().getOffset (lTime);
+
+		long lDaysSinceEpoch = lLocalTime / 86400000L;
+
+		if (0L > lLocalTime % 86400000L) --lDaysSinceEpoch;
+
+		return (int) lDaysSinceEpoch + JULIAN_DAY_1970_01_01;
+	}
+
 	/**
 	 * Return the Day of the Week corresponding to the input java.util.Date
 	 * 
@@ -832,11 +1012,7 @@ public class DateUtil {
 	{
 		if (null == dt) throw new java.lang.Exception ("DateUtil::DayOfTheWeek => Invalid Date");
 
-		java.util.Calendar cal = java.util.Calendar.getInstance();
-
-		cal.setTime (dt);
-
-		return cal.get (java.util.Calendar.DAY_OF_WEEK);
+		return (JulianDayFromJavaDate (dt) + 1) % 7 + 1;
 	}
 
 	/**
@@ -855,11 +1031,7 @@ public class DateUtil {
 	{
 		if (null == dt) throw new java.lang.Exception ("DateUtil::Day => Invalid Date");
 
-		java.util.Calendar cal = java.util.Calendar.getInstance();
-
-		cal.setTime (dt);
-
-		return cal.get (java.util.Calendar.DATE);
+		return DayFromYYYYMMDD (YYYYMMDDFromJulianDay (JulianDayFromJavaDate (dt)));
 	}
 
 	/**
@@ -878,11 +1050,7 @@ public class DateUtil {
 	{
 		if (null == dt) throw new java.lang.Exception ("DateUtil::Month => Invalid Date");
 
-		java.util.Calendar cal = java.util.Calendar.getInstance();
-
-		cal.setTime (dt);
-
-		return cal.get (java.util.Calendar.MONTH) + 1;
+		return MonthFromYYYYMMDD (YYYYMMDDFromJulianDay (JulianDayFromJavaDate (dt)));
 	}
 
 	/**
@@ -901,11 +1069,7 @@ public class DateUtil {
 	{
 		if (null == dt) throw new java.lang.Exception ("DateUtil::Year => Invalid Date");
 
-		java.util.Calendar cal = java.util.Calendar.getInstance();
-
-		cal.setTime (dt);
-
-		return cal.get (java.util.Calendar.YEAR);
+		return YearFromYYYYMMDD (YYYYMMDDFromJulianDay (JulianDayFromJavaDate (dt)));
 	}
 
 	/**
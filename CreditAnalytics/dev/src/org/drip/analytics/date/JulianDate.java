@@ -80,6 +80,18 @@ public class JulianDate implements java.lang.Comparable<JulianDate> {
 		return _dblJulian;
 	}
 
+	/**
+	 * Return the Date packed as the Integer YYYYMMDD
+	 * 
+	 * @return The Packed YYYYMMDD Date
+	 */
+
+	public int yyyymmdd()
+	{
+		return org.drip.analytics.date.DateUtil.YYYYMMDDFromJulianDay ((int) (_dblJulian +
+			org.drip.analytics.date.DateUtil.HALFSECOND / 86400.));
+	}
+
 	/**
 	 * Add the given number of days and returns a new JulianDate
 	 * 
@@ -203,26 +215,14 @@ public class JulianDate implements java.lang.Comparable<JulianDate> {
 	public JulianDate addYears (
 		final int iNumYears)
 	{
-		int iJA = (int) (_dblJulian + org.drip.analytics.date.DateUtil.HALFSECOND / 86400.);
+		int iYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDDFromJulianDay ((int) (_dblJulian +
+			org.drip.analytics.date.DateUtil.HALFSECOND / 86400.));
 
-		if (iJA >= org.drip.analytics.date.DateUtil.JGREG) {
-			int iJAlpha = (int) (((iJA - 1867216) - 0.25) / 36524.25);
-			iJA = iJA + 1 + iJAlpha - iJAlpha / 4;
-		}
-
-		int iJB = iJA + 1524;
-		int iJC = (int) (6680.0 + ((iJB - 2439870) - 122.1) / 365.25);
-		int iJD = 365 * iJC + iJC / 4;
-		int iJE = (int) ((iJB - iJD) / 30.6001);
-   		int iDay = iJB - iJD - (int) (30.6001 * iJE);
-   		int iMonth = iJE - 1;
-		int iYear = iJC - 4715;
-
-		if (iMonth > 12) iMonth -= 12;
+		int iDay = org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iYYYYMMDD);
 
-		if (iMonth > 2) --iYear;
+		int iMonth = org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iYYYYMMDD);
 
-		if (iYear <= 0) --iYear;
+		int iYear = org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iYYYYMMDD);
 
 		try {
 			return org.drip.analytics.date.DateUtil.CreateFromYMD (iYear + iNumYears, iMonth, iDay);
@@ -244,26 +244,14 @@ public class JulianDate implements java.lang.Comparable<JulianDate> {
 	public JulianDate addMonths (
 		final int iNumMonths)
 	{
-		int iJA = (int) (_dblJulian + org.drip.analytics.date.DateUtil.HALFSECOND / 86400.);
-
-		if (iJA >= org.drip.analytics.date.DateUtil.JGREG) {
-			int iJAlpha = (int) (((iJA - 1867216) - 0.25) / 36524.25);
-			iJA = iJA + 1 + iJAlpha - iJAlpha / 4;
-		}
-
-		int iJB = iJA + 1524;
-		int iJC = (int) (6680.0 + ((iJB - 2439870) - 122.1) / 365.25);
-		int iJD = 365 * iJC + iJC / 4;
-		int iJE = (int) ((iJB - iJD) / 30.6001);
-   		int iDay = iJB - iJD - (int) (30.6001 * iJE);
-   		int iMonth = iJE - 1;
-		int iYear = iJC - 4715;
+		int iYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDDFromJulianDay ((int) (_dblJulian +
+			org.drip.analytics.date.DateUtil.HALFSECOND / 86400.));
 
-		if (iMonth > 12) iMonth -= 12;
+		int iDay = org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iYYYYMMDD);
 
-		if (iMonth > 2) --iYear;
+		int iMonth = org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iYYYYMMDD);
 
-		if (iYear <= 0) --iYear;
+		int iYear = org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iYYYYMMDD);
 
 		if (12 < (iMonth += iNumMonths)) {
 			while (12 < iMonth) {
@@ -300,26 +288,14 @@ public class JulianDate implements java.lang.Comparable<JulianDate> {
 	public JulianDate firstIMMDate (
 		final int iNumRollMonths)
 	{
-		int iJA = (int) (_dblJulian + org.drip.analytics.date.DateUtil.HALFSECOND / 86400.);
+		int iYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDDFromJulianDay ((int) (_dblJulian +
+			org.drip.analytics.date.DateUtil.HALFSECOND / 86400.));
 
-		if (iJA >= org.drip.analytics.date.DateUtil.JGREG) {
-			int iJAlpha = (int) (((iJA - 1867216) - 0.25) / 36524.25);
-			iJA = iJA + 1 + iJAlpha - iJAlpha / 4;
-		}
-
-		int iJB = iJA + 1524;
-		int iJC = (int) (6680. + ((iJB - 2439870) - 122.1) / 365.25);
-		int iJD = 365 * iJC + iJC / 4;
-		int iJE = (int) ((iJB - iJD) / 30.6001);
-   		int iDay = iJB - iJD - (int) (30.6001 * iJE);
-   		int iMonth = iJE - 1;
-		int iYear = iJC - 4715;
-
-		if (iMonth > 12) iMonth -= 12;
+		int iDay = org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iYYYYMMDD);
 
-		if (iMonth > 2) --iYear;
+		int iMonth = org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iYYYYMMDD);
 
-		if (iYear <= 0) --iYear;
+		int iYear = org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iYYYYMMDD);
 
 		if (15 <= iDay) {
 			if (12 < ++iMonth) {
@@ -350,26 +326,14 @@ public class JulianDate implements java.lang.Comparable<JulianDate> {
 	public JulianDate firstCreditIMMDate (
 		final int iNumRollMonths)
 	{
-		int iJA = (int) (_dblJulian + org.drip.analytics.date.DateUtil.HALFSECOND / 86400.);
-
-		if (iJA >= org.drip.analytics.date.DateUtil.JGREG) {
-			int iJAlpha = (int) (((iJA - 1867216) - 0.25) / 36524.25);
-			iJA = iJA + 1 + iJAlpha - iJAlpha / 4;
-		}
-
-		int iJB = iJA + 1524;
-		int iJC = (int) (6680. + ((iJB - 2439870) - 122.1) / 365.25);
-		int iJD = 365 * iJC + iJC / 4;
-		int iJE = (int) ((iJB - iJD) / 30.6001);
-   		int iDay = iJB - iJD - (int) (30.6001 * iJE);
-   		int iMonth = iJE - 1;
-		int iYear = iJC - 4715;
+		int iYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDDFromJulianDay ((int) (_dblJulian +
+			org.drip.analytics.date.DateUtil.HALFSECOND / 86400.));
 
-		if (iMonth > 12) iMonth -= 12;
+		int iDay = org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iYYYYMMDD);
 
-		if (iMonth > 2) --iYear;
+		int iMonth = org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iYYYYMMDD);
 
-		if (iYear <= 0) --iYear;
+		int iYear = org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iYYYYMMDD);
 
 		if (15 <= iDay) {
 			if (12 < ++iMonth) {
@@ -556,15 +520,11 @@ public class JulianDate implements java.lang.Comparable<JulianDate> {
 
 	public java.lang.String toOracleDate()
 	{
-		try {
-			return DateUtil.Day (_dblJulian) + "-" + org.drip.analytics.date.DateUtil.MonthOracleChar
-				(org.drip.analytics.date.DateUtil.Month (_dblJulian)) + "-" +
-					org.drip.analytics.date.DateUtil.Year (_dblJulian);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
-		}
+		int iYYYYMMDD = yyyymmdd();
 
-		return null;
+		return org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iYYYYMMDD) + "-" +
+			org.drip.analytics.date.DateUtil.MonthOracleChar (org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD
+				(iYYYYMMDD)) + "-" + org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iYYYYMMDD);
 	}
 
 	/**
@@ -580,11 +540,13 @@ public class JulianDate implements java.lang.Comparable<JulianDate> {
 	{
 		java.lang.String strDelim = null == strDelimIn ? "" : strDelimIn;
 
+		int iYYYYMMDD = yyyymmdd();
+
 		try {
-			return org.drip.quant.common.FormatUtil.FormatDouble (DateUtil.Year (_dblJulian), 4, 0, 1.) +
-				strDelim + org.drip.quant.common.FormatUtil.FormatDouble
-					(org.drip.analytics.date.DateUtil.Month (_dblJulian), 2, 0, 1.) + strDelim +
-						org.drip.quant.common.FormatUtil.FormatDouble (DateUtil.Day (_dblJulian), 2, 0, 1.);
+			return org.drip.quant.common.FormatUtil.FormatDouble (DateUtil.YearFromYYYYMMDD (iYYYYMMDD), 4, 0,
+				1.) + strDelim + org.drip.quant.common.FormatUtil.FormatDouble (DateUtil.MonthFromYYYYMMDD
+					(iYYYYMMDD), 2, 0, 1.) + strDelim + org.drip.quant.common.FormatUtil.FormatDouble
+						(DateUtil.DayFromYYYYMMDD (iYYYYMMDD), 2, 0, 1.);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
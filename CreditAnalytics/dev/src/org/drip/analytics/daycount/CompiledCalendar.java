@@ -0,0 +1,340 @@
+
+package org.drip.analytics.daycount;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CompiledCalendar is the dense, pre-computed form of a Holiday Calendar Set. The weekend and the week day
+ * 	holidays of all the Locales in the Set are evaluated once over a Range of Years and stored as one Bit
+ * 	per Day, so that:
+ *  - Holiday Check is a single Bit Lookup.
+ *  - Business/Holiday Day Counts are Pop-counts over the Bit Words.
+ *  - Following/Preceding Business Day Rolls are Next/Previous Clear Bit Scans.
+ *
+ * The Holiday Flags are identical to those generated by the Rule-based Locale Evaluation in Convention.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CompiledCalendar {
+	private int _iLastDate = -1;
+	private int _iFirstDate = -1;
+	private long[] _alHoliday = null;
+
+	private void setHoliday (
+		final int iDate)
+	{
+		int iOffset = iDate - _iFirstDate;
+
+		_alHoliday[iOffset >> 6] |= (1L << (iOffset & 63));
+	}
+
+	private int countHolidays (
+		final int iBeginOffset,
+		final int iEndOffset)
+	{
+		if (iBeginOffset > iEndOffset) return 0;
+
+		int iBeginWord = iBeginOffset >> 6;
+		int iEndWord = iEndOffset >> 6;
+		long lBeginMask = -1L << (iBeginOffset & 63);
+		long lEndMask = -1L >>> (63 - (iEndOffset & 63));
+
+		if (iBeginWord == iEndWord)
+			return java.lang.Long.bitCount (_alHoliday[iBeginWord] & lBeginMask & lEndMask);
+
+		int iNumHoliday = java.lang.Long.bitCount (_alHoliday[iBeginWord] & lBeginMask) +
+			java.lang.Long.bitCount (_alHoliday[iEndWord] & lEndMask);
+
+		for (int i = iBeginWord + 1; i < iEndWord; ++i)
+			iNumHoliday += java.lang.Long.bitCount (_alHoliday[i]);
+
+		return iNumHoliday;
+	}
+
+	/**
+	 * Compile the Holiday Calendar from the Locales over the specified Range of Years
+	 *
+	 * @param aLocale Array of the Locales in the Calendar Set
+	 * @param iStartYear The First Year of the Range
+	 * @param iEndYear The Last Year of the Range
+	 *
+	 * @return The CompiledCalendar Instance
+	 */
+
+	public static final CompiledCalendar Create (
+		final org.drip.analytics.eventday.Locale[] aLocale,
+		final int iStartYear,
+		final int iEndYear)
+	{
+		try {
+			return new CompiledCalendar (aLocale, iStartYear, iEndYear);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * CompiledCalendar Constructor
+	 *
+	 * @param aLocale Array of the Locales in the Calendar Set
+	 * @param iStartYear The First Year of the Range
+	 * @param iEndYear The Last Year of the Range
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CompiledCalendar (
+		final org.drip.analytics.eventday.Locale[] aLocale,
+		final int iStartYear,
+		final int iEndYear)
+		throws java.lang.Exception
+	{
+		if (null == aLocale || 0 >= iStartYear || iStartYear > iEndYear)
+			throw new java.lang.Exception ("CompiledCalendar ctr: Invalid Inputs");
+
+		_iFirstDate = (int) org.drip.analytics.date.DateUtil.ToJulian (iStartYear,
+			org.drip.analytics.date.DateUtil.JANUARY, 1);
+
+		_iLastDate = (int) org.drip.analytics.date.DateUtil.ToJulian (iEndYear,
+			org.drip.analytics.date.DateUtil.DECEMBER, 31);
+
+		_alHoliday = new long[((_iLastDate - _iFirstDate) >> 6) + 1];
+
+		for (org.drip.analytics.eventday.Locale locale : aLocale) {
+			if (null == locale) continue;
+
+			org.drip.analytics.eventday.Weekend wkend = locale.weekendDays();
+
+			if (null != wkend) {
+				for (int iDate = _iFirstDate; iDate <= _iLastDate; ++iDate) {
+					if (wkend.isWeekend (iDate)) setHoliday (iDate);
+				}
+			}
+
+			java.util.Set<org.drip.analytics.eventday.Base> setHoliday = locale.holidays();
+
+			if (null == setHoliday) continue;
+
+			for (org.drip.analytics.eventday.Base hol : setHoliday) {
+				if (null == hol) continue;
+
+				for (int iYear = iStartYear; iYear <= iEndYear; ++iYear) {
+					try {
+						int iHoliday = (int) hol.dateInYear (iYear, true);
+
+						/*
+						 * The Rule-based Check only matches a Holiday against the Dates of its own Year.
+						 */
+
+						if (iHoliday >= _iFirstDate && iHoliday <= _iLastDate && iYear ==
+							org.drip.analytics.date.DateUtil.Year (iHoliday))
+							setHoliday (iHoliday);
+					} catch (java.lang.Exception e) {
+						e.printStackTrace();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the First Date covered by the Compiled Calendar
+	 *
+	 * @return The First Date covered by the Compiled Calendar
+	 */
+
+	public int firstDate()
+	{
+		return _iFirstDate;
+	}
+
+	/**
+	 * Retrieve the Last Date covered by the Compiled Calendar
+	 *
+	 * @return The Last Date covered by the Compiled Calendar
+	 */
+
+	public int lastDate()
+	{
+		return _iLastDate;
+	}
+
+	/**
+	 * Indicate if the Date is an Integral Day within the Compiled Range
+	 *
+	 * @param dblDate The Date
+	 *
+	 * @return TRUE => The Date is covered by the Compiled Calendar
+	 */
+
+	public boolean covers (
+		final double dblDate)
+	{
+		return dblDate >= _iFirstDate && dblDate <= _iLastDate && dblDate == (int) dblDate;
+	}
+
+	/**
+	 * Indicate if the Date is a Holiday. The Date is expected to be covered.
+	 *
+	 * @param iDate The Date
+	 *
+	 * @return TRUE => The Date is a Holiday
+	 */
+
+	public boolean isHoliday (
+		final int iDate)
+	{
+		int iOffset = iDate - _iFirstDate;
+
+		return 0 != (_alHoliday[iOffset >> 6] & (1L << (iOffset & 63)));
+	}
+
+	/**
+	 * Count the Holidays in the Date Range [iBegin, iEnd). Both the Dates are expected to be covered.
+	 *
+	 * @param iBegin The Begin Date (Inclusive)
+	 * @param iEnd The End Date (Exclusive)
+	 *
+	 * @return The Number of Holidays
+	 */
+
+	public int holidays (
+		final int iBegin,
+		final int iEnd)
+	{
+		return countHolidays (iBegin - _iFirstDate, iEnd - _iFirstDate - 1);
+	}
+
+	/**
+	 * Count the Business Days in the Date Range (iStart, iFinish]. Both the Dates are expected to be covered.
+	 *
+	 * @param iStart The Start Date (Exclusive)
+	 * @param iFinish The Finish Date (Inclusive)
+	 *
+	 * @return The Number of Business Days
+	 */
+
+	public int businessDays (
+		final int iStart,
+		final int iFinish)
+	{
+		if (iStart >= iFinish) return 0;
+
+		return iFinish - iStart - countHolidays (iStart + 1 - _iFirstDate, iFinish - _iFirstDate);
+	}
+
+	/**
+	 * Retrieve the First Business Day on or after the specified Date. The Date is expected to be covered.
+	 *
+	 * @param iDate The Date
+	 *
+	 * @return The First Business Day on or after the Date, or one past the Last Covered Date if none exists
+	 */
+
+	public int nextBusinessDay (
+		final int iDate)
+	{
+		int iOffset = iDate - _iFirstDate;
+		int iWord = iOffset >> 6;
+
+		long lBusinessDay = ~_alHoliday[iWord] & (-1L << (iOffset & 63));
+
+		while (0L == lBusinessDay) {
+			if (++iWord == _alHoliday.length) return _iLastDate + 1;
+
+			lBusinessDay = ~_alHoliday[iWord];
+		}
+
+		int iNextDate = _iFirstDate + (iWord << 6) + java.lang.Long.numberOfTrailingZeros (lBusinessDay);
+
+		return iNextDate > _iLastDate ? _iLastDate + 1 : iNextDate;
+	}
+
+	/**
+	 * Retrieve the Last Business Day on or before the specified Date. The Date is expected to be covered.
+	 *
+	 * @param iDate The Date
+	 *
+	 * @return The Last Business Day on or before the Date, or one before the First Covered Date if none
+	 * 	exists
+	 */
+
+	public int previousBusinessDay (
+		final int iDate)
+	{
+		int iOffset = iDate - _iFirstDate;
+		int iWord = iOffset >> 6;
+
+		long lBusinessDay = ~_alHoliday[iWord] & (-1L >>> (63 - (iOffset & 63)));
+
+		while (0L == lBusinessDay) {
+			if (--iWord < 0) return _iFirstDate - 1;
+
+			lBusinessDay = ~_alHoliday[iWord];
+		}
+
+		return _iFirstDate + (iWord << 6) + 63 - java.lang.Long.numberOfLeadingZeros (lBusinessDay);
+	}
+
+	/**
+	 * Retrieve the Holidays in the Date Range [iBegin, iEnd). Both the Dates are expected to be covered.
+	 *
+	 * @param iBegin The Begin Date (Inclusive)
+	 * @param iEnd The End Date (Exclusive)
+	 *
+	 * @return List of the Holidays
+	 */
+
+	public java.util.List<java.lang.Double> holidaySet (
+		final int iBegin,
+		final int iEnd)
+	{
+		java.util.List<java.lang.Double> lsHoliday = new java.util.ArrayList<java.lang.Double>();
+
+		for (int iDate = iBegin; iDate < iEnd; ++iDate) {
+			int iOffset = iDate - _iFirstDate;
+			long lWord = _alHoliday[iOffset >> 6] >>> (iOffset & 63);
+
+			if (0L == lWord) {
+				iDate += 63 - (iOffset & 63);
+				continue;
+			}
+
+			int iSkip = java.lang.Long.numberOfTrailingZeros (lWord);
+
+			if (iDate + iSkip >= iEnd) break;
+
+			lsHoliday.add ((double) (iDate += iSkip));
+		}
+
+		return lsHoliday;
+	}
+}
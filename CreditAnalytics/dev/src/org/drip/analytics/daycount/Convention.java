@@ -101,20 +101,34 @@ public class Convention {
 	private static final int INIT_FROM_HOLS_SOURCE = 4;
 
 	private static int s_iInitHols = INIT_FROM_HOLS_SOURCE;
+	private static int s_iCompiledCalendarEndYear = 2100;
+	private static int s_iCompiledCalendarStartYear = 1970;
 	private static org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.eventday.Locale>
 		s_mapLocHols = null;
+	private static org.drip.feed.snapshot.HolidaySnapshot s_hsHolidays = null;
+
+	private static java.util.Map<java.lang.String, org.drip.analytics.daycount.CompiledCalendar>
+		s_mapCompiledCalendar = new java.util.concurrent.ConcurrentHashMap<java.lang.String,
+			org.drip.analytics.daycount.CompiledCalendar>();
 
 	private static
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.daycount.DCFCalculator>
 			s_mapDCCalc = new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.daycount.DCFCalculator>();
 
+	private static java.util.Map<java.lang.String, org.drip.analytics.daycount.DCFCalculator>
+		s_mapDCCalcExactName = new java.util.HashMap<java.lang.String,
+			org.drip.analytics.daycount.DCFCalculator>();
+
 	private static final boolean UpdateDCCalcMap (
 		final org.drip.analytics.daycount.DCFCalculator dcfCalc)
 	{
-		for (java.lang.String strDC : dcfCalc.alternateNames())
+		for (java.lang.String strDC : dcfCalc.alternateNames()) {
 			s_mapDCCalc.put (strDC, dcfCalc);
 
+			s_mapDCCalcExactName.put (strDC, dcfCalc);
+		}
+
 		return true;
 	}
 
@@ -439,8 +453,8 @@ public class Convention {
 		java.lang.String[] astrCalendars = strCalendarSet.split (",");
 
 		for (java.lang.String strCalendar : astrCalendars) {
-			if (null != strCalendar && null != s_mapLocHols.get (strCalendar)) {
-				org.drip.analytics.eventday.Locale lh = s_mapLocHols.get (strCalendar);
+			if (null != strCalendar) {
+				org.drip.analytics.eventday.Locale lh = CalendarLocale (strCalendar);
 
 				if (null == lh) continue;
 
@@ -465,6 +479,85 @@ public class Convention {
 		return false;
 	}
 
+	private static final org.drip.analytics.daycount.CompiledCalendar CompiledCalendarSet (
+		final java.lang.String strCalendarSet)
+	{
+		org.drip.analytics.daycount.CompiledCalendar cc = s_mapCompiledCalendar.get (strCalendarSet);
+
+		if (null != cc || null == s_mapLocHols) return cc;
+
+		java.lang.String[] astrCalendars = strCalendarSet.split (",");
+
+		int iNumCalendar = astrCalendars.length;
+		org.drip.analytics.eventday.Locale[] aLocale = new
+			org.drip.analytics.eventday.Locale[iNumCalendar];
+
+		for (int i = 0; i < iNumCalendar; ++i)
+			aLocale[i] = null == astrCalendars[i] ? null : CalendarLocale (astrCalendars[i]);
+
+		if (null == (cc = org.drip.analytics.daycount.CompiledCalendar.Create (aLocale,
+			s_iCompiledCalendarStartYear, s_iCompiledCalendarEndYear)))
+			return null;
+
+		s_mapCompiledCalendar.put (strCalendarSet, cc);
+
+		return cc;
+	}
+
+	private static final java.lang.String EffectiveCalendarSet (
+		final java.lang.String strCalendar)
+	{
+		return null == strCalendar || strCalendar.isEmpty() ? "USD" : strCalendar;
+	}
+
+	private static final double RollForward (
+		final double dblDate,
+		final java.lang.String strCalendarSet)
+		throws java.lang.Exception
+	{
+		double dblRolledDate = dblDate;
+
+		org.drip.analytics.daycount.CompiledCalendar cc = CompiledCalendarSet (EffectiveCalendarSet
+			(strCalendarSet));
+
+		if (null != cc && cc.covers (dblDate)) {
+			if (cc.covers (dblRolledDate = cc.nextBusinessDay ((int) dblDate))) return dblRolledDate;
+		}
+
+		while (IsHoliday (dblRolledDate, strCalendarSet))
+			++dblRolledDate;
+
+		return dblRolledDate;
+	}
+
+	private static final double RollBackward (
+		final double dblDate,
+		final java.lang.String strCalendarSet)
+		throws java.lang.Exception
+	{
+		double dblRolledDate = dblDate;
+
+		org.drip.analytics.daycount.CompiledCalendar cc = CompiledCalendarSet (EffectiveCalendarSet
+			(strCalendarSet));
+
+		if (null != cc && cc.covers (dblDate)) {
+			if (cc.covers (dblRolledDate = cc.previousBusinessDay ((int) dblDate))) return dblRolledDate;
+		}
+
+		while (IsHoliday (dblRolledDate, strCalendarSet))
+			--dblRolledDate;
+
+		return dblRolledDate;
+	}
+
+	private static final org.drip.analytics.daycount.DCFCalculator DCCalc (
+		final java.lang.String strDayCount)
+	{
+		org.drip.analytics.daycount.DCFCalculator dcfCalc = s_mapDCCalcExactName.get (strDayCount);
+
+		return null != dcfCalc ? dcfCalc : s_mapDCCalc.get (strDayCount);
+	}
+
 	/**
 	 * Initialize the day count basis object from the calendar set
 	 * 
@@ -478,6 +571,10 @@ public class Convention {
 	{
 		if (!SetDCCalc()) return false;
 
+		s_hsHolidays = null;
+
+		s_mapCompiledCalendar.clear();
+
 		if (INIT_FROM_HOLS_SOURCE == s_iInitHols) {
 			if (null == (s_mapLocHols = SetHolsFromSource())) return false;
 
@@ -502,6 +599,60 @@ public class Convention {
 		return false;
 	}
 
+	/**
+	 * Initialize the day count basis object, with the holiday calendars served lazily out of the holiday
+	 * 	snapshot - a location is decoded only the first time it is referenced.
+	 * 
+	 * @param strHolidaySnapshot The holiday snapshot file
+	 * 
+	 * @return Success (true) Failure (false)
+	 */
+
+	public static final boolean InitFromSnapshot (
+		final java.lang.String strHolidaySnapshot)
+	{
+		if (!SetDCCalc()) return false;
+
+		try {
+			s_hsHolidays = new org.drip.feed.snapshot.HolidaySnapshot (strHolidaySnapshot);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		s_mapLocHols = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.eventday.Locale>();
+
+		s_mapCompiledCalendar.clear();
+
+		return true;
+	}
+
+	/**
+	 * Set the range of years over which the calendar sets are compiled into the dense holiday form. Dates
+	 * 	outside of the range are evaluated using the holiday rules.
+	 * 
+	 * @param iStartYear The first year of the range
+	 * @param iEndYear The last year of the range
+	 * 
+	 * @return Success (true) Failure (false)
+	 */
+
+	public static final boolean SetCompiledCalendarYearRange (
+		final int iStartYear,
+		final int iEndYear)
+	{
+		if (0 >= iStartYear || iStartYear > iEndYear) return false;
+
+		s_iCompiledCalendarStartYear = iStartYear;
+		s_iCompiledCalendarEndYear = iEndYear;
+
+		s_mapCompiledCalendar.clear();
+
+		return true;
+	}
+
 	/**
 	 * Retrieve the set of holiday locations
 	 * 
@@ -510,7 +661,32 @@ public class Convention {
 
 	public static final java.util.Set<java.lang.String> HolidayLocations()
 	{
-		return s_mapLocHols.keySet();
+		if (null == s_hsHolidays) return s_mapLocHols.keySet();
+
+		java.util.Set<java.lang.String> setstrLocation = new java.util.TreeSet<java.lang.String>
+			(s_mapLocHols.keySet());
+
+		setstrLocation.addAll (s_hsHolidays.locations());
+
+		return setstrLocation;
+	}
+
+	/**
+	 * Retrieve the holidays and the weekend of the given location
+	 * 
+	 * @param strCalendar The location calendar
+	 * 
+	 * @return The location holidays and weekend
+	 */
+
+	public static final org.drip.analytics.eventday.Locale CalendarLocale (
+		final java.lang.String strCalendar)
+	{
+		if (null == strCalendar || null == s_mapLocHols) return null;
+
+		org.drip.analytics.eventday.Locale lh = s_mapLocHols.get (strCalendar);
+
+		return null != lh || null == s_hsHolidays ? lh : s_hsHolidays.locale (strCalendar);
 	}
 
 	/**
@@ -531,8 +707,8 @@ public class Convention {
 		java.util.Set<java.lang.Integer> si = new java.util.HashSet<java.lang.Integer>();
 
 		for (java.lang.String strCalendar : astrCalendars) {
-			if (null != strCalendar && null != s_mapLocHols.get (strCalendar)) {
-				org.drip.analytics.eventday.Locale lh = s_mapLocHols.get (strCalendar);
+			if (null != strCalendar) {
+				org.drip.analytics.eventday.Locale lh = CalendarLocale (strCalendar);
 
 				if (null == lh || null == lh.weekendDays() || null == lh.weekendDays().days()) continue;
 
@@ -596,7 +772,7 @@ public class Convention {
 			"BUS/252".equalsIgnoreCase (strDayCount))
 			return BusinessDays (dblStart, dblEnd, strCalendar) / 252.;
 
-		org.drip.analytics.daycount.DCFCalculator dfcCalc = s_mapDCCalc.get (strDayCount);
+		org.drip.analytics.daycount.DCFCalculator dfcCalc = DCCalc (strDayCount);
 
 		if (null != dfcCalc)
 			return dfcCalc.yearFraction (dblStart, dblEnd, bApplyEOMAdj, actactParams, strCalendar);
@@ -636,7 +812,7 @@ public class Convention {
 			"BUS/252".equalsIgnoreCase (strDayCount))
 			return BusinessDays (dblStart, dblEnd, strCalendar);
 
-		org.drip.analytics.daycount.DCFCalculator dfcCalc = s_mapDCCalc.get (strDayCount);
+		org.drip.analytics.daycount.DCFCalculator dfcCalc = DCCalc (strDayCount);
 
 		if (null != dfcCalc)
 			return dfcCalc.daysAccrued (dblStart, dblEnd, bApplyEOMAdj, actactParams, strCalendar);
@@ -674,25 +850,19 @@ public class Convention {
 
 		while (0 != iNumDaysToRoll) {
 			if (DATE_ROLL_FOLLOWING == iRollMode || DATE_ROLL_MODIFIED_FOLLOWING == iRollMode ||
-				DATE_ROLL_MODIFIED_FOLLOWING_BIMONTHLY == iRollMode) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					++dblRolledDate;
-			}
+				DATE_ROLL_MODIFIED_FOLLOWING_BIMONTHLY == iRollMode)
+				dblRolledDate = RollForward (dblRolledDate, strCalendarSet);
 
-			if (DATE_ROLL_PREVIOUS == iRollMode || DATE_ROLL_MODIFIED_PREVIOUS == iRollMode) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					--dblRolledDate;
-			}
+			if (DATE_ROLL_PREVIOUS == iRollMode || DATE_ROLL_MODIFIED_PREVIOUS == iRollMode)
+				dblRolledDate = RollBackward (dblRolledDate, strCalendarSet);
 
 			--iNumDaysToRoll;
 		}
 
 		if (DATE_ROLL_MODIFIED_FOLLOWING == iRollMode) {
 			if (org.drip.analytics.date.DateUtil.Month (dblDate) != org.drip.analytics.date.DateUtil.Month
-				(dblRolledDate)) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					--dblRolledDate;
-			}
+				(dblRolledDate))
+				dblRolledDate = RollBackward (dblRolledDate, strCalendarSet);
 		}
 
 		if (DATE_ROLL_MODIFIED_FOLLOWING_BIMONTHLY == iRollMode) {
@@ -700,18 +870,14 @@ public class Convention {
 
 			int iRolledDay = org.drip.analytics.date.DateUtil.Day (dblRolledDate);
 
-			if ((15 < iOriginalDay && 15 > iRolledDay) || (15 > iOriginalDay && 15 < iRolledDay)) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					--dblRolledDate;
-			}
+			if ((15 < iOriginalDay && 15 > iRolledDay) || (15 > iOriginalDay && 15 < iRolledDay))
+				dblRolledDate = RollBackward (dblRolledDate, strCalendarSet);
 		}
 
 		if (DATE_ROLL_MODIFIED_PREVIOUS == iRollMode) {
 			if (org.drip.analytics.date.DateUtil.Month (dblDate) != org.drip.analytics.date.DateUtil.Month
-				(dblRolledDate)) {
-				while (IsHoliday (dblRolledDate, strCalendarSet))
-					++dblRolledDate;
-			}
+				(dblRolledDate))
+				dblRolledDate = RollForward (dblRolledDate, strCalendarSet);
 		}
 
 		return dblRolledDate;
@@ -738,8 +904,15 @@ public class Convention {
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
 			throw new java.lang.Exception ("Convention::IsHoliday => Cannot a NaN date for holiday!");
 
-		return LocationHoliday ((null == strCalendar || strCalendar.isEmpty() || "".equalsIgnoreCase
-			(strCalendar)) ? "USD" : strCalendar, dblDate, iHolType);
+		java.lang.String strCalendarSet = EffectiveCalendarSet (strCalendar);
+
+		if ((WEEKDAY_HOLS | WEEKEND_HOLS) == iHolType) {
+			org.drip.analytics.daycount.CompiledCalendar cc = CompiledCalendarSet (strCalendarSet);
+
+			if (null != cc && cc.covers (dblDate)) return cc.isHoliday ((int) dblDate);
+		}
+
+		return LocationHoliday (strCalendarSet, dblDate, iHolType);
 	}
 
 	/**
@@ -785,6 +958,12 @@ public class Convention {
 
 		if (dblStart == dblFinish) return 0;
 
+		org.drip.analytics.daycount.CompiledCalendar cc = CompiledCalendarSet (EffectiveCalendarSet
+			(strCalendar));
+
+		if (null != cc && cc.covers (dblStart) && cc.covers (dblFinish))
+			return cc.businessDays ((int) dblStart, (int) dblFinish);
+
 		int iNumBusDays = 0;
 		double dblDate = dblStart + 1;
 
@@ -818,8 +997,6 @@ public class Convention {
 			(dblFinish))
 			return null;
 
-		java.util.List<java.lang.Double> lsHolidays = new java.util.ArrayList<java.lang.Double>();
-
 		double dblEnd = dblFinish;
 		double dblBegin = dblStart;
 
@@ -828,6 +1005,14 @@ public class Convention {
 			dblBegin = dblFinish;
 		}
 
+		org.drip.analytics.daycount.CompiledCalendar cc = CompiledCalendarSet (EffectiveCalendarSet
+			(strCalendar));
+
+		if (null != cc && cc.covers (dblBegin) && cc.covers (dblEnd))
+			return cc.holidaySet ((int) dblBegin, (int) dblEnd);
+
+		java.util.List<java.lang.Double> lsHolidays = new java.util.ArrayList<java.lang.Double>();
+
 		while (dblBegin != dblEnd) {
 			try {
 				if (IsHoliday (dblBegin++, strCalendar)) lsHolidays.add (dblBegin - 1);
@@ -870,6 +1055,12 @@ public class Convention {
 			dblBegin = dblFinish;
 		}
 
+		org.drip.analytics.daycount.CompiledCalendar cc = CompiledCalendarSet (EffectiveCalendarSet
+			(strCalendar));
+
+		if (null != cc && cc.covers (dblBegin) && cc.covers (dblEnd))
+			return cc.holidays ((int) dblBegin, (int) dblEnd);
+
 		while (dblBegin != dblEnd) {
 			if (IsHoliday (dblBegin++, strCalendar)) ++iNumHolidays;
 		}
@@ -898,11 +1089,7 @@ public class Convention {
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
 			throw new java.lang.Exception ("Convention::Adjust => Cannot adjust a NaN date!");
 
-		double dblDateAdjusted = dblDate;
-
-		while (IsHoliday (dblDateAdjusted, strCalendar)) ++dblDateAdjusted;
-
-		return dblDateAdjusted;
+		return RollForward (dblDate, strCalendar);
 	}
 
 	/**
@@ -934,7 +1121,7 @@ public class Convention {
 
 		double dblDate = org.drip.analytics.date.DateUtil.CreateFromYMD (2011, 5, 5).julian();
 
-		org.drip.analytics.eventday.Locale lh = s_mapLocHols.get ("HKD");
+		org.drip.analytics.eventday.Locale lh = CalendarLocale ("HKD");
 
 		System.out.println (lh.weekendDays());
 
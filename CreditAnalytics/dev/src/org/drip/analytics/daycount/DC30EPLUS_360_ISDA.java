@@ -70,11 +70,17 @@ public class DC30EPLUS_360_ISDA implements org.drip.analytics.daycount.DCFCalcul
 		if (null == dm)
 			throw new java.lang.Exception ("DC30EPLUS_360.yearFraction: Cannot create DateEOMAdjustment!");
 
-		return (360. * (org.drip.analytics.date.DateUtil.Year (dblEnd) -
-			org.drip.analytics.date.DateUtil.Year (dblStart)) + 30. * (org.drip.analytics.date.DateUtil.Month
-				(dblEnd) - org.drip.analytics.date.DateUtil.Month (dblStart)) +
-					(org.drip.analytics.date.DateUtil.Day (dblEnd) - org.drip.analytics.date.DateUtil.Day
-						(dblStart)) + dm.posterior() - dm.anterior()) / 360.;
+		int iEndYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblEnd);
+
+		int iStartYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblStart);
+
+		return (360. * (org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iEndYYYYMMDD) -
+			org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iStartYYYYMMDD)) + 30. *
+				(org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iEndYYYYMMDD) -
+					org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iStartYYYYMMDD)) +
+						(org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iEndYYYYMMDD) -
+							org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iStartYYYYMMDD)) +
+								dm.posterior() - dm.anterior()) / 360.;
 	}
 
 	@Override public int daysAccrued (
@@ -90,10 +96,16 @@ public class DC30EPLUS_360_ISDA implements org.drip.analytics.daycount.DCFCalcul
 		if (null == dm)
 			throw new java.lang.Exception ("DC30EPLUS_360.daysAccrued: Cannot create DateEOMAdjustment!");
 
-		return 360 * (org.drip.analytics.date.DateUtil.Year (dblEnd) - org.drip.analytics.date.DateUtil.Year
-			(dblStart)) + 30 * (org.drip.analytics.date.DateUtil.Month (dblEnd) -
-				org.drip.analytics.date.DateUtil.Month (dblStart)) + (org.drip.analytics.date.DateUtil.Day
-					(dblEnd) - org.drip.analytics.date.DateUtil.Day (dblStart)) + dm.posterior() -
-						dm.anterior();
+		int iEndYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblEnd);
+
+		int iStartYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblStart);
+
+		return 360 * (org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iEndYYYYMMDD) -
+			org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iStartYYYYMMDD)) + 30 *
+				(org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iEndYYYYMMDD) -
+					org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iStartYYYYMMDD)) +
+						(org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iEndYYYYMMDD) -
+							org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iStartYYYYMMDD)) +
+								dm.posterior() - dm.anterior();
 	}
 }
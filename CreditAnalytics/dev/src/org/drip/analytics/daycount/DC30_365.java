@@ -71,11 +71,17 @@ public class DC30_365 implements org.drip.analytics.daycount.DCFCalculator {
 		if (null == dm)
 			throw new java.lang.Exception ("DC30_365.yearFraction: Cannot create DateEOMAdjustment!");
 
-		return (365.* (org.drip.analytics.date.DateUtil.Year (dblEnd) - org.drip.analytics.date.DateUtil.Year
-			(dblStart)) + 30. * (org.drip.analytics.date.DateUtil.Month (dblEnd) -
-				org.drip.analytics.date.DateUtil.Month (dblStart) + dm.posterior() - dm.anterior()) +
-					(org.drip.analytics.date.DateUtil.Day (dblEnd) - org.drip.analytics.date.DateUtil.Day
-						(dblStart))) / 365.;
+		int iEndYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblEnd);
+
+		int iStartYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblStart);
+
+		return (365.* (org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iEndYYYYMMDD) -
+			org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iStartYYYYMMDD)) + 30. *
+				(org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iEndYYYYMMDD) -
+					org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iStartYYYYMMDD) + dm.posterior()
+						- dm.anterior()) + (org.drip.analytics.date.DateUtil.DayFromYYYYMMDD
+							(iEndYYYYMMDD) - org.drip.analytics.date.DateUtil.DayFromYYYYMMDD
+								(iStartYYYYMMDD))) / 365.;
 	}
 
 	@Override public int daysAccrued (
@@ -91,10 +97,16 @@ public class DC30_365 implements org.drip.analytics.daycount.DCFCalculator {
 		if (null == dm)
 			throw new java.lang.Exception ("DC30_365.daysAccrued: Cannot create DateEOMAdjustment!");
 
-		return 365 * (org.drip.analytics.date.DateUtil.Year (dblEnd) - org.drip.analytics.date.DateUtil.Year
-			(dblStart)) + 30 * (org.drip.analytics.date.DateUtil.Month (dblEnd) -
-				org.drip.analytics.date.DateUtil.Month (dblStart) + dm.posterior() - dm.anterior()) +
-					(org.drip.analytics.date.DateUtil.Day (dblEnd) - org.drip.analytics.date.DateUtil.Day
-						(dblStart));
+		int iEndYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblEnd);
+
+		int iStartYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblStart);
+
+		return 365 * (org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iEndYYYYMMDD) -
+			org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iStartYYYYMMDD)) + 30 *
+				(org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iEndYYYYMMDD) -
+					org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iStartYYYYMMDD) + dm.posterior()
+						- dm.anterior()) + (org.drip.analytics.date.DateUtil.DayFromYYYYMMDD
+							(iEndYYYYMMDD) - org.drip.analytics.date.DateUtil.DayFromYYYYMMDD
+								(iStartYYYYMMDD));
 	}
 }
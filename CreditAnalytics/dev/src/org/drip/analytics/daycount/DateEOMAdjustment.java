@@ -43,6 +43,21 @@ public class DateEOMAdjustment {
 	private int _iD1Adj = 0;
 	private int _iD2Adj = 0;
 
+	/*
+	 * Un-adjusted Instance shared across all the calls where the EOM Adjustment is not applied
+	 */
+
+	private static final DateEOMAdjustment NO_ADJUSTMENT = new DateEOMAdjustment();
+
+	private static final boolean IsEOM (
+		final int iYYYYMMDD)
+		throws java.lang.Exception
+	{
+		return org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iYYYYMMDD) ==
+			org.drip.analytics.date.DateUtil.DaysInMonth (org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD
+				(iYYYYMMDD), org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iYYYYMMDD));
+	}
+
 	/**
 	 * Construct a DateEOMAdjustment instance for the 30/365 day count
 	 * 
@@ -58,35 +73,37 @@ public class DateEOMAdjustment {
 		final double dblEnd,
 		final boolean bApplyEOMAdj)
 	{
-		DateEOMAdjustment dm = new DateEOMAdjustment();
+		if (!bApplyEOMAdj) return NO_ADJUSTMENT;
 
-		if (!bApplyEOMAdj) return dm;
+		DateEOMAdjustment dm = new DateEOMAdjustment();
 
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblStart) || !org.drip.quant.common.NumberUtil.IsValid
 			(dblEnd))
 			return null;
 
 		try {
-			if (org.drip.analytics.date.DateUtil.FEBRUARY == org.drip.analytics.date.DateUtil.Month
-				(dblStart) && org.drip.analytics.date.DateUtil.IsEOM (dblStart) &&
-					org.drip.analytics.date.DateUtil.FEBRUARY == org.drip.analytics.date.DateUtil.Month
-						(dblEnd) && org.drip.analytics.date.DateUtil.IsEOM (dblEnd))
-				dm._iD2Adj = (28 == org.drip.analytics.date.DateUtil.DaysInMonth
-					(org.drip.analytics.date.DateUtil.Month (dblEnd),
-						org.drip.analytics.date.DateUtil.Year (dblEnd)) ? 2 : 1);
-
-			if (org.drip.analytics.date.DateUtil.FEBRUARY == org.drip.analytics.date.DateUtil.Month
-				(dblStart) && org.drip.analytics.date.DateUtil.IsEOM (dblStart))
-				dm._iD1Adj = (28 == org.drip.analytics.date.DateUtil.DaysInMonth
-					(org.drip.analytics.date.DateUtil.Month (dblStart), org.drip.analytics.date.DateUtil.Year
-						(dblStart)) ? 2 : 1);
-
-			if (31 == org.drip.analytics.date.DateUtil.Day (dblEnd) + dm._iD2Adj && (30 ==
-				org.drip.analytics.date.DateUtil.Day (dblStart) + dm._iD1Adj || 31 ==
-					org.drip.analytics.date.DateUtil.Day (dblStart) + dm._iD1Adj))
+			int iEndYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblEnd);
+
+			int iStartYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblStart);
+
+			int iEndDay = org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iEndYYYYMMDD);
+
+			int iStartDay = org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iStartYYYYMMDD);
+
+			boolean bStartFebEOM = org.drip.analytics.date.DateUtil.FEBRUARY ==
+				org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iStartYYYYMMDD) && IsEOM (iStartYYYYMMDD);
+
+			if (bStartFebEOM && org.drip.analytics.date.DateUtil.FEBRUARY ==
+				org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iEndYYYYMMDD) && IsEOM (iEndYYYYMMDD))
+				dm._iD2Adj = (28 == iEndDay ? 2 : 1);
+
+			if (bStartFebEOM) dm._iD1Adj = (28 == iStartDay ? 2 : 1);
+
+			if (31 == iEndDay + dm._iD2Adj && (30 == iStartDay + dm._iD1Adj || 31 == iStartDay +
+				dm._iD1Adj))
 				dm._iD2Adj -= 1;
 
-			if (31 == org.drip.analytics.date.DateUtil.Day (dblStart) + dm._iD1Adj) dm._iD1Adj -= 1;
+			if (31 == iStartDay + dm._iD1Adj) dm._iD1Adj -= 1;
 
 			return dm;
 		} catch (java.lang.Exception e) {
@@ -111,30 +128,31 @@ public class DateEOMAdjustment {
 		final double dblEnd,
 		final boolean bApplyEOMAdj)
 	{
-		DateEOMAdjustment dm = new DateEOMAdjustment();
+		if (!bApplyEOMAdj) return NO_ADJUSTMENT;
 
-		if (!bApplyEOMAdj) return dm;
+		DateEOMAdjustment dm = new DateEOMAdjustment();
 
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblStart) || !org.drip.quant.common.NumberUtil.IsValid
 			(dblEnd))
 			return null;
 
 		try {
-			if (31 == org.drip.analytics.date.DateUtil.Day (dblStart)) dm._iD1Adj -= 1;
-
-			if (!org.drip.analytics.date.DateUtil.IsLeapYear (dblStart)) {
-				if (org.drip.analytics.date.DateUtil.FEBRUARY == org.drip.analytics.date.DateUtil.Month
-					(dblStart) && 28 == org.drip.analytics.date.DateUtil.Day (dblStart))
-					dm._iD1Adj += 2;
-			} else {
-				if (org.drip.analytics.date.DateUtil.FEBRUARY == org.drip.analytics.date.DateUtil.Month
-					(dblStart) && 29 == org.drip.analytics.date.DateUtil.Day (dblStart))
-					dm._iD1Adj += 1;
+			int iStartYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblStart);
+
+			int iStartDay = org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iStartYYYYMMDD);
+
+			if (31 == iStartDay) dm._iD1Adj -= 1;
+
+			if (org.drip.analytics.date.DateUtil.FEBRUARY == org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD
+				(iStartYYYYMMDD)) {
+				if (0 != org.drip.analytics.date.DateUtil.YearFromYYYYMMDD (iStartYYYYMMDD) % 4) {
+					if (28 == iStartDay) dm._iD1Adj += 2;
+				} else {
+					if (29 == iStartDay) dm._iD1Adj += 1;
+				}
 			}
 
-			if (31 == org.drip.analytics.date.DateUtil.Day (dblEnd) && (30 ==
-				org.drip.analytics.date.DateUtil.Day (dblStart) || 31 ==
-					org.drip.analytics.date.DateUtil.Day (dblStart)))
+			if (31 == org.drip.analytics.date.DateUtil.Day (dblEnd) && (30 == iStartDay || 31 == iStartDay))
 				dm._iD2Adj -= 1;
 
 			return dm;
@@ -160,9 +178,9 @@ public class DateEOMAdjustment {
 		final double dblEnd,
 		final boolean bApplyEOMAdj)
 	{
-		DateEOMAdjustment dm = new DateEOMAdjustment();
+		if (!bApplyEOMAdj) return NO_ADJUSTMENT;
 
-		if (!bApplyEOMAdj) return dm;
+		DateEOMAdjustment dm = new DateEOMAdjustment();
 
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblStart) || !org.drip.quant.common.NumberUtil.IsValid
 			(dblEnd))
@@ -170,13 +188,16 @@ public class DateEOMAdjustment {
 
 		try {
 			if (bApplyEOMAdj) {
-				if (org.drip.analytics.date.DateUtil.IsEOM (dblStart))
-					dm._iD1Adj = 30 - org.drip.analytics.date.DateUtil.Day (dblStart);
+				int iEndYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblEnd);
+
+				int iStartYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblStart);
+
+				if (IsEOM (iStartYYYYMMDD))
+					dm._iD1Adj = 30 - org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iStartYYYYMMDD);
 
-				if (org.drip.analytics.date.DateUtil.IsEOM (dblEnd) &&
-					(org.drip.analytics.date.DateUtil.FEBRUARY != org.drip.analytics.date.DateUtil.Month
-						(dblEnd)))
-					dm._iD2Adj = 30 - org.drip.analytics.date.DateUtil.Day (dblEnd);
+				if (IsEOM (iEndYYYYMMDD) && (org.drip.analytics.date.DateUtil.FEBRUARY !=
+					org.drip.analytics.date.DateUtil.MonthFromYYYYMMDD (iEndYYYYMMDD)))
+					dm._iD2Adj = 30 - org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iEndYYYYMMDD);
 			}
 
 			return dm;
@@ -202,9 +223,9 @@ public class DateEOMAdjustment {
 		final double dblEnd,
 		final boolean bApplyEOMAdj)
 	{
-		DateEOMAdjustment dm = new DateEOMAdjustment();
+		if (!bApplyEOMAdj) return NO_ADJUSTMENT;
 
-		if (!bApplyEOMAdj) return dm;
+		DateEOMAdjustment dm = new DateEOMAdjustment();
 
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblStart) || !org.drip.quant.common.NumberUtil.IsValid
 			(dblEnd))
@@ -240,9 +261,9 @@ public class DateEOMAdjustment {
 		final double dblEnd,
 		final boolean bApplyEOMAdj)
 	{
-		DateEOMAdjustment dm = new DateEOMAdjustment();
+		if (!bApplyEOMAdj) return NO_ADJUSTMENT;
 
-		if (!bApplyEOMAdj) return dm;
+		DateEOMAdjustment dm = new DateEOMAdjustment();
 
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblStart) || !org.drip.quant.common.NumberUtil.IsValid
 			(dblEnd))
@@ -250,11 +271,15 @@ public class DateEOMAdjustment {
 
 		try {
 			if (bApplyEOMAdj) {
-				if (org.drip.analytics.date.DateUtil.IsEOM (dblStart))
-					dm._iD1Adj = 30 - org.drip.analytics.date.DateUtil.Day (dblStart);
+				int iEndYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblEnd);
 
-				if (org.drip.analytics.date.DateUtil.IsEOM (dblEnd))
-					dm._iD2Adj = 30 - org.drip.analytics.date.DateUtil.Day (dblEnd);
+				int iStartYYYYMMDD = org.drip.analytics.date.DateUtil.YYYYMMDD (dblStart);
+
+				if (IsEOM (iStartYYYYMMDD))
+					dm._iD1Adj = 30 - org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iStartYYYYMMDD);
+
+				if (IsEOM (iEndYYYYMMDD))
+					dm._iD2Adj = 30 - org.drip.analytics.date.DateUtil.DayFromYYYYMMDD (iEndYYYYMMDD);
 			}
 
 			return dm;
@@ -280,9 +305,9 @@ public class DateEOMAdjustment {
 		final double dblEnd,
 		final boolean bApplyEOMAdj)
 	{
-		DateEOMAdjustment dm = new DateEOMAdjustment();
+		if (!bApplyEOMAdj) return NO_ADJUSTMENT;
 
-		if (!bApplyEOMAdj) return dm;
+		DateEOMAdjustment dm = new DateEOMAdjustment();
 
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblStart) || !org.drip.quant.common.NumberUtil.IsValid
 			(dblEnd))
@@ -145,6 +145,33 @@ public abstract class CreditCurve implements org.drip.analytics.definition.Curve
 		final double dblDate)
 		throws java.lang.Exception;
 
+	/**
+	 * Calculate the Survival Probabilities to the Array of Dates in one Call, into the supplied Buffer
+	 * 
+	 * @param adblDate Array of Dates
+	 * @param adblSurvival Buffer of Survival Probabilities - at least as long as the Array of Dates
+	 * 
+	 * @return TRUE => The Survival Probabilities have been computed
+	 */
+
+	public boolean survival (
+		final double[] adblDate,
+		final double[] adblSurvival)
+	{
+		if (null == adblDate || null == adblSurvival || adblSurvival.length < adblDate.length) return false;
+
+		try {
+			for (int i = 0; i < adblDate.length; ++i)
+				adblSurvival[i] = survival (adblDate[i]);
+
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return false;
+	}
+
 	/**
 	 * Calculate the survival to the given date
 	 * 
@@ -450,6 +477,17 @@ public abstract class CreditCurve implements org.drip.analytics.definition.Curve
 		return hazard (new org.drip.analytics.date.JulianDate (_dblEpochDate).addTenor (strTenor));
 	}
 
+	/**
+	 * Retrieve the Hazard Node Dates - the Hazard Rate is constant between successive Nodes
+	 * 
+	 * @return The Hazard Node Dates (NULL => The Curve is not Piecewise Constant in the Hazard Rate)
+	 */
+
+	public double[] hazardNodeDates()
+	{
+		return null;
+	}
+
 	/**
 	 * Create a flat hazard curve from the inputs
 	 * 
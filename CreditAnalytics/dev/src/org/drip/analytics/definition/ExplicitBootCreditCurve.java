@@ -48,4 +48,27 @@ public abstract class ExplicitBootCreditCurve extends org.drip.analytics.definit
 	{
 		super (dblEpochDate, label, strCurrency);
 	}
+
+	/**
+	 * Compute the Sensitivity of the Survival Probability to the given Date to the Value of the specified
+	 * 	Node, where the Node is moved the way setNodeValue/setFlatValue would move it
+	 * 
+	 * @param dblDate The Survival Date
+	 * @param iNodeIndex The Node Index
+	 * @param bFlat TRUE => The Node Value is applied Flat across all the Nodes
+	 * 
+	 * @return The Survival Node Sensitivity
+	 * 
+	 * @throws java.lang.Exception Thrown if the Sensitivity cannot be computed analytically
+	 */
+
+	public double survivalNodeSensitivity (
+		final double dblDate,
+		final int iNodeIndex,
+		final boolean bFlat)
+		throws java.lang.Exception
+	{
+		throw new java.lang.Exception
+			("ExplicitBootCreditCurve::survivalNodeSensitivity => Analytical Sensitivity not available");
+	}
 }
@@ -199,8 +199,8 @@ public class DateInMonth {
 
 					if (null == dtEOM) return null;
 
-					while (_iDayOfWeek != org.drip.analytics.date.DateUtil.Day
-						(org.drip.analytics.date.DateUtil.JavaDateFromJulianDate (dtEOM)))
+					while (_iDayOfWeek != org.drip.analytics.date.DateUtil.DayFromYYYYMMDD
+						(dtEOM.yyyymmdd()))
 						dtEOM = dtEOM.subtractDays (1);
 
 					org.drip.analytics.date.JulianDate dtUnadjusted = dtEOM.subtractDays (_iWeekInMonth * 7);
@@ -213,8 +213,8 @@ public class DateInMonth {
 
 				if (null == dtSOM) return null;
 
-				while (_iDayOfWeek != org.drip.analytics.date.DateUtil.Day
-					(org.drip.analytics.date.DateUtil.JavaDateFromJulianDate (dtSOM)))
+				while (_iDayOfWeek != org.drip.analytics.date.DateUtil.DayFromYYYYMMDD
+					(dtSOM.yyyymmdd()))
 					dtSOM = dtSOM.addDays (1);
 
 				org.drip.analytics.date.JulianDate dtUnadjusted = dtSOM.addDays (_iWeekInMonth * 7);
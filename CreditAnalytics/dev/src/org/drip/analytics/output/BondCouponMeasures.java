@@ -41,6 +41,9 @@ package org.drip.analytics.output;
  */
 
 public class BondCouponMeasures {
+	private static final java.lang.String[] s_astrMeasure = new java.lang.String[] {"DV01", "IndexCouponPV",
+		"CouponPV", "PV"};
+
 	private double _dblDV01 = java.lang.Double.NaN;
 	private double _dblIndexCouponPV = java.lang.Double.NaN;
 	private double _dblCouponPV = java.lang.Double.NaN;
@@ -180,6 +183,28 @@ public class BondCouponMeasures {
 		return true;
 	}
 
+	/**
+	 * Retrieve the Names of the Coupon Measures, in the Order of their Values
+	 * 
+	 * @return The Names of the Coupon Measures
+	 */
+
+	public static final java.lang.String[] MeasureNames()
+	{
+		return s_astrMeasure.clone();
+	}
+
+	/**
+	 * Generate the Values of the Coupon Measures, in the Order of their Names
+	 * 
+	 * @return The Values of the Coupon Measures
+	 */
+
+	public double[] values()
+	{
+		return new double[] {_dblDV01, _dblIndexCouponPV, _dblCouponPV, _dblPV};
+	}
+
 	/**
 	 * Return the state as a named measure map
 	 * 
@@ -194,13 +219,10 @@ public class BondCouponMeasures {
 		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = new
 			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
 
-		mapMeasures.put (strPrefix + "DV01", _dblDV01);
-
-		mapMeasures.put (strPrefix + "IndexCouponPV", _dblIndexCouponPV);
-
-		mapMeasures.put (strPrefix + "CouponPV", _dblCouponPV);
+		double[] adblValue = values();
 
-		mapMeasures.put (strPrefix + "PV", _dblPV);
+		for (int i = 0; i < adblValue.length; ++i)
+			mapMeasures.put (strPrefix + s_astrMeasure[i], adblValue[i]);
 
 		return mapMeasures;
 	}
@@ -44,6 +44,12 @@ package org.drip.analytics.output;
  */
 
 public class BondRVMeasures {
+	private static final java.lang.String[] s_astrMeasure = new java.lang.String[] {"AssetSwapSpread",
+		"ASW", "BondBasis", "Convexity", "CreditBasis", "DiscountMargin", "Duration", "GSpread",
+		"ISpread", "MacaulayDuration", "ModifiedDuration", "OAS", "OASpread", "OptionAdjustedSpread",
+		"PECS", "Price", "TSYSpread", "WorkoutDate", "WorkoutFactor", "WorkoutType", "WorkoutYield",
+		"Yield", "Yield01", "YieldBasis", "YieldSpread", "ZSpread"};
+
 	private double _dblPECS = java.lang.Double.NaN;
 	private double _dblPrice = java.lang.Double.NaN;
 	private double _dblGSpread = java.lang.Double.NaN;
@@ -299,70 +305,72 @@ public class BondRVMeasures {
 	}
 
 	/**
-	 * Return the state as a measure map
-	 * 
-	 * @param strPrefix RV Measure name prefix
+	 * Retrieve the Names of the RV Measures, in the Order of their Values
 	 * 
-	 * @return Map of the RV measures
+	 * @return The Names of the RV Measures
 	 */
 
-	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap (
-		final java.lang.String strPrefix)
+	public static final java.lang.String[] MeasureNames()
 	{
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapRVMeasures = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-		mapRVMeasures.put (strPrefix + "AssetSwapSpread", _dblAssetSwapSpread);
-
-		mapRVMeasures.put (strPrefix + "ASW", _dblAssetSwapSpread);
-
-		mapRVMeasures.put (strPrefix + "BondBasis", _dblBondBasis);
-
-		mapRVMeasures.put (strPrefix + "Convexity", _dblConvexity);
-
-		mapRVMeasures.put (strPrefix + "CreditBasis", _dblCreditBasis);
-
-		mapRVMeasures.put (strPrefix + "DiscountMargin", _dblDiscountMargin);
-
-		mapRVMeasures.put (strPrefix + "Duration", _dblModifiedDuration);
-
-		mapRVMeasures.put (strPrefix + "GSpread", _dblGSpread);
-
-		mapRVMeasures.put (strPrefix + "ISpread", _dblISpread);
-
-		mapRVMeasures.put (strPrefix + "MacaulayDuration", _dblMacaulayDuration);
-
-		mapRVMeasures.put (strPrefix + "ModifiedDuration", _dblModifiedDuration);
-
-		mapRVMeasures.put (strPrefix + "OAS", _dblOASpread);
-
-		mapRVMeasures.put (strPrefix + "OASpread", _dblOASpread);
-
-		mapRVMeasures.put (strPrefix + "OptionAdjustedSpread", _dblOASpread);
-
-		mapRVMeasures.put (strPrefix + "PECS", _dblPECS);
+		return s_astrMeasure.clone();
+	}
 
-		mapRVMeasures.put (strPrefix + "Price", _dblPrice);
+	/**
+	 * Generate the Values of the RV Measures, in the Order of their Names
+	 * 
+	 * @return The Values of the RV Measures
+	 */
 
-		mapRVMeasures.put (strPrefix + "TSYSpread", _dblTSYSpread);
+	public double[] values()
+	{
+		return new double[] {_dblAssetSwapSpread, _dblAssetSwapSpread, _dblBondBasis, _dblConvexity,
+			_dblCreditBasis, _dblDiscountMargin, _dblModifiedDuration, _dblGSpread, _dblISpread,
+			_dblMacaulayDuration, _dblModifiedDuration, _dblOASpread, _dblOASpread, _dblOASpread,
+			_dblPECS, _dblPrice, _dblTSYSpread, _wi.date(), _wi.factor(), (double) _wi.type(),
+			_wi.yield(), _wi.yield(), _dblYield01, _dblBondBasis, _dblBondBasis, _dblZSpread};
+	}
 
-		mapRVMeasures.put (strPrefix + "WorkoutDate", _wi.date());
+	/**
+	 * Load the RV Measures into the Measure Vector Slots
+	 * 
+	 * @param mv The Measure Vector
+	 * @param aiSlot The Vector Slot of each RV Measure, in the Order of the Names (-1 => Not in the Schema)
+	 * 
+	 * @return TRUE => The RV Measures have been loaded
+	 */
 
-		mapRVMeasures.put (strPrefix + "WorkoutFactor", _wi.factor());
+	public boolean load (
+		final org.drip.analytics.output.MeasureVector mv,
+		final int[] aiSlot)
+	{
+		if (null == mv || null == aiSlot || s_astrMeasure.length != aiSlot.length) return false;
 
-		mapRVMeasures.put (strPrefix + "WorkoutType", (double) _wi.type());
+		double[] adblValue = values();
 
-		mapRVMeasures.put (strPrefix + "WorkoutYield", _wi.yield());
+		for (int i = 0; i < adblValue.length; ++i)
+			mv.set (aiSlot[i], adblValue[i]);
 
-		mapRVMeasures.put (strPrefix + "Yield", _wi.yield());
+		return true;
+	}
 
-		mapRVMeasures.put (strPrefix + "Yield01", _dblYield01);
+	/**
+	 * Return the state as a measure map
+	 * 
+	 * @param strPrefix RV Measure name prefix
+	 * 
+	 * @return Map of the RV measures
+	 */
 
-		mapRVMeasures.put (strPrefix + "YieldBasis", _dblBondBasis);
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap (
+		final java.lang.String strPrefix)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapRVMeasures = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
 
-		mapRVMeasures.put (strPrefix + "YieldSpread", _dblBondBasis);
+		double[] adblValue = values();
 
-		mapRVMeasures.put (strPrefix + "ZSpread", _dblZSpread);
+		for (int i = 0; i < adblValue.length; ++i)
+			mapRVMeasures.put (strPrefix + s_astrMeasure[i], adblValue[i]);
 
 		return mapRVMeasures;
 	}
@@ -44,6 +44,44 @@ package org.drip.analytics.output;
  */
 
 public class BondWorkoutMeasures {
+	private static final java.lang.String[] s_astrWorkoutMeasure = new java.lang.String[] {"Accrued",
+		"Accrued01", "CleanCouponPV", "CleanDV01", "CleanIndexCouponPV", "CleanPrice", "CleanPV",
+			"CreditRisklessParPV", "CreditRisklessPrincipalPV", "CreditRiskyParPV", "CreditRiskyPrincipalPV",
+				"DefaultExposure", "DefaultExposureNoRec", "DirtyCouponPV", "DirtyDV01", "DirtyIndexCouponPV",
+					"DirtyPrice", "DirtyPV", "DV01", "ExpectedRecovery", "FirstCouponRate", "FirstIndexRate",
+						"LossOnInstantaneousDefault", "ParPV", "PrincipalPV", "PV", "RecoveryPV"};
+
+	/*
+	 * The Coupon Measure Blocks follow the Workout Measures - the Credit Risky Blocks come last, and are
+	 * 	present only if the Credit Risky Coupon Measures are.
+	 */
+
+	private static final java.lang.String[] s_astrCouponMeasureBlock = new java.lang.String[]
+		{"RisklessDirty", "RisklessClean", "RiskyDirty", "RiskyClean"};
+
+	private static final java.lang.String[] s_astrMeasure = CompileMeasureNames();
+	private static final int NUM_CREDIT_RISKLESS_MEASURE = s_astrWorkoutMeasure.length + 2 *
+		org.drip.analytics.output.BondCouponMeasures.MeasureNames().length;
+
+	private static final java.lang.String[] CompileMeasureNames()
+	{
+		java.lang.String[] astrCouponMeasure = org.drip.analytics.output.BondCouponMeasures.MeasureNames();
+
+		java.lang.String[] astrMeasure = new java.lang.String[s_astrWorkoutMeasure.length +
+			s_astrCouponMeasureBlock.length * astrCouponMeasure.length];
+
+		java.lang.System.arraycopy (s_astrWorkoutMeasure, 0, astrMeasure, 0, s_astrWorkoutMeasure.length);
+
+		int iMeasure = s_astrWorkoutMeasure.length;
+
+		for (java.lang.String strBlock : s_astrCouponMeasureBlock) {
+			for (java.lang.String strCouponMeasure : astrCouponMeasure)
+				astrMeasure[iMeasure++] = strBlock + strCouponMeasure;
+		}
+
+		return astrMeasure;
+	}
+
 	private double _dblAccrued01 = java.lang.Double.NaN;
 	private double _dblRecoveryPV = java.lang.Double.NaN;
 	private BondCouponMeasures _bcmCreditRiskyClean = null;
@@ -318,114 +356,102 @@ public class BondWorkoutMeasures {
 	}
 
 	/**
-	 * Return the state as a measure map
+	 * Retrieve the Names of the Workout Measures, in the Order of their Values
 	 * 
-	 * @param strPrefix Measure name prefix
-	 * 
-	 * @return Map of the measures
+	 * @return The Names of the Workout Measures
 	 */
 
-	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap (
-		final java.lang.String strPrefix)
+	public static final java.lang.String[] MeasureNames()
 	{
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-		mapMeasures.put (strPrefix + "Accrued", _dblAccrued01 * _dblFirstCouponRate);
-
-		mapMeasures.put (strPrefix + "Accrued01", _dblAccrued01);
-
-		mapMeasures.put (strPrefix + "CleanCouponPV", _bcmCreditRisklessClean.couponPV());
-
-		mapMeasures.put (strPrefix + "CleanDV01", _bcmCreditRisklessClean.dv01());
-
-		mapMeasures.put (strPrefix + "CleanIndexCouponPV", _bcmCreditRisklessClean.indexCouponPV());
-
-		mapMeasures.put (strPrefix + "CleanPrice", _bcmCreditRisklessClean.pv());
-
-		mapMeasures.put (strPrefix + "CleanPV", _bcmCreditRisklessClean.pv());
-
-		mapMeasures.put (strPrefix + "CreditRisklessParPV", _dblCreditRisklessParPV);
-
-		mapMeasures.put (strPrefix + "CreditRisklessPrincipalPV", _dblCreditRisklessPrincipalPV);
-
-		mapMeasures.put (strPrefix + "CreditRiskyParPV", _dblCreditRiskyParPV);
-
-		mapMeasures.put (strPrefix + "CreditRiskyPrincipalPV", _dblCreditRiskyPrincipalPV);
-
-		mapMeasures.put (strPrefix + "DefaultExposure", _dblDefaultExposure);
-
-		mapMeasures.put (strPrefix + "DefaultExposureNoRec", _dblDefaultExposureNoRec);
-
-		mapMeasures.put (strPrefix + "DirtyCouponPV", _bcmCreditRisklessDirty.couponPV());
-
-		mapMeasures.put (strPrefix + "DirtyDV01", _bcmCreditRisklessDirty.dv01());
-
-		mapMeasures.put (strPrefix + "DirtyIndexCouponPV", _bcmCreditRisklessDirty.indexCouponPV());
-
-		mapMeasures.put (strPrefix + "DirtyPrice", _bcmCreditRisklessDirty.pv());
-
-		mapMeasures.put (strPrefix + "DirtyPV", _bcmCreditRisklessDirty.pv());
-
-		mapMeasures.put (strPrefix + "DV01", _bcmCreditRisklessClean.dv01());
-
-		mapMeasures.put (strPrefix + "ExpectedRecovery", _dblExpectedRecovery);
-
-		mapMeasures.put (strPrefix + "FirstCouponRate", _dblFirstCouponRate);
-
-		mapMeasures.put (strPrefix + "FirstIndexRate", _dblFirstIndexRate);
-
-		mapMeasures.put (strPrefix + "LossOnInstantaneousDefault", _dblLossOnInstantaneousDefault);
-
-		mapMeasures.put (strPrefix + "ParPV", _dblCreditRisklessParPV);
-
-		mapMeasures.put (strPrefix + "PrincipalPV", _dblCreditRisklessPrincipalPV);
-
-		mapMeasures.put (strPrefix + "PV", _bcmCreditRisklessClean.pv());
+		return s_astrMeasure.clone();
+	}
 
-		mapMeasures.put (strPrefix + "RecoveryPV", _dblRecoveryPV);
+	/**
+	 * Generate the Values of the Workout Measures, in the Order of their Names. The Clean/Dirty, Par, and
+	 * 	Principal Measures are Credit Risky if the Credit Risky Coupon Measures are available, and the
+	 * 	Credit Risky Coupon Blocks are left out otherwise.
+	 * 
+	 * @return The Values of the Workout Measures
+	 */
 
-		org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, _bcmCreditRisklessDirty.toMap (strPrefix +
-			"RisklessDirty"));
+	public double[] values()
+	{
+		boolean bCreditRisky = null != _bcmCreditRiskyDirty;
+		BondCouponMeasures bcmClean = bCreditRisky ? _bcmCreditRiskyClean : _bcmCreditRisklessClean;
+		BondCouponMeasures bcmDirty = bCreditRisky ? _bcmCreditRiskyDirty : _bcmCreditRisklessDirty;
 
-		org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, _bcmCreditRisklessClean.toMap
-			(strPrefix + "RisklessClean"));
+		double[] adblWorkoutMeasure = new double[] {_dblAccrued01 * _dblFirstCouponRate, _dblAccrued01,
+			bcmClean.couponPV(), bcmClean.dv01(), bcmClean.indexCouponPV(), bcmClean.pv(), bcmClean.pv(),
+				_dblCreditRisklessParPV, _dblCreditRisklessPrincipalPV, _dblCreditRiskyParPV,
+					_dblCreditRiskyPrincipalPV, _dblDefaultExposure, _dblDefaultExposureNoRec,
+						bcmDirty.couponPV(), bcmDirty.dv01(), bcmDirty.indexCouponPV(), bcmDirty.pv(),
+							bcmDirty.pv(), bcmClean.dv01(), _dblExpectedRecovery, _dblFirstCouponRate,
+								_dblFirstIndexRate, _dblLossOnInstantaneousDefault, bCreditRisky ?
+									_dblCreditRiskyParPV : _dblCreditRisklessParPV, bCreditRisky ?
+										_dblCreditRiskyPrincipalPV : _dblCreditRisklessPrincipalPV,
+											bcmClean.pv(), _dblRecoveryPV};
 
-		if (null != _bcmCreditRiskyDirty) {
-			mapMeasures.put (strPrefix + "CleanCouponPV", _bcmCreditRiskyClean.couponPV());
+		double[] adblValue = new double[bCreditRisky ? s_astrMeasure.length : NUM_CREDIT_RISKLESS_MEASURE];
 
-			mapMeasures.put (strPrefix + "CleanDV01", _bcmCreditRiskyClean.dv01());
+		java.lang.System.arraycopy (adblWorkoutMeasure, 0, adblValue, 0, adblWorkoutMeasure.length);
 
-			mapMeasures.put (strPrefix + "CleanIndexCouponPV", _bcmCreditRiskyClean.indexCouponPV());
+		int iMeasure = adblWorkoutMeasure.length;
 
-			mapMeasures.put (strPrefix + "CleanPrice", _bcmCreditRiskyClean.pv());
+		for (BondCouponMeasures bcm : bCreditRisky ? new BondCouponMeasures[] {_bcmCreditRisklessDirty,
+			_bcmCreditRisklessClean, _bcmCreditRiskyDirty, _bcmCreditRiskyClean} : new BondCouponMeasures[]
+				{_bcmCreditRisklessDirty, _bcmCreditRisklessClean}) {
+			double[] adblCouponMeasure = bcm.values();
 
-			mapMeasures.put (strPrefix + "CleanPV", _bcmCreditRiskyClean.pv());
+			java.lang.System.arraycopy (adblCouponMeasure, 0, adblValue, iMeasure, adblCouponMeasure.length);
 
-			mapMeasures.put (strPrefix + "DirtyCouponPV", _bcmCreditRiskyDirty.couponPV());
+			iMeasure += adblCouponMeasure.length;
+		}
 
-			mapMeasures.put (strPrefix + "DirtyDV01", _bcmCreditRiskyDirty.dv01());
+		return adblValue;
+	}
 
-			mapMeasures.put (strPrefix + "DirtyIndexCouponPV", _bcmCreditRiskyDirty.indexCouponPV());
+	/**
+	 * Load the Workout Measures into the Measure Vector Slots
+	 * 
+	 * @param mv The Measure Vector
+	 * @param aiSlot The Vector Slot of each Workout Measure, in the Order of the Names (-1 => Not in the
+	 * 	Schema)
+	 * 
+	 * @return TRUE => The Workout Measures have been loaded
+	 */
 
-			mapMeasures.put (strPrefix + "DirtyPrice", _bcmCreditRiskyDirty.pv());
+	public boolean load (
+		final org.drip.analytics.output.MeasureVector mv,
+		final int[] aiSlot)
+	{
+		if (null == mv || null == aiSlot || s_astrMeasure.length != aiSlot.length) return false;
 
-			mapMeasures.put (strPrefix + "DirtyPV", _bcmCreditRiskyDirty.pv());
+		double[] adblValue = values();
 
-			mapMeasures.put (strPrefix + "DV01", _bcmCreditRiskyClean.dv01());
+		for (int i = 0; i < adblValue.length; ++i)
+			mv.set (aiSlot[i], adblValue[i]);
 
-			mapMeasures.put (strPrefix + "ParPV", _dblCreditRiskyParPV);
+		return true;
+	}
 
-			mapMeasures.put (strPrefix + "PrincipalPV", _dblCreditRiskyPrincipalPV);
+	/**
+	 * Return the state as a measure map
+	 * 
+	 * @param strPrefix Measure name prefix
+	 * 
+	 * @return Map of the measures
+	 */
 
-			mapMeasures.put (strPrefix + "PV", _bcmCreditRiskyClean.pv());
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toMap (
+		final java.lang.String strPrefix)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
 
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, _bcmCreditRiskyDirty.toMap
-				(strPrefix + "RiskyDirty"));
+		double[] adblValue = values();
 
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, _bcmCreditRiskyClean.toMap
-				(strPrefix + "RiskyClean"));
-		}
+		for (int i = 0; i < adblValue.length; ++i)
+			mapMeasures.put (strPrefix + s_astrMeasure[i], adblValue[i]);
 
 		return mapMeasures;
 	}
@@ -0,0 +1,95 @@
+
+package org.drip.analytics.output;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CalibrationObjective holds the Value of a single Calibration Measure of a Component, together with its
+ * 	Sensitivity to the Calibration Node being solved for. The Sensitivity is NaN when the Component cannot
+ * 	produce it analytically, in which case the Calibrator falls back to Finite Differences/Bracketing.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CalibrationObjective {
+	private double _dblValue = java.lang.Double.NaN;
+	private double _dblNodeSensitivity = java.lang.Double.NaN;
+
+	/**
+	 * CalibrationObjective Constructor
+	 * 
+	 * @param dblValue The Calibration Measure Value
+	 * @param dblNodeSensitivity The Sensitivity of the Measure to the Calibration Node (NaN => Unavailable)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CalibrationObjective (
+		final double dblValue,
+		final double dblNodeSensitivity)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblValue = dblValue))
+			throw new java.lang.Exception ("CalibrationObjective ctr: Invalid Inputs");
+
+		_dblNodeSensitivity = dblNodeSensitivity;
+	}
+
+	/**
+	 * Retrieve the Calibration Measure Value
+	 * 
+	 * @return The Calibration Measure Value
+	 */
+
+	public double value()
+	{
+		return _dblValue;
+	}
+
+	/**
+	 * Retrieve the Sensitivity of the Calibration Measure to the Calibration Node
+	 * 
+	 * @return The Node Sensitivity (NaN => Unavailable)
+	 */
+
+	public double nodeSensitivity()
+	{
+		return _dblNodeSensitivity;
+	}
+
+	/**
+	 * Indicate if the Node Sensitivity is Available
+	 * 
+	 * @return TRUE => The Node Sensitivity is Available
+	 */
+
+	public boolean hasNodeSensitivity()
+	{
+		return org.drip.quant.common.NumberUtil.IsValid (_dblNodeSensitivity) && 0. != _dblNodeSensitivity;
+	}
+}
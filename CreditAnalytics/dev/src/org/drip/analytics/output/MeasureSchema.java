@@ -0,0 +1,232 @@
+
+package org.drip.analytics.output;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * MeasureSchema is the Compiled Schema of the Measures produced by a Product Type. Each Measure Name is
+ * 	mapped once, case-insensitively, to a Dense Integer Slot, so that the Measures may be held in a
+ * 	double[]-backed MeasureVector, and set/read by Slot during Valuation without any String Look-ups.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class MeasureSchema {
+	private java.lang.String[] _astrName = null;
+	private java.util.Map<java.lang.String, java.lang.Integer> _mapSlot = null;
+
+	/**
+	 * Compile a MeasureSchema from the Collection of Measure Names, in their Iteration Order. Names that
+	 * 	differ only in Case are collapsed onto the Slot of the first.
+	 * 
+	 * @param cstrName The Collection of Measure Names
+	 * 
+	 * @return The MeasureSchema Instance
+	 */
+
+	public static final MeasureSchema FromNames (
+		final java.util.Collection<java.lang.String> cstrName)
+	{
+		if (null == cstrName || 0 == cstrName.size()) return null;
+
+		java.util.Map<java.lang.String, java.lang.String> mapName = new
+			java.util.LinkedHashMap<java.lang.String, java.lang.String>();
+
+		for (java.lang.String strName : cstrName) {
+			if (null == strName || strName.isEmpty()) continue;
+
+			java.lang.String strKey = strName.toLowerCase();
+
+			if (!mapName.containsKey (strKey)) mapName.put (strKey, strName);
+		}
+
+		if (0 == mapName.size()) return null;
+
+		try {
+			return new MeasureSchema (mapName.values().toArray (new java.lang.String[mapName.size()]));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * MeasureSchema Constructor
+	 * 
+	 * @param astrName Array of the Measure Names, in Slot Order
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Names are not unique
+	 */
+
+	public MeasureSchema (
+		final java.lang.String[] astrName)
+		throws java.lang.Exception
+	{
+		if (null == astrName || 0 == astrName.length)
+			throw new java.lang.Exception ("MeasureSchema ctr: Invalid Inputs");
+
+		_astrName = new java.lang.String[astrName.length];
+
+		_mapSlot = new java.util.HashMap<java.lang.String, java.lang.Integer> (2 * astrName.length);
+
+		for (int i = 0; i < astrName.length; ++i) {
+			if (null == (_astrName[i] = astrName[i]) || _astrName[i].isEmpty() || null != _mapSlot.put
+				(_astrName[i].toLowerCase(), i))
+				throw new java.lang.Exception ("MeasureSchema ctr: Invalid/Duplicate Measure " + astrName[i]);
+		}
+	}
+
+	/**
+	 * Retrieve the Number of Slots
+	 * 
+	 * @return The Number of Slots
+	 */
+
+	public int size()
+	{
+		return _astrName.length;
+	}
+
+	/**
+	 * Retrieve the Measure Name at the specified Slot
+	 * 
+	 * @param iSlot The Slot
+	 * 
+	 * @return The Measure Name
+	 */
+
+	public java.lang.String name (
+		final int iSlot)
+	{
+		return 0 > iSlot || iSlot >= _astrName.length ? null : _astrName[iSlot];
+	}
+
+	/**
+	 * Retrieve the Slot of the Measure (Case-insensitive)
+	 * 
+	 * @param strName The Measure Name
+	 * 
+	 * @return The Slot, or -1 if the Measure is not in the Schema
+	 */
+
+	public int slot (
+		final java.lang.String strName)
+	{
+		if (null == strName) return -1;
+
+		java.lang.Integer iSlot = _mapSlot.get (strName.toLowerCase());
+
+		return null == iSlot ? -1 : iSlot;
+	}
+
+	/**
+	 * Resolve the Slots of the Prefixed Measure Names, e.g., to load a Measure Block into the Vector
+	 * 
+	 * @param strPrefix The Measure Name Prefix
+	 * @param astrName Array of the Measure Names
+	 * 
+	 * @return The Slot of each Prefixed Name (-1 => Not in the Schema)
+	 */
+
+	public int[] slots (
+		final java.lang.String strPrefix,
+		final java.lang.String[] astrName)
+	{
+		if (null == strPrefix || null == astrName) return null;
+
+		int[] aiSlot = new int[astrName.length];
+
+		for (int i = 0; i < astrName.length; ++i)
+			aiSlot[i] = slot (strPrefix + astrName[i]);
+
+		return aiSlot;
+	}
+
+	/**
+	 * Indicate if the Measure is in the Schema
+	 * 
+	 * @param strName The Measure Name
+	 * 
+	 * @return TRUE => The Measure is in the Schema
+	 */
+
+	public boolean contains (
+		final java.lang.String strName)
+	{
+		return -1 != slot (strName);
+	}
+
+	/**
+	 * Create a MeasureVector requesting all the Measures of the Schema
+	 * 
+	 * @return The MeasureVector
+	 */
+
+	public org.drip.analytics.output.MeasureVector vector()
+	{
+		try {
+			return new org.drip.analytics.output.MeasureVector (this, null);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Create a MeasureVector requesting only the specified Subset of the Measures. Names not in the Schema
+	 * 	are ignored.
+	 * 
+	 * @param setstrMeasure The Subset of the Measure Names (null => all the Measures)
+	 * 
+	 * @return The MeasureVector
+	 */
+
+	public org.drip.analytics.output.MeasureVector vector (
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		if (null == setstrMeasure) return vector();
+
+		boolean[] abRequested = new boolean[_astrName.length];
+
+		for (java.lang.String strMeasure : setstrMeasure) {
+			int iSlot = slot (strMeasure);
+
+			if (-1 != iSlot) abRequested[iSlot] = true;
+		}
+
+		try {
+			return new org.drip.analytics.output.MeasureVector (this, abRequested);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+}
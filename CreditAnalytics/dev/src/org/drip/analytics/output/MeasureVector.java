@@ -0,0 +1,423 @@
+
+package org.drip.analytics.output;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * MeasureVector holds the Values of the Measures of a MeasureSchema in a double[] indexed by the Schema
+ * 	Slot, together with the Mask of the Requested Measures and the Availability of each Value. A Vector is
+ * 	reset and re-filled across Valuations without any Allocation. The Map Output is a read-only View over
+ * 	the Available Slots, and a CaseInsensitiveTreeMap Copy is generated only on Demand.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class MeasureVector {
+	private double[] _adblValue = null;
+	private boolean[] _abAvailable = null;
+	private boolean[] _abRequested = null;
+	private org.drip.analytics.output.MeasureSchema _ms = null;
+	private java.util.Map<java.lang.String, java.lang.Double> _mapView = null;
+
+	private class AvailableSlotIterator implements
+		java.util.Iterator<java.util.Map.Entry<java.lang.String, java.lang.Double>>
+	{
+		private int _iNextSlot = nextAvailable (0);
+
+		private int nextAvailable (
+			final int iStartSlot)
+		{
+			int iSlot = iStartSlot;
+
+			while (iSlot < _abAvailable.length && !_abAvailable[iSlot])
+				++iSlot;
+
+			return iSlot;
+		}
+
+		@Override public boolean hasNext()
+		{
+			return _iNextSlot < _abAvailable.length;
+		}
+
+		@Override public java.util.Map.Entry<java.lang.String, java.lang.Double> next()
+		{
+			if (!hasNext()) throw new java.util.NoSuchElementException();
+
+			int iSlot = _iNextSlot;
+			_iNextSlot = nextAvailable (iSlot + 1);
+			return new java.util.AbstractMap.SimpleImmutableEntry<java.lang.String, java.lang.Double>
+				(_ms.name (iSlot), _adblValue[iSlot]);
+		}
+
+		@Override public void remove()
+		{
+			throw new java.lang.UnsupportedOperationException ("MeasureVector View is read-only");
+		}
+	}
+
+	private class AvailableSlotMap extends java.util.AbstractMap<java.lang.String, java.lang.Double> {
+		@Override public java.lang.Double get (
+			final java.lang.Object objKey)
+		{
+			if (!(objKey instanceof java.lang.String)) return null;
+
+			int iSlot = _ms.slot ((java.lang.String) objKey);
+
+			return available (iSlot) ? _adblValue[iSlot] : null;
+		}
+
+		@Override public boolean containsKey (
+			final java.lang.Object objKey)
+		{
+			return objKey instanceof java.lang.String && available (_ms.slot ((java.lang.String) objKey));
+		}
+
+		@Override public int size()
+		{
+			return numAvailable();
+		}
+
+		@Override public java.util.Set<java.util.Map.Entry<java.lang.String, java.lang.Double>> entrySet()
+		{
+			return new java.util.AbstractSet<java.util.Map.Entry<java.lang.String, java.lang.Double>>() {
+				@Override public int size()
+				{
+					return numAvailable();
+				}
+
+				@Override public java.util.Iterator<java.util.Map.Entry<java.lang.String, java.lang.Double>>
+					iterator()
+				{
+					return new AvailableSlotIterator();
+				}
+			};
+		}
+	}
+
+	/**
+	 * MeasureVector Constructor
+	 * 
+	 * @param ms The Measure Schema
+	 * @param abRequested The Mask of the Requested Slots (null => all the Slots are requested)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public MeasureVector (
+		final org.drip.analytics.output.MeasureSchema ms,
+		final boolean[] abRequested)
+		throws java.lang.Exception
+	{
+		if (null == (_ms = ms) || (null != (_abRequested = abRequested) && _abRequested.length !=
+			_ms.size()))
+			throw new java.lang.Exception ("MeasureVector ctr: Invalid Inputs");
+
+		int iNumSlot = _ms.size();
+
+		_adblValue = new double[iNumSlot];
+		_abAvailable = new boolean[iNumSlot];
+	}
+
+	/**
+	 * Retrieve the Measure Schema
+	 * 
+	 * @return The Measure Schema
+	 */
+
+	public org.drip.analytics.output.MeasureSchema schema()
+	{
+		return _ms;
+	}
+
+	/**
+	 * Clear all the Values, so that the Vector may be re-filled
+	 */
+
+	public void reset()
+	{
+		java.util.Arrays.fill (_abAvailable, false);
+	}
+
+	/**
+	 * Indicate if the Measure in the Slot has been requested
+	 * 
+	 * @param iSlot The Slot
+	 * 
+	 * @return TRUE => The Measure has been requested
+	 */
+
+	public boolean requested (
+		final int iSlot)
+	{
+		return 0 <= iSlot && iSlot < _adblValue.length && (null == _abRequested || _abRequested[iSlot]);
+	}
+
+	/**
+	 * Indicate if any of the Measures in the Slot Range has been requested
+	 * 
+	 * @param iStartSlot The Start Slot (Inclusive)
+	 * @param iEndSlot The End Slot (Exclusive)
+	 * 
+	 * @return TRUE => At least one of the Measures in the Range has been requested
+	 */
+
+	public boolean requested (
+		final int iStartSlot,
+		final int iEndSlot)
+	{
+		if (null == _abRequested) return iStartSlot < iEndSlot;
+
+		for (int i = java.lang.Math.max (iStartSlot, 0); i < iEndSlot && i < _abRequested.length; ++i) {
+			if (_abRequested[i]) return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Indicate if every Requested Measure starts with the specified Prefix (Case-insensitive)
+	 * 
+	 * @param strPrefix The Prefix
+	 * 
+	 * @return TRUE => Every Requested Measure starts with the Prefix
+	 */
+
+	public boolean requestedOnlyWithPrefix (
+		final java.lang.String strPrefix)
+	{
+		if (null == _abRequested || null == strPrefix) return false;
+
+		int iPrefixLength = strPrefix.length();
+
+		for (int i = 0; i < _abRequested.length; ++i) {
+			if (_abRequested[i] && !_ms.name (i).regionMatches (true, 0, strPrefix, 0, iPrefixLength))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Set the Value of the Measure in the Slot. Values of Measures that have not been requested are
+	 * 	dropped.
+	 * 
+	 * @param iSlot The Slot
+	 * @param dblValue The Value
+	 * 
+	 * @return TRUE => The Value has been set
+	 */
+
+	public boolean set (
+		final int iSlot,
+		final double dblValue)
+	{
+		if (0 > iSlot || iSlot >= _adblValue.length || (null != _abRequested && !_abRequested[iSlot]))
+			return false;
+
+		_adblValue[iSlot] = dblValue;
+		_abAvailable[iSlot] = true;
+		return true;
+	}
+
+	/**
+	 * Set the Value of the Named Measure
+	 * 
+	 * @param strName The Measure Name
+	 * @param dblValue The Value
+	 * 
+	 * @return TRUE => The Value has been set
+	 */
+
+	public boolean set (
+		final java.lang.String strName,
+		final double dblValue)
+	{
+		return set (_ms.slot (strName), dblValue);
+	}
+
+	/**
+	 * Load the Values of the Map Entries that are in the Schema, collecting the Names of the Entries that
+	 * 	are not
+	 * 
+	 * @param mapMeasure The Map of the Measures
+	 * @param setstrUnknown The Set that receives the Names of the Measures not in the Schema (may be null)
+	 * 
+	 * @return The Number of Map Entries not in the Schema (-1 => Invalid Inputs)
+	 */
+
+	public int load (
+		final java.util.Map<java.lang.String, java.lang.Double> mapMeasure,
+		final java.util.Set<java.lang.String> setstrUnknown)
+	{
+		if (null == mapMeasure) return -1;
+
+		int iNumUnknown = 0;
+
+		for (java.util.Map.Entry<java.lang.String, java.lang.Double> me : mapMeasure.entrySet()) {
+			java.lang.String strName = me.getKey();
+
+			int iSlot = _ms.slot (strName);
+
+			if (-1 == iSlot) {
+				++iNumUnknown;
+
+				if (null != setstrUnknown) setstrUnknown.add (strName);
+
+				continue;
+			}
+
+			java.lang.Double dblValue = me.getValue();
+
+			if (null != dblValue) set (iSlot, dblValue);
+		}
+
+		return iNumUnknown;
+	}
+
+	/**
+	 * Load the Values of the Map Entries that are in the Schema. Entries not in the Schema are not loaded,
+	 * 	and are reported through the Return Value.
+	 * 
+	 * @param mapMeasure The Map of the Measures
+	 * 
+	 * @return TRUE => The Map has been loaded in full; FALSE => Invalid Inputs, or the Map has Measures
+	 * 	not in the Schema
+	 */
+
+	public boolean load (
+		final java.util.Map<java.lang.String, java.lang.Double> mapMeasure)
+	{
+		return 0 == load (mapMeasure, null);
+	}
+
+	/**
+	 * Indicate if the Value in the Slot is available
+	 * 
+	 * @param iSlot The Slot
+	 * 
+	 * @return TRUE => The Value is available
+	 */
+
+	public boolean available (
+		final int iSlot)
+	{
+		return 0 <= iSlot && iSlot < _abAvailable.length && _abAvailable[iSlot];
+	}
+
+	/**
+	 * Retrieve the Value in the Slot
+	 * 
+	 * @param iSlot The Slot
+	 * 
+	 * @return The Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Value is not available
+	 */
+
+	public double value (
+		final int iSlot)
+		throws java.lang.Exception
+	{
+		if (!available (iSlot))
+			throw new java.lang.Exception ("MeasureVector::value => Measure not available in Slot " + iSlot);
+
+		return _adblValue[iSlot];
+	}
+
+	/**
+	 * Retrieve the Value of the Named Measure
+	 * 
+	 * @param strName The Measure Name
+	 * 
+	 * @return The Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Value is not available
+	 */
+
+	public double value (
+		final java.lang.String strName)
+		throws java.lang.Exception
+	{
+		int iSlot = _ms.slot (strName);
+
+		if (!available (iSlot))
+			throw new java.lang.Exception ("MeasureVector::value => Measure not available: " + strName);
+
+		return _adblValue[iSlot];
+	}
+
+	/**
+	 * Retrieve the Number of Available Values
+	 * 
+	 * @return The Number of Available Values
+	 */
+
+	public int numAvailable()
+	{
+		int iNumAvailable = 0;
+
+		for (int i = 0; i < _abAvailable.length; ++i) {
+			if (_abAvailable[i]) ++iNumAvailable;
+		}
+
+		return iNumAvailable;
+	}
+
+	/**
+	 * Retrieve the read-only Map View of the Available Measures. The View is keyed (Case-insensitively) by
+	 * 	the Schema Names, iterates in Slot Order, and tracks the Vector as it is reset and re-filled.
+	 * 
+	 * @return The Map View of the Available Measures
+	 */
+
+	public java.util.Map<java.lang.String, java.lang.Double> toMap()
+	{
+		if (null == _mapView) _mapView = new AvailableSlotMap();
+
+		return _mapView;
+	}
+
+	/**
+	 * Generate a CaseInsensitiveTreeMap Copy of the Available Measures
+	 * 
+	 * @return The Copy of the Available Measures
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> toTreeMap()
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		for (int i = 0; i < _adblValue.length; ++i) {
+			if (_abAvailable[i]) mapMeasure.put (_ms.name (i), _adblValue[i]);
+		}
+
+		return mapMeasure;
+	}
+}
@@ -233,6 +233,33 @@ public abstract class DiscountCurve implements org.drip.analytics.rates.Discount
 		return df (epoch().addTenor (strTenor));
 	}
 
+	/**
+	 * Compute the Discount Factors to the Array of Dates in one Call, into the supplied Buffer
+	 * 
+	 * @param adblDate Array of Dates
+	 * @param adblDF Buffer of Discount Factors - at least as long as the Array of Dates
+	 * 
+	 * @return TRUE => The Discount Factors have been computed
+	 */
+
+	public boolean df (
+		final double[] adblDate,
+		final double[] adblDF)
+	{
+		if (null == adblDate || null == adblDF || adblDF.length < adblDate.length) return false;
+
+		try {
+			for (int i = 0; i < adblDate.length; ++i)
+				adblDF[i] = df (adblDate[i]);
+
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return false;
+	}
+
 	@Override public double effectiveDF (
 		final double dblDate1,
 		final double dblDate2)
@@ -513,6 +540,17 @@ public abstract class DiscountCurve implements org.drip.analytics.rates.Discount
 
 	public abstract java.lang.String latentStateQuantificationMetric();
 
+	/**
+	 * Retrieve the Forward Node Dates - the Instantaneous Forward Rate is constant between successive Nodes
+	 * 
+	 * @return The Forward Node Dates (NULL => The Curve is not Piecewise Constant in the Forward Rate)
+	 */
+
+	public double[] forwardNodeDates()
+	{
+		return null;
+	}
+
 	/**
 	 * Retrieve the Manifest Measure Jacobian of the Discount Factor to the given date
 	 * 
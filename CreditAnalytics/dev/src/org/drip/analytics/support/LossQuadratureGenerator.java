@@ -39,6 +39,114 @@ package org.drip.analytics.support;
  */
 
 public class LossQuadratureGenerator {
+	private static final double SERIES_EXPONENT_THRESHOLD = 1.e-04;
+
+	private static final boolean AddGridNodes (
+		final java.util.Set<java.lang.Double> setGrid,
+		final double[] adblNodeDate,
+		final double dblShift,
+		final double dblStartDate,
+		final double dblEndDate)
+	{
+		if (null == adblNodeDate) return false;
+
+		for (double dblNodeDate : adblNodeDate) {
+			double dblGridDate = dblNodeDate - dblShift;
+
+			if (dblGridDate > dblStartDate && dblGridDate < dblEndDate) setGrid.add (dblGridDate);
+		}
+
+		return true;
+	}
+
+	private static final void AddMonthStartNodes (
+		final java.util.Set<java.lang.Double> setGrid,
+		final double dblStartDate,
+		final double dblEndDate)
+		throws java.lang.Exception
+	{
+		int iYear = org.drip.analytics.date.DateUtil.Year (dblStartDate);
+
+		int iMonth = org.drip.analytics.date.DateUtil.Month (dblStartDate);
+
+		while (true) {
+			if (12 < ++iMonth) {
+				iMonth = 1;
+				++iYear;
+			}
+
+			double dblMonthStart = org.drip.analytics.date.DateUtil.ToJulian (iYear, iMonth, 1);
+
+			if (dblMonthStart >= dblEndDate) return;
+
+			if (dblMonthStart > dblStartDate) setGrid.add (dblMonthStart);
+		}
+	}
+
+	/*
+	 * Over [dblStartDate, dblEndDate] the Hazard Rate h and the Forward Rate f are constant, so that with
+	 * 	x = (h + f) * Span, and the Accrual DCF linear in the Date, the Default Leg and the Accrual on
+	 * 	Default integrate to
+	 * 
+	 * 		Loss DF = DF (Start) * S (Start) * h * Span * (1 - exp (-x)) / x / (S (Start) - S (End))
+	 * 
+	 * 		Accrual DCF = DCF (Start) + 2 * [DCF (Mid) - DCF (Start)] * (1 - exp (-x) - x * exp (-x)) / x / (1
+	 * 			- exp (-x))
+	 * 
+	 * The Accrual DCF is linear inside each Calendar Month of each Composable Unit Period (the Month and the
+	 * 	Unit Start Dates are also on the Grid, since the 30/360 and the NL Day Counts jump at the Month Ends),
+	 * 	and its Slope is read off of the Start and the Mid-point, since it may jump at the Sub-Period End.
+	 */
+
+	private static final org.drip.analytics.cashflow.LossQuadratureMetrics PiecewiseConstantLossMetrics (
+		final org.drip.product.definition.CreditComponent comp,
+		final org.drip.analytics.cashflow.CompositePeriod period,
+		final double dblStartDate,
+		final double dblEndDate,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.definition.CreditCurve cc,
+		final int iLossPayLag)
+		throws java.lang.Exception
+	{
+		double dblStartDF = dc.df (dblStartDate + iLossPayLag);
+
+		double dblStartSurvival = cc.survival (dblStartDate);
+
+		double dblEndSurvival = cc.survival (dblEndDate);
+
+		double dblMidAccrualDCF = period.accrualDCF (0.5 * (dblStartDate + dblEndDate));
+
+		if (0. >= dblEndSurvival || dblEndSurvival >= dblStartSurvival || 0. >= dblStartDF)
+			return new org.drip.analytics.cashflow.LossQuadratureMetrics (dblStartDate, dblEndDate,
+				dblStartSurvival, dblEndSurvival, dblMidAccrualDCF, comp.notional (dblStartDate, dblEndDate),
+					comp.recovery (dblStartDate, dblEndDate, cc), dc.effectiveDF (dblStartDate + iLossPayLag,
+						dblEndDate + iLossPayLag));
+
+		double dblHazardExponent = java.lang.Math.log (dblStartSurvival / dblEndSurvival);
+
+		double dblExponent = dblHazardExponent + java.lang.Math.log (dblStartDF / dc.df (dblEndDate +
+			iLossPayLag));
+
+		double dblDecayFraction = 1. - dblExponent * (0.5 - dblExponent / 6.);
+		double dblAccrualFraction = 0.5 - dblExponent / 12.;
+
+		if (SERIES_EXPONENT_THRESHOLD < java.lang.Math.abs (dblExponent)) {
+			double dblDecay = -1. * java.lang.Math.expm1 (-1. * dblExponent);
+
+			dblDecayFraction = dblDecay / dblExponent;
+
+			dblAccrualFraction = (dblDecay - dblExponent * java.lang.Math.exp (-1. * dblExponent)) /
+				(dblExponent * dblDecay);
+		}
+
+		double dblStartAccrualDCF = period.accrualDCF (dblStartDate);
+
+		return new org.drip.analytics.cashflow.LossQuadratureMetrics (dblStartDate, dblEndDate,
+			dblStartSurvival, dblEndSurvival, dblStartAccrualDCF + 2. * (dblMidAccrualDCF -
+				dblStartAccrualDCF) * dblAccrualFraction, comp.notional (dblStartDate, dblEndDate),
+					comp.recovery (dblStartDate, dblEndDate, cc), dblStartDF * dblStartSurvival *
+						dblHazardExponent * dblDecayFraction / (dblStartSurvival - dblEndSurvival));
+	}
 
 	/**
 	 * Generate the Set of Loss Quadrature Metrics from the Day Step Loss Periods
@@ -257,4 +365,100 @@ public class LossQuadratureGenerator {
 
 		return sLP;
 	}
+
+	/**
+	 * Generate the Set of Loss Quadrature Metrics over the merged Credit/Funding Curve Node Grid. The Hazard
+	 * 	and the Forward Rates (and the Accrual DCF Slope) are constant between the Grid Nodes, so the Default
+	 * 	Leg and the Accrual on Default are integrated in Closed Form (as in the ISDA Standard Model) and
+	 * 	carried by the Effective Discount Factor and the Accrual DCF of each Loss Quadrature Metric. The Grid
+	 * 	also carries the Calendar Month Starts, over which the Accrual DCF is linear for all the Day Counts.
+	 * 	Should either Curve not expose its Node Grid, the Grid is refined at the specified Day Step.
+	 * 
+	 * @param comp Component for which the measures are to be generated
+	 * @param valParams ValuationParams from which the periods are generated
+	 * @param period The enveloping coupon period
+	 * @param dblWorkoutDate Double JulianDate representing the absolute end of all the generated periods
+	 * @param iPeriodUnit Day Step Size Unit used if either Curve's Node Grid is unavailable
+	 * @param csqs The Market Parameters Curves/Quotes
+	 *  
+	 * @return List of the generated LossQuadratureMetrics
+	 */
+
+	public static final java.util.List<org.drip.analytics.cashflow.LossQuadratureMetrics>
+		GeneratePiecewiseConstantLossPeriods (
+			final org.drip.product.definition.CreditComponent comp,
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.analytics.cashflow.CompositePeriod period,
+			final double dblWorkoutDate,
+			final int iPeriodUnit,
+			final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+	{
+		if (null == comp || null == valParams || null == period || null == csqs || null == csqs.creditCurve
+			(comp.creditLabel()) || !org.drip.quant.common.NumberUtil.IsValid (dblWorkoutDate) ||
+				period.startDate() > dblWorkoutDate)
+			return null;
+
+		org.drip.analytics.rates.DiscountCurve dc = csqs.fundingCurve
+			(org.drip.state.identifier.FundingLabel.Standard (comp.payCurrency()));
+
+		if (null == dc) return null;
+
+		org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (comp.creditLabel());
+
+		double dblPeriodEndDate = period.endDate() < dblWorkoutDate ? period.endDate() : dblWorkoutDate;
+
+		double dblPeriodStartDate = period.startDate() < valParams.valueDate() ? valParams.valueDate() :
+			period.startDate();
+
+		if (dblPeriodEndDate <= dblPeriodStartDate) return null;
+
+		int iLossPayLag = comp.creditValuationParams().lossPayLag();
+
+		java.util.TreeSet<java.lang.Double> setGrid = new java.util.TreeSet<java.lang.Double>();
+
+		setGrid.add (dblPeriodStartDate);
+
+		setGrid.add (dblPeriodEndDate);
+
+		boolean bHazardGrid = AddGridNodes (setGrid, cc.hazardNodeDates(), 0., dblPeriodStartDate,
+			dblPeriodEndDate);
+
+		boolean bForwardGrid = AddGridNodes (setGrid, dc.forwardNodeDates(), iLossPayLag,
+			dblPeriodStartDate, dblPeriodEndDate);
+
+		for (org.drip.analytics.cashflow.ComposableUnitPeriod cup : period.periods()) {
+			double dblUnitStartDate = cup.startDate();
+
+			if (dblUnitStartDate > dblPeriodStartDate && dblUnitStartDate < dblPeriodEndDate)
+				setGrid.add (dblUnitStartDate);
+		}
+
+		if ((!bHazardGrid || !bForwardGrid) && 0 < iPeriodUnit) {
+			for (double dblDate = dblPeriodStartDate + iPeriodUnit; dblDate < dblPeriodEndDate; dblDate +=
+				iPeriodUnit)
+				setGrid.add (dblDate);
+		}
+
+		java.util.List<org.drip.analytics.cashflow.LossQuadratureMetrics> sLP = new
+			java.util.ArrayList<org.drip.analytics.cashflow.LossQuadratureMetrics>();
+
+		try {
+			AddMonthStartNodes (setGrid, dblPeriodStartDate, dblPeriodEndDate);
+
+			double dblSubPeriodStart = setGrid.pollFirst();
+
+			for (double dblSubPeriodEnd : setGrid) {
+				sLP.add (PiecewiseConstantLossMetrics (comp, period, dblSubPeriodStart, dblSubPeriodEnd, dc,
+					cc, iLossPayLag));
+
+				dblSubPeriodStart = dblSubPeriodEnd;
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		return sLP;
+	}
 }
@@ -0,0 +1,238 @@
+
+package org.drip.dynamics.evolution;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * ConvergenceReport holds the Convergence of a Monte-Carlo Estimate with the Path Count. At each Path Count
+ * 	the Estimate is computed off Independent Replications of the Driver (fresh Seeds for Pseudo-random
+ * 	Drivers, fresh Digital Shifts for Sobol Drivers); the Standard Error is the Dispersion of the
+ * 	Replicated Estimates. The Convergence Order is the Slope of log(Standard Error) against log(Path
+ * 	Count) - 0.5 for Pseudo-random Paths, approaching 1 for well-behaved Quasi-random ones.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ConvergenceReport {
+	private int[] _aiPathCount = null;
+	private double[] _adblEstimate = null;
+	private double[] _adblStandardError = null;
+
+	/**
+	 * Generate the Convergence Report of the Estimator
+	 * 
+	 * @param pe The Path Estimator
+	 * @param pgd The Path Gaussian Driver to be Replicated
+	 * @param aiPathCount Array of Increasing Path Counts
+	 * @param iNumReplication Number of Independent Replications at each Path Count
+	 * 
+	 * @return The Convergence Report
+	 */
+
+	public static final ConvergenceReport Generate (
+		final org.drip.dynamics.evolution.PathEstimator pe,
+		final org.drip.sequence.random.PathGaussianDriver pgd,
+		final int[] aiPathCount,
+		final int iNumReplication)
+	{
+		if (null == pe || null == pgd || null == aiPathCount || 2 > iNumReplication) return null;
+
+		int iNumPathCount = aiPathCount.length;
+		double[] adblEstimate = new double[iNumPathCount];
+		double[] adblStandardError = new double[iNumPathCount];
+
+		if (0 == iNumPathCount) return null;
+
+		try {
+			for (int i = 0; i < iNumPathCount; ++i) {
+				double dblSum = 0.;
+				double dblSumSquare = 0.;
+
+				for (int j = 0; j < iNumReplication; ++j) {
+					org.drip.sequence.random.PathGaussianDriver pgdReplication = pgd.replicate (j);
+
+					if (null == pgdReplication) return null;
+
+					double dblReplicationEstimate = pe.estimate (pgdReplication, aiPathCount[i]);
+
+					dblSum += dblReplicationEstimate;
+					dblSumSquare += dblReplicationEstimate * dblReplicationEstimate;
+				}
+
+				adblEstimate[i] = dblSum / iNumReplication;
+				double dblVariance = (dblSumSquare - dblSum * adblEstimate[i]) / (iNumReplication - 1);
+
+				adblStandardError[i] = java.lang.Math.sqrt (java.lang.Math.max (dblVariance, 0.) /
+					iNumReplication);
+			}
+
+			return new ConvergenceReport (aiPathCount, adblEstimate, adblStandardError);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * ConvergenceReport Constructor
+	 * 
+	 * @param aiPathCount Array of Increasing Path Counts
+	 * @param adblEstimate Array of the Estimates
+	 * @param adblStandardError Array of the Standard Errors
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public ConvergenceReport (
+		final int[] aiPathCount,
+		final double[] adblEstimate,
+		final double[] adblStandardError)
+		throws java.lang.Exception
+	{
+		if (null == (_aiPathCount = aiPathCount) || null == (_adblEstimate = adblEstimate) || null ==
+			(_adblStandardError = adblStandardError))
+			throw new java.lang.Exception ("ConvergenceReport ctr: Invalid Inputs");
+
+		int iNumPathCount = _aiPathCount.length;
+
+		if (0 == iNumPathCount || iNumPathCount != _adblEstimate.length || iNumPathCount !=
+			_adblStandardError.length)
+			throw new java.lang.Exception ("ConvergenceReport ctr: Invalid Inputs");
+
+		for (int i = 0; i < iNumPathCount; ++i) {
+			if (0 >= _aiPathCount[i] || (0 != i && _aiPathCount[i] <= _aiPathCount[i - 1]) ||
+				!org.drip.quant.common.NumberUtil.IsValid (_adblEstimate[i]) ||
+					!org.drip.quant.common.NumberUtil.IsValid (_adblStandardError[i]))
+				throw new java.lang.Exception ("ConvergenceReport ctr: Invalid Inputs");
+		}
+	}
+
+	/**
+	 * Retrieve the Array of Path Counts
+	 * 
+	 * @return The Array of Path Counts
+	 */
+
+	public int[] pathCount()
+	{
+		return _aiPathCount;
+	}
+
+	/**
+	 * Retrieve the Array of Estimates
+	 * 
+	 * @return The Array of Estimates
+	 */
+
+	public double[] estimate()
+	{
+		return _adblEstimate;
+	}
+
+	/**
+	 * Retrieve the Array of Standard Errors
+	 * 
+	 * @return The Array of Standard Errors
+	 */
+
+	public double[] standardError()
+	{
+		return _adblStandardError;
+	}
+
+	/**
+	 * Compute the Convergence Order, i.e., the Negative of the Least Squares Slope of log(Standard Error)
+	 * 	against log(Path Count)
+	 * 
+	 * @return The Convergence Order
+	 * 
+	 * @throws java.lang.Exception Thrown if the Convergence Order cannot be computed
+	 */
+
+	public double convergenceOrder()
+		throws java.lang.Exception
+	{
+		int iNumPathCount = _aiPathCount.length;
+
+		if (2 > iNumPathCount)
+			throw new java.lang.Exception ("ConvergenceReport::convergenceOrder => Too few Path Counts");
+
+		double dblSumX = 0.;
+		double dblSumY = 0.;
+		double dblSumXX = 0.;
+		double dblSumXY = 0.;
+
+		for (int i = 0; i < iNumPathCount; ++i) {
+			if (0. >= _adblStandardError[i])
+				throw new java.lang.Exception ("ConvergenceReport::convergenceOrder => Zero Standard Error");
+
+			double dblX = java.lang.Math.log (_aiPathCount[i]);
+
+			double dblY = java.lang.Math.log (_adblStandardError[i]);
+
+			dblSumX += dblX;
+			dblSumY += dblY;
+			dblSumXX += dblX * dblX;
+			dblSumXY += dblX * dblY;
+		}
+
+		return -1. * (iNumPathCount * dblSumXY - dblSumX * dblSumY) / (iNumPathCount * dblSumXX - dblSumX *
+			dblSumX);
+	}
+
+	/**
+	 * Extrapolate the Path Count needed to bring the Standard Error down to the Target, using the Convergence
+	 * 	Order off of the Largest Path Count
+	 * 
+	 * @param dblTargetStandardError The Target Standard Error
+	 * 
+	 * @return The Path Count needed
+	 * 
+	 * @throws java.lang.Exception Thrown if the Path Count cannot be extrapolated
+	 */
+
+	public double pathCountForTarget (
+		final double dblTargetStandardError)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblTargetStandardError) || 0. >=
+			dblTargetStandardError)
+			throw new java.lang.Exception ("ConvergenceReport::pathCountForTarget => Invalid Inputs");
+
+		double dblConvergenceOrder = convergenceOrder();
+
+		if (0. >= dblConvergenceOrder)
+			throw new java.lang.Exception ("ConvergenceReport::pathCountForTarget => No Convergence");
+
+		int iLast = _aiPathCount.length - 1;
+
+		return _aiPathCount[iLast] * java.lang.Math.pow (_adblStandardError[iLast] / dblTargetStandardError,
+			1. / dblConvergenceOrder);
+	}
+}
@@ -0,0 +1,56 @@
+
+package org.drip.dynamics.evolution;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * PathEstimator is the Interface implemented by the Monte-Carlo Estimators that can be run off of a
+ * 	PathGaussianDriver - typically by plugging the Driver's Factor Sequences into a State Evolver and
+ * 	averaging the Path Outcomes.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public interface PathEstimator {
+
+	/**
+	 * Estimate the Quantity as the Average over the first iNumPath Paths of the Driver
+	 * 
+	 * @param pgd The Path Gaussian Driver
+	 * @param iNumPath The Number of Paths
+	 * 
+	 * @return The Estimate
+	 * 
+	 * @throws java.lang.Exception Thrown if the Estimate cannot be computed
+	 */
+
+	public abstract double estimate (
+		final org.drip.sequence.random.PathGaussianDriver pgd,
+		final int iNumPath)
+		throws java.lang.Exception;
+}
@@ -0,0 +1,767 @@
+
+package org.drip.dynamics.hullwhite;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+/**
+ * RecombiningTrinomialLattice is the Standard Recombining Hull-White Trinomial Lattice for the One-Factor
+ * 	Short Rate. The Lattice is held as Flat per-Level Arrays - the Nodes of Level i span the Indices
+ * 	-min (i, jMax) ... min (i, jMax), so the Construction and the Induction are O (n^2) in Time and Memory.
+ * 	It implements the following:
+ * 	- Mean Reversion Truncated Branching at the jMax Boundary Nodes
+ * 	- Forward Induction of the Arrow-Debreu Prices, fitting the Level Alphas to the Initial Term Structure
+ * 	- Analytical Node Discount Bond Prices to off-Lattice Dates
+ * 	- Backward Induction for (Callable/Puttable) Cash Flow Streams and (Bermudan) Swaptions
+ * 
+ * The References are:
+ * 
+ *  - Hull, J., and A. White (1994): Numerical Procedures for Implementing Term Structure Models I:
+ *  	Single-Factor Models, Journal of Derivatives 2 (1) 7-16.
+ * 
+ *  - Hull, J. (2012): Options, Futures, and Other Derivatives, Pearson.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class RecombiningTrinomialLattice {
+	private int _iNumStep = -1;
+	private int _iMaxIndex = -1;
+	private int _iDayIncrement = -1;
+	private double[] _adblAlpha = null;
+	private double[] _adblLogDF = null;
+	private int[] _aiCentralTarget = null;
+	private double _dblA = java.lang.Double.NaN;
+	private double[] _adblProbabilityUp = null;
+	private double[][] _aadblArrowDebreu = null;
+	private double[] _adblProbabilityDown = null;
+	private double[] _adblProbabilityStay = null;
+	private double _dblSigma = java.lang.Double.NaN;
+	private double _dblXShift = java.lang.Double.NaN;
+	private double _dblSpotDate = java.lang.Double.NaN;
+	private double _dblLogSpotDF = java.lang.Double.NaN;
+	private double _dblTimeStep = java.lang.Double.NaN;
+	private double _dblStepB = java.lang.Double.NaN;
+	private org.drip.analytics.rates.DiscountCurve _dc = null;
+
+	private double exerciseHorizon (
+		final double[] adblExerciseDate)
+		throws java.lang.Exception
+	{
+		double dblHorizon = _dblSpotDate;
+
+		for (int i = 0; i < adblExerciseDate.length; ++i) {
+			if (!org.drip.quant.common.NumberUtil.IsValid (adblExerciseDate[i]))
+				throw new java.lang.Exception
+					("RecombiningTrinomialLattice::exerciseHorizon => Invalid Exercise Date");
+
+			if (adblExerciseDate[i] > dblHorizon) dblHorizon = adblExerciseDate[i];
+		}
+
+		if (dblHorizon >= _dblSpotDate + (_iNumStep + 1) * _iDayIncrement)
+			throw new java.lang.Exception
+				("RecombiningTrinomialLattice::exerciseHorizon => Exercise Date beyond the Lattice");
+
+		return dblHorizon;
+	}
+
+	private double rateLoading (
+		final int iStep,
+		final double dblMaturityDate)
+	{
+		double dblTenor = (dblMaturityDate - stepDate (iStep)) / 365.25;
+
+		return 0. >= dblTenor ? 0. : -1. * java.lang.Math.expm1 (-1. * _dblA * dblTenor) / _dblA / _dblStepB
+			* _dblTimeStep;
+	}
+
+	private double logA (
+		final int iStep,
+		final double dblMaturityDate,
+		final double dblSpread)
+		throws java.lang.Exception
+	{
+		double dblTenor = (dblMaturityDate - stepDate (iStep)) / 365.25;
+
+		if (0. >= dblTenor) return 0.;
+
+		double dblB = -1. * java.lang.Math.expm1 (-1. * _dblA * dblTenor) / _dblA;
+
+		return java.lang.Math.log (_dc.df (dblMaturityDate)) - _dblLogSpotDF - _adblLogDF[iStep] - dblB /
+			_dblStepB * (_adblLogDF[iStep + 1] - _adblLogDF[iStep]) - 0.25 * _dblSigma * _dblSigma * -1. *
+				java.lang.Math.expm1 (-2. * _dblA * iStep * _dblTimeStep) * dblB * (dblB - _dblStepB) / _dblA -
+					dblSpread * dblTenor;
+	}
+
+	/**
+	 * Construct a Recombining Trinomial Lattice from the Hull-White State Evolver's Parameters
+	 * 
+	 * @param hw The Hull-White Single Factor State Evolver
+	 * @param dc The Initial Term Structure Discount Curve
+	 * @param dblSpotDate The Spot Date
+	 * @param dblHorizonDate The Horizon Date the Lattice must cover
+	 * @param iDayIncrement The Lattice Step in Days
+	 * 
+	 * @return The Recombining Trinomial Lattice
+	 */
+
+	public static final RecombiningTrinomialLattice Standard (
+		final org.drip.dynamics.hullwhite.SingleFactorStateEvolver hw,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final double dblSpotDate,
+		final double dblHorizonDate,
+		final int iDayIncrement)
+	{
+		if (null == hw || !org.drip.quant.common.NumberUtil.IsValid (dblSpotDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblHorizonDate) || dblHorizonDate < dblSpotDate || 0
+				>= iDayIncrement)
+			return null;
+
+		try {
+			return new RecombiningTrinomialLattice (hw.a(), hw.sigma(), dc, dblSpotDate, iDayIncrement,
+				(int) java.lang.Math.ceil ((dblHorizonDate - dblSpotDate) / iDayIncrement));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * RecombiningTrinomialLattice Constructor
+	 * 
+	 * @param dblA The Mean Reversion Speed (must be Positive)
+	 * @param dblSigma The Short Rate Volatility
+	 * @param dc The Initial Term Structure Discount Curve
+	 * @param dblSpotDate The Spot Date
+	 * @param iDayIncrement The Lattice Step in Days
+	 * @param iNumStep The Number of Lattice Steps
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public RecombiningTrinomialLattice (
+		final double dblA,
+		final double dblSigma,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final double dblSpotDate,
+		final int iDayIncrement,
+		final int iNumStep)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblA = dblA) || 0. >= _dblA ||
+			!org.drip.quant.common.NumberUtil.IsValid (_dblSigma = dblSigma) || 0. >= _dblSigma || null ==
+				(_dc = dc) || !org.drip.quant.common.NumberUtil.IsValid (_dblSpotDate = dblSpotDate) || 0 >=
+					(_iDayIncrement = iDayIncrement) || 0 > (_iNumStep = iNumStep))
+			throw new java.lang.Exception ("RecombiningTrinomialLattice ctr: Invalid Inputs");
+
+		_dblTimeStep = _iDayIncrement / 365.25;
+
+		double dblM = java.lang.Math.expm1 (-1. * _dblA * _dblTimeStep);
+
+		_dblStepB = -1. * dblM / _dblA;
+
+		_dblXShift = java.lang.Math.sqrt (1.5 * _dblSigma * _dblSigma * (1. - (1. + dblM) * (1. + dblM)) /
+			_dblA);
+
+		_iMaxIndex = (int) java.lang.Math.min (_iNumStep + 1, java.lang.Math.ceil (0.184 / (-1. * dblM)));
+
+		int iNumIndex = 2 * _iMaxIndex + 1;
+		_aiCentralTarget = new int[iNumIndex];
+		_adblProbabilityUp = new double[iNumIndex];
+		_adblProbabilityDown = new double[iNumIndex];
+		_adblProbabilityStay = new double[iNumIndex];
+
+		for (int j = -_iMaxIndex; j <= _iMaxIndex; ++j) {
+			int k = j + _iMaxIndex;
+			double dblJM = j * dblM;
+			double dblJM2 = dblJM * dblJM;
+
+			if (j == _iMaxIndex) {
+				_aiCentralTarget[k] = j - 1;
+				_adblProbabilityUp[k] = (7. / 6.) + 0.5 * (dblJM2 + 3. * dblJM);
+				_adblProbabilityStay[k] = -(1. / 3.) - dblJM2 - 2. * dblJM;
+				_adblProbabilityDown[k] = (1. / 6.) + 0.5 * (dblJM2 + dblJM);
+			} else if (j == -_iMaxIndex) {
+				_aiCentralTarget[k] = j + 1;
+				_adblProbabilityUp[k] = (1. / 6.) + 0.5 * (dblJM2 - dblJM);
+				_adblProbabilityStay[k] = -(1. / 3.) - dblJM2 + 2. * dblJM;
+				_adblProbabilityDown[k] = (7. / 6.) + 0.5 * (dblJM2 - 3. * dblJM);
+			} else {
+				_aiCentralTarget[k] = j;
+				_adblProbabilityUp[k] = (1. / 6.) + 0.5 * (dblJM2 + dblJM);
+				_adblProbabilityStay[k] = (2. / 3.) - dblJM2;
+				_adblProbabilityDown[k] = (1. / 6.) + 0.5 * (dblJM2 - dblJM);
+			}
+		}
+
+		_adblLogDF = new double[_iNumStep + 2];
+		_adblAlpha = new double[_iNumStep + 1];
+		_aadblArrowDebreu = new double[_iNumStep + 1][];
+
+		for (int i = 0; i <= _iNumStep + 1; ++i) {
+			double dblDF = _dc.df (_dblSpotDate + i * _iDayIncrement);
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblDF) || 0. >= dblDF)
+				throw new java.lang.Exception ("RecombiningTrinomialLattice ctr: Invalid Discount Factor");
+
+			_adblLogDF[i] = java.lang.Math.log (dblDF);
+		}
+
+		/*
+		 * The Lattice discounts to the Spot Date, so the Term Structure is re-based there.
+		 */
+
+		_dblLogSpotDF = _adblLogDF[0];
+
+		for (int i = 0; i <= _iNumStep + 1; ++i)
+			_adblLogDF[i] -= _dblLogSpotDF;
+
+		/*
+		 * Forward Induction: Each Level's Alpha is set so that its Arrow-Debreu Prices re-price the Discount
+		 * 	Bond maturing at the Next Level, and then the Arrow-Debreu Prices are propagated to it.
+		 */
+
+		_aadblArrowDebreu[0] = new double[] {1.};
+
+		for (int i = 0; i <= _iNumStep; ++i) {
+			int iWidth = width (i);
+			double dblStateSum = 0.;
+			double[] adblArrowDebreu = _aadblArrowDebreu[i];
+
+			for (int j = -iWidth; j <= iWidth; ++j)
+				dblStateSum += adblArrowDebreu[j + iWidth] * java.lang.Math.exp (-1. * j * _dblXShift *
+					_dblTimeStep);
+
+			_adblAlpha[i] = (java.lang.Math.log (dblStateSum) - _adblLogDF[i + 1]) / _dblTimeStep;
+
+			if (i == _iNumStep) break;
+
+			int iNextWidth = width (i + 1);
+			double[] adblNextArrowDebreu = _aadblArrowDebreu[i + 1] = new double[2 * iNextWidth + 1];
+
+			for (int j = -iWidth; j <= iWidth; ++j) {
+				int k = j + _iMaxIndex;
+				int iTarget = _aiCentralTarget[k] + iNextWidth;
+
+				double dblDiscountedState = adblArrowDebreu[j + iWidth] * java.lang.Math.exp (-1. *
+					(_adblAlpha[i] + j * _dblXShift) * _dblTimeStep);
+
+				adblNextArrowDebreu[iTarget + 1] += _adblProbabilityUp[k] * dblDiscountedState;
+				adblNextArrowDebreu[iTarget] += _adblProbabilityStay[k] * dblDiscountedState;
+				adblNextArrowDebreu[iTarget - 1] += _adblProbabilityDown[k] * dblDiscountedState;
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the Mean Reversion Speed
+	 * 
+	 * @return The Mean Reversion Speed
+	 */
+
+	public double a()
+	{
+		return _dblA;
+	}
+
+	/**
+	 * Retrieve the Short Rate Volatility
+	 * 
+	 * @return The Short Rate Volatility
+	 */
+
+	public double sigma()
+	{
+		return _dblSigma;
+	}
+
+	/**
+	 * Retrieve the Spot Date
+	 * 
+	 * @return The Spot Date
+	 */
+
+	public double spotDate()
+	{
+		return _dblSpotDate;
+	}
+
+	/**
+	 * Retrieve the Lattice Step in Days
+	 * 
+	 * @return The Lattice Step in Days
+	 */
+
+	public int dayIncrement()
+	{
+		return _iDayIncrement;
+	}
+
+	/**
+	 * Retrieve the Number of Lattice Steps
+	 * 
+	 * @return The Number of Lattice Steps
+	 */
+
+	public int numStep()
+	{
+		return _iNumStep;
+	}
+
+	/**
+	 * Retrieve the Lattice Time Step in Years
+	 * 
+	 * @return The Lattice Time Step in Years
+	 */
+
+	public double timeStep()
+	{
+		return _dblTimeStep;
+	}
+
+	/**
+	 * Retrieve the Spacing of the Short Rate Nodes
+	 * 
+	 * @return The Spacing of the Short Rate Nodes
+	 */
+
+	public double xShift()
+	{
+		return _dblXShift;
+	}
+
+	/**
+	 * Retrieve the Truncation Index jMax
+	 * 
+	 * @return The Truncation Index jMax
+	 */
+
+	public int maxIndex()
+	{
+		return _iMaxIndex;
+	}
+
+	/**
+	 * Retrieve the Half Width of the specified Level - its Node Indices run from -width to +width
+	 * 
+	 * @param iStep The Level
+	 * 
+	 * @return The Half Width of the Level
+	 */
+
+	public int width (
+		final int iStep)
+	{
+		return iStep < _iMaxIndex ? iStep : _iMaxIndex;
+	}
+
+	/**
+	 * Retrieve the Date of the specified Level
+	 * 
+	 * @param iStep The Level
+	 * 
+	 * @return The Date of the Level
+	 */
+
+	public double stepDate (
+		final int iStep)
+	{
+		return _dblSpotDate + iStep * _iDayIncrement;
+	}
+
+	/**
+	 * Retrieve the Alpha fitted at the specified Level
+	 * 
+	 * @param iStep The Level
+	 * 
+	 * @return The Level Alpha
+	 * 
+	 * @throws java.lang.Exception Thrown if the Level is Invalid
+	 */
+
+	public double alpha (
+		final int iStep)
+		throws java.lang.Exception
+	{
+		if (0 > iStep || iStep > _iNumStep)
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::alpha => Invalid Inputs");
+
+		return _adblAlpha[iStep];
+	}
+
+	/**
+	 * Retrieve the Arrow-Debreu Prices of the Nodes at the specified Level
+	 * 
+	 * @param iStep The Level
+	 * 
+	 * @return The Arrow-Debreu Prices, indexed from the Level's Bottom Node
+	 */
+
+	public double[] arrowDebreu (
+		final int iStep)
+	{
+		return 0 > iStep || iStep > _iNumStep ? null : _aadblArrowDebreu[iStep];
+	}
+
+	/**
+	 * Compute the Lattice Short Rate (the Rate over the Lattice Step) at the specified Node
+	 * 
+	 * @param iStep The Level
+	 * @param iIndex The Node Index
+	 * 
+	 * @return The Node Short Rate
+	 * 
+	 * @throws java.lang.Exception Thrown if the Node is Invalid
+	 */
+
+	public double shortRate (
+		final int iStep,
+		final int iIndex)
+		throws java.lang.Exception
+	{
+		if (0 > iStep || iStep > _iNumStep || iIndex < -width (iStep) || iIndex > width (iStep))
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::shortRate => Invalid Inputs");
+
+		return _adblAlpha[iStep] + iIndex * _dblXShift;
+	}
+
+	/**
+	 * Compute the Analytical Price at the specified Node of the Discount Bond maturing on the given Date
+	 * 
+	 * @param iStep The Level
+	 * @param iIndex The Node Index
+	 * @param dblMaturityDate The Discount Bond Maturity Date
+	 * @param dblSpread The Spread applied over the Short Rate
+	 * 
+	 * @return The Node Discount Bond Price
+	 * 
+	 * @throws java.lang.Exception Thrown if the Price cannot be computed
+	 */
+
+	public double zeroCouponBond (
+		final int iStep,
+		final int iIndex,
+		final double dblMaturityDate,
+		final double dblSpread)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblMaturityDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblSpread))
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::zeroCouponBond => Invalid Inputs");
+
+		/*
+		 * The Node Discount Bond is Affine in the Lattice Short Rate - Hull (2012), with the Lattice Step Rate
+		 * 	standing in for the Instantaneous Short Rate.
+		 */
+
+		return java.lang.Math.exp (logA (iStep, dblMaturityDate, dblSpread) - rateLoading (iStep,
+			dblMaturityDate) * shortRate (iStep, iIndex));
+	}
+
+	/**
+	 * Roll the Node Values of the Next Level back to the specified Level
+	 * 
+	 * @param iStep The Level to roll back to
+	 * @param adblNextValue The Node Values at the Next Level
+	 * @param adblValue The Array to receive the Node Values at the Level
+	 * @param dblSpread The Spread applied over the Short Rate
+	 * 
+	 * @return TRUE => The Values have been rolled back
+	 */
+
+	public boolean rollback (
+		final int iStep,
+		final double[] adblNextValue,
+		final double[] adblValue,
+		final double dblSpread)
+	{
+		if (0 > iStep || iStep >= _iNumStep || null == adblNextValue || null == adblValue ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblSpread))
+			return false;
+
+		int iWidth = width (iStep);
+
+		int iNextWidth = width (iStep + 1);
+
+		if (adblValue.length < 2 * iWidth + 1 || adblNextValue.length < 2 * iNextWidth + 1) return false;
+
+		for (int j = -iWidth; j <= iWidth; ++j) {
+			int k = j + _iMaxIndex;
+			int iTarget = _aiCentralTarget[k] + iNextWidth;
+
+			adblValue[j + iWidth] = java.lang.Math.exp (-1. * (_adblAlpha[iStep] + j * _dblXShift +
+				dblSpread) * _dblTimeStep) * (_adblProbabilityUp[k] * adblNextValue[iTarget + 1] +
+					_adblProbabilityStay[k] * adblNextValue[iTarget] + _adblProbabilityDown[k] *
+						adblNextValue[iTarget - 1]);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Value a Cash Flow Stream carrying an Embedded Exercise Schedule by Backward Induction. Exercising on
+	 * 	a Date pays its Strike in place of all the Cash Flows paid after that Date; the Exercise Decision
+	 * 	is taken at the Lattice Level on/immediately before the Exercise Date. Values are as of the Spot
+	 * 	Date, and Cash Flows paid before it are ignored.
+	 * 
+	 * @param adblPayDate Array of Cash Flow Pay Dates
+	 * @param adblCashFlow Array of Cash Flow Amounts
+	 * @param adblExerciseDate Array of Exercise Dates (NULL => No Exercise)
+	 * @param adblExerciseStrike Array of Exercise Strikes
+	 * @param bIssuerCall TRUE => The Issuer exercises (Call); FALSE => The Holder exercises (Put)
+	 * @param dblSpread The Spread applied over the Short Rate
+	 * 
+	 * @return The Spot Value of the Cash Flow Stream
+	 * 
+	 * @throws java.lang.Exception Thrown if the Value cannot be computed
+	 */
+
+	public double cashFlowStream (
+		final double[] adblPayDate,
+		final double[] adblCashFlow,
+		final double[] adblExerciseDate,
+		final double[] adblExerciseStrike,
+		final boolean bIssuerCall,
+		final double dblSpread)
+		throws java.lang.Exception
+	{
+		if (null == adblPayDate || null == adblCashFlow || adblPayDate.length != adblCashFlow.length ||
+			(null != adblExerciseDate && (null == adblExerciseStrike || adblExerciseDate.length !=
+				adblExerciseStrike.length)) || !org.drip.quant.common.NumberUtil.IsValid (dblSpread))
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::cashFlowStream => Invalid Inputs");
+
+		int iLastStep = 0;
+		int iNumCashFlow = adblPayDate.length;
+		int iNumExercise = null == adblExerciseDate ? 0 : adblExerciseDate.length;
+
+		if (0 != iNumExercise)
+			iLastStep = (int) ((exerciseHorizon (adblExerciseDate) - _dblSpotDate) / _iDayIncrement);
+
+		int[] aiLevelFlow = new int[iNumCashFlow];
+		int[] aiLevelExercise = new int[iNumExercise];
+		double[] adblLevelFlowPV = new double[iNumCashFlow];
+		double[] adblLevelFlowLogA = new double[iNumCashFlow];
+		double[] adblLevelExerciseLogA = new double[iNumExercise];
+		double[] adblLevelFlowLoading = new double[iNumCashFlow];
+		double[] adblValue = new double[2 * width (iLastStep) + 1];
+		double[] adblNextValue = new double[adblValue.length];
+		double[] adblLevelExerciseLoading = new double[iNumExercise];
+
+		for (int i = iLastStep; i >= 0; --i) {
+			int iWidth = width (i);
+
+			int iNumLevelFlow = 0;
+			int iNumLevelExercise = 0;
+
+			double dblStepDate = stepDate (i);
+
+			double dblNextStepDate = stepDate (i + 1);
+
+			double dblFlowEndDate = i == iLastStep ? java.lang.Double.POSITIVE_INFINITY : dblNextStepDate;
+
+			if (i != iLastStep && !rollback (i, adblNextValue, adblValue, dblSpread))
+				throw new java.lang.Exception
+					("RecombiningTrinomialLattice::cashFlowStream => Cannot roll back Level " + i);
+
+			/*
+			 * The Node Discount Bond Coefficients are Node independent, so they are set up once per Level for
+			 * 	the Cash Flows and the Exercises falling in it.
+			 */
+
+			for (int l = 0; l < iNumCashFlow; ++l) {
+				if ((adblPayDate[l] > dblStepDate || (0 == i && adblPayDate[l] == dblStepDate)) &&
+					adblPayDate[l] <= dblFlowEndDate) {
+					aiLevelFlow[iNumLevelFlow] = l;
+					adblLevelFlowLoading[iNumLevelFlow] = rateLoading (i, adblPayDate[l]);
+
+					adblLevelFlowLogA[iNumLevelFlow++] = logA (i, adblPayDate[l], dblSpread);
+				}
+			}
+
+			for (int k = 0; k < iNumExercise; ++k) {
+				if (adblExerciseDate[k] >= dblStepDate && adblExerciseDate[k] < dblNextStepDate) {
+					aiLevelExercise[iNumLevelExercise] = k;
+					adblLevelExerciseLoading[iNumLevelExercise] = rateLoading (i, adblExerciseDate[k]);
+
+					adblLevelExerciseLogA[iNumLevelExercise++] = logA (i, adblExerciseDate[k], dblSpread);
+				}
+			}
+
+			for (int j = -iWidth; j <= iWidth; ++j) {
+				double dblShortRate = _adblAlpha[i] + j * _dblXShift;
+				double dblNodeValue = i == iLastStep ? 0. : adblValue[j + iWidth];
+
+				for (int l = 0; l < iNumLevelFlow; ++l)
+					dblNodeValue += (adblLevelFlowPV[l] = adblCashFlow[aiLevelFlow[l]] * java.lang.Math.exp
+						(adblLevelFlowLogA[l] - adblLevelFlowLoading[l] * dblShortRate));
+
+				for (int k = 0; k < iNumLevelExercise; ++k) {
+					double dblExerciseDate = adblExerciseDate[aiLevelExercise[k]];
+
+					double dblExerciseValue = adblExerciseStrike[aiLevelExercise[k]] * java.lang.Math.exp
+						(adblLevelExerciseLogA[k] - adblLevelExerciseLoading[k] * dblShortRate);
+
+					for (int l = 0; l < iNumLevelFlow; ++l) {
+						if (adblPayDate[aiLevelFlow[l]] <= dblExerciseDate)
+							dblExerciseValue += adblLevelFlowPV[l];
+					}
+
+					if (bIssuerCall ? dblExerciseValue < dblNodeValue : dblExerciseValue > dblNodeValue)
+						dblNodeValue = dblExerciseValue;
+				}
+
+				adblValue[j + iWidth] = dblNodeValue;
+			}
+
+			double[] adblSwap = adblNextValue;
+			adblNextValue = adblValue;
+			adblValue = adblSwap;
+		}
+
+		return adblNextValue[0];
+	}
+
+	/**
+	 * Value a Discount Bond by Backward Induction
+	 * 
+	 * @param dblMaturityDate The Discount Bond Maturity Date
+	 * 
+	 * @return The Discount Bond Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Value cannot be computed
+	 */
+
+	public double zeroCouponBond (
+		final double dblMaturityDate)
+		throws java.lang.Exception
+	{
+		return cashFlowStream (new double[] {dblMaturityDate}, new double[] {1.}, null, null, true, 0.);
+	}
+
+	/**
+	 * Value a European/Bermudan Swaption by Backward Induction. Exercising on a Date enters the Swap of
+	 * 	the Fixed Periods paying after it against a Floating Leg starting on the Exercise Date.
+	 * 
+	 * @param adblExerciseDate Array of Exercise Dates
+	 * @param adblFixedPayDate Array of the Fixed Leg Pay Dates
+	 * @param adblFixedAccrual Array of the Fixed Leg Accrual Fractions
+	 * @param dblStrike The Fixed Rate
+	 * @param bPayer TRUE => Payer Swaption (Pay Fixed)
+	 * @param dblNotional The Notional
+	 * 
+	 * @return The Swaption Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Value cannot be computed
+	 */
+
+	public double swaption (
+		final double[] adblExerciseDate,
+		final double[] adblFixedPayDate,
+		final double[] adblFixedAccrual,
+		final double dblStrike,
+		final boolean bPayer,
+		final double dblNotional)
+		throws java.lang.Exception
+	{
+		if (null == adblExerciseDate || 0 == adblExerciseDate.length || null == adblFixedPayDate || 0 ==
+			adblFixedPayDate.length || null == adblFixedAccrual || adblFixedAccrual.length !=
+				adblFixedPayDate.length || !org.drip.quant.common.NumberUtil.IsValid (dblStrike) ||
+					!org.drip.quant.common.NumberUtil.IsValid (dblNotional))
+			throw new java.lang.Exception ("RecombiningTrinomialLattice::swaption => Invalid Inputs");
+
+		int iNumFixed = adblFixedPayDate.length;
+		double[] adblFixedLogA = new double[iNumFixed];
+		double[] adblFixedLoading = new double[iNumFixed];
+		double dblFinalPayDate = adblFixedPayDate[iNumFixed - 1];
+
+		int iLastStep = (int) ((exerciseHorizon (adblExerciseDate) - _dblSpotDate) / _iDayIncrement);
+
+		double[] adblValue = new double[2 * width (iLastStep) + 1];
+		double[] adblNextValue = new double[adblValue.length];
+
+		for (int i = iLastStep; i >= 0; --i) {
+			int iWidth = width (i);
+
+			double dblStepDate = stepDate (i);
+
+			double dblNextStepDate = stepDate (i + 1);
+
+			if (i != iLastStep && !rollback (i, adblNextValue, adblValue, 0.))
+				throw new java.lang.Exception ("RecombiningTrinomialLattice::swaption => Cannot roll back Level "
+					+ i);
+
+			if (i != iLastStep) {
+				for (int j = -iWidth; j <= iWidth; ++j) {
+					if (0. > adblValue[j + iWidth]) adblValue[j + iWidth] = 0.;
+				}
+			} else
+				java.util.Arrays.fill (adblValue, 0.);
+
+			for (int k = 0; k < adblExerciseDate.length; ++k) {
+				if (adblExerciseDate[k] < dblStepDate || adblExerciseDate[k] >= dblNextStepDate ||
+					adblExerciseDate[k] >= dblFinalPayDate)
+					continue;
+
+				for (int l = 0; l < iNumFixed; ++l) {
+					adblFixedLoading[l] = rateLoading (i, adblFixedPayDate[l]);
+
+					adblFixedLogA[l] = logA (i, adblFixedPayDate[l], 0.);
+				}
+
+				double dblStartLoading = rateLoading (i, adblExerciseDate[k]);
+
+				double dblStartLogA = logA (i, adblExerciseDate[k], 0.);
+
+				for (int j = -iWidth; j <= iWidth; ++j) {
+					double dblShortRate = _adblAlpha[i] + j * _dblXShift;
+
+					double dblFixedAnnuity = 0.;
+
+					for (int l = 0; l < iNumFixed; ++l) {
+						if (adblFixedPayDate[l] > adblExerciseDate[k])
+							dblFixedAnnuity += adblFixedAccrual[l] * java.lang.Math.exp (adblFixedLogA[l] -
+								adblFixedLoading[l] * dblShortRate);
+					}
+
+					double dblSwapValue = dblNotional * (java.lang.Math.exp (dblStartLogA - dblStartLoading *
+						dblShortRate) - java.lang.Math.exp (adblFixedLogA[iNumFixed - 1] -
+							adblFixedLoading[iNumFixed - 1] * dblShortRate) - dblStrike * dblFixedAnnuity);
+
+					if (!bPayer) dblSwapValue = -1. * dblSwapValue;
+
+					if (dblSwapValue > adblValue[j + iWidth]) adblValue[j + iWidth] = dblSwapValue;
+				}
+			}
+
+			double[] adblSwap = adblNextValue;
+			adblNextValue = adblValue;
+			adblValue = adblSwap;
+		}
+
+		return adblNextValue[0];
+	}
+}
@@ -313,7 +313,8 @@ public class SingleFactorStateEvolver implements org.drip.dynamics.evolution.Poi
 	}
 
 	/**
-	 * Evolve the Trinomial Tree Sequence
+	 * Evolve the Trinomial Tree Sequence. The Tree does not recombine, so the Evolution grows as 3^n in the
+	 * 	Number of Increments - use trinomialLattice for anything beyond a handful of Increments.
 	 * 
 	 * @param dblSpotDate The Spot Date
 	 * @param dblInitialDate The Initial Date
@@ -390,4 +391,32 @@ public class SingleFactorStateEvolver implements org.drip.dynamics.evolution.Poi
 		return evolveTrinomialTreeSequence (dblSpotDate, dblSpotDate, iDayIncrement, iNumIncrement, null,
 			hwsm) ? hwsm : null;
 	}
+
+	/**
+	 * Construct the Recombining Trinomial Lattice for the Evolver's Mean Reversion and Volatility, fitted to
+	 * 	the given Initial Term Structure
+	 * 
+	 * @param dc The Initial Term Structure Discount Curve
+	 * @param dblSpotDate The Spot Date
+	 * @param iDayIncrement The Day Increment
+	 * @param iNumIncrement Number of Increments
+	 * 
+	 * @return The Recombining Trinomial Lattice
+	 */
+
+	public org.drip.dynamics.hullwhite.RecombiningTrinomialLattice trinomialLattice (
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final double dblSpotDate,
+		final int iDayIncrement,
+		final int iNumIncrement)
+	{
+		try {
+			return new org.drip.dynamics.hullwhite.RecombiningTrinomialLattice (_dblA, _dblSigma, dc,
+				dblSpotDate, iDayIncrement, iNumIncrement);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
 }
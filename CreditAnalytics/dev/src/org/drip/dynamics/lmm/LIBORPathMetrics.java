@@ -0,0 +1,217 @@
+
+package org.drip.dynamics.lmm;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LIBORPathMetrics holds the Reduction of the Path-wise Simulated Tenor LIBOR's generated by the
+ * 	LognormalLIBORPathSimulator - the Mean and the Variance of each Tenor LIBOR at each Evolution Time Step,
+ * 	and the Realizations of the Tenor LIBOR's at the Terminal Time Step from which the Quantiles are drawn.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LIBORPathMetrics {
+	private int _iNumPath = -1;
+	private int _iNumTenor = -1;
+	private int _iNumTimeStep = -1;
+	private double[] _adblM2 = null;
+	private double[] _adblMean = null;
+	private double[] _adblTerminalLIBOR = null;
+
+	private double[][] unflatten (
+		final double[] adbl,
+		final double dblScaler)
+	{
+		double[][] aadbl = new double[_iNumTimeStep][_iNumTenor];
+
+		for (int i = 0; i < _iNumTimeStep; ++i) {
+			for (int j = 0; j < _iNumTenor; ++j)
+				aadbl[i][j] = adbl[i * _iNumTenor + j] * dblScaler;
+		}
+
+		return aadbl;
+	}
+
+	/**
+	 * LIBORPathMetrics Constructor
+	 *
+	 * @param iNumPath Number of Paths
+	 * @param iNumTimeStep Number of Evolution Time Steps
+	 * @param iNumTenor Number of Tenor Nodes
+	 * @param adblMean Flat (Time Step Major) Array of the Tenor LIBOR Means
+	 * @param adblM2 Flat (Time Step Major) Array of the Tenor LIBOR Sums of Squared Deviations
+	 * @param adblTerminalLIBOR Flat (Path Major) Array of the Terminal Tenor LIBOR Realizations
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public LIBORPathMetrics (
+		final int iNumPath,
+		final int iNumTimeStep,
+		final int iNumTenor,
+		final double[] adblMean,
+		final double[] adblM2,
+		final double[] adblTerminalLIBOR)
+		throws java.lang.Exception
+	{
+		if (1 >= (_iNumPath = iNumPath) || 0 >= (_iNumTimeStep = iNumTimeStep) || 0 >= (_iNumTenor =
+			iNumTenor) || null == (_adblMean = adblMean) || null == (_adblM2 = adblM2) || null ==
+				(_adblTerminalLIBOR = adblTerminalLIBOR) || iNumTimeStep * iNumTenor != _adblMean.length ||
+					_adblMean.length != _adblM2.length || iNumPath * iNumTenor != _adblTerminalLIBOR.length)
+			throw new java.lang.Exception ("LIBORPathMetrics ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Number of Paths
+	 *
+	 * @return The Number of Paths
+	 */
+
+	public int numPath()
+	{
+		return _iNumPath;
+	}
+
+	/**
+	 * Retrieve the Number of Evolution Time Steps
+	 *
+	 * @return The Number of Evolution Time Steps
+	 */
+
+	public int numTimeStep()
+	{
+		return _iNumTimeStep;
+	}
+
+	/**
+	 * Retrieve the Number of Tenor Nodes
+	 *
+	 * @return The Number of Tenor Nodes
+	 */
+
+	public int numTenor()
+	{
+		return _iNumTenor;
+	}
+
+	/**
+	 * Retrieve the Mean of the Tenor LIBOR's at each Evolution Time Step
+	 *
+	 * @return The Mean of the Tenor LIBOR's, indexed by [Time Step][Tenor]
+	 */
+
+	public double[][] mean()
+	{
+		return unflatten (_adblMean, 1.);
+	}
+
+	/**
+	 * Retrieve the (Unbiased) Variance of the Tenor LIBOR's at each Evolution Time Step
+	 *
+	 * @return The Variance of the Tenor LIBOR's, indexed by [Time Step][Tenor]
+	 */
+
+	public double[][] variance()
+	{
+		return unflatten (_adblM2, 1. / (_iNumPath - 1));
+	}
+
+	/**
+	 * Retrieve the Standard Error of the Mean Tenor LIBOR's at each Evolution Time Step
+	 *
+	 * @return The Standard Error of the Mean Tenor LIBOR's, indexed by [Time Step][Tenor]
+	 */
+
+	public double[][] standardError()
+	{
+		double[][] aadblStandardError = variance();
+
+		for (int i = 0; i < _iNumTimeStep; ++i) {
+			for (int j = 0; j < _iNumTenor; ++j)
+				aadblStandardError[i][j] = java.lang.Math.sqrt (aadblStandardError[i][j] / _iNumPath);
+		}
+
+		return aadblStandardError;
+	}
+
+	/**
+	 * Retrieve the Realizations of the specified Tenor LIBOR at the Terminal Time Step
+	 *
+	 * @param iTenorIndex The Tenor Index
+	 *
+	 * @return The Terminal Realizations of the Tenor LIBOR, indexed by Path
+	 */
+
+	public double[] terminalLIBOR (
+		final int iTenorIndex)
+	{
+		if (0 > iTenorIndex || iTenorIndex >= _iNumTenor) return null;
+
+		double[] adblTerminalLIBOR = new double[_iNumPath];
+
+		for (int i = 0; i < _iNumPath; ++i)
+			adblTerminalLIBOR[i] = _adblTerminalLIBOR[i * _iNumTenor + iTenorIndex];
+
+		return adblTerminalLIBOR;
+	}
+
+	/**
+	 * Compute the Quantile of each Tenor LIBOR at the Terminal Time Step, linearly interpolating between the
+	 * 	Order Statistics
+	 *
+	 * @param dblProbability The Quantile Probability
+	 *
+	 * @return The Array of the Terminal Tenor LIBOR Quantiles
+	 */
+
+	public double[] terminalQuantile (
+		final double dblProbability)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblProbability) || 0. > dblProbability || 1. <
+			dblProbability)
+			return null;
+
+		double[] adblQuantile = new double[_iNumTenor];
+		double dblRank = dblProbability * (_iNumPath - 1);
+		int iRankFloor = (int) dblRank;
+		double dblRankFraction = dblRank - iRankFloor;
+
+		for (int j = 0; j < _iNumTenor; ++j) {
+			double[] adblTerminalLIBOR = terminalLIBOR (j);
+
+			java.util.Arrays.sort (adblTerminalLIBOR);
+
+			adblQuantile[j] = iRankFloor == _iNumPath - 1 ? adblTerminalLIBOR[iRankFloor] :
+				adblTerminalLIBOR[iRankFloor] + dblRankFraction * (adblTerminalLIBOR[iRankFloor + 1] -
+					adblTerminalLIBOR[iRankFloor]);
+		}
+
+		return adblQuantile;
+	}
+}
@@ -45,6 +45,14 @@ package org.drip.dynamics.lmm;
  */
 
 public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.CurveStateEvolver {
+
+	/**
+	 * Default Root Random Stream Seed of the Path-wise Simulation
+	 */
+
+	public static final long DEFAULT_SEED = 0x5DEECE66DL;
+
+	private long _lSeed = DEFAULT_SEED;
 	private int _iNumForwardTenor = -1;
 	private org.drip.state.identifier.ForwardLabel _lslForward = null;
 	private org.drip.state.identifier.FundingLabel _lslFunding = null;
@@ -57,29 +65,6 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 	private org.drip.spline.params.SegmentCustomBuilderControl[] _aSCBCInstantaneousNominalForward = null;
 	private org.drip.spline.params.SegmentCustomBuilderControl[] _aSCBCInstantaneousEffectiveForward = null;
 
-	class TenorDate {
-		double[] _adblLIBOR = null;
-		double[] _adblTenorDate = null;
-
-		TenorDate (
-			final double[] adblTenorDate,
-			final double[] adblLIBOR)
-		{
-			_adblLIBOR = adblLIBOR;
-			_adblTenorDate = adblTenorDate;
-		}
-
-		double[] tenorDates()
-		{
-			return _adblTenorDate;
-		}
-
-		double[] liborRates()
-		{
-			return _adblLIBOR;
-		}
-	};
-
 	/**
 	 * Create a LognormalLIBORCurveEvolver Instance
 	 * 
@@ -97,10 +82,32 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		final int iNumForwardTenor,
 		final org.drip.spline.params.SegmentCustomBuilderControl scbc)
 		throws java.lang.Exception
+	{
+		return Create (lslFunding, lslForward, iNumForwardTenor, scbc, DEFAULT_SEED);
+	}
+
+	/**
+	 * Create a LognormalLIBORCurveEvolver Instance with the specified Simulation Seed
+	 * 
+	 * @param lslFunding The Funding Latent State Label
+	 * @param lslForward The Forward Latent State Label
+	 * @param iNumForwardTenor Number of Forward Tenors to Build the Span
+	 * @param scbc The Common Span Segment Custom Builder Control Instance
+	 * @param lSeed The Root Random Stream Seed used by simulatePrincipalMetric
+	 * 
+	 * @return The LognormalLIBORCurveEvolver Instance
+	 */
+
+	public static final LognormalLIBORCurveEvolver Create (
+		final org.drip.state.identifier.FundingLabel lslFunding,
+		final org.drip.state.identifier.ForwardLabel lslForward,
+		final int iNumForwardTenor,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbc,
+		final long lSeed)
 	{
 		try {
 			return new LognormalLIBORCurveEvolver (lslFunding, lslForward, iNumForwardTenor, scbc, scbc,
-				scbc, scbc, scbc, scbc, scbc, scbc);
+				scbc, scbc, scbc, scbc, scbc, scbc, lSeed);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -316,6 +323,51 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		final org.drip.spline.params.SegmentCustomBuilderControl scbcInstantaneousNominalForward)
 		throws java.lang.Exception
 	{
+		this (lslFunding, lslForward, iNumForwardTenor, scbcLIBOR, scbcDiscountFactor, scbcLIBORIncrement,
+			scbcDiscountFactorIncrement, scbcContinuousForwardIncrement, scbcSpotRateIncrement,
+				scbcInstantaneousEffectiveForward, scbcInstantaneousNominalForward, DEFAULT_SEED);
+	}
+
+	/**
+	 * LognormalLIBORCurveEvolver Constructor
+	 * 
+	 * @param lslFunding The Funding Latent State Label
+	 * @param lslForward The Forward Latent State Label
+	 * @param iNumForwardTenor Number of Forward Tenors to Build the Span
+	 * @param scbcLIBOR LIBOR Span Segment Custom Builder Control Instance
+	 * @param scbcDiscountFactor Discount Factor Span Segment Custom Builder Control Instance
+	 * @param scbcLIBORIncrement LIBOR Increment Span Segment Custom Builder Control Instance
+	 * @param scbcDiscountFactorIncrement Discount Factor Increment Span Segment Custom Builder Control
+	 * 		Instance
+	 * @param scbcContinuousForwardIncrement Instantaneous Continuously Compounded Forward Rate Increment
+	 *  	Span Segment Custom Builder Control Instance
+	 * @param scbcSpotRateIncrement Spot Rate Increment Span Segment Custom Builder Control Instance
+	 * @param scbcInstantaneousEffectiveForward Instantaneous Effective Annual Forward Rate Span Segment
+	 * 		Custom Builder Control Instance
+	 * @param scbcInstantaneousNominalForward Instantaneous Nominal Annual Forward Rate Span Segment Custom
+	 * 		Builder Control Instance
+	 * @param lSeed The Root Random Stream Seed used by simulatePrincipalMetric
+	 * 
+	 * @throws java.lang.Exception Thrown if Inputs are Invalid
+	 */
+
+	public LognormalLIBORCurveEvolver (
+		final org.drip.state.identifier.FundingLabel lslFunding,
+		final org.drip.state.identifier.ForwardLabel lslForward,
+		final int iNumForwardTenor,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcLIBOR,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcDiscountFactor,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcLIBORIncrement,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcDiscountFactorIncrement,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcContinuousForwardIncrement,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcSpotRateIncrement,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcInstantaneousEffectiveForward,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcInstantaneousNominalForward,
+		final long lSeed)
+		throws java.lang.Exception
+	{
+		_lSeed = lSeed;
+
 		if (null == (_lslFunding = lslFunding) || null == (_lslForward = lslForward) || 1 >=
 			(_iNumForwardTenor = iNumForwardTenor) || null == scbcLIBOR || null == scbcLIBORIncrement || null
 				== scbcDiscountFactor || null == scbcDiscountFactorIncrement || null ==
@@ -370,6 +422,17 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		return _lslForward;
 	}
 
+	/**
+	 * Retrieve the Root Random Stream Seed used by simulatePrincipalMetric
+	 * 
+	 * @return The Root Random Stream Seed
+	 */
+
+	public long seed()
+	{
+		return _lSeed;
+	}
+
 	/**
 	 * Retrieve the Number of Forward Tenors comprising the Span Tenor
 	 * 
@@ -593,62 +656,41 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		return null;
 	}
 
-	private TenorDate simulateLIBOR (
-		final double dblEvolutionDate,
-		final double dblViewDate,
+	/**
+	 * Simulate the Tenor LIBOR Paths from the Start to the End Date in parallel, and reduce them to the Path
+	 * 	Metrics
+	 * 
+	 * @param dblEvolutionStartDate The Evolution Start Date
+	 * @param dblEvolutionFinishDate The Evolution Finish Date
+	 * @param dblEvolutionIncrement The Evolution Increment
+	 * @param dblViewDate The View Date
+	 * @param lsqmStart The Starting State Metrics
+	 * @param iNumSimulation Number of Simulations
+	 * @param lSeed The Root Random Stream Seed
+	 * @param iParallelism Number of Worker Threads (Non-positive => One per Available Processor)
+	 * 
+	 * @return The LIBOR Path Metrics
+	 */
+
+	public org.drip.dynamics.lmm.LIBORPathMetrics simulatePathwise (
+		final double dblEvolutionStartDate,
+		final double dblEvolutionFinishDate,
 		final double dblEvolutionIncrement,
-		final double dblEvolutionIncrementSQRT,
-		final org.drip.analytics.rates.ForwardCurve fc,
-		final java.lang.String strForwardTenor,
-		final double dblForwardDCF,
-		final org.drip.dynamics.lmm.LognormalLIBORVolatility llv)
+		final double dblViewDate,
+		final org.drip.dynamics.evolution.LSQMCurveUpdate lsqmStart,
+		final int iNumSimulation,
+		final long lSeed,
+		final int iParallelism)
 	{
-		double[] adblLIBOR = new double[_iNumForwardTenor + 1];
-		double[] adblTenorDate = new double[_iNumForwardTenor + 1];
-
-		double[] adblMultivariateRandom = llv.msg().random();
+		if (null == lsqmStart || !(lsqmStart instanceof org.drip.dynamics.lmm.BGMCurveUpdate) || 1 >=
+			iNumSimulation)
+			return null;
 
 		try {
-			org.drip.analytics.date.JulianDate dtTargetPoint = new org.drip.analytics.date.JulianDate
-				(dblViewDate);
-
-			for (int i = 0; i <= _iNumForwardTenor; ++i) {
-				double dblTargetPointDate = dtTargetPoint.julian();
-
-				double[] adblLognormalFactorPointVolatility = llv.factorPointVolatility (dblEvolutionDate,
-					dblTargetPointDate);
-
-				double[] adblContinuousForwardVolatility = llv.continuousForwardVolatility
-					(dblTargetPointDate, fc);
-
-				double dblCrossVolatilityDotProduct = 0.;
-				double dblLognormalPointVolatilityModulus = 0.;
-				double dblLIBORVolatilityMultiFactorRandom = 0.;
-				int iNumFactor = adblLognormalFactorPointVolatility.length;
-
-				for (int j = 0; j < iNumFactor; ++j) {
-					dblLognormalPointVolatilityModulus += adblLognormalFactorPointVolatility[j] *
-						adblLognormalFactorPointVolatility[j];
-					dblCrossVolatilityDotProduct += adblLognormalFactorPointVolatility[j] *
-						adblContinuousForwardVolatility[j];
-					dblLIBORVolatilityMultiFactorRandom += adblLognormalFactorPointVolatility[j] *
-						adblMultivariateRandom[j] * dblEvolutionIncrementSQRT;
-				}
-
-				double dblLIBOR = fc.forward (dblTargetPointDate);
-
-				double dblLIBORDCF = dblForwardDCF * dblLIBOR;
-				adblTenorDate[i] = dblTargetPointDate;
-
-				adblLIBOR[i] = dblLIBOR + dblEvolutionIncrement * (forwardDerivative (fc, dblTargetPointDate)
-					+ dblLIBOR * dblCrossVolatilityDotProduct + (dblLognormalPointVolatilityModulus *
-						dblLIBOR * dblLIBORDCF / (1. + dblLIBORDCF))) + dblLIBOR *
-							dblLIBORVolatilityMultiFactorRandom;
-
-				dtTargetPoint = dtTargetPoint.addTenor (strForwardTenor);
-			}
-
-			return new TenorDate (adblTenorDate, adblLIBOR);
+			return new org.drip.dynamics.lmm.LognormalLIBORPathSimulator (this, dblEvolutionStartDate,
+				dblEvolutionFinishDate, dblEvolutionIncrement, dblViewDate,
+					(org.drip.dynamics.lmm.BGMCurveUpdate) lsqmStart).simulate (iNumSimulation, lSeed,
+						iParallelism);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -664,86 +706,9 @@ public class LognormalLIBORCurveEvolver implements org.drip.dynamics.evolution.C
 		final org.drip.dynamics.evolution.LSQMCurveUpdate lsqmStart,
 		final int iNumSimulation)
 	{
-		if (!org.drip.quant.common.NumberUtil.IsValid (dblViewDate) ||
-			!org.drip.quant.common.NumberUtil.IsValid (dblEvolutionStartDate) || dblEvolutionStartDate >
-				dblViewDate || !org.drip.quant.common.NumberUtil.IsValid (dblEvolutionFinishDate) ||
-					dblEvolutionFinishDate <= dblEvolutionStartDate || dblEvolutionFinishDate > dblViewDate
-						|| !org.drip.quant.common.NumberUtil.IsValid (dblEvolutionIncrement) ||
-							dblEvolutionIncrement <= 0. || null == lsqmStart || !(lsqmStart instanceof
-								org.drip.dynamics.lmm.BGMCurveUpdate) || 1 >= iNumSimulation)
-			return null;
-
-		org.drip.dynamics.lmm.BGMCurveUpdate bgmMetrics = (org.drip.dynamics.lmm.BGMCurveUpdate) lsqmStart;
-
-		org.drip.dynamics.lmm.LognormalLIBORVolatility llv = bgmMetrics.lognormalLIBORVolatility();
-
-		java.lang.String strForwardLabel = _lslForward.fullyQualifiedName() + "_QM_LIBOR";
-
-		org.drip.analytics.rates.ForwardCurve fc = bgmMetrics.forwardCurve();
-
-		java.lang.String strForwardTenor = _lslForward.tenor();
-
-		int iNumTimeStep = (int) ((dblEvolutionFinishDate - dblEvolutionStartDate) / dblEvolutionIncrement) +
-			1;
-		double[][] aadblTenorLIBOR = new double[iNumTimeStep][_iNumForwardTenor + 1];
-		double dblAnnualEvolutionIncrement = dblEvolutionIncrement / 365.;
-		org.drip.analytics.rates.ForwardCurve fcLIBOR = fc;
-		double dblForwardDCF = java.lang.Double.NaN;
-
-		double dblAnnualEvolutionIncrementSQRT = java.lang.Math.sqrt (dblAnnualEvolutionIncrement);
-
-		org.drip.spline.stretch.BoundarySettings bs =
-			org.drip.spline.stretch.BoundarySettings.NaturalStandard();
-
-		try {
-			dblForwardDCF = org.drip.analytics.support.AnalyticsHelper.TenorToYearFraction (strForwardTenor);
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
-
-			return null;
-		}
-
-		for (int i = 0 ; i < iNumTimeStep; ++i) {
-			for (int j = 0 ; j <= _iNumForwardTenor; ++j)
-				aadblTenorLIBOR[i][j] = 0.;
-		}
-
-		for (int iSimulationIndex = 0; iSimulationIndex < iNumSimulation; ++iSimulationIndex) {
-			int iEvolutionTimeIndex = 0;
-
-			for (double dblEvolutionDate = dblEvolutionStartDate; dblEvolutionDate <= dblEvolutionFinishDate;
-				dblEvolutionDate += dblEvolutionIncrement) {
-				TenorDate td = simulateLIBOR (dblEvolutionDate, dblViewDate, dblAnnualEvolutionIncrement,
-					dblAnnualEvolutionIncrementSQRT, fcLIBOR, strForwardTenor, dblForwardDCF, llv);
-
-				if (null == td) return null;
-
-				double[] adblSimulatedLIBOR = td.liborRates();
-
-				try {
-					fcLIBOR = new org.drip.state.curve.BasisSplineForwardRate (_lslForward, new
-						org.drip.spline.grid.OverlappingStretchSpan
-							(org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-						(strForwardLabel + "_QM_LIBOR", td.tenorDates(), adblSimulatedLIBOR, _aSCBCLIBOR, null,
-							bs, org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE)));
-				} catch (java.lang.Exception e) {
-					e.printStackTrace();
-
-					return null;
-				}
-
-				for (int j = 0 ; j <= _iNumForwardTenor; ++j)
-					aadblTenorLIBOR[iEvolutionTimeIndex][j] += adblSimulatedLIBOR[j];
-
-				iEvolutionTimeIndex++;
-			}
-		}
-
-		for (int i = 0 ; i < iNumTimeStep; ++i) {
-			for (int j = 0 ; j <= _iNumForwardTenor; ++j)
-				aadblTenorLIBOR[i][j] /= iNumSimulation;
-		}
+		org.drip.dynamics.lmm.LIBORPathMetrics lpm = simulatePathwise (dblEvolutionStartDate,
+			dblEvolutionFinishDate, dblEvolutionIncrement, dblViewDate, lsqmStart, iNumSimulation, _lSeed, 0);
 
-		return aadblTenorLIBOR;
+		return null == lpm ? null : lpm.mean();
 	}
 }
@@ -0,0 +1,632 @@
+
+package org.drip.dynamics.lmm;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LognormalLIBORPathSimulator implements the Path-wise Monte-Carlo Evolution of the Tenor LIBOR's under the
+ * 	Multi-Factor Log-normal LIBOR Dynamics of the LognormalLIBORCurveEvolver. The Simulator is set up as
+ * 	follows:
+ *
+ *  - The Evolved Forward Curve of each Path is held as the flat Array of its Tenor Node LIBOR's. As in the
+ *  	Evolver, the Curve off the Nodes is the Natural Cubic Spline through them - the Curve the C2 Cubic
+ *  	Polynomial LIBOR Span Builder with Natural Boundary calibrates to - held in its Second Derivatives.
+ *  	The Spline Tri-diagonal System depends only on the Tenor Grid, so it is factored once; each Path Step
+ *  	costs one Forward and one Backward Substitution. The Forward Rate Date Derivative at a Node is the
+ *  	Analytic Spline Derivative, and the Curve is flat extrapolated beyond the Nodes. The Evolver's LIBOR
+ *  	Span Control must therefore be the C2 Cubic Polynomial Spline without a Shape Controller - any other
+ *  	Control is rejected at Construction, rather than silently replaced.
+ *  - Everything that does not depend on the Path - the Tenor/Evolution Date Grids, the Factor Point
+ *  	Volatilities and their Moduli, and the Interpolation Weights - is computed once up-front.
+ *  - The Paths are partitioned into fixed Blocks, each with its own Split of the Root Random Stream, and
+ *  	the Blocks are evolved in parallel on a Fork-Join Pool. The Block Moments are merged along a fixed
+ *  	Binary Tree, so the Results for a given Seed do not depend on the Parallelism.
+ *  - The Path Realizations are reduced to the Mean and the Variance of the Tenor LIBOR at each Evolution
+ *  	Time Step, and the Terminal Tenor LIBOR Realizations are retained for the Quantiles.
+ *
+ * The Standard Normal Variates are generated off of the Block Streams using the Ziggurat Method - or taken
+ * 	from a PathGaussianDriver, such as the Sobol/Brownian Bridge Driver, for Quasi-Monte Carlo - and are
+ * 	then correlated and projected using the Cholesky Factor and the Principal Factors of the Volatility's
+ * 	PrincipalFactorSequenceGenerator.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LognormalLIBORPathSimulator {
+
+	/**
+	 * Number of Paths in a single Random Stream Block
+	 */
+
+	public static final int PATHS_PER_BLOCK = 256;
+
+	private int _iNumTenor = -1;
+	private int _iNumFactor = -1;
+	private int _iNumVariate = -1;
+	private int _iNumTimeStep = -1;
+	private int _iNumSpotGridDate = -1;
+	private boolean _bProjectFactor = false;
+	private double[][] _aadblFactor = null;
+	private double[] _adblTenorDate = null;
+	private double[][] _aadblCholesky = null;
+	private int[] _aiSpotGridTenorIndex = null;
+	private int[] _aiSpotGridPrefixCount = null;
+	private double[] _adblInitialLIBOR = null;
+	private double[] _adblEvolutionDate = null;
+	private double[] _adblTenorWidth = null;
+	private double[] _adblSpotGridWeight = null;
+	private double[] _adblSplineDiagonal = null;
+	private double[] _adblSpotGridCurvature = null;
+	private double[] _adblSplineSubDiagonal = null;
+	private double _dblForwardDCF = java.lang.Double.NaN;
+	private double[] _adblFactorPointVolatility = null;
+	private double[] _adblCrossVolatilityProduct = null;
+	private double _dblEvolutionIncrement = java.lang.Double.NaN;
+	private double[] _adblPointVolatilityModulus = null;
+	private double _dblEvolutionIncrementSQRT = java.lang.Double.NaN;
+
+	private static class BlockMoments {
+		double _dblCount = 0.;
+		double[] _adblM2 = null;
+		double[] _adblMean = null;
+
+		BlockMoments (
+			final int iNumEntry)
+		{
+			_adblM2 = new double[iNumEntry];
+			_adblMean = new double[iNumEntry];
+		}
+
+		BlockMoments merge (
+			final BlockMoments bm)
+		{
+			double dblCount = _dblCount + bm._dblCount;
+			double dblWeight = bm._dblCount / dblCount;
+			double dblCrossWeight = _dblCount * dblWeight;
+
+			for (int i = 0; i < _adblMean.length; ++i) {
+				double dblDelta = bm._adblMean[i] - _adblMean[i];
+				_adblMean[i] += dblDelta * dblWeight;
+				_adblM2[i] += bm._adblM2[i] + dblDelta * dblDelta * dblCrossWeight;
+			}
+
+			_dblCount = dblCount;
+			return this;
+		}
+	}
+
+	private class BlockTask extends java.util.concurrent.RecursiveTask<BlockMoments> {
+		private static final long serialVersionUID = 1L;
+
+		private int _iNumPath = -1;
+		private int _iEndBlock = -1;
+		private int _iStartBlock = -1;
+		private double[] _adblTerminalLIBOR = null;
+		private org.drip.sequence.random.PathGaussianDriver _pgd = null;
+		private org.drip.sequence.random.UniformRandomStream[] _aURS = null;
+
+		BlockTask (
+			final int iStartBlock,
+			final int iEndBlock,
+			final int iNumPath,
+			final org.drip.sequence.random.UniformRandomStream[] aURS,
+			final org.drip.sequence.random.PathGaussianDriver pgd,
+			final double[] adblTerminalLIBOR)
+		{
+			_pgd = pgd;
+			_aURS = aURS;
+			_iNumPath = iNumPath;
+			_iEndBlock = iEndBlock;
+			_iStartBlock = iStartBlock;
+			_adblTerminalLIBOR = adblTerminalLIBOR;
+		}
+
+		@Override protected BlockMoments compute()
+		{
+			if (1 == _iEndBlock - _iStartBlock) {
+				int iStartPath = _iStartBlock * PATHS_PER_BLOCK;
+
+				return evolveBlock (iStartPath, java.lang.Math.min (iStartPath + PATHS_PER_BLOCK, _iNumPath),
+					null == _aURS ? null : _aURS[_iStartBlock], _pgd, _adblTerminalLIBOR);
+			}
+
+			int iMidBlock = (_iStartBlock + _iEndBlock) / 2;
+
+			BlockTask btLeft = new BlockTask (_iStartBlock, iMidBlock, _iNumPath, _aURS, _pgd,
+				_adblTerminalLIBOR);
+
+			btLeft.fork();
+
+			BlockMoments bmRight = new BlockTask (iMidBlock, _iEndBlock, _iNumPath, _aURS, _pgd,
+				_adblTerminalLIBOR).compute();
+
+			BlockMoments bmLeft = btLeft.join();
+
+			return null == bmLeft || null == bmRight ? null : bmLeft.merge (bmRight);
+		}
+	}
+
+	private static final boolean IsNaturalCubicLIBORControl (
+		final org.drip.spline.params.SegmentCustomBuilderControl scbc)
+	{
+		if (null == scbc || null != scbc.shapeController() ||
+			!org.drip.spline.stretch.MultiSegmentSequenceBuilder.BASIS_SPLINE_POLYNOMIAL.equalsIgnoreCase
+				(scbc.basisSpline()))
+			return false;
+
+		org.drip.spline.basis.FunctionSetBuilderParams fsbp = scbc.basisSetParams();
+
+		org.drip.spline.params.SegmentInelasticDesignControl sdic = scbc.inelasticParams();
+
+		return fsbp instanceof org.drip.spline.basis.PolynomialFunctionSetParams && 4 ==
+			((org.drip.spline.basis.PolynomialFunctionSetParams) fsbp).numBasis() && null != sdic && 2 ==
+				sdic.Ck();
+	}
+
+	private void splineCurvature (
+		final double[] adblLIBOR,
+		final double[] adblCurvature)
+	{
+		if (2 == _iNumTenor) return;
+
+		for (int j = 1; j < _iNumTenor - 1; ++j) {
+			adblCurvature[j] = 6. * ((adblLIBOR[j + 1] - adblLIBOR[j]) / _adblTenorWidth[j] - (adblLIBOR[j] -
+				adblLIBOR[j - 1]) / _adblTenorWidth[j - 1]);
+
+			if (1 != j) adblCurvature[j] -= _adblSplineSubDiagonal[j] * adblCurvature[j - 1];
+		}
+
+		for (int j = _iNumTenor - 2; j >= 1; --j)
+			adblCurvature[j] = (adblCurvature[j] - _adblTenorWidth[j] * adblCurvature[j + 1]) /
+				_adblSplineDiagonal[j];
+	}
+
+	private BlockMoments evolveBlock (
+		final int iStartPath,
+		final int iEndPath,
+		final org.drip.sequence.random.UniformRandomStream urs,
+		final org.drip.sequence.random.PathGaussianDriver pgd,
+		final double[] adblTerminalLIBOR)
+	{
+		double[] adblLIBOR = new double[_iNumTenor];
+		double[] adblLIBOREvolved = new double[_iNumTenor];
+		double[] adblCurvature = new double[_iNumTenor];
+		double[] adblFactorRandom = new double[_iNumFactor];
+		double[] adblVariateRandom = new double[_iNumVariate];
+		double[] adblSpotGridWeightSum = new double[_iNumSpotGridDate + 1];
+		double[] adblCorrelatedRandom = _bProjectFactor ? new double[_iNumVariate] : adblFactorRandom;
+
+		BlockMoments bm = new BlockMoments (_iNumTimeStep * _iNumTenor);
+
+		org.drip.sequence.random.ZigguratGaussian zg = null;
+		double[] adblPathIncrement = null == pgd ? null : new double[pgd.dimension()];
+		double[] adblPathWorkspace = null == pgd ? null : new double[pgd.workspaceSize()];
+
+		if (null == pgd) {
+			try {
+				zg = new org.drip.sequence.random.ZigguratGaussian (0., 1., urs);
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return null;
+			}
+		}
+
+		double[] adblM2 = bm._adblM2;
+		double[] adblMean = bm._adblMean;
+
+		for (int iPath = iStartPath; iPath < iEndPath; ++iPath) {
+			double dblPathCount = iPath - iStartPath + 1.;
+
+			java.lang.System.arraycopy (_adblInitialLIBOR, 0, adblLIBOR, 0, _iNumTenor);
+
+			if (null != pgd && !pgd.fillPath (iPath, adblPathIncrement, adblPathWorkspace)) return null;
+
+			for (int iTimeStep = 0; iTimeStep < _iNumTimeStep; ++iTimeStep) {
+				if (null == pgd)
+					zg.fill (adblVariateRandom, 0, _iNumVariate);
+				else
+					java.lang.System.arraycopy (adblPathIncrement, iTimeStep * _iNumVariate, adblVariateRandom, 0,
+						_iNumVariate);
+
+				for (int i = 0; i < _iNumVariate; ++i) {
+					double dblCorrelatedRandom = 0.;
+
+					for (int j = 0; j <= i; ++j)
+						dblCorrelatedRandom += _aadblCholesky[i][j] * adblVariateRandom[j];
+
+					adblCorrelatedRandom[i] = dblCorrelatedRandom;
+				}
+
+				if (_bProjectFactor) {
+					for (int i = 0; i < _iNumFactor; ++i) {
+						double dblFactorRandom = 0.;
+
+						for (int j = 0; j < _iNumVariate; ++j)
+							dblFactorRandom += _aadblFactor[i][j] * adblCorrelatedRandom[j];
+
+						adblFactorRandom[i] = dblFactorRandom;
+					}
+				}
+
+				splineCurvature (adblLIBOR, adblCurvature);
+
+				for (int k = 0; k < _iNumSpotGridDate; ++k) {
+					int iTenorIndex = _aiSpotGridTenorIndex[k];
+
+					double dblLIBORTenorDCF = _dblForwardDCF * (iTenorIndex == _iNumTenor - 1 ?
+						adblLIBOR[iTenorIndex] : adblLIBOR[iTenorIndex] + _adblSpotGridWeight[k] *
+							(adblLIBOR[iTenorIndex + 1] - adblLIBOR[iTenorIndex]) + _adblSpotGridCurvature[2 *
+								k] * adblCurvature[iTenorIndex] + _adblSpotGridCurvature[2 * k + 1] *
+									adblCurvature[iTenorIndex + 1]);
+
+					adblSpotGridWeightSum[k + 1] = adblSpotGridWeightSum[k] + dblLIBORTenorDCF / (1. +
+						dblLIBORTenorDCF);
+				}
+
+				int iStepOffset = iTimeStep * _iNumTenor;
+
+				for (int j = 0; j < _iNumTenor; ++j) {
+					int iNodeOffset = iStepOffset + j;
+					int iFactorOffset = iNodeOffset * _iNumFactor;
+					double dblLIBORVolatilityMultiFactorRandom = 0.;
+					double dblLIBOR = adblLIBOR[j];
+					double dblLIBORDCF = _dblForwardDCF * dblLIBOR;
+
+					for (int i = 0; i < _iNumFactor; ++i)
+						dblLIBORVolatilityMultiFactorRandom += _adblFactorPointVolatility[iFactorOffset + i] *
+							adblFactorRandom[i];
+
+					double dblForwardDerivative = _iNumTenor - 1 == j ? (dblLIBOR - adblLIBOR[j - 1]) /
+						_adblTenorWidth[j - 1] + _adblTenorWidth[j - 1] * (adblCurvature[j - 1] + 2. *
+							adblCurvature[j]) / 6. : (adblLIBOR[j + 1] - dblLIBOR) / _adblTenorWidth[j] -
+								_adblTenorWidth[j] * (2. * adblCurvature[j] + adblCurvature[j + 1]) / 6.;
+
+					adblLIBOREvolved[j] = dblLIBOR + _dblEvolutionIncrement * (dblForwardDerivative + dblLIBOR *
+						_adblCrossVolatilityProduct[iNodeOffset] *
+							adblSpotGridWeightSum[_aiSpotGridPrefixCount[j]] +
+								(_adblPointVolatilityModulus[iNodeOffset] * dblLIBOR * dblLIBORDCF / (1. +
+									dblLIBORDCF))) + dblLIBOR * dblLIBORVolatilityMultiFactorRandom *
+										_dblEvolutionIncrementSQRT;
+
+					double dblDelta = adblLIBOREvolved[j] - adblMean[iNodeOffset];
+					adblMean[iNodeOffset] += dblDelta / dblPathCount;
+					adblM2[iNodeOffset] += dblDelta * (adblLIBOREvolved[j] - adblMean[iNodeOffset]);
+				}
+
+				double[] adblLIBORSwap = adblLIBOR;
+				adblLIBOR = adblLIBOREvolved;
+				adblLIBOREvolved = adblLIBORSwap;
+			}
+
+			java.lang.System.arraycopy (adblLIBOR, 0, adblTerminalLIBOR, iPath * _iNumTenor, _iNumTenor);
+		}
+
+		bm._dblCount = iEndPath - iStartPath;
+		return bm;
+	}
+
+	/**
+	 * LognormalLIBORPathSimulator Constructor
+	 *
+	 * @param llce The Lognormal LIBOR Curve Evolver
+	 * @param dblEvolutionStartDate The Evolution Start Date
+	 * @param dblEvolutionFinishDate The Evolution Finish Date
+	 * @param dblEvolutionIncrement The Evolution Increment (in Days)
+	 * @param dblViewDate The View Date
+	 * @param bgmStart The Starting BGM Curve State
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or if the Evolver's LIBOR Span Control is
+	 * 	not the C2 Cubic Polynomial Spline without a Shape Controller
+	 */
+
+	public LognormalLIBORPathSimulator (
+		final org.drip.dynamics.lmm.LognormalLIBORCurveEvolver llce,
+		final double dblEvolutionStartDate,
+		final double dblEvolutionFinishDate,
+		final double dblEvolutionIncrement,
+		final double dblViewDate,
+		final org.drip.dynamics.lmm.BGMCurveUpdate bgmStart)
+		throws java.lang.Exception
+	{
+		if (null == llce || !org.drip.quant.common.NumberUtil.IsValid (dblViewDate) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblEvolutionStartDate) || dblEvolutionStartDate >
+				dblViewDate || !org.drip.quant.common.NumberUtil.IsValid (dblEvolutionFinishDate) ||
+					dblEvolutionFinishDate <= dblEvolutionStartDate || dblEvolutionFinishDate > dblViewDate ||
+						!org.drip.quant.common.NumberUtil.IsValid (dblEvolutionIncrement) ||
+							dblEvolutionIncrement <= 0. || null == bgmStart)
+			throw new java.lang.Exception ("LognormalLIBORPathSimulator ctr: Invalid Inputs");
+
+		if (!IsNaturalCubicLIBORControl (llce.scbcLIBOR()))
+			throw new java.lang.Exception
+				("LognormalLIBORPathSimulator ctr: LIBOR Span Control must be the unshaped C2 Cubic Polynomial");
+
+		org.drip.dynamics.lmm.LognormalLIBORVolatility llv = bgmStart.lognormalLIBORVolatility();
+
+		org.drip.analytics.rates.ForwardCurve fc = bgmStart.forwardCurve();
+
+		if (null == llv || null == fc)
+			throw new java.lang.Exception ("LognormalLIBORPathSimulator ctr: Invalid Inputs");
+
+		java.lang.String strForwardTenor = llce.forwardLabel().tenor();
+
+		org.drip.sequence.random.PrincipalFactorSequenceGenerator pfsg = llv.msg();
+
+		_iNumTenor = llce.spanTenor() + 1;
+		_iNumFactor = pfsg.numFactor();
+		_aadblFactor = pfsg.factors();
+		_iNumVariate = pfsg.numVariate();
+		_aadblCholesky = pfsg.cholesky();
+		_adblTenorDate = new double[_iNumTenor];
+		_adblInitialLIBOR = new double[_iNumTenor];
+		_bProjectFactor = _iNumFactor != _iNumVariate;
+		_dblEvolutionIncrement = dblEvolutionIncrement / 365.;
+		_dblEvolutionIncrementSQRT = java.lang.Math.sqrt (_dblEvolutionIncrement);
+		_iNumTimeStep = (int) ((dblEvolutionFinishDate - dblEvolutionStartDate) / dblEvolutionIncrement) + 1;
+
+		_dblForwardDCF = org.drip.analytics.support.AnalyticsHelper.TenorToYearFraction (strForwardTenor);
+
+		org.drip.analytics.date.JulianDate dtTenor = new org.drip.analytics.date.JulianDate (dblViewDate);
+
+		for (int j = 0; j < _iNumTenor; ++j) {
+			_adblInitialLIBOR[j] = fc.forward (_adblTenorDate[j] = dtTenor.julian());
+
+			dtTenor = dtTenor.addTenor (strForwardTenor);
+		}
+
+		/*
+		 * Tenor Widths, and the Factored Tri-diagonal System of the Natural Cubic Spline Second Derivatives
+		 */
+
+		_adblTenorWidth = new double[_iNumTenor - 1];
+		_adblSplineDiagonal = new double[_iNumTenor];
+		_adblSplineSubDiagonal = new double[_iNumTenor];
+
+		for (int j = 0; j < _iNumTenor - 1; ++j)
+			_adblTenorWidth[j] = _adblTenorDate[j + 1] - _adblTenorDate[j];
+
+		for (int j = 1; j < _iNumTenor - 1; ++j) {
+			_adblSplineDiagonal[j] = 2. * (_adblTenorWidth[j - 1] + _adblTenorWidth[j]);
+
+			if (1 == j) continue;
+
+			_adblSplineSubDiagonal[j] = _adblTenorWidth[j - 1] / _adblSplineDiagonal[j - 1];
+			_adblSplineDiagonal[j] -= _adblSplineSubDiagonal[j] * _adblTenorWidth[j - 1];
+		}
+
+		/*
+		 * The Continuously Compounded Forward Volatility up to a Tenor Date accumulates the LIBOR Scalers
+		 * 	over the Forward Tenor Grid rolled from the Volatility Spot Date, up to and including the first
+		 * 	Grid Date past the Tenor Date.
+		 */
+
+		double dblVolatilitySpotDate = llv.spotDate();
+
+		double dblLastTenorDate = _adblTenorDate[_iNumTenor - 1];
+		java.util.List<java.lang.Double> lsSpotGridDate = new java.util.ArrayList<java.lang.Double>();
+
+		org.drip.analytics.date.JulianDate dtSpotGrid = new org.drip.analytics.date.JulianDate
+			(dblVolatilitySpotDate);
+
+		do {
+			lsSpotGridDate.add ((dtSpotGrid = dtSpotGrid.addTenor (strForwardTenor)).julian());
+		} while (dtSpotGrid.julian() <= dblLastTenorDate);
+
+		_iNumSpotGridDate = lsSpotGridDate.size();
+
+		_aiSpotGridPrefixCount = new int[_iNumTenor];
+		_aiSpotGridTenorIndex = new int[_iNumSpotGridDate];
+		_adblSpotGridWeight = new double[_iNumSpotGridDate];
+		_adblSpotGridCurvature = new double[2 * _iNumSpotGridDate];
+
+		for (int k = 0; k < _iNumSpotGridDate; ++k) {
+			double dblSpotGridDate = lsSpotGridDate.get (k);
+
+			if (dblSpotGridDate <= _adblTenorDate[0])
+				_aiSpotGridTenorIndex[k] = 0;
+			else if (dblSpotGridDate >= dblLastTenorDate)
+				_aiSpotGridTenorIndex[k] = _iNumTenor - 1;
+			else {
+				int iTenorIndex = 0;
+
+				while (_adblTenorDate[iTenorIndex + 1] <= dblSpotGridDate)
+					++iTenorIndex;
+
+				double dblWeight = (dblSpotGridDate - _adblTenorDate[iTenorIndex]) /
+					_adblTenorWidth[iTenorIndex];
+				double dblWidthSquare = _adblTenorWidth[iTenorIndex] * _adblTenorWidth[iTenorIndex] / 6.;
+				_aiSpotGridTenorIndex[k] = iTenorIndex;
+				_adblSpotGridWeight[k] = dblWeight;
+				_adblSpotGridCurvature[2 * k] = ((1. - dblWeight) * (1. - dblWeight) * (1. - dblWeight) - (1.
+					- dblWeight)) * dblWidthSquare;
+				_adblSpotGridCurvature[2 * k + 1] = (dblWeight * dblWeight * dblWeight - dblWeight) *
+					dblWidthSquare;
+			}
+		}
+
+		for (int j = 0; j < _iNumTenor; ++j) {
+			int iPrefixCount = 1;
+
+			while (iPrefixCount < _iNumSpotGridDate && lsSpotGridDate.get (iPrefixCount - 1) <=
+				_adblTenorDate[j])
+				++iPrefixCount;
+
+			_aiSpotGridPrefixCount[j] = iPrefixCount;
+		}
+
+		double[] adblSpotFactorPointVolatility = llv.factorPointVolatility (dblVolatilitySpotDate,
+			dblVolatilitySpotDate);
+
+		if (null == adblSpotFactorPointVolatility)
+			throw new java.lang.Exception ("LognormalLIBORPathSimulator ctr: Invalid Spot Volatility");
+
+		_adblEvolutionDate = new double[_iNumTimeStep];
+		_adblPointVolatilityModulus = new double[_iNumTimeStep * _iNumTenor];
+		_adblCrossVolatilityProduct = new double[_iNumTimeStep * _iNumTenor];
+		_adblFactorPointVolatility = new double[_iNumTimeStep * _iNumTenor * _iNumFactor];
+
+		for (int iTimeStep = 0; iTimeStep < _iNumTimeStep; ++iTimeStep) {
+			_adblEvolutionDate[iTimeStep] = dblEvolutionStartDate + iTimeStep * dblEvolutionIncrement;
+
+			for (int j = 0; j < _iNumTenor; ++j) {
+				int iNodeOffset = iTimeStep * _iNumTenor + j;
+
+				double[] adblFactorPointVolatility = llv.factorPointVolatility
+					(_adblEvolutionDate[iTimeStep], _adblTenorDate[j]);
+
+				if (null == adblFactorPointVolatility)
+					throw new java.lang.Exception
+						("LognormalLIBORPathSimulator ctr: Invalid Factor Point Volatility");
+
+				for (int i = 0; i < _iNumFactor; ++i) {
+					_adblFactorPointVolatility[iNodeOffset * _iNumFactor + i] = adblFactorPointVolatility[i];
+					_adblPointVolatilityModulus[iNodeOffset] += adblFactorPointVolatility[i] *
+						adblFactorPointVolatility[i];
+					_adblCrossVolatilityProduct[iNodeOffset] += adblFactorPointVolatility[i] *
+						adblSpotFactorPointVolatility[i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the Tenor Node Dates
+	 *
+	 * @return The Tenor Node Dates
+	 */
+
+	public double[] tenorDates()
+	{
+		return _adblTenorDate;
+	}
+
+	/**
+	 * Retrieve the Evolution Dates
+	 *
+	 * @return The Evolution Dates
+	 */
+
+	public double[] evolutionDates()
+	{
+		return _adblEvolutionDate;
+	}
+
+	/**
+	 * Retrieve the Starting Tenor Node LIBOR's
+	 *
+	 * @return The Starting Tenor Node LIBOR's
+	 */
+
+	public double[] initialLIBOR()
+	{
+		return _adblInitialLIBOR;
+	}
+
+	/**
+	 * Simulate the Tenor LIBOR Paths and reduce them to the Path Metrics
+	 *
+	 * @param iNumPath Number of Paths
+	 * @param lSeed The Root Random Stream Seed
+	 * @param iParallelism Number of Worker Threads (Non-positive => One per Available Processor)
+	 *
+	 * @return The LIBOR Path Metrics
+	 */
+
+	public org.drip.dynamics.lmm.LIBORPathMetrics simulate (
+		final int iNumPath,
+		final long lSeed,
+		final int iParallelism)
+	{
+		if (1 >= iNumPath) return null;
+
+		int iNumBlock = (iNumPath + PATHS_PER_BLOCK - 1) / PATHS_PER_BLOCK;
+		org.drip.sequence.random.UniformRandomStream[] aURS = new
+			org.drip.sequence.random.UniformRandomStream[iNumBlock];
+
+		org.drip.sequence.random.UniformRandomStream ursRoot = new
+			org.drip.sequence.random.CounterBasedStream (lSeed);
+
+		for (int i = 0; i < iNumBlock; ++i)
+			aURS[i] = ursRoot.split();
+
+		return simulate (iNumPath, aURS, null, iParallelism);
+	}
+
+	/**
+	 * Simulate the Tenor LIBOR Paths off of the Path Gaussian Driver (e.g., a Sobol/Brownian Bridge Driver)
+	 * 	and reduce them to the Path Metrics. The Driver supplies one Increment per Variate per Evolution
+	 * 	Time Step, and Path i of the Simulation is Path i of the Driver.
+	 *
+	 * @param iNumPath Number of Paths
+	 * @param pgd The Path Gaussian Driver
+	 * @param iParallelism Number of Worker Threads (Non-positive => One per Available Processor)
+	 *
+	 * @return The LIBOR Path Metrics
+	 */
+
+	public org.drip.dynamics.lmm.LIBORPathMetrics simulate (
+		final int iNumPath,
+		final org.drip.sequence.random.PathGaussianDriver pgd,
+		final int iParallelism)
+	{
+		if (1 >= iNumPath || null == pgd || _iNumTimeStep != pgd.numStep() || _iNumVariate !=
+			pgd.numFactor())
+			return null;
+
+		return simulate (iNumPath, null, pgd, iParallelism);
+	}
+
+	private org.drip.dynamics.lmm.LIBORPathMetrics simulate (
+		final int iNumPath,
+		final org.drip.sequence.random.UniformRandomStream[] aURS,
+		final org.drip.sequence.random.PathGaussianDriver pgd,
+		final int iParallelism)
+	{
+		int iNumBlock = (iNumPath + PATHS_PER_BLOCK - 1) / PATHS_PER_BLOCK;
+		double[] adblTerminalLIBOR = new double[iNumPath * _iNumTenor];
+
+		java.util.concurrent.ForkJoinPool fjp = new java.util.concurrent.ForkJoinPool (0 < iParallelism ?
+			iParallelism : java.lang.Runtime.getRuntime().availableProcessors());
+
+		try {
+			BlockMoments bm = fjp.invoke (new BlockTask (0, iNumBlock, iNumPath, aURS, pgd,
+				adblTerminalLIBOR));
+
+			if (null == bm) return null;
+
+			return new org.drip.dynamics.lmm.LIBORPathMetrics (iNumPath, _iNumTimeStep, _iNumTenor,
+				bm._adblMean, bm._adblM2, adblTerminalLIBOR);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			fjp.shutdown();
+		}
+
+		return null;
+	}
+}
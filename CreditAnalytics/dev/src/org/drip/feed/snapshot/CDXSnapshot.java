@@ -0,0 +1,357 @@
+
+package org.drip.feed.snapshot;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * CDXSnapshot is the Binary Snapshot of the pre-loaded CDX Reference Data. It holds two Tables:
+ *  - The CDX Reference Data Table => One Record per CDX Code carrying the full CDXRefDataParams Contract.
+ *  - The Index Series Table => One Record per Index carrying its First Coupon Date/Series Pairs, so that the
+ *  	On-the-run Lookups do not require the Reference Data Records to be decoded.
+ *  
+ *  Records are decoded into their Reference Data only the First Time they are requested.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CDXSnapshot extends org.drip.feed.snapshot.ReferenceDataSnapshot {
+
+	/**
+	 * CDX Snapshot Content Type
+	 */
+
+	public static final java.lang.String CONTENT = "CDX";
+
+	/**
+	 * The CDX Reference Data Table Name
+	 */
+
+	public static final java.lang.String REFERENCE_DATA_TABLE = "REFDATA";
+
+	/**
+	 * The Index Series Table Name
+	 */
+
+	public static final java.lang.String INDEX_SERIES_TABLE = "SERIES";
+
+	private java.util.concurrent.ConcurrentHashMap<java.lang.String, org.drip.product.params.CDXRefDataParams>
+		_mapRefData = new java.util.concurrent.ConcurrentHashMap<java.lang.String,
+			org.drip.product.params.CDXRefDataParams>();
+
+	private java.util.concurrent.ConcurrentHashMap<java.lang.String,
+		java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer>> _mapFirstCouponSeries = new
+			java.util.concurrent.ConcurrentHashMap<java.lang.String,
+				java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer>>();
+
+	private static final byte[] EncodeRefData (
+		final org.drip.product.params.CDXRefDataParams cdxrd)
+		throws java.lang.Exception
+	{
+		java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+
+		java.io.DataOutputStream dos = new java.io.DataOutputStream (baos);
+
+		WriteString (dos, cdxrd._strCurveID);
+
+		WriteString (dos, cdxrd._strSPN);
+
+		WriteString (dos, cdxrd._strIndexLabel);
+
+		WriteString (dos, cdxrd._strIndexName);
+
+		WriteString (dos, cdxrd._strCurveName);
+
+		dos.writeDouble (cdxrd._dtIssue.julian());
+
+		dos.writeDouble (cdxrd._dtMaturity.julian());
+
+		dos.writeDouble (cdxrd._dblCoupon);
+
+		WriteString (dos, cdxrd._strCurrency);
+
+		WriteString (dos, cdxrd._strDayCount);
+
+		dos.writeBoolean (cdxrd._bFullFirstStub);
+
+		dos.writeDouble (cdxrd._dblRecovery);
+
+		dos.writeInt (cdxrd._iFrequency);
+
+		WriteString (dos, cdxrd._strRedID);
+
+		WriteString (dos, cdxrd._strIndexClass);
+
+		dos.writeInt (cdxrd._iIndexSeries);
+
+		WriteString (dos, cdxrd._strIndexGroupName);
+
+		WriteString (dos, cdxrd._strIndexShortName);
+
+		WriteString (dos, cdxrd._strIndexShortGroupName);
+
+		dos.writeInt (cdxrd._iIndexVersion);
+
+		dos.writeInt (cdxrd._iIndexLifeSpan);
+
+		WriteString (dos, cdxrd._strCurvyCurveID);
+
+		dos.writeDouble (cdxrd._dblIndexFactor);
+
+		dos.writeInt (cdxrd._iOriginalComponentCount);
+
+		dos.writeInt (cdxrd._iDefaultedComponentCount);
+
+		WriteString (dos, cdxrd._strLocation);
+
+		dos.writeBoolean (cdxrd._bPayAccrued);
+
+		dos.writeBoolean (cdxrd._bKnockOutOnDefault);
+
+		dos.writeBoolean (cdxrd._bQuoteAsCDS);
+
+		WriteString (dos, cdxrd._strBBGTicker);
+
+		WriteString (dos, cdxrd._strShortName);
+
+		dos.flush();
+
+		return baos.toByteArray();
+	}
+
+	private static final org.drip.product.params.CDXRefDataParams DecodeRefData (
+		final java.nio.ByteBuffer bb)
+	{
+		return org.drip.product.params.CDXRefDataParams.CreateCDXRefDataBuilder (ReadString (bb), ReadString
+			(bb), ReadString (bb), ReadString (bb), ReadString (bb), bb.getDouble(), bb.getDouble(),
+				bb.getDouble(), ReadString (bb), ReadString (bb), 0 != bb.get(), bb.getDouble(), bb.getInt(),
+					ReadString (bb), ReadString (bb), bb.getInt(), ReadString (bb), ReadString (bb),
+						ReadString (bb), bb.getInt(), bb.getInt(), ReadString (bb), bb.getDouble(),
+							bb.getInt(), bb.getInt(), ReadString (bb), 0 != bb.get(), 0 != bb.get(), 0 !=
+								bb.get(), ReadString (bb), ReadString (bb));
+	}
+
+	private static final byte[] EncodeFirstCouponSeries (
+		final java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer> mapFirstCouponSeries)
+		throws java.lang.Exception
+	{
+		java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+
+		java.io.DataOutputStream dos = new java.io.DataOutputStream (baos);
+
+		dos.writeInt (mapFirstCouponSeries.size());
+
+		for (java.util.Map.Entry<org.drip.analytics.date.JulianDate, java.lang.Integer> meFirstCouponSeries :
+			mapFirstCouponSeries.entrySet()) {
+			dos.writeDouble (meFirstCouponSeries.getKey().julian());
+
+			dos.writeInt (meFirstCouponSeries.getValue());
+		}
+
+		dos.flush();
+
+		return baos.toByteArray();
+	}
+
+	private static final java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer>
+		DecodeFirstCouponSeries (
+			final java.nio.ByteBuffer bb)
+		throws java.lang.Exception
+	{
+		int iNumSeries = bb.getInt();
+
+		java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer> mapFirstCouponSeries = new
+			java.util.TreeMap<org.drip.analytics.date.JulianDate, java.lang.Integer>();
+
+		for (int i = 0; i < iNumSeries; ++i) {
+			org.drip.analytics.date.JulianDate dtFirstCoupon = new org.drip.analytics.date.JulianDate
+				(bb.getDouble());
+
+			mapFirstCouponSeries.put (dtFirstCoupon, bb.getInt());
+		}
+
+		return java.util.Collections.unmodifiableMap (mapFirstCouponSeries);
+	}
+
+	/**
+	 * Write the CDX Snapshot File from the CDX Reference Data and the Index First Coupon/Series Maps
+	 * 
+	 * @param strFile The Snapshot File
+	 * @param mapRefData The CDX Code => CDX Reference Data Map
+	 * @param mmFirstCouponSeries The Index => First Coupon Date/Series Map
+	 * 
+	 * @return TRUE => The CDX Snapshot File has been written
+	 */
+
+	public static final boolean Write (
+		final java.lang.String strFile,
+		final java.util.Map<java.lang.String, org.drip.product.params.CDXRefDataParams> mapRefData,
+		final java.util.Map<java.lang.String, java.util.Map<org.drip.analytics.date.JulianDate,
+			java.lang.Integer>> mmFirstCouponSeries)
+	{
+		if (null == mapRefData || 0 == mapRefData.size() || null == mmFirstCouponSeries) return false;
+
+		java.util.Map<java.lang.String, byte[]> mapRefDataRecord = new java.util.TreeMap<java.lang.String,
+			byte[]>();
+
+		java.util.Map<java.lang.String, byte[]> mapSeriesRecord = new java.util.TreeMap<java.lang.String,
+			byte[]>();
+
+		try {
+			for (java.util.Map.Entry<java.lang.String, org.drip.product.params.CDXRefDataParams> meRefData :
+				mapRefData.entrySet()) {
+				if (null != meRefData.getKey() && null != meRefData.getValue())
+					mapRefDataRecord.put (meRefData.getKey().toLowerCase(), EncodeRefData
+						(meRefData.getValue()));
+			}
+
+			for (java.util.Map.Entry<java.lang.String, java.util.Map<org.drip.analytics.date.JulianDate,
+				java.lang.Integer>> meFirstCouponSeries : mmFirstCouponSeries.entrySet()) {
+				if (null != meFirstCouponSeries.getKey() && null != meFirstCouponSeries.getValue())
+					mapSeriesRecord.put (meFirstCouponSeries.getKey().toLowerCase(), EncodeFirstCouponSeries
+						(meFirstCouponSeries.getValue()));
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		java.util.Map<java.lang.String, java.util.Map<java.lang.String, byte[]>> mapTable = new
+			java.util.TreeMap<java.lang.String, java.util.Map<java.lang.String, byte[]>>();
+
+		mapTable.put (REFERENCE_DATA_TABLE, mapRefDataRecord);
+
+		mapTable.put (INDEX_SERIES_TABLE, mapSeriesRecord);
+
+		return WriteSnapshot (strFile, CONTENT, mapTable);
+	}
+
+	/**
+	 * CDXSnapshot Constructor
+	 * 
+	 * @param strFile The CDX Snapshot File
+	 * 
+	 * @throws java.lang.Exception Thrown if the CDX Snapshot cannot be loaded
+	 */
+
+	public CDXSnapshot (
+		final java.lang.String strFile)
+		throws java.lang.Exception
+	{
+		super (strFile, CONTENT);
+	}
+
+	/**
+	 * Retrieve the Set of CDX Codes in the Snapshot
+	 * 
+	 * @return The Set of CDX Codes
+	 */
+
+	public java.util.Set<java.lang.String> cdxCodes()
+	{
+		return keys (REFERENCE_DATA_TABLE);
+	}
+
+	/**
+	 * Retrieve the Set of Index Names in the Snapshot
+	 * 
+	 * @return The Set of Index Names
+	 */
+
+	public java.util.Set<java.lang.String> indexNames()
+	{
+		return keys (INDEX_SERIES_TABLE);
+	}
+
+	/**
+	 * Retrieve the Reference Data of the specified CDX, decoding it on the First Request
+	 * 
+	 * @param strCDXCode The CDX Code
+	 * 
+	 * @return The CDX Reference Data (null if the CDX is not in the Snapshot)
+	 */
+
+	public org.drip.product.params.CDXRefDataParams refData (
+		final java.lang.String strCDXCode)
+	{
+		if (null == strCDXCode || strCDXCode.isEmpty()) return null;
+
+		java.lang.String strKey = strCDXCode.toLowerCase();
+
+		org.drip.product.params.CDXRefDataParams cdxrd = _mapRefData.get (strKey);
+
+		if (null != cdxrd) return cdxrd;
+
+		java.nio.ByteBuffer bb = record (REFERENCE_DATA_TABLE, strKey);
+
+		if (null == bb || null == (cdxrd = DecodeRefData (bb))) return null;
+
+		org.drip.product.params.CDXRefDataParams cdxrdCached = _mapRefData.putIfAbsent (strKey, cdxrd);
+
+		return null == cdxrdCached ? cdxrd : cdxrdCached;
+	}
+
+	/**
+	 * Retrieve the First Coupon Date/Series Map of the specified Index, decoding it on the First Request
+	 * 
+	 * @param strIndex The Index Name
+	 * 
+	 * @return The First Coupon Date/Series Map (null if the Index is not in the Snapshot)
+	 */
+
+	public java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer> firstCouponSeries (
+		final java.lang.String strIndex)
+	{
+		if (null == strIndex || strIndex.isEmpty()) return null;
+
+		java.lang.String strKey = strIndex.toLowerCase();
+
+		java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer> mapFirstCouponSeries =
+			_mapFirstCouponSeries.get (strKey);
+
+		if (null != mapFirstCouponSeries) return mapFirstCouponSeries;
+
+		java.nio.ByteBuffer bb = record (INDEX_SERIES_TABLE, strKey);
+
+		if (null == bb) return null;
+
+		try {
+			mapFirstCouponSeries = DecodeFirstCouponSeries (bb);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer> mapFirstCouponSeriesCached =
+			_mapFirstCouponSeries.putIfAbsent (strKey, mapFirstCouponSeries);
+
+		return null == mapFirstCouponSeriesCached ? mapFirstCouponSeries : mapFirstCouponSeriesCached;
+	}
+}
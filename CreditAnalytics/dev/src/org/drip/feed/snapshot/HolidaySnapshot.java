@@ -0,0 +1,269 @@
+
+package org.drip.feed.snapshot;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * HolidaySnapshot is the Binary Snapshot of the Location Holiday Calendars. Each Location is held as a
+ * 	separate Record - its Weekend Days, its table of distinct Holiday Descriptions, and its Static Holiday
+ * 	Dates with the Index of their Description - and is decoded into its Locale only the first time it is
+ * 	asked for, so a Service pays only for the Calendars it actually uses. Only Weekends and Static Holidays
+ * 	are carried; the Rule based Fixed/Variable Holidays continue to be loaded from the Configuration.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class HolidaySnapshot extends org.drip.feed.snapshot.ReferenceDataSnapshot {
+
+	/**
+	 * Holiday Snapshot Content Type
+	 */
+
+	public static final java.lang.String CONTENT = "HOLIDAY";
+
+	/**
+	 * The Location Table Name
+	 */
+
+	public static final java.lang.String LOCATION_TABLE = "LOCATION";
+
+	private java.util.concurrent.ConcurrentHashMap<java.lang.String, org.drip.analytics.eventday.Locale>
+		_mapLocale = new java.util.concurrent.ConcurrentHashMap<java.lang.String,
+			org.drip.analytics.eventday.Locale>();
+
+	private static final byte[] EncodeLocale (
+		final org.drip.analytics.eventday.Locale lh)
+		throws java.lang.Exception
+	{
+		java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+
+		java.io.DataOutputStream dos = new java.io.DataOutputStream (baos);
+
+		org.drip.analytics.eventday.Weekend wkend = lh.weekendDays();
+
+		int[] aiWeekendDay = null == wkend ? null : wkend.days();
+
+		if (null == aiWeekendDay)
+			dos.writeInt (-1);
+		else {
+			dos.writeInt (aiWeekendDay.length);
+
+			for (int iWeekendDay : aiWeekendDay)
+				dos.writeInt (iWeekendDay);
+		}
+
+		java.util.Set<org.drip.analytics.eventday.Base> setHoliday = lh.holidays();
+
+		int iNumHoliday = null == setHoliday ? 0 : setHoliday.size();
+
+		int[] aiDescription = new int[iNumHoliday];
+		double[] adblHoliday = new double[iNumHoliday];
+
+		java.util.Map<java.lang.String, java.lang.Integer> mapDescription = new
+			java.util.LinkedHashMap<java.lang.String, java.lang.Integer>();
+
+		if (0 != iNumHoliday) {
+			int i = 0;
+
+			for (org.drip.analytics.eventday.Base hol : setHoliday) {
+				if (!(hol instanceof org.drip.analytics.eventday.Static))
+					throw new java.lang.Exception
+						("HolidaySnapshot::EncodeLocale => Only Static Holidays can be Snapshot");
+
+				java.lang.String strDescription = null == hol.description() ? "" : hol.description();
+
+				java.lang.Integer iDescription = mapDescription.get (strDescription);
+
+				if (null == iDescription)
+					mapDescription.put (strDescription, iDescription = mapDescription.size());
+
+				aiDescription[i] = iDescription;
+				adblHoliday[i++] = hol.dateInYear (0, false);
+			}
+		}
+
+		dos.writeInt (mapDescription.size());
+
+		for (java.lang.String strDescription : mapDescription.keySet())
+			WriteString (dos, strDescription);
+
+		dos.writeInt (iNumHoliday);
+
+		for (int i = 0; i < iNumHoliday; ++i) {
+			if (adblHoliday[i] != (int) adblHoliday[i])
+				throw new java.lang.Exception ("HolidaySnapshot::EncodeLocale => Invalid Holiday Date");
+
+			dos.writeInt ((int) adblHoliday[i]);
+
+			dos.writeInt (aiDescription[i]);
+		}
+
+		dos.flush();
+
+		return baos.toByteArray();
+	}
+
+	private static final org.drip.analytics.eventday.Locale DecodeLocale (
+		final java.nio.ByteBuffer bb)
+		throws java.lang.Exception
+	{
+		org.drip.analytics.eventday.Locale lh = new org.drip.analytics.eventday.Locale();
+
+		int iNumWeekendDay = bb.getInt();
+
+		if (0 <= iNumWeekendDay) {
+			int[] aiWeekendDay = new int[iNumWeekendDay];
+
+			for (int i = 0; i < iNumWeekendDay; ++i)
+				aiWeekendDay[i] = bb.getInt();
+
+			if (!lh.addWeekend (aiWeekendDay))
+				throw new java.lang.Exception ("HolidaySnapshot::DecodeLocale => Invalid Weekend");
+		}
+
+		int iNumDescription = bb.getInt();
+
+		java.lang.String[] astrDescription = new java.lang.String[iNumDescription];
+
+		for (int i = 0; i < iNumDescription; ++i)
+			astrDescription[i] = ReadString (bb);
+
+		int iNumHoliday = bb.getInt();
+
+		for (int i = 0; i < iNumHoliday; ++i) {
+			org.drip.analytics.date.JulianDate dtHoliday = new org.drip.analytics.date.JulianDate
+				(bb.getInt());
+
+			if (!lh.addStaticHoliday (dtHoliday, astrDescription[bb.getInt()]))
+				throw new java.lang.Exception ("HolidaySnapshot::DecodeLocale => Invalid Holiday");
+		}
+
+		return lh;
+	}
+
+	/**
+	 * Write the Holiday Snapshot File from the Location => Locale Map
+	 * 
+	 * @param strFile The Snapshot File
+	 * @param mapLocale The Location => Locale Map
+	 * 
+	 * @return TRUE => The Holiday Snapshot File has been written
+	 */
+
+	public static final boolean Write (
+		final java.lang.String strFile,
+		final java.util.Map<java.lang.String, org.drip.analytics.eventday.Locale> mapLocale)
+	{
+		if (null == mapLocale || 0 == mapLocale.size()) return false;
+
+		java.util.Map<java.lang.String, byte[]> mapRecord = new java.util.TreeMap<java.lang.String,
+			byte[]>();
+
+		try {
+			for (java.util.Map.Entry<java.lang.String, org.drip.analytics.eventday.Locale> meLocale :
+				mapLocale.entrySet()) {
+				if (null != meLocale.getKey() && null != meLocale.getValue())
+					mapRecord.put (meLocale.getKey().toLowerCase(), EncodeLocale (meLocale.getValue()));
+			}
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		java.util.Map<java.lang.String, java.util.Map<java.lang.String, byte[]>> mapTable = new
+			java.util.TreeMap<java.lang.String, java.util.Map<java.lang.String, byte[]>>();
+
+		mapTable.put (LOCATION_TABLE, mapRecord);
+
+		return WriteSnapshot (strFile, CONTENT, mapTable);
+	}
+
+	/**
+	 * HolidaySnapshot Constructor
+	 * 
+	 * @param strFile The Holiday Snapshot File
+	 * 
+	 * @throws java.lang.Exception Thrown if the Holiday Snapshot cannot be loaded
+	 */
+
+	public HolidaySnapshot (
+		final java.lang.String strFile)
+		throws java.lang.Exception
+	{
+		super (strFile, CONTENT);
+	}
+
+	/**
+	 * Retrieve the Set of Locations in the Snapshot
+	 * 
+	 * @return The Set of Locations
+	 */
+
+	public java.util.Set<java.lang.String> locations()
+	{
+		return keys (LOCATION_TABLE);
+	}
+
+	/**
+	 * Retrieve the Locale of the specified Location, decoding it on the First Request
+	 * 
+	 * @param strLocation The Location
+	 * 
+	 * @return The Locale (null if the Location is not in the Snapshot)
+	 */
+
+	public org.drip.analytics.eventday.Locale locale (
+		final java.lang.String strLocation)
+	{
+		if (null == strLocation || strLocation.isEmpty()) return null;
+
+		java.lang.String strKey = strLocation.toLowerCase();
+
+		org.drip.analytics.eventday.Locale lh = _mapLocale.get (strKey);
+
+		if (null != lh) return lh;
+
+		java.nio.ByteBuffer bb = record (LOCATION_TABLE, strKey);
+
+		if (null == bb) return null;
+
+		try {
+			lh = DecodeLocale (bb);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		org.drip.analytics.eventday.Locale lhCached = _mapLocale.putIfAbsent (strKey, lh);
+
+		return null == lhCached ? lh : lhCached;
+	}
+}
@@ -0,0 +1,338 @@
+
+package org.drip.feed.snapshot;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * ReferenceDataSnapshot is the versioned binary Container underneath the Reference Data Snapshots. The File
+ * 	is laid out as:
+ *  - Header => Magic, Format Version, and the Content Type.
+ *  - Directory => The named Tables, each mapping its Record Keys onto the Offset/Length of the Record.
+ *  - Records => The encoded Record Bytes, addressed relative to the End of the Directory.
+ *  
+ *  The File is memory-mapped, only the Directory is read on Load, and the Records are handed out to the
+ *  	Content specific Decoders on Demand. Keys are case-insensitive, as in the Reference Data Maps.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class ReferenceDataSnapshot {
+
+	/**
+	 * Snapshot File Magic ("DRIP")
+	 */
+
+	public static final int MAGIC = 0x44524950;
+
+	/**
+	 * The Current Snapshot Format Version
+	 */
+
+	public static final int VERSION = 1;
+
+	private int _iVersion = -1;
+	private java.lang.String _strContent = "";
+	private java.nio.ByteBuffer _bbRecord = null;
+
+	private java.util.Map<java.lang.String, org.drip.analytics.support.CaseInsensitiveTreeMap<int[]>>
+		_mapTable = new java.util.TreeMap<java.lang.String,
+			org.drip.analytics.support.CaseInsensitiveTreeMap<int[]>>();
+
+	/**
+	 * Write the (possibly null) String to the Record Stream
+	 * 
+	 * @param dos The Record Stream
+	 * @param str The String
+	 * 
+	 * @throws java.io.IOException Thrown if the String cannot be written
+	 */
+
+	protected static final void WriteString (
+		final java.io.DataOutputStream dos,
+		final java.lang.String str)
+		throws java.io.IOException
+	{
+		if (null == str) {
+			dos.writeShort (-1);
+
+			return;
+		}
+
+		byte[] abString = str.getBytes (java.nio.charset.StandardCharsets.UTF_8);
+
+		if (java.lang.Short.MAX_VALUE < abString.length)
+			throw new java.io.IOException ("ReferenceDataSnapshot::WriteString => String too long");
+
+		dos.writeShort (abString.length);
+
+		dos.write (abString);
+	}
+
+	/**
+	 * Read the (possibly null) String off the Record Buffer
+	 * 
+	 * @param bb The Record Buffer
+	 * 
+	 * @return The String
+	 */
+
+	protected static final java.lang.String ReadString (
+		final java.nio.ByteBuffer bb)
+	{
+		int iLength = bb.getShort();
+
+		if (0 > iLength) return null;
+
+		byte[] abString = new byte[iLength];
+
+		bb.get (abString);
+
+		return new java.lang.String (abString, java.nio.charset.StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Write the Snapshot File from the Table Name => Record Key => Record Bytes Map
+	 * 
+	 * @param strFile The Snapshot File
+	 * @param strContent The Content Type
+	 * @param mapTable The Table Name => Record Key => Record Bytes Map
+	 * 
+	 * @return TRUE => The Snapshot File has been written
+	 */
+
+	protected static final boolean WriteSnapshot (
+		final java.lang.String strFile,
+		final java.lang.String strContent,
+		final java.util.Map<java.lang.String, java.util.Map<java.lang.String, byte[]>> mapTable)
+	{
+		if (null == strFile || strFile.isEmpty() || null == strContent || null == mapTable) return false;
+
+		java.io.DataOutputStream dos = null;
+
+		try {
+			dos = new java.io.DataOutputStream (new java.io.BufferedOutputStream (new
+				java.io.FileOutputStream (strFile)));
+
+			dos.writeInt (MAGIC);
+
+			dos.writeInt (VERSION);
+
+			WriteString (dos, strContent);
+
+			dos.writeInt (mapTable.size());
+
+			int iOffset = 0;
+
+			for (java.util.Map.Entry<java.lang.String, java.util.Map<java.lang.String, byte[]>> meTable :
+				mapTable.entrySet()) {
+				java.util.Map<java.lang.String, byte[]> mapRecord = meTable.getValue();
+
+				WriteString (dos, meTable.getKey());
+
+				dos.writeInt (mapRecord.size());
+
+				for (java.util.Map.Entry<java.lang.String, byte[]> meRecord : mapRecord.entrySet()) {
+					WriteString (dos, meRecord.getKey());
+
+					dos.writeInt (iOffset);
+
+					dos.writeInt (meRecord.getValue().length);
+
+					iOffset += meRecord.getValue().length;
+				}
+			}
+
+			for (java.util.Map<java.lang.String, byte[]> mapRecord : mapTable.values()) {
+				for (byte[] abRecord : mapRecord.values())
+					dos.write (abRecord);
+			}
+
+			dos.close();
+
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		try {
+			if (null != dos) dos.close();
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return false;
+	}
+
+	/**
+	 * ReferenceDataSnapshot Constructor - maps the File and reads the Directory
+	 * 
+	 * @param strFile The Snapshot File
+	 * @param strContent The Expected Content Type
+	 * 
+	 * @throws java.lang.Exception Thrown if the Snapshot File cannot be mapped or is Invalid
+	 */
+
+	protected ReferenceDataSnapshot (
+		final java.lang.String strFile,
+		final java.lang.String strContent)
+		throws java.lang.Exception
+	{
+		if (null == strFile || strFile.isEmpty() || null == strContent)
+			throw new java.lang.Exception ("ReferenceDataSnapshot ctr: Invalid Inputs");
+
+		java.io.RandomAccessFile raf = new java.io.RandomAccessFile (strFile, "r");
+
+		java.nio.ByteBuffer bb = null;
+
+		try {
+			java.nio.channels.FileChannel fc = raf.getChannel();
+
+			bb = fc.map (java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, fc.size());
+		} finally {
+			raf.close();
+		}
+
+		if (MAGIC != bb.getInt())
+			throw new java.lang.Exception ("ReferenceDataSnapshot ctr: Not a Snapshot File");
+
+		if (VERSION != (_iVersion = bb.getInt()))
+			throw new java.lang.Exception ("ReferenceDataSnapshot ctr: Unsupported Version " + _iVersion);
+
+		if (!strContent.equals (_strContent = ReadString (bb)))
+			throw new java.lang.Exception ("ReferenceDataSnapshot ctr: Unexpected Content " + _strContent);
+
+		int iNumTable = bb.getInt();
+
+		for (int i = 0; i < iNumTable; ++i) {
+			java.lang.String strTable = ReadString (bb);
+
+			int iNumRecord = bb.getInt();
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<int[]> mapRecord = new
+				org.drip.analytics.support.CaseInsensitiveTreeMap<int[]>();
+
+			for (int j = 0; j < iNumRecord; ++j) {
+				java.lang.String strKey = ReadString (bb);
+
+				mapRecord.put (strKey, new int[] {bb.getInt(), bb.getInt()});
+			}
+
+			_mapTable.put (strTable, mapRecord);
+		}
+
+		_bbRecord = bb.slice();
+	}
+
+	/**
+	 * Retrieve the Snapshot Format Version
+	 * 
+	 * @return The Snapshot Format Version
+	 */
+
+	public int version()
+	{
+		return _iVersion;
+	}
+
+	/**
+	 * Retrieve the Snapshot Content Type
+	 * 
+	 * @return The Snapshot Content Type
+	 */
+
+	public java.lang.String content()
+	{
+		return _strContent;
+	}
+
+	/**
+	 * Retrieve the Keys of the Records in the specified Table
+	 * 
+	 * @param strTable The Table Name
+	 * 
+	 * @return The Record Keys
+	 */
+
+	public java.util.Set<java.lang.String> keys (
+		final java.lang.String strTable)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<int[]> mapRecord = _mapTable.get (strTable);
+
+		return null == mapRecord ? new java.util.TreeSet<java.lang.String>() :
+			java.util.Collections.unmodifiableSet (mapRecord.keySet());
+	}
+
+	/**
+	 * Indicate if the specified Table contains the Record Key
+	 * 
+	 * @param strTable The Table Name
+	 * @param strKey The Record Key
+	 * 
+	 * @return TRUE => The Table contains the Record Key
+	 */
+
+	public boolean containsKey (
+		final java.lang.String strTable,
+		final java.lang.String strKey)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<int[]> mapRecord = _mapTable.get (strTable);
+
+		return null != mapRecord && null != mapRecord.get (strKey);
+	}
+
+	/**
+	 * Retrieve a Buffer over the Bytes of the specified Record. The Buffer is private to the Caller.
+	 * 
+	 * @param strTable The Table Name
+	 * @param strKey The Record Key
+	 * 
+	 * @return The Record Buffer (null if the Record is not present)
+	 */
+
+	protected java.nio.ByteBuffer record (
+		final java.lang.String strTable,
+		final java.lang.String strKey)
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<int[]> mapRecord = _mapTable.get (strTable);
+
+		if (null == mapRecord) return null;
+
+		int[] aiLocation = mapRecord.get (strKey);
+
+		if (null == aiLocation) return null;
+
+		java.nio.ByteBuffer bb = _bbRecord.duplicate();
+
+		bb.position (aiLocation[0]);
+
+		bb.limit (aiLocation[0] + aiLocation[1]);
+
+		return bb.slice();
+	}
+}
@@ -43,6 +43,7 @@ package org.drip.function.solverR1ToR1;
  */
 
 public class FixedPointFinderNewton extends org.drip.function.solverR1ToR1.FixedPointFinder {
+	private double _dblStartingVariate = java.lang.Double.NaN;
 	private org.drip.function.solverR1ToR1.ExecutionInitializer _ei = null;
 
 	private double calcVariateOFSlope (
@@ -76,7 +77,7 @@ public class FixedPointFinderNewton extends org.drip.function.solverR1ToR1.Fixed
 			return vi.setVariate (dblVariateNext) && vi.setOF (_of.evaluate (dblVariateNext)) &&
 				rfop.incrOFDerivCalcs() && rfop.incrOFCalcs();
 		} catch (java.lang.Exception e) {
-			e.printStackTrace();
+			if (_bWhine) e.printStackTrace();
 		}
 
 		return false;
@@ -85,7 +86,13 @@ public class FixedPointFinderNewton extends org.drip.function.solverR1ToR1.Fixed
 	@Override protected org.drip.function.solverR1ToR1.ExecutionInitializationOutput initializeVariateZone (
 		final org.drip.function.solverR1ToR1.InitializationHeuristics ih)
 	{
-		return _ei.initializeBracket (ih, _dblOFGoal);
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblStartingVariate))
+			return _ei.initializeBracket (ih, _dblOFGoal);
+
+		org.drip.function.solverR1ToR1.ConvergenceOutput cop = new
+			org.drip.function.solverR1ToR1.ConvergenceOutput();
+
+		return cop.done (_dblStartingVariate) ? cop : null;
 	}
 
 	/**
@@ -108,4 +115,29 @@ public class FixedPointFinderNewton extends org.drip.function.solverR1ToR1.Fixed
 
 		_ei = new org.drip.function.solverR1ToR1.ExecutionInitializer (_of, null, true);
 	}
+
+	/**
+	 * FixedPointFinderNewton constructor that starts the Iteration off the specified Variate, skipping the
+	 * 	Bracketing Initialization altogether
+	 * 
+	 * @param dblOFGoal OF Goal
+	 * @param of Objective Function
+	 * @param dblStartingVariate The Starting Variate
+	 * @param bWhine TRUE => Balk on Encountering Exception
+	 * 
+	 * @throws java.lang.Exception Propogated from underneath
+	 */
+
+	public FixedPointFinderNewton (
+		final double dblOFGoal,
+		final org.drip.function.definition.R1ToR1 of,
+		final double dblStartingVariate,
+		final boolean bWhine)
+		throws java.lang.Exception
+	{
+		this (dblOFGoal, of, bWhine);
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblStartingVariate = dblStartingVariate))
+			throw new java.lang.Exception ("FixedPointFinderNewton constructor: Invalid inputs");
+	}
 }
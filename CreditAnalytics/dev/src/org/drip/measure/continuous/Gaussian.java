@@ -123,4 +123,49 @@ public class Gaussian {
 
         return InverseCDF (dblY, .00000001, -8., 8.);
     } 
+
+    /**
+     * Compute the Inverse CDF of the Distribution up to the specified Y using the Rational Approximation of
+     *  Acklam (2003), with a Relative Error below 1.15E-09 across (0, 1)
+     * 
+     * @param dblY Y
+     * 
+     * @return The Inverse CDF of the Distribution up to the specified Y
+     * 
+     * @throws java.lang.Exception Thrown if Inputs are Invalid
+     */
+
+    public static final double RationalInverseCDF (
+    	final double dblY)
+    	throws java.lang.Exception
+    {
+    	if (!org.drip.quant.common.NumberUtil.IsValid (dblY) || 0. >= dblY || 1. <= dblY)
+    		throw new java.lang.Exception ("Gaussian::RationalInverseCDF => Invalid Inputs");
+
+    	if (dblY < 0.02425) {
+    		double dblQ = java.lang.Math.sqrt (-2. * java.lang.Math.log (dblY));
+
+    		return (((((-7.784894002430293e-03 * dblQ - 3.223964580411365e-01) * dblQ - 2.400758277161838e+00)
+    			* dblQ - 2.549732539343734e+00) * dblQ + 4.374664141464968e+00) * dblQ + 2.938163982698783e+00) /
+    				((((7.784695709041462e-03 * dblQ + 3.224671290700398e-01) * dblQ + 2.445134137142996e+00) *
+    					dblQ + 3.754408661907416e+00) * dblQ + 1.);
+    	}
+
+    	if (dblY > 0.97575) {
+    		double dblQ = java.lang.Math.sqrt (-2. * java.lang.Math.log (1. - dblY));
+
+    		return -(((((-7.784894002430293e-03 * dblQ - 3.223964580411365e-01) * dblQ - 2.400758277161838e+00)
+    			* dblQ - 2.549732539343734e+00) * dblQ + 4.374664141464968e+00) * dblQ + 2.938163982698783e+00) /
+    				((((7.784695709041462e-03 * dblQ + 3.224671290700398e-01) * dblQ + 2.445134137142996e+00) *
+    					dblQ + 3.754408661907416e+00) * dblQ + 1.);
+    	}
+
+    	double dblQ = dblY - 0.5;
+    	double dblR = dblQ * dblQ;
+
+    	return (((((-3.969683028665376e+01 * dblR + 2.209460984245205e+02) * dblR - 2.759285104469687e+02) *
+    		dblR + 1.383577518672690e+02) * dblR - 3.066479806614716e+01) * dblR + 2.506628277459239e+00) * dblQ
+    			/ (((((-5.447609879822406e+01 * dblR + 1.615858368580409e+02) * dblR - 1.556989798598866e+02) *
+    				dblR + 6.680131188771972e+01) * dblR - 1.328068155288572e+01) * dblR + 1.);
+    }
 }
@@ -64,6 +64,43 @@ public class ScenarioMarketSurfaceBuilder {
 		final double[][] aadblNode,
 		final org.drip.spline.params.SegmentCustomBuilderControl scbcWireSpan,
 		final org.drip.spline.params.SegmentCustomBuilderControl scbcSurface)
+	{
+		return CustomSplineWireSurface (strName, dtStart, strCurrency, collatParams, adblX, adblY, aadblNode,
+			scbcWireSpan, scbcSurface, 0., false);
+	}
+
+	/**
+	 * Build an Instance of the Market Node Surface using Custom Wire Span and Surface Splines, with the
+	 * 	Cross-section Cache Y Quantum and the Tensor-Product Bicubic Node Evaluation as specified.
+	 * 
+	 * @param strName Name of the Volatility Surface
+	 * @param dtStart Start/Epoch Julian Date
+	 * @param strCurrency Currency
+	 * @param collatParams Collateral Parameters
+	 * @param adblX Array of X Ordinates
+	 * @param adblY Array of Y Ordinates
+	 * @param aadblNode Double Array of the Surface Nodes
+	 * @param scbcWireSpan The Wire Span Segment Customizer
+	 * @param scbcSurface The Surface Segment Customizer
+	 * @param dblYQuantum The Y Quantum the Wire Surface Cross-sections are calibrated at (Zero => Exact Y)
+	 * @param bTensorBicubic TRUE => The Nodes are read off of the Tensor-Product Bicubic Surface sampled
+	 * 	from the Wires at the Y Ordinates
+	 * 
+	 * @return Instance of the Market Node Surface
+	 */
+
+	public static final org.drip.analytics.definition.MarketSurface CustomSplineWireSurface (
+		final java.lang.String strName,
+		final org.drip.analytics.date.JulianDate dtStart,
+		final java.lang.String strCurrency,
+		final org.drip.param.valuation.CollateralizationParams collatParams,
+		final double[] adblX,
+		final double[] adblY,
+		final double[][] aadblNode,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcWireSpan,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbcSurface,
+		final double dblYQuantum,
+		final boolean bTensorBicubic)
 	{
 		if (null == dtStart || null == strName || strName.isEmpty() || null == strCurrency ||
 			strCurrency.isEmpty() || null == adblX || null == adblY || null == aadblNode || null ==
@@ -111,11 +148,17 @@ public class ScenarioMarketSurfaceBuilder {
 		}
 
 		try {
+			org.drip.spline.multidimensional.WireSurfaceStretch wss = new
+				org.drip.spline.multidimensional.WireSurfaceStretch ("WireSurfaceStretch@" + strName + "@" +
+					org.drip.quant.common.StringUtil.GUID(), scbcSurface, mapWireSpan, dblYQuantum);
+
+			org.drip.spline.multidimensional.TensorBicubicSurface tbs = null;
+
+			if (bTensorBicubic && null == (tbs = wss.tensorBicubic (adblY))) return null;
+
 			return new org.drip.state.curve.BasisSplineMarketSurface (dtStart.julian(),
-				org.drip.state.identifier.CustomMetricLabel.Standard (strName), strCurrency, new
-					org.drip.spline.multidimensional.WireSurfaceStretch ("WireSurfaceStretch@" + strName +
-						"@" + org.drip.quant.common.StringUtil.GUID(), scbcSurface, mapWireSpan),
-							collatParams);
+				org.drip.state.identifier.CustomMetricLabel.Standard (strName), strCurrency, wss, tbs,
+					collatParams);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
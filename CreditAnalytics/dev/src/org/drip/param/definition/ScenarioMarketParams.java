@@ -429,6 +429,54 @@ public abstract class ScenarioMarketParams {
 				final org.drip.product.definition.BasketProduct bp,
 				final boolean bBump);
 
+	/**
+	 * Get the Funding Parallel Bumped Market Parameters of the specified Funding Curve for the given Basket
+	 * 	Product
+	 * 
+	 * @param bp BasketProduct
+	 * @param strFundingCurve Name of the Funding Curve to be Bumped
+	 * @param bBump True (Bump Up), False (Bump Down)
+	 * 
+	 * @return The Funding Parallel Bumped Market Parameters
+	 */
+
+	public abstract org.drip.param.market.CurveSurfaceQuoteSet fundingFlatBump (
+		final org.drip.product.definition.BasketProduct bp,
+		final java.lang.String strFundingCurve,
+		final boolean bBump);
+
+	/**
+	 * Get the Credit Flat Bumped Market Parameters of the specified Credit Curve for the given Basket
+	 * 	Product
+	 * 
+	 * @param bp BasketProduct
+	 * @param strCreditCurve Name of the Credit Curve to be Bumped
+	 * @param bBump True (Bump Up), False (Bump Down)
+	 * 
+	 * @return The Credit Flat Bumped Market Parameters
+	 */
+
+	public abstract org.drip.param.market.CurveSurfaceQuoteSet creditFlatBump (
+		final org.drip.product.definition.BasketProduct bp,
+		final java.lang.String strCreditCurve,
+		final boolean bBump);
+
+	/**
+	 * Get the Recovery Flat Bumped Market Parameters of the specified Credit Curve for the given Basket
+	 * 	Product
+	 * 
+	 * @param bp BasketProduct
+	 * @param strCreditCurve Name of the Credit Curve whose Recovery is to be Bumped
+	 * @param bBump True (Bump Up), False (Bump Down)
+	 * 
+	 * @return The Recovery Flat Bumped Market Parameters
+	 */
+
+	public abstract org.drip.param.market.CurveSurfaceQuoteSet recoveryFlatBump (
+		final org.drip.product.definition.BasketProduct bp,
+		final java.lang.String strCreditCurve,
+		final boolean bBump);
+
 	/**
 	 * Get the Double Map of Funding Tenor Bumped Curves for each Funding Curve for the given Basket Product
 	 * 
@@ -100,9 +100,16 @@ public class CreditCurveScenarioContainer extends org.drip.param.definition.Scen
 				astrCalibMeasure.length || astrCalibMeasure.length != adblQuote.length)
 			return false;
 
-		if (null == (_ccBase = _ccsg.createCC (strName, valParams, dc, dcTSY, adblQuote, dblRecovery,
-			astrCalibMeasure, lsfc, vcp, bFlat)))
-			return false;
+		org.drip.state.estimator.TenorBumpBootstrapper tbb = bFlat ? null : _ccsg.tenorBumpBootstrapper
+			(strName, valParams, dc, dcTSY, adblQuote, dblRecovery, astrCalibMeasure, lsfc, vcp);
+
+		if (null != tbb)
+			_ccBase = (org.drip.analytics.definition.CreditCurve) tbb.base();
+		else
+			_ccBase = _ccsg.createCC (strName, valParams, dc, dcTSY, adblQuote, dblRecovery, astrCalibMeasure,
+				lsfc, vcp, bFlat);
+
+		if (null == _ccBase) return false;
 
 		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_FLAT_UP & iScenario)) {
 			if (null == (_ccBumpUp = _ccsg.createCC (strName, valParams, dc, dcTSY,
@@ -119,14 +126,16 @@ public class CreditCurveScenarioContainer extends org.drip.param.definition.Scen
 		}
 
 		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_UP & iScenario)) {
-			if (null == (_mapTenorCCBumpUp = _ccsg.createTenorCCMap (strName, valParams, dc, dcTSY,
-				adblQuote, _dblCouponBump, dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat)))
+			if (null == (_mapTenorCCBumpUp = null != tbb ? _ccsg.createTenorCCMap (tbb, _dblCouponBump) :
+				_ccsg.createTenorCCMap (strName, valParams, dc, dcTSY, adblQuote, _dblCouponBump, dblRecovery,
+					astrCalibMeasure, lsfc, vcp, bFlat)))
 				return false;
 		}
 
 		if (0 != (org.drip.param.definition.ScenarioCreditCurve.CC_TENOR_DN & iScenario)) {
-			if (null == (_mapTenorCCBumpDn = _ccsg.createTenorCCMap (strName, valParams, dc, dcTSY,
-				adblQuote, -_dblCouponBump, dblRecovery, astrCalibMeasure, lsfc, vcp, bFlat)))
+			if (null == (_mapTenorCCBumpDn = null != tbb ? _ccsg.createTenorCCMap (tbb, -_dblCouponBump) :
+				_ccsg.createTenorCCMap (strName, valParams, dc, dcTSY, adblQuote, -_dblCouponBump, dblRecovery,
+					astrCalibMeasure, lsfc, vcp, bFlat)))
 				return false;
 		}
 
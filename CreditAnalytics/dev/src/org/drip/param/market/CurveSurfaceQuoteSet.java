@@ -46,77 +46,77 @@ public class CurveSurfaceQuoteSet {
 			_mapPayCurrencyForeignCollateralDC = new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapEquityCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+	private org.drip.param.market.LatentStateStore<org.drip.analytics.definition.CreditCurve>
 		_mapCreditCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>();
+			org.drip.param.market.LatentStateStore<org.drip.analytics.definition.CreditCurve>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.ForwardCurve>
+	private org.drip.param.market.LatentStateStore<org.drip.analytics.rates.ForwardCurve>
 		_mapForwardCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.ForwardCurve>();
+			org.drip.param.market.LatentStateStore<org.drip.analytics.rates.ForwardCurve>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
+	private org.drip.param.market.LatentStateStore<org.drip.analytics.rates.DiscountCurve>
 		_mapFundingCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>();
+			org.drip.param.market.LatentStateStore<org.drip.analytics.rates.DiscountCurve>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapFXCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
+	private org.drip.param.market.LatentStateStore<org.drip.analytics.rates.DiscountCurve>
 		_mapGovvieCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>();
+			org.drip.param.market.LatentStateStore<org.drip.analytics.rates.DiscountCurve>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapPaydownCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapRecoveryCurve = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
 	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
 		_mapCollateralVolatilitySurface = new
 			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapCreditVolatilitySurface = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapCustomMetricVolatilitySurface = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapEquityVolatilitySurface = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapForwardVolatilitySurface = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapFundingVolatilitySurface = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapFXVolatilitySurface = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapGovvieVolatilitySurface = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapPaydownVolatilitySurface = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
+	private org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>
 		_mapRecoveryVolatilitySurface = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>();
+			org.drip.param.market.LatentStateStore<org.drip.function.definition.R1ToR1>();
 
 	private org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.function.definition.R1ToR1>
 		_mapCollateralCollateralCorrelationSurface = new
@@ -353,6 +353,100 @@ public class CurveSurfaceQuoteSet {
 	{
 	}
 
+	/**
+	 * Create a Scenario Overlay of this CurveSurfaceQuoteSet. The Label-indexed Curves and Surfaces are
+	 *  shared Copy-on-Write, so (re)-setting a Curve on the Overlay does not affect this Instance (and
+	 *  vice versa); the remaining Maps are copied shallow, and the Fixings Container is shared.
+	 * 
+	 * @return The Scenario Overlay
+	 */
+
+	public CurveSurfaceQuoteSet overlay()
+	{
+		CurveSurfaceQuoteSet csqs = new CurveSurfaceQuoteSet();
+
+		csqs._mapEquityCurve = _mapEquityCurve.overlay();
+		csqs._mapCreditCurve = _mapCreditCurve.overlay();
+		csqs._mapForwardCurve = _mapForwardCurve.overlay();
+		csqs._mapFundingCurve = _mapFundingCurve.overlay();
+		csqs._mapFXCurve = _mapFXCurve.overlay();
+		csqs._mapGovvieCurve = _mapGovvieCurve.overlay();
+		csqs._mapPaydownCurve = _mapPaydownCurve.overlay();
+		csqs._mapRecoveryCurve = _mapRecoveryCurve.overlay();
+		csqs._mapCreditVolatilitySurface = _mapCreditVolatilitySurface.overlay();
+		csqs._mapCustomMetricVolatilitySurface = _mapCustomMetricVolatilitySurface.overlay();
+		csqs._mapEquityVolatilitySurface = _mapEquityVolatilitySurface.overlay();
+		csqs._mapForwardVolatilitySurface = _mapForwardVolatilitySurface.overlay();
+		csqs._mapFundingVolatilitySurface = _mapFundingVolatilitySurface.overlay();
+		csqs._mapFXVolatilitySurface = _mapFXVolatilitySurface.overlay();
+		csqs._mapGovvieVolatilitySurface = _mapGovvieVolatilitySurface.overlay();
+		csqs._mapPaydownVolatilitySurface = _mapPaydownVolatilitySurface.overlay();
+		csqs._mapRecoveryVolatilitySurface = _mapRecoveryVolatilitySurface.overlay();
+
+		csqs._mapPayCurrencyForeignCollateralDC.putAll (_mapPayCurrencyForeignCollateralDC);
+		csqs._mapCollateralVolatilitySurface.putAll (_mapCollateralVolatilitySurface);
+		csqs._mapCollateralCollateralCorrelationSurface.putAll (_mapCollateralCollateralCorrelationSurface);
+		csqs._mapCollateralCreditCorrelationSurface.putAll (_mapCollateralCreditCorrelationSurface);
+		csqs._mapCollateralCustomMetricCorrelationSurface.putAll (_mapCollateralCustomMetricCorrelationSurface);
+		csqs._mapCollateralEquityCorrelationSurface.putAll (_mapCollateralEquityCorrelationSurface);
+		csqs._mapCollateralForwardCorrelationSurface.putAll (_mapCollateralForwardCorrelationSurface);
+		csqs._mapCollateralFundingCorrelationSurface.putAll (_mapCollateralFundingCorrelationSurface);
+		csqs._mapCollateralFXCorrelationSurface.putAll (_mapCollateralFXCorrelationSurface);
+		csqs._mapCollateralGovvieCorrelationSurface.putAll (_mapCollateralGovvieCorrelationSurface);
+		csqs._mapCollateralPaydownCorrelationSurface.putAll (_mapCollateralPaydownCorrelationSurface);
+		csqs._mapCollateralRecoveryCorrelationSurface.putAll (_mapCollateralRecoveryCorrelationSurface);
+		csqs._mapCreditCreditCorrelationSurface.putAll (_mapCreditCreditCorrelationSurface);
+		csqs._mapCreditCustomMetricCorrelationSurface.putAll (_mapCreditCustomMetricCorrelationSurface);
+		csqs._mapCreditEquityCorrelationSurface.putAll (_mapCreditEquityCorrelationSurface);
+		csqs._mapCreditForwardCorrelationSurface.putAll (_mapCreditForwardCorrelationSurface);
+		csqs._mapCreditFundingCorrelationSurface.putAll (_mapCreditFundingCorrelationSurface);
+		csqs._mapCreditFXCorrelationSurface.putAll (_mapCreditFXCorrelationSurface);
+		csqs._mapCreditGovvieCorrelationSurface.putAll (_mapCreditGovvieCorrelationSurface);
+		csqs._mapCreditPaydownCorrelationSurface.putAll (_mapCreditPaydownCorrelationSurface);
+		csqs._mapCreditRecoveryCorrelationSurface.putAll (_mapCreditRecoveryCorrelationSurface);
+		csqs._mapCustomMetricCustomMetricCorrelationSurface.putAll (_mapCustomMetricCustomMetricCorrelationSurface);
+		csqs._mapCustomMetricEquityCorrelationSurface.putAll (_mapCustomMetricEquityCorrelationSurface);
+		csqs._mapCustomMetricForwardCorrelationSurface.putAll (_mapCustomMetricForwardCorrelationSurface);
+		csqs._mapCustomMetricFundingCorrelationSurface.putAll (_mapCustomMetricFundingCorrelationSurface);
+		csqs._mapCustomMetricFXCorrelationSurface.putAll (_mapCustomMetricFXCorrelationSurface);
+		csqs._mapCustomMetricGovvieCorrelationSurface.putAll (_mapCustomMetricGovvieCorrelationSurface);
+		csqs._mapCustomMetricPaydownCorrelationSurface.putAll (_mapCustomMetricPaydownCorrelationSurface);
+		csqs._mapCustomMetricRecoveryCorrelationSurface.putAll (_mapCustomMetricRecoveryCorrelationSurface);
+		csqs._mapEquityEquityCorrelationSurface.putAll (_mapEquityEquityCorrelationSurface);
+		csqs._mapEquityForwardCorrelationSurface.putAll (_mapEquityForwardCorrelationSurface);
+		csqs._mapEquityFundingCorrelationSurface.putAll (_mapEquityFundingCorrelationSurface);
+		csqs._mapEquityFXCorrelationSurface.putAll (_mapEquityFXCorrelationSurface);
+		csqs._mapEquityGovvieCorrelationSurface.putAll (_mapEquityGovvieCorrelationSurface);
+		csqs._mapEquityPaydownCorrelationSurface.putAll (_mapEquityPaydownCorrelationSurface);
+		csqs._mapEquityRecoveryCorrelationSurface.putAll (_mapEquityRecoveryCorrelationSurface);
+		csqs._mapForwardForwardCorrelationSurface.putAll (_mapForwardForwardCorrelationSurface);
+		csqs._mapForwardFundingCorrelationSurface.putAll (_mapForwardFundingCorrelationSurface);
+		csqs._mapForwardFXCorrelationSurface.putAll (_mapForwardFXCorrelationSurface);
+		csqs._mapForwardGovvieCorrelationSurface.putAll (_mapForwardGovvieCorrelationSurface);
+		csqs._mapForwardPaydownCorrelationSurface.putAll (_mapForwardPaydownCorrelationSurface);
+		csqs._mapForwardRecoveryCorrelationSurface.putAll (_mapForwardRecoveryCorrelationSurface);
+		csqs._mapFundingFundingCorrelationSurface.putAll (_mapFundingFundingCorrelationSurface);
+		csqs._mapFundingFXCorrelationSurface.putAll (_mapFundingFXCorrelationSurface);
+		csqs._mapFundingGovvieCorrelationSurface.putAll (_mapFundingGovvieCorrelationSurface);
+		csqs._mapFundingPaydownCorrelationSurface.putAll (_mapFundingPaydownCorrelationSurface);
+		csqs._mapFundingRecoveryCorrelationSurface.putAll (_mapFundingRecoveryCorrelationSurface);
+		csqs._mapFXFXCorrelationSurface.putAll (_mapFXFXCorrelationSurface);
+		csqs._mapFXGovvieCorrelationSurface.putAll (_mapFXGovvieCorrelationSurface);
+		csqs._mapFXPaydownCorrelationSurface.putAll (_mapFXPaydownCorrelationSurface);
+		csqs._mapFXRecoveryCorrelationSurface.putAll (_mapFXRecoveryCorrelationSurface);
+		csqs._mapGovvieGovvieCorrelationSurface.putAll (_mapGovvieGovvieCorrelationSurface);
+		csqs._mapGovviePaydownCorrelationSurface.putAll (_mapGovviePaydownCorrelationSurface);
+		csqs._mapGovvieRecoveryCorrelationSurface.putAll (_mapGovvieRecoveryCorrelationSurface);
+		csqs._mapPaydownPaydownCorrelationSurface.putAll (_mapPaydownPaydownCorrelationSurface);
+		csqs._mapPaydownRecoveryCorrelationSurface.putAll (_mapPaydownRecoveryCorrelationSurface);
+		csqs._mapRecoveryRecoveryCorrelationSurface.putAll (_mapRecoveryRecoveryCorrelationSurface);
+		csqs._mapProductQuote.putAll (_mapProductQuote);
+
+		csqs._lsfc = _lsfc;
+
+		return csqs;
+	}
+
 	/**
 	 * Retrieve the Discount Curve associated with the Pay Cash-flow Collateralized using a different
 	 * 	Collateral Currency Numeraire
@@ -461,11 +555,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.analytics.definition.CreditCurve creditCurve (
 		final org.drip.state.identifier.CreditLabel creditLabel)
 	{
-		if (null == creditLabel) return null;
-
-		java.lang.String strCreditLabel = creditLabel.fullyQualifiedName();
-
-		return !_mapCreditCurve.containsKey (strCreditLabel) ? null : _mapCreditCurve.get (strCreditLabel);
+		return _mapCreditCurve.get (creditLabel);
 	}
 
 	/**
@@ -481,7 +571,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == cc) return false;
 
-		_mapCreditCurve.put (cc.label().fullyQualifiedName(), cc);
+		_mapCreditCurve.put (cc.label(), cc);
 
 		return true;
 	}
@@ -497,11 +587,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 equityCurve (
 		final org.drip.state.identifier.EquityLabel equityLabel)
 	{
-		if (null == equityLabel) return null;
-
-		java.lang.String strCode = equityLabel.fullyQualifiedName();
-
-		return _mapEquityCurve.containsKey (strCode) ? _mapEquityCurve.get (strCode) : null;
+		return _mapEquityCurve.get (equityLabel);
 	}
 
 	/**
@@ -519,7 +605,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == equityLabel || null == auEquity) return false;
 
-		_mapEquityCurve.put (equityLabel.fullyQualifiedName(), auEquity);
+		_mapEquityCurve.put (equityLabel, auEquity);
 
 		return true;
 	}
@@ -535,12 +621,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.analytics.rates.ForwardCurve forwardCurve (
 		final org.drip.state.identifier.ForwardLabel forwardLabel)
 	{
-		if (null == forwardLabel) return null;
-
-		java.lang.String strForwardLabel = forwardLabel.fullyQualifiedName();
-
-		return _mapForwardCurve.containsKey (strForwardLabel) ? _mapForwardCurve.get (strForwardLabel) :
-			null;
+		return _mapForwardCurve.get (forwardLabel);
 	}
 
 	/**
@@ -556,7 +637,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == fc) return false;
 
-		_mapForwardCurve.put (fc.label().fullyQualifiedName(), fc);
+		_mapForwardCurve.put (fc.label(), fc);
 
 		return true;
 	}
@@ -572,12 +653,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.analytics.rates.DiscountCurve fundingCurve (
 		final org.drip.state.identifier.FundingLabel fundingLabel)
 	{
-		if (null == fundingLabel) return null;
-
-		java.lang.String strFundingLabel = fundingLabel.fullyQualifiedName();
-
-		return _mapFundingCurve.containsKey (strFundingLabel) ? _mapFundingCurve.get (strFundingLabel) :
-			null;
+		return _mapFundingCurve.get (fundingLabel);
 	}
 
 	/**
@@ -593,7 +669,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == dc) return false;
 
-		_mapFundingCurve.put (dc.label().fullyQualifiedName(), dc);
+		_mapFundingCurve.put (dc.label(), dc);
 
 		return true;
 	}
@@ -609,11 +685,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 fxCurve (
 		final org.drip.state.identifier.FXLabel fxLabel)
 	{
-		if (null == fxLabel) return null;
-
-		java.lang.String strCode = fxLabel.fullyQualifiedName();
-
-		return _mapFXCurve.containsKey (strCode) ? _mapFXCurve.get (strCode) : null;
+		return _mapFXCurve.get (fxLabel);
 	}
 
 	/**
@@ -631,10 +703,10 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == fxLabel || null == auFX) return false;
 
-		_mapFXCurve.put (fxLabel.fullyQualifiedName(), auFX);
+		_mapFXCurve.put (fxLabel, auFX);
 
 		try {
-			_mapFXCurve.put (fxLabel.inverse().fullyQualifiedName(), new
+			_mapFXCurve.put (fxLabel.inverse(), new
 				org.drip.function.R1ToR1.UnivariateReciprocal (auFX));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
@@ -656,11 +728,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.analytics.rates.DiscountCurve govvieCurve (
 		final org.drip.state.identifier.GovvieLabel govvieLabel)
 	{
-		if (null == govvieLabel) return null;
-
-		java.lang.String strGovvieLabel = govvieLabel.fullyQualifiedName();
-
-		return !_mapGovvieCurve.containsKey (strGovvieLabel) ? null : _mapGovvieCurve.get (strGovvieLabel);
+		return _mapGovvieCurve.get (govvieLabel);
 	}
 
 	/**
@@ -676,7 +744,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == dcGovvie) return false;
 
-		_mapGovvieCurve.put (dcGovvie.label().fullyQualifiedName(), dcGovvie);
+		_mapGovvieCurve.put (dcGovvie.label(), dcGovvie);
 
 		return true;
 	}
@@ -692,11 +760,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 paydownCurve (
 		final org.drip.state.identifier.PaydownLabel paydownLabel)
 	{
-		if (null == paydownLabel) return null;
-
-		java.lang.String strCode = paydownLabel.fullyQualifiedName();
-
-		return _mapPaydownCurve.containsKey (strCode) ? _mapPaydownCurve.get (strCode) : null;
+		return _mapPaydownCurve.get (paydownLabel);
 	}
 
 	/**
@@ -714,7 +778,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == paydownLabel || null == auPaydown) return false;
 
-		_mapPaydownCurve.put (paydownLabel.fullyQualifiedName(), auPaydown);
+		_mapPaydownCurve.put (paydownLabel, auPaydown);
 
 		return true;
 	}
@@ -730,12 +794,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 recoveryCurve (
 		final org.drip.state.identifier.RecoveryLabel recoveryLabel)
 	{
-		if (null == recoveryLabel) return null;
-
-		java.lang.String strRecoveryLabel = recoveryLabel.fullyQualifiedName();
-
-		return !_mapRecoveryCurve.containsKey (strRecoveryLabel) ? null : _mapRecoveryCurve.get
-			(strRecoveryLabel);
+		return _mapRecoveryCurve.get (recoveryLabel);
 	}
 
 	/**
@@ -753,7 +812,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == recoveryLabel || null == auRC) return false;
 
-		_mapRecoveryCurve.put (recoveryLabel.fullyQualifiedName(), auRC);
+		_mapRecoveryCurve.put (recoveryLabel, auRC);
 
 		return true;
 	}
@@ -807,12 +866,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 creditCurveVolSurface (
 		final org.drip.state.identifier.CreditLabel creditLabel)
 	{
-		if (null == creditLabel) return null;
-
-		java.lang.String strCreditLabel = creditLabel.fullyQualifiedName();
-
-		return  !_mapCreditVolatilitySurface.containsKey (strCreditLabel) ? null :
-			_mapCreditVolatilitySurface.get (strCreditLabel);
+		return _mapCreditVolatilitySurface.get (creditLabel);
 	}
 
 	/**
@@ -830,7 +884,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == creditLabel || null == auVolatility) return false;
 
-		_mapCreditVolatilitySurface.put (creditLabel.fullyQualifiedName(), auVolatility);
+		_mapCreditVolatilitySurface.put (creditLabel, auVolatility);
 
 		return true;
 	}
@@ -846,12 +900,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 customMetricVolSurface (
 		final org.drip.state.identifier.CustomMetricLabel customMetricLabel)
 	{
-		if (null == customMetricLabel) return null;
-
-		java.lang.String strCustomMetricLabel = customMetricLabel.fullyQualifiedName();
-
-		return _mapCustomMetricVolatilitySurface.containsKey (strCustomMetricLabel) ?
-			_mapCustomMetricVolatilitySurface.get (strCustomMetricLabel) : null;
+		return _mapCustomMetricVolatilitySurface.get (customMetricLabel);
 	}
 
 	/**
@@ -869,7 +918,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == customMetricLabel || null == auVolatility) return false;
 
-		_mapCustomMetricVolatilitySurface.put (customMetricLabel.fullyQualifiedName(), auVolatility);
+		_mapCustomMetricVolatilitySurface.put (customMetricLabel, auVolatility);
 
 		return true;
 	}
@@ -885,12 +934,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 equityCurveVolSurface (
 		final org.drip.state.identifier.EquityLabel equityLabel)
 	{
-		if (null == equityLabel) return null;
-
-		java.lang.String strEquityLabel = equityLabel.fullyQualifiedName();
-
-		return  !_mapEquityVolatilitySurface.containsKey (strEquityLabel) ? null :
-			_mapEquityVolatilitySurface.get (strEquityLabel);
+		return _mapEquityVolatilitySurface.get (equityLabel);
 	}
 
 	/**
@@ -908,7 +952,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == equityLabel || null == auVolatility) return false;
 
-		_mapEquityVolatilitySurface.put (equityLabel.fullyQualifiedName(), auVolatility);
+		_mapEquityVolatilitySurface.put (equityLabel, auVolatility);
 
 		return true;
 	}
@@ -924,12 +968,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 forwardCurveVolSurface (
 		final org.drip.state.identifier.ForwardLabel forwardLabel)
 	{
-		if (null == forwardLabel) return null;
-
-		java.lang.String strForwardLabel = forwardLabel.fullyQualifiedName();
-
-		return _mapForwardVolatilitySurface.containsKey (strForwardLabel) ? _mapForwardVolatilitySurface.get
-			(strForwardLabel) : null;
+		return _mapForwardVolatilitySurface.get (forwardLabel);
 	}
 
 	/**
@@ -947,7 +986,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == forwardLabel || null == auVolatility) return false;
 
-		_mapForwardVolatilitySurface.put (forwardLabel.fullyQualifiedName(), auVolatility);
+		_mapForwardVolatilitySurface.put (forwardLabel, auVolatility);
 
 		return true;
 	}
@@ -963,12 +1002,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 fundingCurveVolSurface (
 		final org.drip.state.identifier.FundingLabel fundingLabel)
 	{
-		if (null == fundingLabel) return null;
-
-		java.lang.String strFundingLabel = fundingLabel.fullyQualifiedName();
-
-		return _mapFundingVolatilitySurface.containsKey (strFundingLabel) ? _mapFundingVolatilitySurface.get
-			(strFundingLabel) : null;
+		return _mapFundingVolatilitySurface.get (fundingLabel);
 	}
 
 	/**
@@ -986,7 +1020,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == fundingLabel || null == auVolatility) return false;
 
-		_mapFundingVolatilitySurface.put (fundingLabel.fullyQualifiedName(), auVolatility);
+		_mapFundingVolatilitySurface.put (fundingLabel, auVolatility);
 
 		return true;
 	}
@@ -1002,12 +1036,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 fxCurveVolSurface (
 		final org.drip.state.identifier.FXLabel fxLabel)
 	{
-		if (null == fxLabel) return null;
-
-		java.lang.String strCode = fxLabel.fullyQualifiedName();
-
-		return !_mapFXVolatilitySurface.containsKey (strCode) ? null : _mapFXVolatilitySurface.get
-			(strCode);
+		return _mapFXVolatilitySurface.get (fxLabel);
 	}
 
 	/**
@@ -1025,7 +1054,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == fxLabel || null == auVolatility) return false;
 
-		_mapFXVolatilitySurface.put (fxLabel.fullyQualifiedName(), auVolatility);
+		_mapFXVolatilitySurface.put (fxLabel, auVolatility);
 
 		return true;
 	}
@@ -1041,12 +1070,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 govvieCurveVolSurface (
 		final org.drip.state.identifier.GovvieLabel govvieLabel)
 	{
-		if (null == govvieLabel) return null;
-
-		java.lang.String strGovvieLabel = govvieLabel.fullyQualifiedName();
-
-		return !_mapGovvieVolatilitySurface.containsKey (strGovvieLabel) ? null :
-			_mapGovvieVolatilitySurface.get (strGovvieLabel);
+		return _mapGovvieVolatilitySurface.get (govvieLabel);
 	}
 
 	/**
@@ -1064,7 +1088,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == govvieLabel || null == auVolatility) return false;
 
-		_mapGovvieVolatilitySurface.put (govvieLabel.fullyQualifiedName(), auVolatility);
+		_mapGovvieVolatilitySurface.put (govvieLabel, auVolatility);
 
 		return true;
 	}
@@ -1080,12 +1104,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 paydownCurveVolSurface (
 		final org.drip.state.identifier.PaydownLabel paydownLabel)
 	{
-		if (null == paydownLabel) return null;
-
-		java.lang.String strPaydownLabel = paydownLabel.fullyQualifiedName();
-
-		return !_mapPaydownVolatilitySurface.containsKey (strPaydownLabel) ? null :
-			_mapPaydownVolatilitySurface.get (strPaydownLabel);
+		return _mapPaydownVolatilitySurface.get (paydownLabel);
 	}
 
 	/**
@@ -1103,7 +1122,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == paydownLabel || null == auVolatility) return false;
 
-		_mapPaydownVolatilitySurface.put (paydownLabel.fullyQualifiedName(), auVolatility);
+		_mapPaydownVolatilitySurface.put (paydownLabel, auVolatility);
 
 		return true;
 	}
@@ -1119,12 +1138,7 @@ public class CurveSurfaceQuoteSet {
 	public org.drip.function.definition.R1ToR1 recoveryCurveVolSurface (
 		final org.drip.state.identifier.RecoveryLabel recoveryLabel)
 	{
-		if (null == recoveryLabel) return null;
-
-		java.lang.String strRecoveryLabel = recoveryLabel.fullyQualifiedName();
-
-		return !_mapRecoveryVolatilitySurface.containsKey (strRecoveryLabel) ? null :
-			_mapRecoveryVolatilitySurface.get (strRecoveryLabel);
+		return _mapRecoveryVolatilitySurface.get (recoveryLabel);
 	}
 
 	/**
@@ -1142,7 +1156,7 @@ public class CurveSurfaceQuoteSet {
 	{
 		if (null == recoveryLabel || null == auVolatility) return false;
 
-		_mapRecoveryVolatilitySurface.put (recoveryLabel.fullyQualifiedName(), auVolatility);
+		_mapRecoveryVolatilitySurface.put (recoveryLabel, auVolatility);
 
 		return true;
 	}
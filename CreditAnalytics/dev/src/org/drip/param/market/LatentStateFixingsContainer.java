@@ -31,7 +31,8 @@ package org.drip.param.market;
 
 /**
  * LatentStateFixingsContainer holds the explicit fixings for a specified Latent State Quantification along
- * 	the date ordinate.
+ * 	the date ordinate. A Container may be layered as an Overlay over a Base Container - Fixings added to the
+ * 	Overlay stay local to it, while Look-ups fall through to the (unmodified) Base.
  *
  * @author Lakshmi Krishnamurthy
  */
@@ -47,6 +48,29 @@ public class LatentStateFixingsContainer {
 			java.util.TreeMap<org.drip.analytics.date.JulianDate,
 				org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>();
 
+	private org.drip.param.market.LatentStateFixingsContainer _lsfcBase = null;
+
+	private boolean localAvailable (
+		final org.drip.analytics.date.JulianDate dt,
+		final org.drip.state.identifier.LatentStateLabel lsl)
+	{
+		if (null == dt || null == lsl) return false;
+
+		if (lsl instanceof org.drip.state.identifier.ForwardLabel) {
+			if (!_mmForwardFixing.containsKey (dt)) return false;
+
+			return _mmForwardFixing.get (dt).containsKey (lsl.fullyQualifiedName());
+		}
+
+		if (lsl instanceof org.drip.state.identifier.FXLabel) {
+			if (!_mmFXFixing.containsKey (dt)) return false;
+
+			return _mmFXFixing.get (dt).containsKey (lsl.fullyQualifiedName());
+		}
+
+		return false;
+	}
+
 	/**
 	 * Empty LatentStateFixingsContainer Instance Constructor
 	 */
@@ -55,6 +79,29 @@ public class LatentStateFixingsContainer {
 	{
 	}
 
+	/**
+	 * LatentStateFixingsContainer Overlay Constructor - the Base Container is only read from, never written
+	 * 
+	 * @param lsfcBase The Base Fixings Container (may be null)
+	 */
+
+	public LatentStateFixingsContainer (
+		final org.drip.param.market.LatentStateFixingsContainer lsfcBase)
+	{
+		_lsfcBase = lsfcBase;
+	}
+
+	/**
+	 * Retrieve the Base Container this Container overlays
+	 * 
+	 * @return The Base Container (null if this is not an Overlay)
+	 */
+
+	public org.drip.param.market.LatentStateFixingsContainer base()
+	{
+		return _lsfcBase;
+	}
+
 	/**
 	 * Add the Fixing corresponding to the Date/Label Pair
 	 * 
@@ -201,6 +248,8 @@ public class LatentStateFixingsContainer {
 			throw new java.lang.Exception
 				("LatentStateFixingsContainer::fixing => Cannot locate Latent State Fixing for the Date");
 
+		if (null != _lsfcBase && !localAvailable (dt, lsl)) return _lsfcBase.fixing (dt, lsl);
+
 		if (lsl instanceof org.drip.state.identifier.ForwardLabel) {
 			if (!_mmForwardFixing.containsKey (dt))
 				throw new java.lang.Exception
@@ -271,21 +320,7 @@ public class LatentStateFixingsContainer {
 		final org.drip.analytics.date.JulianDate dt,
 		final org.drip.state.identifier.LatentStateLabel lsl)
 	{
-		if (null == dt || null == lsl) return false;
-
-		if (lsl instanceof org.drip.state.identifier.ForwardLabel) {
-			if (!_mmForwardFixing.containsKey (dt)) return false;
-
-			return _mmForwardFixing.get (dt).containsKey (lsl.fullyQualifiedName());
-		}
-
-		if (lsl instanceof org.drip.state.identifier.FXLabel) {
-			if (!_mmFXFixing.containsKey (dt)) return false;
-
-			return _mmFXFixing.get (dt).containsKey (lsl.fullyQualifiedName());
-		}
-
-		return false;
+		return localAvailable (dt, lsl) || (null != _lsfcBase && _lsfcBase.available (dt, lsl));
 	}
 
 	/**
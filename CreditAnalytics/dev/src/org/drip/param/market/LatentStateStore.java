@@ -0,0 +1,331 @@
+
+package org.drip.param.market;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LatentStateStore holds the Latent State Curves/Surfaces of one Kind keyed by the Interned Label Identity
+ * 	in an Open-Addressed (Linear Probe) Table. Overlays share the Parent's Slot Arrays until either of them
+ * 	is written to, at which point the Writer takes a Private Copy - this lets the Scenario Bumps swap one
+ * 	Curve without re-building the Rest of the Market. The Labels are also held in Insertion Order, so the
+ * 	Store lists its Entries in the Order they were first put in, independent of the Slot Layout.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LatentStateStore<V> {
+	private static final int EMPTY = -1;
+	private static final int INITIAL_CAPACITY = 8;
+
+	private int _iSize = 0;
+	private int[] _aiID = null;
+	private int[] _aiOrder = null;
+	private boolean _bShared = false;
+	private java.lang.Object[] _aValue = null;
+	private org.drip.state.identifier.LatentStateLabel[] _aLabel = null;
+
+	private static final int Mix (
+		final int iID)
+	{
+		int iHash = iID * 0x9E3779B9;
+		return iHash ^ (iHash >>> 16);
+	}
+
+	private int slot (
+		final int iID)
+	{
+		int iMask = _aiID.length - 1;
+
+		int iSlot = Mix (iID) & iMask;
+
+		while (EMPTY != _aiID[iSlot] && iID != _aiID[iSlot])
+			iSlot = (iSlot + 1) & iMask;
+
+		return iSlot;
+	}
+
+	private void allocate (
+		final int iCapacity)
+	{
+		_aiID = new int[iCapacity];
+		_aiOrder = new int[iCapacity];
+		_aValue = new java.lang.Object[iCapacity];
+
+		java.util.Arrays.fill (_aiID, EMPTY);
+	}
+
+	private void rehash (
+		final int iCapacity)
+	{
+		int[] aiID = _aiID;
+		int[] aiOrder = _aiOrder;
+		java.lang.Object[] aValue = _aValue;
+
+		allocate (iCapacity);
+
+		for (int i = 0; i < aiID.length; ++i) {
+			if (EMPTY == aiID[i]) continue;
+
+			int iSlot = slot (aiID[i]);
+
+			_aiID[iSlot] = aiID[i];
+			_aValue[iSlot] = aValue[i];
+			_aiOrder[iSlot] = aiOrder[i];
+		}
+
+		_aLabel = java.util.Arrays.copyOf (_aLabel, iCapacity);
+
+		_bShared = false;
+	}
+
+	/**
+	 * Empty LatentStateStore Constructor
+	 */
+
+	public LatentStateStore()
+	{
+		allocate (INITIAL_CAPACITY);
+
+		_aLabel = new org.drip.state.identifier.LatentStateLabel[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Create a Copy-on-Write Overlay of this Store. The Overlay sees the current Content; subsequent
+	 * 	Writes to either the Overlay or this Store are not visible to the other.
+	 *
+	 * @return The Overlay
+	 */
+
+	public LatentStateStore<V> overlay()
+	{
+		LatentStateStore<V> lssOverlay = new LatentStateStore<V> (this);
+
+		_bShared = true;
+
+		return lssOverlay;
+	}
+
+	private LatentStateStore (
+		final LatentStateStore<V> lssParent)
+	{
+		_aiID = lssParent._aiID;
+		_iSize = lssParent._iSize;
+		_aiOrder = lssParent._aiOrder;
+		_aValue = lssParent._aValue;
+		_aLabel = lssParent._aLabel;
+		_bShared = true;
+	}
+
+	/**
+	 * Retrieve the Entry corresponding to the Label Identity
+	 *
+	 * @param iID The Label Identity
+	 *
+	 * @return The Entry (NULL if absent)
+	 */
+
+	@SuppressWarnings ("unchecked") public V get (
+		final int iID)
+	{
+		if (0 > iID) return null;
+
+		int iSlot = slot (iID);
+
+		return EMPTY == _aiID[iSlot] ? null : (V) _aValue[iSlot];
+	}
+
+	/**
+	 * Retrieve the Entry corresponding to the Label
+	 *
+	 * @param lsl The Label
+	 *
+	 * @return The Entry (NULL if absent)
+	 */
+
+	public V get (
+		final org.drip.state.identifier.LatentStateLabel lsl)
+	{
+		return null == lsl ? null : get (lsl.id());
+	}
+
+	/**
+	 * Retrieve the Entry corresponding to the Fully Qualified Name
+	 *
+	 * @param strFullyQualifiedName The Fully Qualified Name
+	 *
+	 * @return The Entry (NULL if absent)
+	 */
+
+	public V get (
+		final java.lang.String strFullyQualifiedName)
+	{
+		return get (org.drip.state.identifier.LatentStateLabelRegistry.Lookup (strFullyQualifiedName));
+	}
+
+	/**
+	 * Indicate if the Store contains an Entry for the Label
+	 *
+	 * @param lsl The Label
+	 *
+	 * @return TRUE => The Store contains an Entry for the Label
+	 */
+
+	public boolean containsKey (
+		final org.drip.state.identifier.LatentStateLabel lsl)
+	{
+		return null != get (lsl);
+	}
+
+	/**
+	 * (Re)-set the Entry for the Label
+	 *
+	 * @param lsl The Label
+	 * @param v The Entry
+	 *
+	 * @return TRUE => The Entry has been set
+	 */
+
+	public boolean put (
+		final org.drip.state.identifier.LatentStateLabel lsl,
+		final V v)
+	{
+		if (null == lsl || null == v) return false;
+
+		int iID = lsl.id();
+
+		if (0 > iID) return false;
+
+		if (_bShared) rehash (_aiID.length);
+
+		int iSlot = slot (iID);
+
+		if (EMPTY == _aiID[iSlot]) {
+			if (2 * (_iSize + 1) > _aiID.length) {
+				rehash (2 * _aiID.length);
+
+				iSlot = slot (iID);
+			}
+
+			_aiID[iSlot] = iID;
+			_aiOrder[iSlot] = _iSize++;
+		}
+
+		_aValue[iSlot] = v;
+		_aLabel[_aiOrder[iSlot]] = lsl;
+
+		return true;
+	}
+
+	/**
+	 * Remove the Entry for the Label
+	 *
+	 * @param lsl The Label
+	 *
+	 * @return The Removed Entry (NULL if absent)
+	 */
+
+	@SuppressWarnings ("unchecked") public V remove (
+		final org.drip.state.identifier.LatentStateLabel lsl)
+	{
+		if (null == lsl || 0 > lsl.id() || null == get (lsl)) return null;
+
+		if (_bShared) rehash (_aiID.length);
+
+		int iMask = _aiID.length - 1;
+
+		int iSlot = slot (lsl.id());
+
+		V vRemoved = (V) _aValue[iSlot];
+
+		int iOrder = _aiOrder[iSlot];
+
+		_aiID[iSlot] = EMPTY;
+		_aValue[iSlot] = null;
+
+		/*
+		 * Close the Gap in the Insertion Order, and move the later Entries' Positions up by one
+		 */
+
+		java.lang.System.arraycopy (_aLabel, iOrder + 1, _aLabel, iOrder, _iSize - iOrder - 1);
+
+		_aLabel[--_iSize] = null;
+
+		for (int i = 0; i < _aiID.length; ++i) {
+			if (EMPTY != _aiID[i] && _aiOrder[i] > iOrder) --_aiOrder[i];
+		}
+
+		int iNext = (iSlot + 1) & iMask;
+
+		while (EMPTY != _aiID[iNext]) {
+			int iID = _aiID[iNext];
+			int iNextOrder = _aiOrder[iNext];
+			java.lang.Object value = _aValue[iNext];
+
+			_aiID[iNext] = EMPTY;
+			_aValue[iNext] = null;
+
+			int iReSlot = slot (iID);
+
+			_aiID[iReSlot] = iID;
+			_aValue[iReSlot] = value;
+			_aiOrder[iReSlot] = iNextOrder;
+
+			iNext = (iNext + 1) & iMask;
+		}
+
+		return vRemoved;
+	}
+
+	/**
+	 * Retrieve the Number of Entries
+	 *
+	 * @return The Number of Entries
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Retrieve the Labels of the Entries in the Store, in the Order they were first put in
+	 *
+	 * @return The Labels of the Entries
+	 */
+
+	public java.util.List<org.drip.state.identifier.LatentStateLabel> labels()
+	{
+		java.util.List<org.drip.state.identifier.LatentStateLabel> lsLabel = new
+			java.util.ArrayList<org.drip.state.identifier.LatentStateLabel>();
+
+		for (int i = 0; i < _iSize; ++i)
+			lsLabel.add (_aLabel[i]);
+
+		return lsLabel;
+	}
+}
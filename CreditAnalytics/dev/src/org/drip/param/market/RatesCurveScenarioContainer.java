@@ -85,9 +85,15 @@ public class RatesCurveScenarioContainer extends org.drip.param.definition.Scena
 				!org.drip.quant.common.NumberUtil.IsValid (dblBump) || null == _irsg)
 			return false;
 
-		if (null == (_dcBase = _irsg.createIRCurve (valParams, dcTSY, adblQuote, 0., astrCalibMeasure, lsfc,
-			vcp)))
-			return false;
+		org.drip.state.estimator.TenorBumpBootstrapper tbb = _irsg.tenorBumpBootstrapper (valParams, dcTSY,
+			adblQuote, astrCalibMeasure, lsfc, vcp);
+
+		if (null != tbb)
+			_dcBase = (org.drip.analytics.rates.DiscountCurve) tbb.base();
+		else
+			_dcBase = _irsg.createIRCurve (valParams, dcTSY, adblQuote, 0., astrCalibMeasure, lsfc, vcp);
+
+		if (null == _dcBase) return false;
 
 		if (0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_FLAT_UP & iDCMode)) {
 			if (null == (_dcBumpUp = _irsg.createIRCurve (valParams, dcTSY, adblQuote, dblBump,
@@ -102,14 +108,16 @@ public class RatesCurveScenarioContainer extends org.drip.param.definition.Scena
 		}
 
 		if (0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_UP & iDCMode)) {
-			if (null == (_mapDCBumpUp = _irsg.createTenorIRCurveMap (valParams, dcTSY, adblQuote, dblBump,
-				astrCalibMeasure, lsfc, vcp)))
+			if (null == (_mapDCBumpUp = null != tbb ? _irsg.createTenorIRCurveMap (tbb, dblBump) :
+				_irsg.createTenorIRCurveMap (valParams, dcTSY, adblQuote, dblBump, astrCalibMeasure, lsfc,
+					vcp)))
 				return false;
 		}
 
 		if (0 != (org.drip.param.definition.ScenarioDiscountCurve.DC_TENOR_DN & iDCMode)) {
-			if (null == (_mapDCBumpDn = _irsg.createTenorIRCurveMap (valParams, dcTSY, adblQuote, -dblBump,
-				astrCalibMeasure, lsfc, vcp)))
+			if (null == (_mapDCBumpDn = null != tbb ? _irsg.createTenorIRCurveMap (tbb, -dblBump) :
+				_irsg.createTenorIRCurveMap (valParams, dcTSY, adblQuote, -dblBump, astrCalibMeasure, lsfc,
+					vcp)))
 				return false;
 		}
 
@@ -630,6 +630,12 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 
 		java.lang.String strComponentName = comp.name();
 
+		org.drip.param.market.CurveSurfaceQuoteSet csqsBase =
+			org.drip.param.creator.MarketParamsBuilder.Create (dcTSY, fc, dcTSY, cc, strComponentName,
+				_mapQuote.get (strComponentName), _mapTSYQuote, _lsfc);
+
+		if (null == csqsBase) return null;
+
 		if (bBumpUp) {
 			for (java.util.Map.Entry<java.lang.String, org.drip.analytics.rates.DiscountCurve> meDC :
 				mapDCBumpUp.entrySet()) {
@@ -641,8 +647,9 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 
 				if (null == dc || null == strKey || strKey.isEmpty()) continue;
 
-				mapCSQS.put (strKey, org.drip.param.creator.MarketParamsBuilder.Create (dc, fc, dcTSY, cc,
-					strComponentName, _mapQuote.get (strComponentName), _mapTSYQuote, _lsfc));
+				org.drip.param.market.CurveSurfaceQuoteSet csqs = csqsBase.overlay();
+
+				if (csqs.setFundingCurve (dc)) mapCSQS.put (strKey, csqs);
 			}
 		} else {
 			for (java.util.Map.Entry<java.lang.String, org.drip.analytics.rates.DiscountCurve> meDC :
@@ -655,8 +662,9 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 
 				if (null == dc || null == strKey || strKey.isEmpty()) continue;
 
-				mapCSQS.put (strKey, org.drip.param.creator.MarketParamsBuilder.Create (dc, fc, dcTSY, cc,
-					strComponentName, _mapQuote.get (strComponentName), _mapTSYQuote, _lsfc));
+				org.drip.param.market.CurveSurfaceQuoteSet csqs = csqsBase.overlay();
+
+				if (csqs.setFundingCurve (dc)) mapCSQS.put (strKey, csqs);
 			}
 		}
 
@@ -717,6 +725,12 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 
 		java.lang.String strComponentName = comp.name();
 
+		org.drip.param.market.CurveSurfaceQuoteSet csqsBase =
+			org.drip.param.creator.MarketParamsBuilder.Create (dc, sfc.base(), dcTSY, cc, strComponentName,
+				_mapQuote.get (strComponentName), _mapTSYQuote, _lsfc);
+
+		if (null == csqsBase) return null;
+
 		if (bBumpUp) {
 			for (java.util.Map.Entry<java.lang.String, org.drip.analytics.rates.ForwardCurve> meFC :
 				mapFCBumpUp.entrySet()) {
@@ -728,8 +742,9 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 
 				if (null == fc || null == strKey || strKey.isEmpty()) continue;
 
-				mapCSQS.put (strKey, org.drip.param.creator.MarketParamsBuilder.Create (dc, fc, dcTSY, cc,
-					strComponentName, _mapQuote.get (strComponentName), _mapTSYQuote, _lsfc));
+				org.drip.param.market.CurveSurfaceQuoteSet csqs = csqsBase.overlay();
+
+				if (csqs.setForwardCurve (fc)) mapCSQS.put (strKey, csqs);
 			}
 		} else {
 			for (java.util.Map.Entry<java.lang.String, org.drip.analytics.rates.ForwardCurve> meFC :
@@ -742,8 +757,9 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 
 				if (null == fc || null == strKey || strKey.isEmpty()) continue;
 
-				mapCSQS.put (strKey, org.drip.param.creator.MarketParamsBuilder.Create (dc, fc, dcTSY, cc,
-					strComponentName, _mapQuote.get (strComponentName), _mapTSYQuote, _lsfc));
+				org.drip.param.market.CurveSurfaceQuoteSet csqs = csqsBase.overlay();
+
+				if (csqs.setForwardCurve (fc)) mapCSQS.put (strKey, csqs);
 			}
 		}
 
@@ -803,6 +819,12 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 
 		java.lang.String strComponentName = comp.name();
 
+		org.drip.param.market.CurveSurfaceQuoteSet csqsBase =
+			org.drip.param.creator.MarketParamsBuilder.Create (dc, fc, dcTSY, scc.base(), strComponentName,
+				_mapQuote.get (strComponentName), _mapTSYQuote, _lsfc);
+
+		if (null == csqsBase) return null;
+
 		if (bBumpUp) {
 			for (java.util.Map.Entry<java.lang.String, org.drip.analytics.definition.CreditCurve> meCC :
 				mapCCBumpUp.entrySet()) {
@@ -814,8 +836,9 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 
 				if (null == fc || null == strKey || strKey.isEmpty()) continue;
 
-				mapCSQS.put (strKey, org.drip.param.creator.MarketParamsBuilder.Create (dc, fc, dcTSY, cc,
-					strComponentName, _mapQuote.get (strComponentName), _mapTSYQuote, _lsfc));
+				org.drip.param.market.CurveSurfaceQuoteSet csqs = csqsBase.overlay();
+
+				if (csqs.setCreditCurve (cc)) mapCSQS.put (strKey, csqs);
 			}
 		} else {
 			for (java.util.Map.Entry<java.lang.String, org.drip.analytics.definition.CreditCurve> meCC :
@@ -828,8 +851,9 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 
 				if (null == fc || null == strKey || strKey.isEmpty()) continue;
 
-				mapCSQS.put (strKey, org.drip.param.creator.MarketParamsBuilder.Create (dc, fc, dcTSY, cc,
-					strComponentName, _mapQuote.get (strComponentName), _mapTSYQuote, _lsfc));
+				org.drip.param.market.CurveSurfaceQuoteSet csqs = csqsBase.overlay();
+
+				if (csqs.setCreditCurve (cc)) mapCSQS.put (strKey, csqs);
 			}
 		}
 
@@ -888,8 +912,7 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 				java.lang.String strKey = meSDC.getKey();
 
 				if (null != strKey && !strKey.isEmpty())
-					mapCSQS.put (strKey, customMarketParams (specificIRFlatBumpDCSet (strKey, bBump), fcSet
-						(BASE), ccSet (BASE)));
+					mapCSQS.put (strKey, fundingFlatBump (bp, strKey, bBump));
 			}
 		}
 
@@ -936,8 +959,7 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 				java.lang.String strKey = meSCC.getKey();
 
 				if (null != strKey && !strKey.isEmpty())
-					mapCSQS.put (strKey, customMarketParams (dcSet (BASE), fcSet (BASE),
-						specificCreditFlatBumpCCSet (strKey, bBump)));
+					mapCSQS.put (strKey, creditFlatBump (bp, strKey, bBump));
 			}
 		}
 
@@ -960,14 +982,40 @@ public class ScenarioMarketParamsContainer extends org.drip.param.definition.Sce
 				java.lang.String strKey = meSCC.getKey();
 
 				if (null != strKey && !strKey.isEmpty())
-					mapCSQS.put (strKey, customMarketParams (dcSet (BASE), fcSet (BASE),
-						specificCreditFlatBumpRRSet (strKey, bBump)));
+					mapCSQS.put (strKey, recoveryFlatBump (bp, strKey, bBump));
 			}
 		}
 
 		return mapCSQS;
 	}
 
+	@Override public org.drip.param.market.CurveSurfaceQuoteSet fundingFlatBump (
+		final org.drip.product.definition.BasketProduct bp,
+		final java.lang.String strFundingCurve,
+		final boolean bBump)
+	{
+		return customMarketParams (specificIRFlatBumpDCSet (strFundingCurve, bBump), fcSet (BASE), ccSet
+			(BASE));
+	}
+
+	@Override public org.drip.param.market.CurveSurfaceQuoteSet creditFlatBump (
+		final org.drip.product.definition.BasketProduct bp,
+		final java.lang.String strCreditCurve,
+		final boolean bBump)
+	{
+		return customMarketParams (dcSet (BASE), fcSet (BASE), specificCreditFlatBumpCCSet (strCreditCurve,
+			bBump));
+	}
+
+	@Override public org.drip.param.market.CurveSurfaceQuoteSet recoveryFlatBump (
+		final org.drip.product.definition.BasketProduct bp,
+		final java.lang.String strCreditCurve,
+		final boolean bBump)
+	{
+		return customMarketParams (dcSet (BASE), fcSet (BASE), specificCreditFlatBumpRRSet (strCreditCurve,
+			bBump));
+	}
+
 	@Override public
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>>
 			fundingTenorBump (
@@ -69,6 +69,13 @@ public class CreditPricerParams implements org.drip.param.pricer.PricerParams {
 
 	public static final int PERIOD_DISCRETIZATION_FULL_COUPON = 3;
 
+	/**
+	 * Closed-form Integration over the merged Credit/Funding Curve Node Grid, treating the Hazard and the
+	 * 	Forward Rates as Piecewise Constant
+	 */
+
+	public static final int PERIOD_DISCRETIZATION_PIECEWISE_CONSTANT = 4;
+
 	private int _iUnitSize = 7;
 	private boolean _bSurvToPayDate = false;
 	private int _iDiscretizationScheme = PERIOD_DISCRETIZATION_DAY_STEP;
@@ -90,6 +90,140 @@ public class BlackScholesAlgorithm extends org.drip.pricer.option.FokkerPlanckGe
 		return bIsPut ? dblDF * (dblCallPayoff + dblStrike - dblForward) : dblDF * dblCallPayoff;
 	}
 
+	@Override public boolean logMoneynessCharacteristic (
+		final double dblTimeToExpiry,
+		final double dblVolatility,
+		final double[] adblArgumentReal,
+		final double dblArgumentImaginary,
+		final double[] adblCharacteristicReal,
+		final double[] adblCharacteristicImaginary)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblVolatility) || null == adblArgumentReal ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblArgumentImaginary) || null ==
+					adblCharacteristicReal || null == adblCharacteristicImaginary)
+			return false;
+
+		int iNumArgument = adblArgumentReal.length;
+		double dblHalfVariance = 0.5 * dblVolatility * dblVolatility * dblTimeToExpiry;
+
+		if (adblCharacteristicReal.length < iNumArgument || adblCharacteristicImaginary.length <
+			iNumArgument)
+			return false;
+
+		/*
+		 * ln Phi (u) = -0.5 * sigma^2 * T * (u^2 + i.u)
+		 */
+
+		for (int j = 0; j < iNumArgument; ++j) {
+			double dblU = adblArgumentReal[j];
+
+			double dblCoefficient = java.lang.Math.exp (-1. * dblHalfVariance * (dblU * dblU -
+				dblArgumentImaginary * dblArgumentImaginary - dblArgumentImaginary));
+
+			double dblPhase = -1. * dblHalfVariance * dblU * (2. * dblArgumentImaginary + 1.);
+
+			adblCharacteristicReal[j] = dblCoefficient * java.lang.Math.cos (dblPhase);
+
+			adblCharacteristicImaginary[j] = dblCoefficient * java.lang.Math.sin (dblPhase);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Imply the Volatility across a Strike Grid of the same Expiry using Newton Iterations off of the
+	 * 	Analytic Vega, kicked off from the Volatility implied at the Previous Strike. Strikes where the
+	 * 	Iterations do not converge fall back to the Bracketing Root Search; those that still cannot be
+	 * 	implied are set to NaN.
+	 * 
+	 * @param adblStrike Array of Strikes
+	 * @param dblTimeToExpiry Time To Expiry
+	 * @param dblRiskFreeRate Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsPut TRUE => The Option is a Put
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param adblPrice Array of Prices
+	 * 
+	 * @return Array of the Implied Volatilities
+	 */
+
+	@Override public double[] impliedVolatilityFromPrice (
+		final double[] adblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double[] adblPrice)
+	{
+		if (null == adblStrike || null == adblPrice || !org.drip.quant.common.NumberUtil.IsValid
+			(dblTimeToExpiry) || 0. >= dblTimeToExpiry || !org.drip.quant.common.NumberUtil.IsValid
+				(dblRiskFreeRate) || !org.drip.quant.common.NumberUtil.IsValid (dblUnderlier))
+			return null;
+
+		int iNumStrike = adblStrike.length;
+		double dblVolatility = java.lang.Double.NaN;
+
+		if (0 == iNumStrike || iNumStrike != adblPrice.length) return null;
+
+		double dblRootTTE = java.lang.Math.sqrt (dblTimeToExpiry);
+
+		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
+
+		double dblForward = bIsForward ? dblUnderlier : dblUnderlier / dblDF;
+		double[] adblVolatility = new double[iNumStrike];
+
+		for (int i = 0; i < iNumStrike; ++i) {
+			int iNumIteration = 0;
+			boolean bConverged = false;
+
+			double dblTolerance = 1.e-12 * java.lang.Math.max (1., java.lang.Math.abs (adblPrice[i]));
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblVolatility) || 0. >= dblVolatility)
+				dblVolatility = java.lang.Math.max (0.05, java.lang.Math.sqrt (2. * java.lang.Math.abs
+					(java.lang.Math.log (dblForward / adblStrike[i])) / dblTimeToExpiry));
+
+			try {
+				while (!bConverged && 50 > iNumIteration++) {
+					double dblPriceError = payoff (adblStrike[i], dblTimeToExpiry, dblRiskFreeRate,
+						dblUnderlier, bIsPut, bIsForward, dblVolatility, true) - adblPrice[i];
+
+					double dblVega = dblDF * dblForward * dblRootTTE *
+						org.drip.measure.continuous.Gaussian.Density ((java.lang.Math.log (dblForward /
+							adblStrike[i]) + 0.5 * dblVolatility * dblVolatility * dblTimeToExpiry) /
+								(dblVolatility * dblRootTTE));
+
+					if (!org.drip.quant.common.NumberUtil.IsValid (dblPriceError) ||
+						!org.drip.quant.common.NumberUtil.IsValid (dblVega) || 0. >= dblVega)
+						break;
+
+					if (java.lang.Math.abs (dblPriceError) < dblTolerance) {
+						bConverged = true;
+						break;
+					}
+
+					if (0. >= (dblVolatility -= dblPriceError / dblVega)) break;
+				}
+			} catch (java.lang.Exception e) {
+				bConverged = false;
+			}
+
+			if (!bConverged) {
+				try {
+					dblVolatility = impliedVolatilityFromPrice (adblStrike[i], dblTimeToExpiry,
+						dblRiskFreeRate, dblUnderlier, bIsPut, bIsForward, adblPrice[i]);
+				} catch (java.lang.Exception e) {
+					dblVolatility = java.lang.Double.NaN;
+				}
+			}
+
+			adblVolatility[i] = dblVolatility;
+		}
+
+		return adblVolatility;
+	}
+
 	@Override public org.drip.pricer.option.Greeks greeks (
 		final double dblStrike,
 		final double dblTimeToExpiry,
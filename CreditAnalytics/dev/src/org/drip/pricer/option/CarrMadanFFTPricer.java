@@ -0,0 +1,286 @@
+
+package org.drip.pricer.option;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * CarrMadanFFTPricer prices European Options across a whole Strike Grid of a single Expiry in one Pass,
+ * 	by damping the Call Payoff and carrying out the Fourier Inversion of its Transform over the Log Moneyness
+ * 	Grid using a single Fast Fourier Transform with Simpson Weights. The Prices at arbitrary Strikes are
+ * 	read off the Grid using 4-Point Lagrange Interpolation. The Generator supplies the Log Moneyness
+ * 	Characteristic Function. The Reference is:
+ * 
+ *  - Carr, P., and D. Madan (1999): Option Valuation using the Fast Fourier Transform, Journal of
+ *  	Computational Finance 2 (4) 61-73.
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CarrMadanFFTPricer {
+	private double _dblDamping = java.lang.Double.NaN;
+	private double[] _adblFrequency = null;
+	private double[] _adblQuadratureWeight = null;
+	private double _dblLogMoneynessSpacing = java.lang.Double.NaN;
+	private org.drip.quant.fourier.FastFourierTransform _fft = null;
+
+	/**
+	 * Construct the Standard CarrMadanFFTPricer Instance - 4096 Frequency Nodes spaced 0.25 apart, and a
+	 * 	Damping Exponent of 1.5
+	 * 
+	 * @return The Standard CarrMadanFFTPricer Instance
+	 */
+
+	public static final CarrMadanFFTPricer Standard()
+	{
+		try {
+			return new CarrMadanFFTPricer (4096, 0.25, 1.5);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * CarrMadanFFTPricer Constructor
+	 * 
+	 * @param iNumFrequency Number of Frequency Nodes - must be a Power of 2
+	 * @param dblFrequencySpacing The Frequency Node Spacing
+	 * @param dblDamping The Call Payoff Damping Exponent
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public CarrMadanFFTPricer (
+		final int iNumFrequency,
+		final double dblFrequencySpacing,
+		final double dblDamping)
+		throws java.lang.Exception
+	{
+		if (4 > iNumFrequency || !org.drip.quant.common.NumberUtil.IsValid (dblFrequencySpacing) || 0. >=
+			dblFrequencySpacing || !org.drip.quant.common.NumberUtil.IsValid (_dblDamping = dblDamping) || 0.
+				>= _dblDamping)
+			throw new java.lang.Exception ("CarrMadanFFTPricer ctr: Invalid Inputs");
+
+		_fft = new org.drip.quant.fourier.FastFourierTransform (iNumFrequency);
+
+		_adblFrequency = new double[iNumFrequency];
+		_adblQuadratureWeight = new double[iNumFrequency];
+		_dblLogMoneynessSpacing = 2. * java.lang.Math.PI / (iNumFrequency * dblFrequencySpacing);
+
+		for (int j = 0; j < iNumFrequency; ++j) {
+			_adblFrequency[j] = j * dblFrequencySpacing;
+			_adblQuadratureWeight[j] = (0 == j ? 1. : (0 == j % 2 ? 2. : 4.)) * dblFrequencySpacing / 3.;
+		}
+	}
+
+	/**
+	 * Retrieve the Number of Frequency Nodes
+	 * 
+	 * @return The Number of Frequency Nodes
+	 */
+
+	public int numFrequency()
+	{
+		return _adblFrequency.length;
+	}
+
+	/**
+	 * Retrieve the Frequency Node Spacing
+	 * 
+	 * @return The Frequency Node Spacing
+	 */
+
+	public double frequencySpacing()
+	{
+		return _adblFrequency[1];
+	}
+
+	/**
+	 * Retrieve the Call Payoff Damping Exponent
+	 * 
+	 * @return The Call Payoff Damping Exponent
+	 */
+
+	public double damping()
+	{
+		return _dblDamping;
+	}
+
+	/**
+	 * Retrieve the Log Moneyness Grid Spacing
+	 * 
+	 * @return The Log Moneyness Grid Spacing
+	 */
+
+	public double logMoneynessSpacing()
+	{
+		return _dblLogMoneynessSpacing;
+	}
+
+	/**
+	 * Compute the Undiscounted Call Payoff, expressed in Units of the Forward, over the whole Log Moneyness
+	 * 	Grid ln (K / F), which is centered at the Forward
+	 * 
+	 * @param fpg The Fokker Planck Generator supplying the Characteristic Function
+	 * @param dblTimeToExpiry Option Time To Expiry
+	 * @param dblInitialVolatility Option Initial Volatility Value
+	 * 
+	 * @return The Log Moneyness Grid and the corresponding Normalized Call Payoff Grid
+	 */
+
+	public double[][] normalizedCallGrid (
+		final org.drip.pricer.option.FokkerPlanckGenerator fpg,
+		final double dblTimeToExpiry,
+		final double dblInitialVolatility)
+	{
+		if (null == fpg || !org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) || 0. >=
+			dblTimeToExpiry)
+			return null;
+
+		int iNumFrequency = _adblFrequency.length;
+		double[] adblReal = new double[iNumFrequency];
+		double[] adblImaginary = new double[iNumFrequency];
+		double dblLogMoneynessLeft = -0.5 * iNumFrequency * _dblLogMoneynessSpacing;
+
+		if (!fpg.logMoneynessCharacteristic (dblTimeToExpiry, dblInitialVolatility, _adblFrequency, -1. *
+			(_dblDamping + 1.), adblReal, adblImaginary))
+			return null;
+
+		org.drip.quant.fourier.MutableComplexNumber mcn = new org.drip.quant.fourier.MutableComplexNumber();
+
+		/*
+		 * psi (v) = Phi (v - (alpha + 1) i) / (alpha^2 + alpha - v^2 + (2 alpha + 1) v i), shifted by
+		 * 	exp (i v b) = (-1)^j so that the Grid starts at the Left Log Moneyness Edge -b.
+		 */
+
+		for (int j = 0; j < iNumFrequency; ++j) {
+			double dblFrequency = _adblFrequency[j];
+
+			mcn.set (adblReal[j], adblImaginary[j]).divide (_dblDamping * (_dblDamping + 1.) - dblFrequency *
+				dblFrequency, (2. * _dblDamping + 1.) * dblFrequency).scale ((0 == j % 2 ? 1. : -1.) *
+					_adblQuadratureWeight[j]);
+
+			adblReal[j] = mcn.real();
+
+			adblImaginary[j] = mcn.imaginary();
+		}
+
+		if (!_fft.forward (adblReal, adblImaginary)) return null;
+
+		double[] adblLogMoneyness = new double[iNumFrequency];
+
+		for (int u = 0; u < iNumFrequency; ++u) {
+			adblLogMoneyness[u] = dblLogMoneynessLeft + u * _dblLogMoneynessSpacing;
+
+			adblReal[u] *= java.lang.Math.exp (-1. * _dblDamping * adblLogMoneyness[u]) / java.lang.Math.PI;
+		}
+
+		return new double[][] {adblLogMoneyness, adblReal};
+	}
+
+	/**
+	 * Compute the Expected Payoffs of the Options on the Strike Grid from the Inputs
+	 * 
+	 * @param fpg The Fokker Planck Generator supplying the Characteristic Function
+	 * @param adblStrike Array of Option Strikes
+	 * @param dblTimeToExpiry Option Time To Expiry
+	 * @param dblRiskFreeRate Option Risk Free Rate
+	 * @param dblUnderlier Option Underlier Value
+	 * @param bIsPut TRUE => The Options are Puts
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param dblInitialVolatility Option Initial Volatility Value
+	 * @param bAsPrice TRUE => Return the Discounted Payoffs
+	 * 
+	 * @return Array of the Expected Option Payoffs
+	 * 
+	 * @throws java.lang.Exception Thrown if the Expected Payoffs cannot be calculated
+	 */
+
+	public double[] payoff (
+		final org.drip.pricer.option.FokkerPlanckGenerator fpg,
+		final double[] adblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double dblInitialVolatility,
+		final boolean bAsPrice)
+		throws java.lang.Exception
+	{
+		if (null == adblStrike || 0 == adblStrike.length || !org.drip.quant.common.NumberUtil.IsValid
+			(dblRiskFreeRate) || !org.drip.quant.common.NumberUtil.IsValid (dblUnderlier) || 0. >=
+				dblUnderlier)
+			throw new java.lang.Exception ("CarrMadanFFTPricer::payoff => Invalid Inputs");
+
+		double[][] aadblNormalizedCallGrid = normalizedCallGrid (fpg, dblTimeToExpiry,
+			dblInitialVolatility);
+
+		if (null == aadblNormalizedCallGrid)
+			throw new java.lang.Exception ("CarrMadanFFTPricer::payoff => Cannot generate the Call Grid");
+
+		int iNumStrike = adblStrike.length;
+		double[] adblPayoff = new double[iNumStrike];
+		double[] adblNormalizedCall = aadblNormalizedCallGrid[1];
+		int iNumFrequency = adblNormalizedCall.length;
+
+		double dblDF = java.lang.Math.exp (-1. * dblRiskFreeRate * dblTimeToExpiry);
+
+		double dblForward = bIsForward ? dblUnderlier : dblUnderlier / dblDF;
+
+		for (int i = 0; i < iNumStrike; ++i) {
+			if (!org.drip.quant.common.NumberUtil.IsValid (adblStrike[i]) || 0. >= adblStrike[i])
+				throw new java.lang.Exception ("CarrMadanFFTPricer::payoff => Invalid Strike");
+
+			double dblGridLocation = (java.lang.Math.log (adblStrike[i] / dblForward) -
+				aadblNormalizedCallGrid[0][0]) / _dblLogMoneynessSpacing;
+
+			int iNode = (int) java.lang.Math.floor (dblGridLocation);
+
+			if (1 > iNode || iNode + 2 >= iNumFrequency)
+				throw new java.lang.Exception ("CarrMadanFFTPricer::payoff => Strike outside the Grid");
+
+			double dblT = dblGridLocation - iNode;
+
+			double dblCallPayoff = dblForward * (
+				-1. * dblT * (dblT - 1.) * (dblT - 2.) / 6. * adblNormalizedCall[iNode - 1] +
+				(dblT + 1.) * (dblT - 1.) * (dblT - 2.) / 2. * adblNormalizedCall[iNode] -
+				(dblT + 1.) * dblT * (dblT - 2.) / 2. * adblNormalizedCall[iNode + 1] +
+				(dblT + 1.) * dblT * (dblT - 1.) / 6. * adblNormalizedCall[iNode + 2]
+			);
+
+			if (bIsPut) dblCallPayoff += adblStrike[i] - dblForward;
+
+			adblPayoff[i] = bAsPrice ? dblDF * dblCallPayoff : dblCallPayoff;
+		}
+
+		return adblPayoff;
+	}
+}
@@ -89,6 +89,33 @@ public abstract class FokkerPlanckGenerator implements org.drip.param.pricer.Gen
 		final boolean bIsForward,
 		final double dblInitialVolatility);
 
+	/**
+	 * Compute the Characteristic Function E[exp (i.u.X)] of the Log Moneyness X = ln (S_T / F) of the
+	 * 	Terminal Underlier against its Forward over a Grid of Complex Arguments u sharing the same Imaginary
+	 * 	Part. This is the Input to the Fourier Strike Grid Pricers. Generators that do not have the
+	 * 	Characteristic Function in Closed Form do not override this.
+	 * 
+	 * @param dblTimeToExpiry Option Time To Expiry
+	 * @param dblInitialVolatility Option Initial Volatility Value
+	 * @param adblArgumentReal Array of the Real Parts of the Arguments
+	 * @param dblArgumentImaginary The Imaginary Part common to all the Arguments
+	 * @param adblCharacteristicReal Array to receive the Real Parts of the Characteristic Function
+	 * @param adblCharacteristicImaginary Array to receive the Imaginary Parts of the Characteristic Function
+	 * 
+	 * @return TRUE => The Characteristic Function Grid has been computed
+	 */
+
+	public boolean logMoneynessCharacteristic (
+		final double dblTimeToExpiry,
+		final double dblInitialVolatility,
+		final double[] adblArgumentReal,
+		final double dblArgumentImaginary,
+		final double[] adblCharacteristicReal,
+		final double[] adblCharacteristicImaginary)
+	{
+		return false;
+	}
+
 	/**
 	 * Compute the Expected Payoff of the Option from the Inputs
 	 * 
@@ -337,6 +364,73 @@ public abstract class FokkerPlanckGenerator implements org.drip.param.pricer.Gen
 		return java.lang.Math.abs (fpop.getRoot());
 	}
 
+	/**
+	 * Imply the Effective Volatility across a Strike Grid of the same Expiry from the Option Prices. Each
+	 * 	Strike's Root Search is kicked off from the Volatility implied at the Previous Strike, so the
+	 * 	Strikes are best laid out in Order. Strikes whose Volatility cannot be implied are set to NaN.
+	 * 
+	 * @param adblStrike Array of Strikes
+	 * @param dblTimeToExpiry Time To Expiry
+	 * @param dblRiskFreeRate Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsPut TRUE => The Option is a Put
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param adblPrice Array of Prices
+	 * 
+	 * @return Array of the Implied Effective Volatilities
+	 */
+
+	public double[] impliedVolatilityFromPrice (
+		final double[] adblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double[] adblPrice)
+	{
+		if (null == adblStrike || null == adblPrice) return null;
+
+		int iNumStrike = adblStrike.length;
+		double dblPreviousVolatility = java.lang.Double.NaN;
+
+		if (0 == iNumStrike || iNumStrike != adblPrice.length) return null;
+
+		double[] adblVolatility = new double[iNumStrike];
+
+		for (int i = 0; i < iNumStrike; ++i) {
+			final double dblStrike = adblStrike[i];
+			final double dblPrice = adblPrice[i];
+
+			org.drip.function.definition.R1ToR1 au = new org.drip.function.definition.R1ToR1 (null) {
+				@Override public double evaluate (
+					final double dblSpotVolatility)
+					throws java.lang.Exception
+				{
+					return payoff (dblStrike, dblTimeToExpiry, dblRiskFreeRate, dblUnderlier, bIsPut,
+						bIsForward, dblSpotVolatility, true) - dblPrice;
+				}
+			};
+
+			try {
+				org.drip.function.solverR1ToR1.FixedPointFinderOutput fpop = new
+					org.drip.function.solverR1ToR1.FixedPointFinderBrent (0., au, false).findRoot
+						(org.drip.quant.common.NumberUtil.IsValid (dblPreviousVolatility) ?
+							org.drip.function.solverR1ToR1.InitializationHeuristics.FromBracketingMidHint
+								(dblPreviousVolatility) : null);
+
+				adblVolatility[i] = null == fpop || !fpop.containsRoot() ? java.lang.Double.NaN :
+					(dblPreviousVolatility = java.lang.Math.abs (fpop.getRoot()));
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return null;
+			}
+		}
+
+		return adblVolatility;
+	}
+
 	/**
 	 * Imply the Effective Volatility From the Option Price
 	 * 
@@ -414,4 +508,32 @@ public abstract class FokkerPlanckGenerator implements org.drip.param.pricer.Gen
 		return new org.drip.pricer.option.BlackScholesAlgorithm().impliedVolatilityFromPrice (dblStrike,
 			dblTimeToExpiry, dblRiskFreeRate, dblUnderlier, bIsPut, bIsForward, dblPrice);
 	}
+
+	/**
+	 * Imply the Effective Black-Scholes Volatility across a Strike Grid of the same Expiry from the Option
+	 * 	Prices
+	 * 
+	 * @param adblStrike Array of Strikes
+	 * @param dblTimeToExpiry Time To Expiry
+	 * @param dblRiskFreeRate Risk Free Rate
+	 * @param dblUnderlier The Underlier
+	 * @param bIsPut TRUE => The Option is a Put
+	 * @param bIsForward TRUE => The Underlier represents the Forward, FALSE => it represents Spot
+	 * @param adblPrice Array of Prices
+	 * 
+	 * @return Array of the Implied Black Scholes Effective Volatilities
+	 */
+
+	public double[] impliedBlackScholesVolatility (
+		final double[] adblStrike,
+		final double dblTimeToExpiry,
+		final double dblRiskFreeRate,
+		final double dblUnderlier,
+		final boolean bIsPut,
+		final boolean bIsForward,
+		final double[] adblPrice)
+	{
+		return new org.drip.pricer.option.BlackScholesAlgorithm().impliedVolatilityFromPrice (adblStrike,
+			dblTimeToExpiry, dblRiskFreeRate, dblUnderlier, bIsPut, bIsForward, adblPrice);
+	}
 }
@@ -485,6 +485,110 @@ public class HestonStochasticVolatilityAlgorithm extends org.drip.pricer.option.
 		return mapPhaseRun;
 	}
 
+	/**
+	 * Compute the Characteristic Function of the Log Moneyness over the Argument Grid using the
+	 * 	Albrecher, Mayer, Schoutens, and Tistaert (2007) Form, which stays on the Principal Branch of the
+	 * 	Complex Logarithm without a Phase Tracker. The Complex Arithmetic runs off of a Fixed Set of
+	 * 	Registers, so nothing is allocated per Argument. The Initial Volatility Parameter is interpreted as
+	 * 	in the Payoff Transforms above.
+	 * 
+	 * @param dblTimeToExpiry Option Time To Expiry
+	 * @param dblInitialVolatility Option Initial Volatility Value
+	 * @param adblArgumentReal Array of the Real Parts of the Arguments
+	 * @param dblArgumentImaginary The Imaginary Part common to all the Arguments
+	 * @param adblCharacteristicReal Array to receive the Real Parts of the Characteristic Function
+	 * @param adblCharacteristicImaginary Array to receive the Imaginary Parts of the Characteristic Function
+	 * 
+	 * @return TRUE => The Characteristic Function Grid has been computed
+	 */
+
+	@Override public boolean logMoneynessCharacteristic (
+		final double dblTimeToExpiry,
+		final double dblInitialVolatility,
+		final double[] adblArgumentReal,
+		final double dblArgumentImaginary,
+		final double[] adblCharacteristicReal,
+		final double[] adblCharacteristicImaginary)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblTimeToExpiry) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblInitialVolatility) || null == adblArgumentReal ||
+				!org.drip.quant.common.NumberUtil.IsValid (dblArgumentImaginary) || null ==
+					adblCharacteristicReal || null == adblCharacteristicImaginary)
+			return false;
+
+		int iNumArgument = adblArgumentReal.length;
+
+		if (adblCharacteristicReal.length < iNumArgument || adblCharacteristicImaginary.length <
+			iNumArgument)
+			return false;
+
+		double dblSigma = _fphp.sigma();
+
+		double dblB = _fphp.kappa() + _fphp.lambda();
+
+		double dblRhoSigma = _fphp.rho() * dblSigma;
+
+		double dblSigmaScaler = 1. / (dblSigma * dblSigma);
+
+		double dblA = _fphp.kappa() * _fphp.theta() * dblSigmaScaler;
+
+		org.drip.quant.fourier.MutableComplexNumber mcnD = new org.drip.quant.fourier.MutableComplexNumber();
+
+		org.drip.quant.fourier.MutableComplexNumber mcnG = new org.drip.quant.fourier.MutableComplexNumber();
+
+		org.drip.quant.fourier.MutableComplexNumber mcnC = new org.drip.quant.fourier.MutableComplexNumber();
+
+		org.drip.quant.fourier.MutableComplexNumber mcnBeta = new
+			org.drip.quant.fourier.MutableComplexNumber();
+
+		org.drip.quant.fourier.MutableComplexNumber mcnDecay = new
+			org.drip.quant.fourier.MutableComplexNumber();
+
+		org.drip.quant.fourier.MutableComplexNumber mcnBetaLessD = new
+			org.drip.quant.fourier.MutableComplexNumber();
+
+		org.drip.quant.fourier.MutableComplexNumber mcnDenominator = new
+			org.drip.quant.fourier.MutableComplexNumber();
+
+		/*
+		 * beta = b - rho.sigma.i.u; d = sqrt (beta^2 + sigma^2 (u^2 + i.u)); g = (beta - d) / (beta + d)
+		 * 
+		 * D = (beta - d) / sigma^2 * (1 - exp (-dT)) / (1 - g.exp (-dT))
+		 * 
+		 * C = a / sigma^2 * [(beta - d) T - 2 ln ((1 - g.exp (-dT)) / (1 - g))]
+		 */
+
+		for (int j = 0; j < iNumArgument; ++j) {
+			double dblU = adblArgumentReal[j];
+
+			mcnBeta.set (dblB + dblRhoSigma * dblArgumentImaginary, -1. * dblRhoSigma * dblU);
+
+			mcnD.set (mcnBeta).multiply (mcnBeta).add ((dblU * dblU - dblArgumentImaginary *
+				dblArgumentImaginary - dblArgumentImaginary) / dblSigmaScaler, (2. * dblU *
+					dblArgumentImaginary + dblU) / dblSigmaScaler).squareRoot();
+
+			mcnBetaLessD.set (mcnBeta).subtract (mcnD);
+
+			mcnG.set (mcnBetaLessD).divide (mcnBeta.add (mcnD));
+
+			mcnDecay.set (mcnD).scale (-1. * dblTimeToExpiry).exponentiate();
+
+			mcnDenominator.set (mcnDecay).multiply (mcnG).subtractFrom (1., 0.);
+
+			mcnD.set (mcnDecay).subtractFrom (1., 0.).divide (mcnDenominator).multiply
+				(mcnBetaLessD).scale (dblSigmaScaler * dblInitialVolatility);
+
+			mcnC.set (mcnDenominator).divide (mcnG.subtractFrom (1., 0.)).logarithm().scale (-2.).add
+				(mcnBetaLessD.scale (dblTimeToExpiry)).scale (dblA).add (mcnD).exponentiate();
+
+			adblCharacteristicReal[j] = mcnC.real();
+
+			adblCharacteristicImaginary[j] = mcnC.imaginary();
+		}
+
+		return true;
+	}
+
 	@Override public double payoff (
 		final double dblStrike,
 		final double dblTimeToExpiry,
@@ -74,6 +74,29 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 	private static final int ZERO_OFF_OF_RATES_INSTRUMENTS_DISCOUNT_CURVE = 1;
 	private static final int ZERO_OFF_OF_TREASURIES_DISCOUNT_CURVE = 2;
 
+	/*
+	 * Measure Blocks of the Value Vector - the Workout, the RV, and the Spread Measures, each un-prefixed
+	 * 	(Current), and Fair/Market prefixed.
+	 */
+
+	private static final int CURRENT_BLOCK = 0;
+	private static final int FAIR_BLOCK = 1;
+	private static final int MARKET_BLOCK = 2;
+	private static final int WORKOUT_SLOTS = 0;
+	private static final int RV_SLOTS = 3;
+	private static final int SPREAD_SLOTS = 6;
+	private static final int PAR_SPREAD = 0;
+	private static final int ZERO_DISCOUNT_MARGIN = 1;
+
+	private static final java.lang.String[] s_astrBlockPrefix = new java.lang.String[] {"", "Fair", "Market"};
+
+	private static final java.lang.String[] s_astrSpreadMeasure = new java.lang.String[] {"ParSpread",
+		"ZeroDiscountMargin"};
+
+	private static final java.util.concurrent.ConcurrentHashMap<org.drip.analytics.output.MeasureSchema,
+		int[][]> s_mapBlockSlot = new
+			java.util.concurrent.ConcurrentHashMap<org.drip.analytics.output.MeasureSchema, int[][]>();
+
 	private org.drip.product.params.BondStream _stream = null;
 	private org.drip.product.params.CouponSetting _couponSetting = null;
 	private org.drip.product.params.CreditSetting _creditSetting = null;
@@ -92,6 +115,18 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 	protected org.drip.product.params.EmbeddedOptionSchedule _eosPut = null;
 	protected org.drip.product.params.EmbeddedOptionSchedule _eosCall = null;
 
+	private double periodCouponRate (
+		final org.drip.analytics.cashflow.CompiledSchedule cs,
+		final int iPeriod,
+		final double dblAccrualEndDate,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+		throws java.lang.Exception
+	{
+		return cs.couponRate (dblAccrualEndDate == cs.endDate (iPeriod) ? iPeriod : cs.periodIndex
+			(dblAccrualEndDate), valParams.valueDate(), csqs);
+	}
+
 	private double treasuryBenchmarkYield (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
@@ -252,6 +287,201 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return null;
 	}
 
+	private double[][] latticeCashFlows (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+		throws java.lang.Exception
+	{
+		double dblValueDate = valParams.valueDate();
+
+		double dblMaturityDate = maturityDate().julian();
+
+		java.util.List<java.lang.Double> lsPayDate = new java.util.ArrayList<java.lang.Double>();
+
+		java.util.List<java.lang.Double> lsCashFlow = new java.util.ArrayList<java.lang.Double>();
+
+		for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
+			double dblPeriodPayDate = period.payDate();
+
+			if (dblPeriodPayDate < dblValueDate) continue;
+
+			double dblPeriodEndDate = period.endDate();
+
+			double dblPeriodStartDate = period.startDate();
+
+			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblPeriodEndDate,
+				valParams, csqs);
+
+			if (null == pcm) throw new java.lang.Exception ("BondComponent::latticeCashFlows => No PCM");
+
+			double dblCouponNotional = notional (dblPeriodStartDate);
+
+			if (org.drip.product.params.NotionalSetting.PERIOD_AMORT_AT_END ==
+				_notionalSetting.periodAmortizationMode())
+				dblCouponNotional = notional (dblPeriodEndDate);
+			else if (org.drip.product.params.NotionalSetting.PERIOD_AMORT_EFFECTIVE ==
+				_notionalSetting.periodAmortizationMode())
+				dblCouponNotional = notional (dblPeriodStartDate, dblPeriodEndDate);
+
+			lsPayDate.add (dblPeriodPayDate);
+
+			lsCashFlow.add (pcm.cumulative() * (period.accrualDCF (dblPeriodEndDate) * pcm.rate() *
+				dblCouponNotional + notional (dblPeriodStartDate) - notional (dblPeriodEndDate)));
+		}
+
+		lsPayDate.add (dblMaturityDate);
+
+		lsCashFlow.add (notional (dblMaturityDate));
+
+		int iNumCashFlow = lsPayDate.size();
+
+		double[][] aadblCashFlow = new double[2][iNumCashFlow];
+
+		for (int i = 0; i < iNumCashFlow; ++i) {
+			aadblCashFlow[0][i] = lsPayDate.get (i);
+
+			aadblCashFlow[1][i] = lsCashFlow.get (i);
+		}
+
+		return aadblCashFlow;
+	}
+
+	private double[][] latticeExercise (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+		throws java.lang.Exception
+	{
+		org.drip.product.params.EmbeddedOptionSchedule eos = null == _eosCall ? _eosPut : _eosCall;
+
+		if (null == eos) return null;
+
+		double dblValueDate = valParams.valueDate();
+
+		double[] adblEOSDate = eos.dates();
+
+		double[] adblEOSFactor = eos.factors();
+
+		int iNoticePeriod = eos.exerciseNoticePeriod();
+
+		double dblMaturityDate = maturityDate().julian();
+
+		java.util.List<java.lang.Double> lsExerciseDate = new java.util.ArrayList<java.lang.Double>();
+
+		java.util.List<java.lang.Double> lsExerciseStrike = new java.util.ArrayList<java.lang.Double>();
+
+		for (int i = 0; i < adblEOSDate.length; ++i) {
+			if (dblValueDate > adblEOSDate[i] + LEFT_EOS_SNIP || adblEOSDate[i] - dblValueDate <
+				iNoticePeriod || adblEOSDate[i] >= dblMaturityDate)
+				continue;
+
+			/*
+			 * Exercising pays the Redemption and the Coupon accrued up to the Exercise Date.
+			 */
+
+			lsExerciseDate.add (adblEOSDate[i]);
+
+			lsExerciseStrike.add (adblEOSFactor[i] * notional (adblEOSDate[i]) + accrued (adblEOSDate[i],
+				csqs));
+		}
+
+		int iNumExercise = lsExerciseDate.size();
+
+		if (0 == iNumExercise) return null;
+
+		double[][] aadblExercise = new double[2][iNumExercise];
+
+		for (int i = 0; i < iNumExercise; ++i) {
+			aadblExercise[0][i] = lsExerciseDate.get (i);
+
+			aadblExercise[1][i] = lsExerciseStrike.get (i);
+		}
+
+		return aadblExercise;
+	}
+
+	private org.drip.dynamics.hullwhite.RecombiningTrinomialLattice oasLattice (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.dynamics.hullwhite.SingleFactorStateEvolver hw,
+		final int iDayIncrement,
+		final double[][] aadblExercise)
+		throws java.lang.Exception
+	{
+		if (null == valParams || null == csqs || null == hw || 0 >= iDayIncrement)
+			throw new java.lang.Exception ("BondComponent::oasLattice => Invalid Inputs");
+
+		if (null != _eosCall && null != _eosPut)
+			throw new java.lang.Exception
+				("BondComponent::oasLattice => Cannot induce Call and Put Schedules together");
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
+
+		if (null == dcFunding) throw new java.lang.Exception ("BondComponent::oasLattice => No funding curve");
+
+		double dblValueDate = valParams.valueDate();
+
+		double dblHorizonDate = dblValueDate;
+
+		if (null != aadblExercise) {
+			for (int i = 0; i < aadblExercise[0].length; ++i) {
+				if (aadblExercise[0][i] > dblHorizonDate) dblHorizonDate = aadblExercise[0][i];
+			}
+		}
+
+		org.drip.dynamics.hullwhite.RecombiningTrinomialLattice rtl =
+			org.drip.dynamics.hullwhite.RecombiningTrinomialLattice.Standard (hw, dcFunding, dblValueDate,
+				dblHorizonDate, iDayIncrement);
+
+		if (null == rtl) throw new java.lang.Exception ("BondComponent::oasLattice => Cannot build Lattice");
+
+		return rtl;
+	}
+
+	private double priceFromLatticeOAS (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.dynamics.hullwhite.RecombiningTrinomialLattice rtl,
+		final double[][] aadblCashFlow,
+		final double[][] aadblExercise,
+		final double dblOAS)
+		throws java.lang.Exception
+	{
+		double dblValueDate = valParams.valueDate();
+
+		double dblCashPayDate = java.lang.Double.NaN;
+		double dblScalingNotional = java.lang.Double.NaN;
+
+		if (null != _notionalSetting && _notionalSetting.priceOffOfOriginalNotional())
+			dblScalingNotional = 1.;
+		else {
+			for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
+				if (period.payDate() < dblValueDate) continue;
+
+				dblScalingNotional = notional (period.startDate());
+
+				break;
+			}
+		}
+
+		try {
+			dblCashPayDate = _marketConvention.settleDate (valParams);
+		} catch (java.lang.Exception e) {
+			if (!s_bSuppressErrors) e.printStackTrace();
+
+			dblCashPayDate = valParams.cashPayDate();
+		}
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
+
+		double dblLatticePV = rtl.cashFlowStream (aadblCashFlow[0], aadblCashFlow[1], null == aadblExercise
+			? null : aadblExercise[0], null == aadblExercise ? null : aadblExercise[1], !(null == _eosCall &&
+				null != _eosPut), dblOAS);
+
+		return (dblLatticePV * dcFunding.df (dblValueDate) / (dcFunding.df (dblCashPayDate) *
+			java.lang.Math.exp (-1. * dblOAS * (dblCashPayDate - dblValueDate) / 365.25)) - accrued
+				(dblValueDate, csqs)) / dblScalingNotional;
+	}
+
 	@Override public org.drip.param.valuation.WorkoutInfo exerciseYieldFromPrice (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
@@ -436,13 +666,11 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 
 						double dblSubPeriodStart = lqm.start();
 
-						double dblSubPeriodDF = dcFunding.effectiveDF (dblSubPeriodStart +
-							_creditSetting.lossPayLag(), dblSubPeriodEnd + _creditSetting.lossPayLag());
+						double dblSubPeriodDF = lqm.effectiveDF();
 
 						double dblSubPeriodNotional = notional (dblSubPeriodStart, dblSubPeriodEnd);
 
-						double dblSubPeriodSurvival = cc.survival (dblSubPeriodStart) - cc.survival
-							(dblSubPeriodEnd);
+						double dblSubPeriodSurvival = lqm.startSurvival() - lqm.endSurvival();
 
 						if (_creditSetting.accrualOnDefault())
 							dblPeriodCreditRiskyDirtyDV01 += 0.0001 * lqm.accrualDCF() * dblSubPeriodSurvival
@@ -535,80 +763,296 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return null;
 	}
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> rvMeasures (
-		final org.drip.param.valuation.ValuationParams valParams,
-		final org.drip.param.pricer.CreditPricerParams pricerParams,
-		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
-		final org.drip.param.valuation.ValuationCustomizationParams vcp,
-		final org.drip.param.valuation.WorkoutInfo wi,
-		final double dblPrice,
-		final java.lang.String strPrefix)
+	private static final int[][] BlockSlots (
+		final org.drip.analytics.output.MeasureSchema ms)
 	{
-		if (null == strPrefix) return null;
+		int[][] aaiSlot = s_mapBlockSlot.get (ms);
+
+		if (null != aaiSlot) return aaiSlot;
 
-		org.drip.analytics.output.BondRVMeasures bmRV = standardMeasures (valParams, pricerParams, csqs, vcp,
-			wi, dblPrice);
+		aaiSlot = new int[SPREAD_SLOTS + s_astrBlockPrefix.length][];
+
+		for (int i = 0; i < s_astrBlockPrefix.length; ++i) {
+			aaiSlot[WORKOUT_SLOTS + i] = ms.slots (s_astrBlockPrefix[i],
+				org.drip.analytics.output.BondWorkoutMeasures.MeasureNames());
+
+			aaiSlot[RV_SLOTS + i] = ms.slots (s_astrBlockPrefix[i],
+				org.drip.analytics.output.BondRVMeasures.MeasureNames());
+
+			aaiSlot[SPREAD_SLOTS + i] = ms.slots (s_astrBlockPrefix[i], s_astrSpreadMeasure);
+		}
+
+		int[][] aaiSlotCached = s_mapBlockSlot.putIfAbsent (ms, aaiSlot);
+
+		return null == aaiSlotCached ? aaiSlot : aaiSlotCached;
+	}
+
+	private static final void SetSpreadMeasure (
+		final org.drip.analytics.output.MeasureVector mv,
+		final int[][] aaiSlot,
+		final int iBlock,
+		final int iMeasure,
+		final double dblValue)
+	{
+		mv.set (aaiSlot[SPREAD_SLOTS + CURRENT_BLOCK][iMeasure], dblValue);
 
-		return null == bmRV ? null : bmRV.toMap (strPrefix);
+		mv.set (aaiSlot[SPREAD_SLOTS + iBlock][iMeasure], dblValue);
 	}
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> fairMeasures (
+	/*
+	 * Fill the Vector with the Fair Workout/RV Measures, and, if the Product is quoted, with the Market
+	 * 	Workout/RV Measures off of the Quote. The un-prefixed Slots carry the Market Values when available,
+	 * 	and the Fair ones otherwise.
+	 */
+
+	private boolean valueMeasures (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
-		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.analytics.output.MeasureVector mv)
 	{
+		int[][] aaiSlot = BlockSlots (mv.schema());
+
 		double dblMaturity = maturityDate().julian();
 
 		org.drip.analytics.output.BondWorkoutMeasures bwmFair = workoutMeasures (valParams, pricerParams,
 			csqs, dblMaturity, 1.);
 
-		if (null == bwmFair) return null;
+		if (null == bwmFair) return false;
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = bwmFair.toMap ("");
+		org.drip.analytics.output.BondRVMeasures rvFair = null;
 
 		double dblPrice = (null == bwmFair.creditRiskyCleanbcm() || !org.drip.quant.common.NumberUtil.IsValid
 			(bwmFair.creditRiskyCleanbcm().pv())) ? bwmFair.creditRisklessCleanbcm().pv() :
 				bwmFair.creditRiskyCleanbcm().pv();
 
 		try {
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, rvMeasures (valParams,
-				pricerParams, csqs, vcp, new org.drip.param.valuation.WorkoutInfo (dblMaturity,
-					yieldFromPrice (valParams, csqs, vcp, dblPrice / notional (valParams.valueDate())), 1.,
-						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY), dblPrice, ""));
+			rvFair = standardMeasures (valParams, pricerParams, csqs, vcp, new
+				org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromPrice (valParams, csqs, vcp,
+					dblPrice / notional (valParams.valueDate())), 1.,
+						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY), dblPrice);
+		} catch (java.lang.Exception e) {
+			if (!s_bSuppressErrors) e.printStackTrace();
+
+			return false;
+		}
+
+		bwmFair.load (mv, aaiSlot[WORKOUT_SLOTS + CURRENT_BLOCK]);
+
+		bwmFair.load (mv, aaiSlot[WORKOUT_SLOTS + FAIR_BLOCK]);
+
+		if (null != rvFair) {
+			rvFair.load (mv, aaiSlot[RV_SLOTS + CURRENT_BLOCK]);
+
+			rvFair.load (mv, aaiSlot[RV_SLOTS + FAIR_BLOCK]);
+		}
+
+		java.lang.String strName = name();
+
+		org.drip.param.definition.ProductQuote pq = csqs.productQuote (strName);
+
+		if (null == pq) return true;
+
+		boolean bCreditRisky = null != bwmFair.creditRiskyDirtybcm();
+
+		org.drip.analytics.output.BondCouponMeasures bcmFairClean = bCreditRisky ?
+			bwmFair.creditRiskyCleanbcm() : bwmFair.creditRisklessCleanbcm();
+
+		org.drip.analytics.output.BondCouponMeasures bcmFairDirty = bCreditRisky ?
+			bwmFair.creditRiskyDirtybcm() : bwmFair.creditRisklessDirtybcm();
+
+		double dblFairParPV = bCreditRisky ? bwmFair.creditRiskyParPV() : bwmFair.creditRisklessParPV();
+
+		double dblFairPrincipalPV = bCreditRisky ? bwmFair.creditRiskyPrincipalPV() :
+			bwmFair.creditRisklessPrincipalPV();
+
+		if (null == _floaterSetting)
+			SetSpreadMeasure (mv, aaiSlot, FAIR_BLOCK, PAR_SPREAD, (bcmFairDirty.pv() - dblFairParPV -
+				dblFairPrincipalPV) / bcmFairDirty.dv01());
+		else
+			SetSpreadMeasure (mv, aaiSlot, FAIR_BLOCK, ZERO_DISCOUNT_MARGIN, (bcmFairClean.pv() - dblFairParPV
+				- bcmFairClean.indexCouponPV() - dblFairPrincipalPV) / bcmFairClean.dv01());
+
+		/*
+		 * A Request restricted to the Fair Measures does not need the Market Quote Workout and
+		 * 	Re-valuation.
+		 */
+
+		if (mv.requestedOnlyWithPrefix ("Fair")) return true;
+
+		org.drip.param.valuation.WorkoutInfo wiMarket = null;
+
+		if (pq.containsQuote ("Price")) {
+			double dblMarketPrice = pq.quote ("Price").value ("mid");
+
+			mv.set ("MarketInputType=CleanPrice", dblMarketPrice);
+
+			wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, dblMarketPrice);
+		} else if (pq.containsQuote ("CleanPrice")) {
+			double dblCleanMarketPrice = pq.quote ("CleanPrice").value ("mid");
+
+			mv.set ("MarketInputType=CleanPrice", dblCleanMarketPrice);
+
+			wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, dblCleanMarketPrice);
+		} else if (pq.containsQuote ("QuotedMargin")) {
+			double dblQuotedMargin = pq.quote ("QuotedMargin").value ("mid");
+
+			mv.set ("MarketInputType=QuotedMargin", dblQuotedMargin);
+
+			try {
+				wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, priceFromDiscountMargin (valParams,
+					csqs, vcp, dblQuotedMargin));
+			} catch (java.lang.Exception e) {
+				if (!s_bSuppressErrors) e.printStackTrace();
+			}
+		} else if (pq.containsQuote ("DirtyPrice")) {
+			try {
+				double dblDirtyMarketPrice = pq.quote ("DirtyPrice").value ("mid");
+
+				mv.set ("MarketInputType=DirtyPrice", dblDirtyMarketPrice);
+
+				wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, dblDirtyMarketPrice - accrued
+					(valParams.valueDate(), csqs));
+			} catch (java.lang.Exception e) {
+				if (!s_bSuppressErrors) e.printStackTrace();
+
+				wiMarket = null;
+			}
+		} else if (pq.containsQuote ("TSYSpread")) {
+			try {
+				double dblTSYSpread = pq.quote ("TSYSpread").value ("mid");
 
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures,
-				org.drip.quant.common.CollectionUtil.PrefixKeys (mapMeasures, "Fair"));
+				mv.set ("MarketInputType=TSYSpread", dblTSYSpread);
 
-			return mapMeasures;
+				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, treasuryBenchmarkYield
+					(valParams, csqs, dblMaturity) + dblTSYSpread, 1.,
+						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
+			} catch (java.lang.Exception e) {
+				if (!s_bSuppressErrors) e.printStackTrace();
+
+				wiMarket = null;
+			}
+		} else if (pq.containsQuote ("Yield")) {
+			try {
+				double dblYield = pq.quote ("Yield").value ("mid");
+
+				mv.set ("MarketInputType=Yield", dblYield);
+
+				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, dblYield, 1.,
+					org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
+			} catch (java.lang.Exception e) {
+				if (!s_bSuppressErrors) e.printStackTrace();
+
+				wiMarket = null;
+			}
+		} else if (pq.containsQuote ("ZSpread")) {
+			try {
+				double dblZSpread = pq.quote ("ZSpread").value ("mid");
+
+				mv.set ("MarketInputType=ZSpread", dblZSpread);
+
+				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromZSpread
+					(valParams, csqs, vcp, dblZSpread), 1.,
+						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
+			} catch (java.lang.Exception e) {
+				if (!s_bSuppressErrors) e.printStackTrace();
+
+				wiMarket = null;
+			}
+		} else if (pq.containsQuote ("ISpread")) {
+			try {
+				double dblISpread = pq.quote ("ISpread").value ("mid");
+
+				mv.set ("MarketInputType=ISpread", dblISpread);
+
+				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromISpread
+					(valParams, csqs, vcp, dblISpread), 1.,
+						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
+			} catch (java.lang.Exception e) {
+				if (!s_bSuppressErrors) e.printStackTrace();
+
+				wiMarket = null;
+			}
+		} else if (pq.containsQuote ("CreditBasis")) {
+			try {
+				double dblCreditBasis = pq.quote ("CreditBasis").value ("mid");
+
+				mv.set ("MarketInputType=CreditBasis", dblCreditBasis);
+
+				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromCreditBasis
+					(valParams, csqs, vcp, dblCreditBasis), 1.,
+						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
+			} catch (java.lang.Exception e) {
+				if (!s_bSuppressErrors) e.printStackTrace();
+
+				wiMarket = null;
+			}
+		} else if (pq.containsQuote ("PECS")) {
+			try {
+				double dblCreditBasis = pq.quote ("PECS").value ("mid");
+
+				mv.set ("MarketInputType=PECS", dblCreditBasis);
+
+				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromPECS (valParams,
+					csqs, vcp, dblCreditBasis), 1., org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
+			} catch (java.lang.Exception e) {
+				if (!s_bSuppressErrors) e.printStackTrace();
+
+				wiMarket = null;
+			}
+		}
+
+		if (null == wiMarket) return true;
+
+		org.drip.analytics.output.BondRVMeasures rvMarket = null;
+
+		try {
+			rvMarket = standardMeasures (valParams, pricerParams, csqs, vcp, wiMarket, priceFromYield
+				(valParams, csqs, vcp, wiMarket.date(), wiMarket.factor(), wiMarket.yield()));
 		} catch (java.lang.Exception e) {
 			if (!s_bSuppressErrors) e.printStackTrace();
 		}
 
-		return null;
-	}
+		/*
+		 * The Floater Zero Discount Margin is taken off of the Fair Price.
+		 */
+
+		if (null == _floaterSetting) {
+			if (null != rvMarket)
+				SetSpreadMeasure (mv, aaiSlot, MARKET_BLOCK, PAR_SPREAD, (rvMarket.price() - dblFairParPV -
+					dblFairPrincipalPV) / bcmFairClean.dv01());
+		} else if (null != rvFair)
+			SetSpreadMeasure (mv, aaiSlot, MARKET_BLOCK, ZERO_DISCOUNT_MARGIN, (rvFair.price() - dblFairParPV
+				- bcmFairClean.indexCouponPV() - dblFairPrincipalPV) / bcmFairClean.dv01());
+
+		if (null != rvMarket) {
+			rvMarket.load (mv, aaiSlot[RV_SLOTS + CURRENT_BLOCK]);
+
+			rvMarket.load (mv, aaiSlot[RV_SLOTS + MARKET_BLOCK]);
+		}
+
+		if (null == rvFair) return true;
+
+		org.drip.param.market.CurveSurfaceQuoteSet csqsMarket =
+			org.drip.param.creator.MarketParamsBuilder.Create ((org.drip.analytics.rates.DiscountCurve)
+				csqs.fundingCurve (fundingLabel()).parallelShiftQuantificationMetric (wiMarket.yield() -
+					rvFair.wi().yield()), csqs.govvieCurve (org.drip.state.identifier.GovvieLabel.Standard
+						(payCurrency())), csqs.creditCurve (creditLabel()), strName, csqs.productQuote
+							(strName), csqs.quoteMap(), csqs.fixings());
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> marketMeasures (
-		final org.drip.param.valuation.ValuationParams valParams,
-		final org.drip.param.pricer.CreditPricerParams pricerParams,
-		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
-		final org.drip.param.valuation.ValuationCustomizationParams vcp,
-		final org.drip.param.valuation.WorkoutInfo wiMarket)
-	{
-		try {
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = rvMeasures
-				(valParams, pricerParams, csqs, vcp, wiMarket, priceFromYield (valParams, csqs, vcp,
-					wiMarket.date(), wiMarket.factor(), wiMarket.yield()), "");
+		if (null == csqsMarket) return true;
 
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures,
-				org.drip.quant.common.CollectionUtil.PrefixKeys (mapMeasures, "Market"));
+		org.drip.analytics.output.BondWorkoutMeasures bwmMarket = workoutMeasures (valParams, pricerParams,
+			csqsMarket, wiMarket.date(), wiMarket.factor());
 
-			return mapMeasures;
-		} catch (java.lang.Exception e) {
-			if (!s_bSuppressErrors) e.printStackTrace();
+		if (null != bwmMarket) {
+			bwmMarket.load (mv, aaiSlot[WORKOUT_SLOTS + CURRENT_BLOCK]);
+
+			bwmMarket.load (mv, aaiSlot[WORKOUT_SLOTS + MARKET_BLOCK]);
 		}
 
-		return null;
+		return true;
 	}
 
 	private org.drip.analytics.cashflow.CompositePeriod currentPeriod (
@@ -1079,11 +1523,13 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
 	{
 		try {
-			org.drip.analytics.cashflow.CompositePeriod period = currentPeriod (dblAccrualEndDate);
+			int iPeriod = _stream.periodIndex (dblAccrualEndDate);
+
+			org.drip.analytics.cashflow.CompiledSchedule cs = _stream.compiledSchedule();
 
 			org.drip.analytics.output.UnitPeriodMetrics upm = new org.drip.analytics.output.UnitPeriodMetrics
-				(period.startDate(), period.endDate(), period.couponDCF(), period.couponMetrics
-					(valParams.valueDate(), csqs).rate(), new
+				(cs.startDate (iPeriod), cs.endDate (iPeriod), cs.couponDCF (iPeriod), cs.couponRate
+					(iPeriod, valParams.valueDate(), csqs), new
 						org.drip.analytics.output.ConvexityAdjustment());
 
 			java.util.List<org.drip.analytics.output.UnitPeriodMetrics> lsUPM = new
@@ -1815,19 +2261,23 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		if (null == dcFunding)
 			throw new java.lang.Exception ("BondComponent::priceFromBumpedDC => Cannot shift funding curve");
 
-		for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
-			double dblPeriodPayDate = period.payDate();
+		org.drip.analytics.cashflow.CompiledSchedule cs = _stream.compiledSchedule();
+
+		int iNumPeriod = cs.numPeriod();
+
+		for (int i = 0; i < iNumPeriod; ++i) {
+			double dblPeriodPayDate = cs.payDate (i);
 
 			if (dblPeriodPayDate < dblValueDate) continue;
 
-			double dblPeriodStartDate = period.startDate();
+			double dblPeriodStartDate = cs.startDate (i);
 
 			if (!org.drip.quant.common.NumberUtil.IsValid (dblScalingNotional))
 				dblScalingNotional = notional (dblPeriodStartDate);
 
-			double dblAccrualEndDate = period.endDate();
+			double dblAccrualEndDate = cs.endDate (i);
 
-			double dblNotionalEndDate = period.endDate();
+			double dblNotionalEndDate = cs.endDate (i);
 
 			if (dblAccrualEndDate >= dblWorkoutDate) {
 				bTerminateCouponFlow = true;
@@ -1835,12 +2285,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 				dblNotionalEndDate = dblWorkoutDate;
 			}
 
-			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblAccrualEndDate,
-				valParams, csqs);
-
-			if (null == pcm) throw new java.lang.Exception ("BondComponent::priceFromBumpedDC => No PCM");
-
-			double dblPeriodAnnuity = dcFunding.df (dblPeriodPayDate) * pcm.cumulative();
+			double dblPeriodAnnuity = dcFunding.df (dblPeriodPayDate);
 
 			double dblCouponNotional = notional (dblPeriodStartDate);
 
@@ -1851,8 +2296,8 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 				_notionalSetting.periodAmortizationMode())
 				dblCouponNotional = notional (dblPeriodStartDate, dblNotionalEndDate);
 
-			dblPVFromDC += period.accrualDCF (dblAccrualEndDate) * dblPeriodAnnuity * pcm.rate() *
-				dblCouponNotional;
+			dblPVFromDC += cs.period (i).accrualDCF (dblAccrualEndDate) * dblPeriodAnnuity *
+				periodCouponRate (cs, i, dblAccrualEndDate, valParams, csqs) * dblCouponNotional;
 
 			dblPVFromDC += (notional (dblPeriodStartDate) - notional (dblNotionalEndDate)) *
 				dblPeriodAnnuity;
@@ -1919,25 +2364,26 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		org.drip.param.pricer.CreditPricerParams pricerParams = new org.drip.param.pricer.CreditPricerParams
 			(7, null, false, s_iDiscretizationScheme);
 
-		for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
-			double dblPeriodPayDate = period.payDate();
+		org.drip.analytics.cashflow.CompiledSchedule cs = _stream.compiledSchedule();
+
+		int iNumPeriod = cs.numPeriod();
+
+		for (int i = 0; i < iNumPeriod; ++i) {
+			double dblPeriodPayDate = cs.payDate (i);
 
 			if (dblPeriodPayDate < dblValueDate) continue;
 
-			double dblPeriodEndDate = period.endDate();
+			org.drip.analytics.cashflow.CompositePeriod period = cs.period (i);
+
+			double dblPeriodEndDate = cs.endDate (i);
 
 			if (dblPeriodEndDate >= dblWorkoutDate) dblPeriodEndDate = dblWorkoutDate;
 
-			double dblPeriodStartDate = period.startDate();
+			double dblPeriodStartDate = cs.startDate (i);
 
 			if (dblPeriodStartDate < dblValueDate) dblPeriodStartDate = dblValueDate;
 
-			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblPeriodEndDate,
-				valParams, csqs);
-
-			if (null == pcm) throw new java.lang.Exception ("BondComponent::priceFromBumpedCC => No PCM");
-
-			double dblPeriodCoupon = pcm.rate();
+			double dblPeriodCoupon = periodCouponRate (cs, i, dblPeriodEndDate, valParams, csqs);
 
 			double dblPeriodEndSurv = cc.survival (dblPeriodEndDate);
 
@@ -1950,7 +2396,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 				_notionalSetting.periodAmortizationMode())
 				dblCouponNotional = notional (dblPeriodStartDate, dblPeriodEndDate);
 
-			double dblPeriodAnnuity = dcFunding.df (dblPeriodPayDate) * pcm.cumulative();
+			double dblPeriodAnnuity = dcFunding.df (dblPeriodPayDate);
 
 			dblPVFromCC += period.accrualDCF (dblPeriodEndDate) * dblPeriodAnnuity * dblPeriodEndSurv *
 				dblPeriodCoupon * dblCouponNotional;
@@ -6250,35 +6696,39 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			strCalendar = _marketConvention.valuationCustomizationParams().yieldCalendar();
 		}
 
-		for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
-			double dblPeriodPayDate = period.payDate();
+		double dblPeriodCoupon = java.lang.Double.NaN;
+
+		org.drip.analytics.cashflow.CompiledSchedule cs = _stream.compiledSchedule();
+
+		int iNumPeriod = cs.numPeriod();
+
+		for (int i = 0; i < iNumPeriod; ++i) {
+			double dblPeriodPayDate = cs.payDate (i);
 
 			if (dblPeriodPayDate < dblValueDate) continue;
 
+			org.drip.analytics.cashflow.CompositePeriod period = cs.period (i);
+
 			if (bFirstPeriod) {
 				bFirstPeriod = false;
 
-				dblCFPeriod = period.couponDCF() - period.accrualDCF (dblValueDate);
+				dblCFPeriod = cs.couponDCF (i) - period.accrualDCF (dblValueDate);
+
+				dblPeriodCoupon = cs.couponRate (cs.periodIndex (dblValueDate), dblValueDate, csqs);
 			} else
-				dblCFPeriod += period.couponDCF();
+				dblCFPeriod += cs.couponDCF (i);
 
 			periodRef = period;
 
-			double dblPeriodEndDate = period.endDate();
+			double dblPeriodEndDate = cs.endDate (i);
 
-			double dblPeriodStartDate = period.startDate();
+			double dblPeriodStartDate = cs.startDate (i);
 
 			if (dblPeriodEndDate >= dblWorkoutDate) {
 				bTerminateCouponFlow = true;
 				dblPeriodEndDate = dblWorkoutDate;
 			}
 
-			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate,
-				valParams, csqs);
-
-			if (null == pcm)
-				throw new java.lang.Exception ("BondComponent::calcMacaulayDurationFromYield => No PCM");
-
 			aap = new org.drip.analytics.daycount.ActActDCParams (iFrequency, dblPeriodStartDate,
 				dblPeriodEndDate);
 
@@ -6298,7 +6748,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 				dblPeriodPayDate, strDC, bApplyCpnEOMAdj, aap, strCalendar);
 
 			double dblYieldAnnuity = org.drip.analytics.support.AnalyticsHelper.Yield2DF (iFrequency,
-				dblYield, s_bYieldDFOffofCouponAccrualDCF ? dblCFPeriod : dblYearFract) * pcm.cumulative();
+				dblYield, s_bYieldDFOffofCouponAccrualDCF ? dblCFPeriod : dblYearFract);
 
 			double dblCouponNotional = notional (dblPeriodStartDate);
 
@@ -6309,7 +6759,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 				_notionalSetting.periodAmortizationMode())
 				dblCouponNotional = notional (dblPeriodStartDate, dblPeriodEndDate);
 
-			double dblCouponPV = period.accrualDCF (dblPeriodEndDate) * pcm.rate() * dblYieldAnnuity *
+			double dblCouponPV = period.accrualDCF (dblPeriodEndDate) * dblPeriodCoupon * dblYieldAnnuity *
 				dblCouponNotional;
 
 			double dblPeriodNotionalPV = (notional (dblPeriodStartDate) - notional (dblPeriodEndDate)) *
@@ -8163,6 +8613,105 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		return priceFromOAS (valParams, csqs, vcp, maturityDate().julian(), 1., dblOAS);
 	}
 
+	/**
+	 * Calculate the Price from the OAS, inducing the Embedded Call (or Put) Schedule - Bermudan, or a dense
+	 * 	(American) Schedule sampled at the Lattice Steps - on the Hull-White Recombining Trinomial Lattice
+	 * 	fitted to the Funding Curve. The OAS is the continuously compounded Spread over the Lattice Short
+	 * 	Rate.
+	 * 
+	 * @param valParams Valuation Parameters
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param hw The Hull-White Evolver supplying the Mean Reversion and the Volatility
+	 * @param iDayIncrement The Lattice Step in Days
+	 * @param dblOAS The OAS
+	 * 
+	 * @return The Price
+	 * 
+	 * @throws java.lang.Exception Thrown if the Price cannot be calculated
+	 */
+
+	public double priceFromOASLattice (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.dynamics.hullwhite.SingleFactorStateEvolver hw,
+		final int iDayIncrement,
+		final double dblOAS)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblOAS))
+			throw new java.lang.Exception ("BondComponent::priceFromOASLattice => Invalid Inputs");
+
+		double[][] aadblExercise = latticeExercise (valParams, csqs);
+
+		return priceFromLatticeOAS (valParams, csqs, oasLattice (valParams, csqs, hw, iDayIncrement,
+			aadblExercise), latticeCashFlows (valParams, csqs), aadblExercise, dblOAS);
+	}
+
+	/**
+	 * Calculate the OAS from the Price, inducing the Embedded Call (or Put) Schedule on the Hull-White
+	 * 	Recombining Trinomial Lattice fitted to the Funding Curve. The Lattice and the Cash Flows are
+	 * 	set up once and re-used across the Root Search.
+	 * 
+	 * @param valParams Valuation Parameters
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param hw The Hull-White Evolver supplying the Mean Reversion and the Volatility
+	 * @param iDayIncrement The Lattice Step in Days
+	 * @param dblPrice The Price
+	 * 
+	 * @return The OAS
+	 * 
+	 * @throws java.lang.Exception Thrown if the OAS cannot be calculated
+	 */
+
+	public double oasFromPriceLattice (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.dynamics.hullwhite.SingleFactorStateEvolver hw,
+		final int iDayIncrement,
+		final double dblPrice)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblPrice))
+			throw new java.lang.Exception ("BondComponent::oasFromPriceLattice => Invalid Inputs");
+
+		final double[][] aadblExercise = latticeExercise (valParams, csqs);
+
+		final double[][] aadblCashFlow = latticeCashFlows (valParams, csqs);
+
+		final org.drip.dynamics.hullwhite.RecombiningTrinomialLattice rtl = oasLattice (valParams, csqs, hw,
+			iDayIncrement, aadblExercise);
+
+		org.drip.function.definition.R1ToR1 ofOAS = new org.drip.function.definition.R1ToR1 (null) {
+			@Override public double evaluate (
+				final double dblOAS)
+				throws java.lang.Exception
+			{
+				return priceFromLatticeOAS (valParams, csqs, rtl, aadblCashFlow, aadblExercise, dblOAS) -
+					dblPrice;
+			}
+
+			@Override public double integrate (
+				final double dblBegin,
+				final double dblEnd)
+				throws java.lang.Exception
+			{
+				return org.drip.quant.calculus.R1ToR1Integrator.Boole (this, dblBegin, dblEnd);
+			}
+		};
+
+		org.drip.function.solverR1ToR1.FixedPointFinderOutput rfop = new
+			org.drip.function.solverR1ToR1.FixedPointFinderBrent (0., ofOAS, true).findRoot();
+
+		if (null == rfop || !rfop.containsRoot())
+			throw new java.lang.Exception ("BondComponent::oasFromPriceLattice => Cannot get root!");
+
+		return rfop.getRoot();
+	}
+
 	@Override public double priceFromPECS (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
@@ -8295,21 +8844,29 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			strCalendar = _marketConvention.valuationCustomizationParams().yieldCalendar();
 		}
 
-		for (org.drip.analytics.cashflow.CompositePeriod period : couponPeriods()) {
-			double dblPayDate = period.payDate();
+		double dblPeriodCoupon = java.lang.Double.NaN;
+
+		org.drip.analytics.cashflow.CompiledSchedule cs = _stream.compiledSchedule();
+
+		int iNumPeriod = cs.numPeriod();
+
+		for (int i = 0; i < iNumPeriod; ++i) {
+			double dblPayDate = cs.payDate (i);
 
 			if (dblPayDate < dblValueDate) continue;
 
 			if (bFirstPeriod) {
 				bFirstPeriod = false;
 
-				dblCFPeriod = period.couponDCF() - period.accrualDCF (dblValueDate);
+				dblCFPeriod = cs.couponDCF (i) - cs.period (i).accrualDCF (dblValueDate);
+
+				dblPeriodCoupon = cs.couponRate (cs.periodIndex (dblValueDate), dblValueDate, csqs);
 			} else
-				dblCFPeriod += period.couponDCF();
+				dblCFPeriod += cs.couponDCF (i);
 
-			double dblEndDate = period.endDate();
+			double dblEndDate = cs.endDate (i);
 
-			double dblStartDate = period.startDate();
+			double dblStartDate = cs.startDate (i);
 
 			if (dblEndDate >= dblWorkoutDate) {
 				dblEndDate = dblWorkoutDate;
@@ -8319,13 +8876,6 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			if (!org.drip.quant.common.NumberUtil.IsValid (dblScalingNotional))
 				dblScalingNotional = notional (dblStartDate);
 
-			org.drip.analytics.output.CompositePeriodCouponMetrics pcm = couponMetrics (dblValueDate,
-				valParams, csqs);
-
-			if (null == pcm) throw new java.lang.Exception ("BondComponent::priceFromYield => No PCM");
-
-			double dblPeriodCoupon = pcm.rate();
-
 			aap = new org.drip.analytics.daycount.ActActDCParams (iFrequency, dblStartDate, dblEndDate);
 
 			if (null != vcp) {
@@ -8342,7 +8892,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			double dblYieldAnnuity = org.drip.analytics.support.AnalyticsHelper.Yield2DF (iFrequency,
 				dblYield, s_bYieldDFOffofCouponAccrualDCF ? dblCFPeriod :
 					org.drip.analytics.daycount.Convention.YearFraction (dblValueDate, dblPayDate, strDC,
-						bApplyCpnEOMAdj, aap, strCalendar)) * pcm.cumulative();
+						bApplyCpnEOMAdj, aap, strCalendar));
 
 			double dblCouponNotional = notional (dblStartDate);
 
@@ -8353,7 +8903,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 				_notionalSetting.periodAmortizationMode())
 				dblCouponNotional = notional (dblStartDate, dblEndDate);
 
-			dblYieldPV += (period.accrualDCF (dblEndDate) * dblPeriodCoupon * dblCouponNotional + notional
+			dblYieldPV += (cs.period (i).accrualDCF (dblEndDate) * dblPeriodCoupon * dblCouponNotional + notional
 				(dblStartDate) - notional (dblEndDate)) * dblYieldAnnuity;
 
 			if (bTerminateCouponFlow) break;
@@ -10256,7 +10806,7 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 		final double dblPrice)
 		throws java.lang.Exception
 	{
-		return yieldSpreadFromPrice (valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor, yieldFromPrice
+		return yieldSpreadFromYield (valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor, yieldFromPrice
 			(valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor, dblPrice));
 	}
 
@@ -11022,219 +11572,28 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 			}
 		}
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = fairMeasures
-			(valParams, pricerParams, csqs, vcp);
-
-		if (null == mapMeasures) return null;
-
-		java.lang.String strName = name();
-
-		org.drip.param.definition.ProductQuote pq = csqs.productQuote (strName);
-
-		if (null == pq) return mapMeasures;
-
-		double dblMaturity = maturityDate().julian();
-
-		if (null == _floaterSetting) {
-			double dblParSpread = (mapMeasures.get ("FairDirtyPV") - mapMeasures.get ("FairParPV") -
-				mapMeasures.get ("FairPrincipalPV")) / mapMeasures.get ("FairDirtyDV01");
-
-			mapMeasures.put ("ParSpread", dblParSpread);
-
-			mapMeasures.put ("FairParSpread", dblParSpread);
-		} else {
-			double dblCleanIndexCouponPV = mapMeasures.containsKey ("FairRiskyCleanIndexCouponPV") ?
-				mapMeasures.get ("FairRiskyCleanIndexCouponPV") : mapMeasures.get
-					("FairRisklessCleanIndexCouponPV");
-
-			double dblZeroDiscountMargin = (mapMeasures.get ("FairCleanPV") - mapMeasures.get ("FairParPV") -
-				dblCleanIndexCouponPV - mapMeasures.get ("FairPrincipalPV")) / mapMeasures.get
-					("FairCleanDV01");
-
-			mapMeasures.put ("ZeroDiscountMargin", dblZeroDiscountMargin);
-
-			mapMeasures.put ("FairZeroDiscountMargin", dblZeroDiscountMargin);
-		}
-
-		org.drip.param.valuation.WorkoutInfo wiMarket = null;
-
-		if (pq.containsQuote ("Price")) {
-			double dblMarketPrice = pq.quote ("Price").value ("mid");
-
-			mapMeasures.put ("MarketInputType=CleanPrice", dblMarketPrice);
-
-			wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, dblMarketPrice);
-		} else if (pq.containsQuote ("CleanPrice")) {
-			double dblCleanMarketPrice = pq.quote ("CleanPrice").value ("mid");
-
-			mapMeasures.put ("MarketInputType=CleanPrice", dblCleanMarketPrice);
-
-			wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, dblCleanMarketPrice);
-		} else if (pq.containsQuote ("QuotedMargin")) {
-			double dblQuotedMargin = pq.quote ("QuotedMargin").value ("mid");
-
-			mapMeasures.put ("MarketInputType=QuotedMargin", dblQuotedMargin);
-
-			try {
-				wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, priceFromDiscountMargin (valParams,
-					csqs, vcp, dblQuotedMargin));
-			} catch (java.lang.Exception e) {
-				if (!s_bSuppressErrors) e.printStackTrace();
-			}
-		} else if (pq.containsQuote ("DirtyPrice")) {
-			try {
-				double dblDirtyMarketPrice = pq.quote ("DirtyPrice").value ("mid");
-
-				mapMeasures.put ("MarketInputType=DirtyPrice", dblDirtyMarketPrice);
-
-				wiMarket = exerciseYieldFromPrice (valParams, csqs, vcp, dblDirtyMarketPrice - accrued
-					(valParams.valueDate(), csqs));
-			} catch (java.lang.Exception e) {
-				if (!s_bSuppressErrors) e.printStackTrace();
-
-				wiMarket = null;
-			}
-		} else if (pq.containsQuote ("TSYSpread")) {
-			try {
-				double dblTSYSpread = pq.quote ("TSYSpread").value ("mid");
-
-				mapMeasures.put ("MarketInputType=TSYSpread", dblTSYSpread);
-
-				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, treasuryBenchmarkYield
-					(valParams, csqs, dblMaturity) + dblTSYSpread, 1.,
-						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
-			} catch (java.lang.Exception e) {
-				if (!s_bSuppressErrors) e.printStackTrace();
-
-				wiMarket = null;
-			}
-		} else if (pq.containsQuote ("Yield")) {
-			try {
-				double dblYield = pq.quote ("Yield").value ("mid");
-
-				mapMeasures.put ("MarketInputType=Yield", dblYield);
-
-				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, dblYield, 1.,
-					org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
-			} catch (java.lang.Exception e) {
-				if (!s_bSuppressErrors) e.printStackTrace();
-
-				wiMarket = null;
-			}
-		} else if (pq.containsQuote ("ZSpread")) {
-			try {
-				double dblZSpread = pq.quote ("ZSpread").value ("mid");
-
-				mapMeasures.put ("MarketInputType=ZSpread", dblZSpread);
-
-				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromZSpread
-					(valParams, csqs, vcp, dblZSpread), 1.,
-						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
-			} catch (java.lang.Exception e) {
-				if (!s_bSuppressErrors) e.printStackTrace();
-
-				wiMarket = null;
-			}
-		} else if (pq.containsQuote ("ISpread")) {
-			try {
-				double dblISpread = pq.quote ("ISpread").value ("mid");
-
-				mapMeasures.put ("MarketInputType=ISpread", dblISpread);
-
-				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromISpread
-					(valParams, csqs, vcp, dblISpread), 1.,
-						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
-			} catch (java.lang.Exception e) {
-				if (!s_bSuppressErrors) e.printStackTrace();
-
-				wiMarket = null;
-			}
-		} else if (pq.containsQuote ("CreditBasis")) {
-			try {
-				double dblCreditBasis = pq.quote ("CreditBasis").value ("mid");
-
-				mapMeasures.put ("MarketInputType=CreditBasis", dblCreditBasis);
-
-				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromCreditBasis
-					(valParams, csqs, vcp, dblCreditBasis), 1.,
-						org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
-			} catch (java.lang.Exception e) {
-				if (!s_bSuppressErrors) e.printStackTrace();
-
-				wiMarket = null;
-			}
-		} else if (pq.containsQuote ("PECS")) {
-			try {
-				double dblCreditBasis = pq.quote ("PECS").value ("mid");
-
-				mapMeasures.put ("MarketInputType=PECS", dblCreditBasis);
-
-				wiMarket = new org.drip.param.valuation.WorkoutInfo (dblMaturity, yieldFromPECS (valParams,
-					csqs, vcp, dblCreditBasis), 1., org.drip.param.valuation.WorkoutInfo.WO_TYPE_MATURITY);
-			} catch (java.lang.Exception e) {
-				if (!s_bSuppressErrors) e.printStackTrace();
-
-				wiMarket = null;
-			}
-		}
-
-		if (null != wiMarket) {
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapWorkoutMeasures =
-				marketMeasures (valParams, pricerParams, csqs, vcp, wiMarket);
-
-			if (null == _floaterSetting) {
-				double dblParSpread = (mapWorkoutMeasures.get ("Price") - mapMeasures.get ("FairParPV") -
-					mapMeasures.get ("FairPrincipalPV")) / mapMeasures.get ("FairCleanDV01");
-
-				mapMeasures.put ("ParSpread", dblParSpread);
-
-				mapMeasures.put ("MarketParSpread", dblParSpread);
-			} else {
-				double dblCleanIndexCouponPV = mapMeasures.containsKey ("FairRiskyCleanIndexCouponPV") ?
-					mapMeasures.get ("FairRiskyCleanIndexCouponPV") : mapMeasures.get
-						("FairRisklessCleanIndexCouponPV");
-
-				double dblZeroDiscountMargin = (mapMeasures.get ("Price") - mapMeasures.get ("FairParPV") -
-					dblCleanIndexCouponPV - mapMeasures.get ("FairPrincipalPV")) / mapMeasures.get
-						("FairCleanDV01");
-
-				mapMeasures.put ("ZeroDiscountMargin", dblZeroDiscountMargin);
-
-				mapMeasures.put ("MarketZeroDiscountMargin", dblZeroDiscountMargin);
-			}
-
-			org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, mapWorkoutMeasures);
-
-			org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
+		org.drip.analytics.output.MeasureSchema ms = measureSchema();
 
-			if (null != mapMeasures.get ("FairYield")) {
-				org.drip.param.market.CurveSurfaceQuoteSet csqsMarket =
-					org.drip.param.creator.MarketParamsBuilder.Create
-						((org.drip.analytics.rates.DiscountCurve) csqs.fundingCurve
-							(fundingLabel()).parallelShiftQuantificationMetric (wiMarket.yield() -
-								mapMeasures.get ("FairYield")), csqs.govvieCurve
-									(org.drip.state.identifier.GovvieLabel.Standard (payCurrency())), cc,
-										strName, csqs.productQuote (strName), csqs.quoteMap(),
-											csqs.fixings());
+		org.drip.analytics.output.MeasureVector mv = null == ms ? null : ms.vector();
 
-				if (null != csqsMarket) {
-					org.drip.analytics.output.BondWorkoutMeasures bwmMarket = workoutMeasures (valParams,
-						pricerParams, csqsMarket, wiMarket.date(), wiMarket.factor());
+		return null != mv && valueMeasures (valParams, pricerParams, csqs, vcp, mv) ? mv.toTreeMap() : null;
+	}
 
-					if (null != bwmMarket) {
-						org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMarketMeasures
-							= bwmMarket.toMap ("");
+	@Override public boolean value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.analytics.output.MeasureVector mv)
+	{
+		if (null == mv) return false;
 
-						org.drip.quant.common.CollectionUtil.MergeWithMain (mapMarketMeasures,
-							org.drip.quant.common.CollectionUtil.PrefixKeys (mapMarketMeasures, "Market"));
+		if (null != pricerParams && null != pricerParams.calibParams())
+			return super.value (valParams, pricerParams, csqs, vcp, mv);
 
-						org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, mapMarketMeasures);
-					}
-				}
-			}
-		}
+		mv.reset();
 
-		return mapMeasures;
+		return null != valParams && null != csqs && valueMeasures (valParams, pricerParams, csqs, vcp, mv);
 	}
 
 	@Override public java.util.Set<java.lang.String> measureNames()
@@ -11615,6 +11974,17 @@ public class BondComponent extends org.drip.product.definition.Bond implements
 
 		setstrMeasureNames.add ("ZSpread");
 
+		for (java.lang.String strPrefix : s_astrBlockPrefix) {
+			for (java.lang.String strMeasure : org.drip.analytics.output.BondWorkoutMeasures.MeasureNames())
+				setstrMeasureNames.add (strPrefix + strMeasure);
+
+			for (java.lang.String strMeasure : org.drip.analytics.output.BondRVMeasures.MeasureNames())
+				setstrMeasureNames.add (strPrefix + strMeasure);
+
+			for (java.lang.String strMeasure : s_astrSpreadMeasure)
+				setstrMeasureNames.add (strPrefix + strMeasure);
+		}
+
 		return setstrMeasureNames;
 	}
 
@@ -0,0 +1,574 @@
+
+package org.drip.product.credit;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BondMeasureGraph evaluates the X-from-Y Measures of a Bond for a single Quote, Valuation, Market, and
+ * 	Work-out as a lazily evaluated Graph. Every Measure is a Node that is computed at most once, and the
+ * 	Price and the Yield Hubs, the Curve-implied Yield, and the Work-out are shared across the Requests, so
+ * 	that a Set of Measures costs the minimum Number of Root Finds:
+ *  - A Quote in the Yield Family (Yield, G/I/TSY Spread, Discount Margin, Bond Basis, Yield Spread)
+ *  	determines the Yield without a Solve, and the Price in Closed Form off of the Yield.
+ *  - A Quote in the Price Family (Price, Z Spread, OAS, Credit Basis, PECS, ASW) determines the Price in
+ *  	Closed Form, and the Yield costs a single Solve.
+ *  - Z Spread, OAS, Credit Basis, PECS, and the Curve-implied Yield (used by the Bond Basis and the Yield
+ *  	Spread) each cost one Solve, and only if requested.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondMeasureGraph {
+
+	/**
+	 * Price Node
+	 */
+
+	public static final int PRICE = 0;
+
+	/**
+	 * Yield Node
+	 */
+
+	public static final int YIELD = 1;
+
+	/**
+	 * Z Spread Node
+	 */
+
+	public static final int ZSPREAD = 2;
+
+	/**
+	 * OAS Node
+	 */
+
+	public static final int OAS = 3;
+
+	/**
+	 * Credit Basis Node
+	 */
+
+	public static final int CREDIT_BASIS = 4;
+
+	/**
+	 * PECS Node
+	 */
+
+	public static final int PECS = 5;
+
+	/**
+	 * ASW Node
+	 */
+
+	public static final int ASW = 6;
+
+	/**
+	 * G Spread Node
+	 */
+
+	public static final int GSPREAD = 7;
+
+	/**
+	 * I Spread Node
+	 */
+
+	public static final int ISPREAD = 8;
+
+	/**
+	 * TSY Spread Node
+	 */
+
+	public static final int TSY_SPREAD = 9;
+
+	/**
+	 * Discount Margin Node
+	 */
+
+	public static final int DISCOUNT_MARGIN = 10;
+
+	/**
+	 * Bond Basis Node
+	 */
+
+	public static final int BOND_BASIS = 11;
+
+	/**
+	 * Yield Spread Node
+	 */
+
+	public static final int YIELD_SPREAD = 12;
+
+	/**
+	 * Modified Duration Node
+	 */
+
+	public static final int MODIFIED_DURATION = 13;
+
+	/**
+	 * Macaulay Duration Node
+	 */
+
+	public static final int MACAULAY_DURATION = 14;
+
+	/**
+	 * Convexity Node
+	 */
+
+	public static final int CONVEXITY = 15;
+
+	private static final int CURVE_YIELD = 16;
+	private static final int NUM_NODE = 17;
+
+	private static final java.lang.String[] s_astrMeasure = new java.lang.String[] {"Price", "Yield",
+		"ZSpread", "OAS", "CreditBasis", "PECS", "ASW", "GSpread", "ISpread", "TSYSpread", "DiscountMargin",
+			"BondBasis", "YieldSpread", "ModifiedDuration", "MacaulayDuration", "Convexity"};
+
+	private int _iQuote = -1;
+	private int _iNumRootFind = 0;
+	private double[] _adblNode = null;
+	private boolean[] _abNode = null;
+	private org.drip.product.definition.Bond _bond = null;
+	private double _dblWorkoutDate = java.lang.Double.NaN;
+	private double _dblWorkoutFactor = java.lang.Double.NaN;
+	private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+	private org.drip.param.valuation.ValuationCustomizationParams _vcp = null;
+
+	private static final boolean YieldFamily (
+		final int iMeasure)
+	{
+		return YIELD == iMeasure || GSPREAD == iMeasure || ISPREAD == iMeasure || TSY_SPREAD == iMeasure ||
+			DISCOUNT_MARGIN == iMeasure || BOND_BASIS == iMeasure || YIELD_SPREAD == iMeasure;
+	}
+
+	/**
+	 * Map the Measure Name (Case-insensitive; "Duration" is the Modified Duration) onto its Node
+	 * 
+	 * @param strMeasure The Measure Name
+	 * 
+	 * @return The Node, or -1 if the Measure is not in the Graph
+	 */
+
+	public static final int Measure (
+		final java.lang.String strMeasure)
+	{
+		if (null == strMeasure) return -1;
+
+		if ("Duration".equalsIgnoreCase (strMeasure)) return MODIFIED_DURATION;
+
+		for (int i = 0; i < s_astrMeasure.length; ++i) {
+			if (s_astrMeasure[i].equalsIgnoreCase (strMeasure)) return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Construct the Graph for the Quote to the Bond Maturity
+	 * 
+	 * @param bond The Bond
+	 * @param valParams The Valuation Parameters
+	 * @param csqs The Market Parameters
+	 * @param vcp The Valuation Customization Parameters
+	 * @param strQuoteMeasure The Quoted Measure (any of the Price or the Yield Family Measures)
+	 * @param dblQuote The Quote
+	 * 
+	 * @return The BondMeasureGraph Instance
+	 */
+
+	public static final BondMeasureGraph ToMaturity (
+		final org.drip.product.definition.Bond bond,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.lang.String strQuoteMeasure,
+		final double dblQuote)
+	{
+		if (null == bond) return null;
+
+		try {
+			return new BondMeasureGraph (bond, valParams, csqs, vcp, bond.maturityDate().julian(), 1., Measure
+				(strQuoteMeasure), dblQuote);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Construct the Graph for the Quote to the Optimal Exercise. For Bonds with Embedded Options only a
+	 * 	Price Quote is accepted, and the Work-out and its Yield come out of a single Exercise Yield Solve.
+	 * 
+	 * @param bond The Bond
+	 * @param valParams The Valuation Parameters
+	 * @param csqs The Market Parameters
+	 * @param vcp The Valuation Customization Parameters
+	 * @param strQuoteMeasure The Quoted Measure
+	 * @param dblQuote The Quote
+	 * 
+	 * @return The BondMeasureGraph Instance
+	 */
+
+	public static final BondMeasureGraph ToOptimalExercise (
+		final org.drip.product.definition.Bond bond,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.lang.String strQuoteMeasure,
+		final double dblQuote)
+	{
+		if (null == bond) return null;
+
+		if (!bond.callable() && !bond.putable())
+			return ToMaturity (bond, valParams, csqs, vcp, strQuoteMeasure, dblQuote);
+
+		if (PRICE != Measure (strQuoteMeasure)) return null;
+
+		org.drip.param.valuation.WorkoutInfo wi = bond.exerciseYieldFromPrice (valParams, csqs, vcp,
+			dblQuote);
+
+		if (null == wi) return null;
+
+		try {
+			BondMeasureGraph bmg = new BondMeasureGraph (bond, valParams, csqs, vcp, wi.date(), wi.factor(),
+				PRICE, dblQuote);
+
+			bmg._iNumRootFind = 1;
+
+			bmg.set (YIELD, wi.yield());
+
+			return bmg;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * BondMeasureGraph Constructor
+	 * 
+	 * @param bond The Bond
+	 * @param valParams The Valuation Parameters
+	 * @param csqs The Market Parameters
+	 * @param vcp The Valuation Customization Parameters
+	 * @param dblWorkoutDate The Work-out Date
+	 * @param dblWorkoutFactor The Work-out Factor
+	 * @param iQuote The Quoted Measure Node (any of the Price or the Yield Family Nodes)
+	 * @param dblQuote The Quote
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BondMeasureGraph (
+		final org.drip.product.definition.Bond bond,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final double dblWorkoutDate,
+		final double dblWorkoutFactor,
+		final int iQuote,
+		final double dblQuote)
+		throws java.lang.Exception
+	{
+		if (null == (_bond = bond) || null == (_valParams = valParams) || null == (_csqs = csqs) ||
+			!org.drip.quant.common.NumberUtil.IsValid (_dblWorkoutDate = dblWorkoutDate) ||
+				!org.drip.quant.common.NumberUtil.IsValid (_dblWorkoutFactor = dblWorkoutFactor) || 0 >
+					(_iQuote = iQuote) || MODIFIED_DURATION <= _iQuote ||
+						!org.drip.quant.common.NumberUtil.IsValid (dblQuote))
+			throw new java.lang.Exception ("BondMeasureGraph ctr: Invalid Inputs");
+
+		_vcp = vcp;
+		_abNode = new boolean[NUM_NODE];
+		_adblNode = new double[NUM_NODE];
+
+		set (_iQuote, dblQuote);
+	}
+
+	private double set (
+		final int iNode,
+		final double dblValue)
+	{
+		_abNode[iNode] = true;
+		return _adblNode[iNode] = dblValue;
+	}
+
+	private double solvePrice()
+		throws java.lang.Exception
+	{
+		if (YieldFamily (_iQuote))
+			return _bond.priceFromYield (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor, node
+				(YIELD));
+
+		double dblQuote = _adblNode[_iQuote];
+
+		if (ZSPREAD == _iQuote)
+			return _bond.priceFromZSpread (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor,
+				dblQuote);
+
+		if (OAS == _iQuote)
+			return _bond.priceFromOAS (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor, dblQuote);
+
+		if (CREDIT_BASIS == _iQuote)
+			return _bond.priceFromCreditBasis (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor,
+				dblQuote);
+
+		if (PECS == _iQuote)
+			return _bond.priceFromPECS (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor, dblQuote);
+
+		return _bond.priceFromASW (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor, dblQuote);
+	}
+
+	private double solveYield()
+		throws java.lang.Exception
+	{
+		double dblQuote = _adblNode[_iQuote];
+
+		if (GSPREAD == _iQuote)
+			return _bond.yieldFromGSpread (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor,
+				dblQuote);
+
+		if (ISPREAD == _iQuote)
+			return _bond.yieldFromISpread (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor,
+				dblQuote);
+
+		if (TSY_SPREAD == _iQuote)
+			return _bond.yieldFromTSYSpread (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor,
+				dblQuote);
+
+		if (DISCOUNT_MARGIN == _iQuote)
+			return _bond.yieldFromDiscountMargin (_valParams, _csqs, _vcp, _dblWorkoutDate,
+				_dblWorkoutFactor, dblQuote);
+
+		if (BOND_BASIS == _iQuote || YIELD_SPREAD == _iQuote) return node (CURVE_YIELD) + dblQuote;
+
+		++_iNumRootFind;
+
+		return _bond.yieldFromPrice (_valParams, _csqs, _vcp, _dblWorkoutDate, _dblWorkoutFactor, node
+			(PRICE));
+	}
+
+	private double node (
+		final int iNode)
+		throws java.lang.Exception
+	{
+		if (_abNode[iNode]) return _adblNode[iNode];
+
+		switch (iNode) {
+			case PRICE:
+				return set (PRICE, solvePrice());
+
+			case YIELD:
+				return set (YIELD, solveYield());
+
+			case CURVE_YIELD:
+				++_iNumRootFind;
+
+				return set (CURVE_YIELD, _bond.yieldFromPrice (_valParams, _csqs, _vcp, _dblWorkoutDate,
+					_dblWorkoutFactor, _bond.priceFromBumpedDC (_valParams, _csqs, _dblWorkoutDate,
+						_dblWorkoutFactor, 0.)));
+
+			case ZSPREAD:
+				++_iNumRootFind;
+
+				return set (ZSPREAD, _bond.zspreadFromPrice (_valParams, _csqs, _vcp, _dblWorkoutDate,
+					_dblWorkoutFactor, node (PRICE)));
+
+			case OAS:
+				++_iNumRootFind;
+
+				return set (OAS, _bond.oasFromPrice (_valParams, _csqs, _vcp, _dblWorkoutDate,
+					_dblWorkoutFactor, node (PRICE)));
+
+			case CREDIT_BASIS:
+				++_iNumRootFind;
+
+				return set (CREDIT_BASIS, _bond.creditBasisFromPrice (_valParams, _csqs, _vcp,
+					_dblWorkoutDate, _dblWorkoutFactor, node (PRICE)));
+
+			case PECS:
+				++_iNumRootFind;
+
+				return set (PECS, _bond.pecsFromPrice (_valParams, _csqs, _vcp, _dblWorkoutDate,
+					_dblWorkoutFactor, node (PRICE)));
+
+			case ASW:
+				return set (ASW, _bond.aswFromPrice (_valParams, _csqs, _vcp, _dblWorkoutDate,
+					_dblWorkoutFactor, node (PRICE)));
+
+			case GSPREAD:
+				return set (GSPREAD, _bond.gSpreadFromYield (_valParams, _csqs, _vcp, _dblWorkoutDate,
+					_dblWorkoutFactor, node (YIELD)));
+
+			case ISPREAD:
+				return set (ISPREAD, _bond.iSpreadFromYield (_valParams, _csqs, _vcp, _dblWorkoutDate,
+					_dblWorkoutFactor, node (YIELD)));
+
+			case TSY_SPREAD:
+				return set (TSY_SPREAD, _bond.tsySpreadFromYield (_valParams, _csqs, _vcp, _dblWorkoutDate,
+					_dblWorkoutFactor, node (YIELD)));
+
+			case DISCOUNT_MARGIN:
+				return set (DISCOUNT_MARGIN, _bond.discountMarginFromYield (_valParams, _csqs, _vcp,
+					_dblWorkoutDate, _dblWorkoutFactor, node (YIELD)));
+
+			case BOND_BASIS:
+				return set (BOND_BASIS, node (YIELD) - node (CURVE_YIELD));
+
+			case YIELD_SPREAD:
+				return set (YIELD_SPREAD, node (YIELD) - node (CURVE_YIELD));
+
+			case MODIFIED_DURATION: {
+				double dblPrice = node (PRICE);
+
+				return set (MODIFIED_DURATION, (dblPrice - _bond.priceFromYield (_valParams, _csqs, _vcp,
+					_dblWorkoutDate, _dblWorkoutFactor, node (YIELD) + 0.0001)) / (dblPrice + _bond.accrued
+						(_valParams.valueDate(), _csqs)));
+			}
+
+			case MACAULAY_DURATION:
+				return set (MACAULAY_DURATION, _bond.macaulayDurationFromYield (_valParams, _csqs, _vcp,
+					_dblWorkoutDate, _dblWorkoutFactor, node (YIELD)));
+
+			case CONVEXITY: {
+				double dblPrice = node (PRICE);
+
+				double dblYield = node (YIELD);
+
+				return set (CONVEXITY, (_bond.priceFromYield (_valParams, _csqs, _vcp, _dblWorkoutDate,
+					_dblWorkoutFactor, dblYield - 0.0001) + _bond.priceFromYield (_valParams, _csqs, _vcp,
+						_dblWorkoutDate, _dblWorkoutFactor, dblYield + 0.0001) - 2. * dblPrice) / (dblPrice +
+							_bond.accrued (_valParams.valueDate(), _csqs)));
+			}
+		}
+
+		throw new java.lang.Exception ("BondMeasureGraph::node => Invalid Node " + iNode);
+	}
+
+	/**
+	 * Retrieve the Work-out Date
+	 * 
+	 * @return The Work-out Date
+	 */
+
+	public double workoutDate()
+	{
+		return _dblWorkoutDate;
+	}
+
+	/**
+	 * Retrieve the Work-out Factor
+	 * 
+	 * @return The Work-out Factor
+	 */
+
+	public double workoutFactor()
+	{
+		return _dblWorkoutFactor;
+	}
+
+	/**
+	 * Retrieve the Number of Root Finds (Solver Invocations) the Graph has run so far
+	 * 
+	 * @return The Number of Root Finds
+	 */
+
+	public int rootFindCount()
+	{
+		return _iNumRootFind;
+	}
+
+	/**
+	 * Evaluate the Measure at the specified Node
+	 * 
+	 * @param iMeasure The Measure Node
+	 * 
+	 * @return The Measure Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Measure cannot be evaluated
+	 */
+
+	public double measure (
+		final int iMeasure)
+		throws java.lang.Exception
+	{
+		if (0 > iMeasure || iMeasure >= s_astrMeasure.length)
+			throw new java.lang.Exception ("BondMeasureGraph::measure => Invalid Measure " + iMeasure);
+
+		return node (iMeasure);
+	}
+
+	/**
+	 * Evaluate the Named Measure
+	 * 
+	 * @param strMeasure The Measure Name
+	 * 
+	 * @return The Measure Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Measure cannot be evaluated
+	 */
+
+	public double measure (
+		final java.lang.String strMeasure)
+		throws java.lang.Exception
+	{
+		return measure (Measure (strMeasure));
+	}
+
+	/**
+	 * Evaluate the Set of Named Measures. Measures that are not in the Graph, or that cannot be evaluated
+	 * 	(e.g., for want of a Curve), are left out of the Output.
+	 * 
+	 * @param setstrMeasure The Set of Measure Names
+	 * 
+	 * @return Map of the Measure Values
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> measures (
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		if (null == setstrMeasure) return null;
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasure = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+
+		for (java.lang.String strMeasure : setstrMeasure) {
+			int iMeasure = Measure (strMeasure);
+
+			if (-1 == iMeasure) continue;
+
+			try {
+				mapMeasure.put (strMeasure, node (iMeasure));
+			} catch (java.lang.Exception e) {
+			}
+		}
+
+		return mapMeasure;
+	}
+}
@@ -47,6 +47,68 @@ package org.drip.product.credit;
  */
 
 public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap {
+	private static final int ACCRUAL_DAYS = 0;
+	private static final int ACCRUED = 1;
+	private static final int ACCRUED01 = 2;
+	private static final int CLEAN_DV01 = 3;
+	private static final int CLEAN_PV = 4;
+	private static final int DV01 = 5;
+	private static final int DIRTY_DV01 = 6;
+	private static final int DIRTY_PV = 7;
+	private static final int EXP_LOSS = 8;
+	private static final int EXP_LOSS_NO_REC = 9;
+	private static final int FAIR_PREMIUM = 10;
+	private static final int LOSS_NO_REC_PV = 11;
+	private static final int LOSS_PV = 12;
+	private static final int PAR_SPREAD = 13;
+	private static final int PREMIUM_PV = 14;
+	private static final int PV = 15;
+	private static final int UPFRONT = 16;
+	private static final int CLEAN_PRICE = 17;
+	private static final int DIRTY_PRICE = 18;
+	private static final int LOSS_ON_INSTANTANEOUS_DEFAULT = 19;
+	private static final int PRICE = 20;
+	private static final int CALC_TIME = 21;
+
+	private static final java.lang.String[] s_astrBlockMeasure = new java.lang.String[] {"AccrualDays",
+		"Accrued", "Accrued01", "CleanDV01", "CleanPV", "DV01", "DirtyDV01", "DirtyPV", "ExpLoss",
+			"ExpLossNoRec", "FairPremium", "LossNoRecPV", "LossPV", "ParSpread", "PremiumPV", "PV", "Upfront",
+				"CleanPrice", "DirtyPrice", "LossOnInstantaneousDefault", "Price", "CalcTime"};
+
+	private static final java.lang.String[] s_astrMarketInputType = new java.lang.String[] {"Price",
+		"CleanPrice", "Upfront", "FairPremium", "PV", "CleanPV"};
+
+	/*
+	 * The Schema holds the Current (Market if available, else Fair) Block, the Fair Block, the Market
+	 * 	Block, the Market Credit Basis, and the Market Input Types, in that Order.
+	 */
+
+	private static final int BLOCK_SIZE = s_astrBlockMeasure.length;
+	private static final int CURRENT_BLOCK = 0;
+	private static final int FAIR_BLOCK = BLOCK_SIZE;
+	private static final int MARKET_BLOCK = 2 * BLOCK_SIZE;
+	private static final int MARKET_CREDIT_BASIS = 3 * BLOCK_SIZE;
+	private static final int MARKET_INPUT_TYPE = 3 * BLOCK_SIZE + 1;
+
+	private static final org.drip.analytics.output.MeasureSchema s_ms = CompileSchema();
+
+	private static final org.drip.analytics.output.MeasureSchema CompileSchema()
+	{
+		java.util.List<java.lang.String> lsstrName = new java.util.ArrayList<java.lang.String>();
+
+		for (java.lang.String strPrefix : new java.lang.String[] {"", "Fair", "Market"}) {
+			for (java.lang.String strMeasure : s_astrBlockMeasure)
+				lsstrName.add (strPrefix + strMeasure);
+		}
+
+		lsstrName.add ("MarketCreditBasis");
+
+		for (java.lang.String strInputType : s_astrMarketInputType)
+			lsstrName.add ("MarketInputType=" + strInputType);
+
+		return org.drip.analytics.output.MeasureSchema.FromNames (lsstrName);
+	}
+
 	private double _dblNotional = 100.;
 	private java.lang.String _strCode = "";
 	private java.lang.String _strName = "";
@@ -70,176 +132,222 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		return null;
 	}
 
-	private org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> measures (
-		final java.lang.String strMeasureSetPrefix,
-		final org.drip.param.valuation.ValuationParams valParams,
-		final org.drip.param.pricer.CreditPricerParams pricerParams,
-		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
-		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	private static final boolean SetMeasure (
+		final org.drip.analytics.output.MeasureVector mv,
+		final int iBlock,
+		final int iAliasBlock,
+		final int iSlot,
+		final double dblValue)
 	{
-		if (null == valParams || null == pricerParams || null == csqs) return null;
-
-		org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
+		mv.set (iBlock + iSlot, dblValue);
 
-		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
-
-		if (null == cc || null == dcFunding) return null;
+		return 0 > iAliasBlock || mv.set (iAliasBlock + iSlot, dblValue);
+	}
 
-		long lStart = System.nanoTime();
+	/*
+	 * Integrate the Premium and the Loss Legs over the Coupon Periods, and, if the Explicit Boot Credit Curve
+	 * 	is supplied, carry alongside each Leg its Sensitivity to the Node through the Survival
+	 * 	Probabilities. The Loss Period Discount Factors are held fixed, so under the Piecewise Constant
+	 * 	Discretization the Sensitivity is a (close) Quasi-Newton Slope.
+	 */
 
-		double dblLossPV = 0.;
-		double dblExpLoss = 0.;
-		double dblAccrued01 = 0.;
-		double dblDirtyDV01 = 0.;
-		double dblLossNoRecPV = 0.;
-		double dblExpLossNoRec = 0.;
+	private LegIntegral integrateLegs (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.analytics.definition.CreditCurve cc,
+		final org.drip.analytics.rates.DiscountCurve dcFunding,
+		final org.drip.analytics.definition.ExplicitBootCreditCurve ebcc,
+		final int iNodeIndex,
+		final boolean bFlat)
+		throws java.lang.Exception
+	{
 		boolean bFirstPeriod = true;
-		double dblCashPayDF = java.lang.Double.NaN;
-		double dblAccrualDays = java.lang.Double.NaN;
+		LegIntegral li = new LegIntegral();
 
 		double dblValueDate = valParams.valueDate();
 
-		try {
-			for (org.drip.analytics.cashflow.CompositePeriod period : _lsCouponPeriod) {
-				double dblPayDate = period.payDate();
+		for (org.drip.analytics.cashflow.CompositePeriod period : _lsCouponPeriod) {
+			double dblPayDate = period.payDate();
 
-				if (dblPayDate < dblValueDate) continue;
+			if (dblPayDate < dblValueDate) continue;
 
-				double dblEndDate = period.endDate();
+			double dblEndDate = period.endDate();
 
-				double dblStartDate = period.startDate();
+			double dblStartDate = period.startDate();
 
-				double dblPeriodNotional = notional (dblStartDate, dblValueDate);
+			double dblPeriodNotional = notional (dblStartDate, dblValueDate);
 
-				if (bFirstPeriod) {
-					dblAccrualDays = 0.;
-					bFirstPeriod = false;
+			if (bFirstPeriod) {
+				li._dblAccrualDays = 0.;
+				bFirstPeriod = false;
 
-					if (dblStartDate < dblValueDate) {
-						dblAccrualDays = dblValueDate - dblStartDate;
+				if (dblStartDate < dblValueDate) {
+					li._dblAccrualDays = dblValueDate - dblStartDate;
 
-						dblAccrued01 = period.accrualDCF (dblValueDate) * 0.01 * dblPeriodNotional;
-					}
+					li._dblAccrued01 = period.accrualDCF (dblValueDate) * 0.01 * dblPeriodNotional;
 				}
+			}
+
+			double dblSurvivalDate = pricerParams.survivalToPayDate() ? dblPayDate : dblEndDate;
+
+			double dblCouponAnnuity = 0.01 * period.couponDCF() * dcFunding.df (dblPayDate);
 
-				double dblSurvProb = pricerParams.survivalToPayDate() ? cc.survival (dblPayDate) :
-					cc.survival (dblEndDate);
+			li._dblDirtyDV01 += dblCouponAnnuity * cc.survival (dblSurvivalDate) * dblPeriodNotional;
 
-				dblDirtyDV01 += 0.01 * period.couponDCF() * dcFunding.df (dblPayDate) * dblSurvProb *
-					dblPeriodNotional;
+			if (null != ebcc)
+				li._dblDirtyDV01Sensitivity += dblCouponAnnuity * ebcc.survivalNodeSensitivity
+					(dblSurvivalDate, iNodeIndex, bFlat) * dblPeriodNotional;
 
-				for (org.drip.analytics.cashflow.LossQuadratureMetrics lp : period.lossMetrics (this,
-					valParams, pricerParams, dblEndDate, csqs)) {
-					if (null == lp) continue;
+			for (org.drip.analytics.cashflow.LossQuadratureMetrics lp : period.lossMetrics (this, valParams,
+				pricerParams, dblEndDate, csqs)) {
+				if (null == lp) continue;
 
-					double dblSubPeriodEnd = lp.end();
+				double dblSubPeriodEnd = lp.end();
 
-					double dblSubPeriodStart = lp.start();
+				double dblSubPeriodStart = lp.start();
 
-					double dblSubPeriodDF = dcFunding.effectiveDF (dblSubPeriodStart +
-						_crValParams.lossPayLag(), dblSubPeriodEnd + _crValParams.lossPayLag());
+				double dblSubPeriodDF = lp.effectiveDF();
 
-					double dblSubPeriodNotional = notional (dblSubPeriodStart, dblSubPeriodEnd);
+				double dblSubPeriodNotional = notional (dblSubPeriodStart, dblSubPeriodEnd);
 
-					double dblSubPeriodSurvival = cc.survival (dblSubPeriodStart) - cc.survival
-						(dblSubPeriodEnd);
+				double dblSubPeriodSurvival = lp.startSurvival() - lp.endSurvival();
 
-					double dblRec = _crValParams.useCurveRecovery() ? cc.effectiveRecovery (dblSubPeriodStart,
-						dblSubPeriodEnd) : _crValParams.recovery();
+				double dblRec = _crValParams.useCurveRecovery() ? cc.effectiveRecovery (dblSubPeriodStart,
+					dblSubPeriodEnd) : _crValParams.recovery();
 
-					double dblSubPeriodExpLoss = (1. - dblRec) * 100. * dblSubPeriodSurvival *
-						dblSubPeriodNotional;
-					double dblSubPeriodExpLossNoRec = 100. * dblSubPeriodSurvival * dblSubPeriodNotional;
-					dblLossPV += dblSubPeriodExpLoss * dblSubPeriodDF;
-					dblLossNoRecPV += dblSubPeriodExpLossNoRec * dblSubPeriodDF;
-					dblExpLoss += dblSubPeriodExpLoss;
-					dblExpLossNoRec += dblSubPeriodExpLossNoRec;
+				double dblSubPeriodExpLoss = (1. - dblRec) * 100. * dblSubPeriodSurvival *
+					dblSubPeriodNotional;
+				double dblSubPeriodExpLossNoRec = 100. * dblSubPeriodSurvival * dblSubPeriodNotional;
+				li._dblLossPV += dblSubPeriodExpLoss * dblSubPeriodDF;
+				li._dblLossNoRecPV += dblSubPeriodExpLossNoRec * dblSubPeriodDF;
+				li._dblExpLoss += dblSubPeriodExpLoss;
+				li._dblExpLossNoRec += dblSubPeriodExpLossNoRec;
+				li._dblDirtyDV01 += 0.01 * lp.accrualDCF() * dblSubPeriodSurvival * dblSubPeriodDF *
+					dblSubPeriodNotional;
 
-					dblDirtyDV01 += 0.01 * lp.accrualDCF() * dblSubPeriodSurvival * dblSubPeriodDF *
-						dblSubPeriodNotional;
+				if (null != ebcc) {
+					double dblSubPeriodSurvivalSensitivity = ebcc.survivalNodeSensitivity (dblSubPeriodStart,
+						iNodeIndex, bFlat) - ebcc.survivalNodeSensitivity (dblSubPeriodEnd, iNodeIndex,
+							bFlat);
+
+					li._dblLossPVSensitivity += (1. - dblRec) * 100. * dblSubPeriodNotional * dblSubPeriodDF
+						* dblSubPeriodSurvivalSensitivity;
+					li._dblDirtyDV01Sensitivity += 0.01 * lp.accrualDCF() * dblSubPeriodDF *
+						dblSubPeriodNotional * dblSubPeriodSurvivalSensitivity;
 				}
 			}
-		} catch (java.lang.Exception e) {
-			e.printStackTrace();
-
-			return null;
 		}
 
+		double dblCashPayDF = dcFunding.df (null == _settleParams ? valParams.cashPayDate() :
+			_settleParams.cashSettleDate (dblValueDate));
+
+		li._dblLossPV /= dblCashPayDF;
+		li._dblDirtyDV01 /= dblCashPayDF;
+		li._dblLossNoRecPV /= dblCashPayDF;
+		li._dblLossPVSensitivity /= dblCashPayDF;
+		li._dblDirtyDV01Sensitivity /= dblCashPayDF;
+		return li;
+	}
+
+	private boolean measures (
+		final org.drip.analytics.output.MeasureVector mv,
+		final int iBlock,
+		final int iAliasBlock,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		if (null == valParams || null == pricerParams || null == csqs) return false;
+
+		org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
+
+		if (null == cc || null == dcFunding) return false;
+
+		long lStart = System.nanoTime();
+
+		LegIntegral li = null;
+
+		double dblValueDate = valParams.valueDate();
+
 		try {
-			dblCashPayDF = dcFunding.df (null == _settleParams ? valParams.cashPayDate() :
-				_settleParams.cashSettleDate (dblValueDate));
+			li = integrateLegs (valParams, pricerParams, csqs, cc, dcFunding, null, -1, false);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
-			return null;
+			return false;
 		}
 
-		dblLossPV /= dblCashPayDF;
-		dblDirtyDV01 /= dblCashPayDF;
-		dblLossNoRecPV /= dblCashPayDF;
+		double dblLossPV = li._dblLossPV;
+		double dblExpLoss = li._dblExpLoss;
+		double dblAccrued01 = li._dblAccrued01;
+		double dblDirtyDV01 = li._dblDirtyDV01;
+		double dblLossNoRecPV = li._dblLossNoRecPV;
+		double dblAccrualDays = li._dblAccrualDays;
+		double dblExpLossNoRec = li._dblExpLossNoRec;
 		double dblNotlFactor = _dblNotional * 0.01;
 		double dblCleanDV01 = dblDirtyDV01 - dblAccrued01;
 		double dblCleanPV = dblCleanDV01 * 10000. * _dblCoupon - dblLossPV;
 		double dblDirtyPV = dblDirtyDV01 * 10000. * _dblCoupon - dblLossPV;
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapResult = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
+		SetMeasure (mv, iBlock, iAliasBlock, ACCRUAL_DAYS, dblAccrualDays);
 
-		mapResult.put (strMeasureSetPrefix + "AccrualDays", dblAccrualDays);
+		SetMeasure (mv, iBlock, iAliasBlock, ACCRUED, dblAccrued01 * _dblCoupon * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "Accrued", dblAccrued01 * _dblCoupon * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, ACCRUED01, dblAccrued01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "Accrued01", dblAccrued01 * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, CLEAN_DV01, dblCleanDV01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "CleanDV01", dblCleanDV01 * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, CLEAN_PV, dblCleanPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "CleanPV", dblCleanPV * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, DV01, dblDirtyDV01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "DV01", dblDirtyDV01 * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, DIRTY_DV01, dblDirtyDV01 * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "DirtyDV01", dblDirtyDV01 * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, DIRTY_PV, dblDirtyPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "DirtyPV", dblDirtyPV * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, EXP_LOSS, dblExpLoss * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "ExpLoss", dblExpLoss * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, EXP_LOSS_NO_REC, dblExpLossNoRec * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "ExpLossNoRec", dblExpLossNoRec * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, FAIR_PREMIUM, dblLossPV / dblCleanDV01);
 
-		mapResult.put (strMeasureSetPrefix + "FairPremium", dblLossPV / dblCleanDV01);
+		SetMeasure (mv, iBlock, iAliasBlock, LOSS_NO_REC_PV, dblLossNoRecPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "LossNoRecPV", dblLossNoRecPV * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, LOSS_PV, dblLossPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "LossPV", dblLossPV * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, PAR_SPREAD, dblLossPV / dblCleanDV01);
 
-		mapResult.put (strMeasureSetPrefix + "ParSpread", dblLossPV / dblCleanDV01);
+		SetMeasure (mv, iBlock, iAliasBlock, PREMIUM_PV, dblDirtyDV01 * _dblCoupon * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "PremiumPV", dblDirtyDV01 * _dblCoupon * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, PV, dblDirtyPV * dblNotlFactor);
 
-		mapResult.put (strMeasureSetPrefix + "PV", dblDirtyPV * dblNotlFactor);
-
-		mapResult.put (strMeasureSetPrefix + "Upfront", dblCleanPV * dblNotlFactor);
+		SetMeasure (mv, iBlock, iAliasBlock, UPFRONT, dblCleanPV * dblNotlFactor);
 
 		try {
 			double dblValueNotional = notional (dblValueDate);
 
-			mapResult.put (strMeasureSetPrefix + "CleanPrice", 100. * (1. + (dblCleanPV / _dblNotional /
+			SetMeasure (mv, iBlock, iAliasBlock, CLEAN_PRICE, 100. * (1. + (dblCleanPV / _dblNotional /
 				dblValueNotional)));
 
-			mapResult.put (strMeasureSetPrefix + "DirtyPrice", 100. * (1. + (dblDirtyPV / _dblNotional /
+			SetMeasure (mv, iBlock, iAliasBlock, DIRTY_PRICE, 100. * (1. + (dblDirtyPV / _dblNotional /
 				dblValueNotional)));
 
-			mapResult.put (strMeasureSetPrefix + "LossOnInstantaneousDefault", _dblNotional * (1. -
+			SetMeasure (mv, iBlock, iAliasBlock, LOSS_ON_INSTANTANEOUS_DEFAULT, _dblNotional * (1. -
 				cc.recovery (dblValueDate)));
 
-			mapResult.put (strMeasureSetPrefix + "Price", 100. * (1. + (dblCleanPV / _dblNotional /
+			SetMeasure (mv, iBlock, iAliasBlock, PRICE, 100. * (1. + (dblCleanPV / _dblNotional /
 				dblValueNotional)));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
 
-		mapResult.put (strMeasureSetPrefix + "CalcTime", (System.nanoTime() - lStart) * 1.e-09);
+		SetMeasure (mv, iBlock, iAliasBlock, CALC_TIME, (System.nanoTime() - lStart) * 1.e-09);
 
-		return mapResult;
+		return true;
 	}
 
 	private org.drip.quant.calculus.WengertJacobian calcPeriodOnDefaultPVDFMicroJack (
@@ -691,49 +799,55 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		return sLP;
 	}
 
+	@Override public org.drip.analytics.output.MeasureSchema measureSchema()
+	{
+		return s_ms;
+	}
+
 	@Override public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
 	{
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapFairMeasures = measures ("",
-			valParams, pricerParams, csqs, vcp);
+		org.drip.analytics.output.MeasureVector mv = s_ms.vector();
+
+		return value (valParams, pricerParams, csqs, vcp, mv) ? mv.toTreeMap() : null;
+	}
+
+	@Override public boolean value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.analytics.output.MeasureVector mv)
+	{
+		if (null == mv || s_ms != mv.schema()) return false;
 
-		if (null == mapFairMeasures) return null;
+		mv.reset();
 
-		org.drip.quant.common.CollectionUtil.MergeWithMain (mapFairMeasures,
-			org.drip.quant.common.CollectionUtil.PrefixKeys (mapFairMeasures, "Fair"));
+		if (!measures (mv, CURRENT_BLOCK, FAIR_BLOCK, valParams, pricerParams, csqs, vcp)) return false;
 
 		java.lang.String strName = name();
 
 		org.drip.param.definition.ProductQuote cq = csqs.productQuote (strName);
 
-		if ((null != pricerParams && null != pricerParams.calibParams()) || null == mapFairMeasures || null
-			== cq)
-			return mapFairMeasures;
+		if ((null != pricerParams && null != pricerParams.calibParams()) || null == cq || !mv.requested
+			(CURRENT_BLOCK, FAIR_BLOCK) && !mv.requested (MARKET_BLOCK, s_ms.size()))
+			return true;
 
 		double dblCreditBasis = java.lang.Double.NaN;
 		double dblMarketMeasure = java.lang.Double.NaN;
 		org.drip.analytics.definition.CreditCurve ccMarket = null;
 
-		if (cq.containsQuote ("Price"))
-			mapFairMeasures.put ("MarketInputType=Price", dblMarketMeasure = cq.quote ("Price").value
-				("mid"));
-		else if (cq.containsQuote ("CleanPrice"))
-			mapFairMeasures.put ("MarketInputType=CleanPrice", dblMarketMeasure = cq.quote
-				("CleanPrice").value ("mid"));
-		else if (cq.containsQuote ("Upfront"))
-			mapFairMeasures.put ("MarketInputType=Upfront", dblMarketMeasure = cq.quote ("Upfront").value
-				("mid"));
-		else if (cq.containsQuote ("FairPremium"))
-			mapFairMeasures.put ("MarketInputType=FairPremium", dblMarketMeasure = cq.quote
-				("FairPremium").value ("mid"));
-		else if (cq.containsQuote ("PV"))
-			mapFairMeasures.put ("MarketInputType=PV", dblMarketMeasure = cq.quote ("PV").value ("mid"));
-		else if (cq.containsQuote ("CleanPV"))
-			mapFairMeasures.put ("MarketInputType=CleanPV", dblMarketMeasure = cq.quote ("CleanPV").value
-				("mid"));
+		for (int i = 0; i < s_astrMarketInputType.length; ++i) {
+			if (cq.containsQuote (s_astrMarketInputType[i])) {
+				mv.set (MARKET_INPUT_TYPE + i, dblMarketMeasure = cq.quote (s_astrMarketInputType[i]).value
+					("mid"));
+
+				break;
+			}
+		}
 
 		try {
 			SpreadCalibOP scop = new SpreadCalibrator (this,
@@ -752,7 +866,7 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		}
 
 		if (org.drip.quant.common.NumberUtil.IsValid (dblCreditBasis)) {
-			mapFairMeasures.put ("MarketCreditBasis", dblCreditBasis);
+			mv.set (MARKET_CREDIT_BASIS, dblCreditBasis);
 
 			org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
 
@@ -766,28 +880,65 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 			}
 		}
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = mapFairMeasures;
-
 		if (null != ccMarket) {
 			org.drip.param.market.CurveSurfaceQuoteSet csqsMarket =
 				org.drip.param.creator.MarketParamsBuilder.Create (csqs.fundingCurve (fundingLabel()),
 					csqs.govvieCurve (org.drip.state.identifier.GovvieLabel.Standard (payCurrency())),
 						ccMarket, strName, csqs.productQuote (strName), csqs.quoteMap(), csqs.fixings());
 
-			if (null != csqsMarket) {
-				org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMarketMeasures =
-					measures ("", valParams, pricerParams, csqsMarket, vcp);
+			if (null != csqsMarket)
+				measures (mv, CURRENT_BLOCK, MARKET_BLOCK, valParams, pricerParams, csqsMarket, vcp);
+		}
 
-				if (null != mapMarketMeasures) {
-					org.drip.quant.common.CollectionUtil.MergeWithMain (mapMarketMeasures,
-						org.drip.quant.common.CollectionUtil.PrefixKeys (mapMarketMeasures, "Market"));
+		return true;
+	}
 
-					org.drip.quant.common.CollectionUtil.MergeWithMain (mapMeasures, mapMarketMeasures);
-				}
-			}
-		}
+	@Override public org.drip.analytics.output.CalibrationObjective calibObjective (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.lang.String strMeasure,
+		final int iNodeIndex,
+		final boolean bFlat)
+		throws java.lang.Exception
+	{
+		boolean bParSpread = "FairPremium".equalsIgnoreCase (strMeasure) || "ParSpread".equalsIgnoreCase
+			(strMeasure);
+		boolean bCleanPV = "Upfront".equalsIgnoreCase (strMeasure) || "CleanPV".equalsIgnoreCase
+			(strMeasure);
+		boolean bDirtyPV = "PV".equalsIgnoreCase (strMeasure) || "DirtyPV".equalsIgnoreCase (strMeasure);
+
+		if ((!bParSpread && !bCleanPV && !bDirtyPV) || null == valParams || null == pricerParams || null ==
+			csqs)
+			return super.calibObjective (valParams, pricerParams, csqs, vcp, strMeasure, iNodeIndex, bFlat);
+
+		org.drip.analytics.definition.CreditCurve cc = csqs.creditCurve (creditLabel());
+
+		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
+
+		if (!(cc instanceof org.drip.analytics.definition.ExplicitBootCreditCurve) || null == dcFunding)
+			return super.calibObjective (valParams, pricerParams, csqs, vcp, strMeasure, iNodeIndex, bFlat);
+
+		LegIntegral li = integrateLegs (valParams, pricerParams, csqs, cc, dcFunding,
+			(org.drip.analytics.definition.ExplicitBootCreditCurve) cc, iNodeIndex, bFlat);
+
+		double dblLossPV = li._dblLossPV;
+		double dblDirtyDV01 = li._dblDirtyDV01;
+		double dblLossPVSensitivity = li._dblLossPVSensitivity;
+		double dblCleanDV01 = dblDirtyDV01 - li._dblAccrued01;
+		double dblDirtyDV01Sensitivity = li._dblDirtyDV01Sensitivity;
+
+		if (bParSpread)
+			return new org.drip.analytics.output.CalibrationObjective (dblLossPV / dblCleanDV01,
+				(dblLossPVSensitivity * dblCleanDV01 - dblLossPV * dblDirtyDV01Sensitivity) / (dblCleanDV01
+					* dblCleanDV01));
 
-		return mapMeasures;
+		double dblNotlFactor = _dblNotional * 0.01;
+
+		return new org.drip.analytics.output.CalibrationObjective (((bCleanPV ? dblCleanDV01 :
+			dblDirtyDV01) * 10000. * _dblCoupon - dblLossPV) * dblNotlFactor, (dblDirtyDV01Sensitivity *
+				10000. * _dblCoupon - dblLossPVSensitivity) * dblNotlFactor);
 	}
 
 	@Override public java.util.Set<java.lang.String> measureNames()
@@ -1014,14 +1165,23 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 
 		if (null == cc || null == dc) return null;
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = value (valParams,
-			pricerParams, csqs, vcp);
+		double dblPV = java.lang.Double.NaN;
+		double dblFairPremium = java.lang.Double.NaN;
 
-		if (null == mapMeasures) return null;
+		try {
+			org.drip.analytics.output.MeasureVector mv = s_ms.vector (new java.util.HashSet<java.lang.String>
+				(java.util.Arrays.asList ("PV", "FairPremium")));
 
-		double dblPV = mapMeasures.get ("PV");
+			if (!value (valParams, pricerParams, csqs, vcp, mv)) return null;
 
-		double dblFairPremium = mapMeasures.get ("FairPremium");
+			dblPV = mv.value (CURRENT_BLOCK + PV);
+
+			dblFairPremium = mv.value (CURRENT_BLOCK + FAIR_PREMIUM);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
 
 		try {
 			org.drip.quant.calculus.WengertJacobian wjPVDFMicroJack = null;
@@ -1084,14 +1244,14 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 
 		if ("Rate".equalsIgnoreCase (strManifestMeasure) || "FairPremium".equalsIgnoreCase
 			(strManifestMeasure) || "ParSpread".equalsIgnoreCase (strManifestMeasure)) {
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapMeasures = value
-				(valParams, pricerParams, csqs, vcp);
-
-			if (null == mapMeasures) return null;
+			org.drip.analytics.output.MeasureVector mv = s_ms.vector
+				(java.util.Collections.singleton ("FairPremium"));
 
-			double dblFairPremium = mapMeasures.get ("FairPremium");
+			if (!value (valParams, pricerParams, csqs, vcp, mv)) return null;
 
 			try {
+				double dblFairPremium = mv.value (CURRENT_BLOCK + FAIR_PREMIUM);
+
 				double dblDV01 = 0.;
 				org.drip.quant.calculus.WengertJacobian wjFairPremiumDFMicroJack = null;
 
@@ -1327,6 +1487,18 @@ public class CDSComponent extends org.drip.product.definition.CreditDefaultSwap
 		}
 	}
 
+	class LegIntegral {
+		double _dblLossPV = 0.;
+		double _dblExpLoss = 0.;
+		double _dblAccrued01 = 0.;
+		double _dblDirtyDV01 = 0.;
+		double _dblLossNoRecPV = 0.;
+		double _dblExpLossNoRec = 0.;
+		double _dblLossPVSensitivity = 0.;
+		double _dblDirtyDV01Sensitivity = 0.;
+		double _dblAccrualDays = java.lang.Double.NaN;
+	}
+
 	class PeriodLossMicroJack {
 		double _dblAccrOnDef01 = 0.;
 		org.drip.quant.calculus.WengertJacobian _wjLossPVMicroJack = null;
@@ -182,70 +182,238 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 		return new FlatDeltaGammaMeasureMap (mapDeltaMeasures, mapGammaMeasures);
 	}
 
-	private TenorDeltaGammaMeasureMap accumulateTenorDeltaGammaMeasures (
+	private FlatDeltaGammaMeasureMap accumulateComponentDeltaGammaMeasures (
 		final org.drip.param.valuation.ValuationParams valParams,
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
-		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-			mapTenorUpCSQS,
-		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-			mapTenorDownCSQS,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqsTenorUp,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqsTenorDown,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp,
 		final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapBaseMeasures,
 		final ComponentCurve compCurve)
 	{
-		if (null == mapTenorUpCSQS || 0 == mapTenorUpCSQS.size()) return null;
+		org.drip.analytics.definition.CreditCurve ccVirginUp = null;
+		org.drip.analytics.definition.CreditCurve ccVirginDown = null;
 
-		java.util.Set<java.util.Map.Entry<java.lang.String, org.drip.param.market.CurveSurfaceQuoteSet>>
-			mapESTenorUpCSQS = mapTenorUpCSQS.entrySet();
+		if (null != csqsTenorUp && null != compCurve && null != compCurve._cc && null != compCurve._strName &&
+			!compCurve._strName.isEmpty()) {
+			ccVirginUp = csqsTenorUp.creditCurve (org.drip.state.identifier.CreditLabel.Standard
+				(compCurve._strName));
 
-		if (null == mapESTenorUpCSQS || 0 == mapESTenorUpCSQS.size()) return null;
+			csqsTenorUp.setCreditCurve (compCurve._cc);
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<FlatDeltaGammaMeasureMap> mapTenorDGMM = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<FlatDeltaGammaMeasureMap>();
+			if (null != csqsTenorDown) {
+				ccVirginDown = csqsTenorDown.creditCurve (org.drip.state.identifier.CreditLabel.Standard
+					(compCurve._strName));
 
-		for (java.util.Map.Entry<java.lang.String, org.drip.param.market.CurveSurfaceQuoteSet> meTenorUpCSQS
-			: mapESTenorUpCSQS) {
-			if (null == meTenorUpCSQS) continue;
+				csqsTenorDown.setCreditCurve (compCurve._cc);
+			}
+		}
 
-			java.lang.String strTenorKey = meTenorUpCSQS.getKey();
+		FlatDeltaGammaMeasureMap dgmm = accumulateDeltaGammaMeasures (valParams, pricerParams, csqsTenorUp,
+			csqsTenorDown, vcp, mapBaseMeasures);
 
-			if (null == strTenorKey || strTenorKey.isEmpty()) continue;
+		if (null != csqsTenorUp && null != compCurve && null != compCurve._strName &&
+			!compCurve._strName.isEmpty() && null != ccVirginUp)
+			csqsTenorUp.setCreditCurve (ccVirginUp);
 
-			org.drip.param.market.CurveSurfaceQuoteSet csqsTenorUp = meTenorUpCSQS.getValue();
+		if (null != csqsTenorDown && null != compCurve && null != compCurve._strName &&
+			!compCurve._strName.isEmpty() && null != ccVirginDown)
+			csqsTenorDown.setCreditCurve (ccVirginDown);
 
-			org.drip.param.market.CurveSurfaceQuoteSet csqsTenorDown = mapTenorDownCSQS.get (strTenorKey);
+		return dgmm;
+	}
 
-			org.drip.analytics.definition.CreditCurve ccVirginUp = null;
-			org.drip.analytics.definition.CreditCurve ccVirginDown = null;
+	/*
+	 * ScenarioRiskExecutor lays the Scenario Re-valuations out as a Two-Level Task Graph - the Base Valuation
+	 * 	first, and then one independent Task per Flat Scenario and per Tenor Key. Every Task builds its own
+	 * 	Up/Down Quote Sets inside compute(), so the Scenario Set Construction is spread over the Pool too. A
+	 * 	Tenor Task runs the plain Tenor Bump followed by the Component-wise Credit Curve Swaps on its Quote
+	 * 	Sets, so the Swaps never race. The Results are merged in the Key Order of the Scenario Maps, so the
+	 * 	Output does not depend on the Scheduling. A Task that fails holds on to its Exception, and every failed Scenario is reported by
+	 * 	Name once the Graph has run.
+	 */
 
-			if (null != csqsTenorUp && null != compCurve && null != compCurve._cc && null !=
-				compCurve._strName && !compCurve._strName.isEmpty()) {
-				ccVirginUp = csqsTenorUp.creditCurve (org.drip.state.identifier.CreditLabel.Standard
-					(compCurve._strName));
+	class ScenarioRiskExecutor {
+		org.drip.param.valuation.ValuationParams _valParams = null;
+		org.drip.param.pricer.CreditPricerParams _pricerParams = null;
+		org.drip.param.definition.ScenarioMarketParams _mpc = null;
+		org.drip.param.valuation.ValuationCustomizationParams _vcp = null;
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> _mapBaseMeasures = null;
+		java.util.List<ScenarioTask> _lsTask = new java.util.ArrayList<ScenarioTask>();
+
+		class ScenarioTask extends java.util.concurrent.RecursiveAction {
+			private static final long serialVersionUID = 1L;
+
+			java.lang.String _strTenorKey = null;
+			java.lang.String _strScenarioUp = null;
+			java.lang.String _strTenorFamily = null;
+			java.lang.String _strScenarioName = null;
+			java.lang.Exception _eFailure = null;
+			java.lang.String _strScenarioDown = null;
+			ComponentCurve[] _aCompCurve = null;
+			FlatDeltaGammaMeasureMap _dgmm = null;
+			FlatDeltaGammaMeasureMap[] _aDGMMComponent = null;
+			org.drip.param.market.CurveSurfaceQuoteSet _csqsUp = null;
+			org.drip.param.market.CurveSurfaceQuoteSet _csqsDown = null;
+
+			ScenarioTask (
+				final java.lang.String strScenarioName,
+				final java.lang.String strScenarioUp,
+				final java.lang.String strScenarioDown,
+				final java.lang.String strTenorFamily,
+				final java.lang.String strTenorKey,
+				final ComponentCurve[] aCompCurve)
+			{
+				_aCompCurve = aCompCurve;
+				_strTenorKey = strTenorKey;
+				_strTenorFamily = strTenorFamily;
+				_strScenarioUp = strScenarioUp;
+				_strScenarioDown = strScenarioDown;
+				_strScenarioName = strScenarioName;
+				_aDGMMComponent = new FlatDeltaGammaMeasureMap[null == aCompCurve ? 0 : aCompCurve.length];
+			}
+
+			private org.drip.param.market.CurveSurfaceQuoteSet tenorMarketParams (
+				final boolean bBump)
+			{
+				if ("IR".equals (_strTenorFamily))
+					return _mpc.fundingFlatBump (BasketProduct.this, _strTenorKey, bBump);
+
+				if ("Credit".equals (_strTenorFamily))
+					return _mpc.creditFlatBump (BasketProduct.this, _strTenorKey, bBump);
 
-				csqsTenorUp.setCreditCurve (compCurve._cc);
+				return _mpc.recoveryFlatBump (BasketProduct.this, _strTenorKey, bBump);
+			}
+
+			@Override protected void compute()
+			{
+				try {
+					if (null != _strScenarioUp) {
+						_csqsUp = _mpc.scenarioMarketParams (BasketProduct.this, _strScenarioUp);
+
+						_csqsDown = _mpc.scenarioMarketParams (BasketProduct.this, _strScenarioDown);
+					} else {
+						_csqsUp = tenorMarketParams (true);
 
-				if (null != csqsTenorDown) {
-					ccVirginDown = csqsTenorDown.creditCurve (org.drip.state.identifier.CreditLabel.Standard
-						(compCurve._strName));
+						_csqsDown = tenorMarketParams (false);
+					}
 
-					csqsTenorDown.setCreditCurve (compCurve._cc);
+					_dgmm = accumulateDeltaGammaMeasures (_valParams, _pricerParams, _csqsUp, _csqsDown,
+						_vcp, _mapBaseMeasures);
+
+					for (int i = 0; i < _aDGMMComponent.length; ++i)
+						_aDGMMComponent[i] = accumulateComponentDeltaGammaMeasures (_valParams,
+							_pricerParams, _csqsUp, _csqsDown, _vcp, _mapBaseMeasures, _aCompCurve[i]);
+				} catch (java.lang.Exception e) {
+					_eFailure = e;
 				}
 			}
+		}
+
+		class ScenarioGraph extends java.util.concurrent.RecursiveAction {
+			private static final long serialVersionUID = 1L;
+
+			@Override protected void compute()
+			{
+				invokeAll (_lsTask);
+			}
+		}
+
+		ScenarioRiskExecutor (
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.pricer.CreditPricerParams pricerParams,
+			final org.drip.param.definition.ScenarioMarketParams mpc,
+			final org.drip.param.valuation.ValuationCustomizationParams vcp,
+			final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapBaseMeasures)
+		{
+			_mpc = mpc;
+			_vcp = vcp;
+			_valParams = valParams;
+			_pricerParams = pricerParams;
+			_mapBaseMeasures = mapBaseMeasures;
+		}
+
+		ScenarioTask flatScenario (
+			final java.lang.String strScenarioUp,
+			final java.lang.String strScenarioDown)
+		{
+			ScenarioTask st = new ScenarioTask (strScenarioUp + "/" + strScenarioDown, strScenarioUp,
+				strScenarioDown, null, null, null);
+
+			_lsTask.add (st);
+
+			return st;
+		}
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<ScenarioTask> tenorScenario (
+			final java.lang.String strScenarioFamily,
+			final java.util.Set<java.lang.String> setTenorKey,
+			final ComponentCurve[] aCompCurve)
+		{
+			if (null == setTenorKey || 0 == setTenorKey.size()) return null;
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<ScenarioTask> mapTask = new
+				org.drip.analytics.support.CaseInsensitiveTreeMap<ScenarioTask>();
+
+			for (java.lang.String strTenorKey : setTenorKey) {
+				if (null == strTenorKey || strTenorKey.isEmpty()) continue;
+
+				ScenarioTask st = new ScenarioTask (strScenarioFamily + "::" + strTenorKey, null, null,
+					strScenarioFamily, strTenorKey, aCompCurve);
+
+				mapTask.put (strTenorKey, st);
+
+				_lsTask.add (st);
+			}
+
+			return 0 == mapTask.size() ? null : mapTask;
+		}
+
+		boolean failed()
+		{
+			boolean bFailed = false;
+
+			for (ScenarioTask st : _lsTask) {
+				if (null == st._eFailure) continue;
+
+				System.out.println ("BasketProduct::ScenarioRiskExecutor::run => Scenario " +
+					st._strScenarioName + " failed: " + st._eFailure);
+
+				st._eFailure.printStackTrace();
+
+				bFailed = true;
+			}
+
+			return bFailed;
+		}
+
+		boolean run (
+			final java.util.concurrent.ForkJoinPool fjp)
+		{
+			if (null == fjp) {
+				for (ScenarioTask st : _lsTask)
+					st.invoke();
+
+				return !failed();
+			}
 
-			mapTenorDGMM.put (strTenorKey, accumulateDeltaGammaMeasures (valParams, pricerParams,
-				csqsTenorUp, csqsTenorDown, vcp, mapBaseMeasures));
+			try {
+				fjp.invoke (new ScenarioGraph());
 
-			if (null != csqsTenorUp && null != compCurve && null != compCurve._strName &&
-				!compCurve._strName.isEmpty() && null != ccVirginUp)
-				csqsTenorUp.setCreditCurve (ccVirginUp);
+				return !failed();
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
 
-			if (null != csqsTenorDown && null != compCurve && null != compCurve._strName &&
-				!compCurve._strName.isEmpty() && null != ccVirginDown)
-				csqsTenorDown.setCreditCurve (ccVirginDown);
+			return false;
 		}
+	}
 
-		if (0 == mapTenorDGMM.size()) return null;
+	private TenorDeltaGammaMeasureMap tenorDeltaGammaMeasures (
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<ScenarioRiskExecutor.ScenarioTask> mapTask,
+		final int iComponent)
+	{
+		if (null == mapTask) return null;
 
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>
 			mmDelta = new
@@ -255,14 +423,14 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 			mmGamma = new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>();
 
-		for (java.util.Map.Entry<java.lang.String, FlatDeltaGammaMeasureMap> meTenorDGMM :
-			mapTenorDGMM.entrySet()) {
-			if (null == meTenorDGMM) continue;
+		for (java.util.Map.Entry<java.lang.String, ScenarioRiskExecutor.ScenarioTask> meTask :
+			mapTask.entrySet()) {
+			ScenarioRiskExecutor.ScenarioTask st = meTask.getValue();
 
-			FlatDeltaGammaMeasureMap dgmmTenorDelta = meTenorDGMM.getValue();
+			FlatDeltaGammaMeasureMap dgmmTenorDelta = 0 > iComponent ? st._dgmm : st._aDGMMComponent[iComponent];
 
 			if (null != dgmmTenorDelta) {
-				java.lang.String strKey = meTenorDGMM.getKey();
+				java.lang.String strKey = meTask.getKey();
 
 				mmDelta.put (strKey, dgmmTenorDelta._mapDelta);
 
@@ -273,46 +441,11 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 		return new TenorDeltaGammaMeasureMap (mmDelta, mmGamma);
 	}
 
-	private ComponentFactorTenorDeltaGammaMeasureMap accumulateComponentWiseTenorDeltaGammaMeasures (
-		final org.drip.param.valuation.ValuationParams valParams,
-		final org.drip.param.pricer.CreditPricerParams pricerParams,
-		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-			mapCSQS,
-		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-			mapTenorUpCSQS,
-		final org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-			mapTenorDownCSQS,
-		final org.drip.param.valuation.ValuationCustomizationParams vcp,
-		final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapBaseMeasures)
+	private ComponentFactorTenorDeltaGammaMeasureMap componentWiseTenorDeltaGammaMeasures (
+		final java.lang.String[] astrComponentName,
+		final org.drip.analytics.support.CaseInsensitiveTreeMap<ScenarioRiskExecutor.ScenarioTask> mapTask)
 	{
-		if (null == mapCSQS || 0 == mapCSQS.size()) return null;
-
-		java.util.Set<java.util.Map.Entry<java.lang.String, org.drip.param.market.CurveSurfaceQuoteSet>>
-			mapESCSQS = mapCSQS.entrySet();
-
-		if (null == mapESCSQS || 0 == mapESCSQS.size()) return null;
-
-		org.drip.analytics.support.CaseInsensitiveTreeMap<TenorDeltaGammaMeasureMap> mapComponentTenorDGMM =
-			new org.drip.analytics.support.CaseInsensitiveTreeMap<TenorDeltaGammaMeasureMap>();
-
-		for (java.util.Map.Entry<java.lang.String, org.drip.param.market.CurveSurfaceQuoteSet> meCSQS :
-			mapESCSQS) {
-			if (null == meCSQS) continue;
-
-			java.lang.String strComponentName = meCSQS.getKey();
-
-			if (null == strComponentName || strComponentName.isEmpty()) continue;
-
-			org.drip.param.market.CurveSurfaceQuoteSet csqs = meCSQS.getValue();
-
-			if (null != csqs)
-				mapComponentTenorDGMM.put (strComponentName, accumulateTenorDeltaGammaMeasures (valParams,
-					pricerParams, mapTenorUpCSQS, mapTenorDownCSQS, vcp, mapBaseMeasures, new ComponentCurve
-						(strComponentName, csqs.creditCurve (org.drip.state.identifier.CreditLabel.Standard
-							(strComponentName)))));
-		}
-
-		if (0 == mapComponentTenorDGMM.size()) return null;
+		if (null == astrComponentName || 0 == astrComponentName.length) return null;
 
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>>
 			mmmCompRatesDelta = new
@@ -322,18 +455,13 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 			mmmCompRatesGamma = new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>>>();
 
-		for (java.util.Map.Entry<java.lang.String, TenorDeltaGammaMeasureMap> meCompTenorDGMM :
-			mapComponentTenorDGMM.entrySet()) {
-			if (null == meCompTenorDGMM) continue;
-
-			TenorDeltaGammaMeasureMap dgmmCompTenorDeltaGamma = meCompTenorDGMM.getValue();
+		for (int i = 0; i < astrComponentName.length; ++i) {
+			TenorDeltaGammaMeasureMap dgmmCompTenorDeltaGamma = tenorDeltaGammaMeasures (mapTask, i);
 
 			if (null != dgmmCompTenorDeltaGamma) {
-				java.lang.String strKey = meCompTenorDGMM.getKey();
+				mmmCompRatesDelta.put (astrComponentName[i], dgmmCompTenorDeltaGamma._mmDelta);
 
-				mmmCompRatesDelta.put (strKey, dgmmCompTenorDeltaGamma._mmDelta);
-
-				mmmCompRatesGamma.put (strKey, dgmmCompTenorDeltaGamma._mmGamma);
+				mmmCompRatesGamma.put (astrComponentName[i], dgmmCompTenorDeltaGamma._mmGamma);
 			}
 		}
 
@@ -986,6 +1114,67 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 		final org.drip.param.pricer.CreditPricerParams pricerParams,
 		final org.drip.param.definition.ScenarioMarketParams mpc,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
+	{
+		return measures (valParams, pricerParams, mpc, vcp,
+			java.lang.Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Generate a full list of the basket product measures for the set of scenario market parameters present
+	 * 	in the org.drip.param.definition.MarketParams, re-valuing the Scenarios concurrently. The Base is
+	 * 	valued first; each Flat Scenario and each Tenor Key (together with its Component-wise Credit Curve
+	 * 	Swaps) is then an independent Task. The Results do not depend on the Parallelism.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param mpc org.drip.param.definition.MarketParams
+	 * @param vcp Valuation Customization Parameters
+	 * @param iParallelism Maximum Number of Concurrent Scenario Re-valuations (1 => run in the caller)
+	 * 
+	 * @return BasketOutput object
+	 */
+
+	public org.drip.analytics.output.BasketMeasures measures (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final int iParallelism)
+	{
+		if (0 >= iParallelism) return null;
+
+		if (1 == iParallelism)
+			return measures (valParams, pricerParams, mpc, vcp, (java.util.concurrent.ForkJoinPool) null);
+
+		java.util.concurrent.ForkJoinPool fjp = new java.util.concurrent.ForkJoinPool (iParallelism);
+
+		try {
+			return measures (valParams, pricerParams, mpc, vcp, fjp);
+		} finally {
+			fjp.shutdown();
+		}
+	}
+
+	/**
+	 * Generate a full list of the basket product measures for the set of scenario market parameters present
+	 * 	in the org.drip.param.definition.MarketParams, re-valuing the Scenarios on the supplied Fork/Join
+	 * 	Pool. The Pool is left running, so it may be shared across Calls and Baskets.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param mpc org.drip.param.definition.MarketParams
+	 * @param vcp Valuation Customization Parameters
+	 * @param fjp The Fork/Join Pool the Scenario Re-valuations run on (NULL => run in the caller)
+	 * 
+	 * @return BasketOutput object
+	 */
+
+	public org.drip.analytics.output.BasketMeasures measures (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.concurrent.ForkJoinPool fjp)
 	{
 		if (null == valParams || null == mpc) return null;
 
@@ -997,35 +1186,77 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 			vcp)))
 			return null;
 
-		FlatDeltaGammaMeasureMap dgmmCredit = accumulateDeltaGammaMeasures (valParams, pricerParams,
-			mpc.scenarioMarketParams (this, "FlatCreditBumpUp"), mpc.scenarioMarketParams (this, "FlatCreditBumpDn"),
-				vcp, bkop.baseMeasures());
+		ScenarioRiskExecutor sre = new ScenarioRiskExecutor (valParams, pricerParams, mpc, vcp,
+			bkop.baseMeasures());
+
+		ScenarioRiskExecutor.ScenarioTask stCredit = sre.flatScenario ("FlatCreditBumpUp",
+			"FlatCreditBumpDn");
+
+		ScenarioRiskExecutor.ScenarioTask stRates = sre.flatScenario ("FlatIRBumpUp", "FlatIRBumpDn");
+
+		ScenarioRiskExecutor.ScenarioTask stRecovery = sre.flatScenario ("FlatRRBumpUp", "FlatRRBumpDn");
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.definition.ScenarioDiscountCurve>
+			mapSDC = mpc.scenarioDiscountCurveMap();
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.definition.ScenarioCreditCurve>
+			mapSCC = mpc.scenarioCreditCurveMap();
+
+		java.util.List<java.lang.String> lsComponentName = new java.util.ArrayList<java.lang.String>();
+
+		java.util.List<ComponentCurve> lsCompCurve = new java.util.ArrayList<ComponentCurve>();
+
+		if (null != mapSCC) {
+			for (java.util.Map.Entry<java.lang.String, org.drip.param.definition.ScenarioCreditCurve> meSCC :
+				mapSCC.entrySet()) {
+				if (null == meSCC) continue;
+
+				java.lang.String strComponentName = meSCC.getKey();
+
+				org.drip.param.definition.ScenarioCreditCurve scc = meSCC.getValue();
+
+				if (null == strComponentName || strComponentName.isEmpty() || null == scc) continue;
+
+				lsComponentName.add (strComponentName);
+
+				lsCompCurve.add (new ComponentCurve (strComponentName, scc.bumpUp()));
+			}
+		}
+
+		java.lang.String[] astrComponentName = lsComponentName.toArray (new
+			java.lang.String[lsComponentName.size()]);
+
+		ComponentCurve[] aCompCurve = lsCompCurve.toArray (new ComponentCurve[lsCompCurve.size()]);
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<ScenarioRiskExecutor.ScenarioTask> mapIRTenorTask =
+			sre.tenorScenario ("IR", null == mapSDC ? null : mapSDC.keySet(), aCompCurve);
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<ScenarioRiskExecutor.ScenarioTask>
+			mapCreditTenorTask = sre.tenorScenario ("Credit", null == mapSCC ? null : mapSCC.keySet(),
+				aCompCurve);
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<ScenarioRiskExecutor.ScenarioTask>
+			mapRecoveryTenorTask = sre.tenorScenario ("Recovery", null == mapSCC ? null : mapSCC.keySet(),
+				null);
+
+		if (!sre.run (fjp)) return null;
+
+		FlatDeltaGammaMeasureMap dgmmCredit = stCredit._dgmm;
 
 		if (null != dgmmCredit && !bkop.setFlatCreditDeltaMeasures (dgmmCredit._mapDelta))
 			bkop.setFlatCreditGammaMeasures (dgmmCredit._mapGamma);
 
-		FlatDeltaGammaMeasureMap dgmmRates = accumulateDeltaGammaMeasures (valParams, pricerParams,
-			mpc.scenarioMarketParams (this, "FlatIRBumpUp"), mpc.scenarioMarketParams (this, "FlatIRBumpDn"), vcp,
-				bkop.baseMeasures());
+		FlatDeltaGammaMeasureMap dgmmRates = stRates._dgmm;
 
 		if (null != dgmmRates && bkop.setFlatIRDeltaMeasures (dgmmRates._mapDelta))
 			bkop.setFlatIRGammaMeasures (dgmmRates._mapGamma);
 
-		FlatDeltaGammaMeasureMap dgmmRecovery = accumulateDeltaGammaMeasures (valParams, pricerParams,
-			mpc.scenarioMarketParams (this, "FlatRRBumpUp"), mpc.scenarioMarketParams (this, "FlatRRBumpDn"), vcp,
-				bkop.baseMeasures());
+		FlatDeltaGammaMeasureMap dgmmRecovery = stRecovery._dgmm;
 
 		if (null != dgmmRecovery && bkop.setFlatRRDeltaMeasures (dgmmRates._mapDelta))
 			bkop.setFlatRRGammaMeasures (dgmmRates._mapGamma);
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-			mapCSQSIRTenorUp = mpc.fundingFlatBump (this, true);
-
-		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-			mapCSQSIRTenorDown = mpc.fundingFlatBump (this, false);
-
-		TenorDeltaGammaMeasureMap mapDGMMRatesTenor = accumulateTenorDeltaGammaMeasures (valParams,
-			pricerParams, mapCSQSIRTenorUp, mapCSQSIRTenorDown, vcp, bkop.baseMeasures(), null);
+		TenorDeltaGammaMeasureMap mapDGMMRatesTenor = tenorDeltaGammaMeasures (mapIRTenorTask, -1);
 
 		if (null != mapDGMMRatesTenor) {
 			bkop.setComponentIRDeltaMeasures (mapDGMMRatesTenor._mmDelta);
@@ -1033,14 +1264,7 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 			bkop.setComponentIRGammaMeasures (mapDGMMRatesTenor._mmGamma);
 		}
 
-		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-			mapCSQSCreditTenorUp = mpc.creditFlatBump (this, true);
-
-		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.param.market.CurveSurfaceQuoteSet>
-			mapCSQSCreditTenorDown = mpc.creditFlatBump (this, false);
-
-		TenorDeltaGammaMeasureMap mapDGMMCreditComp = accumulateTenorDeltaGammaMeasures (valParams,
-			pricerParams, mapCSQSCreditTenorUp, mapCSQSCreditTenorDown, vcp, bkop.baseMeasures(), null);
+		TenorDeltaGammaMeasureMap mapDGMMCreditComp = tenorDeltaGammaMeasures (mapCreditTenorTask, -1);
 
 		if (null != mapDGMMCreditComp) {
 			bkop.setComponentCreditDeltaMeasures (mapDGMMCreditComp._mmDelta);
@@ -1048,9 +1272,7 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 			bkop.setComponentCreditGammaMeasures (mapDGMMCreditComp._mmGamma);
 		}
 
-		TenorDeltaGammaMeasureMap mapDGMMRecoveryTenor = accumulateTenorDeltaGammaMeasures (valParams,
-			pricerParams, mpc.recoveryFlatBump (this, true), mpc.recoveryFlatBump (this, false), vcp,
-				bkop.baseMeasures(), null);
+		TenorDeltaGammaMeasureMap mapDGMMRecoveryTenor = tenorDeltaGammaMeasures (mapRecoveryTenorTask, -1);
 
 		if (null != mapDGMMRecoveryTenor) {
 			bkop.setComponentRRDeltaMeasures (mapDGMMRecoveryTenor._mmDelta);
@@ -1059,8 +1281,7 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 		}
 
 		ComponentFactorTenorDeltaGammaMeasureMap mapCompRatesTenorDGMM =
-			accumulateComponentWiseTenorDeltaGammaMeasures (valParams, pricerParams, mapCSQSCreditTenorUp,
-				mapCSQSIRTenorUp, mapCSQSIRTenorDown, vcp, bkop.baseMeasures());
+			componentWiseTenorDeltaGammaMeasures (astrComponentName, mapIRTenorTask);
 
 		if (null != mapCompRatesTenorDGMM) {
 			bkop.setComponentTenorIRDeltaMeasures (mapCompRatesTenorDGMM._mmmDelta);
@@ -1069,8 +1290,7 @@ public abstract class BasketProduct implements org.drip.product.definition.Baske
 		}
 
 		ComponentFactorTenorDeltaGammaMeasureMap mapCompCreditTenorDGMM =
-			accumulateComponentWiseTenorDeltaGammaMeasures (valParams, pricerParams, mapCSQSCreditTenorUp,
-				mapCSQSCreditTenorUp, mapCSQSCreditTenorDown, vcp, bkop.baseMeasures());
+			componentWiseTenorDeltaGammaMeasures (astrComponentName, mapCreditTenorTask);
 
 		if (null != mapCompCreditTenorDGMM) {
 			bkop.setComponentTenorCreditDeltaMeasures (mapCompCreditTenorDGMM._mmmDelta);
@@ -41,30 +41,33 @@ package org.drip.product.definition;
  *  - Retrieve the product's settlement parameters.
  *  - Value the product's using standard/custom market parameters.
  *  - Retrieve the product's named measures and named measure values.
+ *  - Retrieve the product's compiled measure schema, and value the product into a slot-indexed measure
+ *  	vector, optionally restricted to a subset of the measures.
  *
  * @author Lakshmi Krishnamurthy
  */
 
 public abstract class FixedIncomeComponent implements org.drip.product.definition.ComponentMarketParamRef {
+	private static final java.util.concurrent.ConcurrentHashMap<java.lang.Class<?>,
+		org.drip.analytics.output.MeasureSchema> s_mapMeasureSchema = new
+			java.util.concurrent.ConcurrentHashMap<java.lang.Class<?>,
+				org.drip.analytics.output.MeasureSchema>();
+
 	protected double measureValue (
 		final java.lang.String strMeasure,
 		final org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapCalc)
 		throws java.lang.Exception
 	{
-		if (null == strMeasure || strMeasure.isEmpty() || null == mapCalc)
+		if (null == strMeasure || strMeasure.isEmpty() || null == mapCalc || 0 == mapCalc.size())
 			throw new java.lang.Exception ("FixedIncomeComponent::measureValue => Invalid Inputs");
 
-		java.util.Set<java.util.Map.Entry<java.lang.String, java.lang.Double>> mapES = mapCalc.entrySet();
+		java.lang.Double dblMeasure = mapCalc.get (strMeasure);
 
-		if (null == mapES || 0 == mapES.size())
-			throw new java.lang.Exception ("FixedIncomeComponent::measureValue => Invalid Inputs");
+		if (null == dblMeasure)
+			throw new java.lang.Exception ("FixedIncomeComponent::measureValue => Invalid Measure: " +
+				strMeasure);
 
-		for (java.util.Map.Entry<java.lang.String, java.lang.Double> me : mapES) {
-			if (me.getKey().equalsIgnoreCase (strMeasure)) return me.getValue();
-		}
-
-		throw new java.lang.Exception ("FixedIncomeComponent::measureValue => Invalid Measure: " +
-			strMeasure);
+		return dblMeasure;
 	}
 
 	protected boolean adjustForCashSettle (
@@ -232,6 +235,85 @@ public abstract class FixedIncomeComponent implements org.drip.product.definitio
 
 	public abstract java.util.Set<java.lang.String> measureNames();
 
+	/**
+	 * Retrieve the Compiled Measure Schema of the Product Type. By default the Schema is compiled once per
+	 * 	Product Class off of the Measure Names.
+	 * 
+	 * @return The Measure Schema
+	 */
+
+	public org.drip.analytics.output.MeasureSchema measureSchema()
+	{
+		java.lang.Class<?> clazz = getClass();
+
+		org.drip.analytics.output.MeasureSchema ms = s_mapMeasureSchema.get (clazz);
+
+		if (null != ms) return ms;
+
+		if (null == (ms = org.drip.analytics.output.MeasureSchema.FromNames (measureNames()))) return null;
+
+		org.drip.analytics.output.MeasureSchema msCached = s_mapMeasureSchema.putIfAbsent (clazz, ms);
+
+		return null == msCached ? ms : msCached;
+	}
+
+	/**
+	 * Value the Product into the Measure Vector. Only the Measures requested by the Vector are retained,
+	 * 	and Products may skip computing the Measures that have not been requested. The default
+	 * 	Implementation loads the Vector off of the Measure Map; Map Entries outside of the Schema (e.g., the
+	 * 	Stream-prefixed Measures of the Multi-Stream Components) remain accessible only through the Map.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param mv The Measure Vector created off of the Product's Measure Schema
+	 * 
+	 * @return TRUE => The Measure Vector has been filled
+	 */
+
+	public boolean value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.analytics.output.MeasureVector mv)
+	{
+		if (null == mv) return false;
+
+		mv.reset();
+
+		return 0 <= mv.load (value (valParams, pricerParams, csqs, vcp), null);
+	}
+
+	/**
+	 * Generate the Map of the specified Subset of the Product Measures
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param setstrMeasure The Subset of the Measure Names (null => all the Measures)
+	 * 
+	 * @return Map of measure name and value
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.util.Set<java.lang.String> setstrMeasure)
+	{
+		if (null == setstrMeasure) return value (valParams, pricerParams, csqs, vcp);
+
+		org.drip.analytics.output.MeasureSchema ms = measureSchema();
+
+		org.drip.analytics.output.MeasureVector mv = null == ms ? null : ms.vector (setstrMeasure);
+
+		return null != mv && value (valParams, pricerParams, csqs, vcp, mv) ? mv.toTreeMap() : null;
+	}
+
 	/**
 	 * Retrieve the Instrument's Imputed Tenor
 	 * 
@@ -273,7 +355,52 @@ public abstract class FixedIncomeComponent implements org.drip.product.definitio
 		final java.lang.String strMeasure)
 		throws java.lang.Exception
 	{
-		return measureValue (strMeasure, value (valParams, pricerParams, csqs, vcp));
+		org.drip.analytics.output.MeasureSchema ms = measureSchema();
+
+		int iSlot = null == ms ? -1 : ms.slot (strMeasure);
+
+		if (-1 == iSlot) return measureValue (strMeasure, value (valParams, pricerParams, csqs, vcp));
+
+		org.drip.analytics.output.MeasureVector mv = ms.vector (java.util.Collections.singleton
+			(strMeasure));
+
+		if (null == mv || !value (valParams, pricerParams, csqs, vcp, mv))
+			throw new java.lang.Exception ("FixedIncomeComponent::measureValue => Cannot value " +
+				strMeasure);
+
+		return mv.value (iSlot);
+	}
+
+	/**
+	 * Calculate the Calibration Objective - the Value of the given Calibration Measure, along with its
+	 * 	Sensitivity to the Credit Curve Node being calibrated. The Default Implementation does not produce
+	 * 	the Sensitivity; Components that can differentiate their Measures analytically override this.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param pricerParams PricerParams
+	 * @param csqs ComponentMarketParams
+	 * @param vcp Valuation Customization Parameters
+	 * @param strMeasure The Calibration Measure
+	 * @param iNodeIndex Index of the Credit Curve Node being calibrated
+	 * @param bFlat TRUE => The Credit Curve is being calibrated Flat
+	 * 
+	 * @return The Calibration Objective
+	 * 
+	 * @throws java.lang.Exception Thrown if the Calibration Measure cannot be calculated
+	 */
+
+	public org.drip.analytics.output.CalibrationObjective calibObjective (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final java.lang.String strMeasure,
+		final int iNodeIndex,
+		final boolean bFlat)
+		throws java.lang.Exception
+	{
+		return new org.drip.analytics.output.CalibrationObjective (measureValue (valParams, pricerParams,
+			csqs, vcp, strMeasure), java.lang.Double.NaN);
 	}
 
 	/**
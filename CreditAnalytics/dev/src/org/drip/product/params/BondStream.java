@@ -231,15 +231,7 @@ public class BondStream extends org.drip.product.rates.Stream {
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate))
 			throw new java.lang.Exception ("BondStream::periodIndex => Input date is NaN!");
 
-		int i = 0;
-
-		for (org.drip.analytics.cashflow.CompositePeriod period : periods()) {
-			if (period.contains (dblDate)) return i;
-
-			++i;
-		}
-
-		throw new java.lang.Exception ("BondStream::periodIndex => Input date not in the period set range!");
+		return compiledSchedule().periodIndex (dblDate);
 	}
 	
 	/**
@@ -36,7 +36,157 @@ package org.drip.product.rates;
  */
 
 public class Stream {
+	private static final int CLEAN_DV01 = 0;
+	private static final int CLEAN_PV = 1;
+	private static final int DIRTY_DV01 = 2;
+	private static final int DIRTY_PV = 3;
+	private static final int DV01 = 4;
+	private static final int FAIR_PREMIUM = 5;
+	private static final int PAR_RATE = 6;
+	private static final int PV = 7;
+	private static final int RATE = 8;
+	private static final int UPFRONT = 9;
+	private static final int CLEAN_PRICE = 10;
+	private static final int DIRTY_PRICE = 11;
+	private static final int PRICE = 12;
+	private static final int ADJUSTMENT_FACTOR = 13;
+	private static final int ADJUSTMENT_PREMIUM = 14;
+	private static final int ADJUSTMENT_PREMIUM_UPFRONT = 15;
+
+	private static final java.lang.String[] s_astrFamilyMeasure = new java.lang.String[] {"CleanDV01",
+		"CleanPV", "DirtyDV01", "DirtyPV", "DV01", "FairPremium", "ParRate", "PV", "Rate", "Upfront",
+			"CleanPrice", "DirtyPrice", "Price", "Factor", "Premium", "PremiumUpfront"};
+
+	/*
+	 * The Adjusted Families, in the Order of the CompiledSchedule Period Metrics from PERIOD_COMPOUNDING
+	 * 	through PERIOD_FUNDING_FX. Family 0 is the Unadjusted Family, and the Cumulative Family also feeds
+	 * 	the un-prefixed Measures.
+	 */
+
+	private static final java.lang.String[] s_astrAdjustedFamily = new java.lang.String[] {"Compounding",
+		"CreditForwardConvexity", "CreditFundingConvexity", "CreditFXConvexity", "CumulativeConvexity",
+			"ForwardFundingConvexity", "ForwardFXConvexity", "FundingFXConvexity"};
+
+	private static final java.lang.String[] s_astrStreamMeasure = new java.lang.String[] {"AccrualCoupon",
+		"Accrued", "Accrued01", "CV01", "Fixing01", "ResetDate", "ResetRate", "TotalCoupon", "CalcTime"};
+
+	private static final int NUM_FAMILY = s_astrAdjustedFamily.length + 1;
+	private static final int CUMULATIVE_FAMILY =
+		org.drip.analytics.cashflow.CompiledSchedule.PERIOD_CUMULATIVE -
+			org.drip.analytics.cashflow.CompiledSchedule.PERIOD_COMPOUNDING + 1;
+
+	private static final java.lang.String FamilyMeasureName (
+		final int iFamily,
+		final int iMeasure)
+	{
+		if (0 > iFamily) return ADJUSTMENT_FACTOR <= iMeasure ? null : s_astrFamilyMeasure[iMeasure];
+
+		if (0 == iFamily)
+			return DV01 == iMeasure || ADJUSTMENT_FACTOR <= iMeasure ? null : "Unadjusted" +
+				s_astrFamilyMeasure[iMeasure];
+
+		if (ADJUSTMENT_FACTOR <= iMeasure)
+			return s_astrAdjustedFamily[iFamily - 1] + "Adjustment" + s_astrFamilyMeasure[iMeasure];
+
+		return 1 == iFamily && DV01 == iMeasure ? null : s_astrAdjustedFamily[iFamily - 1] + "Adjusted" +
+			s_astrFamilyMeasure[iMeasure];
+	}
+
+	private static final org.drip.analytics.output.MeasureSchema CompileSchema()
+	{
+		java.util.List<java.lang.String> lsstrName = new java.util.ArrayList<java.lang.String>();
+
+		for (int iFamily = -1; iFamily < NUM_FAMILY; ++iFamily) {
+			for (int iMeasure = 0; iMeasure < s_astrFamilyMeasure.length; ++iMeasure) {
+				java.lang.String strName = FamilyMeasureName (iFamily, iMeasure);
+
+				if (null != strName) lsstrName.add (strName);
+			}
+
+			if (-1 == iFamily) {
+				for (java.lang.String strMeasure : s_astrStreamMeasure)
+					lsstrName.add (strMeasure);
+			}
+		}
+
+		return org.drip.analytics.output.MeasureSchema.FromNames (lsstrName);
+	}
+
+	private static final org.drip.analytics.output.MeasureSchema s_ms = CompileSchema();
+
+	/*
+	 * Row 0 holds the Slots of the un-prefixed (Cumulative Alias) Measures, and Row (1 + k) those of Family
+	 * 	k; -1 marks a Measure the Family does not carry.
+	 */
+
+	private static final int[][] CompileFamilySlots()
+	{
+		int[][] aaiSlot = new int[NUM_FAMILY + 1][s_astrFamilyMeasure.length];
+
+		for (int iFamily = -1; iFamily < NUM_FAMILY; ++iFamily) {
+			for (int iMeasure = 0; iMeasure < s_astrFamilyMeasure.length; ++iMeasure) {
+				java.lang.String strName = FamilyMeasureName (iFamily, iMeasure);
+
+				aaiSlot[iFamily + 1][iMeasure] = null == strName || (-1 == iFamily && DV01 == iMeasure) ? -1
+					: s_ms.slot (strName);
+			}
+		}
+
+		return aaiSlot;
+	}
+
+	private static final int[][] s_aaiFamilySlot = CompileFamilySlots();
+	private static final int ACCRUAL_COUPON = s_ms.slot ("AccrualCoupon");
+	private static final int ACCRUED = s_ms.slot ("Accrued");
+	private static final int ACCRUED01 = s_ms.slot ("Accrued01");
+	private static final int CUMULATIVE_DV01 = s_ms.slot ("DV01");
+	private static final int CV01 = s_ms.slot ("CV01");
+	private static final int FIXING01 = s_ms.slot ("Fixing01");
+	private static final int RESET_DATE = s_ms.slot ("ResetDate");
+	private static final int RESET_RATE = s_ms.slot ("ResetRate");
+	private static final int TOTAL_COUPON = s_ms.slot ("TotalCoupon");
+	private static final int CALC_TIME = s_ms.slot ("CalcTime");
+
+	private static final void SetFamilyMeasures (
+		final org.drip.analytics.output.MeasureVector mv,
+		final int[] aiSlot,
+		final double dblCleanDV01,
+		final double dblCleanPV,
+		final double dblDirtyDV01,
+		final double dblDirtyPV,
+		final double dblFairPremium,
+		final double dblCleanPrice,
+		final double dblDirtyPrice)
+	{
+		mv.set (aiSlot[CLEAN_DV01], dblCleanDV01);
+
+		mv.set (aiSlot[CLEAN_PV], dblCleanPV);
+
+		mv.set (aiSlot[DIRTY_DV01], dblDirtyDV01);
+
+		mv.set (aiSlot[DIRTY_PV], dblDirtyPV);
+
+		mv.set (aiSlot[DV01], dblDirtyDV01);
+
+		mv.set (aiSlot[FAIR_PREMIUM], dblFairPremium);
+
+		mv.set (aiSlot[PAR_RATE], dblFairPremium);
+
+		mv.set (aiSlot[PV], dblCleanPV);
+
+		mv.set (aiSlot[RATE], dblFairPremium);
+
+		mv.set (aiSlot[UPFRONT], dblCleanPV);
+
+		mv.set (aiSlot[CLEAN_PRICE], dblCleanPrice);
+
+		mv.set (aiSlot[DIRTY_PRICE], dblDirtyPrice);
+
+		mv.set (aiSlot[PRICE], dblCleanPrice);
+	}
+
 	private java.util.List<org.drip.analytics.cashflow.CompositePeriod> _lsPeriod = null;
+	private org.drip.analytics.cashflow.CompiledSchedule _cs = null;
 
 	private double fxAdjustedNotional (
 		final double dblDate,
@@ -76,7 +226,8 @@ public class Stream {
 		final java.util.List<org.drip.analytics.cashflow.CompositePeriod> lsPeriod)
 		throws java.lang.Exception
 	{
-		if (null == (_lsPeriod = lsPeriod) || 0 == _lsPeriod.size())
+		if (null == (_lsPeriod = lsPeriod) || 0 == _lsPeriod.size() || null == (_cs =
+			org.drip.analytics.cashflow.CompiledSchedule.Compile (_lsPeriod)))
 			throw new java.lang.Exception ("Stream ctr => Invalid Input params!");
 	}
 
@@ -91,6 +242,17 @@ public class Stream {
 		return _lsPeriod;
 	}
 
+	/**
+	 * Retrieve the Compiled Schedule of the Coupon Periods
+	 * 
+	 * @return The Compiled Schedule
+	 */
+
+	public org.drip.analytics.cashflow.CompiledSchedule compiledSchedule()
+	{
+		return _cs;
+	}
+
 	/**
 	 * Retrieve the Stream Frequency
 	 * 
@@ -465,6 +627,17 @@ public class Stream {
 		return _lsPeriod.get (0).basis();
 	}
 
+	/**
+	 * Retrieve the Measure Schema of the Stream
+	 * 
+	 * @return The Measure Schema
+	 */
+
+	public org.drip.analytics.output.MeasureSchema measureSchema()
+	{
+		return s_ms;
+	}
+
 	/**
 	 * Generate a Value Map for the Stream
 	 * 
@@ -482,11 +655,37 @@ public class Stream {
 		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
 		final org.drip.param.valuation.ValuationCustomizationParams vcp)
 	{
-		if (null == valParams || null == csqs) return null;
+		org.drip.analytics.output.MeasureVector mv = s_ms.vector();
+
+		return value (valParams, pricerParams, csqs, vcp, mv) ? mv.toTreeMap() : null;
+	}
+
+	/**
+	 * Fill the Requested Slots of the Measure Vector (compiled from the Stream Schema) with the Stream Values
+	 * 
+	 * @param valParams The Valuation Parameters
+	 * @param pricerParams The Pricer parameters
+	 * @param csqs The Market Parameters
+	 * @param vcp Valuation Customization Parameters
+	 * @param mv The Measure Vector
+	 * 
+	 * @return TRUE => The Measure Vector has been filled
+	 */
+
+	public boolean value (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.pricer.CreditPricerParams pricerParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams vcp,
+		final org.drip.analytics.output.MeasureVector mv)
+	{
+		if (null == valParams || null == csqs || null == mv || s_ms != mv.schema()) return false;
+
+		mv.reset();
 
 		org.drip.analytics.rates.DiscountCurve dcFunding = csqs.fundingCurve (fundingLabel());
 
-		if (null == dcFunding) return null;
+		if (null == dcFunding) return false;
 
 		long lStart = System.nanoTime();
 
@@ -494,55 +693,44 @@ public class Stream {
 
 		double dblAccrued01 = 0.;
 		double dblTotalCoupon = 0.;
-		double dblAccrualCoupon = java.lang.Double.NaN;
-		double dblUnadjustedDirtyPV = 0.;
-		double dblUnadjustedDirtyDV01 = 0.;
-		double dblCompoundingAdjustedDirtyPV = 0.;
-		double dblCompoundingAdjustedDirtyDV01 = 0.;
 		double dblCashPayDF = java.lang.Double.NaN;
 		double dblResetDate = java.lang.Double.NaN;
+		double dblAccrualCoupon = java.lang.Double.NaN;
 		double dblFXAdjustedValueNotional = java.lang.Double.NaN;
-		double dblCreditForwardConvexityAdjustedDirtyPV = 0.;
-		double dblCreditForwardConvexityAdjustedDirtyDV01 = 0.;
-		double dblCreditFundingConvexityAdjustedDirtyPV = 0.;
-		double dblCreditFundingConvexityAdjustedDirtyDV01 = 0.;
-		double dblCreditFXConvexityAdjustedDirtyPV = 0.;
-		double dblCreditFXConvexityAdjustedDirtyDV01 = 0.;
-		double dblCumulativeConvexityAdjustedDirtyPV = 0.;
-		double dblCumulativeConvexityAdjustedDirtyDV01 = 0.;
-		double dblForwardFundingConvexityAdjustedDirtyPV = 0.;
-		double dblForwardFundingConvexityAdjustedDirtyDV01 = 0.;
-		double dblForwardFXConvexityAdjustedDirtyPV = 0.;
-		double dblForwardFXConvexityAdjustedDirtyDV01 = 0.;
-		double dblFundingFXConvexityAdjustedDirtyPV = 0.;
-		double dblFundingFXConvexityAdjustedDirtyDV01 = 0.;
+		double[] adblFamilyDirtyPV = new double[NUM_FAMILY];
+		double[] adblFamilyDirtyDV01 = new double[NUM_FAMILY];
 
-		for (org.drip.analytics.cashflow.CompositePeriod period : _lsPeriod) {
-			double dblUnadjustedDirtyPeriodDV01 = java.lang.Double.NaN;
+		int iNumPeriod = _cs.numPeriod();
 
-			double dblPeriodPayDate = period.payDate();
+		double[][] aadblPeriodMetric = _cs.metricWorkspace();
 
-			if (dblPeriodPayDate < dblValueDate) continue;
+		if (!_cs.periodMetrics (dblValueDate, csqs, aadblPeriodMetric)) return false;
 
-			org.drip.analytics.output.CompositePeriodCouponMetrics cpcm = period.couponMetrics (dblValueDate,
-				csqs);
+		double[] adblPeriodDF = aadblPeriodMetric[org.drip.analytics.cashflow.CompiledSchedule.PERIOD_DF];
 
-			if (null == cpcm) return null;
+		double[] adblPeriodFX = aadblPeriodMetric[org.drip.analytics.cashflow.CompiledSchedule.PERIOD_FX];
 
-			double dblPeriodDCF = cpcm.dcf();
+		double[] adblPeriodDCF = aadblPeriodMetric[org.drip.analytics.cashflow.CompiledSchedule.PERIOD_DCF];
 
-			double dblPeriodFullRate = cpcm.rate();
+		double[] adblPeriodFullRate =
+			aadblPeriodMetric[org.drip.analytics.cashflow.CompiledSchedule.PERIOD_RATE];
 
-			org.drip.analytics.output.CompositePeriodAccrualMetrics cpam = period.accrualMetrics
-				(dblValueDate, csqs);
+		double[] adblPeriodNotional =
+			aadblPeriodMetric[org.drip.analytics.cashflow.CompiledSchedule.PERIOD_NOTIONAL];
 
-			double dblPeriodEndDate = period.endDate();
+		double[] adblPeriodSurvival =
+			aadblPeriodMetric[org.drip.analytics.cashflow.CompiledSchedule.PERIOD_SURVIVAL];
 
-			try {
-				double dblPeriodNotional = period.notional (dblPeriodEndDate) * period.couponFactor
-					(dblPeriodEndDate);
+		for (int i = 0; i < iNumPeriod; ++i) {
+			if (_cs.payDate (i) < dblValueDate) continue;
 
-				double dblPeriodFX = period.fx (csqs);
+			double dblPeriodFX = adblPeriodFX[i];
+			double dblPeriodFullRate = adblPeriodFullRate[i];
+			double dblPeriodNotional = adblPeriodNotional[i];
+
+			if (_cs.contains (i, dblValueDate)) {
+				org.drip.analytics.output.CompositePeriodAccrualMetrics cpam = _cs.period (i).accrualMetrics
+					(dblValueDate, csqs);
 
 				if (null != cpam) {
 					dblAccrualCoupon = cpam.rate();
@@ -551,65 +739,22 @@ public class Stream {
 
 					dblAccrued01 = 0.0001 * cpam.dcf() * dblPeriodNotional * dblPeriodFX;
 				}
-
-				dblUnadjustedDirtyPeriodDV01 = 0.0001 * dblPeriodDCF * dblPeriodNotional * dblPeriodFX *
-					period.survival (csqs) * period.df (csqs);
-			} catch (java.lang.Exception e) {
-				e.printStackTrace();
-
-				return null;
 			}
 
-			double dblCompoundingAdjustedDirtyPeriodDV01 = dblUnadjustedDirtyPeriodDV01 * cpcm.compounding();
-
-			double dblCreditForwardConvexityAdjustedDirtyPeriodDV01 = dblUnadjustedDirtyPeriodDV01 *
-				cpcm.creditForward();
-
-			double dblCreditFundingConvexityAdjustedDirtyPeriodDV01 = dblUnadjustedDirtyPeriodDV01 *
-				cpcm.creditFunding();
-
-			double dblCreditFXConvexityAdjustedDirtyPeriodDV01 = dblUnadjustedDirtyPeriodDV01 *
-				cpcm.creditFX();
-
-			double dblCumulativeConvexityAdjustedDirtyPeriodDV01 = dblUnadjustedDirtyPeriodDV01 *
-				cpcm.cumulative();
+			double dblUnadjustedDirtyPeriodDV01 = 0.0001 * adblPeriodDCF[i] * dblPeriodNotional * dblPeriodFX
+				* adblPeriodSurvival[i] * adblPeriodDF[i];
 
-			double dblForwardFundingConvexityAdjustedDirtyPeriodDV01 = dblUnadjustedDirtyPeriodDV01 *
-				cpcm.forwardFunding();
-
-			double dblForwardFXConvexityAdjustedDirtyPeriodDV01 = dblUnadjustedDirtyPeriodDV01 *
-				cpcm.forwardFX();
+			dblTotalCoupon += dblPeriodFullRate;
 
-			double dblFundingFXConvexityAdjustedDirtyPeriodDV01 = dblUnadjustedDirtyPeriodDV01 *
-				cpcm.fundingFX();
+			for (int k = 0; k < NUM_FAMILY; ++k) {
+				double dblDirtyPeriodDV01 = 0 == k ? dblUnadjustedDirtyPeriodDV01 :
+					dblUnadjustedDirtyPeriodDV01 *
+						aadblPeriodMetric[org.drip.analytics.cashflow.CompiledSchedule.PERIOD_COMPOUNDING + k -
+							1][i];
 
-			dblTotalCoupon += dblPeriodFullRate;
-			dblUnadjustedDirtyDV01 += dblUnadjustedDirtyPeriodDV01;
-			dblUnadjustedDirtyPV += dblUnadjustedDirtyPeriodDV01 * 10000. * dblPeriodFullRate;
-			dblCompoundingAdjustedDirtyDV01 += dblCompoundingAdjustedDirtyPeriodDV01;
-			dblCompoundingAdjustedDirtyPV += dblCompoundingAdjustedDirtyPeriodDV01 * 10000. *
-				dblPeriodFullRate;
-			dblCreditForwardConvexityAdjustedDirtyDV01 += dblCreditForwardConvexityAdjustedDirtyPeriodDV01;
-			dblCreditForwardConvexityAdjustedDirtyPV += dblCreditForwardConvexityAdjustedDirtyPeriodDV01 *
-				10000. * dblPeriodFullRate;
-			dblCreditFundingConvexityAdjustedDirtyDV01 += dblCreditFundingConvexityAdjustedDirtyPeriodDV01;
-			dblCreditFundingConvexityAdjustedDirtyPV += dblCreditFundingConvexityAdjustedDirtyPeriodDV01 *
-				10000. * dblPeriodFullRate;
-			dblCreditFXConvexityAdjustedDirtyDV01 += dblCreditFXConvexityAdjustedDirtyPeriodDV01;
-			dblCreditFXConvexityAdjustedDirtyPV += dblCreditFXConvexityAdjustedDirtyPeriodDV01 * 10000. *
-				dblPeriodFullRate;
-			dblCumulativeConvexityAdjustedDirtyDV01 += dblCumulativeConvexityAdjustedDirtyPeriodDV01;
-			dblCumulativeConvexityAdjustedDirtyPV += dblCumulativeConvexityAdjustedDirtyPeriodDV01 * 10000. *
-				dblPeriodFullRate;
-			dblForwardFundingConvexityAdjustedDirtyDV01 += dblForwardFundingConvexityAdjustedDirtyPeriodDV01;
-			dblForwardFundingConvexityAdjustedDirtyPV += dblForwardFundingConvexityAdjustedDirtyPeriodDV01 *
-				10000. * dblPeriodFullRate;
-			dblForwardFXConvexityAdjustedDirtyDV01 += dblForwardFXConvexityAdjustedDirtyPeriodDV01;
-			dblForwardFXConvexityAdjustedDirtyPV += dblForwardFXConvexityAdjustedDirtyPeriodDV01 * 10000. *
-				dblPeriodFullRate;
-			dblFundingFXConvexityAdjustedDirtyDV01 += dblFundingFXConvexityAdjustedDirtyPeriodDV01;
-			dblFundingFXConvexityAdjustedDirtyPV += dblFundingFXConvexityAdjustedDirtyPeriodDV01 * 10000. *
-				dblPeriodFullRate;
+				adblFamilyDirtyDV01[k] += dblDirtyPeriodDV01;
+				adblFamilyDirtyPV[k] += dblDirtyPeriodDV01 * 10000. * dblPeriodFullRate;
+			}
 		}
 
 		try {
@@ -619,467 +764,63 @@ public class Stream {
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
-			return null;
+			return false;
 		}
 
-		dblUnadjustedDirtyPV /= dblCashPayDF;
-		dblUnadjustedDirtyDV01 /= dblCashPayDF;
-		dblCompoundingAdjustedDirtyPV /= dblCashPayDF;
-		dblCompoundingAdjustedDirtyDV01 /= dblCashPayDF;
-		dblCreditForwardConvexityAdjustedDirtyPV /= dblCashPayDF;
-		dblCreditForwardConvexityAdjustedDirtyDV01 /= dblCashPayDF;
-		dblCreditFundingConvexityAdjustedDirtyPV /= dblCashPayDF;
-		dblCreditFundingConvexityAdjustedDirtyDV01 /= dblCashPayDF;
-		dblCreditFXConvexityAdjustedDirtyPV /= dblCashPayDF;
-		dblCreditFXConvexityAdjustedDirtyDV01 /= dblCashPayDF;
-		dblCumulativeConvexityAdjustedDirtyPV /= dblCashPayDF;
-		dblCumulativeConvexityAdjustedDirtyDV01 /= dblCashPayDF;
-		dblForwardFundingConvexityAdjustedDirtyPV /= dblCashPayDF;
-		dblForwardFundingConvexityAdjustedDirtyDV01 /= dblCashPayDF;
-		dblForwardFXConvexityAdjustedDirtyPV /= dblCashPayDF;
-		dblForwardFXConvexityAdjustedDirtyDV01 /= dblCashPayDF;
-		dblFundingFXConvexityAdjustedDirtyPV /= dblCashPayDF;
-		dblFundingFXConvexityAdjustedDirtyDV01 /= dblCashPayDF;
 		double dblAccrued = 0. == dblAccrued01 ? 0. : dblAccrued01 * 10000. * dblAccrualCoupon;
-		double dblUnadjustedCleanPV = dblUnadjustedDirtyPV - dblAccrued;
-		double dblUnadjustedCleanDV01 = dblUnadjustedDirtyDV01 - dblAccrued01;
-		double dblUnadjustedFairPremium = 0.0001 * dblUnadjustedCleanPV / dblUnadjustedCleanDV01;
-		double dblCompoundingAdjustedCleanPV = dblCompoundingAdjustedDirtyPV - dblAccrued;
-		double dblCompoundingAdjustedCleanDV01 = dblCompoundingAdjustedDirtyDV01 - dblAccrued01;
-		double dblCompoundingAdjustedFairPremium = 0.0001 * dblCompoundingAdjustedCleanPV /
-			dblCompoundingAdjustedCleanDV01;
-		double dblCreditForwardConvexityAdjustedCleanPV = dblCreditForwardConvexityAdjustedDirtyPV -
-			dblAccrued;
-		double dblCreditForwardConvexityAdjustedCleanDV01 = dblCreditForwardConvexityAdjustedDirtyDV01 -
-			dblAccrued01;
-		double dblCreditForwardConvexityAdjustedFairPremium = 0.0001 *
-			dblCreditForwardConvexityAdjustedCleanPV / dblCreditForwardConvexityAdjustedCleanDV01;
-		double dblCreditFundingConvexityAdjustedCleanPV = dblCreditFundingConvexityAdjustedDirtyPV -
-			dblAccrued;
-		double dblCreditFundingConvexityAdjustedCleanDV01 = dblCreditFundingConvexityAdjustedDirtyDV01 -
-			dblAccrued01;
-		double dblCreditFundingConvexityAdjustedFairPremium = 0.0001 *
-			dblCreditFundingConvexityAdjustedCleanPV / dblCreditFundingConvexityAdjustedCleanDV01;
-		double dblCreditFXConvexityAdjustedCleanPV = dblCreditFXConvexityAdjustedDirtyPV - dblAccrued;
-		double dblCreditFXConvexityAdjustedCleanDV01 = dblCreditFXConvexityAdjustedDirtyDV01 - dblAccrued01;
-		double dblCreditFXConvexityAdjustedFairPremium = 0.0001 * dblCreditFXConvexityAdjustedCleanPV /
-			dblCreditFXConvexityAdjustedCleanDV01;
-		double dblCumulativeConvexityAdjustedCleanPV = dblCumulativeConvexityAdjustedDirtyPV - dblAccrued;
-		double dblCumulativeConvexityAdjustedCleanDV01 = dblCumulativeConvexityAdjustedDirtyDV01 -
-			dblAccrued01;
-		double dblCumulativeConvexityAdjustedFairPremium = 0.0001 * dblCumulativeConvexityAdjustedCleanPV /
-			dblCumulativeConvexityAdjustedCleanDV01;
-		double dblForwardFundingConvexityAdjustedCleanPV = dblForwardFundingConvexityAdjustedDirtyPV -
-			dblAccrued;
-		double dblForwardFundingConvexityAdjustedCleanDV01 = dblForwardFundingConvexityAdjustedDirtyDV01 -
-			dblAccrued01;
-		double dblForwardFundingConvexityAdjustedFairPremium = 0.0001 *
-			dblForwardFundingConvexityAdjustedCleanPV / dblForwardFundingConvexityAdjustedCleanDV01;
-		double dblForwardFXConvexityAdjustedCleanPV = dblForwardFXConvexityAdjustedDirtyPV - dblAccrued;
-		double dblForwardFXConvexityAdjustedCleanDV01 = dblForwardFXConvexityAdjustedDirtyDV01 -
-			dblAccrued01;
-		double dblForwardFXConvexityAdjustedFairPremium = 0.0001 * dblForwardFXConvexityAdjustedCleanPV /
-			dblForwardFXConvexityAdjustedCleanDV01;
-		double dblFundingFXConvexityAdjustedCleanPV = dblFundingFXConvexityAdjustedDirtyPV - dblAccrued;
-		double dblFundingFXConvexityAdjustedCleanDV01 = dblFundingFXConvexityAdjustedDirtyDV01 -
-			dblAccrued01;
-		double dblFundingFXConvexityAdjustedFairPremium = 0.0001 * dblFundingFXConvexityAdjustedCleanPV /
-			dblFundingFXConvexityAdjustedCleanDV01;
-
-		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double> mapResult = new
-			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.Double>();
-
-		mapResult.put ("AccrualCoupon", dblAccrualCoupon);
-
-		mapResult.put ("Accrued", dblAccrued);
-
-		mapResult.put ("Accrued01", dblAccrued01);
-
-		mapResult.put ("CleanDV01", dblCumulativeConvexityAdjustedCleanDV01);
-
-		mapResult.put ("CleanPV", dblCumulativeConvexityAdjustedCleanPV);
-
-		mapResult.put ("CompoundingAdjustedCleanDV01", dblCompoundingAdjustedCleanDV01);
-
-		mapResult.put ("CompoundingAdjustedCleanPV", dblCompoundingAdjustedCleanPV);
-
-		mapResult.put ("CompoundingAdjustedDirtyPV", dblCompoundingAdjustedDirtyPV);
-
-		mapResult.put ("CompoundingAdjustedDirtyDV01", dblCompoundingAdjustedDirtyDV01);
-
-		mapResult.put ("CompoundingAdjustedDirtyPV", dblCompoundingAdjustedDirtyPV);
-
-		mapResult.put ("CompoundingAdjustedFairPremium", dblCompoundingAdjustedFairPremium);
-
-		mapResult.put ("CompoundingAdjustedParRate", dblCompoundingAdjustedFairPremium);
-
-		mapResult.put ("CompoundingAdjustedPV", dblCompoundingAdjustedCleanPV);
-
-		mapResult.put ("CompoundingAdjustedRate", dblCompoundingAdjustedFairPremium);
-
-		mapResult.put ("CompoundingAdjustedUpfront", dblCompoundingAdjustedCleanPV);
-
-		mapResult.put ("CompoundingAdjustmentFactor", dblCompoundingAdjustedDirtyDV01 /
-			dblUnadjustedDirtyDV01);
-
-		mapResult.put ("CompoundingAdjustmentPremium", dblCompoundingAdjustedCleanPV - dblUnadjustedCleanPV);
-
-		mapResult.put ("CompoundingAdjustmentPremiumUpfront", (dblCompoundingAdjustedCleanPV -
-			dblUnadjustedCleanPV) / dblFXAdjustedValueNotional);
-
-		mapResult.put ("CreditForwardConvexityAdjustedCleanDV01",
-			dblCreditForwardConvexityAdjustedCleanDV01);
-
-		mapResult.put ("CreditForwardConvexityAdjustedCleanPV", dblCreditForwardConvexityAdjustedCleanPV);
-
-		mapResult.put ("CreditForwardConvexityAdjustedDirtyDV01",
-			dblCreditForwardConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("CreditForwardConvexityAdjustedDirtyPV", dblCreditForwardConvexityAdjustedDirtyPV);
-
-		mapResult.put ("CreditForwardConvexityAdjustedDV01", dblCreditForwardConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("CreditForwardConvexityAdjustedFairPremium",
-			dblCreditForwardConvexityAdjustedFairPremium);
-
-		mapResult.put ("CreditForwardConvexityAdjustedParRate",
-			dblCreditForwardConvexityAdjustedFairPremium);
+		double dblUnadjustedDirtyDV01 = adblFamilyDirtyDV01[0] / dblCashPayDF;
+		double dblUnadjustedCleanPV = adblFamilyDirtyPV[0] / dblCashPayDF - dblAccrued;
 
-		mapResult.put ("CreditForwardConvexityAdjustedPV", dblCreditForwardConvexityAdjustedCleanPV);
+		for (int k = 0; k < NUM_FAMILY; ++k) {
+			double dblDirtyPV = adblFamilyDirtyPV[k] / dblCashPayDF;
+			double dblDirtyDV01 = adblFamilyDirtyDV01[k] / dblCashPayDF;
+			double dblCleanPV = dblDirtyPV - dblAccrued;
+			double dblCleanDV01 = dblDirtyDV01 - dblAccrued01;
+			double dblFairPremium = 0.0001 * dblCleanPV / dblCleanDV01;
+			double dblCleanPrice = 100. * (1. + (dblCleanPV / dblFXAdjustedValueNotional));
+			double dblDirtyPrice = 100. * (1. + (dblDirtyPV / dblFXAdjustedValueNotional));
 
-		mapResult.put ("CreditForwardConvexityAdjustedRate", dblCreditForwardConvexityAdjustedFairPremium);
+			int[] aiSlot = s_aaiFamilySlot[k + 1];
 
-		mapResult.put ("CreditForwardConvexityAdjustedUpfront", dblCreditForwardConvexityAdjustedCleanPV);
+			SetFamilyMeasures (mv, aiSlot, dblCleanDV01, dblCleanPV, dblDirtyDV01, dblDirtyPV, dblFairPremium,
+				dblCleanPrice, dblDirtyPrice);
 
-		mapResult.put ("CreditForwardConvexityAdjustmentFactor", dblCreditForwardConvexityAdjustedDirtyDV01
-			/ dblUnadjustedDirtyDV01);
+			if (0 != k) {
+				mv.set (aiSlot[ADJUSTMENT_FACTOR], dblDirtyDV01 / dblUnadjustedDirtyDV01);
 
-		mapResult.put ("CreditForwardConvexityAdjustmentPremium", dblCreditForwardConvexityAdjustedCleanPV
-			- dblUnadjustedCleanPV);
+				mv.set (aiSlot[ADJUSTMENT_PREMIUM], dblCleanPV - dblUnadjustedCleanPV);
 
-		mapResult.put ("CreditForwardConvexityAdjustmentPremiumUpfront",
-			(dblCreditForwardConvexityAdjustedCleanPV - dblUnadjustedCleanPV) / dblFXAdjustedValueNotional);
-
-		mapResult.put ("CreditFundingConvexityAdjustedCleanDV01",
-			dblCreditFundingConvexityAdjustedCleanDV01);
-
-		mapResult.put ("CreditFundingConvexityAdjustedCleanPV", dblCreditFundingConvexityAdjustedCleanPV);
-
-		mapResult.put ("CreditFundingConvexityAdjustedDirtyDV01",
-			dblCreditFundingConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("CreditFundingConvexityAdjustedDirtyPV", dblCreditFundingConvexityAdjustedDirtyPV);
-
-		mapResult.put ("CreditFundingConvexityAdjustedDV01", dblCreditFundingConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("CreditFundingConvexityAdjustedFairPremium",
-			dblCreditFundingConvexityAdjustedFairPremium);
-
-		mapResult.put ("CreditFundingConvexityAdjustedParRate",
-			dblCreditFundingConvexityAdjustedFairPremium);
-
-		mapResult.put ("CreditFundingConvexityAdjustedPV", dblCreditFundingConvexityAdjustedCleanPV);
-
-		mapResult.put ("CreditFundingConvexityAdjustedRate", dblCreditFundingConvexityAdjustedFairPremium);
-
-		mapResult.put ("CreditFundingConvexityAdjustedUpfront", dblCreditFundingConvexityAdjustedCleanPV);
-
-		mapResult.put ("CreditFundingConvexityAdjustmentFactor", dblCreditFundingConvexityAdjustedDirtyDV01
-			/ dblUnadjustedDirtyDV01);
-
-		mapResult.put ("CreditFundingConvexityAdjustmentPremium", dblCreditFundingConvexityAdjustedCleanPV
-			- dblUnadjustedCleanPV);
-
-		mapResult.put ("CreditFundingConvexityAdjustmentPremiumUpfront",
-			(dblCreditFundingConvexityAdjustedCleanPV - dblUnadjustedCleanPV) / dblFXAdjustedValueNotional);
-
-		mapResult.put ("CreditFXConvexityAdjustedCleanDV01", dblCreditFXConvexityAdjustedCleanDV01);
-
-		mapResult.put ("CreditFXConvexityAdjustedCleanPV", dblCreditFXConvexityAdjustedCleanPV);
-
-		mapResult.put ("CreditFXConvexityAdjustedDirtyDV01", dblCreditFXConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("CreditFXConvexityAdjustedDirtyPV", dblCreditFXConvexityAdjustedDirtyPV);
-
-		mapResult.put ("CreditFXConvexityAdjustedDV01", dblCreditFXConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("CreditFXConvexityAdjustedFairPremium", dblCreditFXConvexityAdjustedFairPremium);
-
-		mapResult.put ("CreditFXConvexityAdjustedParRate", dblCreditFXConvexityAdjustedFairPremium);
-
-		mapResult.put ("CreditFXConvexityAdjustedPV", dblCreditFXConvexityAdjustedCleanPV);
-
-		mapResult.put ("CreditFXConvexityAdjustedRate", dblCreditFXConvexityAdjustedFairPremium);
-
-		mapResult.put ("CreditFXConvexityAdjustedUpfront", dblCreditFXConvexityAdjustedCleanPV);
-
-		mapResult.put ("CreditFXConvexityAdjustmentFactor", dblCreditFXConvexityAdjustedDirtyDV01 /
-			dblUnadjustedDirtyDV01);
-
-		mapResult.put ("CreditFXConvexityAdjustmentPremium", dblCreditFXConvexityAdjustedCleanPV -
-			dblUnadjustedCleanPV);
-
-		mapResult.put ("CreditFXConvexityAdjustmentPremiumUpfront", (dblCreditFXConvexityAdjustedCleanPV -
-			dblUnadjustedCleanPV) / dblFXAdjustedValueNotional);
-
-		mapResult.put ("CumulativeConvexityAdjustedCleanDV01", dblCumulativeConvexityAdjustedCleanDV01);
-
-		mapResult.put ("CumulativeConvexityAdjustedCleanPV", dblCumulativeConvexityAdjustedCleanPV);
-
-		mapResult.put ("CumulativeConvexityAdjustedDirtyDV01", dblCumulativeConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("CumulativeConvexityAdjustedDirtyPV", dblCumulativeConvexityAdjustedDirtyPV);
-
-		mapResult.put ("CumulativeConvexityAdjustedDV01", dblCumulativeConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("CumulativeConvexityAdjustedFairPremium", dblCumulativeConvexityAdjustedFairPremium);
-
-		mapResult.put ("CumulativeConvexityAdjustedParRate", dblCumulativeConvexityAdjustedFairPremium);
-
-		mapResult.put ("CumulativeConvexityAdjustedPV", dblCumulativeConvexityAdjustedCleanPV);
-
-		mapResult.put ("CumulativeConvexityAdjustedRate", dblCumulativeConvexityAdjustedFairPremium);
-
-		mapResult.put ("CumulativeConvexityAdjustedUpfront", dblCumulativeConvexityAdjustedCleanPV);
-
-		mapResult.put ("CumulativeConvexityAdjustmentFactor", dblCumulativeConvexityAdjustedDirtyDV01 /
-			dblUnadjustedDirtyDV01);
-
-		mapResult.put ("CumulativeConvexityAdjustmentPremium", dblCumulativeConvexityAdjustedCleanPV -
-			dblUnadjustedCleanPV);
-
-		mapResult.put ("CumulativeConvexityAdjustmentPremiumUpfront", (dblCumulativeConvexityAdjustedCleanPV
-			- dblUnadjustedCleanPV) / dblFXAdjustedValueNotional);
-
-		mapResult.put ("CV01", dblCumulativeConvexityAdjustedCleanDV01);
-
-		mapResult.put ("DirtyDV01", dblCumulativeConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("DirtyPV", dblCumulativeConvexityAdjustedDirtyPV);
-
-		mapResult.put ("DV01", dblCumulativeConvexityAdjustedCleanDV01);
-
-		mapResult.put ("FairPremium", dblCumulativeConvexityAdjustedFairPremium);
-
-		mapResult.put ("Fixing01", dblAccrued01);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedCleanDV01",
-			dblForwardFundingConvexityAdjustedCleanDV01);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedCleanPV", dblForwardFundingConvexityAdjustedCleanPV);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedDirtyDV01",
-			dblForwardFundingConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedDirtyPV", dblForwardFundingConvexityAdjustedDirtyPV);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedDV01", dblForwardFundingConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedFairPremium",
-			dblForwardFundingConvexityAdjustedFairPremium);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedParRate",
-			dblForwardFundingConvexityAdjustedFairPremium);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedPV", dblForwardFundingConvexityAdjustedCleanPV);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedRate", dblForwardFundingConvexityAdjustedFairPremium);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedUpfront", dblForwardFundingConvexityAdjustedCleanPV);
-
-		mapResult.put ("ForwardFundingConvexityAdjustmentFactor", dblForwardFundingConvexityAdjustedDirtyDV01
-			/ dblUnadjustedDirtyDV01);
-
-		mapResult.put ("ForwardFundingConvexityAdjustmentPremium", dblForwardFundingConvexityAdjustedCleanPV
-			- dblUnadjustedCleanPV);
-
-		mapResult.put ("ForwardFundingConvexityAdjustmentPremiumUpfront",
-			(dblForwardFundingConvexityAdjustedCleanPV - dblUnadjustedCleanPV) / dblFXAdjustedValueNotional);
-
-		mapResult.put ("ForwardFXConvexityAdjustedCleanDV01", dblForwardFXConvexityAdjustedCleanDV01);
-
-		mapResult.put ("ForwardFXConvexityAdjustedCleanPV", dblForwardFXConvexityAdjustedCleanPV);
-
-		mapResult.put ("ForwardFXConvexityAdjustedDirtyDV01", dblForwardFXConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("ForwardFXConvexityAdjustedDirtyPV", dblForwardFXConvexityAdjustedDirtyPV);
-
-		mapResult.put ("ForwardFXConvexityAdjustedDV01", dblForwardFXConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("ForwardFXConvexityAdjustedFairPremium", dblForwardFXConvexityAdjustedFairPremium);
-
-		mapResult.put ("ForwardFXConvexityAdjustedParRate", dblForwardFXConvexityAdjustedFairPremium);
-
-		mapResult.put ("ForwardFXConvexityAdjustedPV", dblForwardFXConvexityAdjustedCleanPV);
-
-		mapResult.put ("ForwardFXConvexityAdjustedRate", dblForwardFXConvexityAdjustedFairPremium);
-
-		mapResult.put ("ForwardFXConvexityAdjustedUpfront", dblForwardFXConvexityAdjustedCleanPV);
-
-		mapResult.put ("ForwardFXConvexityAdjustmentFactor", dblForwardFXConvexityAdjustedDirtyDV01 /
-			dblUnadjustedDirtyDV01);
-
-		mapResult.put ("ForwardFXConvexityAdjustmentPremium", dblForwardFXConvexityAdjustedCleanPV -
-			dblUnadjustedCleanPV);
-
-		mapResult.put ("ForwardFXConvexityAdjustmentPremiumUpfront", (dblForwardFXConvexityAdjustedCleanPV -
-			dblUnadjustedCleanPV) / dblFXAdjustedValueNotional);
-
-		mapResult.put ("FundingFXConvexityAdjustedCleanDV01", dblFundingFXConvexityAdjustedCleanDV01);
-
-		mapResult.put ("FundingFXConvexityAdjustedCleanPV", dblFundingFXConvexityAdjustedCleanPV);
-
-		mapResult.put ("FundingFXConvexityAdjustedDirtyDV01", dblFundingFXConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("FundingFXConvexityAdjustedDirtyPV", dblFundingFXConvexityAdjustedDirtyPV);
-
-		mapResult.put ("FundingFXConvexityAdjustedDV01", dblFundingFXConvexityAdjustedDirtyDV01);
-
-		mapResult.put ("FundingFXConvexityAdjustedFairPremium", dblFundingFXConvexityAdjustedFairPremium);
-
-		mapResult.put ("FundingFXConvexityAdjustedParRate", dblFundingFXConvexityAdjustedFairPremium);
-
-		mapResult.put ("FundingFXConvexityAdjustedPV", dblFundingFXConvexityAdjustedCleanPV);
-
-		mapResult.put ("FundingFXConvexityAdjustedRate", dblFundingFXConvexityAdjustedFairPremium);
-
-		mapResult.put ("FundingFXConvexityAdjustedUpfront", dblFundingFXConvexityAdjustedCleanPV);
-
-		mapResult.put ("FundingFXConvexityAdjustmentFactor", dblFundingFXConvexityAdjustedDirtyDV01 /
-			dblUnadjustedDirtyDV01);
-
-		mapResult.put ("FundingFXConvexityAdjustmentPremium", dblFundingFXConvexityAdjustedCleanPV -
-			dblUnadjustedCleanPV);
-
-		mapResult.put ("FundingFXConvexityAdjustmentPremiumUpfront", (dblFundingFXConvexityAdjustedCleanPV -
-			dblUnadjustedCleanPV) / dblFXAdjustedValueNotional);
-
-		mapResult.put ("ParRate", dblCumulativeConvexityAdjustedFairPremium);
-
-		mapResult.put ("PV", dblCumulativeConvexityAdjustedCleanPV);
-
-		mapResult.put ("Rate", dblCumulativeConvexityAdjustedFairPremium);
-
-		mapResult.put ("ResetDate", dblResetDate);
-
-		mapResult.put ("ResetRate", dblAccrualCoupon - basis());
-
-		mapResult.put ("TotalCoupon", dblTotalCoupon);
-
-		mapResult.put ("UnadjustedCleanDV01", dblUnadjustedCleanDV01);
-
-		mapResult.put ("UnadjustedCleanPV", dblUnadjustedCleanPV);
-
-		mapResult.put ("UnadjustedDirtyDV01", dblUnadjustedDirtyDV01);
-
-		mapResult.put ("UnadjustedDirtyPV", dblUnadjustedDirtyPV);
-
-		mapResult.put ("UnadjustedFairPremium", dblUnadjustedFairPremium);
-
-		mapResult.put ("UnadjustedParRate", dblUnadjustedFairPremium);
-
-		mapResult.put ("UnadjustedPV", dblUnadjustedCleanPV);
-
-		mapResult.put ("UnadjustedRate", dblUnadjustedFairPremium);
-
-		mapResult.put ("UnadjustedUpfront", dblUnadjustedCleanPV);
-
-		mapResult.put ("Upfront", dblCumulativeConvexityAdjustedCleanPV);
-
-		double dblCompoundingAdjustedCleanPrice = 100. * (1. + (dblCompoundingAdjustedCleanPV /
-			dblFXAdjustedValueNotional));
-		double dblCreditForwardConvexityAdjustedCleanPrice = 100. * (1. +
-			(dblCreditForwardConvexityAdjustedCleanPV / dblFXAdjustedValueNotional));
-		double dblCreditFundingConvexityAdjustedCleanPrice = 100. * (1. +
-			(dblCreditFundingConvexityAdjustedCleanPV / dblFXAdjustedValueNotional));
-		double dblCreditFXConvexityAdjustedCleanPrice = 100. * (1. + (dblCreditFXConvexityAdjustedCleanPV
-			/ dblFXAdjustedValueNotional));
-		double dblCumulativeConvexityAdjustedCleanPrice = 100. * (1. + (dblCumulativeConvexityAdjustedCleanPV
-			/ dblFXAdjustedValueNotional));
-		double dblForwardFundingConvexityAdjustedCleanPrice = 100. * (1. +
-			(dblForwardFundingConvexityAdjustedCleanPV / dblFXAdjustedValueNotional));
-		double dblForwardFXConvexityAdjustedCleanPrice = 100. * (1. + (dblForwardFXConvexityAdjustedCleanPV /
-			dblFXAdjustedValueNotional));
-		double dblFundingFXConvexityAdjustedCleanPrice = 100. * (1. + (dblFundingFXConvexityAdjustedCleanPV /
-			dblFXAdjustedValueNotional));
-		double dblUnadjustedCleanPrice = 100. * (1. + (dblUnadjustedCleanPV / dblFXAdjustedValueNotional));
-
-		mapResult.put ("CleanPrice", dblCumulativeConvexityAdjustedCleanPrice);
-
-		mapResult.put ("CompoundingAdjustedCleanPrice", dblCompoundingAdjustedCleanPrice);
-
-		mapResult.put ("CompoundingAdjustedDirtyPrice", 100. * (1. + (dblCompoundingAdjustedDirtyPV /
-			dblFXAdjustedValueNotional)));
-
-		mapResult.put ("CompoundingAdjustedPrice", dblCompoundingAdjustedCleanPrice);
-
-		mapResult.put ("CreditForwardConvexityAdjustedCleanPrice",
-			dblCreditForwardConvexityAdjustedCleanPrice);
-
-		mapResult.put ("CreditForwardConvexityAdjustedDirtyPrice", 100. * (1. +
-			(dblCreditForwardConvexityAdjustedDirtyPV / dblFXAdjustedValueNotional)));
-
-		mapResult.put ("CreditForwardConvexityAdjustedPrice", dblCreditForwardConvexityAdjustedCleanPrice);
-
-		mapResult.put ("CreditFundingConvexityAdjustedCleanPrice",
-			dblCreditFundingConvexityAdjustedCleanPrice);
-
-		mapResult.put ("CreditFundingConvexityAdjustedDirtyPrice", 100. * (1. +
-			(dblCreditFundingConvexityAdjustedDirtyPV / dblFXAdjustedValueNotional)));
-
-		mapResult.put ("CreditFundingConvexityAdjustedPrice", dblCreditFundingConvexityAdjustedCleanPrice);
-
-		mapResult.put ("CreditFXConvexityAdjustedCleanPrice", dblCreditFXConvexityAdjustedCleanPrice);
-
-		mapResult.put ("CreditFXConvexityAdjustedDirtyPrice", 100. * (1. +
-			(dblCreditFXConvexityAdjustedDirtyPV / dblFXAdjustedValueNotional)));
-
-		mapResult.put ("CreditFXConvexityAdjustedPrice", dblCreditFXConvexityAdjustedCleanPrice);
-
-		mapResult.put ("CumulativeConvexityAdjustedCleanPrice", dblCumulativeConvexityAdjustedCleanPrice);
-
-		mapResult.put ("CumulativeConvexityAdjustedDirtyPrice", 100. * (1. +
-			(dblCumulativeConvexityAdjustedDirtyPV / dblFXAdjustedValueNotional)));
-
-		mapResult.put ("CumulativeConvexityAdjustedPrice", dblCumulativeConvexityAdjustedCleanPrice);
-
-		mapResult.put ("DirtyPrice", 100. * (1. + (dblCumulativeConvexityAdjustedDirtyPV /
-			dblFXAdjustedValueNotional)));
-
-		mapResult.put ("ForwardFundingConvexityAdjustedCleanPrice",
-			dblForwardFundingConvexityAdjustedCleanPrice);
-
-		mapResult.put ("ForwardFundingConvexityAdjustedDirtyPrice", 100. * (1. +
-			(dblForwardFundingConvexityAdjustedDirtyPV / dblFXAdjustedValueNotional)));
-
-		mapResult.put ("ForwardFundingConvexityAdjustedPrice", dblForwardFundingConvexityAdjustedCleanPrice);
+				mv.set (aiSlot[ADJUSTMENT_PREMIUM_UPFRONT], (dblCleanPV - dblUnadjustedCleanPV) /
+					dblFXAdjustedValueNotional);
+			}
 
-		mapResult.put ("ForwardFXConvexityAdjustedCleanPrice", dblForwardFXConvexityAdjustedCleanPrice);
+			if (CUMULATIVE_FAMILY == k) {
+				SetFamilyMeasures (mv, s_aaiFamilySlot[0], dblCleanDV01, dblCleanPV, dblDirtyDV01, dblDirtyPV,
+					dblFairPremium, dblCleanPrice, dblDirtyPrice);
 
-		mapResult.put ("ForwardFXConvexityAdjustedDirtyPrice", 100. * (1. +
-			(dblForwardFXConvexityAdjustedDirtyPV / dblFXAdjustedValueNotional)));
+				mv.set (CUMULATIVE_DV01, dblCleanDV01);
 
-		mapResult.put ("ForwardFXConvexityAdjustedPrice", dblForwardFXConvexityAdjustedCleanPrice);
+				mv.set (CV01, dblCleanDV01);
+			}
+		}
 
-		mapResult.put ("FundingFXConvexityAdjustedCleanPrice", dblFundingFXConvexityAdjustedCleanPrice);
+		mv.set (ACCRUAL_COUPON, dblAccrualCoupon);
 
-		mapResult.put ("FundingFXConvexityAdjustedDirtyPrice", 100. * (1. +
-			(dblFundingFXConvexityAdjustedDirtyPV / dblFXAdjustedValueNotional)));
+		mv.set (ACCRUED, dblAccrued);
 
-		mapResult.put ("FundingFXConvexityAdjustedPrice", dblFundingFXConvexityAdjustedCleanPrice);
+		mv.set (ACCRUED01, dblAccrued01);
 
-		mapResult.put ("Price", dblCumulativeConvexityAdjustedCleanPrice);
+		mv.set (FIXING01, dblAccrued01);
 
-		mapResult.put ("UnadjustedCleanPrice", dblUnadjustedCleanPrice);
+		mv.set (RESET_DATE, dblResetDate);
 
-		mapResult.put ("UnadjustedDirtyPrice", 100. * (1. + (dblUnadjustedDirtyPV /
-			dblFXAdjustedValueNotional)));
+		mv.set (RESET_RATE, dblAccrualCoupon - basis());
 
-		mapResult.put ("UnadjustedPrice", dblUnadjustedCleanPrice);
+		mv.set (TOTAL_COUPON, dblTotalCoupon);
 
-		mapResult.put ("CalcTime", (System.nanoTime() - lStart) * 1.e-09);
+		mv.set (CALC_TIME, (System.nanoTime() - lStart) * 1.e-09);
 
-		return mapResult;
+		return true;
 	}
 
 	/**
@@ -0,0 +1,71 @@
+
+package org.drip.quant.calculus;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * AdjointNodeResponse is implemented by the Latent States whose Response is an explicit Function of a finite
+ * 	Set of Node Parameters. It registers the Nodes as Independent Variables on an AdjointTape, and records the
+ * 	Response at a given Ordinate as a Function of those Nodes, so that the Valuations built on top may be
+ * 	differentiated to the Nodes in a single Backward Sweep.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public interface AdjointNodeResponse {
+
+	/**
+	 * Register the Node Parameters as Independent Variables on the Tape
+	 * 
+	 * @param tape The Adjoint Tape
+	 * 
+	 * @return Array of the Node Parameter Tape Nodes
+	 */
+
+	public abstract int[] tapeNodes (
+		final org.drip.quant.calculus.AdjointTape tape);
+
+	/**
+	 * Record the Response at the specified Ordinate as a Function of the Node Parameters
+	 * 
+	 * @param tape The Adjoint Tape
+	 * @param aiNode Array of the Node Parameter Tape Nodes, as returned by tapeNodes
+	 * @param dblOrdinate The Response Ordinate
+	 * 
+	 * @return The Tape Node of the Response
+	 * 
+	 * @throws java.lang.Exception Thrown if the Response cannot be recorded
+	 */
+
+	public abstract int tapeResponse (
+		final org.drip.quant.calculus.AdjointTape tape,
+		final int[] aiNode,
+		final double dblOrdinate)
+		throws java.lang.Exception;
+}
@@ -0,0 +1,515 @@
+
+package org.drip.quant.calculus;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * AdjointTape records the Evaluation of a Function as a Wengert List - every Node holds its Value and its
+ * 	Local Partials to the Nodes it was computed from - and propagates Adjoints backwards along the List. A
+ * 	single Backward Sweep from an Output produces its Gradient to all the Independent Variables at a small
+ * 	constant Multiple of the Cost of the Forward Evaluation, independent of the Number of Independents. The
+ * 	Nodes are stored Struct-of-Arrays, with the Partials packed contiguously behind each Node. It exposes the
+ * 	following functionality:
+ * 	- Register Independent Variables and Constants
+ * 	- Record the Elementary Operations (Linear Combination, Product, Quotient, Exponential, Logarithm)
+ * 	- Retrieve the Node Values
+ * 	- Run the Backward Sweep for the Gradient of a single Output
+ * 	- Assemble the WengertJacobian of a Set of Outputs
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class AdjointTape {
+	private int _iNumArg = 0;
+	private int _iNumNode = 0;
+	private int _iNumIndependent = 0;
+	private int[] _aiArg = new int[64];
+	private int[] _aiArgStart = new int[33];
+	private double[] _adblValue = new double[32];
+	private int[] _aiIndependent = new int[16];
+	private double[] _adblPartial = new double[64];
+
+	private void checkNode (
+		final int iNode,
+		final java.lang.String strMethod)
+		throws java.lang.Exception
+	{
+		if (0 > iNode || iNode >= _iNumNode)
+			throw new java.lang.Exception ("AdjointTape::" + strMethod + " => Invalid Node");
+	}
+
+	private int record (
+		final double dblValue,
+		final int iNumArg)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblValue))
+			throw new java.lang.Exception ("AdjointTape::record => Invalid Node Value");
+
+		if (_iNumNode == _adblValue.length) {
+			_adblValue = java.util.Arrays.copyOf (_adblValue, 2 * _iNumNode);
+
+			_aiArgStart = java.util.Arrays.copyOf (_aiArgStart, 2 * _iNumNode + 1);
+		}
+
+		if (_iNumArg + iNumArg > _aiArg.length) {
+			int iCapacity = java.lang.Math.max (2 * _aiArg.length, _iNumArg + iNumArg);
+
+			_aiArg = java.util.Arrays.copyOf (_aiArg, iCapacity);
+
+			_adblPartial = java.util.Arrays.copyOf (_adblPartial, iCapacity);
+		}
+
+		_adblValue[_iNumNode] = dblValue;
+		_aiArgStart[_iNumNode + 1] = _iNumArg + iNumArg;
+		return _iNumNode++;
+	}
+
+	private void argument (
+		final int iArg,
+		final double dblPartial)
+	{
+		_aiArg[_iNumArg] = iArg;
+		_adblPartial[_iNumArg++] = dblPartial;
+	}
+
+	/**
+	 * Empty AdjointTape Constructor
+	 */
+
+	public AdjointTape()
+	{
+	}
+
+	/**
+	 * Clear the Tape for Re-use, retaining the allocated Storage
+	 */
+
+	public void reset()
+	{
+		_iNumArg = 0;
+		_iNumNode = 0;
+		_iNumIndependent = 0;
+	}
+
+	/**
+	 * Retrieve the Number of Nodes recorded on the Tape
+	 * 
+	 * @return The Number of Nodes
+	 */
+
+	public int numNode()
+	{
+		return _iNumNode;
+	}
+
+	/**
+	 * Retrieve the Number of Independent Variables registered on the Tape
+	 * 
+	 * @return The Number of Independent Variables
+	 */
+
+	public int numIndependent()
+	{
+		return _iNumIndependent;
+	}
+
+	/**
+	 * Retrieve the Value of the specified Node
+	 * 
+	 * @param iNode The Node
+	 * 
+	 * @return The Node Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Node is Invalid
+	 */
+
+	public double value (
+		final int iNode)
+		throws java.lang.Exception
+	{
+		checkNode (iNode, "value");
+
+		return _adblValue[iNode];
+	}
+
+	/**
+	 * Register an Independent Variable. The Gradients are reported in the Order of Registration.
+	 * 
+	 * @param dblValue The Value of the Independent Variable
+	 * 
+	 * @return The Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Value is Invalid
+	 */
+
+	public int independent (
+		final double dblValue)
+		throws java.lang.Exception
+	{
+		int iNode = record (dblValue, 0);
+
+		if (_iNumIndependent == _aiIndependent.length)
+			_aiIndependent = java.util.Arrays.copyOf (_aiIndependent, 2 * _iNumIndependent);
+
+		_aiIndependent[_iNumIndependent++] = iNode;
+		return iNode;
+	}
+
+	/**
+	 * Record a Constant
+	 * 
+	 * @param dblValue The Constant Value
+	 * 
+	 * @return The Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Value is Invalid
+	 */
+
+	public int constant (
+		final double dblValue)
+		throws java.lang.Exception
+	{
+		return record (dblValue, 0);
+	}
+
+	/**
+	 * Record the Linear Combination dblConstant + Sum (adblWeight[i] * Node[aiNode[i]])
+	 * 
+	 * @param aiNode Array of the Nodes
+	 * @param adblWeight Array of the Weights
+	 * @param dblConstant The Constant Term
+	 * 
+	 * @return The Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int linear (
+		final int[] aiNode,
+		final double[] adblWeight,
+		final double dblConstant)
+		throws java.lang.Exception
+	{
+		if (null == aiNode || null == adblWeight || aiNode.length != adblWeight.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblConstant))
+			throw new java.lang.Exception ("AdjointTape::linear => Invalid Inputs");
+
+		int iNumArg = aiNode.length;
+		double dblValue = dblConstant;
+
+		for (int i = 0; i < iNumArg; ++i) {
+			checkNode (aiNode[i], "linear");
+
+			dblValue += adblWeight[i] * _adblValue[aiNode[i]];
+		}
+
+		int iNode = record (dblValue, iNumArg);
+
+		for (int i = 0; i < iNumArg; ++i)
+			argument (aiNode[i], adblWeight[i]);
+
+		return iNode;
+	}
+
+	/**
+	 * Record the Affine Transform dblScale * Node[iNode] + dblShift
+	 * 
+	 * @param iNode The Node
+	 * @param dblScale The Scale
+	 * @param dblShift The Shift
+	 * 
+	 * @return The Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int affine (
+		final int iNode,
+		final double dblScale,
+		final double dblShift)
+		throws java.lang.Exception
+	{
+		checkNode (iNode, "affine");
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblScale) || !org.drip.quant.common.NumberUtil.IsValid
+			(dblShift))
+			throw new java.lang.Exception ("AdjointTape::affine => Invalid Inputs");
+
+		int iResult = record (dblScale * _adblValue[iNode] + dblShift, 1);
+
+		argument (iNode, dblScale);
+
+		return iResult;
+	}
+
+	/**
+	 * Record the Sum of the two Nodes
+	 * 
+	 * @param iNodeA Node A
+	 * @param iNodeB Node B
+	 * 
+	 * @return The Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int add (
+		final int iNodeA,
+		final int iNodeB)
+		throws java.lang.Exception
+	{
+		checkNode (iNodeA, "add");
+
+		checkNode (iNodeB, "add");
+
+		int iResult = record (_adblValue[iNodeA] + _adblValue[iNodeB], 2);
+
+		argument (iNodeA, 1.);
+
+		argument (iNodeB, 1.);
+
+		return iResult;
+	}
+
+	/**
+	 * Record the Product of the two Nodes
+	 * 
+	 * @param iNodeA Node A
+	 * @param iNodeB Node B
+	 * 
+	 * @return The Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int multiply (
+		final int iNodeA,
+		final int iNodeB)
+		throws java.lang.Exception
+	{
+		checkNode (iNodeA, "multiply");
+
+		checkNode (iNodeB, "multiply");
+
+		double dblA = _adblValue[iNodeA];
+		double dblB = _adblValue[iNodeB];
+
+		int iResult = record (dblA * dblB, 2);
+
+		argument (iNodeA, dblB);
+
+		argument (iNodeB, dblA);
+
+		return iResult;
+	}
+
+	/**
+	 * Record the Quotient of the two Nodes
+	 * 
+	 * @param iNodeNumerator The Numerator Node
+	 * @param iNodeDenominator The Denominator Node
+	 * 
+	 * @return The Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int divide (
+		final int iNodeNumerator,
+		final int iNodeDenominator)
+		throws java.lang.Exception
+	{
+		checkNode (iNodeNumerator, "divide");
+
+		checkNode (iNodeDenominator, "divide");
+
+		double dblDenominator = _adblValue[iNodeDenominator];
+
+		if (0. == dblDenominator) throw new java.lang.Exception ("AdjointTape::divide => Zero Denominator");
+
+		double dblQuotient = _adblValue[iNodeNumerator] / dblDenominator;
+
+		int iResult = record (dblQuotient, 2);
+
+		argument (iNodeNumerator, 1. / dblDenominator);
+
+		argument (iNodeDenominator, -1. * dblQuotient / dblDenominator);
+
+		return iResult;
+	}
+
+	/**
+	 * Record the Exponential of the Node
+	 * 
+	 * @param iNode The Node
+	 * 
+	 * @return The Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int exp (
+		final int iNode)
+		throws java.lang.Exception
+	{
+		checkNode (iNode, "exp");
+
+		double dblExp = java.lang.Math.exp (_adblValue[iNode]);
+
+		int iResult = record (dblExp, 1);
+
+		argument (iNode, dblExp);
+
+		return iResult;
+	}
+
+	/**
+	 * Record the Natural Logarithm of the Node
+	 * 
+	 * @param iNode The Node
+	 * 
+	 * @return The Node
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public int log (
+		final int iNode)
+		throws java.lang.Exception
+	{
+		checkNode (iNode, "log");
+
+		double dblX = _adblValue[iNode];
+
+		if (0. >= dblX) throw new java.lang.Exception ("AdjointTape::log => Invalid Inputs");
+
+		int iResult = record (java.lang.Math.log (dblX), 1);
+
+		argument (iNode, 1. / dblX);
+
+		return iResult;
+	}
+
+	/**
+	 * Run the Backward Sweep from the Output Node, and accumulate the Adjoint of every Node into the
+	 * 	Workspace
+	 * 
+	 * @param iOutput The Output Node
+	 * @param adblAdjoint The Adjoint Workspace, holding at least numNode() Entries
+	 * 
+	 * @return TRUE => The Backward Sweep has been run
+	 */
+
+	public boolean backwardSweep (
+		final int iOutput,
+		final double[] adblAdjoint)
+	{
+		if (0 > iOutput || iOutput >= _iNumNode || null == adblAdjoint || adblAdjoint.length < _iNumNode)
+			return false;
+
+		for (int i = 0; i < _iNumNode; ++i)
+			adblAdjoint[i] = 0.;
+
+		adblAdjoint[iOutput] = 1.;
+
+		for (int i = iOutput; i >= 0; --i) {
+			double dblAdjoint = adblAdjoint[i];
+
+			if (0. == dblAdjoint) continue;
+
+			for (int k = _aiArgStart[i]; k < _aiArgStart[i + 1]; ++k)
+				adblAdjoint[_aiArg[k]] += dblAdjoint * _adblPartial[k];
+		}
+
+		return true;
+	}
+
+	/**
+	 * Compute the Gradient of the Output Node to the Independent Variables in a single Backward Sweep
+	 * 
+	 * @param iOutput The Output Node
+	 * 
+	 * @return The Gradient, in the Order of the Registration of the Independent Variables
+	 */
+
+	public double[] adjoint (
+		final int iOutput)
+	{
+		double[] adblAdjoint = new double[_iNumNode];
+
+		if (!backwardSweep (iOutput, adblAdjoint)) return null;
+
+		double[] adblGradient = new double[_iNumIndependent];
+
+		for (int i = 0; i < _iNumIndependent; ++i)
+			adblGradient[i] = adblAdjoint[_aiIndependent[i]];
+
+		return adblGradient;
+	}
+
+	/**
+	 * Assemble the WengertJacobian of the Output Nodes to the Independent Variables, one Backward Sweep per
+	 * 	Output
+	 * 
+	 * @param aiOutput Array of the Output Nodes
+	 * 
+	 * @return The WengertJacobian
+	 */
+
+	public org.drip.quant.calculus.WengertJacobian jacobian (
+		final int[] aiOutput)
+	{
+		if (null == aiOutput || 0 == aiOutput.length || 0 == _iNumIndependent) return null;
+
+		int iNumOutput = aiOutput.length;
+		double[] adblAdjoint = new double[_iNumNode];
+		org.drip.quant.calculus.WengertJacobian wj = null;
+
+		try {
+			wj = new org.drip.quant.calculus.WengertJacobian (iNumOutput, _iNumIndependent);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		for (int i = 0; i < iNumOutput; ++i) {
+			if (!backwardSweep (aiOutput[i], adblAdjoint) || !wj.setWengert (i, _adblValue[aiOutput[i]]))
+				return null;
+
+			for (int j = 0; j < _iNumIndependent; ++j) {
+				if (!wj.accumulatePartialFirstDerivative (i, j, adblAdjoint[_aiIndependent[j]]))
+					return null;
+			}
+		}
+
+		return wj;
+	}
+}
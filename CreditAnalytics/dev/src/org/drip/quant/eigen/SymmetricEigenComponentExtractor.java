@@ -0,0 +1,702 @@
+
+package org.drip.quant.eigen;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * SymmetricEigenComponentExtractor extracts the Eigenvalues and the Eigenvectors of Real Symmetric Matrices
+ * 	by reducing the Matrix to Tridiagonal Form through Householder Reflections, and then running the
+ * 	Implicit-Shift QL Iterations on the Tridiagonal. The whole Work is done in place on a single Copy of the
+ * 	Input. When only the Top Components are needed, the QL runs on the Eigenvalues alone, and the selected
+ * 	Eigenvectors are recovered by Inverse Iteration on the Tridiagonal followed by the Back Transformation.
+ * 	The Components are ordered by Descending Eigenvalue, and each Eigenvector is signed so that its Largest
+ * 	Entry is Positive. Inputs that are not exactly Symmetric are replaced by their Symmetric Part. The
+ * 	References are:
+ * 
+ *  - Golub, G. H., and C. F. Van Loan (1996): Matrix Computations, Johns Hopkins University Press.
+ * 
+ *  - Wilkinson, J. H., and C. Reinsch (1971): Linear Algebra, Handbook for Automatic Computation, Springer.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SymmetricEigenComponentExtractor implements org.drip.quant.eigen.ComponentExtractor {
+	private static final double EPSILON = java.lang.Math.ulp (1.);
+
+	private int _iMaxIteration = -1;
+
+	/*
+	 * Reduce the Symmetric Matrix held in aadblV to the Tridiagonal (adblDiagonal, adblOffDiagonal), with
+	 * 	aadblV overwritten by the Orthogonal Transformation Q, i.e., A = Q.T.Q^T. The Off-Diagonal Entry i
+	 * 	couples the Rows i - 1 and i.
+	 */
+
+	private static final void Tridiagonalize (
+		final double[][] aadblV,
+		final double[] adblDiagonal,
+		final double[] adblOffDiagonal)
+	{
+		int iSize = adblDiagonal.length;
+
+		for (int j = 0; j < iSize; ++j)
+			adblDiagonal[j] = aadblV[iSize - 1][j];
+
+		for (int i = iSize - 1; i > 0; --i) {
+			double dblH = 0.;
+			double dblScale = 0.;
+
+			for (int k = 0; k < i; ++k)
+				dblScale += java.lang.Math.abs (adblDiagonal[k]);
+
+			if (0. == dblScale) {
+				adblOffDiagonal[i] = adblDiagonal[i - 1];
+
+				for (int j = 0; j < i; ++j) {
+					adblDiagonal[j] = aadblV[i - 1][j];
+					aadblV[i][j] = 0.;
+					aadblV[j][i] = 0.;
+				}
+			} else {
+				for (int k = 0; k < i; ++k) {
+					adblDiagonal[k] /= dblScale;
+					dblH += adblDiagonal[k] * adblDiagonal[k];
+				}
+
+				double dblF = adblDiagonal[i - 1];
+
+				double dblG = 0. < dblF ? -1. * java.lang.Math.sqrt (dblH) : java.lang.Math.sqrt (dblH);
+
+				adblOffDiagonal[i] = dblScale * dblG;
+				dblH -= dblF * dblG;
+				adblDiagonal[i - 1] = dblF - dblG;
+
+				for (int j = 0; j < i; ++j)
+					adblOffDiagonal[j] = 0.;
+
+				for (int j = 0; j < i; ++j) {
+					dblF = adblDiagonal[j];
+					aadblV[j][i] = dblF;
+					dblG = adblOffDiagonal[j] + aadblV[j][j] * dblF;
+
+					for (int k = j + 1; k <= i - 1; ++k) {
+						dblG += aadblV[k][j] * adblDiagonal[k];
+						adblOffDiagonal[k] += aadblV[k][j] * dblF;
+					}
+
+					adblOffDiagonal[j] = dblG;
+				}
+
+				dblF = 0.;
+
+				for (int j = 0; j < i; ++j) {
+					adblOffDiagonal[j] /= dblH;
+					dblF += adblOffDiagonal[j] * adblDiagonal[j];
+				}
+
+				double dblHH = dblF / (dblH + dblH);
+
+				for (int j = 0; j < i; ++j)
+					adblOffDiagonal[j] -= dblHH * adblDiagonal[j];
+
+				for (int j = 0; j < i; ++j) {
+					dblF = adblDiagonal[j];
+					dblG = adblOffDiagonal[j];
+
+					for (int k = j; k <= i - 1; ++k)
+						aadblV[k][j] -= (dblF * adblOffDiagonal[k] + dblG * adblDiagonal[k]);
+
+					adblDiagonal[j] = aadblV[i - 1][j];
+					aadblV[i][j] = 0.;
+				}
+			}
+
+			adblDiagonal[i] = dblH;
+		}
+
+		for (int i = 0; i < iSize - 1; ++i) {
+			aadblV[iSize - 1][i] = aadblV[i][i];
+			aadblV[i][i] = 1.;
+			double dblH = adblDiagonal[i + 1];
+
+			if (0. != dblH) {
+				for (int k = 0; k <= i; ++k)
+					adblDiagonal[k] = aadblV[k][i + 1] / dblH;
+
+				for (int j = 0; j <= i; ++j) {
+					double dblG = 0.;
+
+					for (int k = 0; k <= i; ++k)
+						dblG += aadblV[k][i + 1] * aadblV[k][j];
+
+					for (int k = 0; k <= i; ++k)
+						aadblV[k][j] -= dblG * adblDiagonal[k];
+				}
+			}
+
+			for (int k = 0; k <= i; ++k)
+				aadblV[k][i + 1] = 0.;
+		}
+
+		for (int j = 0; j < iSize; ++j) {
+			adblDiagonal[j] = aadblV[iSize - 1][j];
+			aadblV[iSize - 1][j] = 0.;
+		}
+
+		aadblV[iSize - 1][iSize - 1] = 1.;
+		adblOffDiagonal[0] = 0.;
+	}
+
+	/*
+	 * Diagonalize the Tridiagonal in place using the Implicit-Shift QL Iterations. The Diagonal is left
+	 * 	holding the Eigenvalues. If the Rotation Basis is supplied, its Rows are rotated along, so Row i ends
+	 * 	up as the Eigenvector of Eigenvalue i.
+	 */
+
+	private boolean diagonalize (
+		final double[] adblDiagonal,
+		final double[] adblOffDiagonal,
+		final double[][] aadblBasis)
+	{
+		double dblF = 0.;
+		double dblNorm = 0.;
+		int iSize = adblDiagonal.length;
+
+		for (int i = 1; i < iSize; ++i)
+			adblOffDiagonal[i - 1] = adblOffDiagonal[i];
+
+		adblOffDiagonal[iSize - 1] = 0.;
+
+		for (int l = 0; l < iSize; ++l) {
+			dblNorm = java.lang.Math.max (dblNorm, java.lang.Math.abs (adblDiagonal[l]) + java.lang.Math.abs
+				(adblOffDiagonal[l]));
+
+			int m = l;
+
+			while (m < iSize && java.lang.Math.abs (adblOffDiagonal[m]) > EPSILON * dblNorm)
+				++m;
+
+			if (m > l) {
+				int iIteration = 0;
+
+				do {
+					if (++iIteration > _iMaxIteration) return false;
+
+					double dblG = adblDiagonal[l];
+					double dblP = (adblDiagonal[l + 1] - dblG) / (2. * adblOffDiagonal[l]);
+
+					double dblR = java.lang.Math.hypot (dblP, 1.);
+
+					if (0. > dblP) dblR = -1. * dblR;
+
+					adblDiagonal[l] = adblOffDiagonal[l] / (dblP + dblR);
+					adblDiagonal[l + 1] = adblOffDiagonal[l] * (dblP + dblR);
+					double dblDiagonalNext = adblDiagonal[l + 1];
+					double dblH = dblG - adblDiagonal[l];
+
+					for (int i = l + 2; i < iSize; ++i)
+						adblDiagonal[i] -= dblH;
+
+					dblF += dblH;
+					dblP = adblDiagonal[m];
+					double dblC = 1.;
+					double dblC2 = 1.;
+					double dblC3 = 1.;
+					double dblS = 0.;
+					double dblS2 = 0.;
+					double dblOffDiagonalNext = adblOffDiagonal[l + 1];
+
+					for (int i = m - 1; i >= l; --i) {
+						dblC3 = dblC2;
+						dblC2 = dblC;
+						dblS2 = dblS;
+						dblG = dblC * adblOffDiagonal[i];
+						dblH = dblC * dblP;
+
+						dblR = java.lang.Math.hypot (dblP, adblOffDiagonal[i]);
+
+						adblOffDiagonal[i + 1] = dblS * dblR;
+						dblS = adblOffDiagonal[i] / dblR;
+						dblC = dblP / dblR;
+						dblP = dblC * adblDiagonal[i] - dblS * dblG;
+						adblDiagonal[i + 1] = dblH + dblS * (dblC * dblG + dblS * adblDiagonal[i]);
+
+						if (null != aadblBasis) {
+							double[] adblRow = aadblBasis[i];
+							double[] adblRowNext = aadblBasis[i + 1];
+
+							for (int k = 0; k < iSize; ++k) {
+								dblH = adblRowNext[k];
+								adblRowNext[k] = dblS * adblRow[k] + dblC * dblH;
+								adblRow[k] = dblC * adblRow[k] - dblS * dblH;
+							}
+						}
+					}
+
+					dblP = -1. * dblS * dblS2 * dblC3 * dblOffDiagonalNext * adblOffDiagonal[l] /
+						dblDiagonalNext;
+					adblOffDiagonal[l] = dblS * dblP;
+					adblDiagonal[l] = dblC * dblP;
+				} while (java.lang.Math.abs (adblOffDiagonal[l]) > EPSILON * dblNorm);
+			}
+
+			adblDiagonal[l] += dblF;
+			adblOffDiagonal[l] = 0.;
+		}
+
+		return true;
+	}
+
+	/*
+	 * Recover the Tridiagonal Eigenvector of the given Eigenvalue by Inverse Iteration, keeping it
+	 * 	Orthogonal to the Eigenvectors already found for the Eigenvalues clustered around it.
+	 */
+
+	private static final boolean InverseIterate (
+		final double[] adblDiagonal,
+		final double[] adblOffDiagonal,
+		final double dblEigenvalue,
+		final double dblNorm,
+		final double[][] aadblFound,
+		final double[] adblFoundEigenvalue,
+		final int iNumFound,
+		final double[] adblVector,
+		final double[][] aadblWorkspace)
+	{
+		int iSize = adblDiagonal.length;
+		double[] adblU0 = aadblWorkspace[0];
+		double[] adblU1 = aadblWorkspace[1];
+		double[] adblU2 = aadblWorkspace[2];
+		double[] adblMultiplier = aadblWorkspace[3];
+		double[] adblPivot = aadblWorkspace[4];
+		double dblPivotFloor = EPSILON * dblNorm;
+		double dblClusterWidth = 1.e-03 * dblNorm;
+
+		adblU0[0] = adblDiagonal[0] - dblEigenvalue;
+		adblU1[0] = 1 < iSize ? adblOffDiagonal[0] : 0.;
+		adblU2[0] = 0.;
+
+		for (int i = 0; i < iSize - 1; ++i) {
+			double dblSub = adblOffDiagonal[i];
+			double dblDiagonalNext = adblDiagonal[i + 1] - dblEigenvalue;
+			double dblSuperNext = i + 2 < iSize ? adblOffDiagonal[i + 1] : 0.;
+
+			if (java.lang.Math.abs (adblU0[i]) >= java.lang.Math.abs (dblSub)) {
+				if (0. == adblU0[i]) adblU0[i] = dblPivotFloor;
+
+				adblPivot[i] = 0.;
+				adblMultiplier[i] = dblSub / adblU0[i];
+				adblU0[i + 1] = dblDiagonalNext - adblMultiplier[i] * adblU1[i];
+				adblU1[i + 1] = dblSuperNext - adblMultiplier[i] * adblU2[i];
+			} else {
+				adblPivot[i] = 1.;
+				adblMultiplier[i] = adblU0[i] / dblSub;
+				adblU0[i + 1] = adblU1[i] - adblMultiplier[i] * dblDiagonalNext;
+				adblU1[i + 1] = adblU2[i] - adblMultiplier[i] * dblSuperNext;
+				adblU0[i] = dblSub;
+				adblU1[i] = dblDiagonalNext;
+				adblU2[i] = dblSuperNext;
+			}
+
+			adblU2[i + 1] = 0.;
+		}
+
+		if (0. == adblU0[iSize - 1]) adblU0[iSize - 1] = dblPivotFloor;
+
+		for (int k = 0; k < iSize; ++k)
+			adblVector[k] = 1. / java.lang.Math.sqrt (iSize) * (1. + 0.01 * (k % 7));
+
+		for (int iIteration = 0; iIteration < 3; ++iIteration) {
+			for (int i = 0; i < iSize - 1; ++i) {
+				if (0. != adblPivot[i]) {
+					double dblSwap = adblVector[i];
+					adblVector[i] = adblVector[i + 1];
+					adblVector[i + 1] = dblSwap;
+				}
+
+				adblVector[i + 1] -= adblMultiplier[i] * adblVector[i];
+			}
+
+			for (int i = iSize - 1; i >= 0; --i) {
+				double dblValue = adblVector[i];
+
+				if (i + 1 < iSize) dblValue -= adblU1[i] * adblVector[i + 1];
+
+				if (i + 2 < iSize) dblValue -= adblU2[i] * adblVector[i + 2];
+
+				adblVector[i] = dblValue / adblU0[i];
+			}
+
+			for (int j = 0; j < iNumFound; ++j) {
+				if (java.lang.Math.abs (adblFoundEigenvalue[j] - dblEigenvalue) > dblClusterWidth) continue;
+
+				double dblProjection = 0.;
+				double[] adblFound = aadblFound[j];
+
+				for (int k = 0; k < iSize; ++k)
+					dblProjection += adblFound[k] * adblVector[k];
+
+				for (int k = 0; k < iSize; ++k)
+					adblVector[k] -= dblProjection * adblFound[k];
+			}
+
+			double dblLength = 0.;
+
+			for (int k = 0; k < iSize; ++k)
+				dblLength += adblVector[k] * adblVector[k];
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblLength) || 0. == dblLength) return false;
+
+			dblLength = 1. / java.lang.Math.sqrt (dblLength);
+
+			for (int k = 0; k < iSize; ++k)
+				adblVector[k] *= dblLength;
+		}
+
+		return true;
+	}
+
+	private static final void SignAndSort (
+		final double[][] aadblEigenvector,
+		final double[] adblEigenvalue)
+	{
+		int iNumComponent = adblEigenvalue.length;
+
+		for (int i = 1; i < iNumComponent; ++i) {
+			int j = i;
+			double dblEigenvalue = adblEigenvalue[i];
+			double[] adblEigenvector = aadblEigenvector[i];
+
+			for (; j > 0 && adblEigenvalue[j - 1] < dblEigenvalue; --j) {
+				adblEigenvalue[j] = adblEigenvalue[j - 1];
+				aadblEigenvector[j] = aadblEigenvector[j - 1];
+			}
+
+			adblEigenvalue[j] = dblEigenvalue;
+			aadblEigenvector[j] = adblEigenvector;
+		}
+
+		for (double[] adblEigenvector : aadblEigenvector) {
+			int iLargest = 0;
+
+			for (int k = 1; k < adblEigenvector.length; ++k) {
+				if (java.lang.Math.abs (adblEigenvector[k]) > java.lang.Math.abs (adblEigenvector[iLargest]))
+					iLargest = k;
+			}
+
+			if (0. > adblEigenvector[iLargest]) {
+				for (int k = 0; k < adblEigenvector.length; ++k)
+					adblEigenvector[k] = -1. * adblEigenvector[k];
+			}
+		}
+	}
+
+	/*
+	 * Copy the Input into the Work Matrix, taking its Symmetric Part (A + A^T) / 2
+	 */
+
+	private static final double[][] SymmetricCopy (
+		final double[][] aadblA)
+	{
+		if (null == aadblA) return null;
+
+		int iSize = aadblA.length;
+
+		if (0 == iSize) return null;
+
+		double[][] aadblV = new double[iSize][];
+
+		for (int i = 0; i < iSize; ++i) {
+			if (null == aadblA[i] || iSize != aadblA[i].length) return null;
+
+			aadblV[i] = aadblA[i].clone();
+		}
+
+		for (int i = 0; i < iSize; ++i) {
+			for (int j = 0; j < i; ++j) {
+				if (!org.drip.quant.common.NumberUtil.IsValid (aadblV[i][j] = aadblV[j][i] = 0.5 *
+					(aadblV[i][j] + aadblV[j][i])))
+					return null;
+			}
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (aadblV[i][i])) return null;
+		}
+
+		return aadblV;
+	}
+
+	/**
+	 * Construct the Standard SymmetricEigenComponentExtractor Instance - at most 50 QL Iterations per
+	 * 	Eigenvalue
+	 * 
+	 * @return The Standard SymmetricEigenComponentExtractor Instance
+	 */
+
+	public static final SymmetricEigenComponentExtractor Standard()
+	{
+		try {
+			return new SymmetricEigenComponentExtractor (50);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * SymmetricEigenComponentExtractor Constructor
+	 * 
+	 * @param iMaxIteration Maximum Number of QL Iterations per Eigenvalue
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SymmetricEigenComponentExtractor (
+		final int iMaxIteration)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iMaxIteration = iMaxIteration))
+			throw new java.lang.Exception ("SymmetricEigenComponentExtractor ctr: Invalid Inputs!");
+	}
+
+	/**
+	 * Retrieve the Maximum Number of QL Iterations per Eigenvalue
+	 * 
+	 * @return The Maximum Number of QL Iterations per Eigenvalue
+	 */
+
+	public int maxIterations()
+	{
+		return _iMaxIteration;
+	}
+
+	/**
+	 * Compute the Eigenvalues alone of the Symmetric Matrix, in Descending Order
+	 * 
+	 * @param aadblA The Symmetric Input Matrix
+	 * 
+	 * @return The Eigenvalues in Descending Order
+	 */
+
+	public double[] eigenvalues (
+		final double[][] aadblA)
+	{
+		double[][] aadblV = SymmetricCopy (aadblA);
+
+		if (null == aadblV) return null;
+
+		int iSize = aadblV.length;
+		double[] adblEigenvalue = new double[iSize];
+		double[] adblOffDiagonal = new double[iSize];
+
+		Tridiagonalize (aadblV, adblEigenvalue, adblOffDiagonal);
+
+		if (!diagonalize (adblEigenvalue, adblOffDiagonal, null)) return null;
+
+		java.util.Arrays.sort (adblEigenvalue);
+
+		for (int i = 0; i < iSize / 2; ++i) {
+			double dblSwap = adblEigenvalue[i];
+			adblEigenvalue[i] = adblEigenvalue[iSize - 1 - i];
+			adblEigenvalue[iSize - 1 - i] = dblSwap;
+		}
+
+		return adblEigenvalue;
+	}
+
+	@Override public org.drip.quant.eigen.EigenOutput eigenize (
+		final double[][] aadblA)
+	{
+		double[][] aadblV = SymmetricCopy (aadblA);
+
+		if (null == aadblV) return null;
+
+		int iSize = aadblV.length;
+		double[] adblEigenvalue = new double[iSize];
+		double[] adblOffDiagonal = new double[iSize];
+
+		Tridiagonalize (aadblV, adblEigenvalue, adblOffDiagonal);
+
+		/*
+		 * Transpose Q in place, so that the QL Rotations act on contiguous Rows
+		 */
+
+		for (int i = 0; i < iSize; ++i) {
+			for (int j = 0; j < i; ++j) {
+				double dblSwap = aadblV[i][j];
+				aadblV[i][j] = aadblV[j][i];
+				aadblV[j][i] = dblSwap;
+			}
+		}
+
+		if (!diagonalize (adblEigenvalue, adblOffDiagonal, aadblV)) return null;
+
+		SignAndSort (aadblV, adblEigenvalue);
+
+		try {
+			return new org.drip.quant.eigen.EigenOutput (aadblV, adblEigenvalue);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Extract the Components with the Largest Eigenvalues, in Descending Order of the Eigenvalue
+	 * 
+	 * @param aadblA The Symmetric Input Matrix
+	 * @param iNumComponent Number of Components to Extract
+	 * 
+	 * @return The Top Eigen Components
+	 */
+
+	public org.drip.quant.eigen.EigenComponent[] topComponents (
+		final double[][] aadblA,
+		final int iNumComponent)
+	{
+		double[][] aadblV = SymmetricCopy (aadblA);
+
+		if (null == aadblV || 0 >= iNumComponent || iNumComponent > aadblV.length) return null;
+
+		int iSize = aadblV.length;
+		double[] adblDiagonal = new double[iSize];
+		double[] adblOffDiagonal = new double[iSize];
+		double[] adblEigenvalue = new double[iSize];
+		double[] adblTridiagonalOffDiagonal = new double[iSize];
+		double[][] aadblWorkspace = new double[5][iSize];
+		double[][] aadblTridiagonalVector = new double[iNumComponent][iSize];
+		org.drip.quant.eigen.EigenComponent[] aEC = new org.drip.quant.eigen.EigenComponent[iNumComponent];
+
+		Tridiagonalize (aadblV, adblDiagonal, adblOffDiagonal);
+
+		for (int i = 1; i < iSize; ++i)
+			adblTridiagonalOffDiagonal[i - 1] = adblOffDiagonal[i];
+
+		double dblNorm = 0.;
+
+		for (int i = 0; i < iSize; ++i)
+			dblNorm = java.lang.Math.max (dblNorm, java.lang.Math.abs (adblDiagonal[i]) + java.lang.Math.abs
+				(adblTridiagonalOffDiagonal[i]) + (0 == i ? 0. : java.lang.Math.abs
+					(adblTridiagonalOffDiagonal[i - 1])));
+
+		if (0. == dblNorm) dblNorm = 1.;
+
+		java.lang.System.arraycopy (adblDiagonal, 0, adblEigenvalue, 0, iSize);
+
+		if (!diagonalize (adblEigenvalue, adblOffDiagonal, null)) return null;
+
+		java.util.Arrays.sort (adblEigenvalue);
+
+		double[] adblTopEigenvalue = new double[iNumComponent];
+
+		for (int i = 0; i < iNumComponent; ++i) {
+			adblTopEigenvalue[i] = adblEigenvalue[iSize - 1 - i];
+
+			if (!InverseIterate (adblDiagonal, adblTridiagonalOffDiagonal, adblTopEigenvalue[i], dblNorm,
+				aadblTridiagonalVector, adblTopEigenvalue, i, aadblTridiagonalVector[i], aadblWorkspace))
+				return null;
+		}
+
+		/*
+		 * Back Transform each Tridiagonal Eigenvector y into the Eigenvector Q.y of the Input Matrix
+		 */
+
+		double[][] aadblEigenvector = new double[iNumComponent][iSize];
+
+		for (int i = 0; i < iNumComponent; ++i) {
+			double[] adblY = aadblTridiagonalVector[i];
+			double[] adblEigenvector = aadblEigenvector[i];
+
+			for (int k = 0; k < iSize; ++k) {
+				double dblComponent = 0.;
+				double[] adblQRow = aadblV[k];
+
+				for (int j = 0; j < iSize; ++j)
+					dblComponent += adblQRow[j] * adblY[j];
+
+				adblEigenvector[k] = dblComponent;
+			}
+		}
+
+		SignAndSort (aadblEigenvector, adblTopEigenvalue);
+
+		try {
+			for (int i = 0; i < iNumComponent; ++i)
+				aEC[i] = new org.drip.quant.eigen.EigenComponent (aadblEigenvector[i], adblTopEigenvalue[i]);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		return aEC;
+	}
+
+	/**
+	 * Generate the Components arranged by Descending Eigenvalue
+	 * 
+	 * @param aadblA The Symmetric Input Matrix
+	 * 
+	 * @return The Components arranged by Descending Eigenvalue
+	 */
+
+	public org.drip.quant.eigen.EigenComponent[] orderedComponents (
+		final double[][] aadblA)
+	{
+		org.drip.quant.eigen.EigenOutput eo = eigenize (aadblA);
+
+		if (null == eo) return null;
+
+		double[] adblEigenvalue = eo.eigenvalue();
+
+		double[][] aadblEigenvector = eo.eigenvector();
+
+		org.drip.quant.eigen.EigenComponent[] aEC = new
+			org.drip.quant.eigen.EigenComponent[adblEigenvalue.length];
+
+		try {
+			for (int i = 0; i < adblEigenvalue.length; ++i)
+				aEC[i] = new org.drip.quant.eigen.EigenComponent (aadblEigenvector[i], adblEigenvalue[i]);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		return aEC;
+	}
+
+	@Override public org.drip.quant.eigen.EigenComponent principalComponent (
+		final double[][] aadblA)
+	{
+		org.drip.quant.eigen.EigenComponent[] aEC = topComponents (aadblA, 1);
+
+		return null == aEC ? null : aEC[0];
+	}
+}
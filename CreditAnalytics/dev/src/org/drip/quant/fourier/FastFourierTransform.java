@@ -0,0 +1,181 @@
+
+package org.drip.quant.fourier;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * FastFourierTransform implements the In-place Radix-2 Cooley-Tukey Discrete Fourier Transform over
+ * 	separate Real/Imaginary Arrays. The Bit Reversal Permutation and the Twiddle Factors are set up once at
+ * 	Construction, so a single Instance may be re-used across Transforms of the same Size. The Forward
+ * 	Transform is
+ * 
+ * 		X_k = Sum_j x_j exp (-2 PI i j k / N)
+ * 
+ * 	and the Inverse carries the opposite Sign and the 1/N Normalization.
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class FastFourierTransform {
+	private int _iSize = -1;
+	private double[] _adblSine = null;
+	private double[] _adblCosine = null;
+	private int[] _aiBitReversedIndex = null;
+
+	private boolean transform (
+		final double[] adblReal,
+		final double[] adblImaginary,
+		final double dblSign)
+	{
+		if (null == adblReal || null == adblImaginary || _iSize != adblReal.length || _iSize !=
+			adblImaginary.length)
+			return false;
+
+		for (int i = 0; i < _iSize; ++i) {
+			int j = _aiBitReversedIndex[i];
+
+			if (j > i) {
+				double dblSwap = adblReal[i];
+				adblReal[i] = adblReal[j];
+				adblReal[j] = dblSwap;
+				dblSwap = adblImaginary[i];
+				adblImaginary[i] = adblImaginary[j];
+				adblImaginary[j] = dblSwap;
+			}
+		}
+
+		for (int iSpan = 1; iSpan < _iSize; iSpan <<= 1) {
+			int iTwiddleStride = _iSize / (iSpan << 1);
+
+			for (int iStart = 0; iStart < _iSize; iStart += iSpan << 1) {
+				for (int k = 0; k < iSpan; ++k) {
+					int iLower = iStart + k;
+					int iUpper = iLower + iSpan;
+					double dblTwiddleReal = _adblCosine[k * iTwiddleStride];
+					double dblTwiddleImaginary = dblSign * _adblSine[k * iTwiddleStride];
+					double dblUpperReal = adblReal[iUpper] * dblTwiddleReal - adblImaginary[iUpper] *
+						dblTwiddleImaginary;
+					double dblUpperImaginary = adblReal[iUpper] * dblTwiddleImaginary + adblImaginary[iUpper]
+						* dblTwiddleReal;
+					adblReal[iUpper] = adblReal[iLower] - dblUpperReal;
+					adblImaginary[iUpper] = adblImaginary[iLower] - dblUpperImaginary;
+					adblReal[iLower] += dblUpperReal;
+					adblImaginary[iLower] += dblUpperImaginary;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * FastFourierTransform Constructor
+	 * 
+	 * @param iSize The Transform Size - must be a Power of 2
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public FastFourierTransform (
+		final int iSize)
+		throws java.lang.Exception
+	{
+		if (1 > (_iSize = iSize) || 0 != (iSize & (iSize - 1)))
+			throw new java.lang.Exception ("FastFourierTransform ctr: Invalid Inputs");
+
+		int iNumBit = java.lang.Integer.numberOfTrailingZeros (iSize);
+
+		_adblSine = new double[iSize / 2 + 1];
+		_adblCosine = new double[iSize / 2 + 1];
+		_aiBitReversedIndex = new int[iSize];
+
+		for (int i = 0; i < iSize; ++i)
+			_aiBitReversedIndex[i] = 0 == iNumBit ? 0 : java.lang.Integer.reverse (i) >>> (32 - iNumBit);
+
+		for (int k = 0; k <= iSize / 2; ++k) {
+			double dblAngle = -2. * java.lang.Math.PI * k / iSize;
+
+			_adblSine[k] = java.lang.Math.sin (dblAngle);
+
+			_adblCosine[k] = java.lang.Math.cos (dblAngle);
+		}
+	}
+
+	/**
+	 * Retrieve the Transform Size
+	 * 
+	 * @return The Transform Size
+	 */
+
+	public int size()
+	{
+		return _iSize;
+	}
+
+	/**
+	 * Carry out the Forward Transform in place
+	 * 
+	 * @param adblReal Array of the Real Parts
+	 * @param adblImaginary Array of the Imaginary Parts
+	 * 
+	 * @return TRUE => The Transform has been carried out
+	 */
+
+	public boolean forward (
+		final double[] adblReal,
+		final double[] adblImaginary)
+	{
+		return transform (adblReal, adblImaginary, 1.);
+	}
+
+	/**
+	 * Carry out the Inverse Transform in place
+	 * 
+	 * @param adblReal Array of the Real Parts
+	 * @param adblImaginary Array of the Imaginary Parts
+	 * 
+	 * @return TRUE => The Transform has been carried out
+	 */
+
+	public boolean inverse (
+		final double[] adblReal,
+		final double[] adblImaginary)
+	{
+		if (!transform (adblReal, adblImaginary, -1.)) return false;
+
+		double dblScale = 1. / _iSize;
+
+		for (int i = 0; i < _iSize; ++i) {
+			adblReal[i] *= dblScale;
+			adblImaginary[i] *= dblScale;
+		}
+
+		return true;
+	}
+}
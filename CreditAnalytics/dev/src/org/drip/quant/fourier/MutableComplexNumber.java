@@ -0,0 +1,396 @@
+
+package org.drip.quant.fourier;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * MutableComplexNumber is the In-place Counterpart of ComplexNumber. Each Operation overwrites the Instance
+ * 	with its Result and returns it, so that the Inner Loops of the Fourier Inversion Pricers can run off of a
+ * 	handful of pre-allocated Registers instead of creating a new Instance per Operation. Unlike the
+ * 	ComplexNumber Logarithm/Argument, the Logarithm, the Square Root, and the Argument here are taken on the
+ * 	Principal Branch (via atan2).
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class MutableComplexNumber {
+	private double _dblReal = 0.;
+	private double _dblImaginary = 0.;
+
+	/**
+	 * Empty MutableComplexNumber Constructor - the Value is set to Zero
+	 */
+
+	public MutableComplexNumber()
+	{
+	}
+
+	/**
+	 * MutableComplexNumber Constructor
+	 * 
+	 * @param dblReal Real Part
+	 * @param dblImaginary Imaginary Part
+	 */
+
+	public MutableComplexNumber (
+		final double dblReal,
+		final double dblImaginary)
+	{
+		_dblReal = dblReal;
+		_dblImaginary = dblImaginary;
+	}
+
+	/**
+	 * Retrieve the Real Part
+	 * 
+	 * @return The Real Part
+	 */
+
+	public double real()
+	{
+		return _dblReal;
+	}
+
+	/**
+	 * Retrieve the Imaginary Part
+	 * 
+	 * @return The Imaginary Part
+	 */
+
+	public double imaginary()
+	{
+		return _dblImaginary;
+	}
+
+	/**
+	 * Retrieve the Modulus, i.e., the Square of the Absolute Value (as in ComplexNumber)
+	 * 
+	 * @return The Modulus
+	 */
+
+	public double modulus()
+	{
+		return _dblReal * _dblReal + _dblImaginary * _dblImaginary;
+	}
+
+	/**
+	 * Retrieve the Absolute Value
+	 * 
+	 * @return The Absolute Value
+	 */
+
+	public double abs()
+	{
+		return java.lang.Math.hypot (_dblReal, _dblImaginary);
+	}
+
+	/**
+	 * Retrieve the Principal Argument in (-PI, PI]
+	 * 
+	 * @return The Principal Argument
+	 */
+
+	public double argument()
+	{
+		return java.lang.Math.atan2 (_dblImaginary, _dblReal);
+	}
+
+	/**
+	 * Set the Value
+	 * 
+	 * @param dblReal Real Part
+	 * @param dblImaginary Imaginary Part
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber set (
+		final double dblReal,
+		final double dblImaginary)
+	{
+		_dblReal = dblReal;
+		_dblImaginary = dblImaginary;
+		return this;
+	}
+
+	/**
+	 * Set the Value from the specified Instance
+	 * 
+	 * @param mcn The Source Instance
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber set (
+		final MutableComplexNumber mcn)
+	{
+		_dblReal = mcn._dblReal;
+		_dblImaginary = mcn._dblImaginary;
+		return this;
+	}
+
+	/**
+	 * Add the specified Value
+	 * 
+	 * @param dblReal Real Part of the Addend
+	 * @param dblImaginary Imaginary Part of the Addend
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber add (
+		final double dblReal,
+		final double dblImaginary)
+	{
+		_dblReal += dblReal;
+		_dblImaginary += dblImaginary;
+		return this;
+	}
+
+	/**
+	 * Add the specified Instance
+	 * 
+	 * @param mcn The Addend
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber add (
+		final MutableComplexNumber mcn)
+	{
+		_dblReal += mcn._dblReal;
+		_dblImaginary += mcn._dblImaginary;
+		return this;
+	}
+
+	/**
+	 * Subtract the specified Instance
+	 * 
+	 * @param mcn The Subtrahend
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber subtract (
+		final MutableComplexNumber mcn)
+	{
+		_dblReal -= mcn._dblReal;
+		_dblImaginary -= mcn._dblImaginary;
+		return this;
+	}
+
+	/**
+	 * Replace the Value V with (dblReal + i.dblImaginary) - V
+	 * 
+	 * @param dblReal Real Part of the Minuend
+	 * @param dblImaginary Imaginary Part of the Minuend
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber subtractFrom (
+		final double dblReal,
+		final double dblImaginary)
+	{
+		_dblReal = dblReal - _dblReal;
+		_dblImaginary = dblImaginary - _dblImaginary;
+		return this;
+	}
+
+	/**
+	 * Scale by the specified Real Factor
+	 * 
+	 * @param dblScale The Scaling Factor
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber scale (
+		final double dblScale)
+	{
+		_dblReal *= dblScale;
+		_dblImaginary *= dblScale;
+		return this;
+	}
+
+	/**
+	 * Multiply by the specified Value
+	 * 
+	 * @param dblReal Real Part of the Multiplicand
+	 * @param dblImaginary Imaginary Part of the Multiplicand
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber multiply (
+		final double dblReal,
+		final double dblImaginary)
+	{
+		double dblProductReal = _dblReal * dblReal - _dblImaginary * dblImaginary;
+		_dblImaginary = _dblReal * dblImaginary + _dblImaginary * dblReal;
+		_dblReal = dblProductReal;
+		return this;
+	}
+
+	/**
+	 * Multiply by the specified Instance
+	 * 
+	 * @param mcn The Multiplicand
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber multiply (
+		final MutableComplexNumber mcn)
+	{
+		return multiply (mcn._dblReal, mcn._dblImaginary);
+	}
+
+	/**
+	 * Divide by the specified Value
+	 * 
+	 * @param dblReal Real Part of the Divisor
+	 * @param dblImaginary Imaginary Part of the Divisor
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber divide (
+		final double dblReal,
+		final double dblImaginary)
+	{
+		double dblInverseModulus = 1. / (dblReal * dblReal + dblImaginary * dblImaginary);
+
+		double dblQuotientReal = (_dblReal * dblReal + _dblImaginary * dblImaginary) * dblInverseModulus;
+		_dblImaginary = (_dblImaginary * dblReal - _dblReal * dblImaginary) * dblInverseModulus;
+		_dblReal = dblQuotientReal;
+		return this;
+	}
+
+	/**
+	 * Divide by the specified Instance
+	 * 
+	 * @param mcn The Divisor
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber divide (
+		final MutableComplexNumber mcn)
+	{
+		return divide (mcn._dblReal, mcn._dblImaginary);
+	}
+
+	/**
+	 * Replace the Value with its Principal Square Root, i.e., the one with the Non-negative Real Part
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber squareRoot()
+	{
+		double dblAbs = abs();
+
+		if (0. == dblAbs) return this;
+
+		if (0. <= _dblReal) {
+			double dblRootReal = java.lang.Math.sqrt (0.5 * (dblAbs + _dblReal));
+
+			_dblImaginary = 0.5 * _dblImaginary / dblRootReal;
+			_dblReal = dblRootReal;
+			return this;
+		}
+
+		double dblRootImaginary = java.lang.Math.sqrt (0.5 * (dblAbs - _dblReal));
+
+		if (0. > _dblImaginary) dblRootImaginary = -1. * dblRootImaginary;
+
+		_dblReal = 0.5 * _dblImaginary / dblRootImaginary;
+		_dblImaginary = dblRootImaginary;
+		return this;
+	}
+
+	/**
+	 * Exponentiate the Value
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber exponentiate()
+	{
+		double dblCoefficient = java.lang.Math.exp (_dblReal);
+
+		_dblReal = dblCoefficient * java.lang.Math.cos (_dblImaginary);
+		_dblImaginary = dblCoefficient * java.lang.Math.sin (_dblImaginary);
+		return this;
+	}
+
+	/**
+	 * Replace the Value with its Principal Logarithm
+	 * 
+	 * @return The Updated Instance
+	 */
+
+	public MutableComplexNumber logarithm()
+	{
+		double dblArgument = argument();
+
+		_dblReal = 0.5 * java.lang.Math.log (modulus());
+		_dblImaginary = dblArgument;
+		return this;
+	}
+
+	/**
+	 * Create an Immutable ComplexNumber Snapshot of the Value
+	 * 
+	 * @return The ComplexNumber Snapshot
+	 */
+
+	public org.drip.quant.fourier.ComplexNumber snapshot()
+	{
+		try {
+			return new org.drip.quant.fourier.ComplexNumber (_dblReal, _dblImaginary);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Display the Real/Imaginary Contents
+	 * 
+	 * @return The Real/Imaginary Contents
+	 */
+
+	public java.lang.String display()
+	{
+		return "\t[" + _dblReal + ", " + _dblImaginary + "]";
+	}
+}
@@ -0,0 +1,226 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CholeskyFactorization holds the Cholesky Factorization A = L * L' of a Symmetric Positive Definite
+ * 	Matrix, with the Lower Triangular L in a Row-Major Array. It needs half the Work of the LU Factorization,
+ * 	and no Pivoting - a Non-Positive Pivot means A is not Positive Definite, and the Factorization fails.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CholeskyFactorization extends org.drip.quant.linearalgebra.MatrixFactorization {
+	private double[] _adblL = null;
+
+	/**
+	 * Factorize the Symmetric Positive Definite Matrix - only its Lower Triangle is read
+	 *
+	 * @param aadblA The Symmetric Positive Definite Matrix
+	 *
+	 * @return The Cholesky Factorization (NULL if the Matrix is Invalid or not Positive Definite)
+	 */
+
+	public static final CholeskyFactorization Factorize (
+		final double[][] aadblA)
+	{
+		if (null == aadblA || 0 == aadblA.length || null == aadblA[0] || aadblA.length != aadblA[0].length)
+			return null;
+
+		double[] adblA = org.drip.quant.linearalgebra.RowMajorMatrix.Flatten (aadblA);
+
+		return null == adblA ? null : FactorizeInPlace (adblA, aadblA.length);
+	}
+
+	/**
+	 * Factorize the Symmetric Positive Definite Matrix held in a Row-Major Array. The Array is left
+	 * 	untouched.
+	 *
+	 * @param adblA The Row-Major Symmetric Positive Definite Matrix
+	 * @param iSize The Size of the Matrix
+	 *
+	 * @return The Cholesky Factorization (NULL if the Matrix is Invalid or not Positive Definite)
+	 */
+
+	public static final CholeskyFactorization Factorize (
+		final double[] adblA,
+		final int iSize)
+	{
+		return null == adblA || 0 >= iSize || iSize * iSize != adblA.length ? null : FactorizeInPlace
+			(adblA.clone(), iSize);
+	}
+
+	/**
+	 * Factorize the Symmetric Positive Definite Matrix held in a Row-Major Array, over-writing the Array
+	 * 	with L (the Strict Upper Triangle is zeroed)
+	 *
+	 * @param adblL The Row-Major Symmetric Positive Definite Matrix - over-written with L
+	 * @param iSize The Size of the Matrix
+	 *
+	 * @return The Cholesky Factorization (NULL if the Matrix is Invalid or not Positive Definite)
+	 */
+
+	public static final CholeskyFactorization FactorizeInPlace (
+		final double[] adblL,
+		final int iSize)
+	{
+		if (null == adblL || 0 >= iSize || iSize * iSize != adblL.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (adblL))
+			return null;
+
+		for (int i = 0; i < iSize; ++i) {
+			int iRowOffset = i * iSize;
+
+			for (int j = 0; j <= i; ++j) {
+				int iColumnOffset = j * iSize;
+				double dblSum = adblL[iRowOffset + j];
+
+				for (int k = 0; k < j; ++k)
+					dblSum -= adblL[iRowOffset + k] * adblL[iColumnOffset + k];
+
+				if (i != j)
+					adblL[iRowOffset + j] = dblSum / adblL[iColumnOffset + j];
+				else {
+					if (0. >= dblSum) return null;
+
+					adblL[iRowOffset + i] = java.lang.Math.sqrt (dblSum);
+				}
+			}
+
+			for (int j = i + 1; j < iSize; ++j)
+				adblL[iRowOffset + j] = 0.;
+		}
+
+		try {
+			return new CholeskyFactorization (iSize, adblL);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private CholeskyFactorization (
+		final int iSize,
+		final double[] adblL)
+		throws java.lang.Exception
+	{
+		super (iSize, iSize);
+
+		if (null == (_adblL = adblL) || iSize * iSize != _adblL.length)
+			throw new java.lang.Exception ("CholeskyFactorization ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Row-Major Lower Triangular Factor L
+	 *
+	 * @return The Row-Major Lower Triangular Factor L
+	 */
+
+	public double[] l()
+	{
+		return _adblL;
+	}
+
+	/**
+	 * Compute the Log of the Determinant of the Factored Matrix
+	 *
+	 * @return Log of the Determinant
+	 */
+
+	public double logDeterminant()
+	{
+		int iSize = numRow();
+
+		double dblLogDeterminant = 0.;
+
+		for (int i = 0; i < iSize; ++i)
+			dblLogDeterminant += java.lang.Math.log (_adblL[i * iSize + i]);
+
+		return 2. * dblLogDeterminant;
+	}
+
+	@Override public boolean solve (
+		final double[] adblB,
+		final double[] adblX,
+		final int iNumRHS)
+	{
+		int iSize = numRow();
+
+		if (null == adblB || null == adblX || 0 >= iNumRHS || iSize * iNumRHS > adblB.length || iSize *
+			iNumRHS > adblX.length)
+			return false;
+
+		if (adblB != adblX) java.lang.System.arraycopy (adblB, 0, adblX, 0, iSize * iNumRHS);
+
+		for (int i = 0; i < iSize; ++i) {
+			int iRowOffset = i * iSize;
+			int iXRowOffset = i * iNumRHS;
+
+			for (int j = 0; j < i; ++j) {
+				double dblL = _adblL[iRowOffset + j];
+
+				if (0. == dblL) continue;
+
+				int iXColumnOffset = j * iNumRHS;
+
+				for (int r = 0; r < iNumRHS; ++r)
+					adblX[iXRowOffset + r] -= dblL * adblX[iXColumnOffset + r];
+			}
+
+			double dblDiagonal = _adblL[iRowOffset + i];
+
+			for (int r = 0; r < iNumRHS; ++r)
+				adblX[iXRowOffset + r] /= dblDiagonal;
+		}
+
+		for (int i = iSize - 1; i >= 0; --i) {
+			int iXRowOffset = i * iNumRHS;
+			double dblDiagonal = _adblL[i * iSize + i];
+
+			for (int r = 0; r < iNumRHS; ++r) {
+				if (!org.drip.quant.common.NumberUtil.IsValid (adblX[iXRowOffset + r] /= dblDiagonal))
+					return false;
+			}
+
+			for (int j = 0; j < i; ++j) {
+				double dblL = _adblL[i * iSize + j];
+
+				if (0. == dblL) continue;
+
+				int iXColumnOffset = j * iNumRHS;
+
+				for (int r = 0; r < iNumRHS; ++r)
+					adblX[iXColumnOffset + r] -= dblL * adblX[iXRowOffset + r];
+			}
+		}
+
+		return true;
+	}
+}
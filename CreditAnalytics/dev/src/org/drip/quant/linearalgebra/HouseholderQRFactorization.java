@@ -0,0 +1,290 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * HouseholderQRFactorization holds the Householder QR Factorization A = Q * R of a (Number of Rows x Number
+ * 	of Columns) Matrix of Full Column Rank, with at least as many Rows as Columns. The Householder Vectors
+ * 	are packed below the Diagonal of a Row-Major Array, and R above it (its Diagonal is held separately).
+ * 	Solving a Tall System gives its Least Squares Solution.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class HouseholderQRFactorization extends org.drip.quant.linearalgebra.MatrixFactorization {
+	private double[] _adblQR = null;
+	private double[] _adblRDiagonal = null;
+
+	/**
+	 * Factorize the Matrix
+	 *
+	 * @param aadblA The Matrix - at least as many Rows as Columns
+	 *
+	 * @return The Householder QR Factorization (NULL if the Matrix is Invalid or Column Rank Deficient)
+	 */
+
+	public static final HouseholderQRFactorization Factorize (
+		final double[][] aadblA)
+	{
+		double[] adblA = org.drip.quant.linearalgebra.RowMajorMatrix.Flatten (aadblA);
+
+		return null == adblA ? null : FactorizeInPlace (adblA, aadblA.length, aadblA[0].length);
+	}
+
+	/**
+	 * Factorize the Matrix held in a Row-Major Array. The Array is left untouched.
+	 *
+	 * @param adblA The Row-Major Matrix
+	 * @param iNumRow Number of Rows
+	 * @param iNumColumn Number of Columns
+	 *
+	 * @return The Householder QR Factorization (NULL if the Matrix is Invalid or Column Rank Deficient)
+	 */
+
+	public static final HouseholderQRFactorization Factorize (
+		final double[] adblA,
+		final int iNumRow,
+		final int iNumColumn)
+	{
+		return null == adblA || 0 >= iNumRow || 0 >= iNumColumn || iNumRow * iNumColumn != adblA.length ?
+			null : FactorizeInPlace (adblA.clone(), iNumRow, iNumColumn);
+	}
+
+	/**
+	 * Factorize the Matrix held in a Row-Major Array, over-writing the Array with the Packed Householder
+	 * 	Vectors and R
+	 *
+	 * @param adblQR The Row-Major Matrix - over-written with the Packed Householder Vectors and R
+	 * @param iNumRow Number of Rows
+	 * @param iNumColumn Number of Columns
+	 *
+	 * @return The Householder QR Factorization (NULL if the Matrix is Invalid or Column Rank Deficient)
+	 */
+
+	public static final HouseholderQRFactorization FactorizeInPlace (
+		final double[] adblQR,
+		final int iNumRow,
+		final int iNumColumn)
+	{
+		if (null == adblQR || 0 >= iNumColumn || iNumRow < iNumColumn || iNumRow * iNumColumn !=
+			adblQR.length || !org.drip.quant.common.NumberUtil.IsValid (adblQR))
+			return null;
+
+		double[] adblRDiagonal = new double[iNumColumn];
+
+		for (int k = 0; k < iNumColumn; ++k) {
+			double dblNorm = 0.;
+
+			for (int i = k; i < iNumRow; ++i)
+				dblNorm = java.lang.Math.hypot (dblNorm, adblQR[i * iNumColumn + k]);
+
+			if (0. == dblNorm) return null;
+
+			if (0. > adblQR[k * iNumColumn + k]) dblNorm = -dblNorm;
+
+			for (int i = k; i < iNumRow; ++i)
+				adblQR[i * iNumColumn + k] /= dblNorm;
+
+			adblQR[k * iNumColumn + k] += 1.;
+
+			for (int j = k + 1; j < iNumColumn; ++j) {
+				double dblProjection = 0.;
+
+				for (int i = k; i < iNumRow; ++i)
+					dblProjection += adblQR[i * iNumColumn + k] * adblQR[i * iNumColumn + j];
+
+				dblProjection = -dblProjection / adblQR[k * iNumColumn + k];
+
+				for (int i = k; i < iNumRow; ++i)
+					adblQR[i * iNumColumn + j] += dblProjection * adblQR[i * iNumColumn + k];
+			}
+
+			adblRDiagonal[k] = -dblNorm;
+		}
+
+		try {
+			return new HouseholderQRFactorization (iNumRow, iNumColumn, adblQR, adblRDiagonal);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private HouseholderQRFactorization (
+		final int iNumRow,
+		final int iNumColumn,
+		final double[] adblQR,
+		final double[] adblRDiagonal)
+		throws java.lang.Exception
+	{
+		super (iNumRow, iNumColumn);
+
+		if (null == (_adblQR = adblQR) || iNumRow * iNumColumn != _adblQR.length || null == (_adblRDiagonal
+			= adblRDiagonal) || iNumColumn != _adblRDiagonal.length)
+			throw new java.lang.Exception ("HouseholderQRFactorization ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Upper Triangular Factor R (Number of Columns x Number of Columns)
+	 *
+	 * @return R in Row-Major Order
+	 */
+
+	public double[] r()
+	{
+		int iNumColumn = numColumn();
+
+		double[] adblR = new double[iNumColumn * iNumColumn];
+
+		for (int i = 0; i < iNumColumn; ++i) {
+			adblR[i * iNumColumn + i] = _adblRDiagonal[i];
+
+			for (int j = i + 1; j < iNumColumn; ++j)
+				adblR[i * iNumColumn + j] = _adblQR[i * iNumColumn + j];
+		}
+
+		return adblR;
+	}
+
+	/**
+	 * Generate the Thin Orthonormal Factor Q (Number of Rows x Number of Columns)
+	 *
+	 * @return Q in Row-Major Order
+	 */
+
+	public double[] q()
+	{
+		int iNumRow = numRow();
+
+		int iNumColumn = numColumn();
+
+		double[] adblQ = new double[iNumRow * iNumColumn];
+
+		for (int k = iNumColumn - 1; k >= 0; --k) {
+			adblQ[k * iNumColumn + k] = 1.;
+
+			for (int j = k; j < iNumColumn; ++j) {
+				double dblProjection = 0.;
+
+				for (int i = k; i < iNumRow; ++i)
+					dblProjection += _adblQR[i * iNumColumn + k] * adblQ[i * iNumColumn + j];
+
+				dblProjection = -dblProjection / _adblQR[k * iNumColumn + k];
+
+				for (int i = k; i < iNumRow; ++i)
+					adblQ[i * iNumColumn + j] += dblProjection * _adblQR[i * iNumColumn + k];
+			}
+		}
+
+		return adblQ;
+	}
+
+	@Override public boolean solve (
+		final double[] adblB,
+		final double[] adblX,
+		final int iNumRHS)
+	{
+		int iNumRow = numRow();
+
+		int iNumColumn = numColumn();
+
+		if (null == adblB || null == adblX || 0 >= iNumRHS || iNumRow * iNumRHS > adblB.length || iNumColumn
+			* iNumRHS > adblX.length)
+			return false;
+
+		double[] adblWork = adblB == adblX ? adblB : java.util.Arrays.copyOf (adblB, iNumRow * iNumRHS);
+
+		/*
+		 * Apply Q' to the Right Hand Sides, one Householder Reflection at a Time
+		 */
+
+		double[] adblProjection = new double[iNumRHS];
+
+		for (int k = 0; k < iNumColumn; ++k) {
+			java.util.Arrays.fill (adblProjection, 0.);
+
+			for (int i = k; i < iNumRow; ++i) {
+				double dblV = _adblQR[i * iNumColumn + k];
+
+				if (0. == dblV) continue;
+
+				int iWorkRowOffset = i * iNumRHS;
+
+				for (int r = 0; r < iNumRHS; ++r)
+					adblProjection[r] += dblV * adblWork[iWorkRowOffset + r];
+			}
+
+			double dblScale = -1. / _adblQR[k * iNumColumn + k];
+
+			for (int r = 0; r < iNumRHS; ++r)
+				adblProjection[r] *= dblScale;
+
+			for (int i = k; i < iNumRow; ++i) {
+				double dblV = _adblQR[i * iNumColumn + k];
+
+				if (0. == dblV) continue;
+
+				int iWorkRowOffset = i * iNumRHS;
+
+				for (int r = 0; r < iNumRHS; ++r)
+					adblWork[iWorkRowOffset + r] += adblProjection[r] * dblV;
+			}
+		}
+
+		/*
+		 * Back-substitute R * X = (Q' * B) over the leading Rows
+		 */
+
+		for (int i = iNumColumn - 1; i >= 0; --i) {
+			int iWorkRowOffset = i * iNumRHS;
+
+			for (int j = i + 1; j < iNumColumn; ++j) {
+				double dblR = _adblQR[i * iNumColumn + j];
+
+				if (0. == dblR) continue;
+
+				int iWorkColumnOffset = j * iNumRHS;
+
+				for (int r = 0; r < iNumRHS; ++r)
+					adblWork[iWorkRowOffset + r] -= dblR * adblWork[iWorkColumnOffset + r];
+			}
+
+			for (int r = 0; r < iNumRHS; ++r) {
+				if (!org.drip.quant.common.NumberUtil.IsValid (adblWork[iWorkRowOffset + r] /=
+					_adblRDiagonal[i]))
+					return false;
+			}
+		}
+
+		if (adblWork != adblX) java.lang.System.arraycopy (adblWork, 0, adblX, 0, iNumColumn * iNumRHS);
+
+		return true;
+	}
+}
@@ -0,0 +1,274 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LUFactorization holds the Partial-Pivot LU Factorization P * A = L * U of a Square Matrix. L (Unit Lower
+ * 	Triangular) and U are packed into a single Row-Major Array. Once factored, each new Right Hand Side
+ * 	costs only a Forward and a Backward Substitution; the Inverse is derived lazily, on first Request.
+ *
+ *  The Solves, the Inverse, and the Matrix Dimensions are those of MatrixFactorization, shared with the
+ * 	Cholesky and the QR Factorizations - only the Factory Methods, the Factors, and the Determinant are
+ * 	specific to LU.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LUFactorization extends org.drip.quant.linearalgebra.MatrixFactorization {
+	private int[] _aiPivot = null;
+	private double[] _adblLU = null;
+
+	/**
+	 * Factorize the Square Matrix
+	 *
+	 * @param aadblA The Square Matrix
+	 *
+	 * @return The LU Factorization (NULL if the Matrix is Invalid or Singular)
+	 */
+
+	public static final LUFactorization Factorize (
+		final double[][] aadblA)
+	{
+		if (null == aadblA || 0 == aadblA.length || null == aadblA[0] || aadblA.length != aadblA[0].length)
+			return null;
+
+		double[] adblA = org.drip.quant.linearalgebra.RowMajorMatrix.Flatten (aadblA);
+
+		return null == adblA ? null : FactorizeInPlace (adblA, aadblA.length);
+	}
+
+	/**
+	 * Factorize the Square Matrix held in a Row-Major Array. The Array is left untouched.
+	 *
+	 * @param adblA The Row-Major Square Matrix
+	 * @param iSize The Size of the Matrix
+	 *
+	 * @return The LU Factorization (NULL if the Matrix is Invalid or Singular)
+	 */
+
+	public static final LUFactorization Factorize (
+		final double[] adblA,
+		final int iSize)
+	{
+		return null == adblA || 0 >= iSize || iSize * iSize != adblA.length ? null : FactorizeInPlace
+			(adblA.clone(), iSize);
+	}
+
+	/**
+	 * Factorize the Square Matrix held in a Row-Major Array, over-writing the Array with the Packed Factors
+	 *
+	 * @param adblLU The Row-Major Square Matrix - over-written with the Packed L and U Factors
+	 * @param iSize The Size of the Matrix
+	 *
+	 * @return The LU Factorization (NULL if the Matrix is Invalid or Singular)
+	 */
+
+	public static final LUFactorization FactorizeInPlace (
+		final double[] adblLU,
+		final int iSize)
+	{
+		if (null == adblLU || 0 >= iSize || iSize * iSize != adblLU.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (adblLU))
+			return null;
+
+		int[] aiPivot = new int[iSize];
+
+		for (int i = 0; i < iSize; ++i)
+			aiPivot[i] = i;
+
+		for (int k = 0; k < iSize; ++k) {
+			int iPivotRow = k;
+			double dblPivotMagnitude = java.lang.Math.abs (adblLU[k * iSize + k]);
+
+			for (int i = k + 1; i < iSize; ++i) {
+				double dblMagnitude = java.lang.Math.abs (adblLU[i * iSize + k]);
+
+				if (dblMagnitude > dblPivotMagnitude) {
+					iPivotRow = i;
+					dblPivotMagnitude = dblMagnitude;
+				}
+			}
+
+			if (0. == dblPivotMagnitude) return null;
+
+			if (iPivotRow != k) {
+				for (int j = 0; j < iSize; ++j) {
+					double dblSwap = adblLU[k * iSize + j];
+					adblLU[k * iSize + j] = adblLU[iPivotRow * iSize + j];
+					adblLU[iPivotRow * iSize + j] = dblSwap;
+				}
+
+				int iSwap = aiPivot[k];
+				aiPivot[k] = aiPivot[iPivotRow];
+				aiPivot[iPivotRow] = iSwap;
+			}
+
+			double dblPivot = adblLU[k * iSize + k];
+
+			for (int i = k + 1; i < iSize; ++i) {
+				int iRowOffset = i * iSize;
+
+				double dblMultiplier = (adblLU[iRowOffset + k] /= dblPivot);
+
+				if (0. == dblMultiplier) continue;
+
+				for (int j = k + 1; j < iSize; ++j)
+					adblLU[iRowOffset + j] -= dblMultiplier * adblLU[k * iSize + j];
+			}
+		}
+
+		try {
+			return new LUFactorization (iSize, adblLU, aiPivot);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	private LUFactorization (
+		final int iSize,
+		final double[] adblLU,
+		final int[] aiPivot)
+		throws java.lang.Exception
+	{
+		super (iSize, iSize);
+
+		if (null == (_adblLU = adblLU) || iSize * iSize != _adblLU.length || null == (_aiPivot = aiPivot) ||
+			iSize != _aiPivot.length)
+			throw new java.lang.Exception ("LUFactorization ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Row Permutation - Row i of P * A is Row Pivot[i] of A
+	 *
+	 * @return The Row Permutation
+	 */
+
+	public int[] pivot()
+	{
+		return _aiPivot;
+	}
+
+	/**
+	 * Retrieve the Packed L and U Factors in Row-Major Order (the Unit Diagonal of L is not stored)
+	 *
+	 * @return The Packed L and U Factors
+	 */
+
+	public double[] packedLU()
+	{
+		return _adblLU;
+	}
+
+	/**
+	 * Compute the Determinant of the Factored Matrix
+	 *
+	 * @return The Determinant
+	 */
+
+	public double determinant()
+	{
+		int iSize = _aiPivot.length;
+		double dblDeterminant = 1.;
+		boolean[] abVisited = new boolean[iSize];
+
+		for (int i = 0; i < iSize; ++i) {
+			dblDeterminant *= _adblLU[i * iSize + i];
+
+			if (abVisited[i]) continue;
+
+			int iCycleLength = 0;
+
+			for (int j = i; !abVisited[j]; j = _aiPivot[j], ++iCycleLength)
+				abVisited[j] = true;
+
+			if (0 == iCycleLength % 2) dblDeterminant = -dblDeterminant;
+		}
+
+		return dblDeterminant;
+	}
+
+	@Override public boolean solve (
+		final double[] adblB,
+		final double[] adblX,
+		final int iNumRHS)
+	{
+		int iSize = _aiPivot.length;
+
+		if (null == adblB || null == adblX || 0 >= iNumRHS || iSize * iNumRHS > adblB.length || iSize *
+			iNumRHS > adblX.length)
+			return false;
+
+		double[] adblRHS = adblB == adblX ? java.util.Arrays.copyOf (adblB, iSize * iNumRHS) : adblB;
+
+		for (int i = 0; i < iSize; ++i) {
+			int iRowOffset = i * iSize;
+			int iXRowOffset = i * iNumRHS;
+
+			java.lang.System.arraycopy (adblRHS, _aiPivot[i] * iNumRHS, adblX, iXRowOffset, iNumRHS);
+
+			for (int j = 0; j < i; ++j) {
+				double dblL = _adblLU[iRowOffset + j];
+
+				if (0. == dblL) continue;
+
+				int iXColumnOffset = j * iNumRHS;
+
+				for (int r = 0; r < iNumRHS; ++r)
+					adblX[iXRowOffset + r] -= dblL * adblX[iXColumnOffset + r];
+			}
+		}
+
+		for (int i = iSize - 1; i >= 0; --i) {
+			int iRowOffset = i * iSize;
+			int iXRowOffset = i * iNumRHS;
+
+			for (int j = i + 1; j < iSize; ++j) {
+				double dblU = _adblLU[iRowOffset + j];
+
+				if (0. == dblU) continue;
+
+				int iXColumnOffset = j * iNumRHS;
+
+				for (int r = 0; r < iNumRHS; ++r)
+					adblX[iXRowOffset + r] -= dblU * adblX[iXColumnOffset + r];
+			}
+
+			double dblDiagonal = _adblLU[iRowOffset + i];
+
+			for (int r = 0; r < iNumRHS; ++r) {
+				if (!org.drip.quant.common.NumberUtil.IsValid (adblX[iXRowOffset + r] /= dblDiagonal))
+					return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -432,7 +432,8 @@ public class Matrix {
 	}
 
 	/**
-	 * Invert the input matrix using the specified Method
+	 * Invert the input matrix using the specified Method - "GaussianElimination" (the Default), or
+	 * 	"LUFactorization"
 	 * 
 	 * @param aadblA Input Matrix
 	 * @param strMethod The Inversion Method
@@ -446,6 +447,13 @@ public class Matrix {
 	{
 		if (null == aadblA) return null;
 
+		if (null != strMethod && strMethod.equalsIgnoreCase ("LUFactorization")) {
+			org.drip.quant.linearalgebra.LUFactorization lu =
+				org.drip.quant.linearalgebra.LUFactorization.Factorize (aadblA);
+
+			return null == lu ? null : lu.inverse();
+		}
+
 		int iSize = aadblA.length;
 		double[][] aadblAInv = null;
 		double[][] aadblASource = new double[iSize][iSize];
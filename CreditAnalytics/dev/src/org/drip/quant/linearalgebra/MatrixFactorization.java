@@ -0,0 +1,157 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * MatrixFactorization is the Abstract Base of the Factor-once/Solve-many Decompositions of a Matrix A. The
+ * 	Factors are held in Flat Row-Major Arrays; the Right Hand Sides and the Solutions are passed in Caller
+ * 	supplied Row-Major Buffers, one Column per Right Hand Side, so many Systems sharing A are solved in a
+ * 	single Sweep over the Factors.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class MatrixFactorization {
+	private int _iNumRow = -1;
+	private int _iNumColumn = -1;
+	private double[][] _aadblInverse = null;
+
+	protected MatrixFactorization (
+		final int iNumRow,
+		final int iNumColumn)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iNumRow = iNumRow) || 0 >= (_iNumColumn = iNumColumn) || _iNumRow < _iNumColumn)
+			throw new java.lang.Exception ("MatrixFactorization ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Retrieve the Number of Rows of the Factored Matrix
+	 *
+	 * @return The Number of Rows
+	 */
+
+	public int numRow()
+	{
+		return _iNumRow;
+	}
+
+	/**
+	 * Retrieve the Number of Columns of the Factored Matrix
+	 *
+	 * @return The Number of Columns
+	 */
+
+	public int numColumn()
+	{
+		return _iNumColumn;
+	}
+
+	/**
+	 * Solve A * X = B for several Right Hand Sides at once. B is a (Number of Rows x Number of RHS) Row-Major
+	 * 	Buffer, and X a (Number of Columns x Number of RHS) Row-Major Buffer. X may be B itself. Either Buffer
+	 * 	may be longer than that (only its leading Entries are used), so a Workspace can be re-used across
+	 * 	Calls; the Single Right Hand Side Overloads below, by contrast, insist on exact Lengths.
+	 *
+	 * @param adblB The Right Hand Side Buffer
+	 * @param adblX The Solution Buffer
+	 * @param iNumRHS The Number of Right Hand Sides
+	 *
+	 * @return TRUE => The Systems have been solved
+	 */
+
+	public abstract boolean solve (
+		final double[] adblB,
+		final double[] adblX,
+		final int iNumRHS);
+
+	/**
+	 * Solve A * x = b into the supplied Buffer. Both b and the Buffer hold Number of Rows Entries, and the
+	 * 	Solution occupies the first Number of Columns Entries of the Buffer. The Buffer may be b itself.
+	 *
+	 * @param adblB The Right Hand Side
+	 * @param adblX The Solution Buffer
+	 *
+	 * @return TRUE => The System has been solved
+	 */
+
+	public boolean solve (
+		final double[] adblB,
+		final double[] adblX)
+	{
+		return null != adblB && null != adblX && _iNumRow == adblB.length && _iNumRow == adblX.length &&
+			solve (adblB, adblX, 1);
+	}
+
+	/**
+	 * Solve A * x = b
+	 *
+	 * @param adblB The Right Hand Side
+	 *
+	 * @return The Solution (NULL if the System cannot be solved)
+	 */
+
+	public double[] solve (
+		final double[] adblB)
+	{
+		double[] adblX = new double[_iNumRow];
+
+		if (!solve (adblB, adblX)) return null;
+
+		if (_iNumRow == _iNumColumn) return adblX;
+
+		double[] adblSolution = new double[_iNumColumn];
+
+		java.lang.System.arraycopy (adblX, 0, adblSolution, 0, _iNumColumn);
+
+		return adblSolution;
+	}
+
+	/**
+	 * Retrieve the Inverse (the Least Squares Pseudo-Inverse for a Tall Matrix) of the Factored Matrix -
+	 * 	computed on the first Request, and cached thereafter
+	 *
+	 * @return The Inverse (NULL if it cannot be computed)
+	 */
+
+	public double[][] inverse()
+	{
+		if (null != _aadblInverse) return _aadblInverse;
+
+		double[] adblIdentity = new double[_iNumRow * _iNumRow];
+
+		for (int i = 0; i < _iNumRow; ++i)
+			adblIdentity[i * _iNumRow + i] = 1.;
+
+		if (!solve (adblIdentity, adblIdentity, _iNumRow)) return null;
+
+		return _aadblInverse = org.drip.quant.linearalgebra.RowMajorMatrix.Expand (adblIdentity,
+			_iNumColumn, _iNumRow);
+	}
+}
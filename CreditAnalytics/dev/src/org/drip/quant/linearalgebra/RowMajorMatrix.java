@@ -0,0 +1,232 @@
+
+package org.drip.quant.linearalgebra;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * RowMajorMatrix implements the Dense Matrix Operations over Flat Row-Major double Arrays - the Conversions
+ * 	to/from the double[][] Form, and Cache-Blocked Products written into Caller-supplied Buffers.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class RowMajorMatrix {
+
+	/**
+	 * Edge of the Square Blocks the Products are tiled into
+	 */
+
+	public static final int BLOCK_SIZE = 64;
+
+	/**
+	 * Flatten the Matrix into a Row-Major Array
+	 *
+	 * @param aadblA The Matrix
+	 *
+	 * @return The Row-Major Array (NULL if the Matrix is Invalid/Ragged)
+	 */
+
+	public static final double[] Flatten (
+		final double[][] aadblA)
+	{
+		if (null == aadblA || 0 == aadblA.length || null == aadblA[0]) return null;
+
+		int iNumRow = aadblA.length;
+		int iNumColumn = aadblA[0].length;
+		double[] adblA = new double[iNumRow * iNumColumn];
+
+		for (int i = 0; i < iNumRow; ++i) {
+			if (null == aadblA[i] || iNumColumn != aadblA[i].length) return null;
+
+			java.lang.System.arraycopy (aadblA[i], 0, adblA, i * iNumColumn, iNumColumn);
+		}
+
+		return adblA;
+	}
+
+	/**
+	 * Expand the leading (Number of Rows x Number of Columns) Block of the Row-Major Array into a Matrix
+	 *
+	 * @param adblA The Row-Major Array
+	 * @param iNumRow Number of Rows
+	 * @param iNumColumn Number of Columns
+	 *
+	 * @return The Matrix (NULL if the Inputs are Invalid)
+	 */
+
+	public static final double[][] Expand (
+		final double[] adblA,
+		final int iNumRow,
+		final int iNumColumn)
+	{
+		if (null == adblA || 0 >= iNumRow || 0 >= iNumColumn || iNumRow * iNumColumn > adblA.length)
+			return null;
+
+		double[][] aadblA = new double[iNumRow][iNumColumn];
+
+		for (int i = 0; i < iNumRow; ++i)
+			java.lang.System.arraycopy (adblA, i * iNumColumn, aadblA[i], 0, iNumColumn);
+
+		return aadblA;
+	}
+
+	/**
+	 * Transpose the (Number of Rows x Number of Columns) Matrix A into the Buffer A'
+	 *
+	 * @param adblA Row-Major A
+	 * @param adblATranspose Row-Major A' Buffer - must not be A
+	 * @param iNumRow Number of Rows of A
+	 * @param iNumColumn Number of Columns of A
+	 *
+	 * @return TRUE => The Transpose has been computed
+	 */
+
+	public static final boolean Transpose (
+		final double[] adblA,
+		final double[] adblATranspose,
+		final int iNumRow,
+		final int iNumColumn)
+	{
+		if (null == adblA || null == adblATranspose || adblA == adblATranspose || 0 >= iNumRow || 0 >=
+			iNumColumn || iNumRow * iNumColumn > adblA.length || iNumRow * iNumColumn >
+				adblATranspose.length)
+			return false;
+
+		for (int iBlockRow = 0; iBlockRow < iNumRow; iBlockRow += BLOCK_SIZE) {
+			int iRowEnd = java.lang.Math.min (iBlockRow + BLOCK_SIZE, iNumRow);
+
+			for (int iBlockColumn = 0; iBlockColumn < iNumColumn; iBlockColumn += BLOCK_SIZE) {
+				int iColumnEnd = java.lang.Math.min (iBlockColumn + BLOCK_SIZE, iNumColumn);
+
+				for (int i = iBlockRow; i < iRowEnd; ++i) {
+					for (int j = iBlockColumn; j < iColumnEnd; ++j)
+						adblATranspose[j * iNumRow + i] = adblA[i * iNumColumn + j];
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Compute the Product C = A * B, tiled into BLOCK_SIZE Blocks so the Working Rows of A, B, and C stay
+	 * 	in Cache
+	 *
+	 * @param adblA Row-Major A (Number of Rows x Inner Dimension)
+	 * @param adblB Row-Major B (Inner Dimension x Number of Columns)
+	 * @param adblC Row-Major C Buffer (Number of Rows x Number of Columns) - must not be A or B
+	 * @param iNumRow Number of Rows of A and C
+	 * @param iInner The Inner Dimension
+	 * @param iNumColumn Number of Columns of B and C
+	 *
+	 * @return TRUE => The Product has been computed
+	 */
+
+	public static final boolean Product (
+		final double[] adblA,
+		final double[] adblB,
+		final double[] adblC,
+		final int iNumRow,
+		final int iInner,
+		final int iNumColumn)
+	{
+		if (null == adblA || null == adblB || null == adblC || adblC == adblA || adblC == adblB || 0 >=
+			iNumRow || 0 >= iInner || 0 >= iNumColumn || iNumRow * iInner > adblA.length || iInner *
+				iNumColumn > adblB.length || iNumRow * iNumColumn > adblC.length)
+			return false;
+
+		java.util.Arrays.fill (adblC, 0, iNumRow * iNumColumn, 0.);
+
+		for (int iBlockRow = 0; iBlockRow < iNumRow; iBlockRow += BLOCK_SIZE) {
+			int iRowEnd = java.lang.Math.min (iBlockRow + BLOCK_SIZE, iNumRow);
+
+			for (int iBlockInner = 0; iBlockInner < iInner; iBlockInner += BLOCK_SIZE) {
+				int iInnerEnd = java.lang.Math.min (iBlockInner + BLOCK_SIZE, iInner);
+
+				for (int iBlockColumn = 0; iBlockColumn < iNumColumn; iBlockColumn += BLOCK_SIZE) {
+					int iColumnEnd = java.lang.Math.min (iBlockColumn + BLOCK_SIZE, iNumColumn);
+
+					for (int i = iBlockRow; i < iRowEnd; ++i) {
+						int iCRowOffset = i * iNumColumn;
+						int iARowOffset = i * iInner;
+
+						for (int k = iBlockInner; k < iInnerEnd; ++k) {
+							double dblAik = adblA[iARowOffset + k];
+
+							if (0. == dblAik) continue;
+
+							int iBRowOffset = k * iNumColumn;
+
+							for (int j = iBlockColumn; j < iColumnEnd; ++j)
+								adblC[iCRowOffset + j] += dblAik * adblB[iBRowOffset + j];
+						}
+					}
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Compute the Matrix-Vector Product y = A * x
+	 *
+	 * @param adblA Row-Major A (Number of Rows x Number of Columns)
+	 * @param adblX The Vector x
+	 * @param adblY The Product Buffer y - must not be x
+	 * @param iNumRow Number of Rows of A
+	 * @param iNumColumn Number of Columns of A
+	 *
+	 * @return TRUE => The Product has been computed
+	 */
+
+	public static final boolean Product (
+		final double[] adblA,
+		final double[] adblX,
+		final double[] adblY,
+		final int iNumRow,
+		final int iNumColumn)
+	{
+		if (null == adblA || null == adblX || null == adblY || adblX == adblY || 0 >= iNumRow || 0 >=
+			iNumColumn || iNumRow * iNumColumn > adblA.length || iNumColumn > adblX.length || iNumRow >
+				adblY.length)
+			return false;
+
+		for (int i = 0; i < iNumRow; ++i) {
+			double dblSum = 0.;
+			int iRowOffset = i * iNumColumn;
+
+			for (int j = 0; j < iNumColumn; ++j)
+				dblSum += adblA[iRowOffset + j] * adblX[j];
+
+			adblY[i] = dblSum;
+		}
+
+		return true;
+	}
+}
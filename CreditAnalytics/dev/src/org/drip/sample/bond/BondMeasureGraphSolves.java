@@ -0,0 +1,628 @@
+package org.drip.sample.bond;
+
+/*
+ * Credit Product imports
+ */
+
+import java.util.*;
+
+import org.drip.analytics.date.*;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.definition.CreditCurve;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.analytics.support.CaseInsensitiveTreeMap;
+import org.drip.market.otc.*;
+import org.drip.param.definition.*;
+import org.drip.param.market.*;
+import org.drip.param.valuation.*;
+import org.drip.param.creator.*;
+import org.drip.product.creator.*;
+import org.drip.product.credit.*;
+import org.drip.product.definition.*;
+import org.drip.product.rates.*;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.*;
+import org.drip.state.identifier.ForwardLabel;
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BondMeasureGraphSolves asks the BondMeasureGraph and the direct Bond xFromPrice Methods for the same Set
+ * 	of Measures off of a single Price Quote. It shows the following:
+ * 	- Create the funding/treasury/credit curves and a fixed coupon bond that counts its own root finds.
+ * 	- Compute every measure directly through the xFromPrice calls, counting the root finds.
+ * 	- Compute the same measures through the BondMeasureGraph, counting the root finds.
+ * 	- Check that the two measure sets agree, and display the root find counts on either path.
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondMeasureGraphSolves {
+
+	/*
+	 * Bond that counts the Invocations of its Root Finding Entry Points. The Count is kept by the Bond itself,
+	 * 	independent of the BondMeasureGraph's own rootFindCount().
+	 */
+
+	static class RootFindCountingBond extends BondComponent {
+		private static final long serialVersionUID = 1L;
+
+		int _iNumRootFind = 0;
+
+		RootFindCountingBond (
+			final BondComponent bond)
+		{
+			setTreasuryBenchmark (bond.treasuryBenchmark());
+
+			setIdentifierSet (bond.identifierSet());
+
+			setCouponSetting (bond.couponSetting());
+
+			setFloaterSetting (bond.floaterSetting());
+
+			setMarketConvention (bond.marketConvention());
+
+			setCreditSetting (bond.creditSetting());
+
+			setTerminationSetting (bond.terminationSetting());
+
+			setStream (bond.stream());
+
+			setNotionalSetting (bond.notionalSetting());
+		}
+
+		@Override public double yieldFromPrice (
+			final ValuationParams valParams,
+			final CurveSurfaceQuoteSet csqs,
+			final ValuationCustomizationParams vcp,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPrice)
+			throws Exception
+		{
+			++_iNumRootFind;
+
+			return super.yieldFromPrice (valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor, dblPrice);
+		}
+
+		@Override public double zspreadFromPrice (
+			final ValuationParams valParams,
+			final CurveSurfaceQuoteSet csqs,
+			final ValuationCustomizationParams vcp,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPrice)
+			throws Exception
+		{
+			++_iNumRootFind;
+
+			return super.zspreadFromPrice (valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor, dblPrice);
+		}
+
+		@Override public double oasFromPrice (
+			final ValuationParams valParams,
+			final CurveSurfaceQuoteSet csqs,
+			final ValuationCustomizationParams vcp,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPrice)
+			throws Exception
+		{
+			++_iNumRootFind;
+
+			return super.oasFromPrice (valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor, dblPrice);
+		}
+
+		@Override public double creditBasisFromPrice (
+			final ValuationParams valParams,
+			final CurveSurfaceQuoteSet csqs,
+			final ValuationCustomizationParams vcp,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPrice)
+			throws Exception
+		{
+			++_iNumRootFind;
+
+			return super.creditBasisFromPrice (valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor,
+				dblPrice);
+		}
+
+		@Override public double pecsFromPrice (
+			final ValuationParams valParams,
+			final CurveSurfaceQuoteSet csqs,
+			final ValuationCustomizationParams vcp,
+			final double dblWorkoutDate,
+			final double dblWorkoutFactor,
+			final double dblPrice)
+			throws Exception
+		{
+			++_iNumRootFind;
+
+			return super.pecsFromPrice (valParams, csqs, vcp, dblWorkoutDate, dblWorkoutFactor, dblPrice);
+		}
+	}
+
+	/*
+	 * Compute the Named Measure through the direct xFromPrice Call
+	 * 
+	 *  	USE WITH CARE: This sample ignores errors and does not handle exceptions.
+	 */
+
+	private static final double DirectMeasure (
+		final BondComponent bond,
+		final ValuationParams valParams,
+		final CurveSurfaceQuoteSet csqs,
+		final String strMeasure,
+		final double dblPrice)
+		throws Exception
+	{
+		double dblWorkoutDate = bond.maturityDate().julian();
+
+		if ("Yield".equals (strMeasure))
+			return bond.yieldFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("ZSpread".equals (strMeasure))
+			return bond.zspreadFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("OAS".equals (strMeasure))
+			return bond.oasFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("CreditBasis".equals (strMeasure))
+			return bond.creditBasisFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("PECS".equals (strMeasure))
+			return bond.pecsFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("ASW".equals (strMeasure))
+			return bond.aswFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("GSpread".equals (strMeasure))
+			return bond.gSpreadFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("ISpread".equals (strMeasure))
+			return bond.iSpreadFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("TSYSpread".equals (strMeasure))
+			return bond.tsySpreadFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("DiscountMargin".equals (strMeasure))
+			return bond.discountMarginFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("BondBasis".equals (strMeasure))
+			return bond.bondBasisFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("YieldSpread".equals (strMeasure))
+			return bond.yieldSpreadFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("ModifiedDuration".equals (strMeasure))
+			return bond.modifiedDurationFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("MacaulayDuration".equals (strMeasure))
+			return bond.macaulayDurationFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		if ("Convexity".equals (strMeasure))
+			return bond.convexityFromPrice (valParams, csqs, null, dblWorkoutDate, 1., dblPrice);
+
+		throw new Exception ("BondMeasureGraphSolves::DirectMeasure => Unknown Measure " + strMeasure);
+	}
+
+	private static final FixFloatComponent OTCIRS (
+		final JulianDate dtSpot,
+		final String strCurrency,
+		final String strMaturityTenor,
+		final double dblCoupon)
+	{
+		FixedFloatSwapConvention ffConv = IBORFixedFloatContainer.ConventionFromJurisdiction (
+			strCurrency,
+			"ALL",
+			strMaturityTenor,
+			"MAIN"
+		);
+
+		return ffConv.createFixFloatComponent (
+			dtSpot,
+			strMaturityTenor,
+			dblCoupon,
+			0.,
+			1.
+		);
+	}
+
+	/*
+	 * Sample demonstrating creation of a rates curve from instruments
+	 * 
+	 *  	USE WITH CARE: This sample ignores errors and does not handle exceptions.
+	 */
+
+	private static DiscountCurve BuildRatesCurveFromInstruments (
+		final JulianDate dtStart,
+		final String[] astrCashTenor,
+		final double[] adblCashRate,
+		final String[] astrIRSTenor,
+		final double[] adblIRSRate,
+		final double dblBump,
+		final String strCurrency)
+		throws Exception
+	{
+		int iNumDCInstruments = astrCashTenor.length + adblIRSRate.length;
+		double adblDate[] = new double[iNumDCInstruments];
+		double adblRate[] = new double[iNumDCInstruments];
+		String astrCalibMeasure[] = new String[iNumDCInstruments];
+		double adblCompCalibValue[] = new double[iNumDCInstruments];
+		CalibratableFixedIncomeComponent aCompCalib[] = new CalibratableFixedIncomeComponent[iNumDCInstruments];
+
+		// Cash Calibration
+
+		JulianDate dtCashEffective = dtStart.addBusDays (
+			1,
+			strCurrency
+		);
+
+		for (int i = 0; i < astrCashTenor.length; ++i) {
+			astrCalibMeasure[i] = "Rate";
+			adblRate[i] = java.lang.Double.NaN;
+			adblCompCalibValue[i] = adblCashRate[i] + dblBump;
+
+			aCompCalib[i] = SingleStreamComponentBuilder.Deposit (
+				dtCashEffective,
+				new JulianDate (adblDate[i] = dtCashEffective.addTenor (astrCashTenor[i]).julian()),
+				ForwardLabel.Create (
+					strCurrency,
+					astrCashTenor[i]
+				)
+			);
+		}
+
+		// IRS Calibration
+
+		JulianDate dtIRSEffective = dtStart.addBusDays (2, strCurrency);
+
+		for (int i = 0; i < astrIRSTenor.length; ++i) {
+			astrCalibMeasure[i + astrCashTenor.length] = "Rate";
+			adblRate[i + astrCashTenor.length] = java.lang.Double.NaN;
+			adblCompCalibValue[i + astrCashTenor.length] = adblIRSRate[i] + dblBump;
+
+			adblDate[i + astrCashTenor.length] = dtIRSEffective.addTenor (astrIRSTenor[i]).julian();
+
+			aCompCalib[i + astrCashTenor.length] = OTCIRS (
+				dtIRSEffective,
+				strCurrency,
+				astrIRSTenor[i],
+				0.
+			);
+		}
+
+		/*
+		 * Build the IR curve from the components, their calibration measures, and their calibration quotes.
+		 */
+
+		return ScenarioDiscountCurveBuilder.NonlinearBuild (
+			dtStart,
+			strCurrency,
+			DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD,
+			aCompCalib,
+			adblCompCalibValue,
+			astrCalibMeasure,
+			null
+		);
+	}
+
+	/*
+	 * Sample demonstrating creation of simple fixed coupon treasury bond
+	 * 
+	 *  	USE WITH CARE: This sample ignores errors and does not handle exceptions.
+	 */
+
+	private static final Bond CreateTSYBond (
+		final String strName,
+		final double dblCoupon,
+		final JulianDate dt,
+		final String strTenor)
+		throws Exception
+	{
+		return BondBuilder.CreateSimpleFixed (	// Simple Fixed Rate Bond
+			strName,					// Name
+			"USD",						// Fictitious Treasury Curve Name
+            "",                         // Credit Curve - Empty for now
+			dblCoupon,					// Bond Coupon
+			2, 							// Frequency
+			"Act/Act",					// Day Count
+			dt, 						// Effective
+			dt.addTenor (strTenor),		// Maturity
+			null,						// Principal Schedule
+			null
+		);
+	}
+
+	/*
+	 * Sample demonstrating creation of a set of the on-the-run treasury bonds
+	 * 
+	 *  	USE WITH CARE: This sample ignores errors and does not handle exceptions.
+	 */
+
+	private static final Bond[] CreateOnTheRunTSYBondSet (
+		final JulianDate dt,
+		final String[] astrTenor,
+		final double[] adblCoupon)
+		throws Exception
+	{
+		Bond aTSYBond[] = new Bond[astrTenor.length];
+
+		for (int i = 0; i < astrTenor.length; ++i)
+			aTSYBond[i] = CreateTSYBond (
+				"TSY" + astrTenor[i] + "ON",
+				adblCoupon[i],
+				dt,
+				astrTenor[i]
+			);
+
+		return aTSYBond;
+	}
+
+	/*
+	 * Sample demonstrating building of the treasury discount curve based off the on-the run instruments and their yields
+	 * 
+	 *  	USE WITH CARE: This sample ignores errors and does not handle exceptions.
+	 */
+
+	private static final DiscountCurve BuildOnTheRunTSYDiscountCurve (
+		final JulianDate dt,
+		final Bond[] aTSYBond,
+		final double[] adblTSYYield)
+		throws Exception
+	{
+		String astrCalibMeasure[] = new String[aTSYBond.length];
+
+		for (int i = 0; i < aTSYBond.length; ++i)
+			astrCalibMeasure[i] = "Yield";
+
+		return ScenarioDiscountCurveBuilder.NonlinearBuild (
+			dt,
+			"USD", // Fake curve name to indicate it is a USD TSY curve, not the usual USD curve
+			DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD,
+			aTSYBond,
+			adblTSYYield,
+			astrCalibMeasure,
+			null
+		);
+	}
+
+	/*
+	 * Put together a named map of treasury quotes
+	 * 
+	 *  	USE WITH CARE: This sample ignores errors and does not handle exceptions.
+	 */
+
+	private static final CaseInsensitiveTreeMap<ProductQuote> MakeTSYQuotes (
+		final String[] astrTSYTenor,
+		final double[] adblTSYYield)
+		throws Exception
+	{
+		CaseInsensitiveTreeMap<ProductQuote> mTSYQuotes = new CaseInsensitiveTreeMap<ProductQuote>();
+
+		for (int i = 0; i < astrTSYTenor.length; ++i) {
+			ProductMultiMeasureQuote cmmq = new ProductMultiMeasureQuote();
+
+			cmmq.addQuote (
+				"Yield",
+				new MultiSidedQuote (
+					"mid",
+					adblTSYYield[i],
+					Double.NaN
+				),
+				true
+			);
+
+			mTSYQuotes.put (
+				astrTSYTenor[i] + "ON",
+				cmmq
+			);
+		}
+
+		return mTSYQuotes;
+	}
+
+	public static final void main (
+		final String astrArgs[])
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtCurve = DateUtil.CreateFromYMD (
+			2013,
+			6,
+			27
+		);
+
+		JulianDate dtSettle = DateUtil.CreateFromYMD (
+			2013,
+			7,
+			1
+		);
+
+		String[] astrTSYTenor = new String[] {
+			"1Y", "2Y", "3Y", "5Y", "7Y", "10Y",  "30Y"
+		};
+		final double[] adblTSYCoupon = new double[] {
+			0.0000, 0.00375, 0.00500, 0.0100, 0.01375, 0.01375, 0.02875
+		};
+		double[] adblTSYYield = new double[] {
+			0.00160, 0.00397, 0.00696, 0.01421, 0.01955, 0.02529, 0.03568
+		};
+
+		DiscountCurve dc = BuildRatesCurveFromInstruments (
+			dtCurve,
+			new String[] {"3M"},
+			new double[] {0.00276},
+			new String[] {"1Y", "2Y", "3Y", "4Y", "5Y", "6Y", "7Y", "8Y", "9Y", "10Y", "15Y", "20Y", "30Y"},
+			new double[] {0.00367, 0.00533, 0.00843, 0.01238, 0.01609, 0.01926, 0.02191, 0.02406, 0.02588,
+				0.02741, 0.03208, 0.03372, 0.03484},
+			0.,
+			"USD"
+		);
+
+		DiscountCurve dcTSY = BuildOnTheRunTSYDiscountCurve (
+			dtCurve,
+			CreateOnTheRunTSYBondSet (
+				dtCurve,
+				astrTSYTenor,
+				adblTSYCoupon
+			),
+			adblTSYYield
+		);
+
+		CreditCurve cc = CreditCurveBuilder.FromFlatHazard (
+			dtSettle.julian(),
+			"CC",
+			"USD",
+			0.02,
+			0.4
+		);
+
+		RootFindCountingBond bond = new RootFindCountingBond (
+			BondBuilder.CreateSimpleFixed (
+				"TEST",
+				"USD",
+				"CC",
+				0.0875,
+				2,
+				"30/360",
+				DateUtil.CreateFromYMD (
+					2010,
+					3,
+					17
+				),
+				DateUtil.CreateFromYMD (
+					2018,
+					4,
+					1
+				),
+				null,
+				null
+			)
+		);
+
+		CurveSurfaceQuoteSet csqs = MarketParamsBuilder.Create (
+			dc,
+			dcTSY,
+			cc,
+			"",
+			null,
+			MakeTSYQuotes (
+				astrTSYTenor,
+				adblTSYYield
+			),
+			null
+		);
+
+		ValuationParams valParams = ValuationParams.Spot (
+			dtSettle,
+			0,
+			"",
+			Convention.DATE_ROLL_ACTUAL
+		);
+
+		double dblPrice = 1.1025;
+		double dblTolerance = 1.e-08;
+
+		Set<String> setstrMeasure = new LinkedHashSet<String>();
+
+		for (String strMeasure : new String[] {"Yield", "ZSpread", "OAS", "CreditBasis", "PECS", "ASW",
+			"GSpread", "ISpread", "TSYSpread", "DiscountMargin", "BondBasis", "YieldSpread",
+				"ModifiedDuration", "MacaulayDuration", "Convexity"})
+			setstrMeasure.add (strMeasure);
+
+		Map<String, Double> mapDirect = new LinkedHashMap<String, Double>();
+
+		bond._iNumRootFind = 0;
+
+		for (String strMeasure : setstrMeasure) {
+			try {
+				mapDirect.put (strMeasure, DirectMeasure (bond, valParams, csqs, strMeasure, dblPrice));
+			} catch (Exception e) {
+			}
+		}
+
+		int iNumDirectRootFind = bond._iNumRootFind;
+
+		bond._iNumRootFind = 0;
+
+		BondMeasureGraph bmg = BondMeasureGraph.ToMaturity (
+			bond,
+			valParams,
+			csqs,
+			null,
+			"Price",
+			dblPrice
+		);
+
+		CaseInsensitiveTreeMap<Double> mapGraph = bmg.measures (setstrMeasure);
+
+		int iNumGraphRootFind = bond._iNumRootFind;
+
+		System.out.println ("\n\t|-------------------------------------------------||");
+
+		System.out.println ("\t|    MEASURE        |    DIRECT    |    GRAPH     ||");
+
+		System.out.println ("\t|-------------------------------------------------||");
+
+		for (String strMeasure : setstrMeasure) {
+			Double dblDirect = mapDirect.get (strMeasure);
+
+			Double dblGraph = mapGraph.get (strMeasure);
+
+			if (null == dblDirect || null == dblGraph) {
+				if (null != dblDirect || null != dblGraph)
+					throw new Exception ("BondMeasureGraphSolves => " + strMeasure +
+						" is available only on one of the two paths");
+
+				System.out.println ("\t| " + strMeasure + " not available on either path");
+
+				continue;
+			}
+
+			System.out.println ("\t| " + String.format ("%-17s", strMeasure) + " | " +
+				FormatUtil.FormatDouble (dblDirect, 3, 8, 1.) + " | " +
+					FormatUtil.FormatDouble (dblGraph, 3, 8, 1.) + " ||");
+
+			if (Math.abs (dblDirect - dblGraph) > dblTolerance * Math.max (1., Math.abs (dblDirect)))
+				throw new Exception ("BondMeasureGraphSolves => " + strMeasure + " Direct " + dblDirect +
+					" and Graph " + dblGraph + " do not match");
+		}
+
+		System.out.println ("\t|-------------------------------------------------||");
+
+		System.out.println ("\n\tDirect Root Finds (Bond Counter)  : " + iNumDirectRootFind);
+
+		System.out.println ("\tGraph Root Finds (Bond Counter)   : " + iNumGraphRootFind);
+
+		System.out.println ("\tGraph Root Finds (rootFindCount()): " + bmg.rootFindCount());
+
+		if (iNumGraphRootFind != bmg.rootFindCount())
+			throw new Exception ("BondMeasureGraphSolves => Graph rootFindCount() " + bmg.rootFindCount() +
+				" does not match the Bond Counter " + iNumGraphRootFind);
+	}
+}
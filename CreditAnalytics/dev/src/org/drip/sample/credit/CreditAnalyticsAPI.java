@@ -205,27 +205,34 @@ public class CreditAnalyticsAPI {
 		CreditPricerParams pricerParams = CreditPricerParams.Standard();
 
 		/*
-		 * Re-calculate the input calibration measures for the input CDSes
+		 * Re-calculate the input calibration measures for the input CDSes - the Curve must re-price its Quotes
+		 * 	to within the Calibration Tolerance
 		 */
 
-		for (int i = 0; i < aCDS.length; ++i)
-			System.out.println (
-				"\t" + astrCalibMeasure[i] + "[" + i + "] = " +
-				aCDS[i].measureValue (
-					valParams, pricerParams, MarketParamsBuilder.Create (
-						dc,
-						null,
-						null,
-						cc,
-						null,
-						null,
-						null,
-						null
-					),
+		double dblRepriceTolerance = 1.e-09;
+
+		for (int i = 0; i < aCDS.length; ++i) {
+			double dblRepricedQuote = aCDS[i].measureValue (
+				valParams, pricerParams, MarketParamsBuilder.Create (
+					dc,
+					null,
+					null,
+					cc,
+					null,
 					null,
-					astrCalibMeasure[i]
-				)
+					null,
+					null
+				),
+				null,
+				astrCalibMeasure[i]
 			);
+
+			System.out.println ("\t" + astrCalibMeasure[i] + "[" + i + "] = " + dblRepricedQuote);
+
+			if (Math.abs (dblRepricedQuote - adblQuotes[i]) > dblRepriceTolerance)
+				throw new Exception ("CreditAnalyticsAPI => " + astrCalibMeasure[i] + "[" + i + "] = " +
+					dblRepricedQuote + " does not re-price the Quote " + adblQuotes[i]);
+		}
 	}
 
 	/*
@@ -0,0 +1,414 @@
+
+package org.drip.sample.credit;
+
+/*
+ * Credit Product Imports
+ */
+
+import java.util.*;
+
+import org.drip.analytics.date.*;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.definition.CreditCurve;
+import org.drip.analytics.rates.DiscountCurve;
+import org.drip.analytics.support.CaseInsensitiveTreeMap;
+import org.drip.market.otc.*;
+import org.drip.param.market.CurveSurfaceQuoteSet;
+import org.drip.param.pricer.CreditPricerParams;
+import org.drip.param.valuation.*;
+import org.drip.param.creator.*;
+import org.drip.product.creator.*;
+import org.drip.product.credit.*;
+import org.drip.product.definition.*;
+import org.drip.product.rates.*;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.*;
+import org.drip.state.identifier.ForwardLabel;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * PiecewiseConstantLossQuadrature prices the same CDS and credit risky Bonds under the Day Step and the
+ * 	closed-form Piecewise Constant Loss Period Discretizations. It shows the following:
+ * 	- Build the IR Curve from the Rates' instruments, and the Credit Curve from the CDS instruments.
+ * 	- Price a Strip of SNAC CDS and credit risky Bonds under the 7-Day Step, the 1-Day Step, and the
+ * 		Piecewise Constant Discretizations.
+ * 	- Display the PV/Fair Premium Differences of each Scheme to the 1-Day Step Reference, and check that
+ * 		the Piecewise Constant Scheme tracks the Reference.
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class PiecewiseConstantLossQuadrature {
+
+	/*
+	 * Tolerance of the Piecewise Constant CDS Measures to the 1-Day Step Reference
+	 */
+
+	private static final double CDS_TOLERANCE = 1.e-06;
+
+	private static final FixFloatComponent OTCIRS (
+		final JulianDate dtSpot,
+		final String strCurrency,
+		final String strMaturityTenor,
+		final double dblCoupon)
+	{
+		FixedFloatSwapConvention ffConv = IBORFixedFloatContainer.ConventionFromJurisdiction (
+			strCurrency,
+			"ALL",
+			strMaturityTenor,
+			"MAIN"
+		);
+
+		return ffConv.createFixFloatComponent (
+			dtSpot,
+			strMaturityTenor,
+			dblCoupon,
+			0.,
+			1.
+		);
+	}
+
+	private static final DiscountCurve BuildRatesCurveFromInstruments (
+		final JulianDate dtStart,
+		final String[] astrCashTenor,
+		final double[] adblCashRate,
+		final String[] astrIRSTenor,
+		final double[] adblIRSRate,
+		final String strCurrency)
+		throws Exception
+	{
+		int iNumDCInstruments = astrCashTenor.length + adblIRSRate.length;
+		String astrCalibMeasure[] = new String[iNumDCInstruments];
+		double adblCompCalibValue[] = new double[iNumDCInstruments];
+		CalibratableFixedIncomeComponent aCompCalib[] = new CalibratableFixedIncomeComponent[iNumDCInstruments];
+
+		JulianDate dtCashEffective = dtStart.addBusDays (1, strCurrency);
+
+		for (int i = 0; i < astrCashTenor.length; ++i) {
+			astrCalibMeasure[i] = "Rate";
+			adblCompCalibValue[i] = adblCashRate[i];
+
+			aCompCalib[i] = SingleStreamComponentBuilder.Deposit (
+				dtCashEffective,
+				dtCashEffective.addTenor (astrCashTenor[i]),
+				ForwardLabel.Create (
+					strCurrency,
+					astrCashTenor[i]
+				)
+			);
+		}
+
+		JulianDate dtIRSEffective = dtStart.addBusDays (
+			2,
+			strCurrency
+		);
+
+		for (int i = 0; i < astrIRSTenor.length; ++i) {
+			astrCalibMeasure[i + astrCashTenor.length] = "Rate";
+			adblCompCalibValue[i + astrCashTenor.length] = adblIRSRate[i];
+
+			aCompCalib[i + astrCashTenor.length] = OTCIRS (
+				dtIRSEffective,
+				strCurrency,
+				astrIRSTenor[i],
+				0.
+			);
+		}
+
+		return ScenarioDiscountCurveBuilder.NonlinearBuild (
+			dtStart,
+			strCurrency,
+			DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD,
+			aCompCalib,
+			adblCompCalibValue,
+			astrCalibMeasure,
+			null
+		);
+	}
+
+	private static final CreditCurve CreateCreditCurveFromCDS (
+		final JulianDate dtStart,
+		final double[] adblQuote,
+		final String[] astrTenor,
+		final DiscountCurve dc,
+		final double dblRecovery,
+		final String strCCName)
+		throws Exception
+	{
+		String[] astrCalibMeasure = new String[adblQuote.length];
+		CreditDefaultSwap[] aCDS = new CreditDefaultSwap[adblQuote.length];
+
+		for (int i = 0; i < astrTenor.length; ++i) {
+			aCDS[i] = CDSBuilder.CreateSNAC (
+				dtStart,
+				astrTenor[i],
+				0.01,
+				strCCName
+			);
+
+			astrCalibMeasure[i] = "FairPremium";
+		}
+
+		return CreditScenarioCurveBuilder.CreateCreditCurve (
+			strCCName,
+			dtStart,
+			aCDS,
+			dc,
+			adblQuote,
+			astrCalibMeasure,
+			dblRecovery,
+			false
+		);
+	}
+
+	/*
+	 * Value the Component under each of the Pricer Parameters, display the Measures' Differences to the
+	 * 	Reference (the last Pricer Parameters), and check the Piecewise Constant (the first) against it to
+	 * 	within the Tolerance (scaled by the Reference Measure Magnitude).
+	 */
+
+	private static final void CompareDiscretizations (
+		final FixedIncomeComponent comp,
+		final String[] astrMeasure,
+		final ValuationParams valParams,
+		final CurveSurfaceQuoteSet mktParams,
+		final CreditPricerParams[] aPricerParams,
+		final double dblTolerance)
+		throws Exception
+	{
+		List<CaseInsensitiveTreeMap<Double>> lsMapResult = new ArrayList<CaseInsensitiveTreeMap<Double>>();
+
+		for (int i = 0; i < aPricerParams.length; ++i) {
+			CaseInsensitiveTreeMap<Double> mapResult = comp.value (
+				valParams,
+				aPricerParams[i],
+				mktParams,
+				null
+			);
+
+			if (null == mapResult)
+				throw new Exception ("PiecewiseConstantLossQuadrature => Cannot value " + comp.name());
+
+			lsMapResult.add (mapResult);
+		}
+
+		int iReference = aPricerParams.length - 1;
+
+		for (String strMeasure : astrMeasure) {
+			double dblReference = lsMapResult.get (iReference).get (strMeasure);
+
+			System.out.print ("\t| " + String.format ("%-14s", comp.name()) + " | " + String.format ("%-11s",
+				strMeasure) + " | " + FormatUtil.FormatDouble (dblReference, 4, 8, 1.));
+
+			for (int i = 0; i < iReference; ++i) {
+				double dblDifference = lsMapResult.get (i).get (strMeasure) - dblReference;
+
+				System.out.print (" | " + FormatUtil.FormatDouble (dblDifference, 1, 10, 1.));
+
+				if (0 == i && Math.abs (dblDifference) > dblTolerance * Math.max (1., Math.abs
+					(dblReference)))
+					throw new Exception ("PiecewiseConstantLossQuadrature => " + comp.name() + " " +
+						strMeasure + " Piecewise Constant " + (dblReference + dblDifference) +
+							" 1-Day Step " + dblReference);
+			}
+
+			System.out.println (" ||");
+		}
+	}
+
+	public static final void main (
+		final String astrArgs[])
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtCurve = DateUtil.CreateFromYMD (
+			2013,
+			6,
+			27
+		);
+
+		JulianDate dtSettle = DateUtil.CreateFromYMD (
+			2013,
+			7,
+			1
+		);
+
+		DiscountCurve dc = BuildRatesCurveFromInstruments (
+			dtCurve,
+			new String[] {"3M"},
+			new double[] {0.00276},
+			new String[] {"1Y", "2Y", "3Y", "4Y", "5Y", "6Y", "7Y", "8Y", "9Y", "10Y", "12Y", "15Y", "20Y"},
+			new double[] {0.00367, 0.00533, 0.00843, 0.01238, 0.01609, 0.01926, 0.02191, 0.02406, 0.02588,
+				0.02741, 0.02982, 0.03208, 0.03372},
+			"USD"
+		);
+
+		CreditCurve cc = CreateCreditCurveFromCDS (
+			dtCurve,
+			new double[] {60., 75., 95., 120., 145., 165., 190., 210.},
+			new String[] {"6M", "1Y", "2Y", "3Y", "4Y", "5Y", "7Y", "10Y"},
+			dc,
+			0.4,
+			"CC"
+		);
+
+		CurveSurfaceQuoteSet mktParams = MarketParamsBuilder.Credit (
+			dc,
+			cc
+		);
+
+		ValuationParams valParams = ValuationParams.Spot (
+			dtSettle,
+			0,
+			"USD",
+			Convention.DATE_ROLL_ACTUAL
+		);
+
+		/*
+		 * The Piecewise Constant Scheme first, the 1-Day Step Reference last
+		 */
+
+		CreditPricerParams[] aPricerParams = new CreditPricerParams[] {
+			new CreditPricerParams (
+				7,
+				null,
+				false,
+				CreditPricerParams.PERIOD_DISCRETIZATION_PIECEWISE_CONSTANT
+			),
+			new CreditPricerParams (
+				7,
+				null,
+				false,
+				CreditPricerParams.PERIOD_DISCRETIZATION_DAY_STEP
+			),
+			new CreditPricerParams (
+				1,
+				null,
+				false,
+				CreditPricerParams.PERIOD_DISCRETIZATION_DAY_STEP
+			)
+		};
+
+		System.out.println ("\n\t|---------------------------------------------------------------------------------||");
+
+		System.out.println ("\t|    COMPONENT   |   MEASURE   |  1D STEP REF  | PIECEWISE - REF | 7D STEP - REF   ||");
+
+		System.out.println ("\t|---------------------------------------------------------------------------------||");
+
+		for (String strTenor : new String[] {"1Y", "3Y", "5Y", "7Y", "10Y"})
+			CompareDiscretizations (
+				CDSBuilder.CreateSNAC (
+					dtCurve,
+					strTenor,
+					0.01,
+					"CC"
+				),
+				new String[] {"PV", "FairPremium", "LossPV"},
+				valParams,
+				mktParams,
+				aPricerParams,
+				CDS_TOLERANCE
+			);
+
+		System.out.println ("\t|---------------------------------------------------------------------------------||");
+
+		/*
+		 * The 30/360 Bond Accrual DCF moves in Whole Days, so the Day Step Reference accrues the Coupon to
+		 * 	the Start of each Default Day, whereas the Piecewise Constant Scheme integrates it continuously.
+		 * 	The two therefore differ by up to Half a Day's Coupon over the Default Probability to Maturity.
+		 */
+
+		double dblBondCoupon = 0.05;
+
+		for (int iMaturityYear : new int[] {2016, 2018, 2023}) {
+			BondComponent bond = BondBuilder.CreateSimpleFixed (
+				"BOND" + iMaturityYear,
+				"USD",
+				"CC",
+				dblBondCoupon,
+				2,
+				"30/360",
+				DateUtil.CreateFromYMD (
+					2010,
+					3,
+					17
+				),
+				DateUtil.CreateFromYMD (
+					iMaturityYear,
+					4,
+					1
+				),
+				null,
+				null
+			);
+
+			CompareDiscretizations (
+				bond,
+				new String[] {"DirtyPV", "RecoveryPV"},
+				valParams,
+				mktParams,
+				aPricerParams,
+				dblBondCoupon * 0.5 / 360. * (1. - cc.survival (bond.maturityDate()))
+			);
+		}
+
+		System.out.println ("\t|---------------------------------------------------------------------------------||");
+
+		/*
+		 * Time the 10Y CDS Valuation under each Scheme, once the Valuation Code Paths have been warmed up
+		 */
+
+		int iNumTimingRun = 20;
+		String[] astrScheme = new String[] {"Piecewise Constant", "7-Day Step", "1-Day Step"};
+
+		CreditDefaultSwap cds10Y = CDSBuilder.CreateSNAC (
+			dtCurve,
+			"10Y",
+			0.01,
+			"CC"
+		);
+
+		for (CreditPricerParams pricerParams : aPricerParams)
+			cds10Y.value (valParams, pricerParams, mktParams, null);
+
+		System.out.println();
+
+		for (int i = 0; i < aPricerParams.length; ++i) {
+			long lStart = System.nanoTime();
+
+			for (int j = 0; j < iNumTimingRun; ++j)
+				cds10Y.value (valParams, aPricerParams[i], mktParams, null);
+
+			System.out.println ("\t" + String.format ("%-18s", astrScheme[i]) + " 10Y CDS Valuation (msec): "
+				+ FormatUtil.FormatDouble ((System.nanoTime() - lStart) * 1.e-06 / iNumTimingRun, 1, 3, 1.));
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package org.drip.sample.hullwhite;
+
+import org.drip.analytics.date.*;
+import org.drip.dynamics.evolution.*;
+import org.drip.dynamics.hullwhite.*;
+import org.drip.function.R1ToR1.FlatUnivariate;
+import org.drip.quant.common.FormatUtil;
+import org.drip.sequence.random.*;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.identifier.FundingLabel;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * QuasiRandomConvergence compares the Convergence of the Monte-Carlo Estimate of a Short Rate Caplet Payoff
+ *  under the Hull-White 1F Dynamics, driven by Pseudo-random Paths, and by Sobol Paths constructed using
+ *  the Brownian Bridge.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class QuasiRandomConvergence {
+
+	private static final void DumpReport (
+		final String strDriver,
+		final ConvergenceReport cr)
+		throws Exception
+	{
+		int[] aiPathCount = cr.pathCount();
+
+		double[] adblEstimate = cr.estimate();
+
+		double[] adblStandardError = cr.standardError();
+
+		for (int i = 0; i < aiPathCount.length; ++i)
+			System.out.println ("\t| " + strDriver + " | " +
+				FormatUtil.FormatDouble (aiPathCount[i], 5, 0, 1.) + " | " +
+				FormatUtil.FormatDouble (adblEstimate[i], 1, 4, 10000.) + " | " +
+				FormatUtil.FormatDouble (adblStandardError[i], 1, 4, 10000.) + " ||"
+			);
+
+		System.out.println ("\t| " + strDriver + " | Convergence Order: " +
+			FormatUtil.FormatDouble (cr.convergenceOrder(), 1, 2, 1.) + " | Paths for 0.01bp SE: " +
+			FormatUtil.FormatDouble (cr.pathCountForTarget (0.000001), 8, 0, 1.) + " ||"
+		);
+
+		System.out.println ("\t|-------------------------------------------------------------||");
+	}
+
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtSpot = DateUtil.Today();
+
+		final String strCurrency = "USD";
+		final double dblStartingShortRate = 0.05;
+		final double dblStrike = 0.05;
+		final double dblSigma = 0.01;
+		final double dblA = 0.1;
+		final int iNumStep = 64;
+		int iNumReplication = 16;
+		int[] aiPathCount = new int[] {256, 512, 1024, 2048, 4096, 8192};
+
+		final double dblSpotDate = dtSpot.julian();
+
+		final ShortRateUpdate sruInitial = ShortRateUpdate.Create (
+			FundingLabel.Standard (strCurrency),
+			dblSpotDate,
+			dblSpotDate,
+			dblSpotDate + iNumStep,
+			dblStartingShortRate,
+			dblStartingShortRate,
+			dblStartingShortRate,
+			0.,
+			1.
+		);
+
+		PathEstimator pe = new PathEstimator() {
+			@Override public double estimate (
+				final PathGaussianDriver pgd,
+				final int iNumPath)
+				throws Exception
+			{
+				SingleFactorStateEvolver hw = new SingleFactorStateEvolver (
+					FundingLabel.Standard (strCurrency),
+					dblSigma,
+					dblA,
+					new FlatUnivariate (dblStartingShortRate),
+					pgd.factorSequence (0)
+				);
+
+				double dblPayoffSum = 0.;
+
+				for (int i = 0; i < iNumPath; ++i) {
+					ShortRateUpdate sru = (ShortRateUpdate) hw.evolve (
+						dblSpotDate,
+						dblSpotDate,
+						iNumStep,
+						sruInitial
+					);
+
+					dblPayoffSum += Math.max (sru.realizedFinalShortRate() - dblStrike, 0.);
+				}
+
+				return dblPayoffSum / iNumPath;
+			}
+		};
+
+		System.out.println ("\n\t|-------------------------------------------------------------||");
+
+		System.out.println ("\t|    Hull-White Short Rate Caplet Payoff Convergence          ||");
+
+		System.out.println ("\t|    L->R: Driver, Path Count, Estimate (bp), Std Error (bp)  ||");
+
+		System.out.println ("\t|-------------------------------------------------------------||");
+
+		DumpReport (
+			"PSEUDO RANDOM     ",
+			ConvergenceReport.Generate (
+				pe,
+				new PseudoRandomPathDriver (
+					iNumStep,
+					1,
+					1234L
+				),
+				aiPathCount,
+				iNumReplication
+			)
+		);
+
+		DumpReport (
+			"SOBOL             ",
+			ConvergenceReport.Generate (
+				pe,
+				new SobolPathDriver (
+					iNumStep,
+					1,
+					false
+				),
+				aiPathCount,
+				iNumReplication
+			)
+		);
+
+		DumpReport (
+			"SOBOL + BRIDGE    ",
+			ConvergenceReport.Generate (
+				pe,
+				new SobolPathDriver (
+					iNumStep,
+					1,
+					true
+				),
+				aiPathCount,
+				iNumReplication
+			)
+		);
+	}
+}
@@ -1,6 +1,7 @@
 
 package org.drip.sample.lmm;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.drip.analytics.date.JulianDate;
@@ -608,6 +609,22 @@ public class MultiFactorLIBORMonteCarlo {
 		);
 	}
 
+	private static final boolean IdenticalMetrics (
+		final LIBORPathMetrics lpm1,
+		final LIBORPathMetrics lpm2)
+		throws Exception
+	{
+		if (null == lpm1 || null == lpm2 || lpm1.numPath() != lpm2.numPath() || !Arrays.deepEquals
+			(lpm1.mean(), lpm2.mean()) || !Arrays.deepEquals (lpm1.variance(), lpm2.variance()))
+			return false;
+
+		for (int i = 0; i < lpm1.numTenor(); ++i) {
+			if (!Arrays.equals (lpm1.terminalLIBOR (i), lpm2.terminalLIBOR (i))) return false;
+		}
+
+		return true;
+	}
+
 	public static final void main (
 		final String[] astrArgs)
 		throws Exception
@@ -644,6 +661,17 @@ public class MultiFactorLIBORMonteCarlo {
 			null
 		);
 
+		SegmentCustomBuilderControl scbcLIBOR = new SegmentCustomBuilderControl (
+			MultiSegmentSequenceBuilder.BASIS_SPLINE_POLYNOMIAL,
+			new PolynomialFunctionSetParams (4),
+			SegmentInelasticDesignControl.Create (
+				2,
+				2
+			),
+			null,
+			null
+		);
+
 		JulianDate dtSpot = org.drip.analytics.date.DateUtil.Today();
 
 		MarketSurface[] aMS = new MarketSurface[] {
@@ -692,7 +720,7 @@ public class MultiFactorLIBORMonteCarlo {
 			fundingLabel,
 			forwardLabel,
 			iNumForwardTenor,
-			scbc
+			scbcLIBOR
 		);
 
 		BGMCurveUpdate bgmInitial = BGMCurveUpdate.Create (
@@ -723,7 +751,7 @@ public class MultiFactorLIBORMonteCarlo {
 			1.,
 			dtView.julian(),
 			bgmInitial,
-			2
+			10000
 		);
 
 		String strBoundary = "\t|---";
@@ -757,5 +785,48 @@ public class MultiFactorLIBORMonteCarlo {
 		}
 
 		System.out.println (strBoundary);
+
+		/*
+		 * The Same Seed must reproduce the Same Path Metrics - across Runs, and at any Parallelism
+		 */
+
+		LIBORPathMetrics lpmSerial = llce.simulatePathwise (
+			dtSpot.julian(),
+			dtSpot.addTenor (strSimulationTenor).julian(),
+			1.,
+			dtView.julian(),
+			bgmInitial,
+			1000,
+			llce.seed(),
+			1
+		);
+
+		LIBORPathMetrics lpmParallel = llce.simulatePathwise (
+			dtSpot.julian(),
+			dtSpot.addTenor (strSimulationTenor).julian(),
+			1.,
+			dtView.julian(),
+			bgmInitial,
+			1000,
+			llce.seed(),
+			4
+		);
+
+		double[][] aadblTenorLIBORRerun = llce.simulatePrincipalMetric (
+			dtSpot.julian(),
+			dtSpot.addTenor (strSimulationTenor).julian(),
+			1.,
+			dtView.julian(),
+			bgmInitial,
+			10000
+		);
+
+		boolean bReproducible = IdenticalMetrics (lpmSerial, lpmParallel) && Arrays.deepEquals
+			(aadblTenorLIBOR, aadblTenorLIBORRerun);
+
+		System.out.println ("\n\tSeed " + llce.seed() + " Reproducible: " + bReproducible);
+
+		if (!bReproducible)
+			throw new Exception ("MultiFactorLIBORMonteCarlo => Path Metrics not reproducible for the Seed");
 	}
 }
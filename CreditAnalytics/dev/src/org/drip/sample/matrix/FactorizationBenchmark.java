@@ -0,0 +1,275 @@
+
+package org.drip.sample.matrix;
+
+import org.drip.quant.common.FormatUtil;
+import org.drip.quant.linearalgebra.*;
+import org.drip.service.api.CreditAnalytics;
+
+/*
+
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ * 
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ * 
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ * 
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *   
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *  
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * FactorizationBenchmark times the Factor-once/Solve-many Layer (LU, Cholesky, Householder QR, and the
+ * 	Cache-Blocked Row-Major Product) against the Inversion based Routines of Matrix and LinearSystemSolver,
+ * 	and reports the Worst Residual of each Solution.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class FactorizationBenchmark {
+	private static final int NUM_RHS = 32;
+	private static final int NUM_WARM_UP = 3;
+	private static final int NUM_REPETITION = 10;
+
+	private static final double[][] SymmetricPositiveDefinite (
+		final int iSize,
+		final java.util.Random rng)
+	{
+		double[][] aadblA = new double[iSize][iSize];
+
+		for (int i = 0; i < iSize; ++i) {
+			for (int j = 0; j <= i; ++j)
+				aadblA[i][j] = aadblA[j][i] = rng.nextDouble() - 0.5;
+
+			aadblA[i][i] += iSize;
+		}
+
+		return aadblA;
+	}
+
+	private static final double WorstResidual (
+		final double[][] aadblA,
+		final double[][] aadblX,
+		final double[][] aadblB)
+	{
+		double dblWorstResidual = 0.;
+
+		for (int r = 0; r < aadblB.length; ++r) {
+			for (int i = 0; i < aadblA.length; ++i) {
+				double dblResidual = -aadblB[r][i];
+
+				for (int j = 0; j < aadblA.length; ++j)
+					dblResidual += aadblA[i][j] * aadblX[r][j];
+
+				dblWorstResidual = Math.max (dblWorstResidual, Math.abs (dblResidual));
+			}
+		}
+
+		return dblWorstResidual;
+	}
+
+	private static final void Report (
+		final String strRoutine,
+		final long lNanos,
+		final double dblResidual)
+	{
+		if (0L > lNanos) {
+			System.out.println ("\t| " + String.format ("%-34s", strRoutine) + " |   FAILED  |           |");
+
+			return;
+		}
+
+		System.out.println ("\t| " + String.format ("%-34s", strRoutine) + " | " + FormatUtil.FormatDouble
+			(lNanos * 1.e-06 / NUM_REPETITION, 5, 3, 1.) + " | " + String.format ("%9.2e", dblResidual) +
+				" |");
+	}
+
+	private static final void Benchmark (
+		final int iSize,
+		final java.util.Random rng)
+		throws Exception
+	{
+		double[][] aadblA = SymmetricPositiveDefinite (iSize, rng);
+
+		double[] adblA = RowMajorMatrix.Flatten (aadblA);
+
+		double[][] aadblB = new double[NUM_RHS][iSize];
+		double[] adblB = new double[iSize * NUM_RHS];
+		double[] adblX = new double[iSize * NUM_RHS];
+		double[][] aadblX = new double[NUM_RHS][];
+
+		for (int r = 0; r < NUM_RHS; ++r) {
+			for (int i = 0; i < iSize; ++i)
+				adblB[i * NUM_RHS + r] = aadblB[r][i] = rng.nextDouble();
+		}
+
+		System.out.println ("\n\t|------------------------------------------------------------|");
+
+		System.out.println ("\t| " + String.format ("%-34s", "SIZE " + iSize + "; " + NUM_RHS + " RHS") +
+			" |   ms/run  |  RESIDUAL |");
+
+		System.out.println ("\t|------------------------------------------------------------|");
+
+		/*
+		 * Current Routine - one Gauss-Jordan Inversion plus Product per Right Hand Side
+		 */
+
+		long lNanos = 0L;
+
+		for (int k = 0; k < NUM_WARM_UP + NUM_REPETITION && 0L <= lNanos; ++k) {
+			long lStart = System.nanoTime();
+
+			for (int r = 0; r < NUM_RHS && 0L <= lNanos; ++r) {
+				LinearizationOutput lo = LinearSystemSolver.SolveUsingMatrixInversion (aadblA, aadblB[r]);
+
+				if (null == lo)
+					lNanos = -1L;
+				else
+					aadblX[r] = lo.getTransformedRHS();
+			}
+
+			if (k >= NUM_WARM_UP && 0L <= lNanos) lNanos += System.nanoTime() - lStart;
+		}
+
+		Report ("MatrixInversion Solve (per RHS)", lNanos, 0L > lNanos ? 0. : WorstResidual (aadblA,
+			aadblX, aadblB));
+
+		/*
+		 * LU/Cholesky/QR - Factor once, then one Multi-RHS Solve into the Caller Buffer
+		 */
+
+		String[] astrFactorization = new String[] {"LU Factor + Multi-RHS Solve", "Cholesky Factor + Multi-RHS Solve",
+			"Householder QR + Multi-RHS Solve"};
+
+		for (int f = 0; f < astrFactorization.length; ++f) {
+			lNanos = 0L;
+
+			for (int k = 0; k < NUM_WARM_UP + NUM_REPETITION; ++k) {
+				long lStart = System.nanoTime();
+
+				MatrixFactorization mf = 0 == f ? LUFactorization.Factorize (adblA, iSize) : (1 == f ?
+					org.drip.quant.linearalgebra.CholeskyFactorization.Factorize (adblA, iSize) :
+						HouseholderQRFactorization.Factorize (adblA, iSize, iSize));
+
+				mf.solve (adblB, adblX, NUM_RHS);
+
+				if (k >= NUM_WARM_UP) lNanos += System.nanoTime() - lStart;
+			}
+
+			for (int r = 0; r < NUM_RHS; ++r) {
+				aadblX[r] = new double[iSize];
+
+				for (int i = 0; i < iSize; ++i)
+					aadblX[r][i] = adblX[i * NUM_RHS + r];
+			}
+
+			Report (astrFactorization[f], lNanos, WorstResidual (aadblA, aadblX, aadblB));
+		}
+
+		/*
+		 * Inverse - Gauss-Jordan vs. LU
+		 */
+
+		String[] astrInversion = new String[] {"GaussianElimination", "LUFactorization"};
+
+		for (int m = 0; m < astrInversion.length; ++m) {
+			lNanos = 0L;
+			double[][] aadblAInv = null;
+
+			for (int k = 0; k < NUM_WARM_UP + NUM_REPETITION; ++k) {
+				long lStart = System.nanoTime();
+
+				aadblAInv = Matrix.Invert (aadblA, astrInversion[m]);
+
+				if (k >= NUM_WARM_UP) lNanos += System.nanoTime() - lStart;
+			}
+
+			if (null == aadblAInv) {
+				Report ("Invert (" + astrInversion[m] + ")", -1L, 0.);
+
+				continue;
+			}
+
+			double dblWorstResidual = 0.;
+
+			double[][] aadblIdentity = Matrix.Product (aadblA, aadblAInv);
+
+			for (int i = 0; i < iSize; ++i) {
+				for (int j = 0; j < iSize; ++j)
+					dblWorstResidual = Math.max (dblWorstResidual, Math.abs (aadblIdentity[i][j] - (i == j ?
+						1. : 0.)));
+			}
+
+			Report ("Invert (" + astrInversion[m] + ")", lNanos, dblWorstResidual);
+		}
+
+		/*
+		 * Product - Naive double[][] vs. Cache-Blocked Row-Major
+		 */
+
+		double[][] aadblProduct = null;
+		double[] adblProduct = new double[iSize * iSize];
+		lNanos = 0L;
+
+		for (int k = 0; k < NUM_WARM_UP + NUM_REPETITION; ++k) {
+			long lStart = System.nanoTime();
+
+			aadblProduct = Matrix.Product (aadblA, aadblA);
+
+			if (k >= NUM_WARM_UP) lNanos += System.nanoTime() - lStart;
+		}
+
+		Report ("Matrix.Product", lNanos, 0.);
+
+		lNanos = 0L;
+
+		for (int k = 0; k < NUM_WARM_UP + NUM_REPETITION; ++k) {
+			long lStart = System.nanoTime();
+
+			RowMajorMatrix.Product (adblA, adblA, adblProduct, iSize, iSize, iSize);
+
+			if (k >= NUM_WARM_UP) lNanos += System.nanoTime() - lStart;
+		}
+
+		double dblWorstDifference = 0.;
+
+		for (int i = 0; i < iSize; ++i) {
+			for (int j = 0; j < iSize; ++j)
+				dblWorstDifference = Math.max (dblWorstDifference, Math.abs (aadblProduct[i][j] -
+					adblProduct[i * iSize + j]));
+		}
+
+		Report ("RowMajorMatrix.Product (Blocked)", lNanos, dblWorstDifference);
+
+		System.out.println ("\t|------------------------------------------------------------|");
+	}
+
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		java.util.Random rng = new java.util.Random (20150901L);
+
+		int[] aiSize = new int[] {8, 32, 128, 256};
+
+		for (int iSize : aiSize)
+			Benchmark (iSize, rng);
+	}
+}
@@ -0,0 +1,156 @@
+
+package org.drip.sample.misc;
+
+import org.drip.analytics.date.*;
+import org.drip.analytics.daycount.Convention;
+import org.drip.service.api.CreditAnalytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CompiledCalendarAPI reconciles the Compiled Calendar Holiday Checks, Business Day Counts, and Date Rolls
+ * 	against the Rule-based Holiday Evaluation, and times both.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CompiledCalendarAPI {
+
+	private static final boolean RuleHoliday (
+		final double dblDate,
+		final String strCalendarSet)
+		throws Exception
+	{
+		return Convention.IsHoliday (
+			dblDate,
+			strCalendarSet,
+			Convention.WEEKDAY_HOLS
+		) || Convention.IsHoliday (
+			dblDate,
+			strCalendarSet,
+			Convention.WEEKEND_HOLS
+		);
+	}
+
+	private static final void Reconcile (
+		final String strCalendarSet,
+		final int iStartYear,
+		final int iEndYear)
+		throws Exception
+	{
+		double dblStart = DateUtil.CreateFromYMD (
+			iStartYear,
+			DateUtil.JANUARY,
+			1
+		).julian();
+
+		double dblEnd = DateUtil.CreateFromYMD (
+			iEndYear,
+			DateUtil.DECEMBER,
+			31
+		).julian();
+
+		int iNumMismatch = 0;
+		int iNumRuleBusinessDays = 0;
+
+		long lRuleStart = System.nanoTime();
+
+		for (double dblDate = dblStart + 1; dblDate <= dblEnd; ++dblDate) {
+			if (!RuleHoliday (dblDate, strCalendarSet)) ++iNumRuleBusinessDays;
+		}
+
+		long lRuleTime = System.nanoTime() - lRuleStart;
+
+		long lCompiledStart = System.nanoTime();
+
+		int iNumCompiledBusinessDays = Convention.BusinessDays (
+			dblStart,
+			dblEnd,
+			strCalendarSet
+		);
+
+		long lCompiledTime = System.nanoTime() - lCompiledStart;
+
+		for (double dblDate = dblStart; dblDate <= dblEnd; ++dblDate) {
+			boolean bRuleHoliday = RuleHoliday (dblDate, strCalendarSet);
+
+			if (bRuleHoliday != Convention.IsHoliday (dblDate, strCalendarSet)) ++iNumMismatch;
+
+			double dblRuleFollowing = dblDate;
+			double dblRulePrevious = dblDate;
+
+			while (RuleHoliday (dblRuleFollowing, strCalendarSet))
+				++dblRuleFollowing;
+
+			while (RuleHoliday (dblRulePrevious, strCalendarSet))
+				--dblRulePrevious;
+
+			if (dblRuleFollowing != Convention.RollDate (
+				dblDate,
+				Convention.DATE_ROLL_FOLLOWING,
+				strCalendarSet,
+				1
+			))
+				++iNumMismatch;
+
+			if (dblRulePrevious != Convention.RollDate (
+				dblDate,
+				Convention.DATE_ROLL_PREVIOUS,
+				strCalendarSet,
+				1
+			))
+				++iNumMismatch;
+		}
+
+		System.out.println ("\t" + strCalendarSet + " [" + iStartYear + " - " + iEndYear + "] => Business Days: " +
+			iNumRuleBusinessDays + " (Rule) | " + iNumCompiledBusinessDays + " (Compiled) | Mismatches: " +
+				iNumMismatch + " | Time (ms): " + (lRuleTime / 1000000) + " (Rule) | " + (lCompiledTime /
+					1000000.) + " (Compiled)");
+	}
+
+	public static final void main (
+		final String astrArgs[])
+		throws Exception
+	{
+		// String strConfig = "c:\\Lakshmi\\BondAnal\\Config.xml";
+
+		String strConfig = "";
+
+		CreditAnalytics.Init (strConfig);
+
+		Reconcile ("USD", 1990, 2060);
+
+		Reconcile ("GBP", 1990, 2060);
+
+		Reconcile ("USD,GBP", 1990, 2060);
+
+		Reconcile ("EUR,JPY,HKD", 1990, 2060);
+
+		Reconcile ("BRL,AED", 1990, 2060);
+	}
+}
@@ -0,0 +1,165 @@
+
+package org.drip.sample.misc;
+
+import org.drip.analytics.date.*;
+import org.drip.analytics.daycount.Convention;
+import org.drip.service.api.CreditAnalytics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * DayCountAllocation measures the Time and the Heap Allocation of the Year Fraction Computation over a 30Y
+ * 	Quarterly Schedule, using the Integer Julian Date Decomposition, and contrasts it with a
+ * 	java.util.Calendar based Decomposition of the same Dates.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class DayCountAllocation {
+	private static final int WARMUP_RUNS = 2000;
+	private static final int MEASURED_RUNS = 2000;
+
+	private static final long ThreadAllocatedBytes()
+	{
+		java.lang.management.ThreadMXBean tmxb = java.lang.management.ManagementFactory.getThreadMXBean();
+
+		return tmxb instanceof com.sun.management.ThreadMXBean ? ((com.sun.management.ThreadMXBean)
+			tmxb).getThreadAllocatedBytes (Thread.currentThread().getId()) : 0L;
+	}
+
+	private static final double CalendarYearFraction30_360 (
+		final double[] adblDate)
+	{
+		double dblYearFractionSum = 0.;
+
+		java.util.Calendar cal = null;
+
+		for (int i = 1; i < adblDate.length; ++i) {
+			cal = java.util.Calendar.getInstance();
+
+			cal.setTimeInMillis ((long) (adblDate[i - 1] - 2440588.) * 86400000L);
+
+			int iStartYear = cal.get (java.util.Calendar.YEAR);
+
+			int iStartMonth = cal.get (java.util.Calendar.MONTH);
+
+			int iStartDay = cal.get (java.util.Calendar.DATE);
+
+			cal = java.util.Calendar.getInstance();
+
+			cal.setTimeInMillis ((long) (adblDate[i] - 2440588.) * 86400000L);
+
+			dblYearFractionSum += (360. * (cal.get (java.util.Calendar.YEAR) - iStartYear) + 30. * (cal.get
+				(java.util.Calendar.MONTH) - iStartMonth) + cal.get (java.util.Calendar.DATE) - iStartDay) /
+					360.;
+		}
+
+		return dblYearFractionSum;
+	}
+
+	private static final double JulianYearFraction (
+		final double[] adblDate,
+		final String strDayCount)
+		throws Exception
+	{
+		double dblYearFractionSum = 0.;
+
+		for (int i = 1; i < adblDate.length; ++i)
+			dblYearFractionSum += Convention.YearFraction (
+				adblDate[i - 1],
+				adblDate[i],
+				strDayCount,
+				false,
+				null,
+				"USD"
+			);
+
+		return dblYearFractionSum;
+	}
+
+	private static final void Measure (
+		final double[] adblDate,
+		final String strDayCount)
+		throws Exception
+	{
+		double dblYearFraction = 0.;
+
+		for (int i = 0; i < WARMUP_RUNS; ++i)
+			dblYearFraction = null == strDayCount ? CalendarYearFraction30_360 (adblDate) :
+				JulianYearFraction (adblDate, strDayCount);
+
+		long lAllocatedStart = ThreadAllocatedBytes();
+
+		long lTimeStart = System.nanoTime();
+
+		for (int i = 0; i < MEASURED_RUNS; ++i)
+			dblYearFraction = null == strDayCount ? CalendarYearFraction30_360 (adblDate) :
+				JulianYearFraction (adblDate, strDayCount);
+
+		long lTime = System.nanoTime() - lTimeStart;
+
+		long lAllocated = ThreadAllocatedBytes() - lAllocatedStart;
+
+		int iNumYearFraction = MEASURED_RUNS * (adblDate.length - 1);
+
+		System.out.println ("\t" + (null == strDayCount ? "java.util.Calendar 30/360" : "Julian " +
+			strDayCount) + " => Year Fraction: " + org.drip.quant.common.FormatUtil.FormatDouble
+				(dblYearFraction, 2, 6, 1.) + " | ns/Call: " + org.drip.quant.common.FormatUtil.FormatDouble
+					(((double) lTime) / iNumYearFraction, 4, 1, 1.) + " | Bytes/Call: " +
+						org.drip.quant.common.FormatUtil.FormatDouble (((double) lAllocated) / iNumYearFraction,
+							4, 1, 1.));
+	}
+
+	public static final void main (
+		final String astrArgs[])
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		JulianDate dtStart = DateUtil.CreateFromYMD (
+			2015,
+			DateUtil.MARCH,
+			20
+		);
+
+		double[] adblDate = new double[121];
+
+		for (int i = 0; i < adblDate.length; ++i)
+			adblDate[i] = dtStart.addMonths (3 * i).julian();
+
+		Measure (adblDate, null);
+
+		Measure (adblDate, "30/360");
+
+		Measure (adblDate, "30E/360");
+
+		Measure (adblDate, "Act/Act ISDA");
+
+		Measure (adblDate, "Act/360");
+	}
+}
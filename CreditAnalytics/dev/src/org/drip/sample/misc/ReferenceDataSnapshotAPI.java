@@ -0,0 +1,238 @@
+
+package org.drip.sample.misc;
+
+import java.io.*;
+import java.util.*;
+
+import org.drip.analytics.date.*;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.eventday.Base;
+import org.drip.analytics.eventday.Locale;
+import org.drip.feed.snapshot.*;
+import org.drip.product.creator.CDXRefDataHolder;
+import org.drip.product.params.CDXRefDataParams;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.service.env.StandardCDXManager;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+
+/**
+ * ReferenceDataSnapshotAPI generates the Holiday and the CDX Reference Data Snapshots from the generated
+ * 	Source, reconciles every Location/CDX read back out of the Snapshots against the Source, and then
+ * 	benchmarks the Start-up Time and the Heap of a fresh JVM initialized off the Source versus off the
+ * 	Snapshots.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class ReferenceDataSnapshotAPI {
+
+	private static final String[] SERVICE_CALENDAR = new String[] {"USD", "EUR", "GBP"};
+
+	private static final String LocaleSignature (
+		final Locale lh)
+	{
+		List<String> lsHoliday = new ArrayList<String>();
+
+		for (Base hol : lh.holidays())
+			lsHoliday.add (((int) hol.dateInYear (0, false)) + "|" + hol.description());
+
+		Collections.sort (lsHoliday);
+
+		return (null == lh.weekendDays() ? "" : Arrays.toString (lh.weekendDays().days())) + lsHoliday;
+	}
+
+	private static final void Generate (
+		final String strHolidaySnapshot,
+		final String strCDXSnapshot)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		Map<String, Locale> mapLocale = new TreeMap<String, Locale>();
+
+		for (String strLocation : Convention.HolidayLocations())
+			mapLocale.put (strLocation, Convention.CalendarLocale (strLocation));
+
+		System.out.println ("\tHoliday Snapshot Written: " + HolidaySnapshot.Write (strHolidaySnapshot,
+			mapLocale) + " | " + new File (strHolidaySnapshot).length() / 1024 + " KB");
+
+		System.out.println ("\tCDX Snapshot Written    : " + CDXSnapshot.Write (strCDXSnapshot,
+			CDXRefDataHolder._mapCDXRefData, CDXRefDataHolder._mmCDXRDBFirstCouponSeries) + " | " + new File
+				(strCDXSnapshot).length() / 1024 + " KB");
+
+		HolidaySnapshot hs = new HolidaySnapshot (strHolidaySnapshot);
+
+		int iNumLocationMismatch = 0;
+
+		for (Map.Entry<String, Locale> meLocale : mapLocale.entrySet()) {
+			if (!LocaleSignature (meLocale.getValue()).equals (LocaleSignature (hs.locale
+				(meLocale.getKey()))))
+				++iNumLocationMismatch;
+		}
+
+		System.out.println ("\tHoliday Locations      : " + hs.locations().size() + " | Mismatches: " +
+			iNumLocationMismatch);
+
+		CDXSnapshot cdxs = new CDXSnapshot (strCDXSnapshot);
+
+		int iNumCDXMismatch = 0;
+
+		for (Map.Entry<String, CDXRefDataParams> meRefData : CDXRefDataHolder._mapCDXRefData.entrySet()) {
+			CDXRefDataParams cdxrd = cdxs.refData (meRefData.getKey());
+
+			if (null == cdxrd || !meRefData.getValue().setConstructionString().equals
+				(cdxrd.setConstructionString())) ++iNumCDXMismatch;
+		}
+
+		for (Map.Entry<String, Map<JulianDate, Integer>> meFirstCouponSeries :
+			CDXRefDataHolder._mmCDXRDBFirstCouponSeries.entrySet()) {
+			if (!meFirstCouponSeries.getValue().equals (cdxs.firstCouponSeries (meFirstCouponSeries.getKey())))
+				++iNumCDXMismatch;
+		}
+
+		System.out.println ("\tCDX Codes/Indices      : " + cdxs.cdxCodes().size() + "/" +
+			cdxs.indexNames().size() + " | Mismatches: " + iNumCDXMismatch);
+	}
+
+	private static final void Service (
+		final String strMode,
+		final String strHolidaySnapshot,
+		final String strCDXSnapshot)
+		throws Exception
+	{
+		long lInitStart = System.nanoTime();
+
+		if ("SOURCE".equals (strMode))
+			CreditAnalytics.Init ("");
+		else
+			CreditAnalytics.Init ("", strHolidaySnapshot, strCDXSnapshot);
+
+		long lInitTime = System.nanoTime() - lInitStart;
+
+		long lUseStart = System.nanoTime();
+
+		double dblDate = DateUtil.CreateFromYMD (2015, DateUtil.MARCH, 20).julian();
+
+		int iNumBusinessDays = 0;
+
+		for (String strCalendar : SERVICE_CALENDAR)
+			iNumBusinessDays += Convention.BusinessDays (dblDate, dblDate + 3650., strCalendar);
+
+		Set<String> setstrIndex = StandardCDXManager.GetPreLoadedIndexNames();
+
+		int iNumOnTheRun = 0;
+
+		for (String strIndex : new String[] {"CDX.NA IG", "CDX.NA HY", "ITRAXX.EUROPE"}) {
+			if (setstrIndex.contains (strIndex.toLowerCase()) && null != StandardCDXManager.GetOnTheRun
+				(strIndex, DateUtil.CreateFromYMD (2010, DateUtil.JANUARY, 15), "5Y"))
+				++iNumOnTheRun;
+		}
+
+		long lUseTime = System.nanoTime() - lUseStart;
+
+		Runtime rt = Runtime.getRuntime();
+
+		for (int i = 0; i < 3; ++i)
+			System.gc();
+
+		System.out.println (strMode + "," + (lInitTime / 1000000) + "," + (lUseTime / 1000000) + "," +
+			((rt.totalMemory() - rt.freeMemory()) / 1024) + "," + iNumBusinessDays + "," + iNumOnTheRun);
+	}
+
+	private static final String[] LaunchService (
+		final String strMode,
+		final String strHolidaySnapshot,
+		final String strCDXSnapshot)
+		throws Exception
+	{
+		Process p = new ProcessBuilder (
+			System.getProperty ("java.home") + File.separator + "bin" + File.separator + "java",
+			"-cp",
+			System.getProperty ("java.class.path"),
+			ReferenceDataSnapshotAPI.class.getName(),
+			strMode,
+			strHolidaySnapshot,
+			strCDXSnapshot
+		).redirectErrorStream (true).start();
+
+		BufferedReader br = new BufferedReader (new InputStreamReader (p.getInputStream()));
+
+		String strResult = null;
+		String strLine = null;
+
+		while (null != (strLine = br.readLine())) {
+			if (strLine.startsWith (strMode + ",")) strResult = strLine;
+		}
+
+		p.waitFor();
+
+		return null == strResult ? null : strResult.split (",");
+	}
+
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		if (3 == astrArgs.length) {
+			Service (astrArgs[0], astrArgs[1], astrArgs[2]);
+
+			return;
+		}
+
+		String strTempDir = System.getProperty ("java.io.tmpdir");
+
+		String strHolidaySnapshot = new File (strTempDir, "DRIPHoliday.snap").getPath();
+
+		String strCDXSnapshot = new File (strTempDir, "DRIPCDX.snap").getPath();
+
+		System.out.println ("\n\t|-------------- SNAPSHOT GENERATION --------------|");
+
+		Generate (strHolidaySnapshot, strCDXSnapshot);
+
+		System.out.println ("\n\t|------------ FRESH JVM SERVICE START ------------|");
+
+		System.out.println ("\t|   MODE   | INIT (ms) | USE (ms) |   HEAP (KB)   |");
+
+		System.out.println ("\t|-------------------------------------------------|");
+
+		for (int i = 0; i < 3; ++i) {
+			for (String strMode : new String[] {"SOURCE", "SNAPSHOT"}) {
+				String[] astrResult = LaunchService (strMode, strHolidaySnapshot, strCDXSnapshot);
+
+				if (null == astrResult) {
+					System.out.println ("\t" + strMode + " Service Run Failed!");
+
+					continue;
+				}
+
+				System.out.println (String.format ("\t| %8s | %9s | %8s | %13s | (%s bus days; %s on-the-run)",
+					astrResult[0], astrResult[1], astrResult[2], astrResult[3], astrResult[4], astrResult[5]));
+			}
+		}
+	}
+}
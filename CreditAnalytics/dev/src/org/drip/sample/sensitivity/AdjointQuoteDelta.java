@@ -0,0 +1,553 @@
+
+package org.drip.sample.sensitivity;
+
+import org.drip.analytics.date.*;
+import org.drip.analytics.daycount.Convention;
+import org.drip.analytics.rates.*;
+import org.drip.analytics.support.CompositePeriodBuilder;
+import org.drip.market.otc.*;
+import org.drip.param.creator.*;
+import org.drip.param.market.CurveSurfaceQuoteSet;
+import org.drip.param.period.*;
+import org.drip.param.valuation.*;
+import org.drip.product.definition.CalibratableFixedIncomeComponent;
+import org.drip.product.rates.*;
+import org.drip.quant.calculus.*;
+import org.drip.quant.common.FormatUtil;
+import org.drip.service.api.CreditAnalytics;
+import org.drip.state.creator.DiscountCurveBuilder;
+import org.drip.state.estimator.AdjointQuoteSensitivity;
+import org.drip.state.identifier.ForwardLabel;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * AdjointQuoteDelta demonstrates the Computation of the Calibration Quote Sensitivity of a Portfolio of
+ * 	Fixed and Floating Streams off a Constant Forward Funding Curve in a single Adjoint Backward Sweep, and
+ * 	cross-checks it against the Quote Bump and Re-calibrate Sensitivity. It does the following:
+ * 	- Construct the Deposit/Swap Calibration Instruments, and boot-strap the Funding Curve off them.
+ * 	- Construct the Portfolio of Fixed/Floating Streams.
+ * 	- Construct the Calibration Jacobian of the Curve once, and compute the Adjoint Node/Quote Delta.
+ * 	- Shift each Curve Node Up/Down in place, re-value the Portfolio, and check the Adjoint Node Delta
+ * 		against the Central Finite Difference.
+ * 	- Re-calibrate the Curve for an Up/Down Bump of each Quote, and re-value the Portfolio.
+ * 	- Display the Adjoint and the Bumped Quote Delta side by side, and check them against each other within
+ * 		the Re-calibration Noise.
+ * 
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class AdjointQuoteDelta {
+
+	private static final FixFloatComponent OTCIRS (
+		final JulianDate dtSpot,
+		final String strCurrency,
+		final String strMaturityTenor,
+		final double dblCoupon)
+	{
+		FixedFloatSwapConvention ffConv = IBORFixedFloatContainer.ConventionFromJurisdiction (
+			strCurrency,
+			"ALL",
+			strMaturityTenor,
+			"MAIN"
+		);
+
+		return ffConv.createFixFloatComponent (
+			dtSpot,
+			strMaturityTenor,
+			dblCoupon,
+			0.,
+			1.
+		);
+	}
+
+	private static final CalibratableFixedIncomeComponent[] CalibrationInstruments (
+		final JulianDate dtStart,
+		final String[] astrDepositTenor,
+		final String[] astrIRSTenor,
+		final String strCurrency)
+		throws Exception
+	{
+		CalibratableFixedIncomeComponent[] aCompCalib = new CalibratableFixedIncomeComponent[astrDepositTenor.length
+			+ astrIRSTenor.length];
+
+		ComposableFloatingUnitSetting cfusDeposit = new ComposableFloatingUnitSetting (
+			"3M",
+			CompositePeriodBuilder.EDGE_DATE_SEQUENCE_SINGLE,
+			null,
+			ForwardLabel.Create (
+				strCurrency,
+				"3M"
+			),
+			CompositePeriodBuilder.REFERENCE_PERIOD_IN_ADVANCE,
+			0.
+		);
+
+		CompositePeriodSetting cpsDeposit = new CompositePeriodSetting (
+			4,
+			"3M",
+			strCurrency,
+			null,
+			1.,
+			null,
+			null,
+			null,
+			null
+		);
+
+		CashSettleParams csp = new CashSettleParams (
+			0,
+			strCurrency,
+			0
+		);
+
+		for (int i = 0; i < astrDepositTenor.length; ++i) {
+			aCompCalib[i] = new SingleStreamComponent (
+				"DEPOSIT_" + astrDepositTenor[i],
+				new Stream (
+					CompositePeriodBuilder.FloatingCompositeUnit (
+						CompositePeriodBuilder.EdgePair (
+							dtStart,
+							dtStart.addTenor (astrDepositTenor[i])
+						),
+						cpsDeposit,
+						cfusDeposit
+					)
+				),
+				csp
+			);
+
+			aCompCalib[i].setPrimaryCode (astrDepositTenor[i]);
+		}
+
+		for (int i = 0; i < astrIRSTenor.length; ++i) {
+			aCompCalib[i + astrDepositTenor.length] = OTCIRS (
+				dtStart,
+				strCurrency,
+				astrIRSTenor[i],
+				0.
+			);
+
+			aCompCalib[i + astrDepositTenor.length].setPrimaryCode ("IRS." + astrIRSTenor[i] + "." +
+				strCurrency);
+		}
+
+		return aCompCalib;
+	}
+
+	private static final Stream FixedStream (
+		final JulianDate dtEffective,
+		final String strMaturityTenor,
+		final double dblCoupon)
+		throws Exception
+	{
+		return new Stream (
+			CompositePeriodBuilder.FixedCompositeUnit (
+				CompositePeriodBuilder.RegularEdgeDates (
+					dtEffective,
+					"6M",
+					strMaturityTenor,
+					null
+				),
+				new CompositePeriodSetting (
+					2,
+					"6M",
+					"USD",
+					null,
+					1.,
+					null,
+					null,
+					null,
+					null
+				),
+				new UnitCouponAccrualSetting (
+					2,
+					"Act/360",
+					false,
+					"Act/360",
+					false,
+					"USD",
+					false,
+					CompositePeriodBuilder.ACCRUAL_COMPOUNDING_RULE_ARITHMETIC
+				),
+				new ComposableFixedUnitSetting (
+					"6M",
+					CompositePeriodBuilder.EDGE_DATE_SEQUENCE_REGULAR,
+					null,
+					dblCoupon,
+					0.,
+					"USD"
+				)
+			)
+		);
+	}
+
+	private static final Stream FloatStream (
+		final JulianDate dtEffective,
+		final String strMaturityTenor,
+		final double dblSpread)
+		throws Exception
+	{
+		return new Stream (
+			CompositePeriodBuilder.FloatingCompositeUnit (
+				CompositePeriodBuilder.RegularEdgeDates (
+					dtEffective,
+					"6M",
+					strMaturityTenor,
+					null
+				),
+				new CompositePeriodSetting (
+					4,
+					"3M",
+					"USD",
+					null,
+					-1.,
+					null,
+					null,
+					null,
+					null
+				),
+				new ComposableFloatingUnitSetting (
+					"3M",
+					CompositePeriodBuilder.EDGE_DATE_SEQUENCE_SINGLE,
+					null,
+					ForwardLabel.Create (
+						"USD",
+						"3M"
+					),
+					CompositePeriodBuilder.REFERENCE_PERIOD_IN_ADVANCE,
+					dblSpread
+				)
+			)
+		);
+	}
+
+	private static final double PortfolioDirtyPV (
+		final Stream[] aStream,
+		final double[] adblWeight,
+		final ValuationParams valParams,
+		final CurveSurfaceQuoteSet csqs)
+	{
+		double dblDirtyPV = 0.;
+
+		for (int i = 0; i < aStream.length; ++i)
+			dblDirtyPV += adblWeight[i] * aStream[i].value (
+				valParams,
+				null,
+				csqs,
+				null
+			).get ("DirtyPV");
+
+		return dblDirtyPV;
+	}
+
+	private static final double NodeShiftedDirtyPV (
+		final ExplicitBootDiscountCurve dc,
+		final double[] adblNode,
+		final int iNode,
+		final double dblShift,
+		final Stream[] aStream,
+		final double[] adblWeight,
+		final ValuationParams valParams,
+		final CurveSurfaceQuoteSet csqs)
+		throws Exception
+	{
+		/*
+		 * setNodeValue sets the Node and every Node after it - the later Nodes are re-instated in Order, and
+		 * 	the whole Curve is restored once the Portfolio has been re-valued.
+		 */
+
+		dc.setNodeValue (
+			iNode,
+			adblNode[iNode] + dblShift
+		);
+
+		for (int i = iNode + 1; i < adblNode.length; ++i)
+			dc.setNodeValue (
+				i,
+				adblNode[i]
+			);
+
+		double dblDirtyPV = PortfolioDirtyPV (
+			aStream,
+			adblWeight,
+			valParams,
+			csqs
+		);
+
+		for (int i = iNode; i < adblNode.length; ++i)
+			dc.setNodeValue (
+				i,
+				adblNode[i]
+			);
+
+		return dblDirtyPV;
+	}
+
+	private static final void AdjointQuoteDeltaSample()
+		throws Exception
+	{
+		JulianDate dtValue = DateUtil.Today();
+
+		String[] astrDepositTenor = new String[] {"1M", "3M", "6M"};
+		double[] adblDepositRate = new double[] {0.00195, 0.00276, 0.00348};
+		String[] astrIRSTenor = new String[] {   "1Y",    "2Y",    "3Y",    "4Y",    "5Y",    "7Y",   "10Y",
+			  "15Y",   "20Y",   "30Y"};
+		double[] adblIRSRate = new double[]  {0.00367, 0.00533, 0.00843, 0.01238, 0.01609, 0.02191, 0.02741,
+			0.03208, 0.03372, 0.03484};
+
+		int iNumInstr = astrDepositTenor.length + astrIRSTenor.length;
+		double[] adblQuote = new double[iNumInstr];
+		String[] astrCalibMeasure = new String[iNumInstr];
+
+		for (int i = 0; i < iNumInstr; ++i) {
+			astrCalibMeasure[i] = "Rate";
+			adblQuote[i] = i < astrDepositTenor.length ? adblDepositRate[i] : adblIRSRate[i -
+				astrDepositTenor.length];
+		}
+
+		CalibratableFixedIncomeComponent[] aCalibInst = CalibrationInstruments (
+			dtValue,
+			astrDepositTenor,
+			astrIRSTenor,
+			"USD"
+		);
+
+		ExplicitBootDiscountCurve dc = (ExplicitBootDiscountCurve) ScenarioDiscountCurveBuilder.NonlinearBuild (
+			dtValue,
+			"USD",
+			DiscountCurveBuilder.BOOTSTRAP_MODE_CONSTANT_FORWARD,
+			aCalibInst,
+			adblQuote,
+			astrCalibMeasure,
+			null
+		);
+
+		ValuationParams valParams = ValuationParams.Spot (
+			dtValue,
+			0,
+			"",
+			Convention.DATE_ROLL_ACTUAL
+		);
+
+		/*
+		 * The Portfolio - Payer/Receiver Fixed and Floating Streams across the Curve
+		 */
+
+		Stream[] aStream = new Stream[] {
+			FixedStream (dtValue, "2Y", 0.0060),
+			FixedStream (dtValue, "5Y", 0.0170),
+			FixedStream (dtValue, "12Y", 0.0290),
+			FixedStream (dtValue, "25Y", 0.0345),
+			FloatStream (dtValue, "3Y", 0.0010),
+			FloatStream (dtValue, "8Y", 0.0005),
+			FloatStream (dtValue, "20Y", 0.)
+		};
+
+		double[] adblWeight = new double[] {1.e06, -2.e06, 1.5e06, 0.5e06, 2.e06, -1.e06, 1.e06};
+
+		CurveSurfaceQuoteSet csqs = MarketParamsBuilder.Create (
+			dc,
+			null,
+			null,
+			null,
+			null,
+			null,
+			null
+		);
+
+		long lStart = System.nanoTime();
+
+		AdjointQuoteSensitivity aqs = new AdjointQuoteSensitivity (
+			dc,
+			valParams,
+			aCalibInst,
+			astrCalibMeasure,
+			null,
+			null
+		);
+
+		long lJacobian = System.nanoTime();
+
+		double[] adblAdjointQuoteDelta = aqs.quoteDelta (
+			aStream,
+			adblWeight,
+			valParams,
+			csqs
+		);
+
+		long lAdjoint = System.nanoTime();
+
+		double[] adblAdjointNodeDelta = aqs.nodeDelta (
+			aStream,
+			adblWeight,
+			valParams,
+			csqs
+		);
+
+		AdjointTape tape = new AdjointTape();
+
+		int[] aiNode = ((AdjointNodeResponse) dc).tapeNodes (tape);
+
+		double[] adblNode = new double[iNumInstr];
+
+		for (int j = 0; j < iNumInstr; ++j)
+			adblNode[j] = tape.value (aiNode[j]);
+
+		/*
+		 * The Node Shift is small enough for the Central Difference Truncation Error to stay well below the
+		 * 	Tolerance - the Adjoint and the Finite Difference Node Delta are both exact up to Round-off.
+		 */
+
+		double dblNodeShift = 1.e-06;
+		double dblNodeDeltaTolerance = 1.e-06;
+		double[] adblFDNodeDelta = new double[iNumInstr];
+
+		System.out.println ("\n\t|-----------------------------------------------------------|");
+
+		System.out.println ("\t|  NODE |    ADJOINT     |  FINITE DIFF   |  RELATIVE DIFF  |");
+
+		System.out.println ("\t|-----------------------------------------------------------|");
+
+		for (int j = 0; j < iNumInstr; ++j) {
+			adblFDNodeDelta[j] = 0.5 * (NodeShiftedDirtyPV (
+				dc,
+				adblNode,
+				j,
+				dblNodeShift,
+				aStream,
+				adblWeight,
+				valParams,
+				csqs
+			) - NodeShiftedDirtyPV (
+				dc,
+				adblNode,
+				j,
+				-dblNodeShift,
+				aStream,
+				adblWeight,
+				valParams,
+				csqs
+			)) / dblNodeShift;
+
+			double dblRelativeDiff = (adblAdjointNodeDelta[j] - adblFDNodeDelta[j]) / Math.max (1.,
+				Math.abs (adblFDNodeDelta[j]));
+
+			System.out.println ("\t|  " + String.format ("%3d", j) + "  | " + FormatUtil.FormatDouble
+				(adblAdjointNodeDelta[j], 8, 4, 1.) + " | " + FormatUtil.FormatDouble (adblFDNodeDelta[j], 8,
+					4, 1.) + " | " + String.format ("%15.3e", dblRelativeDiff) + " |");
+
+			if (Math.abs (dblRelativeDiff) > dblNodeDeltaTolerance)
+				throw new Exception ("AdjointQuoteDelta => Node " + j + " Adjoint Delta " +
+					adblAdjointNodeDelta[j] + " differs from the Finite Difference " + adblFDNodeDelta[j]);
+		}
+
+		System.out.println ("\t|-----------------------------------------------------------|");
+
+		long lNodeCheck = System.nanoTime();
+
+		/*
+		 * Each Re-calibration only solves each Node to the Root Finder Tolerance (a few 1.e-07 on the
+		 * 	Forward Rate), and a Node carries up to a few 1.e+06 of Portfolio PV - so every Re-calibrated
+		 * 	Portfolio PV is noisy to a few tenths, independent of the Quote Bump. A 10 bp Bump, scaled back to
+		 * 	1 bp, shrinks that Noise ten-fold while keeping the Central Difference Truncation Error negligible
+		 * 	(the PV is close to linear in the Quotes).
+		 */
+
+		double dblBump = 0.0010;
+		double dblQuoteDeltaTolerance = 0.1;
+		double[] adblBumpQuoteDelta = new double[iNumInstr];
+
+		for (int i = 0; i < iNumInstr; ++i) {
+			DiscountCurve dcUp = (DiscountCurve) dc.shiftManifestMeasure (
+				i,
+				astrCalibMeasure[i],
+				dblBump
+			);
+
+			DiscountCurve dcDown = (DiscountCurve) dc.shiftManifestMeasure (
+				i,
+				astrCalibMeasure[i],
+				-dblBump
+			);
+
+			adblBumpQuoteDelta[i] = 0.5 * 0.0001 / dblBump * (PortfolioDirtyPV (
+				aStream,
+				adblWeight,
+				valParams,
+				MarketParamsBuilder.Create (dcUp, null, null, null, null, null, null)
+			) - PortfolioDirtyPV (
+				aStream,
+				adblWeight,
+				valParams,
+				MarketParamsBuilder.Create (dcDown, null, null, null, null, null, null)
+			));
+		}
+
+		long lBump = System.nanoTime();
+
+		System.out.println ("\n\t|------------------------------------------------------|");
+
+		System.out.println ("\t|        QUOTE  |  ADJOINT(1bp) |  BUMP(1bp) |  DIFF   |");
+
+		System.out.println ("\t|------------------------------------------------------|");
+
+		for (int i = 0; i < iNumInstr; ++i) {
+			double dblDiff = 0.0001 * adblAdjointQuoteDelta[i] - adblBumpQuoteDelta[i];
+
+			System.out.println ("\t| " + String.format ("%12s", aCalibInst[i].primaryCode()) + "  |   " +
+				FormatUtil.FormatDouble (0.0001 * adblAdjointQuoteDelta[i], 4, 4, 1.) + "  | " +
+					FormatUtil.FormatDouble (adblBumpQuoteDelta[i], 4, 4, 1.) + " | " +
+						FormatUtil.FormatDouble (dblDiff, 1, 4, 1.) + " |");
+
+			if (Math.abs (dblDiff) > dblQuoteDeltaTolerance)
+				throw new Exception ("AdjointQuoteDelta => " + aCalibInst[i].primaryCode() +
+					" Adjoint Delta differs from the Bumped Delta beyond the Re-calibration Noise");
+		}
+
+		System.out.println ("\t|------------------------------------------------------|");
+
+		System.out.println ("\n\tCalibration Jacobian (once per Curve) : " + FormatUtil.FormatDouble
+			((lJacobian - lStart) * 1.e-06, 5, 1, 1.) + " ms");
+
+		System.out.println ("\tAdjoint Quote Delta (per Portfolio)   : " + FormatUtil.FormatDouble
+			((lAdjoint - lJacobian) * 1.e-06, 5, 1, 1.) + " ms");
+
+		System.out.println ("\tBump and Re-calibrate Quote Delta     : " + FormatUtil.FormatDouble
+			((lBump - lNodeCheck) * 1.e-06, 5, 1, 1.) + " ms");
+	}
+
+	public static final void main (
+		final String[] astrArgs)
+		throws Exception
+	{
+		CreditAnalytics.Init ("");
+
+		AdjointQuoteDeltaSample();
+	}
+}
@@ -30,7 +30,10 @@ package org.drip.sequence.functional;
 
 /**
  * EfronSteinMetrics contains the Variance-based non-exponential Sample Distribution/Bounding Metrics and
- *  Agnostic Bounds related to the Functional Transformation of the specified Sequence.
+ *  Agnostic Bounds related to the Functional Transformation of the specified Sequence. The Symmetrized and
+ *  the Pivoted Differences are generated Row by Row, evaluating the Function once per Row; the Public
+ *  Difference Metrics hold the full Difference Sequences, while the Variance Bounds only stream them into
+ *  Accumulators.
  *
  * @author Lakshmi Krishnamurthy
  */
@@ -78,14 +81,48 @@ public class EfronSteinMetrics {
 		if (0 == iNumVariable)
 			throw new java.lang.Exception ("EfronSteinMetrics ctr: Invalid Inputs");
 
-		int iSequenceLength = _aSSAM[0].sequence().length;
+		if (null == _aSSAM[0] || null == _aSSAM[0].sequence())
+			throw new java.lang.Exception ("EfronSteinMetrics ctr: Invalid Inputs");
+
+		int iSequenceLength = _aSSAM[0].numEntry();
 
 		for (int i = 1; i < iNumVariable; ++i) {
-			if (null == _aSSAM[i] || _aSSAM[i].sequence().length != iSequenceLength)
+			if (null == _aSSAM[i] || null == _aSSAM[i].sequence() || _aSSAM[i].numEntry() !=
+				iSequenceLength)
 				throw new java.lang.Exception ("EfronSteinMetrics ctr: Invalid Inputs");
 		}
 	}
 
+	private void loadVariate (
+		final int iSequenceIndex,
+		final double[] adblVariate)
+	{
+		for (int iVariateIndex = 0; iVariateIndex < _aSSAM.length; ++iVariateIndex)
+			adblVariate[iVariateIndex] = _aSSAM[iVariateIndex].sequence()[iSequenceIndex];
+	}
+
+	private org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] accumulatorMetrics (
+		final org.drip.sequence.metrics.SequenceAccumulator[] aSA)
+	{
+		if (null == aSA) return null;
+
+		int iNumVariate = aSA.length;
+		org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAM = new
+			org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[iNumVariate];
+
+		try {
+			for (int iVariateIndex = 0; iVariateIndex < iNumVariate; ++iVariateIndex)
+				aSSAM[iVariateIndex] = new org.drip.sequence.metrics.SingleSequenceAgnosticMetrics
+					(aSA[iVariateIndex], null);
+
+			return aSSAM;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
 	/**
 	 * Retrieve the Multivariate Objective Function
 	 * 
@@ -183,100 +220,119 @@ public class EfronSteinMetrics {
 		return aSSAM;
 	}
 
-	/**
-	 * Compute the Function Sequence Agnostic Metrics associated with each Variate using the specified Ghost
-	 * 	Symmetric Variable Copy
-	 * 
-	 * @param aSSAMGhost Array of the Ghost Single Sequence Metrics
-	 * 
-	 * @return The Array of the Associated Sequence Metrics
-	 */
-
-	public org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] symmetrizedDifferenceSequenceMetrics (
-		final org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAMGhost)
+	private boolean symmetrizedDifference (
+		final org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAMGhost,
+		final org.drip.sequence.metrics.SequenceAccumulator[] aSA,
+		final double[][] aadblDifference)
 	{
-		double[][] aadblSequenceVariate = variateSequence (_aSSAM);
+		int iNumVariate = _aSSAM.length;
 
-		double[][] aadblGhostSequenceVariate = variateSequence (aSSAMGhost);
+		if (null == aSSAMGhost || aSSAMGhost.length != iNumVariate) return false;
 
-		if (null == aadblGhostSequenceVariate || aadblSequenceVariate.length !=
-			aadblGhostSequenceVariate.length || aadblSequenceVariate[0].length !=
-				aadblGhostSequenceVariate[0].length)
-			return null;
+		int iSequenceSize = _aSSAM[0].numEntry();
 
-		int iSequenceSize = _aSSAM[0].sequence().length;
+		double[][] aadblGhostVariate = new double[iNumVariate][];
+		double[] adblVariate = new double[iNumVariate];
 
-		int iNumVariate = _aSSAM.length;
-		org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAMFunction = new
-			org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[iNumVariate];
+		for (int iVariateIndex = 0; iVariateIndex < iNumVariate; ++iVariateIndex) {
+			if (null == aSSAMGhost[iVariateIndex] || null == (aadblGhostVariate[iVariateIndex] =
+				aSSAMGhost[iVariateIndex].sequence()) || aadblGhostVariate[iVariateIndex].length !=
+					iSequenceSize)
+				return false;
+		}
 
 		try {
-			for (int iVariateIndex = 0; iVariateIndex < iNumVariate; ++iVariateIndex) {
-				double[] adblSymmetrizedFunctionDifference = new double[iSequenceSize];
-
-				for (int iSequenceIndex = 0; iSequenceIndex < iSequenceSize; ++iSequenceIndex) {
-					double[] adblVariate = aadblSequenceVariate[iSequenceIndex];
+			for (int iSequenceIndex = 0; iSequenceIndex < iSequenceSize; ++iSequenceIndex) {
+				loadVariate (iSequenceIndex, adblVariate);
 
-					adblSymmetrizedFunctionDifference[iSequenceIndex] = _func.evaluate (adblVariate);
+				double dblFunction = _func.evaluate (adblVariate);
 
+				for (int iVariateIndex = 0; iVariateIndex < iNumVariate; ++iVariateIndex) {
 					double dblVariateOrig = adblVariate[iVariateIndex];
-					adblVariate[iVariateIndex] = aadblGhostSequenceVariate[iSequenceIndex][iVariateIndex];
+					adblVariate[iVariateIndex] = aadblGhostVariate[iVariateIndex][iSequenceIndex];
 
-					adblSymmetrizedFunctionDifference[iSequenceIndex] -= _func.evaluate (adblVariate);
+					double dblSymmetrizedFunctionDifference = dblFunction - _func.evaluate (adblVariate);
 
 					adblVariate[iVariateIndex] = dblVariateOrig;
-				}
 
-				aSSAMFunction[iVariateIndex] = new org.drip.sequence.metrics.SingleSequenceAgnosticMetrics
-					(adblSymmetrizedFunctionDifference, null);
+					if (null != aadblDifference)
+						aadblDifference[iVariateIndex][iSequenceIndex] = dblSymmetrizedFunctionDifference;
+
+					if (null != aSA && !aSA[iVariateIndex].add (dblSymmetrizedFunctionDifference))
+						return false;
+				}
 			}
 
-			return aSSAMFunction;
+			return true;
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
 
-		return null;
+		return false;
 	}
 
-	/**
-	 * Compute the Function Sequence Agnostic Metrics associated with each Variate around the Pivot Point
-	 *  provided by the Pivot Function
-	 * 
-	 * @param funcPivot The Pivot Function
-	 * 
-	 * @return The Array of the Associated Sequence Metrics
-	 */
-
-	public org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] pivotedDifferenceSequenceMetrics (
-		final org.drip.sequence.functional.MultivariateRandom funcPivot)
+	private boolean pivotedDifference (
+		final org.drip.sequence.functional.MultivariateRandom funcPivot,
+		final org.drip.sequence.metrics.SequenceAccumulator[] aSA,
+		final double[][] aadblDifference)
 	{
-		if (null == funcPivot) return null;
-
-		double[][] aadblSequenceVariate = variateSequence (_aSSAM);
+		if (null == funcPivot) return false;
 
-		int iSequenceSize = _aSSAM[0].sequence().length;
+		int iSequenceSize = _aSSAM[0].numEntry();
 
 		int iNumVariate = _aSSAM.length;
-		org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAMFunction = new
-			org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[iNumVariate];
+		double[] adblVariate = new double[iNumVariate];
 
 		try {
-			for (int iVariateIndex = 0; iVariateIndex < iNumVariate; ++iVariateIndex) {
-				double[] adblSymmetrizedFunctionDifference = new double[iSequenceSize];
+			for (int iSequenceIndex = 0; iSequenceIndex < iSequenceSize; ++iSequenceIndex) {
+				loadVariate (iSequenceIndex, adblVariate);
 
-				for (int iSequenceIndex = 0; iSequenceIndex < iSequenceSize; ++iSequenceIndex) {
-					double[] adblVariate = aadblSequenceVariate[iSequenceIndex];
+				double dblFunction = _func.evaluate (adblVariate);
 
-					adblSymmetrizedFunctionDifference[iSequenceIndex] = _func.evaluate (adblVariate) -
-						funcPivot.evaluate (demotedSequence (adblVariate, iVariateIndex));
-				}
+				for (int iVariateIndex = 0; iVariateIndex < iNumVariate; ++iVariateIndex) {
+					double dblPivotedFunctionDifference = dblFunction - funcPivot.evaluate (demotedSequence
+						(adblVariate, iVariateIndex));
+
+					if (null != aadblDifference)
+						aadblDifference[iVariateIndex][iSequenceIndex] = dblPivotedFunctionDifference;
 
-				aSSAMFunction[iVariateIndex] = new org.drip.sequence.metrics.SingleSequenceAgnosticMetrics
-					(adblSymmetrizedFunctionDifference, null);
+					if (null != aSA && !aSA[iVariateIndex].add (dblPivotedFunctionDifference)) return false;
+				}
 			}
 
-			return aSSAMFunction;
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return false;
+	}
+
+	private org.drip.sequence.metrics.SequenceAccumulator[] newAccumulators()
+	{
+		int iNumVariate = _aSSAM.length;
+		org.drip.sequence.metrics.SequenceAccumulator[] aSA = new
+			org.drip.sequence.metrics.SequenceAccumulator[iNumVariate];
+
+		for (int iVariateIndex = 0; iVariateIndex < iNumVariate; ++iVariateIndex)
+			aSA[iVariateIndex] = new org.drip.sequence.metrics.SequenceAccumulator();
+
+		return aSA;
+	}
+
+	private org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] sequenceMetrics (
+		final double[][] aadblDifference)
+	{
+		int iNumVariate = aadblDifference.length;
+		org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAM = new
+			org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[iNumVariate];
+
+		try {
+			for (int iVariateIndex = 0; iVariateIndex < iNumVariate; ++iVariateIndex)
+				aSSAM[iVariateIndex] = new org.drip.sequence.metrics.SingleSequenceAgnosticMetrics
+					(aadblDifference[iVariateIndex], null);
+
+			return aSSAM;
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -284,6 +340,42 @@ public class EfronSteinMetrics {
 		return null;
 	}
 
+	/**
+	 * Compute the Function Sequence Agnostic Metrics associated with each Variate using the specified Ghost
+	 * 	Symmetric Variable Copy. Each Metric holds the full Symmetrized Difference Sequence of its Variate.
+	 * 
+	 * @param aSSAMGhost Array of the Ghost Single Sequence Metrics
+	 * 
+	 * @return The Array of the Associated Sequence Metrics
+	 */
+
+	public org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] symmetrizedDifferenceSequenceMetrics (
+		final org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAMGhost)
+	{
+		double[][] aadblDifference = new double[_aSSAM.length][_aSSAM[0].numEntry()];
+
+		return symmetrizedDifference (aSSAMGhost, null, aadblDifference) ? sequenceMetrics
+			(aadblDifference) : null;
+	}
+
+	/**
+	 * Compute the Function Sequence Agnostic Metrics associated with each Variate around the Pivot Point
+	 *  provided by the Pivot Function. Each Metric holds the full Pivoted Difference Sequence of its Variate.
+	 * 
+	 * @param funcPivot The Pivot Function
+	 * 
+	 * @return The Array of the Associated Sequence Metrics
+	 */
+
+	public org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] pivotedDifferenceSequenceMetrics (
+		final org.drip.sequence.functional.MultivariateRandom funcPivot)
+	{
+		double[][] aadblDifference = new double[_aSSAM.length][_aSSAM[0].numEntry()];
+
+		return pivotedDifference (funcPivot, null, aadblDifference) ? sequenceMetrics (aadblDifference) :
+			null;
+	}
+
 	/**
 	 * Compute the Multivariate Variance Upper Bound using the Martingale Differences Method
 	 * 
@@ -357,8 +449,10 @@ public class EfronSteinMetrics {
 		int iNumVariate = _aSSAM.length;
 		double dblVarianceUpperBound = 0.;
 
-		org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAM =
-			symmetrizedDifferenceSequenceMetrics (aSSAMGhost);
+		org.drip.sequence.metrics.SequenceAccumulator[] aSA = newAccumulators();
+
+		org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAM = symmetrizedDifference (aSSAMGhost,
+			aSA, null) ? accumulatorMetrics (aSA) : null;
 
 		if (null == aSSAM || iNumVariate != aSSAM.length)
 			throw new java.lang.Exception
@@ -387,8 +481,10 @@ public class EfronSteinMetrics {
 		int iNumVariate = _aSSAM.length;
 		double dblVarianceUpperBound = 0.;
 
-		org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAM = pivotedDifferenceSequenceMetrics
-			(funcPivot);
+		org.drip.sequence.metrics.SequenceAccumulator[] aSA = newAccumulators();
+
+		org.drip.sequence.metrics.SingleSequenceAgnosticMetrics[] aSSAM = pivotedDifference (funcPivot, aSA,
+			null) ? accumulatorMetrics (aSA) : null;
 
 		if (null == aSSAM || iNumVariate != aSSAM.length)
 			throw new java.lang.Exception
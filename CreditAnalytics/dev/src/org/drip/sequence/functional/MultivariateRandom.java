@@ -147,18 +147,18 @@ public abstract class MultivariateRandom extends org.drip.function.definition.Rd
 	{
 		if (null == aSSAM || 0 > iTargetVariateIndex) return null;
 
-		int iTargetVariateVarianceIndex = 0;
 		int iNumNonTargetVariate = aSSAM.length - 1;
 
 		if (0 >= iNumNonTargetVariate) return null;
 
 		org.drip.analytics.support.SequenceIndexIterator sii =
 			org.drip.analytics.support.SequenceIndexIterator.Standard (iNumNonTargetVariate,
-				aSSAM[0].sequence().length);
+				aSSAM[0].numEntry());
 
 		if (null == sii) return null;
 
-		double[] adblTargetVariateVariance = new double[sii.size()];
+		org.drip.sequence.metrics.SequenceAccumulator saTargetVariateVariance = new
+			org.drip.sequence.metrics.SequenceAccumulator();
 
 		int[] aiNonTargetVariateSequenceIndex = sii.first();
 
@@ -170,14 +170,13 @@ public abstract class MultivariateRandom extends org.drip.function.definition.Rd
 
 			if (null == ssamGhostConditional) return null;
 
-			adblTargetVariateVariance[iTargetVariateVarianceIndex++] =
-				ssamGhostConditional.empiricalVariance();
+			if (!saTargetVariateVariance.add (ssamGhostConditional.empiricalVariance())) return null;
 
 			aiNonTargetVariateSequenceIndex = sii.next();
 		}
 
 		try {
-			return new org.drip.sequence.metrics.SingleSequenceAgnosticMetrics (adblTargetVariateVariance,
+			return new org.drip.sequence.metrics.SingleSequenceAgnosticMetrics (saTargetVariateVariance,
 				null);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
@@ -254,18 +253,18 @@ public abstract class MultivariateRandom extends org.drip.function.definition.Rd
 	{
 		if (null == aSSAM || 0 > iTargetVariateIndex) return null;
 
-		int iTargetVariateVarianceIndex = 0;
 		int iNumNonTargetVariate = aSSAM.length - 1;
 
 		if (0 >= iNumNonTargetVariate) return null;
 
 		org.drip.analytics.support.SequenceIndexIterator sii =
 			org.drip.analytics.support.SequenceIndexIterator.Standard (iNumNonTargetVariate,
-				aSSAM[0].sequence().length);
+				aSSAM[0].numEntry());
 
 		if (null == sii) return null;
 
-		double[] adblTargetVariateVariance = new double[sii.size()];
+		org.drip.sequence.metrics.SequenceAccumulator saTargetVariateVariance = new
+			org.drip.sequence.metrics.SequenceAccumulator();
 
 		int[] aiNonTargetVariateSequenceIndex = sii.first();
 
@@ -277,13 +276,13 @@ public abstract class MultivariateRandom extends org.drip.function.definition.Rd
 
 			if (null == ssamConditional) return null;
 
-			adblTargetVariateVariance[iTargetVariateVarianceIndex++] = ssamConditional.empiricalVariance();
+			if (!saTargetVariateVariance.add (ssamConditional.empiricalVariance())) return null;
 
 			aiNonTargetVariateSequenceIndex = sii.next();
 		}
 
 		try {
-			return new org.drip.sequence.metrics.SingleSequenceAgnosticMetrics (adblTargetVariateVariance,
+			return new org.drip.sequence.metrics.SingleSequenceAgnosticMetrics (saTargetVariateVariance,
 				null);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
@@ -61,6 +61,28 @@ public class BoundedSequenceAgnosticMetrics extends
 			throw new java.lang.Exception ("BoundedSequenceAgnosticMetrics ctr: Invalid Inputs");
 	}
 
+	/**
+	 * BoundedSequenceAgnosticMetrics Constructor off of a Sequence Accumulator
+	 * 
+	 * @param sa The Sequence Accumulator
+	 * @param distPopulation The Population Distribution
+	 * @param dblSupport The Support of the Underlying Random Variable
+	 * 
+	 * @throws java.lang.Exception Thrown if BoundedSequenceAgnosticMetrics cannot be constructed
+	 */
+
+	public BoundedSequenceAgnosticMetrics (
+		final org.drip.sequence.metrics.SequenceAccumulator sa,
+		final org.drip.measure.continuous.R1 distPopulation,
+		final double dblSupport)
+		throws java.lang.Exception
+	{
+		super (sa, distPopulation);
+
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblSupport = dblSupport) || 0. >= _dblSupport)
+			throw new java.lang.Exception ("BoundedSequenceAgnosticMetrics ctr: Invalid Inputs");
+	}
+
 	/**
 	 * Retrieve the Random Sequence Support
 	 * 
@@ -85,7 +107,7 @@ public class BoundedSequenceAgnosticMetrics extends
 	{
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblLevel) || dblLevel <= 0) return null;
 
-		double dblBound = java.lang.Math.exp (-2. * sequence().length * dblLevel * dblLevel / (_dblSupport *
+		double dblBound = java.lang.Math.exp (-2. * numEntry() * dblLevel * dblLevel / (_dblSupport *
 			_dblSupport));
 
 		dblBound = dblBound < 1. ? dblBound : 1.;
@@ -124,7 +146,7 @@ public class BoundedSequenceAgnosticMetrics extends
 		dblBennettFactor = (1. + dblBennettFactor) * java.lang.Math.log (1. + dblBennettFactor) -
 			dblBennettFactor;
 
-		double dblBound = java.lang.Math.exp (-1. * sequence().length * dblVariance * dblBennettFactor /
+		double dblBound = java.lang.Math.exp (-1. * numEntry() * dblVariance * dblBennettFactor /
 			(_dblSupport * _dblSupport));
 
 		dblBound = dblBound < 1. ? dblBound : 1.;
@@ -158,7 +180,7 @@ public class BoundedSequenceAgnosticMetrics extends
 		double dblVariance = (org.drip.quant.common.NumberUtil.IsValid (dblPopulationVariance) ?
 			dblPopulationVariance : empiricalVariance());
 
-		double dblBound = java.lang.Math.exp (-1. * sequence().length * dblLevel * dblLevel / (2. *
+		double dblBound = java.lang.Math.exp (-1. * numEntry() * dblLevel * dblLevel / (2. *
 			dblVariance + (2. * _dblSupport * dblLevel / 3.)));
 
 		dblBound = dblBound < 1. ? dblBound : 1.;
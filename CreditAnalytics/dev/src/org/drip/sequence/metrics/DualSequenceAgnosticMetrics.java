@@ -53,8 +53,8 @@ public class DualSequenceAgnosticMetrics {
 		final org.drip.sequence.metrics.SingleSequenceAgnosticMetrics ssam2)
 		throws java.lang.Exception
 	{
-		if (null == (_ssam1 = ssam1) || null == (_ssam2 = ssam2) || _ssam1.sequence().length !=
-			_ssam2.sequence().length)
+		if (null == (_ssam1 = ssam1) || null == (_ssam2 = ssam2) || _ssam1.numEntry() !=
+			_ssam2.numEntry())
 			throw new java.lang.Exception ("DualSequenceAgnosticMetrics ctr: Invalid Inputs");
 	}
 
@@ -0,0 +1,261 @@
+
+package org.drip.sequence.metrics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * HistogramAccumulator counts the Sequence Entries into Equal-Width Buckets spanning [Left, Right), with
+ * 	separate Under-flow and Over-flow Counts. Histograms of the same Layout fed on separate Threads are
+ * 	combined using merge.
+ *
+ *  The Histogram is not synchronized - each Thread is expected to feed its own Instance.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class HistogramAccumulator {
+	private long _lOverflow = 0L;
+	private long _lUnderflow = 0L;
+	private long[] _alCount = null;
+	private double _dblLeft = java.lang.Double.NaN;
+	private double _dblRight = java.lang.Double.NaN;
+	private double _dblBucketWidth = java.lang.Double.NaN;
+
+	/**
+	 * HistogramAccumulator Constructor
+	 *
+	 * @param dblLeft Left Edge of the First Bucket
+	 * @param dblRight Right Edge of the Last Bucket
+	 * @param iNumBucket Number of Buckets
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public HistogramAccumulator (
+		final double dblLeft,
+		final double dblRight,
+		final int iNumBucket)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblLeft = dblLeft) ||
+			!org.drip.quant.common.NumberUtil.IsValid (_dblRight = dblRight) || _dblRight <= _dblLeft || 0 >=
+				iNumBucket)
+			throw new java.lang.Exception ("HistogramAccumulator ctr: Invalid Inputs");
+
+		_alCount = new long[iNumBucket];
+		_dblBucketWidth = (_dblRight - _dblLeft) / iNumBucket;
+	}
+
+	/**
+	 * Add an Entry to the Histogram
+	 *
+	 * @param dblValue The Entry
+	 *
+	 * @return TRUE => The Entry has been added
+	 */
+
+	public boolean add (
+		final double dblValue)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblValue)) return false;
+
+		if (dblValue < _dblLeft)
+			++_lUnderflow;
+		else if (dblValue >= _dblRight)
+			++_lOverflow;
+		else {
+			int iBucket = (int) ((dblValue - _dblLeft) / _dblBucketWidth);
+
+			++_alCount[iBucket < _alCount.length ? iBucket : _alCount.length - 1];
+		}
+
+		return true;
+	}
+
+	/**
+	 * Merge the Counts of the other Histogram into this one. Both must share the same Layout.
+	 *
+	 * @param haOther The other Histogram
+	 *
+	 * @return TRUE => The Histogram has been merged in
+	 */
+
+	public boolean merge (
+		final HistogramAccumulator haOther)
+	{
+		if (null == haOther || this == haOther || _dblLeft != haOther._dblLeft || _dblRight !=
+			haOther._dblRight || _alCount.length != haOther._alCount.length)
+			return false;
+
+		for (int i = 0; i < _alCount.length; ++i)
+			_alCount[i] += haOther._alCount[i];
+
+		_lUnderflow += haOther._lUnderflow;
+		_lOverflow += haOther._lOverflow;
+		return true;
+	}
+
+	/**
+	 * Create an Independent Copy of this Histogram
+	 *
+	 * @return The Copy
+	 */
+
+	public HistogramAccumulator copy()
+	{
+		try {
+			HistogramAccumulator ha = new HistogramAccumulator (_dblLeft, _dblRight, _alCount.length);
+
+			return ha.merge (this) ? ha : null;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Retrieve the Number of Buckets
+	 *
+	 * @return The Number of Buckets
+	 */
+
+	public int numBucket()
+	{
+		return _alCount.length;
+	}
+
+	/**
+	 * Retrieve the Left Edge of the specified Bucket
+	 *
+	 * @param iBucket The Bucket Index
+	 *
+	 * @return Left Edge of the Bucket
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double bucketLeft (
+		final int iBucket)
+		throws java.lang.Exception
+	{
+		if (0 > iBucket || iBucket >= _alCount.length)
+			throw new java.lang.Exception ("HistogramAccumulator::bucketLeft => Invalid Inputs");
+
+		return _dblLeft + iBucket * _dblBucketWidth;
+	}
+
+	/**
+	 * Retrieve the Bucket Width
+	 *
+	 * @return The Bucket Width
+	 */
+
+	public double bucketWidth()
+	{
+		return _dblBucketWidth;
+	}
+
+	/**
+	 * Retrieve the Count in the specified Bucket
+	 *
+	 * @param iBucket The Bucket Index
+	 *
+	 * @return The Bucket Count
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public long count (
+		final int iBucket)
+		throws java.lang.Exception
+	{
+		if (0 > iBucket || iBucket >= _alCount.length)
+			throw new java.lang.Exception ("HistogramAccumulator::count => Invalid Inputs");
+
+		return _alCount[iBucket];
+	}
+
+	/**
+	 * Retrieve the Count of Entries below the Left Edge
+	 *
+	 * @return The Under-flow Count
+	 */
+
+	public long underflow()
+	{
+		return _lUnderflow;
+	}
+
+	/**
+	 * Retrieve the Count of Entries at or above the Right Edge
+	 *
+	 * @return The Over-flow Count
+	 */
+
+	public long overflow()
+	{
+		return _lOverflow;
+	}
+
+	/**
+	 * Retrieve the Total Count, including the Under-flow and the Over-flow
+	 *
+	 * @return The Total Count
+	 */
+
+	public long total()
+	{
+		long lTotal = _lUnderflow + _lOverflow;
+
+		for (int i = 0; i < _alCount.length; ++i)
+			lTotal += _alCount[i];
+
+		return lTotal;
+	}
+
+	/**
+	 * Retrieve the Empirical Probability Density over each Bucket
+	 *
+	 * @return The Array of Bucket Densities (NULL if the Histogram is Empty)
+	 */
+
+	public double[] density()
+	{
+		long lTotal = total();
+
+		if (0L == lTotal) return null;
+
+		double[] adblDensity = new double[_alCount.length];
+
+		for (int i = 0; i < _alCount.length; ++i)
+			adblDensity[i] = _alCount[i] / (lTotal * _dblBucketWidth);
+
+		return adblDensity;
+	}
+}
@@ -59,6 +59,27 @@ public class IntegerSequenceAgnosticMetrics extends
 				("IntegerSequenceAgnosticMetrics ctr => Series should be non-Negative!");
 	}
 
+	/**
+	 * Build out the Metrics off of a Sequence Accumulator
+	 * 
+	 * @param sa The Sequence Accumulator
+	 * @param distPopulation The True Underlying Generator Distribution of the Population
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public IntegerSequenceAgnosticMetrics (
+		final org.drip.sequence.metrics.SequenceAccumulator sa,
+		final org.drip.measure.continuous.R1 distPopulation)
+		throws java.lang.Exception
+	{
+		super (sa, distPopulation);
+
+		if (!isPositive())
+			throw new java.lang.Exception
+				("IntegerSequenceAgnosticMetrics ctr => Series should be non-Negative!");
+	}
+
 	/**
 	 * Retrieve the Upper Bound on Probability of X > 0
 	 * 
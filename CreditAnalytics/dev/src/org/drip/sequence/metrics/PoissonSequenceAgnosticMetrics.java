@@ -57,6 +57,25 @@ public class PoissonSequenceAgnosticMetrics extends org.drip.sequence.metrics.Si
 		_dblPopulationMean = dblPopulationMean;
 	}
 
+	/**
+	 * PoissonSequenceAgnosticMetrics Constructor off of a Sequence Accumulator
+	 * 
+	 * @param sa The Sequence Accumulator
+	 * @param dblPopulationMean The Mean of the Underlying Distribution
+	 * 
+	 * @throws java.lang.Exception Thrown if PoissonSequenceAgnosticMetrics cannot be constructed
+	 */
+
+	public PoissonSequenceAgnosticMetrics (
+		final org.drip.sequence.metrics.SequenceAccumulator sa,
+		final double dblPopulationMean)
+		throws java.lang.Exception
+	{
+		super (sa, null);
+
+		_dblPopulationMean = dblPopulationMean;
+	}
+
 	/**
 	 * Retrieve the Mean of the Underlying Distribution
 	 * 
@@ -86,7 +105,7 @@ public class PoissonSequenceAgnosticMetrics extends org.drip.sequence.metrics.Si
 			throw new java.lang.Exception
 				("PoissonSequenceAgnosticMetrics::chernoffStirlingUpperBound => Invalid Inputs");
 
-		int iNumEntry = sequence().length;
+		int iNumEntry = numEntry();
 
 		double dblPopulationMean = org.drip.quant.common.NumberUtil.IsValid (_dblPopulationMean) ?
 			_dblPopulationMean : empiricalExpectation();
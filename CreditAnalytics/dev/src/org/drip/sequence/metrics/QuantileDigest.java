@@ -0,0 +1,380 @@
+
+package org.drip.sequence.metrics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * QuantileDigest implements the Merging t-Digest Quantile Sketch of Dunning and Ertl. Incoming Points are
+ * 	buffered, and periodically folded into a Sorted Set of Weighted Centroids whose Sizes are bounded by the
+ * 	Arc-Sine (k1) Scale Function - small near the Tails, large near the Median - so the Tail Quantiles stay
+ * 	accurate with a Memory Foot-print of roughly Compression Centroids, independent of the Sample Size.
+ * 	Digests fed on separate Threads are combined using merge.
+ *
+ *  The Digest is not synchronized - each Thread is expected to feed its own Instance.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class QuantileDigest {
+	private int _iNumBuffer = 0;
+	private int _iNumCentroid = 0;
+	private double[] _adblMean = null;
+	private double[] _adblWeight = null;
+	private double _dblTotalWeight = 0.;
+	private double[] _adblBufferMean = null;
+	private double[] _adblBufferWeight = null;
+	private double _dblCompression = java.lang.Double.NaN;
+	private double _dblMinimum = java.lang.Double.POSITIVE_INFINITY;
+	private double _dblMaximum = java.lang.Double.NEGATIVE_INFINITY;
+
+	private static final void Sort (
+		final double[] adblMean,
+		final double[] adblWeight,
+		final int iNumEntry)
+	{
+		for (int iGap = iNumEntry / 2; iGap > 0; iGap = 2 == iGap ? 1 : (int) (iGap / 2.2)) {
+			for (int i = iGap; i < iNumEntry; ++i) {
+				int j = i;
+				double dblMean = adblMean[i];
+				double dblWeight = adblWeight[i];
+
+				for (; j >= iGap && adblMean[j - iGap] > dblMean; j -= iGap) {
+					adblMean[j] = adblMean[j - iGap];
+					adblWeight[j] = adblWeight[j - iGap];
+				}
+
+				adblMean[j] = dblMean;
+				adblWeight[j] = dblWeight;
+			}
+		}
+	}
+
+	private double scale (
+		final double dblQuantile)
+	{
+		return _dblCompression / java.lang.Math.PI * java.lang.Math.asin (2. * dblQuantile - 1.);
+	}
+
+	private double inverseScale (
+		final double dblK)
+	{
+		double dblKLimit = 0.5 * _dblCompression;
+
+		return 0.5 * (java.lang.Math.sin ((dblK < dblKLimit ? dblK : dblKLimit) * java.lang.Math.PI /
+			_dblCompression) + 1.);
+	}
+
+	private void compress()
+	{
+		if (0 == _iNumBuffer) return;
+
+		Sort (_adblBufferMean, _adblBufferWeight, _iNumBuffer);
+
+		int iNumEntry = _iNumCentroid + _iNumBuffer;
+		double[] adblMean = new double[iNumEntry];
+		double[] adblWeight = new double[iNumEntry];
+		int iCentroidIndex = 0;
+		int iBufferIndex = 0;
+
+		for (int i = 0; i < iNumEntry; ++i) {
+			if (iBufferIndex >= _iNumBuffer || (iCentroidIndex < _iNumCentroid &&
+				_adblMean[iCentroidIndex] <= _adblBufferMean[iBufferIndex])) {
+				adblMean[i] = _adblMean[iCentroidIndex];
+				adblWeight[i] = _adblWeight[iCentroidIndex++];
+			} else {
+				adblMean[i] = _adblBufferMean[iBufferIndex];
+				adblWeight[i] = _adblBufferWeight[iBufferIndex++];
+			}
+		}
+
+		int iNumMerged = 0;
+		double dblWeightSoFar = 0.;
+		double dblMergedMean = adblMean[0];
+		double dblMergedWeight = adblWeight[0];
+
+		double dblWeightLimit = _dblTotalWeight * inverseScale (scale (0.) + 1.);
+
+		for (int i = 1; i < iNumEntry; ++i) {
+			if (dblWeightSoFar + dblMergedWeight + adblWeight[i] <= dblWeightLimit) {
+				dblMergedWeight += adblWeight[i];
+				dblMergedMean += (adblMean[i] - dblMergedMean) * adblWeight[i] / dblMergedWeight;
+				continue;
+			}
+
+			adblMean[iNumMerged] = dblMergedMean;
+			adblWeight[iNumMerged++] = dblMergedWeight;
+			dblWeightSoFar += dblMergedWeight;
+			dblMergedMean = adblMean[i];
+			dblMergedWeight = adblWeight[i];
+
+			dblWeightLimit = _dblTotalWeight * inverseScale (scale (dblWeightSoFar / _dblTotalWeight) + 1.);
+		}
+
+		adblMean[iNumMerged] = dblMergedMean;
+		adblWeight[iNumMerged++] = dblMergedWeight;
+		_adblMean = adblMean;
+		_adblWeight = adblWeight;
+		_iNumCentroid = iNumMerged;
+		_iNumBuffer = 0;
+	}
+
+	/**
+	 * QuantileDigest Constructor
+	 *
+	 * @param dblCompression The Compression - the Number of Centroids retained is of this Order
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public QuantileDigest (
+		final double dblCompression)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (_dblCompression = dblCompression) || 10. >
+			_dblCompression)
+			throw new java.lang.Exception ("QuantileDigest ctr: Invalid Inputs");
+
+		int iBufferSize = 5 * (int) java.lang.Math.ceil (_dblCompression);
+
+		_adblBufferMean = new double[iBufferSize];
+		_adblBufferWeight = new double[iBufferSize];
+	}
+
+	/**
+	 * Retrieve the Compression
+	 *
+	 * @return The Compression
+	 */
+
+	public double compression()
+	{
+		return _dblCompression;
+	}
+
+	/**
+	 * Add a Weighted Point to the Digest
+	 *
+	 * @param dblValue The Point
+	 * @param dblWeight The Weight
+	 *
+	 * @return TRUE => The Point has been added
+	 */
+
+	public boolean add (
+		final double dblValue,
+		final double dblWeight)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblValue) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblWeight) || 0. >= dblWeight)
+			return false;
+
+		if (_iNumBuffer == _adblBufferMean.length) compress();
+
+		_adblBufferMean[_iNumBuffer] = dblValue;
+		_adblBufferWeight[_iNumBuffer++] = dblWeight;
+		_dblTotalWeight += dblWeight;
+
+		if (dblValue < _dblMinimum) _dblMinimum = dblValue;
+
+		if (dblValue > _dblMaximum) _dblMaximum = dblValue;
+
+		return true;
+	}
+
+	/**
+	 * Add a Point to the Digest
+	 *
+	 * @param dblValue The Point
+	 *
+	 * @return TRUE => The Point has been added
+	 */
+
+	public boolean add (
+		final double dblValue)
+	{
+		return add (dblValue, 1.);
+	}
+
+	/**
+	 * Merge the Content of the other Digest into this one. The other Digest is left untouched.
+	 *
+	 * @param qdOther The other Digest
+	 *
+	 * @return TRUE => The Digest has been merged in
+	 */
+
+	public boolean merge (
+		final QuantileDigest qdOther)
+	{
+		if (null == qdOther || this == qdOther) return false;
+
+		for (int i = 0; i < qdOther._iNumCentroid; ++i) {
+			if (!add (qdOther._adblMean[i], qdOther._adblWeight[i])) return false;
+		}
+
+		for (int i = 0; i < qdOther._iNumBuffer; ++i) {
+			if (!add (qdOther._adblBufferMean[i], qdOther._adblBufferWeight[i])) return false;
+		}
+
+		if (qdOther._dblMinimum < _dblMinimum) _dblMinimum = qdOther._dblMinimum;
+
+		if (qdOther._dblMaximum > _dblMaximum) _dblMaximum = qdOther._dblMaximum;
+
+		return true;
+	}
+
+	/**
+	 * Create an Independent Copy of this Digest
+	 *
+	 * @return The Copy
+	 */
+
+	public QuantileDigest copy()
+	{
+		try {
+			QuantileDigest qd = new QuantileDigest (_dblCompression);
+
+			return qd.merge (this) ? qd : null;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Retrieve the Total Weight added to the Digest
+	 *
+	 * @return The Total Weight
+	 */
+
+	public double totalWeight()
+	{
+		return _dblTotalWeight;
+	}
+
+	/**
+	 * Retrieve the Number of Centroids currently held
+	 *
+	 * @return The Number of Centroids
+	 */
+
+	public int numCentroid()
+	{
+		compress();
+
+		return _iNumCentroid;
+	}
+
+	/**
+	 * Estimate the Quantile at the specified Cumulative Probability
+	 *
+	 * @param dblProbability The Cumulative Probability
+	 *
+	 * @return The Quantile Estimate
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Digest is Empty
+	 */
+
+	public double quantile (
+		final double dblProbability)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblProbability) || 0. > dblProbability || 1. <
+			dblProbability || 0. == _dblTotalWeight)
+			throw new java.lang.Exception ("QuantileDigest::quantile => Invalid Inputs");
+
+		compress();
+
+		if (1 == _iNumCentroid) return _adblMean[0];
+
+		double dblTargetWeight = dblProbability * _dblTotalWeight;
+		double dblCenter = 0.5 * _adblWeight[0];
+
+		if (dblTargetWeight <= dblCenter)
+			return _dblMinimum + (_adblMean[0] - _dblMinimum) * dblTargetWeight / dblCenter;
+
+		for (int i = 1; i < _iNumCentroid; ++i) {
+			double dblNextCenter = dblCenter + 0.5 * (_adblWeight[i - 1] + _adblWeight[i]);
+
+			if (dblTargetWeight <= dblNextCenter)
+				return _adblMean[i - 1] + (_adblMean[i] - _adblMean[i - 1]) * (dblTargetWeight - dblCenter) /
+					(dblNextCenter - dblCenter);
+
+			dblCenter = dblNextCenter;
+		}
+
+		double dblTailWeight = _dblTotalWeight - dblCenter;
+
+		return 0. == dblTailWeight ? _dblMaximum : _adblMean[_iNumCentroid - 1] + (_dblMaximum -
+			_adblMean[_iNumCentroid - 1]) * (dblTargetWeight - dblCenter) / dblTailWeight;
+	}
+
+	/**
+	 * Estimate the Cumulative Probability at the specified Value
+	 *
+	 * @param dblValue The Value
+	 *
+	 * @return The Cumulative Probability Estimate
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Digest is Empty
+	 */
+
+	public double cdf (
+		final double dblValue)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblValue) || 0. == _dblTotalWeight)
+			throw new java.lang.Exception ("QuantileDigest::cdf => Invalid Inputs");
+
+		if (dblValue < _dblMinimum) return 0.;
+
+		if (dblValue >= _dblMaximum) return 1.;
+
+		compress();
+
+		double dblCenter = 0.5 * _adblWeight[0];
+
+		if (dblValue <= _adblMean[0])
+			return _adblMean[0] == _dblMinimum ? dblCenter / _dblTotalWeight : dblCenter * (dblValue -
+				_dblMinimum) / (_adblMean[0] - _dblMinimum) / _dblTotalWeight;
+
+		for (int i = 1; i < _iNumCentroid; ++i) {
+			double dblNextCenter = dblCenter + 0.5 * (_adblWeight[i - 1] + _adblWeight[i]);
+
+			if (dblValue <= _adblMean[i])
+				return (dblCenter + (dblNextCenter - dblCenter) * (dblValue - _adblMean[i - 1]) /
+					(_adblMean[i] - _adblMean[i - 1])) / _dblTotalWeight;
+
+			dblCenter = dblNextCenter;
+		}
+
+		return (dblCenter + (_dblTotalWeight - dblCenter) * (dblValue - _adblMean[_iNumCentroid - 1]) /
+			(_dblMaximum - _adblMean[_iNumCentroid - 1])) / _dblTotalWeight;
+	}
+}
@@ -0,0 +1,427 @@
+
+package org.drip.sequence.metrics;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SequenceAccumulator gathers the Sample Metrics of a Sequence in a Single Pass, without retaining the
+ * 	Entries: the Count, the Minimum/Maximum, and the Central Moments up to the Fourth using the Welford/Pebay
+ * 	Updates, along with an optional QuantileDigest and HistogramAccumulator. Accumulators fed on separate
+ * 	Threads are combined using the Chan/Pebay Pair-wise Merge, so Parallel Simulators may reduce their
+ * 	Partial Results without holding on to the Samples.
+ *
+ *  The Raw and the Anchored Moments are derived off of the Central Moments; the Odd Absolute Moments are
+ *  	available only about the Origin, where they are tracked explicitly.
+ *
+ *  The Accumulator is not synchronized - each Thread is expected to feed its own Instance.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SequenceAccumulator {
+	private static final int MAXIMUM_MOMENT = 4;
+
+	private long _lCount = 0L;
+	private double _dblM2 = 0.;
+	private double _dblM3 = 0.;
+	private double _dblM4 = 0.;
+	private double _dblMean = 0.;
+	private double _dblAbsoluteSum1 = 0.;
+	private double _dblAbsoluteSum3 = 0.;
+	private org.drip.sequence.metrics.QuantileDigest _qd = null;
+	private org.drip.sequence.metrics.HistogramAccumulator _ha = null;
+	private double _dblMinimum = java.lang.Double.POSITIVE_INFINITY;
+	private double _dblMaximum = java.lang.Double.NEGATIVE_INFINITY;
+
+	private static final double Binomial (
+		final int n,
+		final int k)
+	{
+		double dblBinomial = 1.;
+
+		for (int i = 1; i <= k; ++i)
+			dblBinomial = dblBinomial * (n - k + i) / i;
+
+		return dblBinomial;
+	}
+
+	/**
+	 * Construct an Accumulator of the Moments and the Extrema only
+	 */
+
+	public SequenceAccumulator()
+	{
+	}
+
+	/**
+	 * Construct an Accumulator that also feeds the supplied (empty) Quantile Digest and/or Histogram
+	 *
+	 * @param qd The Quantile Digest (may be NULL)
+	 * @param ha The Histogram (may be NULL)
+	 */
+
+	public SequenceAccumulator (
+		final org.drip.sequence.metrics.QuantileDigest qd,
+		final org.drip.sequence.metrics.HistogramAccumulator ha)
+	{
+		_qd = qd;
+		_ha = ha;
+	}
+
+	/**
+	 * Add an Entry to the Accumulator
+	 *
+	 * @param dblValue The Entry
+	 *
+	 * @return TRUE => The Entry has been added
+	 */
+
+	public boolean add (
+		final double dblValue)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblValue)) return false;
+
+		double dblN = (double) ++_lCount;
+		double dblDelta = dblValue - _dblMean;
+		double dblDeltaN = dblDelta / dblN;
+		double dblDeltaN2 = dblDeltaN * dblDeltaN;
+		double dblTerm = dblDelta * dblDeltaN * (dblN - 1.);
+		_dblMean += dblDeltaN;
+		_dblM4 += dblTerm * dblDeltaN2 * (dblN * dblN - 3. * dblN + 3.) + 6. * dblDeltaN2 * _dblM2 - 4. *
+			dblDeltaN * _dblM3;
+		_dblM3 += dblTerm * dblDeltaN * (dblN - 2.) - 3. * dblDeltaN * _dblM2;
+		_dblM2 += dblTerm;
+
+		double dblAbsolute = java.lang.Math.abs (dblValue);
+
+		_dblAbsoluteSum1 += dblAbsolute;
+		_dblAbsoluteSum3 += dblAbsolute * dblAbsolute * dblAbsolute;
+
+		if (dblValue < _dblMinimum) _dblMinimum = dblValue;
+
+		if (dblValue > _dblMaximum) _dblMaximum = dblValue;
+
+		if (null != _qd) _qd.add (dblValue);
+
+		if (null != _ha) _ha.add (dblValue);
+
+		return true;
+	}
+
+	/**
+	 * Add the specified Range of the Block of Entries to the Accumulator
+	 *
+	 * @param adblBlock The Block
+	 * @param iOffset Offset into the Block
+	 * @param iLength Number of Entries to Add
+	 *
+	 * @return TRUE => The Entries have been added
+	 */
+
+	public boolean add (
+		final double[] adblBlock,
+		final int iOffset,
+		final int iLength)
+	{
+		if (null == adblBlock || 0 > iOffset || 0 > iLength || iOffset + iLength > adblBlock.length)
+			return false;
+
+		for (int i = iOffset; i < iOffset + iLength; ++i) {
+			if (!add (adblBlock[i])) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Add the Array of Entries to the Accumulator
+	 *
+	 * @param adblBlock The Array of Entries
+	 *
+	 * @return TRUE => The Entries have been added
+	 */
+
+	public boolean add (
+		final double[] adblBlock)
+	{
+		return null != adblBlock && add (adblBlock, 0, adblBlock.length);
+	}
+
+	/**
+	 * Merge the other Accumulator into this one. The other Accumulator is left untouched. The Quantile
+	 * 	Digests and the Histograms are merged if both Accumulators carry them.
+	 *
+	 * @param saOther The other Accumulator
+	 *
+	 * @return TRUE => The Accumulator has been merged in
+	 */
+
+	public boolean merge (
+		final SequenceAccumulator saOther)
+	{
+		if (null == saOther || this == saOther) return false;
+
+		if (0L == saOther._lCount) return true;
+
+		if (null != _qd && null != saOther._qd && !_qd.merge (saOther._qd)) return false;
+
+		if (null != _ha && null != saOther._ha && !_ha.merge (saOther._ha)) return false;
+
+		double dblNA = (double) _lCount;
+		double dblNB = (double) saOther._lCount;
+		double dblN = dblNA + dblNB;
+		double dblDelta = saOther._dblMean - _dblMean;
+		double dblDelta2 = dblDelta * dblDelta;
+		_dblM4 += saOther._dblM4 + dblDelta2 * dblDelta2 * dblNA * dblNB * (dblNA * dblNA - dblNA * dblNB +
+			dblNB * dblNB) / (dblN * dblN * dblN) + 6. * dblDelta2 * (dblNA * dblNA * saOther._dblM2 + dblNB *
+				dblNB * _dblM2) / (dblN * dblN) + 4. * dblDelta * (dblNA * saOther._dblM3 - dblNB * _dblM3) /
+					dblN;
+		_dblM3 += saOther._dblM3 + dblDelta2 * dblDelta * dblNA * dblNB * (dblNA - dblNB) / (dblN * dblN) +
+			3. * dblDelta * (dblNA * saOther._dblM2 - dblNB * _dblM2) / dblN;
+		_dblM2 += saOther._dblM2 + dblDelta2 * dblNA * dblNB / dblN;
+		_dblMean += dblDelta * dblNB / dblN;
+		_lCount += saOther._lCount;
+		_dblAbsoluteSum1 += saOther._dblAbsoluteSum1;
+		_dblAbsoluteSum3 += saOther._dblAbsoluteSum3;
+
+		if (saOther._dblMinimum < _dblMinimum) _dblMinimum = saOther._dblMinimum;
+
+		if (saOther._dblMaximum > _dblMaximum) _dblMaximum = saOther._dblMaximum;
+
+		return true;
+	}
+
+	/**
+	 * Create an Independent Copy of this Accumulator
+	 *
+	 * @return The Copy
+	 */
+
+	public SequenceAccumulator copy()
+	{
+		SequenceAccumulator sa = new SequenceAccumulator (null == _qd ? null : _qd.copy(), null == _ha ?
+			null : _ha.copy());
+
+		sa._lCount = _lCount;
+		sa._dblM2 = _dblM2;
+		sa._dblM3 = _dblM3;
+		sa._dblM4 = _dblM4;
+		sa._dblMean = _dblMean;
+		sa._dblAbsoluteSum1 = _dblAbsoluteSum1;
+		sa._dblAbsoluteSum3 = _dblAbsoluteSum3;
+		sa._dblMinimum = _dblMinimum;
+		sa._dblMaximum = _dblMaximum;
+		return sa;
+	}
+
+	/**
+	 * Retrieve the Number of Entries
+	 *
+	 * @return The Number of Entries
+	 */
+
+	public long count()
+	{
+		return _lCount;
+	}
+
+	/**
+	 * Retrieve the Sample Mean
+	 *
+	 * @return The Sample Mean (NaN if Empty)
+	 */
+
+	public double mean()
+	{
+		return 0L == _lCount ? java.lang.Double.NaN : _dblMean;
+	}
+
+	/**
+	 * Retrieve the (Biased) Sample Variance
+	 *
+	 * @return The Sample Variance (NaN if Empty)
+	 */
+
+	public double variance()
+	{
+		return 0L == _lCount ? java.lang.Double.NaN : _dblM2 / _lCount;
+	}
+
+	/**
+	 * Retrieve the Sample Skewness
+	 *
+	 * @return The Sample Skewness (NaN if Empty or Degenerate)
+	 */
+
+	public double skewness()
+	{
+		return 0L == _lCount || 0. == _dblM2 ? java.lang.Double.NaN : java.lang.Math.sqrt ((double) _lCount)
+			* _dblM3 / java.lang.Math.pow (_dblM2, 1.5);
+	}
+
+	/**
+	 * Retrieve the Sample Excess Kurtosis
+	 *
+	 * @return The Sample Excess Kurtosis (NaN if Empty or Degenerate)
+	 */
+
+	public double excessKurtosis()
+	{
+		return 0L == _lCount || 0. == _dblM2 ? java.lang.Double.NaN : _lCount * _dblM4 / (_dblM2 * _dblM2) -
+			3.;
+	}
+
+	/**
+	 * Retrieve the Sample Minimum
+	 *
+	 * @return The Sample Minimum (NaN if Empty)
+	 */
+
+	public double minimum()
+	{
+		return 0L == _lCount ? java.lang.Double.NaN : _dblMinimum;
+	}
+
+	/**
+	 * Retrieve the Sample Maximum
+	 *
+	 * @return The Sample Maximum (NaN if Empty)
+	 */
+
+	public double maximum()
+	{
+		return 0L == _lCount ? java.lang.Double.NaN : _dblMaximum;
+	}
+
+	/**
+	 * Retrieve the Quantile Digest
+	 *
+	 * @return The Quantile Digest (NULL if not tracked)
+	 */
+
+	public org.drip.sequence.metrics.QuantileDigest quantileDigest()
+	{
+		return _qd;
+	}
+
+	/**
+	 * Retrieve the Histogram
+	 *
+	 * @return The Histogram (NULL if not tracked)
+	 */
+
+	public org.drip.sequence.metrics.HistogramAccumulator histogram()
+	{
+		return _ha;
+	}
+
+	/**
+	 * Compute the Specified Anchor Moment of the Accumulated Sequence
+	 *
+	 * @param iMoment The Moment
+	 * @param dblAnchor The Anchor Pivot off of which the Moment is calculated
+	 * @param bAbsolute TRUE => The Moment sought is on the Absolute Value
+	 *
+	 * @return The Specified Anchor Moment
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Moment is not tracked
+	 */
+
+	public double anchorMoment (
+		final int iMoment,
+		final double dblAnchor,
+		final boolean bAbsolute)
+		throws java.lang.Exception
+	{
+		if (0L == _lCount || 0 >= iMoment || MAXIMUM_MOMENT < iMoment ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblAnchor))
+			throw new java.lang.Exception ("SequenceAccumulator::anchorMoment => Invalid Inputs");
+
+		if (bAbsolute && 1 == iMoment % 2) {
+			if (0. != dblAnchor)
+				throw new java.lang.Exception
+					("SequenceAccumulator::anchorMoment => Odd Absolute Moment only tracked about the Origin");
+
+			return (1 == iMoment ? _dblAbsoluteSum1 : _dblAbsoluteSum3) / _lCount;
+		}
+
+		double[] adblCentralMoment = new double[] {1., 0., _dblM2 / _lCount, _dblM3 / _lCount, _dblM4 /
+			_lCount};
+		double dblShift = _dblMean - dblAnchor;
+		double dblShiftPower = 1.;
+		double dblMoment = 0.;
+
+		for (int j = iMoment; j >= 0; --j) {
+			dblMoment += Binomial (iMoment, j) * adblCentralMoment[j] * dblShiftPower;
+			dblShiftPower *= dblShift;
+		}
+
+		return dblMoment;
+	}
+
+	/**
+	 * Compute the Specified Central Moment of the Accumulated Sequence
+	 *
+	 * @param iMoment The Moment
+	 * @param bAbsolute TRUE => The Moment sought is on the Absolute Value
+	 *
+	 * @return The Specified Central Moment
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Moment is not tracked
+	 */
+
+	public double centralMoment (
+		final int iMoment,
+		final boolean bAbsolute)
+		throws java.lang.Exception
+	{
+		if (0L == _lCount || 0 >= iMoment || MAXIMUM_MOMENT < iMoment || (bAbsolute && 1 == iMoment % 2))
+			throw new java.lang.Exception ("SequenceAccumulator::centralMoment => Invalid Inputs");
+
+		return 1 == iMoment ? 0. : (2 == iMoment ? _dblM2 : (3 == iMoment ? _dblM3 : _dblM4)) / _lCount;
+	}
+
+	/**
+	 * Compute the Specified Raw Moment of the Accumulated Sequence
+	 *
+	 * @param iMoment The Moment
+	 * @param bAbsolute TRUE => The Moment sought is on the Absolute Value
+	 *
+	 * @return The Specified Raw Moment
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or the Moment is not tracked
+	 */
+
+	public double rawMoment (
+		final int iMoment,
+		final boolean bAbsolute)
+		throws java.lang.Exception
+	{
+		return anchorMoment (iMoment, 0., bAbsolute);
+	}
+}
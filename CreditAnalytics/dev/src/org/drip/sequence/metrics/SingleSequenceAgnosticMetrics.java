@@ -30,17 +30,21 @@ package org.drip.sequence.metrics;
 
 /**
  * SingleSequenceAgnosticMetrics contains the Sample Distribution Metrics and Agnostic Bounds related to the
- *  specified Sequence.
+ *  specified Sequence. The Metrics are built either off of the Materialized Sequence, or off of a
+ *  SequenceAccumulator Snapshot - in the latter case the Sequence itself is not available, and the Moments
+ *  are restricted to those tracked by the Accumulator.
  *
  * @author Lakshmi Krishnamurthy
  */
 
 public class SingleSequenceAgnosticMetrics {
+	private int _iNumEntry = 0;
 	private boolean _bIsPositive = true;
 	private double[] _adblSequence = null;
 	private double _dblEmpiricalVariance = java.lang.Double.NaN;
 	private double _dblEmpiricalExpectation = java.lang.Double.NaN;
 	private org.drip.measure.continuous.R1 _distPopulation = null;
+	private org.drip.sequence.metrics.SequenceAccumulator _sa = null;
 
 	/**
 	 * Build out the Sequence and their Metrics
@@ -61,7 +65,7 @@ public class SingleSequenceAgnosticMetrics {
 
 		_dblEmpiricalExpectation = 0.;
 		_distPopulation = distPopulation;
-		int iNumEntry = _adblSequence.length;
+		int iNumEntry = _iNumEntry = _adblSequence.length;
 
 		if (0 == iNumEntry)
 			throw new java.lang.Exception ("SingleSequenceAgnosticMetrics ctr: Invalid Inputs");
@@ -85,6 +89,35 @@ public class SingleSequenceAgnosticMetrics {
 		_dblEmpiricalVariance /= iNumEntry;
 	}
 
+	/**
+	 * Build out the Metrics off of a Snapshot of the Sequence Accumulator
+	 * 
+	 * @param sa The Sequence Accumulator
+	 * @param distPopulation The True Underlying Generator Distribution of the Population
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SingleSequenceAgnosticMetrics (
+		final org.drip.sequence.metrics.SequenceAccumulator sa,
+		final org.drip.measure.continuous.R1 distPopulation)
+		throws java.lang.Exception
+	{
+		if (null == sa || 0L == sa.count() || java.lang.Integer.MAX_VALUE < sa.count() || null == (_sa =
+			sa.copy()))
+			throw new java.lang.Exception ("SingleSequenceAgnosticMetrics ctr: Invalid Inputs");
+
+		_iNumEntry = (int) _sa.count();
+
+		_bIsPositive = 0. <= _sa.minimum();
+
+		_distPopulation = distPopulation;
+
+		_dblEmpiricalVariance = _sa.variance();
+
+		_dblEmpiricalExpectation = _sa.mean();
+	}
+
 	/**
 	 * Compute the Specified Central Moment of the Sample Sequence
 	 * 
@@ -105,6 +138,8 @@ public class SingleSequenceAgnosticMetrics {
 			throw new java.lang.Exception
 				("SingleSequenceAgnosticMetrics::empiricalCentralMoment => Invalid Moment");
 
+		if (null == _adblSequence) return _sa.centralMoment (iMoment, bAbsolute);
+
 		double dblMoment = 0.;
 		int iNumEntry = _adblSequence.length;
 
@@ -138,6 +173,8 @@ public class SingleSequenceAgnosticMetrics {
 			throw new java.lang.Exception
 				("SingleSequenceAgnosticMetrics::empiricalRawMoment => Invalid Moment");
 
+		if (null == _adblSequence) return _sa.rawMoment (iMoment, bAbsolute);
+
 		double dblMoment = 0.;
 		int iNumEntry = _adblSequence.length;
 
@@ -170,6 +207,8 @@ public class SingleSequenceAgnosticMetrics {
 			throw new java.lang.Exception
 				("SingleSequenceAgnosticMetrics::empiricalAnchorMoment => Invalid Inputs");
 
+		if (null == _adblSequence) return _sa.anchorMoment (iMoment, dblAnchor, bAbsolute);
+
 		double dblMoment = 0.;
 		int iNumEntry = _adblSequence.length;
 
@@ -188,13 +227,13 @@ public class SingleSequenceAgnosticMetrics {
 	 *  
 	 * @param au The Univariate Function
 	 * 
-	 * @return Metrics for the Univariate Function Sequence
+	 * @return Metrics for the Univariate Function Sequence (NULL if the Sequence is not available)
 	 */
 
 	public SingleSequenceAgnosticMetrics functionSequenceMetrics (
 		final org.drip.function.definition.R1ToR1 au)
 	{
-		if (null == au) return null;
+		if (null == au || null == _adblSequence) return null;
 
 		int iNumEntry = _adblSequence.length;
 		double[] adblFunctionMetrics = new double[iNumEntry];
@@ -280,7 +319,7 @@ public class SingleSequenceAgnosticMetrics {
 	/**
 	 * Retrieve the Input Sequence
 	 * 
-	 * @return The Input Sequence
+	 * @return The Input Sequence (NULL if the Metrics were built off of an Accumulator)
 	 */
 
 	public double[] sequence()
@@ -288,6 +327,28 @@ public class SingleSequenceAgnosticMetrics {
 		return _adblSequence;
 	}
 
+	/**
+	 * Retrieve the Number of Entries in the Sequence
+	 * 
+	 * @return The Number of Entries in the Sequence
+	 */
+
+	public int numEntry()
+	{
+		return _iNumEntry;
+	}
+
+	/**
+	 * Retrieve the Accumulator Snapshot the Metrics were built off of
+	 * 
+	 * @return The Accumulator Snapshot (NULL if the Metrics were built off of the Sequence)
+	 */
+
+	public org.drip.sequence.metrics.SequenceAccumulator accumulator()
+	{
+		return _sa;
+	}
+
 	/**
 	 * Retrieve the Markov Upper Limiting Probability Bound for the Specified Level:
 	 * 	- P (X >= t) <= E[f(X)] / f(t)
@@ -439,8 +500,13 @@ public class SingleSequenceAgnosticMetrics {
 	{
 		if (null == au1 || null == au2) return null;
 
-		double dblBound = functionSequenceMetrics (au1).empiricalExpectation() * functionSequenceMetrics
-			(au2).empiricalExpectation();
+		SingleSequenceAgnosticMetrics smFunction1 = functionSequenceMetrics (au1);
+
+		SingleSequenceAgnosticMetrics smFunction2 = functionSequenceMetrics (au2);
+
+		if (null == smFunction1 || null == smFunction2) return null;
+
+		double dblBound = smFunction1.empiricalExpectation() * smFunction2.empiricalExpectation();
 
 		dblBound = dblBound < 1. ? dblBound : 1.;
 
@@ -485,7 +551,7 @@ public class SingleSequenceAgnosticMetrics {
 		double dblVariance = (org.drip.quant.common.NumberUtil.IsValid (dblPopulationVariance) ?
 			dblPopulationVariance : _dblEmpiricalVariance);
 
-		double dblBound = dblVariance / (_adblSequence.length * dblLevel * dblLevel);
+		double dblBound = dblVariance / (_iNumEntry * dblLevel * dblLevel);
 		dblBound = dblBound < 1. ? dblBound : 1.;
 
 		try {
@@ -58,6 +58,25 @@ public class UnitSequenceAgnosticMetrics extends org.drip.sequence.metrics.Bound
 		_dblPopulationMean = dblPopulationMean;
 	}
 
+	/**
+	 * UnitSequenceAgnosticMetrics Constructor off of a Sequence Accumulator
+	 * 
+	 * @param sa The Sequence Accumulator
+	 * @param dblPopulationMean The Mean of the Underlying Distribution
+	 * 
+	 * @throws java.lang.Exception Thrown if UnitSequenceAgnosticMetrics cannot be constructed
+	 */
+
+	public UnitSequenceAgnosticMetrics (
+		final org.drip.sequence.metrics.SequenceAccumulator sa,
+		final double dblPopulationMean)
+		throws java.lang.Exception
+	{
+		super (sa, null, 1.);
+
+		_dblPopulationMean = dblPopulationMean;
+	}
+
 	/**
 	 * Retrieve the Mean of the Underlying Distribution
 	 * 
@@ -87,7 +106,7 @@ public class UnitSequenceAgnosticMetrics extends org.drip.sequence.metrics.Bound
 			throw new java.lang.Exception
 				("UnitSequenceAgnosticMetrics::chernoffBinomialUpperBound => Invalid Inputs");
 
-		int iNumEntry = sequence().length;
+		int iNumEntry = numEntry();
 
 		double dblPopulationMean = org.drip.quant.common.NumberUtil.IsValid (_dblPopulationMean) ?
 			_dblPopulationMean : empiricalExpectation();
@@ -118,7 +137,7 @@ public class UnitSequenceAgnosticMetrics extends org.drip.sequence.metrics.Bound
 			throw new java.lang.Exception
 				("UnitSequenceAgnosticMetrics::ChernoffBinomialUpperBound => Invalid Inputs");
 
-		int iNumEntry = sequence().length;
+		int iNumEntry = numEntry();
 
 		double dblPopulationMean = org.drip.quant.common.NumberUtil.IsValid (_dblPopulationMean) ?
 			_dblPopulationMean : empiricalExpectation();
@@ -148,7 +167,7 @@ public class UnitSequenceAgnosticMetrics extends org.drip.sequence.metrics.Bound
 	{
 		if (!org.drip.quant.common.NumberUtil.IsValid (dblLevel) || 1. < dblLevel) return null;
 
-		int iNumEntry = sequence().length;
+		int iNumEntry = numEntry();
 
 		double dblPopulationMean = org.drip.quant.common.NumberUtil.IsValid (_dblPopulationMean) ?
 			_dblPopulationMean : empiricalExpectation();
@@ -37,7 +37,8 @@ package org.drip.sequence.random;
 public class Binary extends org.drip.sequence.random.Bounded {
 	private double _dblPositiveProbability = java.lang.Double.NaN;
 
-	private java.util.Random _rng = new java.util.Random();
+	private org.drip.sequence.random.UniformRandomStream _urs = new
+		org.drip.sequence.random.CounterBasedStream();
 
 	/**
 	 * Binary Distribution Constructor
@@ -71,6 +72,6 @@ public class Binary extends org.drip.sequence.random.Bounded {
 
 	@Override public double random()
 	{
-		return _rng.nextDouble() < _dblPositiveProbability ? 0. : 1.;
+		return _urs.nextDouble() < _dblPositiveProbability ? 0. : 1.;
 	}
 }
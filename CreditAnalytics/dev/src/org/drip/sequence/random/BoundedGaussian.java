@@ -74,4 +74,18 @@ public class BoundedGaussian extends org.drip.sequence.random.BoxMullerGaussian
 
 		return dblGaussian;
 	}
+
+	@Override public boolean fill (
+		final double[] adblBlock,
+		final int iOffset,
+		final int iLength)
+	{
+		if (null == adblBlock || 0 > iOffset || 0 > iLength || iOffset + iLength > adblBlock.length)
+			return false;
+
+		for (int i = iOffset; i < iOffset + iLength; ++i)
+			adblBlock[i] = random();
+
+		return true;
+	}
 }
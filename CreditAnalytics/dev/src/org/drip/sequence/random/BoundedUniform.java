@@ -36,7 +36,8 @@ package org.drip.sequence.random;
  */
 
 public class BoundedUniform extends org.drip.sequence.random.Bounded {
-	private java.util.Random _rng = new java.util.Random();
+	private org.drip.sequence.random.UniformRandomStream _urs = new
+		org.drip.sequence.random.CounterBasedStream();
 
 	/**
 	 * BoundedUniform Distribution Constructor
@@ -59,6 +60,6 @@ public class BoundedUniform extends org.drip.sequence.random.Bounded {
 	{
 		double dblLowerBound = lowerBound();
 
-		return dblLowerBound + _rng.nextDouble() * (upperBound() - dblLowerBound);
+		return dblLowerBound + _urs.nextDouble() * (upperBound() - dblLowerBound);
 	}
 }
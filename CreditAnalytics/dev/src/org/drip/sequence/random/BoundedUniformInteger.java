@@ -39,7 +39,8 @@ public class BoundedUniformInteger extends org.drip.sequence.random.UnivariateSe
 	private int _iStart = -1;
 	private int _iFinish = -1;
 
-	private java.util.Random _rng = new java.util.Random();
+	private org.drip.sequence.random.UniformRandomStream _urs = new
+		org.drip.sequence.random.CounterBasedStream();
 
 	/**
 	 * BoundedUniformInteger Distribution Constructor
@@ -83,7 +84,7 @@ public class BoundedUniformInteger extends org.drip.sequence.random.UnivariateSe
 
 	@Override public double random()
 	{
-		return (int) (_iStart + _rng.nextDouble() * (_iFinish - _iStart) + 0.5);
+		return (int) (_iStart + _urs.nextDouble() * (_iFinish - _iStart) + 0.5);
 	}
 
 	@Override public org.drip.sequence.metrics.SingleSequenceAgnosticMetrics sequence (
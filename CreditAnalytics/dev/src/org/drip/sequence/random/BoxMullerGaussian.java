@@ -29,7 +29,8 @@ package org.drip.sequence.random;
  */
 
 /**
- * BoxMullerGaussian implements the Univariate Gaussian Random Number Generator.
+ * BoxMullerGaussian implements the Univariate Gaussian Random Number Generator. Both the Outputs of each
+ * 	Box-Muller Transform are used - the second is held over for the next Draw.
  *
  * @author Lakshmi Krishnamurthy
  */
@@ -37,9 +38,9 @@ package org.drip.sequence.random;
 public class BoxMullerGaussian extends org.drip.sequence.random.UnivariateSequenceGenerator {
 	private double _dblMean = java.lang.Double.NaN;
 	private double _dblSigma = java.lang.Double.NaN;
+	private double _dblSpare = java.lang.Double.NaN;
 	private double _dblVariance = java.lang.Double.NaN;
-
-	private java.util.Random _rng = new java.util.Random();
+	private org.drip.sequence.random.UniformRandomStream _urs = null;
 
 	/**
 	 * BoxMullerGaussian Constructor
@@ -54,9 +55,29 @@ public class BoxMullerGaussian extends org.drip.sequence.random.UnivariateSequen
 		final double dblMean,
 		final double dblVariance)
 		throws java.lang.Exception
+	{
+		this (dblMean, dblVariance, new org.drip.sequence.random.CounterBasedStream());
+	}
+
+	/**
+	 * BoxMullerGaussian Constructor
+	 * 
+	 * @param dblMean The Mean
+	 * @param dblVariance The Variance
+	 * @param urs The Uniform Random Stream
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BoxMullerGaussian (
+		final double dblMean,
+		final double dblVariance,
+		final org.drip.sequence.random.UniformRandomStream urs)
+		throws java.lang.Exception
 	{
 		if (!org.drip.quant.common.NumberUtil.IsValid (_dblMean = dblMean) ||
-			!org.drip.quant.common.NumberUtil.IsValid (_dblVariance = dblVariance) || _dblVariance <= 0.)
+			!org.drip.quant.common.NumberUtil.IsValid (_dblVariance = dblVariance) || _dblVariance <= 0. ||
+				null == (_urs = urs))
 			throw new java.lang.Exception ("BoxMullerGaussian ctr: Invalid Inputs");
 
 		_dblSigma = java.lang.Math.sqrt (_dblVariance);
@@ -84,9 +105,61 @@ public class BoxMullerGaussian extends org.drip.sequence.random.UnivariateSequen
 		return _dblVariance;
 	}
 
+	/**
+	 * Retrieve the Uniform Random Stream
+	 * 
+	 * @return The Uniform Random Stream
+	 */
+
+	public org.drip.sequence.random.UniformRandomStream stream()
+	{
+		return _urs;
+	}
+
 	@Override public double random()
 	{
-		return _dblMean + _dblSigma * java.lang.Math.sqrt (-2. * java.lang.Math.log (_rng.nextDouble())) *
-			java.lang.Math.cos (2. * java.lang.Math.PI * _rng.nextDouble());
+		if (!java.lang.Double.isNaN (_dblSpare)) {
+			double dblSpare = _dblSpare;
+			_dblSpare = java.lang.Double.NaN;
+			return dblSpare;
+		}
+
+		double dblRadius = _dblSigma * java.lang.Math.sqrt (-2. * java.lang.Math.log
+			(_urs.nextPositiveDouble()));
+
+		double dblAngle = 2. * java.lang.Math.PI * _urs.nextDouble();
+
+		_dblSpare = _dblMean + dblRadius * java.lang.Math.sin (dblAngle);
+
+		return _dblMean + dblRadius * java.lang.Math.cos (dblAngle);
+	}
+
+	@Override public boolean fill (
+		final double[] adblBlock,
+		final int iOffset,
+		final int iLength)
+	{
+		if (null == adblBlock || 0 > iOffset || 0 > iLength || iOffset + iLength > adblBlock.length)
+			return false;
+
+		int i = iOffset;
+		int iEnd = iOffset + iLength;
+
+		if (i < iEnd && !java.lang.Double.isNaN (_dblSpare)) adblBlock[i++] = random();
+
+		for (; i + 1 < iEnd; i += 2) {
+			double dblRadius = _dblSigma * java.lang.Math.sqrt (-2. * java.lang.Math.log
+				(_urs.nextPositiveDouble()));
+
+			double dblAngle = 2. * java.lang.Math.PI * _urs.nextDouble();
+
+			adblBlock[i] = _dblMean + dblRadius * java.lang.Math.cos (dblAngle);
+
+			adblBlock[i + 1] = _dblMean + dblRadius * java.lang.Math.sin (dblAngle);
+		}
+
+		if (i < iEnd) adblBlock[i] = random();
+
+		return true;
 	}
 }
@@ -0,0 +1,207 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * BrownianBridge constructs the Wiener Path over a Time Grid from Standard Normal Variates in Bridge Order -
+ * 	the First Variate sets the Terminal Point, and each Subsequent Variate fills in the Mid-point of the
+ * 	Widest remaining Gap conditional on its Neighbours. Driven by a Low Discrepancy Sequence, this
+ * 	concentrates the Path Variance in the Leading (best distributed) Dimensions. The Reference is:
+ *
+ *  - Jaeckel, P. (2002): Monte Carlo Methods in Finance, Wiley.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BrownianBridge {
+	private int[] _aiLeftIndex = null;
+	private int[] _aiRightIndex = null;
+	private int[] _aiBridgeIndex = null;
+	private double[] _adblStdDev = null;
+	private double[] _adblLeftWeight = null;
+	private double[] _adblRightWeight = null;
+	private double[] _adblIncrementScaler = null;
+
+	/**
+	 * Construct a Brownian Bridge over the specified Number of Unit Time Steps
+	 *
+	 * @param iNumStep Number of Time Steps
+	 *
+	 * @return The Brownian Bridge Instance
+	 */
+
+	public static final BrownianBridge Uniform (
+		final int iNumStep)
+	{
+		if (0 >= iNumStep) return null;
+
+		double[] adblTime = new double[iNumStep];
+
+		for (int i = 0; i < iNumStep; ++i)
+			adblTime[i] = i + 1.;
+
+		try {
+			return new BrownianBridge (adblTime);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * BrownianBridge Constructor
+	 *
+	 * @param adblTime The Step End Times (the Path starts at Time ZERO)
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BrownianBridge (
+		final double[] adblTime)
+		throws java.lang.Exception
+	{
+		if (null == adblTime || 0 == adblTime.length)
+			throw new java.lang.Exception ("BrownianBridge ctr: Invalid Inputs");
+
+		int iNumStep = adblTime.length;
+		int[] aiMap = new int[iNumStep];
+		_aiLeftIndex = new int[iNumStep];
+		_aiRightIndex = new int[iNumStep];
+		_aiBridgeIndex = new int[iNumStep];
+		_adblStdDev = new double[iNumStep];
+		_adblLeftWeight = new double[iNumStep];
+		_adblRightWeight = new double[iNumStep];
+		_adblIncrementScaler = new double[iNumStep];
+
+		for (int i = 0; i < iNumStep; ++i) {
+			double dblPreviousTime = 0 == i ? 0. : adblTime[i - 1];
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (adblTime[i]) || adblTime[i] <= dblPreviousTime)
+				throw new java.lang.Exception ("BrownianBridge ctr: Invalid Inputs");
+
+			_adblIncrementScaler[i] = 1. / java.lang.Math.sqrt (adblTime[i] - dblPreviousTime);
+		}
+
+		aiMap[iNumStep - 1] = 1;
+		_aiBridgeIndex[0] = iNumStep - 1;
+		_adblStdDev[0] = java.lang.Math.sqrt (adblTime[iNumStep - 1]);
+
+		for (int i = 1, j = 0; i < iNumStep; ++i) {
+			while (0 != aiMap[j])
+				++j;
+
+			int k = j;
+
+			while (0 == aiMap[k])
+				++k;
+
+			int l = j + ((k - 1 - j) >> 1);
+			double dblLeftTime = 0 == j ? 0. : adblTime[j - 1];
+			double dblSpan = adblTime[k] - dblLeftTime;
+			aiMap[l] = i;
+			_aiBridgeIndex[i] = l;
+			_aiLeftIndex[i] = j;
+			_aiRightIndex[i] = k;
+			_adblLeftWeight[i] = (adblTime[k] - adblTime[l]) / dblSpan;
+			_adblRightWeight[i] = (adblTime[l] - dblLeftTime) / dblSpan;
+
+			_adblStdDev[i] = java.lang.Math.sqrt ((adblTime[l] - dblLeftTime) * (adblTime[k] - adblTime[l]) /
+				dblSpan);
+
+			if ((j = k + 1) >= iNumStep) j = 0;
+		}
+	}
+
+	/**
+	 * Retrieve the Number of Time Steps
+	 *
+	 * @return The Number of Time Steps
+	 */
+
+	public int numStep()
+	{
+		return _aiBridgeIndex.length;
+	}
+
+	/**
+	 * Construct the Standardized Path Increments - each Wiener Increment divided by the Square Root of its
+	 * 	Time Step, so that they are Standard Normal - from the Variates in Bridge Order. Both the Variates
+	 * 	and the Increments are strided, so that the Factors of a Multi-Factor Path may be interleaved. All the
+	 * 	Variates are consumed before any Increment is written, so the two may share the same Array Slots.
+	 *
+	 * @param adblVariate The Array of Standard Normal Variates in Bridge Order
+	 * @param iVariateOffset Offset of the First Variate
+	 * @param iVariateStride Stride between the Variates
+	 * @param adblIncrement The Array to receive the Standardized Increments
+	 * @param iIncrementOffset Offset of the First Increment
+	 * @param iIncrementStride Stride between the Increments
+	 * @param adblWorkspace Workspace holding at least numStep() Entries
+	 *
+	 * @return TRUE => The Increments have been constructed
+	 */
+
+	public boolean standardizedIncrements (
+		final double[] adblVariate,
+		final int iVariateOffset,
+		final int iVariateStride,
+		final double[] adblIncrement,
+		final int iIncrementOffset,
+		final int iIncrementStride,
+		final double[] adblWorkspace)
+	{
+		int iNumStep = _aiBridgeIndex.length;
+
+		if (null == adblVariate || null == adblIncrement || null == adblWorkspace || adblWorkspace.length <
+			iNumStep || 0 > iVariateOffset || 0 >= iVariateStride || iVariateOffset + (iNumStep - 1) *
+				iVariateStride >= adblVariate.length || 0 > iIncrementOffset || 0 >= iIncrementStride ||
+					iIncrementOffset + (iNumStep - 1) * iIncrementStride >= adblIncrement.length)
+			return false;
+
+		adblWorkspace[iNumStep - 1] = _adblStdDev[0] * adblVariate[iVariateOffset];
+
+		for (int i = 1; i < iNumStep; ++i) {
+			int j = _aiLeftIndex[i];
+			int l = _aiBridgeIndex[i];
+
+			adblWorkspace[l] = _adblRightWeight[i] * adblWorkspace[_aiRightIndex[i]] + _adblStdDev[i] *
+				adblVariate[iVariateOffset + i * iVariateStride];
+
+			if (0 != j) adblWorkspace[l] += _adblLeftWeight[i] * adblWorkspace[j - 1];
+		}
+
+		adblIncrement[iIncrementOffset] = adblWorkspace[0] * _adblIncrementScaler[0];
+
+		for (int i = 1; i < iNumStep; ++i)
+			adblIncrement[iIncrementOffset + i * iIncrementStride] = (adblWorkspace[i] - adblWorkspace[i -
+				1]) * _adblIncrementScaler[i];
+
+		return true;
+	}
+}
@@ -0,0 +1,157 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * CounterBasedStream implements the SplitMix64 Generator in its Counter-based Form: the n-th Word of the
+ * 	Stream is the 64-bit Finalizer Mix of (Seed + n * Gamma), so that the Stream can be positioned at any
+ * 	Counter without generating the intervening Words, and is split in the same way as
+ * 	java.util.SplittableRandom. The Stream is not synchronized.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class CounterBasedStream extends org.drip.sequence.random.UniformRandomStream {
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private static final java.util.concurrent.atomic.AtomicLong s_alSeeder = new
+		java.util.concurrent.atomic.AtomicLong (Mix64 (java.lang.System.currentTimeMillis()) ^ Mix64
+			(java.lang.System.nanoTime()));
+
+	private long _lSeed = 0L;
+	private long _lGamma = 0L;
+	private long _lCounter = 0L;
+
+	private static final long Mix64 (
+		final long lWord)
+	{
+		long l = (lWord ^ (lWord >>> 30)) * 0xbf58476d1ce4e5b9L;
+		l = (l ^ (l >>> 27)) * 0x94d049bb133111ebL;
+		return l ^ (l >>> 31);
+	}
+
+	private static final long MixGamma (
+		final long lWord)
+	{
+		long l = (lWord ^ (lWord >>> 33)) * 0xff51afd7ed558ccdL;
+		l = (l ^ (l >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		l = (l ^ (l >>> 33)) | 1L;
+		return java.lang.Long.bitCount (l ^ (l >>> 1)) < 24 ? l ^ 0xaaaaaaaaaaaaaaaaL : l;
+	}
+
+	private CounterBasedStream (
+		final long lSeed,
+		final long lGamma)
+	{
+		_lSeed = lSeed;
+		_lGamma = lGamma;
+	}
+
+	/**
+	 * CounterBasedStream Constructor - Reproducible Stream from the Seed
+	 *
+	 * @param lSeed The Seed
+	 */
+
+	public CounterBasedStream (
+		final long lSeed)
+	{
+		this (lSeed, GOLDEN_GAMMA);
+	}
+
+	/**
+	 * CounterBasedStream Constructor - Stream Seeded off of a Global Seeder distinct across Instances
+	 */
+
+	public CounterBasedStream()
+	{
+		long lSeed = s_alSeeder.getAndAdd (2L * GOLDEN_GAMMA);
+
+		_lSeed = Mix64 (lSeed);
+
+		_lGamma = MixGamma (lSeed + GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Retrieve the Number of Words generated so far
+	 *
+	 * @return The Number of Words generated so far
+	 */
+
+	public long counter()
+	{
+		return _lCounter;
+	}
+
+	/**
+	 * Position the Stream at the specified Counter
+	 *
+	 * @param lCounter The Counter
+	 */
+
+	public void setCounter (
+		final long lCounter)
+	{
+		_lCounter = lCounter;
+	}
+
+	/**
+	 * Generate the Word at the specified Counter without moving the Stream
+	 *
+	 * @param lCounter The Counter
+	 *
+	 * @return The Word at the Counter
+	 */
+
+	public long wordAt (
+		final long lCounter)
+	{
+		return Mix64 (_lSeed + (lCounter + 1L) * _lGamma);
+	}
+
+	@Override public long nextLong()
+	{
+		return Mix64 (_lSeed + (++_lCounter) * _lGamma);
+	}
+
+	/**
+	 * Split off a new Stream exactly as java.util.SplittableRandom.split() does - the Child Seed is the next
+	 * 	Word of this Stream, and the Child Gamma is the Gamma Mix of the Raw (un-mixed) Seed at the Counter
+	 * 	after it
+	 *
+	 * @return The Split Stream
+	 */
+
+	@Override public org.drip.sequence.random.UniformRandomStream split()
+	{
+		long lChildSeed = nextLong();
+
+		return new CounterBasedStream (lChildSeed, MixGamma (_lSeed + (++_lCounter) * _lGamma));
+	}
+}
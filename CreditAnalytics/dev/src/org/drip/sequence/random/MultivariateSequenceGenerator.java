@@ -121,27 +121,55 @@ public class MultivariateSequenceGenerator {
 	}
 
 	/**
-	 * Generate the Set of Multivariate Random Numbers according to the specified rule
+	 * Fill the Block with Correlated Multivariate Draws, without allocating. The Block is laid out Draw
+	 * 	Major - the Variates of Draw i occupy [i * numVariate(), (i + 1) * numVariate()). Each Draw is
+	 * 	generated from the Univariate Sequence Generators and correlated in place by the Lower Triangular
+	 * 	Cholesky Factor.
 	 * 
-	 * @return The Set of Multivariate Random Numbers
+	 * @param adblBlock The Block
+	 * @param iNumDraw Number of Multivariate Draws
+	 * 
+	 * @return TRUE => The Block has been filled
 	 */
 
-	public double[] random()
+	public boolean fill (
+		final double[] adblBlock,
+		final int iNumDraw)
 	{
 		int iNumVariate = _aUSG.length;
-		double[] adblRandom = new double[iNumVariate];
-		double[] adblUncorrelatedRandom = new double[iNumVariate];
 
-		for (int i = 0; i < iNumVariate; ++i)
-			adblUncorrelatedRandom[i] = _aUSG[i].random();
+		if (null == adblBlock || 0 > iNumDraw || iNumDraw * iNumVariate > adblBlock.length) return false;
 
-		for (int i = 0; i < iNumVariate; ++i) {
-			adblRandom[i] = 0.;
+		for (int iDraw = 0; iDraw < iNumDraw; ++iDraw) {
+			int iDrawOffset = iDraw * iNumVariate;
 
-			for (int j = 0; j < iNumVariate; ++j)
-				adblRandom[i] += _aadblCholesky[i][j] * adblUncorrelatedRandom[j];
+			for (int i = 0; i < iNumVariate; ++i)
+				adblBlock[iDrawOffset + i] = _aUSG[i].random();
+
+			for (int i = iNumVariate - 1; i >= 0; --i) {
+				double dblCorrelated = 0.;
+				double[] adblCholeskyRow = _aadblCholesky[i];
+
+				for (int j = 0; j <= i; ++j)
+					dblCorrelated += adblCholeskyRow[j] * adblBlock[iDrawOffset + j];
+
+				adblBlock[iDrawOffset + i] = dblCorrelated;
+			}
 		}
 
-		return adblRandom;
+		return true;
+	}
+
+	/**
+	 * Generate the Set of Multivariate Random Numbers according to the specified rule
+	 * 
+	 * @return The Set of Multivariate Random Numbers
+	 */
+
+	public double[] random()
+	{
+		double[] adblRandom = new double[_aUSG.length];
+
+		return fill (adblRandom, 1) ? adblRandom : null;
 	}
 }
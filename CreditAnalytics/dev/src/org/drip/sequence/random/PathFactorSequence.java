@@ -0,0 +1,109 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * PathFactorSequence is the Univariate Sequence View of a single Factor of a PathGaussianDriver. The n-th
+ * 	Draw is the Increment at Step (n mod Number of Steps) of Path (n / Number of Steps), so an Evolver that
+ * 	takes one Draw per Time Step consumes exactly one Driver Path per Evolution.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class PathFactorSequence extends org.drip.sequence.random.UnivariateSequenceGenerator {
+	private int _iFactor = -1;
+	private long _lDrawCount = 0L;
+	private org.drip.sequence.random.PathGaussianDriver _pgd = null;
+
+	PathFactorSequence (
+		final org.drip.sequence.random.PathGaussianDriver pgd,
+		final int iFactor)
+	{
+		_pgd = pgd;
+		_iFactor = iFactor;
+	}
+
+	/**
+	 * Retrieve the Factor Index
+	 *
+	 * @return The Factor Index
+	 */
+
+	public int factor()
+	{
+		return _iFactor;
+	}
+
+	/**
+	 * Retrieve the Number of Draws made so far
+	 *
+	 * @return The Number of Draws made so far
+	 */
+
+	public long drawCount()
+	{
+		return _lDrawCount;
+	}
+
+	/**
+	 * Position the View at the Start of the specified Path
+	 *
+	 * @param lPathIndex The Path Index
+	 *
+	 * @return TRUE => The View has been positioned
+	 */
+
+	public boolean seekPath (
+		final long lPathIndex)
+	{
+		if (0L > lPathIndex) return false;
+
+		_lDrawCount = lPathIndex * _pgd.numStep();
+		return true;
+	}
+
+	/**
+	 * Rewind the View to the Start of Path ZERO
+	 */
+
+	public void rewind()
+	{
+		_lDrawCount = 0L;
+	}
+
+	@Override public double random()
+	{
+		int iNumStep = _pgd.numStep();
+
+		long lDraw = _lDrawCount++;
+
+		return _pgd.increment (lDraw / iNumStep, (int) (lDraw % iNumStep), _iFactor);
+	}
+}
@@ -0,0 +1,198 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * PathGaussianDriver is the Abstract Source of the Standard Normal Increments that drive a Multi-Factor
+ * 	Path Evolution. The Increments of a Path are laid out Step-major (Step * Number of Factors + Factor),
+ * 	and are addressed by the Path Index, so that a Path can be re-generated, or generated on any Thread,
+ * 	without reference to the preceding Paths. The Driver also exposes each Factor as a Univariate Sequence
+ * 	Generator View that walks the Paths one Step at a time, so that it may be plugged into the existing
+ * 	State Evolvers in place of the Pseudo-random Gaussian Generators.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class PathGaussianDriver {
+	private int _iNumStep = -1;
+	private int _iNumFactor = -1;
+	private long _lLoadedPath = -1L;
+	private double[] _adblLoadedPath = null;
+	private double[] _adblLoadedWorkspace = null;
+	private org.drip.sequence.random.PathFactorSequence[] _aPFS = null;
+
+	protected PathGaussianDriver (
+		final int iNumStep,
+		final int iNumFactor)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iNumStep = iNumStep) || 0 >= (_iNumFactor = iNumFactor))
+			throw new java.lang.Exception ("PathGaussianDriver ctr: Invalid Inputs");
+
+		_aPFS = new org.drip.sequence.random.PathFactorSequence[_iNumFactor];
+
+		for (int i = 0; i < _iNumFactor; ++i)
+			_aPFS[i] = new org.drip.sequence.random.PathFactorSequence (this, i);
+	}
+
+	/**
+	 * Retrieve the Number of Time Steps in a Path
+	 *
+	 * @return The Number of Time Steps in a Path
+	 */
+
+	public int numStep()
+	{
+		return _iNumStep;
+	}
+
+	/**
+	 * Retrieve the Number of Factors
+	 *
+	 * @return The Number of Factors
+	 */
+
+	public int numFactor()
+	{
+		return _iNumFactor;
+	}
+
+	/**
+	 * Retrieve the Number of Increments in a Path
+	 *
+	 * @return The Number of Increments in a Path
+	 */
+
+	public int dimension()
+	{
+		return _iNumStep * _iNumFactor;
+	}
+
+	/**
+	 * Retrieve the Size of the Workspace needed by fillPath
+	 *
+	 * @return The Size of the Workspace needed by fillPath
+	 */
+
+	public abstract int workspaceSize();
+
+	/**
+	 * Fill the Standard Normal Increments of the specified Path. The Call only writes to the supplied
+	 * 	Arrays, so it may be made concurrently from several Threads, each with its own Arrays.
+	 *
+	 * @param lPathIndex The Path Index (ZERO onwards)
+	 * @param adblPath The Array to receive the dimension() Increments
+	 * @param adblWorkspace The Workspace holding at least workspaceSize() Entries
+	 *
+	 * @return TRUE => The Path has been filled
+	 */
+
+	public abstract boolean fillPath (
+		final long lPathIndex,
+		final double[] adblPath,
+		final double[] adblWorkspace);
+
+	/**
+	 * Generate a Driver of the same Shape whose Paths are Statistically Independent of this one's - used to
+	 * 	estimate the Standard Error from Independent Replications
+	 *
+	 * @param iReplication The Replication Index
+	 *
+	 * @return The Replicated Driver
+	 */
+
+	public abstract PathGaussianDriver replicate (
+		final int iReplication);
+
+	/**
+	 * Retrieve the Univariate Sequence View of the specified Factor. Successive Draws from the View walk the
+	 * 	Steps of Path ZERO, then those of Path ONE, and so on. The Views share the Driver's Path Buffer and
+	 * 	are therefore not Thread Safe.
+	 *
+	 * @param iFactor The Factor Index
+	 *
+	 * @return The Univariate Sequence View of the Factor
+	 */
+
+	public org.drip.sequence.random.PathFactorSequence factorSequence (
+		final int iFactor)
+	{
+		return 0 > iFactor || iFactor >= _iNumFactor ? null : _aPFS[iFactor];
+	}
+
+	/**
+	 * Retrieve the Univariate Sequence Views of all the Factors
+	 *
+	 * @return The Univariate Sequence Views of all the Factors
+	 */
+
+	public org.drip.sequence.random.UnivariateSequenceGenerator[] factorSequences()
+	{
+		org.drip.sequence.random.UnivariateSequenceGenerator[] aUSG = new
+			org.drip.sequence.random.UnivariateSequenceGenerator[_iNumFactor];
+
+		for (int i = 0; i < _iNumFactor; ++i)
+			aUSG[i] = _aPFS[i];
+
+		return aUSG;
+	}
+
+	/**
+	 * Rewind all the Factor Views to the Start of Path ZERO
+	 */
+
+	public void rewind()
+	{
+		for (int i = 0; i < _iNumFactor; ++i)
+			_aPFS[i].rewind();
+	}
+
+	double increment (
+		final long lPathIndex,
+		final int iStep,
+		final int iFactor)
+	{
+		if (lPathIndex != _lLoadedPath) {
+			if (null == _adblLoadedPath) {
+				_adblLoadedPath = new double[_iNumStep * _iNumFactor];
+				_adblLoadedWorkspace = new double[workspaceSize()];
+			}
+
+			if (!fillPath (lPathIndex, _adblLoadedPath, _adblLoadedWorkspace)) {
+				_lLoadedPath = -1L;
+				return java.lang.Double.NaN;
+			}
+
+			_lLoadedPath = lPathIndex;
+		}
+
+		return _adblLoadedPath[iStep * _iNumFactor + iFactor];
+	}
+}
@@ -37,6 +37,8 @@ package org.drip.sequence.random;
 public class Poisson extends org.drip.sequence.random.UnivariateSequenceGenerator {
 	private double _dblLambda = java.lang.Double.NaN;
 	private double _dblExponentialLambda = java.lang.Double.NaN;
+	private org.drip.sequence.random.UniformRandomStream _urs = new
+		org.drip.sequence.random.CounterBasedStream();
 
 	/**
 	 * Construct a Poisson Random Number Generator
@@ -72,12 +74,10 @@ public class Poisson extends org.drip.sequence.random.UnivariateSequenceGenerato
 		int i = 0;
 		double dblPoissonProduct = 1.;
 
-		java.util.Random r = new java.util.Random();
-
 		while (dblPoissonProduct > _dblExponentialLambda) {
 			++i;
 
-			dblPoissonProduct *= r.nextDouble();
+			dblPoissonProduct *= _urs.nextDouble();
 		}
 
 		return i;
@@ -39,6 +39,7 @@ public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.M
 {
 	private double[][] _aadblFactor = null;
 	private double[] _adblFactorWeight = null;
+	private double[] _adblVariateScratch = null;
 
 	/**
 	 * PrincipalFactorSequenceGenerator Constructor
@@ -63,12 +64,13 @@ public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.M
 		if (0 >= iNumFactor || iNumFactor > iNumVariate)
 			throw new java.lang.Exception ("PrincipalFactorSequenceGenerator ctr: Invalid Inputs");
 
-		org.drip.quant.eigen.QREigenComponentExtractor qrece = new
-			org.drip.quant.eigen.QREigenComponentExtractor (80, 0.00001);
+		org.drip.quant.eigen.SymmetricEigenComponentExtractor sece =
+			org.drip.quant.eigen.SymmetricEigenComponentExtractor.Standard();
 
-		org.drip.quant.eigen.EigenComponent[] aEC = qrece.orderedComponents (aadblCorrelation);
+		org.drip.quant.eigen.EigenComponent[] aEC = null == sece ? null : sece.topComponents
+			(aadblCorrelation, iNumFactor);
 
-		if (null == aEC || 0 == aEC.length)
+		if (null == aEC || iNumFactor != aEC.length)
 			throw new java.lang.Exception ("PrincipalFactorSequenceGenerator ctr: Invalid Inputs");
 
 		double dblNormalizer = 0.;
@@ -76,8 +78,7 @@ public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.M
 		_aadblFactor = new double[iNumFactor][iNumVariate];
 
 		for (int i = 0; i < iNumFactor; ++i) {
-			for (int j = 0; j < iNumVariate; ++j)
-				_aadblFactor[i] = aEC[i].eigenvector();
+			_aadblFactor[i] = aEC[i].eigenvector();
 
 			_adblFactorWeight[i] = aEC[i].eigenvalue();
 
@@ -88,6 +89,8 @@ public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.M
 
 		for (int i = 0; i < iNumFactor; ++i)
 			_adblFactorWeight[i] /= dblNormalizer;
+
+		_adblVariateScratch = new double[iNumVariate];
 	}
 
 	/**
@@ -123,23 +126,48 @@ public class PrincipalFactorSequenceGenerator extends org.drip.sequence.random.M
 		return _adblFactorWeight;
 	}
 
-	@Override public double[] random()
-	{
-		double[] adblBaseRandom = super.random();
+	/**
+	 * Fill the Block with the Principal Factor Draws, without allocating. The Block is laid out Draw Major -
+	 * 	the Factors of Draw i occupy [i * numFactor(), (i + 1) * numFactor()).
+	 * 
+	 * @param adblBlock The Block
+	 * @param iNumDraw Number of Draws
+	 * 
+	 * @return TRUE => The Block has been filled
+	 */
 
+	@Override public boolean fill (
+		final double[] adblBlock,
+		final int iNumDraw)
+	{
 		int iNumVariate = _aadblFactor[0].length;
 		int iNumFactor = _adblFactorWeight.length;
-		double[] adblRandom = new double[iNumFactor];
 
-		if (iNumFactor == iNumVariate) return adblBaseRandom;
+		if (iNumFactor == iNumVariate) return super.fill (adblBlock, iNumDraw);
 
-		for (int i = 0; i < iNumFactor; ++i) {
-			adblRandom[i] = 0.;
+		if (null == adblBlock || 0 > iNumDraw || iNumDraw * iNumFactor > adblBlock.length) return false;
 
-			for (int j = 0; j < iNumVariate; ++j)
-				adblRandom[i] += _aadblFactor[i][j] * adblBaseRandom[j];
+		for (int iDraw = 0; iDraw < iNumDraw; ++iDraw) {
+			if (!super.fill (_adblVariateScratch, 1)) return false;
+
+			for (int i = 0; i < iNumFactor; ++i) {
+				double dblFactorRandom = 0.;
+				double[] adblFactor = _aadblFactor[i];
+
+				for (int j = 0; j < iNumVariate; ++j)
+					dblFactorRandom += adblFactor[j] * _adblVariateScratch[j];
+
+				adblBlock[iDraw * iNumFactor + i] = dblFactorRandom;
+			}
 		}
 
-		return adblRandom;
+		return true;
+	}
+
+	@Override public double[] random()
+	{
+		double[] adblRandom = new double[_adblFactorWeight.length];
+
+		return fill (adblRandom, 1) ? adblRandom : null;
 	}
 }
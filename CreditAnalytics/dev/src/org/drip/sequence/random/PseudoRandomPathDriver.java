@@ -0,0 +1,122 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * PseudoRandomPathDriver generates the Path Increments as Box-Muller Gaussians off a Counter-based Uniform
+ * 	Stream. Each Path owns a fixed Window of Counters, so any Path is generated directly from its Index,
+ * 	and the Paths are the same however they are partitioned across Threads.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class PseudoRandomPathDriver extends org.drip.sequence.random.PathGaussianDriver {
+	private long _lSeed = 0L;
+	private int _iWindowSize = -1;
+	private org.drip.sequence.random.CounterBasedStream _cbs = null;
+
+	/**
+	 * PseudoRandomPathDriver Constructor
+	 *
+	 * @param iNumStep Number of Time Steps in a Path
+	 * @param iNumFactor Number of Factors
+	 * @param lSeed The Seed
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public PseudoRandomPathDriver (
+		final int iNumStep,
+		final int iNumFactor,
+		final long lSeed)
+		throws java.lang.Exception
+	{
+		super (iNumStep, iNumFactor);
+
+		int iDimension = dimension();
+
+		_iWindowSize = iDimension + (iDimension & 1);
+
+		_cbs = new org.drip.sequence.random.CounterBasedStream (_lSeed = lSeed);
+	}
+
+	/**
+	 * Retrieve the Seed
+	 *
+	 * @return The Seed
+	 */
+
+	public long seed()
+	{
+		return _lSeed;
+	}
+
+	@Override public int workspaceSize()
+	{
+		return 0;
+	}
+
+	@Override public boolean fillPath (
+		final long lPathIndex,
+		final double[] adblPath,
+		final double[] adblWorkspace)
+	{
+		int iDimension = dimension();
+
+		if (0L > lPathIndex || null == adblPath || adblPath.length < iDimension) return false;
+
+		long lCounter = lPathIndex * _iWindowSize;
+
+		for (int i = 0; i < iDimension; i += 2) {
+			double dblRadius = java.lang.Math.sqrt (-2. * java.lang.Math.log (((_cbs.wordAt (lCounter + i)
+				>>> 11) + 1L) * 0x1.0p-53));
+
+			double dblAngle = 2. * java.lang.Math.PI * ((_cbs.wordAt (lCounter + i + 1) >>> 11) * 0x1.0p-53);
+
+			adblPath[i] = dblRadius * java.lang.Math.cos (dblAngle);
+
+			if (i + 1 < iDimension) adblPath[i + 1] = dblRadius * java.lang.Math.sin (dblAngle);
+		}
+
+		return true;
+	}
+
+	@Override public org.drip.sequence.random.PathGaussianDriver replicate (
+		final int iReplication)
+	{
+		try {
+			return new PseudoRandomPathDriver (numStep(), numFactor(), _cbs.wordAt (-1L - iReplication));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+}
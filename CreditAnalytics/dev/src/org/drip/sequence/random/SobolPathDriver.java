@@ -0,0 +1,171 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * SobolPathDriver generates the Path Increments off the Sobol Sequence, one Point per Path, mapped to
+ * 	Gaussians using the Rational Inverse CDF. With the Brownian Bridge turned on, the Leading Dimensions of
+ * 	the Point set the Terminal Values of the Factor Paths and the Later ones fill in the Finer Detail;
+ * 	otherwise Dimension (Step * Number of Factors + Factor) drives the corresponding Increment directly.
+ * 	Randomized (Digitally Shifted) Replications provide the Standard Error of the Quasi-Monte Carlo
+ * 	Estimates.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SobolPathDriver extends org.drip.sequence.random.PathGaussianDriver {
+	private long _lDigitalShiftSeed = 0L;
+	private boolean _bDigitalShift = false;
+	private org.drip.sequence.random.SobolSequence _ss = null;
+	private org.drip.sequence.random.BrownianBridge _bb = null;
+
+	/**
+	 * SobolPathDriver Constructor - Un-shifted Sequence
+	 *
+	 * @param iNumStep Number of Time Steps in a Path
+	 * @param iNumFactor Number of Factors
+	 * @param bBrownianBridge TRUE => Construct the Paths using the Brownian Bridge
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SobolPathDriver (
+		final int iNumStep,
+		final int iNumFactor,
+		final boolean bBrownianBridge)
+		throws java.lang.Exception
+	{
+		super (iNumStep, iNumFactor);
+
+		_ss = new org.drip.sequence.random.SobolSequence (iNumStep * iNumFactor);
+
+		if (bBrownianBridge && null == (_bb = org.drip.sequence.random.BrownianBridge.Uniform (iNumStep)))
+			throw new java.lang.Exception ("SobolPathDriver ctr: Invalid Inputs");
+	}
+
+	/**
+	 * SobolPathDriver Constructor - Digitally Shifted Sequence
+	 *
+	 * @param iNumStep Number of Time Steps in a Path
+	 * @param iNumFactor Number of Factors
+	 * @param bBrownianBridge TRUE => Construct the Paths using the Brownian Bridge
+	 * @param lDigitalShiftSeed Seed of the Random Digital Shift
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SobolPathDriver (
+		final int iNumStep,
+		final int iNumFactor,
+		final boolean bBrownianBridge,
+		final long lDigitalShiftSeed)
+		throws java.lang.Exception
+	{
+		super (iNumStep, iNumFactor);
+
+		_bDigitalShift = true;
+
+		_ss = new org.drip.sequence.random.SobolSequence (iNumStep * iNumFactor, _lDigitalShiftSeed =
+			lDigitalShiftSeed);
+
+		if (bBrownianBridge && null == (_bb = org.drip.sequence.random.BrownianBridge.Uniform (iNumStep)))
+			throw new java.lang.Exception ("SobolPathDriver ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Indicate if the Paths are constructed using the Brownian Bridge
+	 *
+	 * @return TRUE => The Paths are constructed using the Brownian Bridge
+	 */
+
+	public boolean brownianBridge()
+	{
+		return null != _bb;
+	}
+
+	/**
+	 * Indicate if the Sequence is Digitally Shifted
+	 *
+	 * @return TRUE => The Sequence is Digitally Shifted
+	 */
+
+	public boolean digitalShift()
+	{
+		return _bDigitalShift;
+	}
+
+	@Override public int workspaceSize()
+	{
+		return null == _bb ? 0 : numStep();
+	}
+
+	@Override public boolean fillPath (
+		final long lPathIndex,
+		final double[] adblPath,
+		final double[] adblWorkspace)
+	{
+		if (0L > lPathIndex || !_ss.point (lPathIndex + 1L, adblPath)) return false;
+
+		int iDimension = dimension();
+
+		try {
+			for (int i = 0; i < iDimension; ++i)
+				adblPath[i] = org.drip.measure.continuous.Gaussian.RationalInverseCDF (adblPath[i]);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return false;
+		}
+
+		if (null == _bb) return true;
+
+		int iNumFactor = numFactor();
+
+		for (int i = 0; i < iNumFactor; ++i) {
+			if (!_bb.standardizedIncrements (adblPath, i, iNumFactor, adblPath, i, iNumFactor, adblWorkspace))
+				return false;
+		}
+
+		return true;
+	}
+
+	@Override public org.drip.sequence.random.PathGaussianDriver replicate (
+		final int iReplication)
+	{
+		try {
+			return new SobolPathDriver (numStep(), numFactor(), null != _bb, new
+				org.drip.sequence.random.CounterBasedStream (_lDigitalShiftSeed).wordAt (-1L - iReplication));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,388 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * SobolSequence implements the Sobol Low Discrepancy Sequence in base 2 with 32 Bits of Resolution. The
+ * 	Direction Numbers are set up as follows:
+ *
+ *  - The First Dimension uses the Van der Corput Sequence.
+ *  - The next 20 Dimensions use the Initial Direction Numbers bundled below from Joe and Kuo (2008).
+ *  - The Remaining Dimensions use the Primitive Polynomials enumerated in increasing Degree, with the
+ *  	Initial Direction Numbers drawn as fixed-seed Random Odd Integers, as in Jaeckel (2002).
+ *
+ * The Points are indexed from ONE (the all-zero Point at Index ZERO is skipped), can be generated either
+ * 	sequentially in Gray Code Order or directly at any Index, and may be randomized using a Digital
+ * 	(XOR) Shift. The Coordinates are placed at the Centre of their 2^-32 Cell, so they lie strictly inside
+ * 	(0, 1). The References are:
+ *
+ *  1) Joe, S., and F. Y. Kuo (2008): Constructing Sobol Sequences with Better Two-dimensional Projections,
+ *  	SIAM Journal on Scientific Computing 30, 2635-2654.
+ *
+ *  2) Jaeckel, P. (2002): Monte Carlo Methods in Finance, Wiley.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class SobolSequence {
+
+	/**
+	 * Number of Bits of Resolution
+	 */
+
+	public static final int NUM_BIT = 32;
+
+	/**
+	 * Maximum Number of Dimensions
+	 */
+
+	public static final int MAXIMUM_DIMENSION = 4096;
+
+	private static final double CELL_WIDTH = 1. / 4294967296.;
+	private static final long DIRECTION_NUMBER_SEED = 0x5d1f2a3b4c6e7081L;
+
+	/*
+	 * Joe-Kuo Polynomial Degree, Polynomial Inner Coefficient, and Initial Direction Numbers for the
+	 * 	Dimensions 2 through 21.
+	 */
+
+	private static final int[][] s_aaiJoeKuo = new int[][] {
+		{1, 0, 1},
+		{2, 1, 1, 3},
+		{3, 1, 1, 3, 1},
+		{3, 2, 1, 1, 1},
+		{4, 1, 1, 1, 3, 3},
+		{4, 4, 1, 3, 5, 13},
+		{5, 2, 1, 1, 5, 5, 17},
+		{5, 4, 1, 1, 5, 5, 5},
+		{5, 7, 1, 1, 7, 11, 19},
+		{5, 11, 1, 1, 5, 1, 1},
+		{5, 13, 1, 1, 1, 3, 11},
+		{5, 14, 1, 3, 5, 5, 31},
+		{6, 1, 1, 3, 3, 9, 7, 49},
+		{6, 13, 1, 1, 1, 15, 21, 21},
+		{6, 16, 1, 3, 1, 13, 27, 49},
+		{6, 19, 1, 1, 1, 15, 7, 5},
+		{6, 22, 1, 3, 1, 15, 13, 25},
+		{6, 25, 1, 1, 5, 5, 19, 61},
+		{7, 1, 1, 3, 7, 11, 23, 15, 103},
+		{7, 4, 1, 3, 7, 13, 13, 15, 69}
+	};
+
+	private int _iDimension = -1;
+	private long _lIndex = 0L;
+	private long[] _alPoint = null;
+	private long[] _alDigitalShift = null;
+	private long[][] _aalDirection = null;
+
+	private static final boolean IsPrimitive (
+		final int iDegree,
+		final long lPolynomial)
+	{
+		long lOrder = (1L << iDegree) - 1L;
+
+		if (1L != PowerOfX (lOrder, iDegree, lPolynomial)) return false;
+
+		long lResidual = lOrder;
+
+		for (long lFactor = 2L; lFactor * lFactor <= lResidual; ++lFactor) {
+			if (0L != lResidual % lFactor) continue;
+
+			if (1L == PowerOfX (lOrder / lFactor, iDegree, lPolynomial)) return false;
+
+			while (0L == lResidual % lFactor)
+				lResidual /= lFactor;
+		}
+
+		return 1L == lResidual || 1L != PowerOfX (lOrder / lResidual, iDegree, lPolynomial);
+	}
+
+	private static final long PowerOfX (
+		final long lExponent,
+		final int iDegree,
+		final long lPolynomial)
+	{
+		long lResult = 1L;
+		long lBase = 1 == iDegree ? 2L ^ lPolynomial : 2L;
+		long lExponentRemaining = lExponent;
+
+		while (0L != lExponentRemaining) {
+			if (0L != (lExponentRemaining & 1L)) lResult = MultiplyModulo (lResult, lBase, iDegree, lPolynomial);
+
+			lBase = MultiplyModulo (lBase, lBase, iDegree, lPolynomial);
+			lExponentRemaining >>>= 1;
+		}
+
+		return lResult;
+	}
+
+	private static final long MultiplyModulo (
+		final long lA,
+		final long lB,
+		final int iDegree,
+		final long lPolynomial)
+	{
+		long lProduct = 0L;
+		long lShiftedA = lA;
+		long lRemainingB = lB;
+
+		while (0L != lRemainingB) {
+			if (0L != (lRemainingB & 1L)) lProduct ^= lShiftedA;
+
+			lRemainingB >>>= 1;
+			lShiftedA <<= 1;
+
+			if (0L != (lShiftedA & (1L << iDegree))) lShiftedA ^= lPolynomial;
+		}
+
+		return lProduct;
+	}
+
+	private static final long[] DirectionNumbers (
+		final int iDegree,
+		final int iInnerCoefficient,
+		final int[] aiInitial)
+	{
+		long[] alDirection = new long[NUM_BIT];
+
+		for (int i = 0; i < NUM_BIT && i < iDegree; ++i)
+			alDirection[i] = ((long) aiInitial[i]) << (NUM_BIT - 1 - i);
+
+		for (int i = iDegree; i < NUM_BIT; ++i) {
+			alDirection[i] = alDirection[i - iDegree] ^ (alDirection[i - iDegree] >>> iDegree);
+
+			for (int k = 1; k < iDegree; ++k) {
+				if (0 != ((iInnerCoefficient >>> (iDegree - 1 - k)) & 1))
+					alDirection[i] ^= alDirection[i - k];
+			}
+		}
+
+		return alDirection;
+	}
+
+	/**
+	 * SobolSequence Constructor - Un-shifted Sequence
+	 *
+	 * @param iDimension The Number of Dimensions
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SobolSequence (
+		final int iDimension)
+		throws java.lang.Exception
+	{
+		if (0 >= (_iDimension = iDimension) || MAXIMUM_DIMENSION < _iDimension)
+			throw new java.lang.Exception ("SobolSequence ctr: Invalid Inputs");
+
+		_alPoint = new long[_iDimension];
+		_alDigitalShift = new long[_iDimension];
+		_aalDirection = new long[_iDimension][];
+		_aalDirection[0] = new long[NUM_BIT];
+
+		for (int i = 0; i < NUM_BIT; ++i)
+			_aalDirection[0][i] = 1L << (NUM_BIT - 1 - i);
+
+		int iDimensionIndex = 1;
+
+		for (; iDimensionIndex < _iDimension && iDimensionIndex <= s_aaiJoeKuo.length; ++iDimensionIndex) {
+			int[] aiJoeKuo = s_aaiJoeKuo[iDimensionIndex - 1];
+			int[] aiInitial = new int[aiJoeKuo[0]];
+
+			java.lang.System.arraycopy (aiJoeKuo, 2, aiInitial, 0, aiJoeKuo[0]);
+
+			_aalDirection[iDimensionIndex] = DirectionNumbers (aiJoeKuo[0], aiJoeKuo[1], aiInitial);
+		}
+
+		if (iDimensionIndex == _iDimension) return;
+
+		/*
+		 * Continue the Joe-Kuo Enumeration of the Primitive Polynomials past the Last Tabulated one.
+		 */
+
+		int[] aiLastJoeKuo = s_aaiJoeKuo[s_aaiJoeKuo.length - 1];
+		int iDegree = aiLastJoeKuo[0];
+		int iInnerCoefficient = aiLastJoeKuo[1] + 1;
+
+		org.drip.sequence.random.UniformRandomStream urs = new org.drip.sequence.random.CounterBasedStream
+			(DIRECTION_NUMBER_SEED);
+
+		while (iDimensionIndex < _iDimension) {
+			if (iInnerCoefficient >= (1 << (iDegree - 1))) {
+				++iDegree;
+				iInnerCoefficient = 0;
+				continue;
+			}
+
+			if (IsPrimitive (iDegree, (1L << iDegree) | (((long) iInnerCoefficient) << 1) | 1L)) {
+				int[] aiInitial = new int[iDegree];
+
+				for (int i = 0; i < iDegree; ++i)
+					aiInitial[i] = (int) ((urs.nextLong() >>> (63 - i)) | 1L);
+
+				_aalDirection[iDimensionIndex++] = DirectionNumbers (iDegree, iInnerCoefficient, aiInitial);
+			}
+
+			++iInnerCoefficient;
+		}
+	}
+
+	/**
+	 * SobolSequence Constructor - Digitally Shifted Sequence
+	 *
+	 * @param iDimension The Number of Dimensions
+	 * @param lDigitalShiftSeed Seed of the Random Digital Shift
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public SobolSequence (
+		final int iDimension,
+		final long lDigitalShiftSeed)
+		throws java.lang.Exception
+	{
+		this (iDimension);
+
+		org.drip.sequence.random.UniformRandomStream urs = new org.drip.sequence.random.CounterBasedStream
+			(lDigitalShiftSeed);
+
+		for (int i = 0; i < _iDimension; ++i)
+			_alDigitalShift[i] = urs.nextLong() >>> (64 - NUM_BIT);
+	}
+
+	/**
+	 * Retrieve the Number of Dimensions
+	 *
+	 * @return The Number of Dimensions
+	 */
+
+	public int dimension()
+	{
+		return _iDimension;
+	}
+
+	/**
+	 * Retrieve the Index of the Last Point generated Sequentially
+	 *
+	 * @return The Index of the Last Point generated Sequentially
+	 */
+
+	public long index()
+	{
+		return _lIndex;
+	}
+
+	/**
+	 * Generate the Point at the specified Index directly
+	 *
+	 * @param lIndex The Point Index (ONE onwards)
+	 * @param adblPoint The Array to receive the Point
+	 *
+	 * @return TRUE => The Point has been generated
+	 */
+
+	public boolean point (
+		final long lIndex,
+		final double[] adblPoint)
+	{
+		if (0L >= lIndex || lIndex >= (1L << NUM_BIT) || null == adblPoint || adblPoint.length <
+			_iDimension)
+			return false;
+
+		long lGrayCode = lIndex ^ (lIndex >>> 1);
+
+		for (int d = 0; d < _iDimension; ++d) {
+			long lCoordinate = 0L;
+			long[] alDirection = _aalDirection[d];
+
+			for (int i = 0; i < NUM_BIT; ++i) {
+				if (0L != ((lGrayCode >>> i) & 1L)) lCoordinate ^= alDirection[i];
+			}
+
+			adblPoint[d] = ((lCoordinate ^ _alDigitalShift[d]) + 0.5) * CELL_WIDTH;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Generate the Next Point in Gray Code Order
+	 *
+	 * @param adblPoint The Array to receive the Point
+	 *
+	 * @return TRUE => The Point has been generated
+	 */
+
+	public boolean nextPoint (
+		final double[] adblPoint)
+	{
+		if (null == adblPoint || adblPoint.length < _iDimension || _lIndex + 1L >= (1L << NUM_BIT))
+			return false;
+
+		int iBit = java.lang.Long.numberOfTrailingZeros (~_lIndex);
+
+		++_lIndex;
+
+		for (int d = 0; d < _iDimension; ++d)
+			adblPoint[d] = (((_alPoint[d] ^= _aalDirection[d][iBit]) ^ _alDigitalShift[d]) + 0.5) *
+				CELL_WIDTH;
+
+		return true;
+	}
+
+	/**
+	 * Reset the Sequential Generation to Start at the specified Index
+	 *
+	 * @param lIndex The Index of the Last Point considered generated
+	 *
+	 * @return TRUE => The Sequence has been Reset
+	 */
+
+	public boolean reset (
+		final long lIndex)
+	{
+		if (0L > lIndex || lIndex >= (1L << NUM_BIT)) return false;
+
+		long lGrayCode = lIndex ^ (lIndex >>> 1);
+
+		for (int d = 0; d < _iDimension; ++d) {
+			long lCoordinate = 0L;
+			long[] alDirection = _aalDirection[d];
+
+			for (int i = 0; i < NUM_BIT; ++i) {
+				if (0L != ((lGrayCode >>> i) & 1L)) lCoordinate ^= alDirection[i];
+			}
+
+			_alPoint[d] = lCoordinate;
+		}
+
+		_lIndex = lIndex;
+		return true;
+	}
+}
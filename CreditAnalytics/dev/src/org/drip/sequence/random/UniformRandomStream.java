@@ -0,0 +1,102 @@
+
+package org.drip.sequence.random;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * UniformRandomStream is the Abstract Stream of Uniform 64-bit Random Words from which the Random Variates
+ * 	are drawn. A Stream is owned by a single Thread, and is split to generate Statistically Independent
+ * 	Streams for the other Threads.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class UniformRandomStream {
+
+	/**
+	 * Generate the Next Uniform 64-bit Random Word
+	 *
+	 * @return The Next Uniform 64-bit Random Word
+	 */
+
+	public abstract long nextLong();
+
+	/**
+	 * Split off a new Stream that is Statistically Independent of this one
+	 *
+	 * @return The Split Stream
+	 */
+
+	public abstract UniformRandomStream split();
+
+	/**
+	 * Generate the Next Uniform Random Number in [0, 1)
+	 *
+	 * @return The Next Uniform Random Number in [0, 1)
+	 */
+
+	public double nextDouble()
+	{
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	/**
+	 * Generate the Next Uniform Random Number in (0, 1]
+	 *
+	 * @return The Next Uniform Random Number in (0, 1]
+	 */
+
+	public double nextPositiveDouble()
+	{
+		return ((nextLong() >>> 11) + 1L) * 0x1.0p-53;
+	}
+
+	/**
+	 * Fill the Block with Uniform Random Numbers in [0, 1)
+	 *
+	 * @param adblBlock The Block
+	 * @param iOffset Offset into the Block
+	 * @param iLength Number of Entries to Fill
+	 *
+	 * @return TRUE => The Block has been filled
+	 */
+
+	public boolean fill (
+		final double[] adblBlock,
+		final int iOffset,
+		final int iLength)
+	{
+		if (null == adblBlock || 0 > iOffset || 0 > iLength || iOffset + iLength > adblBlock.length)
+			return false;
+
+		for (int i = iOffset; i < iOffset + iLength; ++i)
+			adblBlock[i] = (nextLong() >>> 11) * 0x1.0p-53;
+
+		return true;
+	}
+}
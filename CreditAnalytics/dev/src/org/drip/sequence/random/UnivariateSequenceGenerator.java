@@ -35,6 +35,7 @@ package org.drip.sequence.random;
  */
 
 public abstract class UnivariateSequenceGenerator {
+	private static final int ACCUMULATION_BLOCK_SIZE = 4096;
 
 	/**
 	 * Generate a Random Number according to the specified rule
@@ -44,6 +45,30 @@ public abstract class UnivariateSequenceGenerator {
 
 	public abstract double random();
 
+	/**
+	 * Fill the Block with Random Numbers generated according to the specified rule, without allocating
+	 * 
+	 * @param adblBlock The Block
+	 * @param iOffset Offset into the Block
+	 * @param iLength Number of Entries to Fill
+	 * 
+	 * @return TRUE => The Block has been filled
+	 */
+
+	public boolean fill (
+		final double[] adblBlock,
+		final int iOffset,
+		final int iLength)
+	{
+		if (null == adblBlock || 0 > iOffset || 0 > iLength || iOffset + iLength > adblBlock.length)
+			return false;
+
+		for (int i = iOffset; i < iOffset + iLength; ++i)
+			adblBlock[i] = random();
+
+		return true;
+	}
+
 	/**
 	 * Generate a Random Sequence
 	 * 
@@ -59,10 +84,35 @@ public abstract class UnivariateSequenceGenerator {
 
 		double[] adblSequence = new double[iNumEntry];
 
-		for (int i = 0; i < iNumEntry; ++i)
-			adblSequence[i] = random();
+		return fill (adblSequence, 0, iNumEntry) ? adblSequence : null;
+	}
+
+	/**
+	 * Stream the specified Number of Random Numbers into the Accumulator, in Blocks, without materializing
+	 * 	the Sequence
+	 * 
+	 * @param lNumEntry Number of Entries to Generate
+	 * @param sa The Sequence Accumulator
+	 * 
+	 * @return TRUE => The Entries have been accumulated
+	 */
+
+	public boolean accumulate (
+		final long lNumEntry,
+		final org.drip.sequence.metrics.SequenceAccumulator sa)
+	{
+		if (0L >= lNumEntry || null == sa) return false;
+
+		int iBlockSize = lNumEntry < ACCUMULATION_BLOCK_SIZE ? (int) lNumEntry : ACCUMULATION_BLOCK_SIZE;
+		double[] adblBlock = new double[iBlockSize];
+
+		for (long lGenerated = 0L; lGenerated < lNumEntry; lGenerated += iBlockSize) {
+			int iLength = lNumEntry - lGenerated < iBlockSize ? (int) (lNumEntry - lGenerated) : iBlockSize;
+
+			if (!fill (adblBlock, 0, iLength) || !sa.add (adblBlock, 0, iLength)) return false;
+		}
 
-		return adblSequence;
+		return true;
 	}
 
 	/**
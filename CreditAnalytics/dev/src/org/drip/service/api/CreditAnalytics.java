@@ -127,6 +127,29 @@ public class CreditAnalytics {
 		return true;
 	}
 
+	/**
+	 * Initializes the CreditAnalytics DRIP library, loading the holiday calendars and the pre-loaded CDX
+	 *  reference data lazily out of their binary snapshots.
+	 * 
+	 * @param strConfig Input configuration file
+	 * @param strHolidaySnapshot The holiday snapshot file
+	 * @param strCDXSnapshot The CDX snapshot file
+	 *  
+	 * @return Success (true) or failure (false).
+	 */
+
+	public static final boolean Init (
+		final java.lang.String strConfig,
+		final java.lang.String strHolidaySnapshot,
+		final java.lang.String strCDXSnapshot)
+	{
+		if (null == (s_stmt = org.drip.service.env.EnvManager.InitEnv (strConfig, strHolidaySnapshot,
+			strCDXSnapshot)))
+			return false;
+
+		return true;
+	}
+
 	/**
 	 * Retrieves the set of holiday locations
 	 * 
@@ -0,0 +1,341 @@
+
+package org.drip.service.env;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * BondBatchAnalytics computes the Bid/Ask RV Measures for a Universe of Bonds as a Batch. The Batch is set
+ * 	up as follows:
+ *  - The Valuation Parameters are constructed once, and are shared read-only across the Batch.
+ *  - The Bond Slots are split recursively on a Fork-Join (Work-Stealing) Pool, so that the Bonds that are
+ *  	expensive to value (e.g., those with Embedded Options) get balanced across the Workers.
+ *  - The Floater Fixings are added to a per-Bond Overlay of the Market Fixings, and the shared
+ *  	ScenarioMarketParams is never written to.
+ *  - The Outcome, the Latency, and the Failure Message of each Bond are streamed into its Slot in the
+ *  	Columnar BondBatchResultSink.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondBatchAnalytics {
+
+	/**
+	 * Maximum Number of Bonds valued in a single (un-split) Task
+	 */
+
+	public static final int BONDS_PER_TASK = 8;
+
+	private int _iParallelism = -1;
+	private double _dblFloaterFixing = java.lang.Double.NaN;
+	private org.drip.param.definition.ScenarioMarketParams _mpc = null;
+	private org.drip.param.valuation.ValuationParams _valParams = null;
+
+	private class BatchTask extends java.util.concurrent.RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private int _iEndSlot = -1;
+		private int _iStartSlot = -1;
+		private double[] _adblAskPrice = null;
+		private double[] _adblBidPrice = null;
+		private java.lang.String[] _astrBondID = null;
+		private org.drip.product.definition.Bond[] _aBond = null;
+		private org.drip.service.env.BondBatchResultSink _bbrs = null;
+
+		BatchTask (
+			final int iStartSlot,
+			final int iEndSlot,
+			final java.lang.String[] astrBondID,
+			final org.drip.product.definition.Bond[] aBond,
+			final double[] adblBidPrice,
+			final double[] adblAskPrice,
+			final org.drip.service.env.BondBatchResultSink bbrs)
+		{
+			_bbrs = bbrs;
+			_aBond = aBond;
+			_iEndSlot = iEndSlot;
+			_astrBondID = astrBondID;
+			_iStartSlot = iStartSlot;
+			_adblAskPrice = adblAskPrice;
+			_adblBidPrice = adblBidPrice;
+		}
+
+		@Override protected void compute()
+		{
+			if (BONDS_PER_TASK >= _iEndSlot - _iStartSlot) {
+				java.text.DecimalFormat df = new java.text.DecimalFormat ("#00.000");
+
+				java.lang.StringBuilder sb = new java.lang.StringBuilder();
+
+				for (int i = _iStartSlot; i < _iEndSlot; ++i)
+					valueBond (i, _astrBondID[i], _aBond[i], _adblBidPrice[i], _adblAskPrice[i], df, sb,
+						_bbrs);
+
+				return;
+			}
+
+			int iMidSlot = (_iStartSlot + _iEndSlot) / 2;
+
+			invokeAll (new BatchTask (_iStartSlot, iMidSlot, _astrBondID, _aBond, _adblBidPrice,
+				_adblAskPrice, _bbrs), new BatchTask (iMidSlot, _iEndSlot, _astrBondID, _aBond,
+					_adblBidPrice, _adblAskPrice, _bbrs));
+		}
+	}
+
+	private void valueBond (
+		final int iSlot,
+		final java.lang.String strBondID,
+		final org.drip.product.definition.Bond bond,
+		final double dblBidPrice,
+		final double dblAskPrice,
+		final java.text.DecimalFormat df,
+		final java.lang.StringBuilder sb,
+		final org.drip.service.env.BondBatchResultSink bbrs)
+	{
+		if (null == bond) {
+			bbrs.record (iSlot, strBondID, null, org.drip.service.env.BondBatchResultSink.STATUS_FAILED, 0L,
+				null, null, "No Bond");
+
+			return;
+		}
+
+		double dblValueDate = _valParams.valueDate();
+
+		double dblMaturityDate = bond.maturityDate().julian();
+
+		if (dblMaturityDate <= dblValueDate) {
+			bbrs.record (iSlot, strBondID, null, org.drip.service.env.BondBatchResultSink.STATUS_MATURED, 0L,
+				null, null, null);
+
+			return;
+		}
+
+		if (java.lang.Double.isNaN (dblBidPrice) || java.lang.Double.isNaN (dblAskPrice)) {
+			bbrs.record (iSlot, strBondID, null, org.drip.service.env.BondBatchResultSink.STATUS_NO_MARKS,
+				0L, null, null, null);
+
+			return;
+		}
+
+		java.lang.String strRunName = null;
+
+		long lStart = java.lang.System.nanoTime();
+
+		try {
+			org.drip.param.market.CurveSurfaceQuoteSet csqs = _mpc.scenarioMarketParams (bond, "Base");
+
+			if (null == csqs) {
+				bbrs.record (iSlot, strBondID, null, org.drip.service.env.BondBatchResultSink.STATUS_FAILED,
+					java.lang.System.nanoTime() - lStart, null, null, "No Market Parameters");
+
+				return;
+			}
+
+			if (bond.isFloater()) {
+				org.drip.param.market.LatentStateFixingsContainer lsfc = new
+					org.drip.param.market.LatentStateFixingsContainer (_mpc.fixings());
+
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.state.identifier.ForwardLabel>
+					mapForwardLabel = bond.forwardLabel();
+
+				if (null == mapForwardLabel || 0 == mapForwardLabel.size() || !lsfc.add
+					(bond.periodFixingDate (dblValueDate), mapForwardLabel.firstEntry().getValue(),
+						_dblFloaterFixing) || !csqs.setFixings (lsfc)) {
+					bbrs.record (iSlot, strBondID, null,
+						org.drip.service.env.BondBatchResultSink.STATUS_FAILED, java.lang.System.nanoTime()
+							- lStart, null, null, "Cannot set the Floater Fixing");
+
+					return;
+				}
+			}
+
+			java.lang.String strTicker = bond.ticker();
+
+			sb.setLength (0);
+
+			sb.append (strTicker);
+
+			for (int i = strTicker.length() - 1; i < 6; ++i)
+				sb.append (' ');
+
+			sb.append ("  ").append (df.format (100. * bond.couponMetrics (dblValueDate, _valParams,
+				csqs).rate())).append (' ').append (org.drip.analytics.date.DateUtil.Year (dblMaturityDate)
+					- 2000);
+
+			strRunName = sb.toString();
+
+			org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>
+				mapBMRV = org.drip.service.env.BondManager.CalcBondMeasures (strRunName, bond, _valParams,
+					csqs, dblBidPrice, dblAskPrice);
+
+			if (null == mapBMRV)
+				bbrs.record (iSlot, strBondID, strRunName,
+					org.drip.service.env.BondBatchResultSink.STATUS_FAILED, java.lang.System.nanoTime() -
+						lStart, null, null, "Cannot compute the Measures");
+			else
+				bbrs.record (iSlot, strBondID, strRunName,
+					org.drip.service.env.BondBatchResultSink.STATUS_PROCESSED, java.lang.System.nanoTime() -
+						lStart, mapBMRV.get ("BID"), mapBMRV.get ("ASK"), null);
+		} catch (java.lang.Exception e) {
+			bbrs.record (iSlot, strBondID, strRunName, org.drip.service.env.BondBatchResultSink.STATUS_FAILED,
+				java.lang.System.nanoTime() - lStart, null, null, e.toString());
+		}
+	}
+
+	/**
+	 * BondBatchAnalytics Constructor
+	 * 
+	 * @param mpc The Scenario Market Parameters (read-only for the Batch)
+	 * @param valParams The Valuation Parameters
+	 * @param dblFloaterFixing The Fixing applied to the Current Period of the Floaters
+	 * @param iParallelism The Pool Parallelism (Number of Processors if <= 0)
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BondBatchAnalytics (
+		final org.drip.param.definition.ScenarioMarketParams mpc,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final double dblFloaterFixing,
+		final int iParallelism)
+		throws java.lang.Exception
+	{
+		if (null == (_mpc = mpc) || null == (_valParams = valParams) ||
+			!org.drip.quant.common.NumberUtil.IsValid (_dblFloaterFixing = dblFloaterFixing))
+			throw new java.lang.Exception ("BondBatchAnalytics ctr: Invalid Inputs");
+
+		_iParallelism = 0 < iParallelism ? iParallelism : java.lang.Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Retrieve the Valuation Parameters
+	 * 
+	 * @return The Valuation Parameters
+	 */
+
+	public org.drip.param.valuation.ValuationParams valuationParams()
+	{
+		return _valParams;
+	}
+
+	/**
+	 * Retrieve the Pool Parallelism
+	 * 
+	 * @return The Pool Parallelism
+	 */
+
+	public int parallelism()
+	{
+		return _iParallelism;
+	}
+
+	/**
+	 * Value the Bonds in the Batch from their Bid/Ask Prices. A NaN Price marks the Bond as having no Marks.
+	 * 
+	 * @param astrBondID Array of the Bond IDs
+	 * @param aBond Array of the Bonds
+	 * @param adblBidPrice Array of the Bid Prices
+	 * @param adblAskPrice Array of the Ask Prices
+	 * 
+	 * @return The Columnar Result Sink
+	 */
+
+	public org.drip.service.env.BondBatchResultSink run (
+		final java.lang.String[] astrBondID,
+		final org.drip.product.definition.Bond[] aBond,
+		final double[] adblBidPrice,
+		final double[] adblAskPrice)
+	{
+		if (null == astrBondID || null == aBond || null == adblBidPrice || null == adblAskPrice) return null;
+
+		int iNumBond = astrBondID.length;
+
+		if (iNumBond != aBond.length || iNumBond != adblBidPrice.length || iNumBond != adblAskPrice.length)
+			return null;
+
+		java.util.concurrent.ForkJoinPool fjp = null;
+
+		try {
+			org.drip.service.env.BondBatchResultSink bbrs = new org.drip.service.env.BondBatchResultSink
+				(iNumBond);
+
+			if (0 == iNumBond) return bbrs;
+
+			fjp = new java.util.concurrent.ForkJoinPool (_iParallelism);
+
+			fjp.invoke (new BatchTask (0, iNumBond, astrBondID, aBond, adblBidPrice, adblAskPrice, bbrs));
+
+			return bbrs;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			if (null != fjp) fjp.shutdown();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Value all the Bonds in the Map off of the same Bid/Ask Prices
+	 * 
+	 * @param mapBond Map of the Bonds, keyed off of the Bond ID
+	 * @param dblBidPrice The Bid Price
+	 * @param dblAskPrice The Ask Price
+	 * 
+	 * @return The Columnar Result Sink
+	 */
+
+	public org.drip.service.env.BondBatchResultSink flatPriceRun (
+		final java.util.Map<java.lang.String, ? extends org.drip.product.definition.Bond> mapBond,
+		final double dblBidPrice,
+		final double dblAskPrice)
+	{
+		if (null == mapBond || !org.drip.quant.common.NumberUtil.IsValid (dblBidPrice) ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblAskPrice))
+			return null;
+
+		int i = 0;
+		int iNumBond = mapBond.size();
+		double[] adblAskPrice = new double[iNumBond];
+		double[] adblBidPrice = new double[iNumBond];
+		java.lang.String[] astrBondID = new java.lang.String[iNumBond];
+		org.drip.product.definition.Bond[] aBond = new org.drip.product.definition.Bond[iNumBond];
+
+		for (java.util.Map.Entry<java.lang.String, ? extends org.drip.product.definition.Bond> me :
+			mapBond.entrySet()) {
+			aBond[i] = me.getValue();
+
+			astrBondID[i] = me.getKey();
+
+			adblAskPrice[i] = dblAskPrice;
+			adblBidPrice[i++] = dblBidPrice;
+		}
+
+		return run (astrBondID, aBond, adblBidPrice, adblAskPrice);
+	}
+}
@@ -0,0 +1,301 @@
+
+package org.drip.service.env;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * BondBatchResultSink is the Columnar Sink for the Results of a Batch Bond Analytics Run. Each Bond of the
+ * 	Batch owns a fixed Slot, and the Columns - Bond ID, Run Name, Status, Latency, Bid/Ask Measures, and the
+ * 	Failure Message - are written in place by the Valuation Task that owns the Slot, so the Tasks stream
+ * 	their Results into the Sink without any Locking.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class BondBatchResultSink {
+
+	/**
+	 * The Bond has not been processed
+	 */
+
+	public static final int STATUS_PENDING = 0;
+
+	/**
+	 * The Bond Measures have been computed
+	 */
+
+	public static final int STATUS_PROCESSED = 1;
+
+	/**
+	 * The Bond has matured as of the Valuation Date
+	 */
+
+	public static final int STATUS_MATURED = 2;
+
+	/**
+	 * No Marks are available for the Bond
+	 */
+
+	public static final int STATUS_NO_MARKS = 3;
+
+	/**
+	 * The Bond Valuation failed
+	 */
+
+	public static final int STATUS_FAILED = 4;
+
+	private int[] _aiStatus = null;
+	private long[] _alLatency = null;
+	private java.lang.String[] _astrBondID = null;
+	private java.lang.String[] _astrFailure = null;
+	private java.lang.String[] _astrRunName = null;
+	private org.drip.analytics.output.BondRVMeasures[] _aBMRVAsk = null;
+	private org.drip.analytics.output.BondRVMeasures[] _aBMRVBid = null;
+
+	/**
+	 * BondBatchResultSink Constructor
+	 * 
+	 * @param iNumBond Number of Bonds (Slots) in the Batch
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BondBatchResultSink (
+		final int iNumBond)
+		throws java.lang.Exception
+	{
+		if (0 > iNumBond) throw new java.lang.Exception ("BondBatchResultSink ctr: Invalid Inputs");
+
+		_aiStatus = new int[iNumBond];
+		_alLatency = new long[iNumBond];
+		_astrBondID = new java.lang.String[iNumBond];
+		_astrFailure = new java.lang.String[iNumBond];
+		_astrRunName = new java.lang.String[iNumBond];
+		_aBMRVAsk = new org.drip.analytics.output.BondRVMeasures[iNumBond];
+		_aBMRVBid = new org.drip.analytics.output.BondRVMeasures[iNumBond];
+	}
+
+	/**
+	 * Record the Outcome for the Bond in the specified Slot. Each Slot must be recorded by a single Task.
+	 * 
+	 * @param iSlot The Slot
+	 * @param strBondID The Bond ID
+	 * @param strRunName The Run Name
+	 * @param iStatus The Status
+	 * @param lLatency The Valuation Latency in Nano-seconds
+	 * @param bmrvBid The Bid Measures
+	 * @param bmrvAsk The Ask Measures
+	 * @param strFailure The Failure Message
+	 * 
+	 * @return TRUE => The Outcome has been recorded
+	 */
+
+	public boolean record (
+		final int iSlot,
+		final java.lang.String strBondID,
+		final java.lang.String strRunName,
+		final int iStatus,
+		final long lLatency,
+		final org.drip.analytics.output.BondRVMeasures bmrvBid,
+		final org.drip.analytics.output.BondRVMeasures bmrvAsk,
+		final java.lang.String strFailure)
+	{
+		if (0 > iSlot || iSlot >= _aiStatus.length || STATUS_PENDING > iStatus || STATUS_FAILED < iStatus)
+			return false;
+
+		_aiStatus[iSlot] = iStatus;
+		_alLatency[iSlot] = lLatency;
+		_aBMRVAsk[iSlot] = bmrvAsk;
+		_aBMRVBid[iSlot] = bmrvBid;
+		_astrBondID[iSlot] = strBondID;
+		_astrFailure[iSlot] = strFailure;
+		_astrRunName[iSlot] = strRunName;
+		return true;
+	}
+
+	/**
+	 * Retrieve the Number of Slots
+	 * 
+	 * @return The Number of Slots
+	 */
+
+	public int size()
+	{
+		return _aiStatus.length;
+	}
+
+	/**
+	 * Retrieve the Bond ID Column
+	 * 
+	 * @return The Bond ID Column
+	 */
+
+	public java.lang.String[] bondID()
+	{
+		return _astrBondID;
+	}
+
+	/**
+	 * Retrieve the Run Name Column
+	 * 
+	 * @return The Run Name Column
+	 */
+
+	public java.lang.String[] runName()
+	{
+		return _astrRunName;
+	}
+
+	/**
+	 * Retrieve the Status Column
+	 * 
+	 * @return The Status Column
+	 */
+
+	public int[] status()
+	{
+		return _aiStatus;
+	}
+
+	/**
+	 * Retrieve the Latency Column (Nano-seconds)
+	 * 
+	 * @return The Latency Column
+	 */
+
+	public long[] latency()
+	{
+		return _alLatency;
+	}
+
+	/**
+	 * Retrieve the Bid Measures Column
+	 * 
+	 * @return The Bid Measures Column
+	 */
+
+	public org.drip.analytics.output.BondRVMeasures[] bid()
+	{
+		return _aBMRVBid;
+	}
+
+	/**
+	 * Retrieve the Ask Measures Column
+	 * 
+	 * @return The Ask Measures Column
+	 */
+
+	public org.drip.analytics.output.BondRVMeasures[] ask()
+	{
+		return _aBMRVAsk;
+	}
+
+	/**
+	 * Retrieve the Failure Message Column
+	 * 
+	 * @return The Failure Message Column
+	 */
+
+	public java.lang.String[] failure()
+	{
+		return _astrFailure;
+	}
+
+	/**
+	 * Count the Bonds with the specified Status
+	 * 
+	 * @param iStatus The Status
+	 * 
+	 * @return Number of Bonds with the specified Status
+	 */
+
+	public int count (
+		final int iStatus)
+	{
+		int iCount = 0;
+
+		for (int i = 0; i < _aiStatus.length; ++i) {
+			if (iStatus == _aiStatus[i]) ++iCount;
+		}
+
+		return iCount;
+	}
+
+	/**
+	 * Compute the Latency Quantile across the Processed and the Failed Bonds
+	 * 
+	 * @param dblQuantile The Quantile (between 0 and 1)
+	 * 
+	 * @return The Latency Quantile in Nano-seconds
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid, or no Bond has been valued
+	 */
+
+	public long latencyQuantile (
+		final double dblQuantile)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblQuantile) || 0. > dblQuantile || 1. <
+			dblQuantile)
+			throw new java.lang.Exception ("BondBatchResultSink::latencyQuantile => Invalid Inputs");
+
+		int iNumValued = 0;
+		long[] alLatency = new long[_alLatency.length];
+
+		for (int i = 0; i < _alLatency.length; ++i) {
+			if (STATUS_PROCESSED == _aiStatus[i] || STATUS_FAILED == _aiStatus[i])
+				alLatency[iNumValued++] = _alLatency[i];
+		}
+
+		if (0 == iNumValued)
+			throw new java.lang.Exception ("BondBatchResultSink::latencyQuantile => No Bond has been valued");
+
+		java.util.Arrays.sort (alLatency, 0, iNumValued);
+
+		return alLatency[(int) java.lang.Math.round (dblQuantile * (iNumValued - 1))];
+	}
+
+	/**
+	 * Retrieve the Failure Message for each Failed Bond, keyed off of the Bond ID
+	 * 
+	 * @return Map of the Failure Messages
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.String> failures()
+	{
+		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.String> mapFailure = new
+			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.String>();
+
+		for (int i = 0; i < _aiStatus.length; ++i) {
+			if (STATUS_FAILED == _aiStatus[i]) mapFailure.put (_astrBondID[i], _astrFailure[i]);
+		}
+
+		return mapFailure;
+	}
+}
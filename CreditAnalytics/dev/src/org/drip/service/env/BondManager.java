@@ -82,6 +82,27 @@ public class BondManager {
 		return true;
 	}
 
+	private static final int ReportBatch (
+		final org.drip.service.env.BondBatchResultSink bbrs)
+	{
+		int iNumProcessed = bbrs.count (org.drip.service.env.BondBatchResultSink.STATUS_PROCESSED);
+
+		if (s_bBlog) {
+			try {
+				System.out.println ("Batch processed " + iNumProcessed + " bonds; median latency " + 1.e-06 *
+					bbrs.latencyQuantile (0.5) + " ms; 99% latency " + 1.e-06 * bbrs.latencyQuantile (0.99) +
+						" ms");
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		for (java.util.Map.Entry<java.lang.String, java.lang.String> me : bbrs.failures().entrySet())
+			System.out.println ("Analytics failed for " + me.getKey() + ": " + me.getValue());
+
+		return iNumProcessed;
+	}
+
 	private static final org.drip.product.params.EmbeddedOptionSchedule ExtractEOS (
 		final java.sql.Statement stmt,
 		final java.lang.String strISIN,
@@ -329,9 +350,37 @@ public class BondManager {
 			|| null == mpc || java.lang.Double.isNaN (dblBidPrice) || java.lang.Double.isNaN (dblAskPrice))
 			return null;
 
-		org.drip.param.market.CurveSurfaceQuoteSet mktParams = mpc.scenarioMarketParams (bond, "Base");
+		return CalcBondMeasures (strBondDescription, bond, valParams, mpc.scenarioMarketParams (bond, "Base"),
+			dblBidPrice, dblAskPrice);
+	}
 
-		if (null == mktParams) return null;
+	/**
+	 * Calculate the full set of calculable bond measures given the bond, the valuation parameters, the
+	 *  component market parameters, and the prices.
+	 *  
+	 * @param strBondDescription String describing the bond
+	 * @param bond Bond object
+	 * @param valParams ValuationParams
+	 * @param mktParams The Component Market Parameters
+	 * @param dblBidPrice Double representing the bid price
+	 * @param dblAskPrice Double representing the ask price
+	 * 
+	 * @return The BondOutput object
+	 */
+
+	public static org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>
+		CalcBondMeasures
+			(final java.lang.String strBondDescription,
+			final org.drip.product.definition.Bond bond,
+			final org.drip.param.valuation.ValuationParams valParams,
+			final org.drip.param.market.CurveSurfaceQuoteSet mktParams,
+			final double dblBidPrice,
+			final double dblAskPrice)
+	{
+		if (null == strBondDescription || strBondDescription.isEmpty() || null == bond || null == valParams
+			|| null == mktParams || java.lang.Double.isNaN (dblBidPrice) || java.lang.Double.isNaN
+				(dblAskPrice))
+			return null;
 
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures> mapBMRV =
 			new org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.output.BondRVMeasures>();
@@ -442,49 +491,19 @@ public class BondManager {
 			return 0;
 		}
 
-		int iNumProcessed = 0;
-		org.drip.param.valuation.ValuationParams valParams = null;
+		org.drip.service.env.BondBatchResultSink bbrs = null;
 
 		try {
-			valParams = new org.drip.param.valuation.ValuationParams (dt, dt.addBusDays (3, "USD"), "USD");
+			bbrs = new org.drip.service.env.BondBatchAnalytics (mpc, new
+				org.drip.param.valuation.ValuationParams (dt, dt.addBusDays (3, "USD"), "USD"), 0.0042,
+					0).flatPriceRun (s_mapBonds, 0.01 * dblBidPrice, 0.01 * dblAskPrice);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
 			return 0;
 		}
 
-		java.text.DecimalFormat df2_3p = new java.text.DecimalFormat ("#00.000");
-
-		for (java.util.Map.Entry<java.lang.String, org.drip.product.credit.BondComponent> me :
-			s_mapBonds.entrySet()) {
-			org.drip.product.definition.Bond bond = me.getValue();
-
-			if (bond.maturityDate().julian() > dt.julian()) {
-				java.lang.String strRunTicker = bond.ticker();
-
-				for (int i = bond.ticker().length() - 1; i < 6; ++i)
-					strRunTicker += " ";
-
-				try {
-					java.lang.String strRunName = strRunTicker + "  " + df2_3p.format (100. *
-						bond.couponMetrics (valParams.valueDate(), valParams, null).rate()) + " " +
-							(org.drip.analytics.date.DateUtil.Year (bond.maturityDate().julian()) - 2000);
-
-					if (bond.isFloater())
-						mpc.addFixing (bond.periodFixingDate (valParams.valueDate()),
-							bond.forwardLabel().get (0), 0.0042);
-
-					CalcBondMeasures (strRunName, bond, valParams, mpc, 0.01 * dblBidPrice, 0.01 *
-						dblAskPrice);
-
-					++iNumProcessed;
-				} catch (java.lang.Exception e) {
-					e.printStackTrace();
-				}
-			}
-		}
-
-		return iNumProcessed;
+		return null == bbrs ? 0 : ReportBatch (bbrs);
 	}
 
 	/**
@@ -507,64 +526,52 @@ public class BondManager {
 			return 0;
 		}
 
-		int iNumProcessed = 0;
-		int iNumMarksUnavailable = 0;
-
-        java.text.DecimalFormat df2_3p = new java.text.DecimalFormat ("#00.000");
+		int i = 0;
+		int iNumBond = s_mapBonds.size();
+		double[] adblAskPrice = new double[iNumBond];
+		double[] adblBidPrice = new double[iNumBond];
+		java.lang.String[] astrBondID = new java.lang.String[iNumBond];
+		org.drip.product.definition.Bond[] aBond = new org.drip.product.definition.Bond[iNumBond];
 
 		for (java.util.Map.Entry<java.lang.String, org.drip.product.credit.BondComponent> me :
 			s_mapBonds.entrySet()) {
 			org.drip.product.definition.Bond bond = me.getValue();
 
-			if (bond.maturityDate().julian() > dt.julian()) {
-				java.lang.String strRunTicker = bond.ticker();
+			java.lang.Double dblMidPrice = s_mapBondMarks.get (bond.isin());
 
-				for (int i = bond.ticker().length() - 1; i < 6; ++i)
-					strRunTicker += " ";
+			if (null == dblMidPrice) dblMidPrice = s_mapBondMarks.get (bond.cusip());
 
-				try {
-					java.lang.String strRunName = strRunTicker + "  " + df2_3p.format (100. *
-						bond.couponMetrics (dt.julian(), null, null).rate()) + " " +
-							(org.drip.analytics.date.DateUtil.Year (bond.maturityDate().julian()) - 2000);
+			if (null == dblMidPrice && s_bBlog && bond.maturityDate().julian() > dt.julian())
+				System.out.println ("No price entry found for " + bond.ticker());
 
-					if (!s_mapBondMarks.containsKey (bond.isin()) && !s_mapBondMarks.containsKey
-						(bond.cusip())) {
-						if (s_bBlog) System.out.println ("No price entry found for " + strRunTicker);
+			aBond[i] = bond;
 
-						++iNumMarksUnavailable;
-						continue;
-					}
+			astrBondID[i] = me.getKey();
 
-					org.drip.param.valuation.ValuationParams valParams = new
-						org.drip.param.valuation.ValuationParams (dt, dt.addBusDays (3, "USD"), "USD");
+			adblAskPrice[i] = null == dblMidPrice ? java.lang.Double.NaN : 0.01 * (dblMidPrice + 0.25);
+			adblBidPrice[i++] = null == dblMidPrice ? java.lang.Double.NaN : 0.01 * (dblMidPrice - 0.25);
+		}
 
-					if (bond.isFloater())
-						mpc.addFixing (bond.periodFixingDate (valParams.valueDate()), bond.forwardLabel().get
-							(0), 0.0042);
+		org.drip.service.env.BondBatchResultSink bbrs = null;
 
-					double dblMidPrice = java.lang.Double.NaN;
+		try {
+			bbrs = new org.drip.service.env.BondBatchAnalytics (mpc, new
+				org.drip.param.valuation.ValuationParams (dt, dt.addBusDays (3, "USD"), "USD"), 0.0042,
+					0).run (astrBondID, aBond, adblBidPrice, adblAskPrice);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
 
-					if (s_mapBondMarks.containsKey (bond.isin()))
-						dblMidPrice = s_mapBondMarks.get (bond.isin());
-					else
-						dblMidPrice = s_mapBondMarks.get (bond.cusip());
+			return 0;
+		}
 
-					if (!java.lang.Double.isNaN (dblMidPrice)) {
-						CalcBondMeasures (strRunName, bond, valParams, mpc, 0.01 * (dblMidPrice - 0.25), 0.01
-							* (dblMidPrice + 0.25));
+		if (null == bbrs) return 0;
 
-						++iNumProcessed;
-					}
-				} catch (java.lang.Exception e) {
-					e.printStackTrace();
-				}
-			}
-		}
+		int iNumMarksUnavailable = bbrs.count (org.drip.service.env.BondBatchResultSink.STATUS_NO_MARKS);
 
 		if (0 != iNumMarksUnavailable)
 			System.out.println ("Marks unavailable for " + iNumMarksUnavailable + " bonds!");
 
-		return iNumProcessed;
+		return ReportBatch (bbrs);
 	}
 
 	/**
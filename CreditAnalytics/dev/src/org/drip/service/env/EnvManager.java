@@ -52,12 +52,39 @@ public class EnvManager {
 
 	public static final java.sql.Statement InitEnv (
 		final java.lang.String strConfig)
+	{
+		return InitEnv (strConfig, null, null);
+	}
+
+	/**
+	 * Initialize the logger, the database connections, the day count parameters, and day count objects,
+	 *  with the holiday calendars and/or the pre-loaded CDX reference data served lazily out of the
+	 *  corresponding binary snapshots.
+	 * 
+	 * @param strConfig String representing the full path of the configuration file
+	 * @param strHolidaySnapshot The holiday snapshot file (null => the holidays are built from source)
+	 * @param strCDXSnapshot The CDX snapshot file (null => the CDX reference data are built from source)
+	 * 
+	 * @return SQL Statement representing the initialized object.
+	 */
+
+	public static final java.sql.Statement InitEnv (
+		final java.lang.String strConfig,
+		final java.lang.String strHolidaySnapshot,
+		final java.lang.String strCDXSnapshot)
 	{
 		org.drip.analytics.support.Logger.Init (strConfig);
 
-		org.drip.analytics.daycount.Convention.Init (strConfig);
+		if (null == strHolidaySnapshot)
+			org.drip.analytics.daycount.Convention.Init (strConfig);
+		else if (!org.drip.analytics.daycount.Convention.InitFromSnapshot (strHolidaySnapshot)) {
+			System.out.println ("EnvManager::InitEnv => Cannot Initialize the Holiday Snapshot!");
+
+			return null;
+		}
 
-		if (!org.drip.service.env.StandardCDXManager.InitStandardCDXSeries()) {
+		if (!(null == strCDXSnapshot ? org.drip.service.env.StandardCDXManager.InitStandardCDXSeries() :
+			org.drip.service.env.StandardCDXManager.InitStandardCDXSeries (strCDXSnapshot))) {
 			System.out.println ("EnvManager::InitEnv => Cannot Initialize standard CDX Indexes!");
 
 			return null;
@@ -65,6 +65,30 @@ public class StandardCDXManager {
 			org.drip.analytics.support.CaseInsensitiveTreeMap<java.util.Map<java.lang.Integer,
 				org.drip.analytics.date.JulianDate>>();
 
+	private static org.drip.feed.snapshot.CDXSnapshot _cdxSnapshot = null;
+
+	private static final org.drip.product.params.CDXRefDataParams PreLoadedRefData (
+		final java.lang.String strCDXCode)
+	{
+		return null == _cdxSnapshot ? org.drip.product.creator.CDXRefDataHolder._mapCDXRefData.get
+			(strCDXCode) : _cdxSnapshot.refData (strCDXCode);
+	}
+
+	private static final java.util.Set<java.lang.String> PreLoadedCDXCodes()
+	{
+		return null == _cdxSnapshot ? org.drip.product.creator.CDXRefDataHolder._mapCDXRefData.keySet() :
+			_cdxSnapshot.cdxCodes();
+	}
+
+	private static final java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer>
+		PreLoadedFirstCouponSeries (
+			final java.lang.String strIndex)
+	{
+		return null == _cdxSnapshot ?
+			org.drip.product.creator.CDXRefDataHolder._mmCDXRDBFirstCouponSeries.get (strIndex) :
+				_cdxSnapshot.firstCouponSeries (strIndex);
+	}
+
 	private static final boolean SetupStandardCDXParams()
 	{
 		try {
@@ -487,7 +511,7 @@ public class StandardCDXManager {
 		return true;
 	}
 
-	public static final boolean InitStandardCDXSeries()
+	private static final boolean InitPresetCDXSeries()
 	{
 		if (!PresetNA_IG_HY_HVOL_HYBB_HYBSeries()) {
 			System.out.println ("Cannot initialize NA_IG_HY_HVOL_HYBB_HYB");
@@ -519,9 +543,49 @@ public class StandardCDXManager {
 			return false;
 		}
 
+		return true;
+	}
+
+	/**
+	 * Initialize the pre-set CDX series, and the pre-loaded CDX reference data from the generated source
+	 * 
+	 * @return TRUE => The CDX series have been initialized
+	 */
+
+	public static final boolean InitStandardCDXSeries()
+	{
+		if (!InitPresetCDXSeries()) return false;
+
+		_cdxSnapshot = null;
+
 		return org.drip.product.creator.CDXRefDataHolder.InitFullCDXRefDataSet();
 	}
 
+	/**
+	 * Initialize the pre-set CDX series, and serve the pre-loaded CDX reference data lazily out of the CDX
+	 * 	snapshot - a CDX is decoded only the first time it is referenced.
+	 * 
+	 * @param strCDXSnapshot The CDX snapshot file
+	 * 
+	 * @return TRUE => The CDX series have been initialized
+	 */
+
+	public static final boolean InitStandardCDXSeries (
+		final java.lang.String strCDXSnapshot)
+	{
+		if (!InitPresetCDXSeries()) return false;
+
+		try {
+			_cdxSnapshot = new org.drip.feed.snapshot.CDXSnapshot (strCDXSnapshot);
+
+			return true;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return false;
+	}
+
 	private static final org.drip.product.definition.BasketProduct ConstructCDX (
 		final java.lang.String strTenor,
 		final org.drip.analytics.date.JulianDate dtFirstCoupon,
@@ -621,8 +685,7 @@ public class StandardCDXManager {
 
 		if (null == strCDXCode || strCDXCode.isEmpty()) return null;
 
-		org.drip.product.params.CDXRefDataParams cdxrdb =
-			org.drip.product.creator.CDXRefDataHolder._mapCDXRefData.get (strCDXCode);
+		org.drip.product.params.CDXRefDataParams cdxrdb = PreLoadedRefData (strCDXCode);
 
 		if (null == cdxrdb) return null;
 
@@ -669,7 +732,7 @@ public class StandardCDXManager {
 			return null;
 
 		java.util.Map<org.drip.analytics.date.JulianDate, java.lang.Integer> mapFirstCouponSeries =
-			org.drip.product.creator.CDXRefDataHolder._mmCDXRDBFirstCouponSeries.get (strIndex);
+			PreLoadedFirstCouponSeries (strIndex);
 
 		org.drip.analytics.date.JulianDate dtFirstCoupon = dt.firstCreditIMMDate (3);
 
@@ -706,13 +769,12 @@ public class StandardCDXManager {
 			return false;
 		}
 
-		for (java.util.Map.Entry<java.lang.String, org.drip.product.params.CDXRefDataParams> meCDXRefData :
-			org.drip.product.creator.CDXRefDataHolder._mapCDXRefData.entrySet()) {
-			org.drip.product.params.CDXRefDataParams cdxrdb = meCDXRefData.getValue();
+		for (java.lang.String strCDXCode : PreLoadedCDXCodes()) {
+			org.drip.product.params.CDXRefDataParams cdxrdb = PreLoadedRefData (strCDXCode);
 
 			if (null == cdxrdb) continue;
 
-			java.lang.String strIndexDetails = " , " + meCDXRefData.getKey() + ", " + cdxrdb._strIndexName +
+			java.lang.String strIndexDetails = " , " + strCDXCode + ", " + cdxrdb._strIndexName +
 				", " + cdxrdb._dtIssue + ", " + cdxrdb._dtMaturity + ", " + cdxrdb._iFrequency + ", " + (int)
 					(10000. * cdxrdb._dblCoupon) + "\n";
 
@@ -802,7 +864,9 @@ public class StandardCDXManager {
 
 	public static final java.util.Set<java.lang.String> GetPreLoadedIndexNames()
 	{
-		return org.drip.product.creator.CDXRefDataHolder._mmCDXRDBFirstCouponSeries.keySet();
+		return null == _cdxSnapshot ?
+			org.drip.product.creator.CDXRefDataHolder._mmCDXRDBFirstCouponSeries.keySet() :
+				_cdxSnapshot.indexNames();
 	}
 
 	/**
@@ -853,7 +917,7 @@ public class StandardCDXManager {
 	{
 		if (null == strCDXName || strCDXName.isEmpty()) return null;
 
-		return org.drip.product.creator.CDXRefDataHolder._mmCDXRDBFirstCouponSeries.get (strCDXName);
+		return PreLoadedFirstCouponSeries (strCDXName);
 	}
 
 	/**
@@ -917,9 +981,11 @@ public class StandardCDXManager {
 		org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.String> mapCDXDescr = new
 			org.drip.analytics.support.CaseInsensitiveTreeMap<java.lang.String>();
 
-		for (java.util.Map.Entry<java.lang.String, org.drip.product.params.CDXRefDataParams> meCDXRefData :
-			org.drip.product.creator.CDXRefDataHolder._mapCDXRefData.entrySet())
-			mapCDXDescr.put (meCDXRefData.getKey(), meCDXRefData.getValue()._strIndexName);
+		for (java.lang.String strCDXCode : PreLoadedCDXCodes()) {
+			org.drip.product.params.CDXRefDataParams cdxrdb = PreLoadedRefData (strCDXCode);
+
+			if (null != cdxrdb) mapCDXDescr.put (strCDXCode, cdxrdb._strIndexName);
+		}
 
 		return mapCDXDescr;
 	}
@@ -0,0 +1,326 @@
+
+package org.drip.spline.multidimensional;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * TensorBicubicSurface implements a Tensor-Product Bicubic Surface over a Rectangular Grid of Nodes. The
+ * 	Node Partials (dZ/dX, dZ/dY, and d2Z/dXdY) are taken off Natural Cubic Splines along each Grid Line, and
+ * 	the 16 Coefficients of each Cell are computed once at Construction. A Point Query locates its Cell by
+ * 	Binary Search and evaluates the Cell Polynomial; Queries outside the Grid are clamped to its Edges.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class TensorBicubicSurface {
+	private static final double[][] HERMITE = new double[][] {
+		{ 1.,  0.,  0.,  0.},
+		{ 0.,  0.,  1.,  0.},
+		{-3.,  3., -2., -1.},
+		{ 2., -2.,  1.,  1.}
+	};
+
+	private double[] _adblX = null;
+	private double[] _adblY = null;
+	private double[] _adblCoefficient = null;
+
+	private static final double[] NodeDerivative (
+		final double[] adblX,
+		final double[] adblZ)
+	{
+		int iNumNode = adblX.length;
+		double[] adblDerivative = new double[iNumNode];
+
+		if (2 == iNumNode) {
+			adblDerivative[0] = adblDerivative[1] = (adblZ[1] - adblZ[0]) / (adblX[1] - adblX[0]);
+			return adblDerivative;
+		}
+
+		double[] adblM = new double[iNumNode];
+		double[] adblDiagonal = new double[iNumNode];
+		double[] adblRHS = new double[iNumNode];
+
+		for (int i = 1; i < iNumNode - 1; ++i) {
+			double dblHLeft = adblX[i] - adblX[i - 1];
+			double dblHRight = adblX[i + 1] - adblX[i];
+			adblDiagonal[i] = 2. * (dblHLeft + dblHRight);
+			adblRHS[i] = 6. * ((adblZ[i + 1] - adblZ[i]) / dblHRight - (adblZ[i] - adblZ[i - 1]) /
+				dblHLeft);
+		}
+
+		for (int i = 2; i < iNumNode - 1; ++i) {
+			double dblH = adblX[i] - adblX[i - 1];
+			double dblFactor = dblH / adblDiagonal[i - 1];
+			adblDiagonal[i] -= dblFactor * dblH;
+			adblRHS[i] -= dblFactor * adblRHS[i - 1];
+		}
+
+		for (int i = iNumNode - 2; i >= 1; --i)
+			adblM[i] = (adblRHS[i] - (adblX[i + 1] - adblX[i]) * adblM[i + 1]) / adblDiagonal[i];
+
+		for (int i = 0; i < iNumNode - 1; ++i) {
+			double dblH = adblX[i + 1] - adblX[i];
+			adblDerivative[i] = (adblZ[i + 1] - adblZ[i]) / dblH - dblH * (2. * adblM[i] + adblM[i + 1]) /
+				6.;
+		}
+
+		double dblHLast = adblX[iNumNode - 1] - adblX[iNumNode - 2];
+		adblDerivative[iNumNode - 1] = (adblZ[iNumNode - 1] - adblZ[iNumNode - 2]) / dblHLast + dblHLast *
+			(adblM[iNumNode - 2] + 2. * adblM[iNumNode - 1]) / 6.;
+		return adblDerivative;
+	}
+
+	private static final int Cell (
+		final double[] adblNode,
+		final double dblValue)
+	{
+		int iLow = 0;
+		int iHigh = adblNode.length - 2;
+
+		while (iLow < iHigh) {
+			int iMid = (iLow + iHigh + 1) >>> 1;
+
+			if (adblNode[iMid] <= dblValue)
+				iLow = iMid;
+			else
+				iHigh = iMid - 1;
+		}
+
+		return iLow;
+	}
+
+	private static final boolean IsStrictlyIncreasing (
+		final double[] adbl)
+	{
+		if (null == adbl || 2 > adbl.length || !org.drip.quant.common.NumberUtil.IsValid (adbl))
+			return false;
+
+		for (int i = 1; i < adbl.length; ++i) {
+			if (adbl[i] <= adbl[i - 1]) return false;
+		}
+
+		return true;
+	}
+
+	private static final double HermiteProduct (
+		final double[][] aadblF,
+		final int p,
+		final int q)
+	{
+		double dblCoefficient = 0.;
+
+		for (int r = 0; r < 4; ++r) {
+			if (0. == HERMITE[p][r]) continue;
+
+			for (int s = 0; s < 4; ++s)
+				dblCoefficient += HERMITE[p][r] * aadblF[r][s] * HERMITE[q][s];
+		}
+
+		return dblCoefficient;
+	}
+
+	/**
+	 * TensorBicubicSurface Constructor
+	 *
+	 * @param adblX Array of X Nodes (Strictly Increasing)
+	 * @param adblY Array of Y Nodes (Strictly Increasing)
+	 * @param aadblZ Grid of Z Values, indexed [X Node][Y Node]
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public TensorBicubicSurface (
+		final double[] adblX,
+		final double[] adblY,
+		final double[][] aadblZ)
+		throws java.lang.Exception
+	{
+		if (!IsStrictlyIncreasing (_adblX = adblX) || !IsStrictlyIncreasing (_adblY = adblY) || null ==
+			aadblZ || aadblZ.length != _adblX.length)
+			throw new java.lang.Exception ("TensorBicubicSurface ctr: Invalid Inputs");
+
+		int iNumX = _adblX.length;
+		int iNumY = _adblY.length;
+		double[][] aadblZX = new double[iNumX][iNumY];
+		double[][] aadblZY = new double[iNumX][];
+		double[][] aadblZXY = new double[iNumX][iNumY];
+
+		for (int i = 0; i < iNumX; ++i) {
+			if (null == aadblZ[i] || iNumY != aadblZ[i].length || !org.drip.quant.common.NumberUtil.IsValid
+				(aadblZ[i]))
+				throw new java.lang.Exception ("TensorBicubicSurface ctr: Invalid Inputs");
+
+			aadblZY[i] = NodeDerivative (_adblY, aadblZ[i]);
+		}
+
+		double[] adblColumn = new double[iNumX];
+		double[] adblColumnY = new double[iNumX];
+
+		for (int j = 0; j < iNumY; ++j) {
+			for (int i = 0; i < iNumX; ++i) {
+				adblColumn[i] = aadblZ[i][j];
+				adblColumnY[i] = aadblZY[i][j];
+			}
+
+			double[] adblColumnDX = NodeDerivative (_adblX, adblColumn);
+
+			double[] adblColumnDXY = NodeDerivative (_adblX, adblColumnY);
+
+			for (int i = 0; i < iNumX; ++i) {
+				aadblZX[i][j] = adblColumnDX[i];
+				aadblZXY[i][j] = adblColumnDXY[i];
+			}
+		}
+
+		_adblCoefficient = new double[16 * (iNumX - 1) * (iNumY - 1)];
+		double[][] aadblF = new double[4][4];
+
+		for (int i = 0; i < iNumX - 1; ++i) {
+			double dblDX = _adblX[i + 1] - _adblX[i];
+
+			for (int j = 0; j < iNumY - 1; ++j) {
+				double dblDY = _adblY[j + 1] - _adblY[j];
+
+				for (int k = 0; k < 2; ++k) {
+					aadblF[k][0] = aadblZ[i + k][j];
+					aadblF[k][1] = aadblZ[i + k][j + 1];
+					aadblF[k][2] = aadblZY[i + k][j] * dblDY;
+					aadblF[k][3] = aadblZY[i + k][j + 1] * dblDY;
+					aadblF[k + 2][0] = aadblZX[i + k][j] * dblDX;
+					aadblF[k + 2][1] = aadblZX[i + k][j + 1] * dblDX;
+					aadblF[k + 2][2] = aadblZXY[i + k][j] * dblDX * dblDY;
+					aadblF[k + 2][3] = aadblZXY[i + k][j + 1] * dblDX * dblDY;
+				}
+
+				int iOffset = 16 * (i * (iNumY - 1) + j);
+
+				for (int p = 0; p < 4; ++p) {
+					for (int q = 0; q < 4; ++q)
+						_adblCoefficient[iOffset + 4 * p + q] = HermiteProduct (aadblF, p, q);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieve the X Nodes
+	 *
+	 * @return The X Nodes
+	 */
+
+	public double[] x()
+	{
+		return _adblX;
+	}
+
+	/**
+	 * Retrieve the Y Nodes
+	 *
+	 * @return The Y Nodes
+	 */
+
+	public double[] y()
+	{
+		return _adblY;
+	}
+
+	/**
+	 * Compute the Bivariate Surface Response Value
+	 *
+	 * @param dblX X
+	 * @param dblY Y
+	 *
+	 * @return The Bivariate Surface Response Value
+	 *
+	 * @throws java.lang.Exception Thrown if Inputs are Invalid
+	 */
+
+	public double responseValue (
+		final double dblX,
+		final double dblY)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblX) || !org.drip.quant.common.NumberUtil.IsValid
+			(dblY))
+			throw new java.lang.Exception ("TensorBicubicSurface::responseValue => Invalid Inputs");
+
+		int iNumX = _adblX.length;
+		int iNumY = _adblY.length;
+
+		double dblXClamped = dblX <= _adblX[0] ? _adblX[0] : (dblX >= _adblX[iNumX - 1] ? _adblX[iNumX - 1] :
+			dblX);
+		double dblYClamped = dblY <= _adblY[0] ? _adblY[0] : (dblY >= _adblY[iNumY - 1] ? _adblY[iNumY - 1] :
+			dblY);
+
+		int i = Cell (_adblX, dblXClamped);
+
+		int j = Cell (_adblY, dblYClamped);
+
+		double dblT = (dblXClamped - _adblX[i]) / (_adblX[i + 1] - _adblX[i]);
+		double dblU = (dblYClamped - _adblY[j]) / (_adblY[j + 1] - _adblY[j]);
+		int iOffset = 16 * (i * (iNumY - 1) + j);
+		double dblResponse = 0.;
+
+		for (int p = 3; p >= 0; --p) {
+			int iRow = iOffset + 4 * p;
+
+			dblResponse = dblResponse * dblT + (((_adblCoefficient[iRow + 3] * dblU +
+				_adblCoefficient[iRow + 2]) * dblU + _adblCoefficient[iRow + 1]) * dblU +
+					_adblCoefficient[iRow]);
+		}
+
+		return dblResponse;
+	}
+
+	/**
+	 * Compute the Bivariate Surface Response Values for a Batch of (X, Y) Points
+	 *
+	 * @param adblX Array of X
+	 * @param adblY Array of Y
+	 *
+	 * @return The Array of Response Values
+	 *
+	 * @throws java.lang.Exception Thrown if Inputs are Invalid
+	 */
+
+	public double[] responseValue (
+		final double[] adblX,
+		final double[] adblY)
+		throws java.lang.Exception
+	{
+		if (null == adblX || null == adblY || adblX.length != adblY.length)
+			throw new java.lang.Exception ("TensorBicubicSurface::responseValue => Invalid Inputs");
+
+		double[] adblResponse = new double[adblX.length];
+
+		for (int i = 0; i < adblX.length; ++i)
+			adblResponse[i] = responseValue (adblX[i], adblY[i]);
+
+		return adblResponse;
+	}
+}
@@ -37,9 +37,88 @@ package org.drip.spline.multidimensional;
  */
 
 public class WireSurfaceStretch {
+
+	/**
+	 * Default Maximum Number of Cached Cross-section Stretches
+	 */
+
+	public static final int CROSS_SECTION_CACHE_SIZE = 256;
+
+	private double[] _adblWireX = null;
+	private double _dblYQuantum = 0.;
+	private double[] _adblWireLeftY = null;
+	private double[] _adblWireRightY = null;
+	private java.lang.String _strName = "";
+	private org.drip.spline.grid.Span[] _aWireSpan = null;
 	private org.drip.spline.params.SegmentCustomBuilderControl _scbc = null;
+	private org.drip.spline.params.SegmentCustomBuilderControl[] _aSCBC = null;
 	private java.util.TreeMap<java.lang.Double, org.drip.spline.grid.Span> _mapWireSpan = null;
 
+	@SuppressWarnings ("serial") private java.util.LinkedHashMap<java.lang.Long,
+		org.drip.spline.stretch.MultiSegmentSequence> _mapCrossSection = new
+			java.util.LinkedHashMap<java.lang.Long, org.drip.spline.stretch.MultiSegmentSequence> (64, 0.75f,
+				true) {
+		@Override protected boolean removeEldestEntry (
+			final java.util.Map.Entry<java.lang.Long, org.drip.spline.stretch.MultiSegmentSequence> me)
+		{
+			return size() > CROSS_SECTION_CACHE_SIZE;
+		}
+	};
+
+	private double quantizedY (
+		final double dblY)
+	{
+		return 0. < _dblYQuantum ? _dblYQuantum * java.lang.Math.round (dblY / _dblYQuantum) : dblY;
+	}
+
+	private org.drip.spline.stretch.MultiSegmentSequence calibrateCrossSection (
+		final double dblY)
+		throws java.lang.Exception
+	{
+		int iSize = _adblWireX.length;
+		double[] adblZ = new double[iSize];
+
+		for (int i = 0; i < iSize; ++i) {
+			if (dblY <= _adblWireLeftY[i])
+				adblZ[i] = _aWireSpan[i].calcResponseValue (_adblWireLeftY[i]);
+			else if (dblY >= _adblWireRightY[i])
+				adblZ[i] = _aWireSpan[i].calcResponseValue (_adblWireRightY[i]);
+			else
+				adblZ[i] = _aWireSpan[i].calcResponseValue (dblY);
+		}
+
+		return org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator (_strName
+			+ "@" + dblY, _adblWireX, adblZ, _aSCBC, null,
+				org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
+					org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
+	}
+
+	private org.drip.spline.stretch.MultiSegmentSequence crossSection (
+		final double dblY)
+		throws java.lang.Exception
+	{
+		double dblYKey = quantizedY (dblY);
+
+		java.lang.Long lKey = java.lang.Double.doubleToLongBits (dblYKey);
+
+		org.drip.spline.stretch.MultiSegmentSequence mss = null;
+
+		synchronized (_mapCrossSection) {
+			mss = _mapCrossSection.get (lKey);
+		}
+
+		if (null != mss) return mss;
+
+		if (null == (mss = calibrateCrossSection (dblYKey)))
+			throw new java.lang.Exception ("WireSurfaceStretch::crossSection => Cannot extract MSS");
+
+		synchronized (_mapCrossSection) {
+			_mapCrossSection.put (lKey, mss);
+		}
+
+		return mss;
+	}
+
 	/**
 	 * WireSurfaceStretch Constructor
 	 * 
@@ -56,68 +135,75 @@ public class WireSurfaceStretch {
 		final java.util.TreeMap<java.lang.Double, org.drip.spline.grid.Span> mapWireSpan)
 		throws java.lang.Exception
 	{
-		if (null == (_mapWireSpan = mapWireSpan) || 0 == _mapWireSpan.size() || null == (_scbc = scbc))
-			throw new java.lang.Exception ("WireSurfaceStretch ctr: Invalid Inputs");
+		this (strName, scbc, mapWireSpan, 0.);
 	}
 
 	/**
-	 * Compute the Bivariate Surface Response Value
-	 * 
-	 * @param dblX X
-	 * @param dblY Y
+	 * WireSurfaceStretch Constructor
 	 * 
-	 * @return The Bivariate Surface Response Value
+	 * @param strName Name
+	 * @param scbc Segment Custom Builder Control Parameters
+	 * @param mapWireSpan X-mapped Array of Y Basis Spline Wire Spans
+	 * @param dblYQuantum The Y Quantum the Cross-section Cache is keyed off - Cross-sections are calibrated
+	 * 	at the Nearest Multiple of the Quantum. Zero => Cross-sections are calibrated at the exact Y.
 	 * 
-	 * @throws java.lang.Exception Thrown if Inputs are Invalid
+	 * @throws java.lang.Exception Thrown if the Inputs are invalid
 	 */
 
-	public double responseValue (
-		final double dblX,
-		final double dblY)
+	public WireSurfaceStretch (
+		final java.lang.String strName,
+		final org.drip.spline.params.SegmentCustomBuilderControl scbc,
+		final java.util.TreeMap<java.lang.Double, org.drip.spline.grid.Span> mapWireSpan,
+		final double dblYQuantum)
 		throws java.lang.Exception
 	{
-		int iSize = _mapWireSpan.size();
+		if (null == (_mapWireSpan = mapWireSpan) || 0 == _mapWireSpan.size() || null == (_scbc = scbc) ||
+			!org.drip.quant.common.NumberUtil.IsValid (_dblYQuantum = dblYQuantum) || 0. > _dblYQuantum)
+			throw new java.lang.Exception ("WireSurfaceStretch ctr: Invalid Inputs");
 
 		int i = 0;
-		double[] adblX = new double[iSize];
-		double[] adblZ = new double[iSize];
-		org.drip.spline.params.SegmentCustomBuilderControl[] aSCBC = new
-			org.drip.spline.params.SegmentCustomBuilderControl[iSize - 1];
-
-		for (java.util.Map.Entry<java.lang.Double, org.drip.spline.grid.Span> me : _mapWireSpan.entrySet()) {
-			if (null == me)
-				throw new java.lang.Exception ("WireSurfaceStretch::responseValue => Invalid Wire Span Map");
+		int iSize = _mapWireSpan.size();
+		_adblWireX = new double[iSize];
+		_adblWireLeftY = new double[iSize];
+		_adblWireRightY = new double[iSize];
+		_aWireSpan = new org.drip.spline.grid.Span[iSize];
+		_aSCBC = new org.drip.spline.params.SegmentCustomBuilderControl[iSize - 1];
 
-			if (0 != i) aSCBC[i - 1] = _scbc;
+		if (null != strName) _strName = strName;
 
-			adblX[i] = me.getKey();
+		for (java.util.Map.Entry<java.lang.Double, org.drip.spline.grid.Span> me : _mapWireSpan.entrySet()) {
+			if (null == me || null == (_aWireSpan[i] = me.getValue()))
+				throw new java.lang.Exception ("WireSurfaceStretch ctr: Invalid Wire Span Map");
 
-			org.drip.spline.grid.Span wireSpan = me.getValue();
+			if (0 != i) _aSCBC[i - 1] = _scbc;
 
-			if (null == wireSpan)
-				throw new java.lang.Exception ("WireSurfaceStretch::responseValue => Invalid Wire Span Map");
+			_adblWireX[i] = me.getKey();
 
-			double dblLeftY = wireSpan.left();
+			_adblWireLeftY[i] = _aWireSpan[i].left();
 
-			double dblRightY = wireSpan.right();
+			_adblWireRightY[i] = _aWireSpan[i].right();
 
-			if (dblY <= dblLeftY)
-				adblZ[i++] = wireSpan.calcResponseValue (dblLeftY);
-			else if (dblY >= dblRightY)
-				adblZ[i++] = wireSpan.calcResponseValue (dblRightY);
-			else
-				adblZ[i++] = wireSpan.calcResponseValue (dblY);
+			++i;
 		}
+	}
 
-		org.drip.spline.stretch.MultiSegmentSequence mss =
-			org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-				("org.drip.spline.multidimensional.WireSurfaceStretch@" +
-					org.drip.quant.common.StringUtil.GUID(), adblX, adblZ, aSCBC, null,
-						org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
-							org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE);
+	/**
+	 * Compute the Bivariate Surface Response Value
+	 * 
+	 * @param dblX X
+	 * @param dblY Y
+	 * 
+	 * @return The Bivariate Surface Response Value
+	 * 
+	 * @throws java.lang.Exception Thrown if Inputs are Invalid
+	 */
 
-		if (null == mss)
-			throw new java.lang.Exception ("WireSurfaceStretch::responseValue => Cannot extract MSS");
+	public double responseValue (
+		final double dblX,
+		final double dblY)
+		throws java.lang.Exception
+	{
+		org.drip.spline.stretch.MultiSegmentSequence mss = crossSection (dblY);
 
 		double dblLeftX = mss.getLeftPredictorOrdinateEdge();
 
@@ -131,62 +217,90 @@ public class WireSurfaceStretch {
 	}
 
 	/**
-	 * Retrieve the Surface Span Stretch that corresponds to the given Y Anchor
+	 * Compute the Bivariate Surface Response Values for a Batch of (X, Y) Points
 	 * 
-	 * @param dblYAnchor Y Anchor
+	 * @param adblX Array of X
+	 * @param adblY Array of Y
 	 * 
-	 * @return The Surface Span Stretch Instance
+	 * @return The Array of Response Values
+	 * 
+	 * @throws java.lang.Exception Thrown if Inputs are Invalid
 	 */
 
-	public org.drip.spline.grid.Span wireSpanYAnchor (
-		final double dblYAnchor)
+	public double[] responseValue (
+		final double[] adblX,
+		final double[] adblY)
+		throws java.lang.Exception
 	{
-		if (!org.drip.quant.common.NumberUtil.IsValid (dblYAnchor)) return null;
+		if (null == adblX || null == adblY || adblX.length != adblY.length)
+			throw new java.lang.Exception ("WireSurfaceStretch::responseValue => Invalid Inputs");
 
-		int iSize = _mapWireSpan.size();
+		double dblYPrev = java.lang.Double.NaN;
+		double[] adblResponse = new double[adblX.length];
+		org.drip.spline.stretch.MultiSegmentSequence mss = null;
 
-		int i = 0;
-		double[] adblX = new double[iSize];
-		double[] adblZ = new double[iSize];
-		org.drip.spline.params.SegmentCustomBuilderControl[] aSCBC = new
-			org.drip.spline.params.SegmentCustomBuilderControl[iSize - 1];
+		for (int i = 0; i < adblX.length; ++i) {
+			if (null == mss || adblY[i] != dblYPrev) mss = crossSection (dblYPrev = adblY[i]);
 
-		for (java.util.Map.Entry<java.lang.Double, org.drip.spline.grid.Span> me : _mapWireSpan.entrySet()) {
-			if (null == me) return null;
+			double dblLeftX = mss.getLeftPredictorOrdinateEdge();
 
-			if (0 != i) aSCBC[i - 1] = _scbc;
+			double dblRightX = mss.getRightPredictorOrdinateEdge();
 
-			adblX[i] = me.getKey();
+			adblResponse[i] = mss.responseValue (adblX[i] <= dblLeftX ? dblLeftX : (adblX[i] >= dblRightX ?
+				dblRightX : adblX[i]));
+		}
 
-			org.drip.spline.grid.Span wireSpan = me.getValue();
+		return adblResponse;
+	}
 
-			if (null == wireSpan) return null;
+	/**
+	 * Sample the Wires at the specified Y Nodes and build the Tensor-Product Bicubic Surface off the Grid
+	 * 
+	 * @param adblYNode Array of Y Nodes (Strictly Increasing)
+	 * 
+	 * @return The Tensor-Product Bicubic Surface
+	 */
 
-			try {
-				double dblLeftY = wireSpan.left();
+	public org.drip.spline.multidimensional.TensorBicubicSurface tensorBicubic (
+		final double[] adblYNode)
+	{
+		if (null == adblYNode || 2 > adblYNode.length || 2 > _adblWireX.length) return null;
 
-				double dblRightY = wireSpan.right();
+		double[][] aadblZ = new double[_adblWireX.length][adblYNode.length];
 
-				if (dblYAnchor <= dblLeftY)
-					adblZ[i++] = wireSpan.calcResponseValue (dblLeftY);
-				else if (dblYAnchor >= dblRightY)
-					adblZ[i++] = wireSpan.calcResponseValue (dblRightY);
-				else
-					adblZ[i++] = wireSpan.calcResponseValue (dblYAnchor);
-			} catch (java.lang.Exception e) {
-				e.printStackTrace();
+		try {
+			for (int i = 0; i < _adblWireX.length; ++i) {
+				for (int j = 0; j < adblYNode.length; ++j) {
+					double dblY = adblYNode[j] <= _adblWireLeftY[i] ? _adblWireLeftY[i] : (adblYNode[j] >=
+						_adblWireRightY[i] ? _adblWireRightY[i] : adblYNode[j]);
 
-				return null;
+					aadblZ[i][j] = _aWireSpan[i].calcResponseValue (dblY);
+				}
 			}
+
+			return new org.drip.spline.multidimensional.TensorBicubicSurface (_adblWireX, adblYNode, aadblZ);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
 		}
 
+		return null;
+	}
+
+	/**
+	 * Retrieve the Surface Span Stretch that corresponds to the given Y Anchor
+	 * 
+	 * @param dblYAnchor Y Anchor
+	 * 
+	 * @return The Surface Span Stretch Instance
+	 */
+
+	public org.drip.spline.grid.Span wireSpanYAnchor (
+		final double dblYAnchor)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblYAnchor)) return null;
+
 		try {
-			return new org.drip.spline.grid.OverlappingStretchSpan
-				(org.drip.spline.stretch.MultiSegmentSequenceBuilder.CreateCalibratedStretchEstimator
-					("org.drip.spline.multidimensional.WireSurfaceStretch@" +
-						org.drip.quant.common.StringUtil.GUID(), adblX, adblZ, aSCBC, null,
-							org.drip.spline.stretch.BoundarySettings.NaturalStandard(),
-								org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE));
+			return new org.drip.spline.grid.OverlappingStretchSpan (calibrateCrossSection (dblYAnchor));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
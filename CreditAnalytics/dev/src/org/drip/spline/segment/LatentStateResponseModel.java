@@ -86,9 +86,12 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 
 	private double[] _adblResponseBasisCoeff = null;
 	private org.drip.spline.segment.BasisEvaluator _be = null;
-	private double[][] _aadblDResponseBasisCoeffDConstraint = null;
+	private double[] _adblStateDesignLayout = null;
+	private double[] _adblSensitivityDesignLayout = null;
 	private org.drip.spline.params.SegmentInelasticDesignControl _sidc = null;
+	private org.drip.quant.linearalgebra.LUFactorization _luStateDesign = null;
 	private org.drip.quant.calculus.WengertJacobian _wjDBasisCoeffDEdgeValue = null;
+	private org.drip.quant.linearalgebra.LUFactorization _luSensitivityDesign = null;
 
 	private
 		org.drip.analytics.support.CaseInsensitiveHashMap<org.drip.spline.segment.LatentStateManifestSensitivity>
@@ -180,6 +183,102 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 			throw new java.lang.Exception ("LatentStateResponseModel ctr: Invalid inputs!");
 	}
 
+	/*
+	 * The Design Layout captures everything the Coefficient Constraint Matrix depends on - the Constraint
+	 * 	Counts, the Predictor Ordinates, the Flexure Constraint Weights, and the Best Fit Ordinates/Weights.
+	 * 	The Response Values, the Constraint Values, and the Edge Derivatives only enter the RHS.
+	 */
+
+	private double[] designLayout (
+		final double[] adblPredictorOrdinate,
+		final org.drip.spline.params.SegmentBasisFlexureConstraint[] aSBFC,
+		final int iNumConstraint,
+		final int iNumLeftDeriv,
+		final int iNumRightDeriv,
+		final org.drip.spline.params.SegmentBestFitResponse sbfr)
+		throws java.lang.Exception
+	{
+		int iNumResponseBasisCoeff = _adblResponseBasisCoeff.length;
+		int iNumBestFitPoint = null == sbfr ? 0 : sbfr.numPoint();
+		int iNumPredictorOrdinate = null == adblPredictorOrdinate ? 0 : adblPredictorOrdinate.length;
+		double[] adblLayout = new double[5 + iNumPredictorOrdinate + iNumConstraint * iNumResponseBasisCoeff
+			+ 2 * iNumBestFitPoint];
+		adblLayout[0] = iNumPredictorOrdinate;
+		adblLayout[1] = iNumConstraint;
+		adblLayout[2] = iNumLeftDeriv;
+		adblLayout[3] = iNumRightDeriv;
+		adblLayout[4] = iNumBestFitPoint;
+		int iLayoutIndex = 5;
+
+		for (int l = 0; l < iNumPredictorOrdinate; ++l)
+			adblLayout[iLayoutIndex++] = adblPredictorOrdinate[l];
+
+		for (int l = 0; l < iNumConstraint; ++l) {
+			double[] adblCalibBasisConstraintWeight = aSBFC[l].responseBasisCoeffWeights();
+
+			for (int i = 0; i < iNumResponseBasisCoeff; ++i)
+				adblLayout[iLayoutIndex++] = adblCalibBasisConstraintWeight[i];
+		}
+
+		for (int l = 0; l < iNumBestFitPoint; ++l) {
+			adblLayout[iLayoutIndex++] = sbfr.predictorOrdinate (l);
+
+			adblLayout[iLayoutIndex++] = sbfr.weight (l);
+		}
+
+		return adblLayout;
+	}
+
+	private org.drip.quant.linearalgebra.LUFactorization designFactorization (
+		final double[] adblLayout,
+		final double[] adblPredictorOrdinate,
+		final org.drip.spline.params.SegmentBasisFlexureConstraint[] aSBFC,
+		final int iNumConstraint,
+		final int iNumLeftDeriv,
+		final int iNumRightDeriv,
+		final org.drip.spline.segment.BestFitFlexurePenalizer bffp)
+		throws java.lang.Exception
+	{
+		if (null != _luStateDesign && java.util.Arrays.equals (adblLayout, _adblStateDesignLayout))
+			return _luStateDesign;
+
+		if (null != _luSensitivityDesign && java.util.Arrays.equals (adblLayout,
+			_adblSensitivityDesignLayout))
+			return _luSensitivityDesign;
+
+		int iNumResponseBasisCoeff = _adblResponseBasisCoeff.length;
+		int iNumPredictorOrdinate = null == adblPredictorOrdinate ? 0 : adblPredictorOrdinate.length;
+		double[][] aadblResponseBasisCoeffConstraint = new
+			double[iNumResponseBasisCoeff][iNumResponseBasisCoeff];
+
+		for (int i = 0; i < iNumResponseBasisCoeff; ++i) {
+			for (int l = 0; l < iNumResponseBasisCoeff; ++l) {
+				double[] adblCalibBasisConstraintWeight = null;
+
+				if (0 != iNumConstraint && (l >= iNumPredictorOrdinate && l < iNumPredictorOrdinate +
+					iNumConstraint))
+					adblCalibBasisConstraintWeight = aSBFC[l -
+					    iNumPredictorOrdinate].responseBasisCoeffWeights();
+
+				if (l < iNumPredictorOrdinate)
+					aadblResponseBasisCoeffConstraint[l][i] = _be.shapedBasisFunctionResponse
+						(adblPredictorOrdinate[l], i);
+				else if (l < iNumPredictorOrdinate + iNumConstraint)
+					aadblResponseBasisCoeffConstraint[l][i] = adblCalibBasisConstraintWeight[i];
+				else if (l < iNumPredictorOrdinate + iNumConstraint + iNumLeftDeriv)
+					aadblResponseBasisCoeffConstraint[l][i] = _be.shapedBasisFunctionDerivative (left(), l -
+						iNumPredictorOrdinate - iNumConstraint + 1, i);
+				else if (l < iNumPredictorOrdinate + iNumConstraint + iNumLeftDeriv + iNumRightDeriv)
+					aadblResponseBasisCoeffConstraint[l][i] = _be.shapedBasisFunctionDerivative (right(), l -
+						iNumPredictorOrdinate - iNumConstraint - iNumLeftDeriv + 1, i);
+				else
+					aadblResponseBasisCoeffConstraint[l][i] = bffp.basisPairConstraintCoefficient (i, l);
+			}
+		}
+
+		return org.drip.quant.linearalgebra.LUFactorization.Factorize (aadblResponseBasisCoeffConstraint);
+	}
+
 	private double[] DResponseDBasisCoeff (
 		final double dblPredictorOrdinate,
 		final int iOrder)
@@ -323,7 +422,9 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 	}
 
 	/**
-	 * Main Calibrator: Calibrate the Segment State from the Calibration Parameter Set
+	 * Main Calibrator: Calibrate the Segment State from the Calibration Parameter Set. The Factored
+	 * 	Coefficient Constraint Matrix is re-used across Calls sharing the same Design Layout, so only the
+	 * 	Right Hand Side is re-built and back-substituted.
 	 * 
 	 * @param ssciState The Segment State Calibration Inputs Set
 	 * 
@@ -353,8 +454,6 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 		int iNumRightDeriv = null == adblRightEdgeDeriv ? 0 : adblRightEdgeDeriv.length;
 		double[] adblPredictorResponseConstraintValue = new double[iNumResponseBasisCoeff];
 		int iNumPredictorOrdinate = null == adblPredictorOrdinate ? 0 : adblPredictorOrdinate.length;
-		double[][] aadblResponseBasisCoeffConstraint = new
-			double[iNumResponseBasisCoeff][iNumResponseBasisCoeff];
 
 		if (null != aSBFC) {
 			int iNumPotentialConstraint = aSBFC.length;
@@ -367,6 +466,9 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 		if (iNumResponseBasisCoeff < iNumPredictorOrdinate + iNumLeftDeriv + iNumRightDeriv + iNumConstraint)
 			return false;
 
+		double[] adblLayout = null;
+		org.drip.quant.linearalgebra.LUFactorization luDesign = null;
+
 		try {
 			org.drip.spline.segment.BestFitFlexurePenalizer bffp = new
 				org.drip.spline.segment.BestFitFlexurePenalizer (this, _sidc.curvaturePenaltyControl(),
@@ -388,56 +490,25 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 					adblPredictorResponseConstraintValue[j] = bffp.basisPairPenaltyConstraint (j);
 			}
 
-			for (int i = 0; i < iNumResponseBasisCoeff; ++i) {
-				for (int l = 0; l < iNumResponseBasisCoeff; ++l) {
-					double[] adblCalibBasisConstraintWeight = null;
-
-					if (0 != iNumConstraint && (l >= iNumPredictorOrdinate && l < iNumPredictorOrdinate +
-						iNumConstraint))
-						adblCalibBasisConstraintWeight = aSBFC[l -
-						    iNumPredictorOrdinate].responseBasisCoeffWeights();
-
-					if (l < iNumPredictorOrdinate)
-						aadblResponseBasisCoeffConstraint[l][i] = _be.shapedBasisFunctionResponse
-							(adblPredictorOrdinate[l], i);
-					else if (l < iNumPredictorOrdinate + iNumConstraint)
-						aadblResponseBasisCoeffConstraint[l][i] = adblCalibBasisConstraintWeight[i];
-					else if (l < iNumPredictorOrdinate + iNumConstraint + iNumLeftDeriv)
-						aadblResponseBasisCoeffConstraint[l][i] = _be.shapedBasisFunctionDerivative (left(),
-							l - iNumPredictorOrdinate - iNumConstraint + 1, i);
-					else if (l < iNumPredictorOrdinate + iNumConstraint + iNumLeftDeriv + iNumRightDeriv)
-						aadblResponseBasisCoeffConstraint[l][i] = _be.shapedBasisFunctionDerivative
-							(right(), l - iNumPredictorOrdinate - iNumConstraint - iNumLeftDeriv + 1, i);
-					else
-						aadblResponseBasisCoeffConstraint[l][i] = bffp.basisPairConstraintCoefficient (i, l);
-				}
-			}
+			luDesign = designFactorization (adblLayout = designLayout (adblPredictorOrdinate, aSBFC,
+				iNumConstraint, iNumLeftDeriv, iNumRightDeriv, sbfr), adblPredictorOrdinate, aSBFC,
+					iNumConstraint, iNumLeftDeriv, iNumRightDeriv, bffp);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 
 			return false;
 		}
 
-		org.drip.quant.linearalgebra.LinearizationOutput lo =
-			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingMatrixInversion
-				(aadblResponseBasisCoeffConstraint, adblPredictorResponseConstraintValue);
+		if (null == luDesign) return false;
 
-		if (null == lo) return false;
+		_luStateDesign = luDesign;
+		_adblStateDesignLayout = adblLayout;
+		double[] adblCalibResponseBasisCoeff = new double[iNumResponseBasisCoeff];
 
-		double[] adblCalibResponseBasisCoeff = lo.getTransformedRHS();
+		if (!luDesign.solve (adblPredictorResponseConstraintValue, adblCalibResponseBasisCoeff)) return false;
 
-		if (null == adblCalibResponseBasisCoeff || adblCalibResponseBasisCoeff.length !=
-			iNumResponseBasisCoeff || null == (_aadblDResponseBasisCoeffDConstraint =
-				lo.getTransformedMatrix()) || _aadblDResponseBasisCoeffDConstraint.length !=
-					iNumResponseBasisCoeff || _aadblDResponseBasisCoeffDConstraint[0].length !=
-						iNumResponseBasisCoeff)
-			return false;
-
-		for (int i = 0; i < iNumResponseBasisCoeff; ++i) {
-			if (!org.drip.quant.common.NumberUtil.IsValid (_adblResponseBasisCoeff[i] =
-				adblCalibResponseBasisCoeff[i]))
-				return false;
-		}
+		for (int i = 0; i < iNumResponseBasisCoeff; ++i)
+			_adblResponseBasisCoeff[i] = adblCalibResponseBasisCoeff[i];
 
 		return true;
 	}
@@ -479,8 +550,6 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 			adblLeftEdgeDerivManifestSensitivity.length;
 		int iNumRightDerivManifestSensitivity = null == adblRightEdgeDerivManifestSensitivity ? 0 :
 			adblRightEdgeDerivManifestSensitivity.length;
-		double[][] aadblResponseCoeffConstraintManifestSensitivity = new
-			double[iNumResponseBasisCoeff][iNumResponseBasisCoeff];
 
 		if (null != aSBFCState) {
 			int iNumPotentialConstraint = aSBFCState.length;
@@ -533,47 +602,26 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 						bffpManifestSensitivity.basisPairPenaltyConstraint (j);
 			}
 
-			for (int i = 0; i < iNumResponseBasisCoeff; ++i) {
-				for (int l = 0; l < iNumResponseBasisCoeff; ++l) {
-					double[] adblCalibBasisConstraintWeight = null;
-
-					if (0 != iNumConstraint && (l >= iNumPredictorOrdinate && l < iNumPredictorOrdinate +
-						iNumConstraint))
-						adblCalibBasisConstraintWeight = aSBFCState[l -
-						    iNumPredictorOrdinate].responseBasisCoeffWeights();
-
-					if (l < iNumPredictorOrdinate)
-						aadblResponseCoeffConstraintManifestSensitivity[l][i] =
-							_be.shapedBasisFunctionResponse (adblPredictorOrdinate[l], i);
-					else if (l < iNumPredictorOrdinate + iNumConstraint)
-						aadblResponseCoeffConstraintManifestSensitivity[l][i] =
-							adblCalibBasisConstraintWeight[i];
-					else if (l < iNumPredictorOrdinate + iNumConstraint + iNumLeftDerivManifestSensitivity)
-						aadblResponseCoeffConstraintManifestSensitivity[l][i] =
-							_be.shapedBasisFunctionDerivative (left(), l - iNumPredictorOrdinate -
-								iNumConstraint + 1, i);
-					else if (l < iNumPredictorOrdinate + iNumConstraint + iNumLeftDerivManifestSensitivity +
-						iNumRightDerivManifestSensitivity)
-						aadblResponseCoeffConstraintManifestSensitivity[l][i] =
-							_be.shapedBasisFunctionDerivative (right(), l - iNumPredictorOrdinate -
-								iNumConstraint - iNumLeftDerivManifestSensitivity + 1, i);
-					else
-						aadblResponseCoeffConstraintManifestSensitivity[l][i] =
-							bffpManifestSensitivity.basisPairConstraintCoefficient (i, l);
-				}
+			double[] adblLayout = designLayout (adblPredictorOrdinate, aSBFCState, iNumConstraint,
+				iNumLeftDerivManifestSensitivity, iNumRightDerivManifestSensitivity, sbfrManifestSensitivity);
+
+			org.drip.quant.linearalgebra.LUFactorization luDesign = designFactorization (adblLayout,
+				adblPredictorOrdinate, aSBFCState, iNumConstraint, iNumLeftDerivManifestSensitivity,
+					iNumRightDerivManifestSensitivity, bffpManifestSensitivity);
+
+			if (null == luDesign) return null;
+
+			if (luDesign != _luStateDesign) {
+				_luSensitivityDesign = luDesign;
+				_adblSensitivityDesignLayout = adblLayout;
 			}
+
+			return luDesign.solve (adblPredictorResponseManifestSensitivityConstraint);
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
-
-			return null;
 		}
 
-		org.drip.quant.linearalgebra.LinearizationOutput lo =
-			org.drip.quant.linearalgebra.LinearSystemSolver.SolveUsingMatrixInversion
-				(aadblResponseCoeffConstraintManifestSensitivity,
-					adblPredictorResponseManifestSensitivityConstraint);
-
-		return null == lo ? null : lo.getTransformedRHS();
+		return null;
 	}
 
 	/**
@@ -1282,14 +1330,17 @@ public class LatentStateResponseModel extends org.drip.spline.segment.LatentStat
 				return _wjDBasisCoeffDEdgeValue = null;
 		}
 
-		if (null == _aadblDResponseBasisCoeffDConstraint) return null;
+		double[][] aadblDResponseBasisCoeffDConstraint = null == _luStateDesign ? null :
+			_luStateDesign.inverse();
+
+		if (null == aadblDResponseBasisCoeffDConstraint) return null;
 
-		int iSize = _aadblDResponseBasisCoeffDConstraint.length;
+		int iSize = aadblDResponseBasisCoeffDConstraint.length;
 
 		for (int i = 0; i < iSize; ++i) {
 			for (int j = 0; j < iSize; ++j) {
 				if (!_wjDBasisCoeffDEdgeValue.accumulatePartialFirstDerivative (i, j,
-					_aadblDResponseBasisCoeffDConstraint[i][j]))
+					aadblDResponseBasisCoeffDConstraint[i][j]))
 					return null;
 			}
 		}
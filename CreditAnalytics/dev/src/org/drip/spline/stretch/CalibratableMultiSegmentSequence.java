@@ -45,6 +45,12 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.definiti
 	private static final int MINIMA_PREDICTOR_ORDINATE_NODE = 2;
 	private static final int MONOTONE_PREDICTOR_ORDINATE_NODE = 4;
 
+	/*
+	 * Relative Tolerance on the Boundary Residual at the Linearly Solved Left Slope
+	 */
+
+	private static final double LINEAR_BOUNDARY_RESIDUAL_TOLERANCE = 1.e-08;
+
 	private java.lang.String _strName = "";
 	private org.drip.spline.stretch.SegmentSequenceBuilder _ssb = null;
 	private org.drip.spline.segment.LatentStateResponseModel[] _aLSRM = null;
@@ -75,6 +81,37 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.definiti
 			wjDCoeffDEdgeParams.firstDerivative (3, iParameterIndex));
 	}
 
+	/*
+	 * The Segment Coefficients are linear in the Left Slope for the Linear Basis Sets, and so is the Boundary
+	 * 	Residual. Two Sequence Calibrations fix the Affine Residual, and the Third calibrates the Sequence at
+	 * 	its Root. The Residual at the Root confirms the Linearity - if it does not vanish, the Caller falls
+	 * 	back to the Root Search.
+	 */
+
+	private boolean calibrateLinearBoundary()
+	{
+		try {
+			double dblResidualAtZeroSlope = evaluate (0.);
+
+			double dblResidualAtUnitSlope = evaluate (1.);
+
+			double dblResidualSlope = dblResidualAtUnitSlope - dblResidualAtZeroSlope;
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblResidualSlope) || 0. == dblResidualSlope)
+				return false;
+
+			double dblResidual = evaluate (-1. * dblResidualAtZeroSlope / dblResidualSlope);
+
+			return org.drip.quant.common.NumberUtil.IsValid (dblResidual) && java.lang.Math.abs (dblResidual)
+				<= LINEAR_BOUNDARY_RESIDUAL_TOLERANCE * java.lang.Math.max (1., java.lang.Math.max
+					(java.lang.Math.abs (dblResidualAtZeroSlope), java.lang.Math.abs
+						(dblResidualAtUnitSlope)));
+		} catch (java.lang.Exception e) {
+		}
+
+		return false;
+	}
+
 	private final org.drip.quant.calculus.WengertJacobian setDResponseDEdgeResponse (
 		final int iNodeIndex,
 		final org.drip.quant.calculus.WengertJacobian wjDResponseDEdgeParams)
@@ -168,9 +205,9 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.definiti
 				!_ssb.manifestMeasureSensitivity (0.))
 				return false;
 		} else if (0 != (org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE & iCalibrationDetail)) {
-			org.drip.function.solverR1ToR1.FixedPointFinderOutput fpop = null;
+			if (!calibrateLinearBoundary()) {
+				org.drip.function.solverR1ToR1.FixedPointFinderOutput fpop = null;
 
-			if (null == fpop || !fpop.containsRoot()) {
 				try {
 					fpop = new org.drip.function.solverR1ToR1.FixedPointFinderZheng (0., this,
 						true).findRoot();
@@ -179,14 +216,15 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.definiti
 
 					return false;
 				}
-			}
 
-			if (null == fpop || !org.drip.quant.common.NumberUtil.IsValid (fpop.getRoot()) ||
-				!_ssb.manifestMeasureSensitivity (0.)) {
-				System.out.println ("FPOP: " + fpop);
+				if (null == fpop || !org.drip.quant.common.NumberUtil.IsValid (fpop.getRoot())) {
+					System.out.println ("FPOP: " + fpop);
 
-				return false;
+					return false;
+				}
 			}
+
+			if (!_ssb.manifestMeasureSensitivity (0.)) return false;
 		}
 
 		if (0 != (org.drip.spline.stretch.MultiSegmentSequence.CALIBRATE_JACOBIAN & iCalibrationDetail)) {
@@ -702,9 +740,21 @@ public class CalibratableMultiSegmentSequence extends org.drip.function.definiti
 			throw new java.lang.Exception
 				("CalibratableMultiSegmentSequence::containingIndex => Predictor Ordinate not in the Stretch Range");
 
+		int iLow = 0;
 		int iNumSegment = _aLSRM.length;
+		int iHigh = iNumSegment - 1;
+
+		while (iLow < iHigh) {
+			int iMid = (iLow + iHigh) >>> 1;
+
+			if (bIncludeRight ? _aLSRM[iMid].right() >= dblPredictorOrdinate : _aLSRM[iMid].right() >
+				dblPredictorOrdinate)
+				iHigh = iMid;
+			else
+				iLow = iMid + 1;
+		}
 
-		for (int i = 0 ; i < iNumSegment; ++i) {
+		for (int i = iLow; i < iNumSegment; ++i) {
 			boolean bLeftValid = bIncludeLeft ? _aLSRM[i].left() <= dblPredictorOrdinate : _aLSRM[i].left() <
 				dblPredictorOrdinate;
 
@@ -31,12 +31,15 @@ package org.drip.state.curve;
 
 /**
  * BasisSplineMarketSurface implements the Market surface that holds the latent state's Dynamics parameters.
+ * 	The Nodes are read off of the Wire Surface Stretch, or - if one is supplied - off of the Tensor-Product
+ * 	Bicubic Surface sampled from it; the Anchor Term Structures are always taken off of the Wires.
  *
  * @author Lakshmi Krishnamurthy
  */
 
 public class BasisSplineMarketSurface extends org.drip.analytics.definition.MarketSurface {
 	private org.drip.spline.multidimensional.WireSurfaceStretch _wss = null;
+	private org.drip.spline.multidimensional.TensorBicubicSurface _tbs = null;
 	private org.drip.param.valuation.CollateralizationParams _collatParams = null;
 
 	/**
@@ -58,13 +61,50 @@ public class BasisSplineMarketSurface extends org.drip.analytics.definition.Mark
 		final org.drip.spline.multidimensional.WireSurfaceStretch wss,
 		final org.drip.param.valuation.CollateralizationParams collatParams)
 		throws java.lang.Exception
+	{
+		this (dblEpochDate, label, strCurrency, wss, null, collatParams);
+	}
+
+	/**
+	 * BasisSplineMarketSurface Constructor
+	 * 
+	 * @param dblEpochDate The Starting Date
+	 * @param label The Spline Market Surface Latent State Label
+	 * @param strCurrency The Currency
+	 * @param wss Wire Surface Stretch Instance
+	 * @param tbs Tensor-Product Bicubic Surface the Nodes are read off of (NULL => Read off of the Wires)
+	 * @param collatParams Collateral Parameters
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public BasisSplineMarketSurface (
+		final double dblEpochDate,
+		final org.drip.state.identifier.CustomMetricLabel label,
+		final java.lang.String strCurrency,
+		final org.drip.spline.multidimensional.WireSurfaceStretch wss,
+		final org.drip.spline.multidimensional.TensorBicubicSurface tbs,
+		final org.drip.param.valuation.CollateralizationParams collatParams)
+		throws java.lang.Exception
 	{
 		super (dblEpochDate, label, strCurrency);
 
 		_wss = wss;
+		_tbs = tbs;
 		_collatParams = collatParams;
 	}
 
+	/**
+	 * Retrieve the Tensor-Product Bicubic Surface the Nodes are read off of
+	 * 
+	 * @return The Tensor-Product Bicubic Surface (NULL => The Nodes are read off of the Wires)
+	 */
+
+	public org.drip.spline.multidimensional.TensorBicubicSurface tensorBicubic()
+	{
+		return _tbs;
+	}
+
 	@Override public org.drip.param.valuation.CollateralizationParams collateralParams()
 	{
 		return _collatParams;
@@ -75,7 +115,28 @@ public class BasisSplineMarketSurface extends org.drip.analytics.definition.Mark
 		final double dblDate)
 		throws java.lang.Exception
 	{
-		return _wss.responseValue (dblStrike, dblDate);
+		return null == _tbs ? _wss.responseValue (dblStrike, dblDate) : _tbs.responseValue (dblStrike,
+			dblDate);
+	}
+
+	/**
+	 * Compute the Surface Nodes for a Batch of Strike/Date Pairs
+	 * 
+	 * @param adblStrike Array of Strikes
+	 * @param adblDate Array of Dates
+	 * 
+	 * @return The Array of Surface Nodes
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public double[] node (
+		final double[] adblStrike,
+		final double[] adblDate)
+		throws java.lang.Exception
+	{
+		return null == _tbs ? _wss.responseValue (adblStrike, adblDate) : _tbs.responseValue (adblStrike,
+			adblDate);
 	}
 
 	@Override public org.drip.analytics.definition.TermStructure xAnchorTermStructure (
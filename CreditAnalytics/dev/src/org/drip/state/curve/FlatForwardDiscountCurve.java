@@ -42,6 +42,7 @@ package org.drip.state.curve;
  *  - Retrieve Array of the Calibration Components
  *  - Retrieve the Curve Construction Input Set
  *  - Compute the Jacobian of the Discount Factor Latent State to the input Quote
+ *  - Record the Discount Factor on an Adjoint Tape as a Function of the Forward Rate Nodes
  *  - Synthesize scenario Latent State by parallel shifting/custom tweaking the quantification metric
  *  - Synthesize scenario Latent State by parallel/custom shifting/custom tweaking the manifest measure
  *  - Serialize into and de-serialize out of byte array
@@ -49,9 +50,13 @@ package org.drip.state.curve;
  * @author Lakshmi Krishnamurthy
  */
 
-public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitBootDiscountCurve {
+public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitBootDiscountCurve
+	implements org.drip.quant.calculus.AdjointNodeResponse {
+	private int _aiDate[] = null;
 	private double _adblDate[] = null;
 	private int _iCompoundingFreq = -1;
+	private double _adblNodeDFPrefix[] = null;
+	private double _adblNodeYearFraction[] = null;
 	private double _adblForwardRate[] = null;
 	private boolean _bDiscreteCompounding = false;
 	private java.lang.String _strCompoundingDayCount = "";
@@ -66,6 +71,65 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 				365.25;
 	}
 
+	private void initNodeYearFraction()
+		throws java.lang.Exception
+	{
+		int iNumDate = _adblDate.length;
+		double dblStartDate = _dblEpochDate;
+		_aiDate = new int[iNumDate];
+		_adblNodeYearFraction = new double[iNumDate];
+
+		for (int i = 0; i < iNumDate; ++i) {
+			_aiDate[i] = (int) _adblDate[i];
+
+			_adblNodeYearFraction[i] = yearFract (dblStartDate, _adblDate[i]);
+
+			dblStartDate = _adblDate[i];
+		}
+	}
+
+	/*
+	 * The Prefix holds the Discount Factor (Discrete Compounding) or the Exponent (Continuous Compounding)
+	 * 	accumulated over the first i Node Segments - in the same Order of Operations as a Segment Walk.
+	 */
+
+	private void integrateForward()
+	{
+		int iNumDate = _adblDate.length;
+
+		if (null == _adblNodeDFPrefix) _adblNodeDFPrefix = new double[iNumDate + 1];
+
+		_adblNodeDFPrefix[0] = _bDiscreteCompounding ? 1. : 0.;
+
+		for (int i = 0; i < iNumDate; ++i) {
+			if (_bDiscreteCompounding)
+				_adblNodeDFPrefix[i + 1] = _adblNodeDFPrefix[i] * java.lang.Math.pow (1. + (_adblForwardRate[i]
+					/ _iCompoundingFreq), _adblNodeYearFraction[i] * _iCompoundingFreq);
+			else
+				_adblNodeDFPrefix[i + 1] = _adblNodeDFPrefix[i] - _adblForwardRate[i] *
+					_adblNodeYearFraction[i];
+		}
+	}
+
+	private int nodesOnOrBefore (
+		final double dblDate)
+	{
+		int iLow = 0;
+		int iDate = (int) dblDate;
+		int iHigh = _aiDate.length;
+
+		while (iLow < iHigh) {
+			int iMid = (iLow + iHigh) >>> 1;
+
+			if (iDate >= _aiDate[iMid])
+				iLow = iMid + 1;
+			else
+				iHigh = iMid;
+		}
+
+		return iLow;
+	}
+
 	private FlatForwardDiscountCurve shiftManifestMeasure (
 		final double[] adblShift)
 	{
@@ -164,6 +228,10 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 			_adblDate[i] = adblDate[i];
 			_adblForwardRate[i] = adblForwardRate[i];
 		}
+
+		initNodeYearFraction();
+
+		integrateForward();
 	}
 
 	protected FlatForwardDiscountCurve (
@@ -172,13 +240,17 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 	{
 		super (dc.epoch().julian(), dc.currency(), dc.collateralParams());
 
+		_aiDate = dc._aiDate;
 		_adblDate = dc._adblDate;
 		_strCurrency = dc._strCurrency;
 		_dblEpochDate = dc._dblEpochDate;
-		_adblForwardRate = dc._adblForwardRate;
 		_iCompoundingFreq = dc._iCompoundingFreq;
+		_adblForwardRate = dc._adblForwardRate.clone();
 		_bDiscreteCompounding = dc._bDiscreteCompounding;
+		_adblNodeYearFraction = dc._adblNodeYearFraction;
 		_strCompoundingDayCount = dc._strCompoundingDayCount;
+
+		integrateForward();
 	}
 
 	@Override public org.drip.param.valuation.CollateralizationParams collateralParams()
@@ -195,32 +267,20 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 
 		if (dblDate <= _dblEpochDate) return 1.;
 
-		int i = 0;
-		double dblDF = 1.;
-		double dblExpArg = 0.;
-		int iNumDate = _adblDate.length;
-		double dblStartDate = _dblEpochDate;
+		int i = nodesOnOrBefore (dblDate);
 
-		while (i < iNumDate && (int) dblDate >= (int) _adblDate[i]) {
-			if (_bDiscreteCompounding)
-				dblDF *= java.lang.Math.pow (1. + (_adblForwardRate[i] / _iCompoundingFreq), yearFract
-					(dblStartDate, _adblDate[i]) * _iCompoundingFreq);
-			else
-				dblExpArg -= _adblForwardRate[i] * yearFract (dblStartDate, _adblDate[i]);
-
-			dblStartDate = _adblDate[i++];
-		}
+		int iNumDate = _adblDate.length;
+		double dblPrefix = _adblNodeDFPrefix[i];
+		double dblStartDate = 0 == i ? _dblEpochDate : _adblDate[i - 1];
 
 		if (i >= iNumDate) i = iNumDate - 1;
 
 		if (_bDiscreteCompounding)
-			dblDF *= java.lang.Math.pow (1. + (_adblForwardRate[i] / _iCompoundingFreq), yearFract
-				(dblStartDate, dblDate) * _iCompoundingFreq);
-		else
-			dblExpArg -= _adblForwardRate[i] * yearFract (dblStartDate, dblDate);
+			return dblPrefix * java.lang.Math.pow (1. + (_adblForwardRate[i] / _iCompoundingFreq), yearFract
+				(dblStartDate, dblDate) * _iCompoundingFreq) * turnAdjust (_dblEpochDate, dblDate);
 
-		return (_bDiscreteCompounding ? dblDF : java.lang.Math.exp (dblExpArg)) * turnAdjust (_dblEpochDate,
-			dblDate);
+		return java.lang.Math.exp (dblPrefix - _adblForwardRate[i] * yearFract (dblStartDate, dblDate)) *
+			turnAdjust (_dblEpochDate, dblDate);
 	}
 
 	@Override public double forward (
@@ -379,6 +439,11 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 		return org.drip.analytics.definition.LatentStateStatic.DISCOUNT_QM_ZERO_RATE;
 	}
 
+	@Override public double[] forwardNodeDates()
+	{
+		return _adblDate;
+	}
+
 	@Override public org.drip.quant.calculus.WengertJacobian jackDDFDManifestMeasure (
 		final double dblDate,
 		final java.lang.String strManifestMeasure)
@@ -425,6 +490,84 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 			null;
 	}
 
+	@Override public int[] tapeNodes (
+		final org.drip.quant.calculus.AdjointTape tape)
+	{
+		if (null == tape) return null;
+
+		int iNumNode = _adblForwardRate.length;
+		int[] aiNode = new int[iNumNode];
+
+		try {
+			for (int i = 0; i < iNumNode; ++i)
+				aiNode[i] = tape.independent (_adblForwardRate[i]);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		return aiNode;
+	}
+
+	@Override public int tapeResponse (
+		final org.drip.quant.calculus.AdjointTape tape,
+		final int[] aiNode,
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		int iNumDate = _adblDate.length;
+
+		if (null == tape || null == aiNode || iNumDate != aiNode.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblDate))
+			throw new java.lang.Exception ("FlatForwardDiscountCurve::tapeResponse => Invalid Inputs");
+
+		if (dblDate <= _dblEpochDate) return tape.constant (1.);
+
+		/*
+		 * The Exponent is Linear in the Forward Nodes, with the Year Fraction spent in each Node's Segment
+		 * 	as the Weight - the Segments traversed by df are replayed here.
+		 */
+
+		int i = 0;
+		double dblStartDate = _dblEpochDate;
+		double[] adblYearFraction = new double[iNumDate];
+
+		while (i < iNumDate && (int) dblDate >= _aiDate[i]) {
+			adblYearFraction[i] = _adblNodeYearFraction[i];
+
+			dblStartDate = _adblDate[i++];
+		}
+
+		if (i >= iNumDate) i = iNumDate - 1;
+
+		adblYearFraction[i] += yearFract (dblStartDate, dblDate);
+
+		int iDF = -1;
+
+		if (_bDiscreteCompounding) {
+			int[] aiLogAccrual = new int[iNumDate];
+			double[] adblExponent = new double[iNumDate];
+
+			for (int j = 0; j < iNumDate; ++j) {
+				aiLogAccrual[j] = tape.log (tape.affine (aiNode[j], 1. / _iCompoundingFreq, 1.));
+
+				adblExponent[j] = adblYearFraction[j] * _iCompoundingFreq;
+			}
+
+			iDF = tape.exp (tape.linear (aiLogAccrual, adblExponent, 0.));
+		} else {
+			for (int j = 0; j < iNumDate; ++j)
+				adblYearFraction[j] = -1. * adblYearFraction[j];
+
+			iDF = tape.exp (tape.linear (aiNode, adblYearFraction, 0.));
+		}
+
+		double dblTurnAdjust = turnAdjust (_dblEpochDate, dblDate);
+
+		return 1. == dblTurnAdjust ? iDF : tape.affine (iDF, dblTurnAdjust, 0.);
+	}
+
 	@Override public boolean setNodeValue (
 		final int iNodeIndex,
 		final double dblValue)
@@ -435,6 +578,8 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 		for (int i = iNodeIndex; i < _adblForwardRate.length; ++i)
 			_adblForwardRate[i] = dblValue;
 
+		integrateForward();
+
 		return true;
 	}
 
@@ -448,6 +593,8 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 		for (int i = iNodeIndex; i < _adblForwardRate.length; ++i)
 			_adblForwardRate[i] += dblValue;
 
+		integrateForward();
+
 		return true;
 	}
 
@@ -459,6 +606,8 @@ public class FlatForwardDiscountCurve extends org.drip.analytics.rates.ExplicitB
 		for (int i = 0; i < _adblForwardRate.length; ++i)
 			_adblForwardRate[i] = dblValue;
 
+		integrateForward();
+
 		return true;
 	}
 }
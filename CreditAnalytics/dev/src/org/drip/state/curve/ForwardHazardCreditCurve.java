@@ -38,6 +38,7 @@ package org.drip.state.curve;
  *  - Boot Methods - Set/Bump Specific Node Quantification Metric, or Set Flat Value
  *  - Boot Calibration - Initialize Run, Compute Calibration Metric
  *  - Compute the survival probability, recovery rate, or the hazard rate from the Hazard Rate Latent State
+ *  - Record the Survival on an Adjoint Tape as a Function of the Hazard Rate Nodes
  *  - Retrieve Array of the Calibration Components
  *  - Retrieve the Curve Construction Input Set
  *  - Synthesize scenario Latent State by parallel shifting/custom tweaking the quantification metric
@@ -47,11 +48,47 @@ package org.drip.state.curve;
  * @author Lakshmi Krishnamurthy
  */
 
-public class ForwardHazardCreditCurve extends org.drip.analytics.definition.ExplicitBootCreditCurve {
+public class ForwardHazardCreditCurve extends org.drip.analytics.definition.ExplicitBootCreditCurve
+	implements org.drip.quant.calculus.AdjointNodeResponse {
 	private double[] _adblHazardDate = null;
 	private double[] _adblHazardRate = null;
 	private double[] _adblRecoveryDate = null;
 	private double[] _adblRecoveryRate = null;
+	private double[] _adblHazardIntegral = null;
+
+	private void integrateHazard()
+	{
+		double dblStartDate = _dblEpochDate;
+		int iNumNode = _adblHazardRate.length;
+
+		if (null == _adblHazardIntegral) _adblHazardIntegral = new double[iNumNode + 1];
+
+		_adblHazardIntegral[0] = 0.;
+
+		for (int i = 0; i < iNumNode; ++i) {
+			_adblHazardIntegral[i + 1] = _adblHazardIntegral[i] - _adblHazardRate[i] * (_adblHazardDate[i] -
+				dblStartDate);
+			dblStartDate = _adblHazardDate[i];
+		}
+	}
+
+	private int nodesBefore (
+		final double dblDate)
+	{
+		int iLow = 0;
+		int iHigh = _adblHazardDate.length;
+
+		while (iLow < iHigh) {
+			int iMid = (iLow + iHigh) >>> 1;
+
+			if (dblDate > _adblHazardDate[iMid])
+				iLow = iMid + 1;
+			else
+				iHigh = iMid;
+		}
+
+		return iLow;
+	}
 
 	private org.drip.analytics.definition.CreditCurve createFromBaseMMTP (
 		final org.drip.param.definition.ResponseValueTweakParams mmtp)
@@ -122,6 +159,8 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 
 		for (int i = 0; i < adblRecoveryDate.length; ++i)
 			_adblRecoveryDate[i] = adblRecoveryDate[i];
+
+		integrateHazard();
 	}
 
 	@Override public org.drip.param.valuation.CollateralizationParams collateralParams()
@@ -142,14 +181,10 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 			_dblSpecificDefaultDate)
 			return 0.;
 
-		int i = 0;
-		double dblExpArg = 0.;
-		double dblStartDate = _dblEpochDate;
+		int i = nodesBefore (dblDate);
 
-		while (i < _adblHazardRate.length && dblDate > _adblHazardDate[i]) {
-			dblExpArg -= _adblHazardRate[i] * (_adblHazardDate[i] - dblStartDate);
-			dblStartDate = _adblHazardDate[i++];
-		}
+		double dblExpArg = _adblHazardIntegral[i];
+		double dblStartDate = 0 == i ? _dblEpochDate : _adblHazardDate[i - 1];
 
 		if (i >= _adblHazardRate.length) i = _adblHazardRate.length - 1;
 
@@ -158,6 +193,31 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		return java.lang.Math.exp (dblExpArg / 365.25);
 	}
 
+	@Override public double survivalNodeSensitivity (
+		final double dblDate,
+		final int iNodeIndex,
+		final boolean bFlat)
+		throws java.lang.Exception
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblDate) || (!bFlat && 0 > iNodeIndex))
+			throw new java.lang.Exception
+				("ForwardHazardCreditCurve::survivalNodeSensitivity => Invalid Inputs");
+
+		if (!bFlat && iNodeIndex >= _adblHazardRate.length) return 0.;
+
+		/*
+		 * Setting the Node moves the Hazard Rates from the Node onwards, so the Survival Exponent moves by
+		 * 	the Time spent past the Start of the Node's Segment.
+		 */
+
+		double dblNodeStartDate = bFlat || 0 == iNodeIndex ? _dblEpochDate : _adblHazardDate[iNodeIndex -
+			1];
+
+		if (dblDate <= dblNodeStartDate) return 0.;
+
+		return -1. * survival (dblDate) * (dblDate - dblNodeStartDate) / 365.25;
+	}
+
 	@Override public double recovery (
 		final double dblDate)
 		throws java.lang.Exception
@@ -291,6 +351,11 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		return cc;
 	}
 
+	@Override public double[] hazardNodeDates()
+	{
+		return _adblHazardDate;
+	}
+
 	@Override public org.drip.analytics.definition.CreditCurve flatCurve (
 		final double dblFlatNodeValue,
 		final boolean bSingleNode,
@@ -449,6 +514,60 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		return null;
 	}
 
+	@Override public int[] tapeNodes (
+		final org.drip.quant.calculus.AdjointTape tape)
+	{
+		if (null == tape) return null;
+
+		int iNumNode = _adblHazardRate.length;
+		int[] aiNode = new int[iNumNode];
+
+		try {
+			for (int i = 0; i < iNumNode; ++i)
+				aiNode[i] = tape.independent (_adblHazardRate[i]);
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+
+			return null;
+		}
+
+		return aiNode;
+	}
+
+	@Override public int tapeResponse (
+		final org.drip.quant.calculus.AdjointTape tape,
+		final int[] aiNode,
+		final double dblDate)
+		throws java.lang.Exception
+	{
+		int iNumNode = _adblHazardRate.length;
+
+		if (null == tape || null == aiNode || iNumNode != aiNode.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (dblDate))
+			throw new java.lang.Exception ("ForwardHazardCreditCurve::tapeResponse => Invalid Inputs");
+
+		if (dblDate <= _dblEpochDate) return tape.constant (1.);
+
+		if (org.drip.quant.common.NumberUtil.IsValid (_dblSpecificDefaultDate) && dblDate >=
+			_dblSpecificDefaultDate)
+			return tape.constant (0.);
+
+		int i = 0;
+		double dblStartDate = _dblEpochDate;
+		double[] adblWeight = new double[iNumNode];
+
+		while (i < iNumNode && dblDate > _adblHazardDate[i]) {
+			adblWeight[i] = (dblStartDate - _adblHazardDate[i]) / 365.25;
+			dblStartDate = _adblHazardDate[i++];
+		}
+
+		if (i >= iNumNode) i = iNumNode - 1;
+
+		adblWeight[i] += (dblStartDate - dblDate) / 365.25;
+
+		return tape.exp (tape.linear (aiNode, adblWeight, 0.));
+	}
+
 	@Override public boolean setNodeValue (
 		final int iNodeIndex,
 		final double dblValue)
@@ -459,6 +578,8 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		for (int i = iNodeIndex; i < _adblHazardRate.length; ++i)
 			_adblHazardRate[i] = dblValue;
 
+		integrateHazard();
+
 		return true;
 	}
 
@@ -472,6 +593,8 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		for (int i = iNodeIndex; i < _adblHazardRate.length; ++i)
 			_adblHazardRate[i] += dblValue;
 
+		integrateHazard();
+
 		return true;
 	}
 
@@ -483,6 +606,8 @@ public class ForwardHazardCreditCurve extends org.drip.analytics.definition.Expl
 		for (int i = 0; i < _adblHazardRate.length; ++i)
 			_adblHazardRate[i] = dblValue;
 
+		integrateHazard();
+
 		return true;
 	}
 }
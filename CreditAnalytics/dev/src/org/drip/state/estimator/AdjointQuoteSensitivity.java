@@ -0,0 +1,276 @@
+
+package org.drip.state.estimator;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+
+/**
+ * AdjointQuoteSensitivity computes the Sensitivity of a Portfolio of Streams to the Calibration Quotes of a
+ * 	Boot-strapped Funding Curve in a single Backward Sweep, instead of Bumping and Re-calibrating per Quote.
+ * 	The Portfolio Dirty PV is recorded on an AdjointTape off the Curve Nodes (Nodes => DF/Forward => Period
+ * 	Cash Flows => PV), and its Node Adjoint is mapped onto the Quotes through the Transpose of the Inverse
+ * 	Calibration Jacobian, {D(Quote)}/{D(Node)}. The Calibration Jacobian is a Property of the Curve alone - it
+ * 	is constructed and LU factored once, by central differencing the Calibration Instrument Quotes off the
+ * 	Nodes, and is shared by every Portfolio valued off the Curve.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class AdjointQuoteSensitivity {
+	private static final double NODE_DIFFERENCING_SHIFT = 1.e-06;
+
+	private org.drip.analytics.rates.ExplicitBootDiscountCurve _dc = null;
+	private org.drip.quant.linearalgebra.LUFactorization _luQuoteNodeTranspose = null;
+	private org.drip.quant.calculus.WengertJacobian _wjDQuoteDNode = null;
+	private org.drip.quant.calculus.AdjointNodeResponse _anrFunding = null;
+
+	private static final boolean SetNode (
+		final org.drip.analytics.rates.ExplicitBootDiscountCurve dc,
+		final double[] adblNode,
+		final int iNode,
+		final double dblNodeValue)
+	{
+		/*
+		 * setNodeValue sets the Node and every Node after it - the later Nodes are re-instated in Order.
+		 */
+
+		if (!dc.setNodeValue (iNode, dblNodeValue)) return false;
+
+		for (int i = iNode + 1; i < adblNode.length; ++i) {
+			if (!dc.setNodeValue (i, adblNode[i])) return false;
+		}
+
+		return true;
+	}
+
+	private static final double[] CalibrationQuotes (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst,
+		final java.lang.String[] astrCalibMeasure,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams)
+		throws java.lang.Exception
+	{
+		int iNumInstr = aCalibInst.length;
+		double[] adblQuote = new double[iNumInstr];
+
+		for (int i = 0; i < iNumInstr; ++i)
+			adblQuote[i] = aCalibInst[i].measureValue (valParams, new org.drip.param.pricer.CreditPricerParams
+				(1, new org.drip.param.definition.CalibrationParams (astrCalibMeasure[i], 0, null), true, 0),
+					csqs, quotingParams, astrCalibMeasure[i]);
+
+		return adblQuote;
+	}
+
+	/**
+	 * AdjointQuoteSensitivity Constructor
+	 * 
+	 * @param dc The Boot-strapped Funding Curve - it must record its Discount Factors on the Adjoint Tape, and
+	 * 	have one Node per Calibration Instrument. Its Nodes are perturbed and restored during Construction.
+	 * @param valParams The Calibration Valuation Parameters
+	 * @param aCalibInst Array of the Calibration Instruments
+	 * @param astrCalibMeasure Array of the Calibration Measures
+	 * @param lsfc The Latent State Fixings Container
+	 * @param quotingParams The Quoting Parameters
+	 * 
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public AdjointQuoteSensitivity (
+		final org.drip.analytics.rates.ExplicitBootDiscountCurve dc,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.product.definition.CalibratableFixedIncomeComponent[] aCalibInst,
+		final java.lang.String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams)
+		throws java.lang.Exception
+	{
+		if (null == (_dc = dc) || !(dc instanceof org.drip.quant.calculus.AdjointNodeResponse) || null ==
+			valParams || null == aCalibInst || null == astrCalibMeasure || 0 == aCalibInst.length ||
+				aCalibInst.length != astrCalibMeasure.length)
+			throw new java.lang.Exception ("AdjointQuoteSensitivity ctr: Invalid Inputs");
+
+		_anrFunding = (org.drip.quant.calculus.AdjointNodeResponse) dc;
+		org.drip.quant.calculus.AdjointTape tape = new org.drip.quant.calculus.AdjointTape();
+
+		int[] aiNode = _anrFunding.tapeNodes (tape);
+
+		int iNumInstr = aCalibInst.length;
+
+		if (null == aiNode || iNumInstr != aiNode.length)
+			throw new java.lang.Exception ("AdjointQuoteSensitivity ctr: Invalid Inputs");
+
+		double[] adblNode = new double[iNumInstr];
+		double[][] aadblDQuoteDNodeTranspose = new double[iNumInstr][iNumInstr];
+
+		for (int j = 0; j < iNumInstr; ++j)
+			adblNode[j] = tape.value (aiNode[j]);
+
+		org.drip.param.market.CurveSurfaceQuoteSet csqs = org.drip.param.creator.MarketParamsBuilder.Create
+			(dc, null, null, null, null, null, lsfc);
+
+		_wjDQuoteDNode = new org.drip.quant.calculus.WengertJacobian (iNumInstr, iNumInstr);
+
+		double[] adblQuote = CalibrationQuotes (valParams, aCalibInst, astrCalibMeasure, csqs,
+			quotingParams);
+
+		for (int i = 0; i < iNumInstr; ++i) {
+			if (!_wjDQuoteDNode.setWengert (i, adblQuote[i]))
+				throw new java.lang.Exception ("AdjointQuoteSensitivity ctr: Invalid Calibration Quote");
+		}
+
+		try {
+			for (int j = 0; j < iNumInstr; ++j) {
+				if (!SetNode (dc, adblNode, j, adblNode[j] + NODE_DIFFERENCING_SHIFT))
+					throw new java.lang.Exception ("AdjointQuoteSensitivity ctr: Cannot set Node " + j);
+
+				double[] adblQuoteUp = CalibrationQuotes (valParams, aCalibInst, astrCalibMeasure, csqs,
+					quotingParams);
+
+				if (!SetNode (dc, adblNode, j, adblNode[j] - NODE_DIFFERENCING_SHIFT))
+					throw new java.lang.Exception ("AdjointQuoteSensitivity ctr: Cannot set Node " + j);
+
+				double[] adblQuoteDown = CalibrationQuotes (valParams, aCalibInst, astrCalibMeasure,
+					csqs, quotingParams);
+
+				for (int i = 0; i < iNumInstr; ++i) {
+					double dblDQuoteDNode = 0.5 * (adblQuoteUp[i] - adblQuoteDown[i]) /
+						NODE_DIFFERENCING_SHIFT;
+
+					if (!_wjDQuoteDNode.accumulatePartialFirstDerivative (i, j, dblDQuoteDNode))
+						throw new java.lang.Exception
+							("AdjointQuoteSensitivity ctr: Invalid Calibration Jacobian Entry");
+
+					aadblDQuoteDNodeTranspose[j][i] = dblDQuoteDNode;
+				}
+			}
+		} finally {
+			SetNode (dc, adblNode, 0, adblNode[0]);
+		}
+
+		if (null == (_luQuoteNodeTranspose = org.drip.quant.linearalgebra.LUFactorization.Factorize
+			(aadblDQuoteDNodeTranspose)))
+			throw new java.lang.Exception ("AdjointQuoteSensitivity ctr: Singular Calibration Jacobian");
+	}
+
+	/**
+	 * Retrieve the Funding Curve
+	 * 
+	 * @return The Funding Curve
+	 */
+
+	public org.drip.analytics.rates.ExplicitBootDiscountCurve fundingCurve()
+	{
+		return _dc;
+	}
+
+	/**
+	 * Retrieve the Calibration Jacobian {D(Quote)}/{D(Node)}
+	 * 
+	 * @return The Calibration Jacobian
+	 */
+
+	public org.drip.quant.calculus.WengertJacobian jackDQuoteDNode()
+	{
+		return _wjDQuoteDNode;
+	}
+
+	/**
+	 * Compute the Sensitivity of the Weighted Portfolio Dirty PV to the Funding Curve Nodes in a single
+	 * 	Backward Sweep
+	 * 
+	 * @param aStream Array of the Portfolio Streams
+	 * @param adblWeight Array of the Portfolio Weights
+	 * @param valParams The Valuation Parameters
+	 * @param csqs The Market Curve Surface/Quote Set - its Funding Curve must be the Curve of this Instance
+	 * 
+	 * @return The Node Sensitivity
+	 */
+
+	public double[] nodeDelta (
+		final org.drip.product.rates.Stream[] aStream,
+		final double[] adblWeight,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+	{
+		if (null == aStream || null == adblWeight || 0 == aStream.length || aStream.length !=
+			adblWeight.length || null == valParams || null == csqs)
+			return null;
+
+		int iNumStream = aStream.length;
+		int[] aiStreamPV = new int[iNumStream];
+
+		double dblValueDate = valParams.valueDate();
+
+		org.drip.quant.calculus.AdjointTape tape = new org.drip.quant.calculus.AdjointTape();
+
+		int[] aiNode = _anrFunding.tapeNodes (tape);
+
+		if (null == aiNode) return null;
+
+		try {
+			for (int k = 0; k < iNumStream; ++k) {
+				if (null == aStream[k]) return null;
+
+				aiStreamPV[k] = aStream[k].compiledSchedule().tapeDirtyPV (tape, dblValueDate, csqs,
+					_anrFunding, aiNode, null, null);
+			}
+
+			return tape.adjoint (tape.linear (aiStreamPV, adblWeight, 0.));
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Compute the Sensitivity of the Weighted Portfolio Dirty PV to the Calibration Quotes of the Funding
+	 * 	Curve in a single Backward Sweep
+	 * 
+	 * @param aStream Array of the Portfolio Streams
+	 * @param adblWeight Array of the Portfolio Weights
+	 * @param valParams The Valuation Parameters
+	 * @param csqs The Market Curve Surface/Quote Set - its Funding Curve must be the Curve of this Instance
+	 * 
+	 * @return The Quote Sensitivity
+	 */
+
+	public double[] quoteDelta (
+		final org.drip.product.rates.Stream[] aStream,
+		final double[] adblWeight,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs)
+	{
+		double[] adblNodeDelta = nodeDelta (aStream, adblWeight, valParams, csqs);
+
+		if (null == adblNodeDelta) return null;
+
+		return _luQuoteNodeTranspose.solve (adblNodeDelta);
+	}
+}
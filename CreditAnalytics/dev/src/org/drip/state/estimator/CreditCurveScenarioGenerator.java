@@ -76,8 +76,9 @@ public class CreditCurveScenarioGenerator {
 				pricerParams, org.drip.param.creator.MarketParamsBuilder.Credit (dc, cc), null,
 					0.01, dblQuote);
 
-		return new TranslatedQuoteMeasure ("Upfront", null == mapQSMeasures ? null : mapQSMeasures.get
-			("Upfront"));
+		if (null == mapQSMeasures || !mapQSMeasures.containsKey ("Upfront")) return null;
+
+		return new TranslatedQuoteMeasure ("Upfront", mapQSMeasures.get ("Upfront"));
 	}
 
 	private org.drip.product.definition.CalibratableFixedIncomeComponent[] _aCalibInst = null;
@@ -190,6 +191,124 @@ public class CreditCurveScenarioGenerator {
 		return cc;
 	}
 
+	/**
+	 * Construct the Tenor Bump Bootstrapper for the (non-flat) Credit Curve. The Bootstrapper snapshots the
+	 * 	Calibrated Hazard Rate Nodes of the Base Curve, and re-calibrates only the Nodes from the Bumped
+	 * 	Node onwards for each Tenor Bumped Curve.
+	 * 
+	 * @param strName Credit Curve name
+	 * @param valParams ValuationParams
+	 * @param dc Base Discount Curve
+	 * @param dcTSY Treasury Discount Curve
+	 * @param adblQuotes Array of component quotes
+	 * @param dblRecovery Component recovery
+	 * @param astrCalibMeasure Array of the calibration measures
+	 * @param lsfc Latent State Fixings Container
+	 * @param quotingParams Quoting Parameters
+	 * 
+	 * @return The Tenor Bump Bootstrapper
+	 */
+
+	public org.drip.state.estimator.TenorBumpBootstrapper tenorBumpBootstrapper (
+		final java.lang.String strName,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final double dblRecovery,
+		final java.lang.String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams)
+	{
+		if (null == strName || null == adblQuotes || null == astrCalibMeasure || null == valParams || null ==
+			dc || adblQuotes.length != astrCalibMeasure.length || _aCalibInst.length !=
+				astrCalibMeasure.length || !org.drip.quant.common.NumberUtil.IsValid (dblRecovery))
+			return null;
+
+		boolean bTranslateQuote = false;
+		final int iNumInstr = _aCalibInst.length;
+		final double[] adblDate = new double[iNumInstr];
+
+		for (int i = 0; i < iNumInstr; ++i) {
+			adblDate[i] = _aCalibInst[i].maturityDate().julian();
+
+			if (_aCalibInst[i] instanceof org.drip.product.definition.CreditDefaultSwap &&
+				("FlatSpread".equalsIgnoreCase (astrCalibMeasure[i]) || "QuotedSpread".equalsIgnoreCase
+					(astrCalibMeasure[i])))
+				bTranslateQuote = true;
+		}
+
+		/*
+		 * The Quoted Spread Translation temporarily resets the Coupons of the Calibration CDS, so the Curves
+		 * 	may then only be calibrated one at a time.
+		 */
+
+		final boolean bParallelSafe = !bTranslateQuote;
+
+		final org.drip.param.pricer.CreditPricerParams pricerParams = new
+			org.drip.param.pricer.CreditPricerParams (7, null, false,
+				org.drip.param.pricer.CreditPricerParams.PERIOD_DISCRETIZATION_DAY_STEP);
+
+		try {
+			final org.drip.analytics.date.JulianDate dtStart = new org.drip.analytics.date.JulianDate
+				(valParams.valueDate());
+
+			return new org.drip.state.estimator.TenorBumpBootstrapper (adblQuotes) {
+				@Override protected org.drip.analytics.definition.ExplicitBootCurve initialCurve()
+				{
+					double[] adblHazardRate = new double[iNumInstr];
+
+					for (int i = 0; i < iNumInstr; ++i)
+						adblHazardRate[i] = java.lang.Double.NaN;
+
+					return org.drip.state.creator.CreditCurveBuilder.CreateCreditCurve (dtStart, strName,
+						dc.currency(), adblDate, adblHazardRate, dblRecovery);
+				}
+
+				@Override protected double calibrateNode (
+					final org.drip.analytics.definition.ExplicitBootCurve ebc,
+					final int iNode,
+					final double dblQuote)
+					throws java.lang.Exception
+				{
+					org.drip.analytics.definition.ExplicitBootCreditCurve cc =
+						(org.drip.analytics.definition.ExplicitBootCreditCurve) ebc;
+
+					TranslatedQuoteMeasure tqm = translateQuoteMeasure (_aCalibInst[iNode], valParams,
+						pricerParams, dc, cc, astrCalibMeasure[iNode], dblQuote);
+
+					if (null == tqm)
+						throw new java.lang.Exception
+							("CreditCurveScenarioGenerator::calibrateNode => Cannot translate Quote Measure "
+								+ astrCalibMeasure[iNode] + " for Node " + iNode);
+
+					return _compCalib.calibrateHazardRateNode (cc, _aCalibInst[iNode], iNode, valParams, dc,
+						dcTSY, pricerParams, tqm._strMeasure, tqm._dblQuote, lsfc, quotingParams, false);
+				}
+
+				@Override protected boolean completeCurve (
+					final org.drip.analytics.definition.ExplicitBootCurve ebc,
+					final double[] adblQuote)
+				{
+					((org.drip.analytics.definition.ExplicitBootCreditCurve) ebc).setInstrCalibInputs
+						(valParams, false, dc, dcTSY, pricerParams, _aCalibInst, adblQuote, astrCalibMeasure,
+							lsfc, quotingParams);
+
+					return true;
+				}
+
+				@Override public boolean parallelSafe()
+				{
+					return bParallelSafe;
+				}
+			};
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
 	/**
 	 * Create an array of tenor bumped credit curves
 	 * 
@@ -229,6 +348,21 @@ public class CreditCurveScenarioGenerator {
 		org.drip.analytics.definition.CreditCurve[] aCC = new
 			org.drip.analytics.definition.CreditCurve[_aCalibInst.length];
 
+		if (!bFlat) {
+			org.drip.state.estimator.TenorBumpBootstrapper tbb = tenorBumpBootstrapper (strName, valParams,
+				dc, dcTSY, adblQuotes, dblRecovery, astrCalibMeasure, lsfc, quotingParams);
+
+			org.drip.analytics.definition.ExplicitBootCurve[] aEBC = null == tbb ? null : tbb.tenorBumped
+				(dblBump, 0);
+
+			if (null == aEBC) return null;
+
+			for (int i = 0; i < aCC.length; ++i)
+				aCC[i] = (org.drip.analytics.definition.CreditCurve) aEBC[i];
+
+			return aCC;
+		}
+
 		for (int i = 0; i < aCC.length; ++i) {
 			double[] adblTenorQuotes = new double [aCC.length];
 
@@ -283,6 +417,10 @@ public class CreditCurveScenarioGenerator {
 				astrCalibMeasure.length || !org.drip.quant.common.NumberUtil.IsValid (dblRecovery))
 			return null;
 
+		if (!bFlat)
+			return createTenorCCMap (tenorBumpBootstrapper (strName, valParams, dc, dcTSY, adblQuotes,
+				dblRecovery, astrCalibMeasure, lsfc, quotingParams), dblBump);
+
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
 			mapTenorCC = new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>();
@@ -308,4 +446,36 @@ public class CreditCurveScenarioGenerator {
 
 		return mapTenorCC;
 	}
+
+	/**
+	 * Create an tenor named map of tenor bumped credit curves off of the Tenor Bump Bootstrapper
+	 * 
+	 * @param tbb The Tenor Bump Bootstrapper
+	 * @param dblBump Amount of bump applied to the tenor
+	 * 
+	 * @return Tenor named map of tenor bumped credit curves
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+		createTenorCCMap (
+			final org.drip.state.estimator.TenorBumpBootstrapper tbb,
+			final double dblBump)
+	{
+		if (null == tbb || _aCalibInst.length != tbb.numNode()) return null;
+
+		org.drip.analytics.definition.ExplicitBootCurve[] aEBC = tbb.tenorBumped (dblBump, 0);
+
+		if (null == aEBC) return null;
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>
+			mapTenorCC = new
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.definition.CreditCurve>();
+
+		for (int i = 0; i < _aCalibInst.length; ++i)
+			mapTenorCC.put (org.drip.analytics.date.DateUtil.FromJulian
+				(_aCalibInst[i].maturityDate().julian()), (org.drip.analytics.definition.CreditCurve)
+					aEBC[i]);
+
+		return mapTenorCC;
+	}
 }
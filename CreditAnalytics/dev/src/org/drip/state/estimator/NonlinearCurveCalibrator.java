@@ -55,12 +55,12 @@ public class NonlinearCurveCalibrator {
 		private boolean _bFlat = false;
 		private java.lang.String _strMeasure = "";
 		private double _dblCalibValue = java.lang.Double.NaN;
-		private org.drip.analytics.rates.DiscountCurve _dc = null;
-		private org.drip.analytics.rates.DiscountCurve _dcTSY = null;
+		private double _dblObjectiveSlope = java.lang.Double.NaN;
+		private double _dblObjectiveVariate = java.lang.Double.NaN;
+		private org.drip.param.market.CurveSurfaceQuoteSet _csqs = null;
 		private org.drip.param.pricer.CreditPricerParams _pricerParams = null;
 		private org.drip.param.valuation.ValuationParams _valParams = null;
 		private org.drip.product.definition.FixedIncomeComponent _comp = null;
-		private org.drip.param.market.LatentStateFixingsContainer _lsfc = null;
 		private org.drip.analytics.definition.ExplicitBootCreditCurve _cc = null;
 		private org.drip.param.valuation.ValuationCustomizationParams _quotingParams = null;
 
@@ -82,11 +82,8 @@ public class NonlinearCurveCalibrator {
 			super (null);
 
 			_cc = cc;
-			_dc = dc;
 			_comp = comp;
-			_lsfc = lsfc;
 			_bFlat = bFlat;
-			_dcTSY = dcTSY;
 			_iInstr = iInstr;
 			_valParams = valParams;
 			_strMeasure = strMeasure;
@@ -96,6 +93,14 @@ public class NonlinearCurveCalibrator {
 			_pricerParams = new org.drip.param.pricer.CreditPricerParams (pricerParamsIn.unitSize(), new
 				org.drip.param.definition.CalibrationParams (strMeasure, 0, null),
 					pricerParamsIn.survivalToPayDate(), pricerParamsIn.discretizationScheme());
+
+			/*
+			 * The Market Shell only references the Curves, so it is built once and sees the Node Updates.
+			 */
+
+			if (null == (_csqs = org.drip.param.creator.MarketParamsBuilder.Create (dc, dcTSY, cc, null,
+				null, null, lsfc)))
+				throw new java.lang.Exception ("Cannot create the Calibration Market Parameters");
 		}
 
 		@Override public double evaluate (
@@ -105,9 +110,34 @@ public class NonlinearCurveCalibrator {
 			if (!SetNode (_cc, _iInstr, _bFlat, dblRate))
 				throw new java.lang.Exception ("Cannot set CC = " + dblRate + " for node #" + _iInstr);
 
-			return _dblCalibValue - _comp.measureValue (_valParams, _pricerParams,
-				org.drip.param.creator.MarketParamsBuilder.Create (_dc, _dcTSY, _cc, null, null, null,
-					_lsfc), _quotingParams, _strMeasure);
+			org.drip.analytics.output.CalibrationObjective co = _comp.calibObjective (_valParams,
+				_pricerParams, _csqs, _quotingParams, _strMeasure, _iInstr, _bFlat);
+
+			if (null == co)
+				throw new java.lang.Exception ("Cannot evaluate " + _strMeasure + " for node #" + _iInstr);
+
+			_dblObjectiveVariate = dblRate;
+			_dblObjectiveSlope = co.hasNodeSensitivity() ? -1. * co.nodeSensitivity() :
+				java.lang.Double.NaN;
+
+			return _dblCalibValue - co.value();
+		}
+
+		@Override public org.drip.quant.calculus.Differential differential (
+			final double dblVariate,
+			final int iOrder)
+		{
+			if (1 != iOrder || dblVariate != _dblObjectiveVariate ||
+				!org.drip.quant.common.NumberUtil.IsValid (_dblObjectiveSlope))
+				return super.differential (dblVariate, iOrder);
+
+			try {
+				return new org.drip.quant.calculus.Differential (1., _dblObjectiveSlope);
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+			}
+
+			return null;
 		}
 
 		@Override public double integrate (
@@ -119,6 +149,78 @@ public class NonlinearCurveCalibrator {
 		}
 	}
 
+	private static final int NEWTON_POLISH_STEPS = 4;
+	private static final double NEWTON_HAZARD_RATE_START = 0.01;
+
+	private static final double NewtonHazardRateStart (
+		final org.drip.analytics.definition.ExplicitBootCreditCurve cc,
+		final int iInstr,
+		final boolean bFlat)
+	{
+		double[] adblHazardNodeDate = bFlat || 0 == iInstr ? null : cc.hazardNodeDates();
+
+		if (null == adblHazardNodeDate || iInstr > adblHazardNodeDate.length) return NEWTON_HAZARD_RATE_START;
+
+		double dblPreviousNodeDate = adblHazardNodeDate[iInstr - 1];
+
+		org.drip.analytics.date.JulianDate dtEpoch = cc.epoch();
+
+		if (null == dtEpoch || !org.drip.quant.common.NumberUtil.IsValid (dblPreviousNodeDate) ||
+			dblPreviousNodeDate < dtEpoch.julian())
+			return NEWTON_HAZARD_RATE_START;
+
+		/*
+		 * Adjacent Hazard Nodes are close - start off the Hazard Rate just calibrated for the previous Node.
+		 */
+
+		try {
+			double dblHazardRate = 365.25 * java.lang.Math.log (cc.survival (dblPreviousNodeDate) /
+				cc.survival (dblPreviousNodeDate + 1.));
+
+			if (org.drip.quant.common.NumberUtil.IsValid (dblHazardRate)) return dblHazardRate;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return NEWTON_HAZARD_RATE_START;
+	}
+
+	/*
+	 * The Fixed Point Finder stops once the Objective is within a Tolerance relative to its Starting Value,
+	 * 	which leaves the Calibration Measure a few 1.e-07 off its Quote. Newton converges quadratically off
+	 * 	the Analytical Node Sensitivity, so a few more Steps drive the Objective down to Round-off - each Step
+	 * 	is only taken while it keeps shrinking the Objective.
+	 */
+
+	private static final double PolishNewtonRoot (
+		final CreditCurveCalibrator ccc,
+		final double dblRoot)
+		throws java.lang.Exception
+	{
+		double dblPolishedRoot = dblRoot;
+
+		double dblOF = ccc.evaluate (dblPolishedRoot);
+
+		for (int i = 0; i < NEWTON_POLISH_STEPS && 0. != dblOF; ++i) {
+			org.drip.quant.calculus.Differential diff = ccc.differential (dblPolishedRoot, 1);
+
+			if (null == diff) break;
+
+			double dblNextRoot = dblPolishedRoot - diff.calcSlope (false) * dblOF;
+
+			if (!org.drip.quant.common.NumberUtil.IsValid (dblNextRoot)) break;
+
+			double dblNextOF = ccc.evaluate (dblNextRoot);
+
+			if (java.lang.Math.abs (dblNextOF) >= java.lang.Math.abs (dblOF)) break;
+
+			dblOF = dblNextOF;
+			dblPolishedRoot = dblNextRoot;
+		}
+
+		return dblPolishedRoot;
+	}
+
 	private static final boolean SetNode (
 		final org.drip.analytics.definition.ExplicitBootCurve curve,
 		final int iInstr,
@@ -257,12 +359,8 @@ public class NonlinearCurveCalibrator {
 		}
 
 		try {
-			org.drip.function.solverR1ToR1.FixedPointFinderOutput rfop = new
-				org.drip.function.solverR1ToR1.FixedPointFinderZheng (0., new CreditCurveCalibrator (cc, comp,
-					iInstr, valParams, dc, dcTSY, pricerParamsIn, strMeasure, dblCalibValue, lsfc,
-						quotingParams, bFlat), true).findRoot();
-
-			return null != rfop && rfop.containsRoot();
+			return org.drip.quant.common.NumberUtil.IsValid (calibrateHazardRateNode (cc, comp, iInstr,
+				valParams, dc, dcTSY, pricerParamsIn, strMeasure, dblCalibValue, lsfc, quotingParams, bFlat));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -270,6 +368,74 @@ public class NonlinearCurveCalibrator {
 		return false;
 	}
 
+	/**
+	 * Calibrate a single Hazard Rate Node from the corresponding Component, and return the calibrated Node
+	 * 	Value. The Node is left at the last Value tried by the Root Finder - set it to the returned Value to
+	 * 	pin it at the Root.
+	 * 
+	 * @param cc The Credit Curve to be calibrated
+	 * @param comp The Calibration Component
+	 * @param iInstr The Calibration Instrument Index
+	 * @param valParams Calibration Valuation Parameters
+	 * @param dc The discount curve to be bootstrapped
+	 * @param dcTSY The TSY discount curve
+	 * @param pricerParamsIn Input Pricer Parameters
+	 * @param strMeasure The Calibration Measure
+	 * @param dblCalibValue The Value to be Calibrated to
+	 * @param lsfc The Latent State Fixings Container
+	 * @param quotingParams Quoting Parameters
+	 * @param bFlat TRUE => Calibrate a Flat Curve across all Tenors
+	 * 
+	 * @return The calibrated Hazard Rate Node Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Bootstrapping is unsuccessful
+	 */
+
+	public double calibrateHazardRateNode (
+		final org.drip.analytics.definition.ExplicitBootCreditCurve cc,
+		final org.drip.product.definition.FixedIncomeComponent comp,
+		final int iInstr,
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dc,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final org.drip.param.pricer.CreditPricerParams pricerParamsIn,
+		final java.lang.String strMeasure,
+		final double dblCalibValue,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams,
+		final boolean bFlat)
+		throws java.lang.Exception
+	{
+		if (null == cc || null == comp || null == valParams || null == dc || null == pricerParamsIn || null
+			== strMeasure || strMeasure.isEmpty() || !org.drip.quant.common.NumberUtil.IsValid
+				(dblCalibValue))
+			throw new java.lang.Exception
+				("NonlinearCurveCalibrator::calibrateHazardRateNode => Invalid inputs!");
+
+		CreditCurveCalibrator ccc = new CreditCurveCalibrator (cc, comp, iInstr, valParams, dc, dcTSY,
+			pricerParamsIn, strMeasure, dblCalibValue, lsfc, quotingParams, bFlat);
+
+		/*
+		 * Newton off the Component's Analytical Node Sensitivity, polished down to Round-off, falling back to
+		 * 	the Bracketing Solver.
+		 */
+
+		org.drip.function.solverR1ToR1.FixedPointFinderOutput rfop = new
+			org.drip.function.solverR1ToR1.FixedPointFinderNewton (0., ccc, NewtonHazardRateStart (cc,
+				iInstr, bFlat), false).findRoot();
+
+		if (null != rfop && rfop.containsRoot()) return PolishNewtonRoot (ccc, rfop.getRoot());
+
+		rfop = new org.drip.function.solverR1ToR1.FixedPointFinderZheng (0., ccc, true).findRoot();
+
+		if (null == rfop || !rfop.containsRoot())
+			throw new java.lang.Exception
+				("NonlinearCurveCalibrator::calibrateHazardRateNode => Cannot calibrate hazard node #" +
+					iInstr);
+
+		return rfop.getRoot();
+	}
+
 	/**
 	 * Calibrate a single Interest Rate Node from the corresponding Component
 	 * 
@@ -308,6 +474,13 @@ public class NonlinearCurveCalibrator {
 			!org.drip.quant.common.NumberUtil.IsValid (dblCalibValue))
 			throw new java.lang.Exception ("NonlinearCurveCalibrator::calibrateIRNode => Invalid inputs!");
 
+		final org.drip.param.pricer.CreditPricerParams pricerParams = new
+			org.drip.param.pricer.CreditPricerParams (1, new org.drip.param.definition.CalibrationParams
+				(strMeasure, 0, null), true, 0);
+
+		final org.drip.param.market.CurveSurfaceQuoteSet csqs =
+			org.drip.param.creator.MarketParamsBuilder.Create (dc, dcTSY, null, null, null, null, lsfc);
+
 		org.drip.function.definition.R1ToR1 ofIRNode = new
 			org.drip.function.definition.R1ToR1 (null) {
 			public double evaluate (
@@ -319,11 +492,8 @@ public class NonlinearCurveCalibrator {
 						("NonlinearCurveCalibrator::calibrateIRNode => Cannot set Value = " + dblValue +
 							" for node " + iInstr);
 
-				return dblCalibValue - comp.measureValue (valParams, new
-					org.drip.param.pricer.CreditPricerParams (1, new
-						org.drip.param.definition.CalibrationParams (strMeasure, 0, null), true, 0),
-							org.drip.param.creator.MarketParamsBuilder.Create (dc, dcTSY, null, null, null,
-								null, lsfc), quotingParams, strMeasure);
+				return dblCalibValue - comp.measureValue (valParams, pricerParams, csqs, quotingParams,
+					strMeasure);
 			}
 
 			@Override public double integrate (
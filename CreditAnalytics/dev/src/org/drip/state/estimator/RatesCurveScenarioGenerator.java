@@ -172,6 +172,89 @@ public class RatesCurveScenarioGenerator {
 		return dc;
 	}
 
+	/**
+	 * Construct the Tenor Bump Bootstrapper for the Discount Curve. The Bootstrapper snapshots the Calibrated
+	 * 	Forward Rate Nodes of the Base Curve, and re-calibrates only the Nodes from the Bumped Node onwards
+	 * 	for each Tenor Bumped Curve. The Polynomial Spline DF Curve is calibrated globally, and has no such
+	 * 	Bootstrapper.
+	 * 
+	 * @param valParams ValuationParams
+	 * @param dcTSY Treasury Discount Curve
+	 * @param adblQuotes Array of component quotes
+	 * @param astrCalibMeasure Array of the calibration measures
+	 * @param lsfc Latent State Fixings Container
+	 * @param quotingParams Quoting Parameters
+	 * 
+	 * @return The Tenor Bump Bootstrapper
+	 */
+
+	public org.drip.state.estimator.TenorBumpBootstrapper tenorBumpBootstrapper (
+		final org.drip.param.valuation.ValuationParams valParams,
+		final org.drip.analytics.rates.DiscountCurve dcTSY,
+		final double[] adblQuotes,
+		final java.lang.String[] astrCalibMeasure,
+		final org.drip.param.market.LatentStateFixingsContainer lsfc,
+		final org.drip.param.valuation.ValuationCustomizationParams quotingParams)
+	{
+		if (null == adblQuotes || null == astrCalibMeasure || adblQuotes.length != astrCalibMeasure.length ||
+			_aCalibInst.length != astrCalibMeasure.length || null == valParams ||
+				org.drip.state.creator.DiscountCurveBuilder.BOOTSTRAP_MODE_POLYNOMIAL_SPLINE_DF.equalsIgnoreCase
+					(_strBootstrapMode))
+			return null;
+
+		final int iNumInstr = _aCalibInst.length;
+		final double[] adblDate = new double[iNumInstr];
+
+		for (int i = 0; i < iNumInstr; ++i) {
+			if (null == _aCalibInst[i] || null == _aCalibInst[i].maturityDate()) return null;
+
+			adblDate[i] = _aCalibInst[i].maturityDate().julian();
+		}
+
+		try {
+			final org.drip.analytics.date.JulianDate dtStart = new org.drip.analytics.date.JulianDate
+				(valParams.valueDate());
+
+			return new org.drip.state.estimator.TenorBumpBootstrapper (adblQuotes) {
+				@Override protected org.drip.analytics.definition.ExplicitBootCurve initialCurve()
+				{
+					double[] adblRate = new double[iNumInstr];
+
+					for (int i = 0; i < iNumInstr; ++i)
+						adblRate[i] = 0.02;
+
+					return org.drip.state.creator.DiscountCurveBuilder.CreateDC (dtStart, _strCurrency, null
+						== quotingParams ? null : quotingParams.coreCollateralizationParams(), adblDate,
+							adblRate, _strBootstrapMode);
+				}
+
+				@Override protected double calibrateNode (
+					final org.drip.analytics.definition.ExplicitBootCurve ebc,
+					final int iNode,
+					final double dblQuote)
+					throws java.lang.Exception
+				{
+					return _compCalib.calibrateIRNode ((org.drip.analytics.rates.ExplicitBootDiscountCurve)
+						ebc, dcTSY, _aCalibInst[iNode], iNode, valParams, astrCalibMeasure[iNode], dblQuote,
+							lsfc, quotingParams, false, java.lang.Double.NaN);
+				}
+
+				@Override protected boolean completeCurve (
+					final org.drip.analytics.definition.ExplicitBootCurve ebc,
+					final double[] adblQuote)
+				{
+					return ((org.drip.analytics.rates.ExplicitBootDiscountCurve) ebc).setCCIS
+						(org.drip.analytics.input.BootCurveConstructionInput.Create (valParams, quotingParams,
+							_aCalibInst, adblQuote, astrCalibMeasure, lsfc));
+				}
+			};
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
 	/**
 	 * Calibrate an array of tenor bumped discount curves
 	 * 
@@ -206,6 +289,20 @@ public class RatesCurveScenarioGenerator {
 		org.drip.analytics.rates.DiscountCurve[] aDC = new
 				org.drip.analytics.rates.DiscountCurve[_aCalibInst.length];
 
+		org.drip.state.estimator.TenorBumpBootstrapper tbb = tenorBumpBootstrapper (valParams, dcTSY,
+			adblQuotes, astrCalibMeasure, lsfc, quotingParams);
+
+		if (null != tbb) {
+			org.drip.analytics.definition.ExplicitBootCurve[] aEBC = tbb.tenorBumped (dblBump, 0);
+
+			if (null == aEBC) return null;
+
+			for (int i = 0; i < aDC.length; ++i)
+				aDC[i] = (org.drip.analytics.rates.DiscountCurve) aEBC[i];
+
+			return aDC;
+		}
+
 		for (int i = 0; i < aDC.length; ++i) {
 			double[] adblTenorQuotes = new double [aDC.length];
 
@@ -216,8 +313,8 @@ public class RatesCurveScenarioGenerator {
 					adblTenorQuotes[j] = adblQuotes[j];
 			}
 
-			if (null == (aDC[i] = createIRCurve (valParams, dcTSY, adblQuotes, 0., astrCalibMeasure, lsfc,
-				quotingParams)))
+			if (null == (aDC[i] = createIRCurve (valParams, dcTSY, adblTenorQuotes, 0., astrCalibMeasure,
+				lsfc, quotingParams)))
 				return null;
 		}
 
@@ -256,6 +353,11 @@ public class RatesCurveScenarioGenerator {
 			return null;
 		}
 
+		org.drip.state.estimator.TenorBumpBootstrapper tbb = tenorBumpBootstrapper (valParams, dcTSY,
+			adblQuotes, astrCalibMeasure, lsfc, quotingParams);
+
+		if (null != tbb) return createTenorIRCurveMap (tbb, dblBump);
+
 		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve> mapTenorDC
 			= new
 				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>();
@@ -277,4 +379,35 @@ public class RatesCurveScenarioGenerator {
 
 		return mapTenorDC;
 	}
+
+	/**
+	 * Calibrate a tenor map of tenor bumped discount curves off of the Tenor Bump Bootstrapper
+	 * 
+	 * @param tbb The Tenor Bump Bootstrapper
+	 * @param dblBump Quote bump
+	 * 
+	 * @return Tenor map of tenor bumped discount curves
+	 */
+
+	public org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>
+		createTenorIRCurveMap (
+			final org.drip.state.estimator.TenorBumpBootstrapper tbb,
+			final double dblBump)
+	{
+		if (null == tbb || _aCalibInst.length != tbb.numNode()) return null;
+
+		org.drip.analytics.definition.ExplicitBootCurve[] aEBC = tbb.tenorBumped (dblBump, 0);
+
+		if (null == aEBC) return null;
+
+		org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve> mapTenorDC
+			= new
+				org.drip.analytics.support.CaseInsensitiveTreeMap<org.drip.analytics.rates.DiscountCurve>();
+
+		for (int i = 0; i < _aCalibInst.length; ++i)
+			mapTenorDC.put (org.drip.analytics.date.DateUtil.FromJulian
+				(_aCalibInst[i].maturityDate().julian()), (org.drip.analytics.rates.DiscountCurve) aEBC[i]);
+
+		return mapTenorDC;
+	}
 }
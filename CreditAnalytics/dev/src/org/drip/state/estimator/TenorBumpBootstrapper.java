@@ -0,0 +1,272 @@
+
+package org.drip.state.estimator;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * TenorBumpBootstrapper generates the Tenor Bumped (KRD) Scenario Curves off of a Node-by-Node Bootstrap
+ * 	without re-calibrating the Nodes that the Bump cannot affect. It relies on the Bootstrap Property that
+ * 	the Calibration of Node i only sees the Nodes before it (setNodeValue fills Node i onwards), so:
+ *
+ *  - The Base Bootstrap records the calibrated Value of every Node - the Snapshot of the Bootstrap State.
+ *  - The Curve for a Bump at Node i is restored from the Snapshot up to Node i, and only the Nodes from i
+ *  	onwards are re-calibrated.
+ *  - The Bumped Curves are independent of each other, and are generated in parallel where the Calibration
+ *  	Instruments allow it.
+ *
+ * Each calibrated Node is pinned at the Root returned by the Solver, so the Base and the Bumped Curves are
+ * 	mutually consistent.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public abstract class TenorBumpBootstrapper {
+	private double[] _adblQuote = null;
+	private double[] _adblNodeSnapshot = null;
+	private org.drip.analytics.definition.ExplicitBootCurve _ebcBase = null;
+
+	private org.drip.analytics.definition.ExplicitBootCurve bootstrap (
+		final double[] adblQuote,
+		final int iStartNode,
+		final double[] adblNodeSnapshot)
+	{
+		org.drip.analytics.definition.ExplicitBootCurve ebc = initialCurve();
+
+		if (null == ebc) return null;
+
+		for (int i = 0; i < iStartNode; ++i) {
+			if (!ebc.setNodeValue (i, _adblNodeSnapshot[i])) return null;
+		}
+
+		for (int i = iStartNode; i < adblQuote.length; ++i) {
+			try {
+				double dblNodeValue = calibrateNode (ebc, i, adblQuote[i]);
+
+				if (!ebc.setNodeValue (i, dblNodeValue)) return null;
+
+				if (null != adblNodeSnapshot) adblNodeSnapshot[i] = dblNodeValue;
+			} catch (java.lang.Exception e) {
+				e.printStackTrace();
+
+				return null;
+			}
+		}
+
+		return completeCurve (ebc, adblQuote) ? ebc : null;
+	}
+
+	protected TenorBumpBootstrapper (
+		final double[] adblQuote)
+		throws java.lang.Exception
+	{
+		if (null == (_adblQuote = adblQuote) || 0 == _adblQuote.length ||
+			!org.drip.quant.common.NumberUtil.IsValid (_adblQuote))
+			throw new java.lang.Exception ("TenorBumpBootstrapper ctr: Invalid Inputs");
+	}
+
+	/**
+	 * Create a Fresh Curve with the Nodes at their Initial (Pre-calibration) Values
+	 * 
+	 * @return The Fresh Curve
+	 */
+
+	protected abstract org.drip.analytics.definition.ExplicitBootCurve initialCurve();
+
+	/**
+	 * Calibrate the specified Node of the Curve to the Quote
+	 * 
+	 * @param ebc The Curve being Bootstrapped
+	 * @param iNode The Node Index
+	 * @param dblQuote The Quote
+	 * 
+	 * @return The Calibrated Node Value
+	 * 
+	 * @throws java.lang.Exception Thrown if the Node cannot be calibrated
+	 */
+
+	protected abstract double calibrateNode (
+		final org.drip.analytics.definition.ExplicitBootCurve ebc,
+		final int iNode,
+		final double dblQuote)
+		throws java.lang.Exception;
+
+	/**
+	 * Attach the Calibration Inputs to the fully Bootstrapped Curve
+	 * 
+	 * @param ebc The Bootstrapped Curve
+	 * @param adblQuote The Quotes the Curve was Bootstrapped off of
+	 * 
+	 * @return TRUE => The Curve has been completed
+	 */
+
+	protected abstract boolean completeCurve (
+		final org.drip.analytics.definition.ExplicitBootCurve ebc,
+		final double[] adblQuote);
+
+	/**
+	 * Indicate if the Calibration of Independent Curves may proceed on Concurrent Threads
+	 * 
+	 * @return TRUE => The Calibration of Independent Curves may proceed on Concurrent Threads
+	 */
+
+	public boolean parallelSafe()
+	{
+		return true;
+	}
+
+	/**
+	 * Retrieve the Number of Nodes
+	 * 
+	 * @return The Number of Nodes
+	 */
+
+	public int numNode()
+	{
+		return _adblQuote.length;
+	}
+
+	/**
+	 * Retrieve the Base Curve, Bootstrapping it (and taking the Node Snapshot) on the First Call
+	 * 
+	 * @return The Base Curve
+	 */
+
+	public org.drip.analytics.definition.ExplicitBootCurve base()
+	{
+		if (null != _ebcBase) return _ebcBase;
+
+		double[] adblNodeSnapshot = new double[_adblQuote.length];
+
+		if (null == (_ebcBase = bootstrap (_adblQuote, 0, adblNodeSnapshot))) return null;
+
+		_adblNodeSnapshot = adblNodeSnapshot;
+		return _ebcBase;
+	}
+
+	/**
+	 * Retrieve the Snapshot of the Calibrated Base Node Values
+	 * 
+	 * @return The Snapshot of the Calibrated Base Node Values
+	 */
+
+	public double[] nodeSnapshot()
+	{
+		return null == base() ? null : _adblNodeSnapshot;
+	}
+
+	/**
+	 * Generate the Curve with the Quote of the specified Node bumped, re-calibrating only the Nodes from the
+	 * 	Bumped Node onwards
+	 * 
+	 * @param iNode The Bumped Node
+	 * @param dblBump The Quote Bump
+	 * 
+	 * @return The Bumped Curve
+	 */
+
+	public org.drip.analytics.definition.ExplicitBootCurve tenorBumped (
+		final int iNode,
+		final double dblBump)
+	{
+		if (0 > iNode || iNode >= _adblQuote.length || !org.drip.quant.common.NumberUtil.IsValid (dblBump) ||
+			null == base())
+			return null;
+
+		double[] adblQuote = new double[_adblQuote.length];
+
+		java.lang.System.arraycopy (_adblQuote, 0, adblQuote, 0, _adblQuote.length);
+
+		adblQuote[iNode] += dblBump;
+
+		return bootstrap (adblQuote, iNode, null);
+	}
+
+	/**
+	 * Generate the Curves with each of the Node Quotes bumped in turn
+	 * 
+	 * @param dblBump The Quote Bump
+	 * @param iParallelism Number of Worker Threads (Non-positive => One per Available Processor)
+	 * 
+	 * @return Array of the Tenor Bumped Curves, in Node Order
+	 */
+
+	public org.drip.analytics.definition.ExplicitBootCurve[] tenorBumped (
+		final double dblBump,
+		final int iParallelism)
+	{
+		if (!org.drip.quant.common.NumberUtil.IsValid (dblBump) || null == base()) return null;
+
+		int iNumNode = _adblQuote.length;
+		org.drip.analytics.definition.ExplicitBootCurve[] aEBC = new
+			org.drip.analytics.definition.ExplicitBootCurve[iNumNode];
+
+		int iNumThread = !parallelSafe() ? 1 : 0 < iParallelism ? iParallelism :
+			java.lang.Runtime.getRuntime().availableProcessors();
+
+		if (1 == iNumThread || 1 == iNumNode) {
+			for (int i = 0; i < iNumNode; ++i) {
+				if (null == (aEBC[i] = tenorBumped (i, dblBump))) return null;
+			}
+
+			return aEBC;
+		}
+
+		java.util.List<java.util.concurrent.Future<org.drip.analytics.definition.ExplicitBootCurve>> lsFuture
+			= new
+				java.util.ArrayList<java.util.concurrent.Future<org.drip.analytics.definition.ExplicitBootCurve>>();
+
+		java.util.concurrent.ForkJoinPool fjp = new java.util.concurrent.ForkJoinPool (java.lang.Math.min
+			(iNumThread, iNumNode));
+
+		try {
+			for (int i = 0; i < iNumNode; ++i) {
+				final int iNode = i;
+
+				lsFuture.add (fjp.submit (new
+					java.util.concurrent.Callable<org.drip.analytics.definition.ExplicitBootCurve>() {
+					@Override public org.drip.analytics.definition.ExplicitBootCurve call()
+					{
+						return tenorBumped (iNode, dblBump);
+					}
+				}));
+			}
+
+			for (int i = 0; i < iNumNode; ++i) {
+				if (null == (aEBC[i] = lsFuture.get (i).get())) return null;
+			}
+
+			return aEBC;
+		} catch (java.lang.Exception e) {
+			e.printStackTrace();
+		} finally {
+			fjp.shutdown();
+		}
+
+		return null;
+	}
+}
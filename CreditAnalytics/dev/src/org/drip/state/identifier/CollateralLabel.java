@@ -37,6 +37,7 @@ package org.drip.state.identifier;
  */
 
 public class CollateralLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iID = -1;
 	private java.lang.String _strCurrency = "";
 
 	/**
@@ -50,8 +51,14 @@ public class CollateralLabel implements org.drip.state.identifier.LatentStateLab
 	public static final CollateralLabel Standard (
 		final java.lang.String strCurrency)
 	{
+		CollateralLabel lslCanonical = org.drip.state.identifier.LatentStateLabelRegistry.Canonical
+			(CollateralLabel.class, strCurrency);
+
+		if (null != lslCanonical) return lslCanonical;
+
 		try {
-			return new CollateralLabel (strCurrency);
+			return org.drip.state.identifier.LatentStateLabelRegistry.Intern (new CollateralLabel
+				(strCurrency));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -73,6 +80,13 @@ public class CollateralLabel implements org.drip.state.identifier.LatentStateLab
 	{
 		if (null == (_strCurrency = strCurrency) || _strCurrency.isEmpty())
 			throw new java.lang.Exception ("CollateralLabel ctr: Invalid Inputs");
+
+		_iID = org.drip.state.identifier.LatentStateLabelRegistry.ID (fullyQualifiedName());
+	}
+
+	@Override public int id()
+	{
+		return _iID;
 	}
 
 	@Override public java.lang.String fullyQualifiedName()
@@ -37,6 +37,7 @@ package org.drip.state.identifier;
  */
 
 public class CreditLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iID = -1;
 	private java.lang.String _strReferenceEntity = "";
 
 	/**
@@ -50,8 +51,14 @@ public class CreditLabel implements org.drip.state.identifier.LatentStateLabel {
 	public static final CreditLabel Standard (
 		final java.lang.String strReferenceEntity)
 	{
+		CreditLabel lslCanonical = org.drip.state.identifier.LatentStateLabelRegistry.Canonical
+			(CreditLabel.class, strReferenceEntity);
+
+		if (null != lslCanonical) return lslCanonical;
+
 		try {
-			return new CreditLabel (strReferenceEntity);
+			return org.drip.state.identifier.LatentStateLabelRegistry.Intern (new CreditLabel
+				(strReferenceEntity));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -73,6 +80,13 @@ public class CreditLabel implements org.drip.state.identifier.LatentStateLabel {
 	{
 		if (null == (_strReferenceEntity = strReferenceEntity) || _strReferenceEntity.isEmpty())
 			throw new java.lang.Exception ("CreditLabel ctr: Invalid Inputs");
+
+		_iID = org.drip.state.identifier.LatentStateLabelRegistry.ID (fullyQualifiedName());
+	}
+
+	@Override public int id()
+	{
+		return _iID;
 	}
 
 	@Override public java.lang.String fullyQualifiedName()
@@ -37,6 +37,7 @@ package org.drip.state.identifier;
  */
 
 public class CustomMetricLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iID = -1;
 	private java.lang.String _strLabel = "";
 
 	/**
@@ -50,8 +51,14 @@ public class CustomMetricLabel implements org.drip.state.identifier.LatentStateL
 	public static final CustomMetricLabel Standard (
 		final java.lang.String strLabel)
 	{
+		CustomMetricLabel lslCanonical = org.drip.state.identifier.LatentStateLabelRegistry.Canonical
+			(CustomMetricLabel.class, strLabel);
+
+		if (null != lslCanonical) return lslCanonical;
+
 		try {
-			return new CustomMetricLabel (strLabel);
+			return org.drip.state.identifier.LatentStateLabelRegistry.Intern (new CustomMetricLabel
+				(strLabel));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -73,6 +80,13 @@ public class CustomMetricLabel implements org.drip.state.identifier.LatentStateL
 	{
 		if (null == (_strLabel = strLabel) || _strLabel.isEmpty())
 			throw new java.lang.Exception ("CustomMetricLabel ctr: Invalid Inputs");
+
+		_iID = org.drip.state.identifier.LatentStateLabelRegistry.ID (fullyQualifiedName());
+	}
+
+	@Override public int id()
+	{
+		return _iID;
 	}
 
 	@Override public java.lang.String fullyQualifiedName()
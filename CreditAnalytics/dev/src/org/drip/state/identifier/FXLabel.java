@@ -37,6 +37,7 @@ package org.drip.state.identifier;
  */
 
 public class FXLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iID = -1;
 	private org.drip.product.params.CurrencyPair _cp = null;
 
 	/**
@@ -92,6 +93,13 @@ public class FXLabel implements org.drip.state.identifier.LatentStateLabel {
 		throws java.lang.Exception
 	{
 		if (null == (_cp = cp)) throw new java.lang.Exception ("FXLabel ctr: Invalid Inputs");
+
+		_iID = org.drip.state.identifier.LatentStateLabelRegistry.ID (fullyQualifiedName());
+	}
+
+	@Override public int id()
+	{
+		return _iID;
 	}
 
 	@Override public java.lang.String fullyQualifiedName()
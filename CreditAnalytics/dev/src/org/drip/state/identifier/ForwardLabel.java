@@ -41,7 +41,9 @@ package org.drip.state.identifier;
  */
 
 public class ForwardLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iID = -1;
 	private java.lang.String _strTenor = "";
+	private java.lang.String _strFullyQualifiedName = "";
 	private org.drip.market.definition.FloaterIndex _floaterIndex = null;
 
 	/**
@@ -70,7 +72,8 @@ public class ForwardLabel implements org.drip.state.identifier.LatentStateLabel
 					org.drip.market.definition.IBORIndexContainer.IndexFromJurisdiction (strCurrency);
 
 		try {
-			return new ForwardLabel (floaterIndex, strTenor);
+			return org.drip.state.identifier.LatentStateLabelRegistry.Intern (new ForwardLabel (floaterIndex,
+				strTenor));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -132,6 +135,10 @@ public class ForwardLabel implements org.drip.state.identifier.LatentStateLabel
 	{
 		if (null == (_floaterIndex = floaterIndex) || null == (_strTenor = strTenor) || _strTenor.isEmpty())
 			throw new java.lang.Exception ("ForwardLabel ctr: Invalid Inputs");
+
+		_strFullyQualifiedName = _floaterIndex.currency() + "-" + _floaterIndex.family() + "-" + _strTenor;
+
+		_iID = org.drip.state.identifier.LatentStateLabelRegistry.ID (fullyQualifiedName());
 	}
 
 	/**
@@ -211,9 +218,14 @@ public class ForwardLabel implements org.drip.state.identifier.LatentStateLabel
 		return null;
 	}
 
+	@Override public int id()
+	{
+		return _iID;
+	}
+
 	@Override public java.lang.String fullyQualifiedName()
 	{
-		return _floaterIndex.currency() + "-" + _floaterIndex.family() + "-" + _strTenor;
+		return _strFullyQualifiedName;
 	}
 
 	@Override public boolean match (
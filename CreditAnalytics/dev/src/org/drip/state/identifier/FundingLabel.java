@@ -37,6 +37,7 @@ package org.drip.state.identifier;
  */
 
 public class FundingLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iID = -1;
 	private java.lang.String _strCurrency = "";
 
 	/**
@@ -50,8 +51,14 @@ public class FundingLabel implements org.drip.state.identifier.LatentStateLabel
 	public static final FundingLabel Standard (
 		final java.lang.String strCurrency)
 	{
+		FundingLabel lslCanonical = org.drip.state.identifier.LatentStateLabelRegistry.Canonical
+			(FundingLabel.class, strCurrency);
+
+		if (null != lslCanonical) return lslCanonical;
+
 		try {
-			return new FundingLabel (strCurrency);
+			return org.drip.state.identifier.LatentStateLabelRegistry.Intern (new FundingLabel
+				(strCurrency));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -65,6 +72,13 @@ public class FundingLabel implements org.drip.state.identifier.LatentStateLabel
 	{
 		if (null == (_strCurrency = strCurrency) || _strCurrency.isEmpty())
 			throw new java.lang.Exception ("FundingLabel ctr: Invalid Inputs");
+
+		_iID = org.drip.state.identifier.LatentStateLabelRegistry.ID (fullyQualifiedName());
+	}
+
+	@Override public int id()
+	{
+		return _iID;
 	}
 
 	@Override public java.lang.String fullyQualifiedName()
@@ -37,6 +37,7 @@ package org.drip.state.identifier;
  */
 
 public class GovvieLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iID = -1;
 	private java.lang.String _strSovereign = "";
 
 	/**
@@ -50,8 +51,14 @@ public class GovvieLabel implements org.drip.state.identifier.LatentStateLabel {
 	public static final GovvieLabel Standard (
 		final java.lang.String strSovereign)
 	{
+		GovvieLabel lslCanonical = org.drip.state.identifier.LatentStateLabelRegistry.Canonical
+			(GovvieLabel.class, strSovereign);
+
+		if (null != lslCanonical) return lslCanonical;
+
 		try {
-			return new GovvieLabel (strSovereign);
+			return org.drip.state.identifier.LatentStateLabelRegistry.Intern (new GovvieLabel
+				(strSovereign));
 		} catch (java.lang.Exception e) {
 			e.printStackTrace();
 		}
@@ -73,6 +80,13 @@ public class GovvieLabel implements org.drip.state.identifier.LatentStateLabel {
 	{
 		if (null == (_strSovereign = strSovereign) || _strSovereign.isEmpty())
 			throw new java.lang.Exception ("GovvieLabel ctr: Invalid Inputs");
+
+		_iID = org.drip.state.identifier.LatentStateLabelRegistry.ID (fullyQualifiedName());
+	}
+
+	@Override public int id()
+	{
+		return _iID;
 	}
 
 	@Override public java.lang.String fullyQualifiedName()
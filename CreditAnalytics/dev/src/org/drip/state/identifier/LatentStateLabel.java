@@ -47,6 +47,15 @@ public interface LatentStateLabel {
 
 	public abstract java.lang.String fullyQualifiedName();
 
+	/**
+	 * Retrieve the Interned Identity of the Label. Labels whose Fully Qualified Names match
+	 *  (case-insensitively) share the same Identity.
+	 * 
+	 * @return The Interned Identity
+	 */
+
+	public abstract int id();
+
 	/**
 	 * Indicate whether this Label matches the supplied.
 	 * 
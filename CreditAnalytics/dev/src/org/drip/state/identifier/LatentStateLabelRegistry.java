@@ -0,0 +1,173 @@
+
+package org.drip.state.identifier;
+
+/*
+ * -*- mode: java; tab-width: 4; indent-tabs-mode: nil; c-basic-offset: 4 -*-
+ */
+
+/*!
+ * Copyright (C) 2015 Lakshmi Krishnamurthy
+ *
+ *  This file is part of DRIP, a free-software/open-source library for fixed income analysts and developers -
+ * 		http://www.credit-trader.org/Begin.html
+ *
+ *  DRIP is a free, full featured, fixed income rates, credit, and FX analytics library with a focus towards
+ *  	pricing/valuation, risk, and market making.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *   	you may not use this file except in compliance with the License.
+ *
+ *  You may obtain a copy of the License at
+ *  	http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  	distributed under the License is distributed on an "AS IS" BASIS,
+ *  	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *
+ *  See the License for the specific language governing permissions and
+ *  	limitations under the License.
+ */
+
+/**
+ * LatentStateLabelRegistry is the Process-wide Interning Registry for the Latent State Labels. It hands out
+ * 	a dense Integer Identity for each distinct (case-insensitive) Fully Qualified Name - the same Key the
+ * 	String-keyed Containers used - and keeps one Canonical Instance per Label Type and (case-insensitive)
+ * 	Fully Qualified Name, so the Market Containers can resolve a Label by its Identity without re-hashing or
+ * 	lower-casing its Name on every Lookup. Identities are allocated under the Registry Lock, so they run
+ * 	from 0 without Gaps even when several Threads register the same Name at once.
+ *
+ * @author Lakshmi Krishnamurthy
+ */
+
+public class LatentStateLabelRegistry {
+	private static final java.util.concurrent.ConcurrentHashMap<java.lang.String, java.lang.Integer>
+		s_mapNameID = new java.util.concurrent.ConcurrentHashMap<java.lang.String, java.lang.Integer>();
+
+	private static final java.util.concurrent.ConcurrentHashMap<java.lang.Class<?>,
+		java.util.concurrent.ConcurrentHashMap<java.lang.String, org.drip.state.identifier.LatentStateLabel>>
+			s_mapCanonical = new java.util.concurrent.ConcurrentHashMap<java.lang.Class<?>,
+				java.util.concurrent.ConcurrentHashMap<java.lang.String,
+					org.drip.state.identifier.LatentStateLabel>>();
+
+	private static final java.util.concurrent.ConcurrentHashMap<java.lang.String,
+		org.drip.state.identifier.LatentStateLabel> CanonicalMap (
+			final java.lang.Class<?> cls)
+	{
+		java.util.concurrent.ConcurrentHashMap<java.lang.String, org.drip.state.identifier.LatentStateLabel>
+			mapCanonical = s_mapCanonical.get (cls);
+
+		if (null != mapCanonical) return mapCanonical;
+
+		s_mapCanonical.putIfAbsent (cls, new java.util.concurrent.ConcurrentHashMap<java.lang.String,
+			org.drip.state.identifier.LatentStateLabel>());
+
+		return s_mapCanonical.get (cls);
+	}
+
+	/**
+	 * Retrieve the Identity of the specified Fully Qualified Name, registering it if necessary
+	 *
+	 * @param strFullyQualifiedName The Fully Qualified Name
+	 *
+	 * @return The Identity of the Fully Qualified Name
+	 *
+	 * @throws java.lang.Exception Thrown if the Inputs are Invalid
+	 */
+
+	public static final int ID (
+		final java.lang.String strFullyQualifiedName)
+		throws java.lang.Exception
+	{
+		if (null == strFullyQualifiedName || strFullyQualifiedName.isEmpty())
+			throw new java.lang.Exception ("LatentStateLabelRegistry::ID => Invalid Inputs");
+
+		java.lang.String strKey = strFullyQualifiedName.toLowerCase();
+
+		java.lang.Integer iID = s_mapNameID.get (strKey);
+
+		if (null != iID) return iID;
+
+		synchronized (s_mapNameID) {
+			if (null == (iID = s_mapNameID.get (strKey))) s_mapNameID.put (strKey, iID = s_mapNameID.size());
+		}
+
+		return iID;
+	}
+
+	/**
+	 * Retrieve the Identity already assigned to the specified Fully Qualified Name
+	 *
+	 * @param strFullyQualifiedName The Fully Qualified Name
+	 *
+	 * @return The Identity of the Fully Qualified Name, or -1 if it has not been registered
+	 */
+
+	public static final int Lookup (
+		final java.lang.String strFullyQualifiedName)
+	{
+		if (null == strFullyQualifiedName || strFullyQualifiedName.isEmpty()) return -1;
+
+		java.lang.Integer iID = s_mapNameID.get (strFullyQualifiedName.toLowerCase());
+
+		return null == iID ? -1 : iID;
+	}
+
+	/**
+	 * Intern the Label - return the Canonical Instance of the Label's Type and Fully Qualified Name,
+	 * 	registering the supplied Label as the Canonical Instance if there is none yet
+	 *
+	 * @param lsl The Label
+	 *
+	 * @return The Canonical Instance
+	 */
+
+	@SuppressWarnings ("unchecked") public static final <L extends org.drip.state.identifier.LatentStateLabel>
+		L Intern (
+			final L lsl)
+	{
+		if (null == lsl) return null;
+
+		java.lang.String strFullyQualifiedName = lsl.fullyQualifiedName();
+
+		if (null == strFullyQualifiedName) return lsl;
+
+		org.drip.state.identifier.LatentStateLabel lslCanonical = CanonicalMap (lsl.getClass()).putIfAbsent
+			(strFullyQualifiedName.toLowerCase(), lsl);
+
+		return null == lslCanonical ? lsl : (L) lslCanonical;
+	}
+
+	/**
+	 * Retrieve the Canonical Instance of the specified Label Type and (case-insensitive) Fully Qualified Name
+	 *
+	 * @param cls The Label Type
+	 * @param strFullyQualifiedName The Fully Qualified Name
+	 *
+	 * @return The Canonical Instance (NULL if none has been interned yet)
+	 */
+
+	@SuppressWarnings ("unchecked") public static final <L extends org.drip.state.identifier.LatentStateLabel>
+		L Canonical (
+			final java.lang.Class<L> cls,
+			final java.lang.String strFullyQualifiedName)
+	{
+		if (null == cls || null == strFullyQualifiedName) return null;
+
+		java.util.concurrent.ConcurrentHashMap<java.lang.String, org.drip.state.identifier.LatentStateLabel>
+			mapCanonical = s_mapCanonical.get (cls);
+
+		return null == mapCanonical ? null : (L) mapCanonical.get
+			(strFullyQualifiedName.toLowerCase());
+	}
+
+	/**
+	 * Retrieve the Number of Identities handed out so far
+	 *
+	 * @return The Number of Identities handed out so far
+	 */
+
+	public static final int Size()
+	{
+		return s_mapNameID.size();
+	}
+}
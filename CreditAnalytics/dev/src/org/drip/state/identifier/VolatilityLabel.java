@@ -36,6 +36,8 @@ package org.drip.state.identifier;
  */
 
 public class VolatilityLabel implements org.drip.state.identifier.LatentStateLabel {
+	private int _iID = -1;
+	private java.lang.String _strFullyQualifiedName = "";
 	private org.drip.state.identifier.LatentStateLabel _lslUnderlyingState = null;
 
 	/**
@@ -72,11 +74,20 @@ public class VolatilityLabel implements org.drip.state.identifier.LatentStateLab
 	{
 		if (null == (_lslUnderlyingState = lslUnderlyingState))
 			throw new java.lang.Exception ("VolatilityLabel ctr: Invalid Inputs");
+
+		_strFullyQualifiedName = _lslUnderlyingState.fullyQualifiedName() + "::VOL";
+
+		_iID = org.drip.state.identifier.LatentStateLabelRegistry.ID (fullyQualifiedName());
+	}
+
+	@Override public int id()
+	{
+		return _iID;
 	}
 
 	@Override public java.lang.String fullyQualifiedName()
 	{
-		return _lslUnderlyingState.fullyQualifiedName() + "::VOL";
+		return _strFullyQualifiedName;
 	}
 
 	@Override public boolean match (